@@ -8,6 +8,7 @@ set -e
 #   clean            - Clean build artifacts
 #   secrets          - Generate JWT keys (gen_secrets.py)
 #   build            - Build all modules (skip tests)
+#   aot-cache        - Build engine and control plane with a JDK AOT cache from a training run
 #   test             - Run unit tests
 #   frontend         - Install deps and build frontend
 #   frontend-test    - Run frontend tests with coverage
@@ -68,6 +69,7 @@ print_usage() {
     echo "  clean            - Clean build artifacts and secrets"
     echo "  secrets          - Generate JWT keys (gen_secrets.py)"
     echo "  build            - Build all modules (skip tests)"
+    echo "  aot-cache        - Build engine and control plane with a JDK AOT cache from a training run"
     echo "  test             - Run unit tests"
     echo "  frontend         - Install deps and build frontend"
     echo "  frontend-test    - Run frontend tests with coverage"
@@ -110,6 +112,15 @@ do_build() {
     mvn install -DskipTests -q
 }
 
+do_aot_cache() {
+    banner "AOT CACHE"
+    # Docker images record their own cache with the image's JVM; this one is for running
+    # target/quarkus-app directly: java -XX:AOTCache=app.aot -jar quarkus-run.jar
+    mvn package -DskipTests -q -Paot-cache -pl thunder/engine/provider,thunder/control-plane/provider
+    echo "  Engine:        thunder/engine/provider/target/quarkus-app/app.aot"
+    echo "  Control plane: thunder/control-plane/provider/target/quarkus-app/app.aot"
+}
+
 do_test() {
     banner "TEST"
     mvn test
@@ -321,6 +332,10 @@ case "${1:-}" in
         do_build
         print_duration
         ;;
+    aot-cache)
+        do_aot_cache
+        print_duration
+        ;;
     test)
         do_test
         print_duration
@@ -141,6 +141,8 @@ export interface GameError {
   source: string;
   message: string;
   details: string;
+  /** Identical errors folded into this one; absent on older engines. */
+  occurrences?: number;
 }
 
 export interface SessionData {
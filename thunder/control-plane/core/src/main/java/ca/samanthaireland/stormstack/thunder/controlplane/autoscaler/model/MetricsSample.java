@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A point-in-time sample of a node's load, taken from a heartbeat.
+ *
+ * @param timestamp       when the node reported the metrics
+ * @param saturation      container slot usage (0.0 to 1.0)
+ * @param cpuUsage        CPU usage (0.0 to 1.0)
+ * @param heapUsage       heap usage (0.0 to 1.0)
+ * @param tickOverrunRate fraction of running containers overrunning their tick budget (0.0 to 1.0)
+ */
+public record MetricsSample(
+        Instant timestamp,
+        double saturation,
+        double cpuUsage,
+        double heapUsage,
+        double tickOverrunRate
+) {
+
+    public MetricsSample {
+        Objects.requireNonNull(timestamp, "timestamp cannot be null");
+    }
+
+    /**
+     * Samples a node's last reported metrics.
+     *
+     * @param node the node
+     * @return the sample, timestamped with the node's last heartbeat
+     */
+    public static MetricsSample of(Node node) {
+        int maxContainers = node.capacity().maxContainers();
+        double saturation = maxContainers > 0
+                ? Math.min(1.0, (double) node.metrics().containerCount() / maxContainers)
+                : 1.0;
+        return new MetricsSample(
+                node.lastHeartbeat(),
+                saturation,
+                node.metrics().cpuUsage(),
+                node.metrics().heapUsage(),
+                node.metrics().tickOverrunRate()
+        );
+    }
+}
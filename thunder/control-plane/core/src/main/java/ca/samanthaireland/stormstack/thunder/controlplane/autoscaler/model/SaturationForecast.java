@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model;
+
+import java.time.Instant;
+
+/**
+ * Short-horizon forecast of cluster load, built from per-node heartbeat history.
+ *
+ * <p>Per-node values are combined weighted by each node's container capacity, so
+ * the saturation figures are comparable with the scheduler's cluster saturation.
+ *
+ * @param currentSaturation       latest reported cluster saturation (0.0 to 1.0)
+ * @param smoothedSaturation      exponentially smoothed cluster saturation (0.0 to 1.0)
+ * @param trendPerMinute          smoothed change in saturation per minute
+ * @param forecastSaturation      expected saturation at the end of the horizon (0.0 to 1.0)
+ * @param currentTickOverrunRate  latest reported tick overrun rate (0.0 to 1.0)
+ * @param forecastTickOverrunRate expected tick overrun rate at the end of the horizon (0.0 to 1.0)
+ * @param horizonSeconds          how far ahead the forecast looks
+ * @param nodesSampled            number of healthy nodes with history
+ * @param samples                 total number of samples the forecast is based on
+ * @param generatedAt             when this forecast was generated
+ */
+public record SaturationForecast(
+        double currentSaturation,
+        double smoothedSaturation,
+        double trendPerMinute,
+        double forecastSaturation,
+        double currentTickOverrunRate,
+        double forecastTickOverrunRate,
+        int horizonSeconds,
+        int nodesSampled,
+        int samples,
+        Instant generatedAt
+) {
+
+    /**
+     * Creates a forecast that simply repeats the current values, used when there is
+     * no history to extrapolate from.
+     *
+     * @param currentSaturation the current cluster saturation
+     * @param horizonSeconds    the forecast horizon
+     * @return a flat forecast
+     */
+    public static SaturationForecast flat(double currentSaturation, int horizonSeconds) {
+        return new SaturationForecast(
+                currentSaturation,
+                currentSaturation,
+                0.0,
+                currentSaturation,
+                0.0,
+                0.0,
+                horizonSeconds,
+                0,
+                0,
+                Instant.now()
+        );
+    }
+
+    /**
+     * Whether saturation is trending upwards.
+     *
+     * @return true if the smoothed trend is positive
+     */
+    public boolean isRising() {
+        return trendPerMinute > 0;
+    }
+}
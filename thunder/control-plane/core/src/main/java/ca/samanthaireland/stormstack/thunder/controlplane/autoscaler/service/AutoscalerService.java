@@ -22,6 +22,7 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.SaturationForecast;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingRecommendation;
 
 import java.util.Optional;
@@ -45,6 +46,14 @@ public interface AutoscalerService {
      */
     Optional<ScalingRecommendation> getLastRecommendation();
 
+    /**
+     * Forecasts cluster saturation and tick overrun over the configured horizon.
+     * When predictive scaling is disabled the forecast repeats the current values.
+     *
+     * @return the forecast
+     */
+    SaturationForecast getForecast();
+
     /**
      * Whether a scaling action is currently in cooldown.
      *
@@ -22,6 +22,8 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.MetricsSample;
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.SaturationForecast;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingRecommendation;
 import ca.samanthaireland.stormstack.thunder.controlplane.config.AutoscalerConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
@@ -40,6 +42,12 @@ import java.util.concurrent.atomic.AtomicReference;
  * Implementation of AutoscalerService that analyzes cluster metrics
  * and generates scaling recommendations based on saturation thresholds.
  *
+ * <p>When predictive scaling is enabled and a {@link NodeMetricsHistory} is
+ * supplied, the thresholds are also checked against a Holt forecast of
+ * saturation and tick overrun, so scale-up is recommended while load is still
+ * ramping rather than once nodes are already full. Scale-down is held back while
+ * the forecast is rising.
+ *
  * <p>This is a pure domain implementation with no framework dependencies.
  * Dependencies are provided via constructor injection.
  */
@@ -49,6 +57,7 @@ public class AutoscalerServiceImpl implements AutoscalerService {
     private final NodeRegistryService nodeRegistryService;
     private final SchedulerService schedulerService;
     private final AutoscalerConfiguration config;
+    private final NodeMetricsHistory history;
 
     private final AtomicReference<ScalingRecommendation> lastRecommendation = new AtomicReference<>();
     private final AtomicReference<Instant> lastScalingAction = new AtomicReference<>();
@@ -64,10 +73,28 @@ public class AutoscalerServiceImpl implements AutoscalerService {
             NodeRegistryService nodeRegistryService,
             SchedulerService schedulerService,
             AutoscalerConfiguration config
+    ) {
+        this(nodeRegistryService, schedulerService, config, null);
+    }
+
+    /**
+     * Creates a new AutoscalerServiceImpl that forecasts load from heartbeat history.
+     *
+     * @param nodeRegistryService the node registry service
+     * @param schedulerService    the scheduler service
+     * @param config              the autoscaler configuration
+     * @param history             per-node heartbeat history (may be null to disable forecasting)
+     */
+    public AutoscalerServiceImpl(
+            NodeRegistryService nodeRegistryService,
+            SchedulerService schedulerService,
+            AutoscalerConfiguration config,
+            NodeMetricsHistory history
     ) {
         this.nodeRegistryService = nodeRegistryService;
         this.schedulerService = schedulerService;
         this.config = config;
+        this.history = history;
     }
 
     @Override
@@ -81,6 +108,7 @@ public class AutoscalerServiceImpl implements AutoscalerService {
         }
 
         List<Node> allNodes = nodeRegistryService.findAll();
+        pruneHistory(allNodes);
         List<Node> healthyNodes = allNodes.stream()
                 .filter(n -> n.status() == NodeStatus.HEALTHY)
                 .toList();
@@ -96,11 +124,16 @@ public class AutoscalerServiceImpl implements AutoscalerService {
                 .mapToInt(n -> n.metrics().containerCount())
                 .sum();
 
+        SaturationForecast forecast = isPredictive()
+                ? forecast(healthyNodes, currentSaturation)
+                : null;
+
         ScalingRecommendation recommendation = calculateRecommendation(
                 currentNodeCount,
                 currentSaturation,
                 totalCapacity,
-                totalUsed
+                totalUsed,
+                forecast
         );
 
         lastRecommendation.set(recommendation);
@@ -110,6 +143,20 @@ public class AutoscalerServiceImpl implements AutoscalerService {
         return recommendation;
     }
 
+    @Override
+    public SaturationForecast getForecast() {
+        List<Node> allNodes = nodeRegistryService.findAll();
+        pruneHistory(allNodes);
+        List<Node> healthyNodes = allNodes.stream()
+                .filter(n -> n.status() == NodeStatus.HEALTHY)
+                .toList();
+        double currentSaturation = schedulerService.getClusterSaturation();
+        if (!isPredictive()) {
+            return SaturationForecast.flat(currentSaturation, config.forecastHorizonSeconds());
+        }
+        return forecast(healthyNodes, currentSaturation);
+    }
+
     @Override
     public Optional<ScalingRecommendation> getLastRecommendation() {
         return Optional.ofNullable(lastRecommendation.get());
@@ -136,7 +183,8 @@ public class AutoscalerServiceImpl implements AutoscalerService {
             int currentNodeCount,
             double currentSaturation,
             int totalCapacity,
-            int totalUsed
+            int totalUsed,
+            SaturationForecast forecast
     ) {
         // Check if in cooldown
         if (isInCooldown()) {
@@ -160,11 +208,44 @@ public class AutoscalerServiceImpl implements AutoscalerService {
 
         // Check scale-up threshold
         if (currentSaturation >= config.scaleUpThreshold()) {
-            return calculateScaleUp(currentNodeCount, currentSaturation, totalCapacity, totalUsed);
+            return calculateScaleUp(currentNodeCount, currentSaturation, totalCapacity, totalUsed,
+                    String.format("Saturation (%.1f%%) exceeds threshold (%.0f%%)",
+                            currentSaturation * 100,
+                            config.scaleUpThreshold() * 100));
+        }
+
+        // Scale up ahead of a forecast ramp
+        if (forecast != null && forecast.forecastSaturation() >= config.scaleUpThreshold()) {
+            int forecastUsed = (int) Math.ceil(forecast.forecastSaturation() * totalCapacity);
+            return calculateScaleUp(currentNodeCount, currentSaturation, totalCapacity,
+                    Math.max(totalUsed, forecastUsed),
+                    String.format("Forecast saturation (%.1f%% in %ds, trend %+.1f%%/min) exceeds threshold (%.0f%%)",
+                            forecast.forecastSaturation() * 100,
+                            forecast.horizonSeconds(),
+                            forecast.trendPerMinute() * 100,
+                            config.scaleUpThreshold() * 100));
+        }
+
+        if (forecast != null && forecast.forecastTickOverrunRate() >= config.maxTickOverrunRate()) {
+            return calculateScaleUp(currentNodeCount, currentSaturation, totalCapacity, totalUsed,
+                    String.format("Forecast tick overrun rate (%.1f%% in %ds) exceeds limit (%.0f%%)",
+                            forecast.forecastTickOverrunRate() * 100,
+                            forecast.horizonSeconds(),
+                            config.maxTickOverrunRate() * 100));
         }
 
         // Check scale-down threshold
         if (currentSaturation <= config.scaleDownThreshold()) {
+            if (forecast != null && forecast.forecastSaturation() > config.scaleDownThreshold()) {
+                return ScalingRecommendation.none(
+                        currentNodeCount,
+                        currentSaturation,
+                        String.format("Saturation (%.1f%%) is below threshold but forecast (%.1f%% in %ds) is not, holding",
+                                currentSaturation * 100,
+                                forecast.forecastSaturation() * 100,
+                                forecast.horizonSeconds())
+                );
+            }
             return calculateScaleDown(currentNodeCount, currentSaturation, totalCapacity, totalUsed);
         }
 
@@ -183,7 +264,8 @@ public class AutoscalerServiceImpl implements AutoscalerService {
             int currentNodeCount,
             double currentSaturation,
             int totalCapacity,
-            int totalUsed
+            int totalUsed,
+            String trigger
     ) {
         // Already at max nodes
         if (currentNodeCount >= config.maxNodes()) {
@@ -209,7 +291,7 @@ public class AutoscalerServiceImpl implements AutoscalerService {
         targetNodes = Math.max(targetNodes, currentNodeCount + 1);
 
         double estimatedSaturation = avgCapacityPerNode * targetNodes > 0
-                ? (double) totalUsed / (avgCapacityPerNode * targetNodes)
+                ? Math.min(1.0, (double) totalUsed / (avgCapacityPerNode * targetNodes))
                 : 0.0;
 
         return ScalingRecommendation.scaleUp(
@@ -217,9 +299,8 @@ public class AutoscalerServiceImpl implements AutoscalerService {
                 targetNodes,
                 currentSaturation,
                 estimatedSaturation,
-                String.format("Saturation (%.1f%%) exceeds threshold (%.0f%%), recommending %d additional node(s)",
-                        currentSaturation * 100,
-                        config.scaleUpThreshold() * 100,
+                String.format("%s, recommending %d additional node(s)",
+                        trigger,
                         targetNodes - currentNodeCount)
         );
     }
@@ -274,4 +355,75 @@ public class AutoscalerServiceImpl implements AutoscalerService {
                         currentNodeCount - targetNodes)
         );
     }
+
+    private boolean isPredictive() {
+        return history != null && config.predictiveEnabled();
+    }
+
+    /**
+     * Drops the history of nodes that left the cluster without deregistering
+     * through this instance, e.g. because their registration expired.
+     */
+    private void pruneHistory(List<Node> registeredNodes) {
+        if (history != null) {
+            history.retainOnly(registeredNodes.stream().map(Node::nodeId).toList());
+        }
+    }
+
+    /**
+     * Forecasts cluster load by smoothing each healthy node's history and
+     * combining the results weighted by node capacity. Nodes without history
+     * contribute their latest metrics with no trend.
+     */
+    private SaturationForecast forecast(List<Node> healthyNodes, double currentSaturation) {
+        int horizon = config.forecastHorizonSeconds();
+        HoltForecaster forecaster = new HoltForecaster(config.smoothingAlpha(), config.trendBeta());
+
+        double totalCapacity = 0;
+        double smoothed = 0;
+        double trendPerSecond = 0;
+        double forecastSaturation = 0;
+        double tickOverrun = 0;
+        double forecastTickOverrun = 0;
+        int nodesSampled = 0;
+        int sampleCount = 0;
+
+        for (Node node : healthyNodes) {
+            double capacity = node.capacity().maxContainers();
+            List<MetricsSample> samples = history.samples(node.nodeId());
+            if (samples.isEmpty()) {
+                samples = List.of(MetricsSample.of(node));
+            } else {
+                nodesSampled++;
+            }
+            sampleCount += samples.size();
+
+            HoltForecaster.Fit saturationFit = forecaster.fit(samples, MetricsSample::saturation);
+            HoltForecaster.Fit overrunFit = forecaster.fit(samples, MetricsSample::tickOverrunRate);
+
+            totalCapacity += capacity;
+            smoothed += Math.clamp(saturationFit.level(), 0.0, 1.0) * capacity;
+            trendPerSecond += saturationFit.trendPerSecond() * capacity;
+            forecastSaturation += saturationFit.forecast(horizon) * capacity;
+            tickOverrun += overrunFit.last() * capacity;
+            forecastTickOverrun += overrunFit.forecast(horizon) * capacity;
+        }
+
+        if (totalCapacity == 0) {
+            return SaturationForecast.flat(currentSaturation, horizon);
+        }
+
+        return new SaturationForecast(
+                currentSaturation,
+                smoothed / totalCapacity,
+                trendPerSecond * 60 / totalCapacity,
+                forecastSaturation / totalCapacity,
+                tickOverrun / totalCapacity,
+                forecastTickOverrun / totalCapacity,
+                horizon,
+                nodesSampled,
+                sampleCount,
+                Instant.now()
+        );
+    }
 }
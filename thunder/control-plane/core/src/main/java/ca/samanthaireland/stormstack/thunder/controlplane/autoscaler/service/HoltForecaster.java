@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.MetricsSample;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Holt's linear (double exponential) smoothing over irregularly spaced samples.
+ *
+ * <p>The level is an exponentially weighted moving average of the series and the
+ * trend is tracked per second, so heartbeats that arrive late or early do not
+ * distort the slope.
+ */
+public class HoltForecaster {
+
+    private final double alpha;
+    private final double beta;
+
+    /**
+     * Creates a new HoltForecaster.
+     *
+     * @param alpha level smoothing factor, in (0, 1]; higher follows recent samples more closely
+     * @param beta  trend smoothing factor, in [0, 1]; 0 disables trend tracking
+     */
+    public HoltForecaster(double alpha, double beta) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1]");
+        }
+        if (beta < 0 || beta > 1) {
+            throw new IllegalArgumentException("beta must be in [0, 1]");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Fits the smoother to one metric of a sample series.
+     *
+     * @param samples the samples, oldest first
+     * @param metric  the metric to extract from each sample
+     * @return the fitted level and trend
+     */
+    public Fit fit(List<MetricsSample> samples, ToDoubleFunction<MetricsSample> metric) {
+        if (samples.isEmpty()) {
+            return new Fit(0.0, 0.0, 0.0);
+        }
+
+        double level = metric.applyAsDouble(samples.getFirst());
+        double trend = 0.0;
+        for (int i = 1; i < samples.size(); i++) {
+            double value = metric.applyAsDouble(samples.get(i));
+            double dt = Duration.between(samples.get(i - 1).timestamp(), samples.get(i).timestamp()).toMillis() / 1000.0;
+            if (dt <= 0) {
+                level = alpha * value + (1 - alpha) * level;
+                continue;
+            }
+            double previousLevel = level;
+            level = alpha * value + (1 - alpha) * (level + trend * dt);
+            trend = beta * (level - previousLevel) / dt + (1 - beta) * trend;
+        }
+
+        return new Fit(metric.applyAsDouble(samples.getLast()), level, trend);
+    }
+
+    /**
+     * Result of fitting the smoother.
+     *
+     * @param last           the most recent raw value
+     * @param level          the smoothed value at the most recent sample
+     * @param trendPerSecond the smoothed change per second
+     */
+    public record Fit(double last, double level, double trendPerSecond) {
+
+        /**
+         * Extrapolates the fit, clamped to 0.0 - 1.0.
+         *
+         * @param horizonSeconds seconds past the most recent sample
+         * @return the forecast value
+         */
+        public double forecast(double horizonSeconds) {
+            return Math.clamp(level + trendPerSecond * horizonSeconds, 0.0, 1.0);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.MetricsSample;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryListener;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded per-node history of heartbeat metrics, used by the autoscaler to
+ * forecast load.
+ *
+ * <p>Each node keeps its most recent samples up to the configured size; the
+ * oldest sample is dropped when a new one arrives. Updates that do not carry a
+ * new heartbeat (registrations and drains) are ignored. Nodes that expire without
+ * deregistering are dropped by {@link #retainOnly} when the autoscaler evaluates.
+ */
+public class NodeMetricsHistory implements NodeRegistryListener {
+
+    private final int maxSamplesPerNode;
+    private final Map<NodeId, ArrayDeque<MetricsSample>> history = new HashMap<>();
+
+    /**
+     * Creates a new NodeMetricsHistory.
+     *
+     * @param maxSamplesPerNode the number of samples kept per node
+     */
+    public NodeMetricsHistory(int maxSamplesPerNode) {
+        if (maxSamplesPerNode < 2) {
+            throw new IllegalArgumentException("maxSamplesPerNode must be at least 2");
+        }
+        this.maxSamplesPerNode = maxSamplesPerNode;
+    }
+
+    @Override
+    public synchronized void nodeUpdated(Node node) {
+        ArrayDeque<MetricsSample> samples = history.computeIfAbsent(node.nodeId(), id -> new ArrayDeque<>());
+        MetricsSample last = samples.peekLast();
+        if (last != null && !node.lastHeartbeat().isAfter(last.timestamp())) {
+            return;
+        }
+        if (samples.size() == maxSamplesPerNode) {
+            samples.removeFirst();
+        }
+        samples.addLast(MetricsSample.of(node));
+    }
+
+    @Override
+    public synchronized void nodeRemoved(NodeId nodeId) {
+        history.remove(nodeId);
+    }
+
+    /**
+     * Drops the history of every node not in the given collection.
+     *
+     * @param registeredNodeIds the IDs of the currently registered nodes
+     */
+    public synchronized void retainOnly(Collection<NodeId> registeredNodeIds) {
+        history.keySet().retainAll(new HashSet<>(registeredNodeIds));
+    }
+
+    /**
+     * Returns a node's samples, oldest first.
+     *
+     * @param nodeId the node ID
+     * @return the samples, or an empty list if the node has no history
+     */
+    public synchronized List<MetricsSample> samples(NodeId nodeId) {
+        ArrayDeque<MetricsSample> samples = history.get(nodeId);
+        return samples != null ? List.copyOf(samples) : List.of();
+    }
+}
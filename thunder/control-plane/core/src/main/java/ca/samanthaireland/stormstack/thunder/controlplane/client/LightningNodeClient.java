@@ -88,4 +88,125 @@ public interface LightningNodeClient {
      * @param jarData  the JAR file contents
      */
     void uploadModule(Node node, String name, String version, String fileName, byte[] jarData);
+
+    /**
+     * Returns how many bytes of a chunked module transfer the node has already
+     * received.
+     *
+     * @param node     the target node
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @return the offset at which the next chunk must start, 0 for a new transfer
+     * @throws NodeRequestException if the node answers with an error status
+     */
+    long getModuleTransferOffset(Node node, String checksum);
+
+    /**
+     * Appends a chunk to a module transfer on a node.
+     *
+     * @param node     the target node
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @param offset   the offset of the chunk within the JAR
+     * @param chunk    buffer holding the chunk
+     * @param length   number of bytes of the buffer to send
+     * @return the number of bytes the node has received after this chunk
+     * @throws NodeRequestException if the node answers with an error status
+     */
+    long uploadModuleChunk(Node node, String checksum, long offset, byte[] chunk, int length);
+
+    /**
+     * Completes a module transfer. The node verifies the checksum of the
+     * received bytes and installs the JAR under the given file name.
+     *
+     * @param node     the target node
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @param fileName the JAR filename
+     * @throws NodeRequestException if the node answers with an error status
+     */
+    void completeModuleTransfer(Node node, String checksum, String fileName);
+
+    /**
+     * Aborts a module transfer, discarding the bytes the node has staged for it.
+     * Unknown transfers are ignored by the node.
+     *
+     * @param node     the target node
+     * @param checksum the SHA-256 checksum identifying the JAR
+     */
+    void abortModuleTransfer(Node node, String checksum);
+
+    /**
+     * Captures a running match and starts recording the commands it executes,
+     * the first step of a live migration.
+     *
+     * @param node        the source node
+     * @param containerId the container ID
+     * @param matchId     the match ID
+     * @return the captured match state as JSON
+     */
+    String beginMigration(Node node, long containerId, long matchId);
+
+    /**
+     * Stops ticking a migrating match and returns the commands executed since
+     * {@link #beginMigration} together with the commands still queued.
+     *
+     * @param node        the source node
+     * @param containerId the container ID
+     * @param matchId     the match ID
+     * @return the migration delta as JSON
+     */
+    String freezeMigration(Node node, long containerId, long matchId);
+
+    /**
+     * Captures a match's current state without starting a migration.
+     *
+     * @param node        the source node
+     * @param containerId the container ID
+     * @param matchId     the match ID
+     * @return the captured match state as JSON
+     */
+    String captureMatchState(Node node, long containerId, long matchId);
+
+    /**
+     * Abandons a migration and resumes the match on its source node.
+     *
+     * @param node        the source node
+     * @param containerId the container ID
+     * @param matchId     the match ID
+     */
+    void abortMigration(Node node, long containerId, long matchId);
+
+    /**
+     * Rebuilds a match from a captured state, keeping its match, entity and player IDs.
+     *
+     * @param node        the target node
+     * @param containerId the target container ID
+     * @param matchId     the match ID
+     * @param state       the captured match state as JSON
+     */
+    void restoreMatchState(Node node, long containerId, long matchId, String state);
+
+    /**
+     * Replays a migration delta on a restored match and resumes it if the
+     * result matches the source.
+     *
+     * @param node        the target node
+     * @param containerId the target container ID
+     * @param matchId     the match ID
+     * @param delta       the migration delta as JSON
+     * @return true if the replayed match matches the source's checksum
+     */
+    boolean catchUpMigration(Node node, long containerId, long matchId, String delta);
+
+    /**
+     * Tells a match's websocket clients, including the command connections of its
+     * container, to reconnect to another node and container and closes their connections.
+     * Clients keep their endpoint and match ID.
+     *
+     * @param node              the node the clients are connected to
+     * @param containerId       the container ID
+     * @param matchId           the match ID
+     * @param target            the node to reconnect to
+     * @param targetContainerId the container hosting the match on the target node
+     * @return the number of clients redirected
+     */
+    int redirectClients(Node node, long containerId, long matchId, Node target, long targetContainerId);
 }
@@ -83,4 +83,51 @@ public interface AutoscalerConfiguration {
      * @return target saturation as decimal (e.g., 0.6 = 60%)
      */
     double targetSaturation();
+
+    /**
+     * Whether recommendations also consider the forecast load, not just the
+     * current load. When disabled the autoscaler is purely reactive.
+     *
+     * @return true if predictive scaling is enabled
+     */
+    boolean predictiveEnabled();
+
+    /**
+     * How far ahead to forecast load. This should roughly match the time it
+     * takes to bring a new node online.
+     *
+     * @return forecast horizon in seconds
+     */
+    int forecastHorizonSeconds();
+
+    /**
+     * Number of heartbeat samples kept per node for forecasting.
+     *
+     * @return samples per node
+     */
+    int historySize();
+
+    /**
+     * Level smoothing factor for the forecast, in (0, 1].
+     * Higher values follow recent heartbeats more closely.
+     *
+     * @return the smoothing factor
+     */
+    double smoothingAlpha();
+
+    /**
+     * Trend smoothing factor for the forecast, in [0, 1].
+     * Higher values react faster to changes in direction.
+     *
+     * @return the trend smoothing factor
+     */
+    double trendBeta();
+
+    /**
+     * Forecast tick overrun rate at which scale-up is recommended, regardless
+     * of container saturation.
+     *
+     * @return threshold as decimal (e.g., 0.1 = 10% of containers overrunning)
+     */
+    double maxTickOverrunRate();
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.config;
+
+/**
+ * Configuration for pushing module JARs to engine nodes.
+ *
+ * <p>JARs are streamed in fixed-size chunks addressed by their SHA-256
+ * checksum, so an interrupted transfer resumes from the last byte the node
+ * acknowledged instead of starting over.
+ *
+ * <p>This is a pure domain abstraction with no framework dependencies.
+ * Framework-specific implementations should adapt their configuration
+ * systems to this interface.
+ */
+public interface ModuleDistributionConfiguration {
+
+    /**
+     * Size of each chunk sent to a node.
+     *
+     * @return chunk size in bytes
+     */
+    int chunkSizeBytes();
+
+    /**
+     * Maximum number of nodes receiving a module at the same time.
+     *
+     * @return the fan-out concurrency
+     */
+    int concurrency();
+
+    /**
+     * Number of times a failed transfer is resumed before the node is
+     * reported as failed.
+     *
+     * @return the retry count
+     */
+    int maxRetries();
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.config;
+
+/**
+ * Configuration for match placement.
+ *
+ * <p>Nodes are scored on a weighted sum of load dimensions, each normalized to
+ * 0.0 - 1.0; the node with the lowest score wins. Weights are relative and do
+ * not need to sum to one.
+ *
+ * <p>This is a pure domain abstraction with no framework dependencies.
+ * Framework-specific implementations should adapt their configuration
+ * systems to this interface.
+ */
+public interface SchedulerConfiguration {
+
+    /**
+     * Weight of container slot usage (containerCount / maxContainers).
+     *
+     * @return the weight
+     */
+    double containerWeight();
+
+    /**
+     * Weight of CPU usage.
+     *
+     * @return the weight
+     */
+    double cpuWeight();
+
+    /**
+     * Weight of heap usage (memoryUsedMb / memoryMaxMb).
+     *
+     * @return the weight
+     */
+    double heapWeight();
+
+    /**
+     * Weight of the tick overrun rate.
+     *
+     * @return the weight
+     */
+    double tickOverrunWeight();
+
+    /**
+     * Weight of the entity count, relative to the busiest candidate node.
+     *
+     * @return the weight
+     */
+    double entityWeight();
+
+    /**
+     * Weight of the fraction of required modules the node does not have yet.
+     *
+     * @return the weight
+     */
+    double moduleWeight();
+
+    /**
+     * Weight of the node having no warm container ready for the match's modules.
+     *
+     * @return the weight
+     */
+    double warmPoolWeight();
+
+    /**
+     * Heap usage above which a node receives no new matches.
+     *
+     * @return threshold as decimal (e.g., 0.9 = 90%)
+     */
+    double maxHeapUsage();
+
+    /**
+     * Maximum age in seconds of the cached node view before it is reloaded
+     * from the node registry. Heartbeats handled by this instance update the
+     * view immediately.
+     *
+     * @return refresh interval in seconds
+     */
+    int nodeViewRefreshSeconds();
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.match.exception;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.exception.ControlPlaneException;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+
+/**
+ * Exception thrown when a match cannot be migrated to another node.
+ *
+ * <p>A failed migration leaves the match running on its original node.
+ */
+public class MatchMigrationException extends ControlPlaneException {
+
+    private final ClusterMatchId matchId;
+
+    public MatchMigrationException(ClusterMatchId matchId, String message) {
+        super("MATCH_MIGRATION_FAILED", "Failed to migrate match " + matchId + ": " + message);
+        this.matchId = matchId;
+    }
+
+    public MatchMigrationException(ClusterMatchId matchId, Throwable cause) {
+        super("MATCH_MIGRATION_FAILED", "Failed to migrate match " + matchId + ": " + cause.getMessage(), cause);
+        this.matchId = matchId;
+    }
+
+    public ClusterMatchId getMatchId() {
+        return matchId;
+    }
+}
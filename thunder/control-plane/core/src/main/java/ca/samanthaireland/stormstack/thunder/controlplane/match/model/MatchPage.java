@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.match.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A cursor-addressed page of match registry entries.
+ *
+ * <p>Entries are ordered by match ID. The {@code nextCursor} is the match ID of
+ * the last entry in the page and is passed back to fetch the following page.
+ * It is null when there are no further entries.
+ *
+ * @param entries    the entries in this page
+ * @param nextCursor cursor for the next page, or null if this is the last page
+ */
+public record MatchPage(
+        List<MatchRegistryEntry> entries,
+        String nextCursor
+) {
+
+    public MatchPage {
+        Objects.requireNonNull(entries, "entries cannot be null");
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * Creates an empty final page.
+     *
+     * @return an empty page with no next cursor
+     */
+    public static MatchPage empty() {
+        return new MatchPage(List.of(), null);
+    }
+
+    /**
+     * Checks if another page follows this one.
+     *
+     * @return true if a next cursor is present
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -217,6 +217,32 @@ public record MatchRegistryEntry(
         );
     }
 
+    /**
+     * Creates a copy hosted by another node after a live migration.
+     *
+     * <p>The cluster match ID is kept, so clients and callers holding it keep
+     * working; only the hosting node, container and connection addresses change.
+     *
+     * @param newNodeId           the node now hosting the match
+     * @param newContainerId      the container on that node
+     * @param newAdvertiseAddress the node's advertise address
+     * @return a new entry pointing at the new host
+     */
+    public MatchRegistryEntry migratedTo(NodeId newNodeId, long newContainerId, String newAdvertiseAddress) {
+        return new MatchRegistryEntry(
+                matchId,
+                newNodeId,
+                newContainerId,
+                status,
+                createdAt,
+                moduleNames,
+                newAdvertiseAddress,
+                buildWebsocketUrl(newAdvertiseAddress, newContainerId, matchId),
+                playerCount,
+                playerLimit
+        );
+    }
+
     private static String buildWebsocketUrl(String advertiseAddress, long containerId, ClusterMatchId matchId) {
         // Convert http:// to ws:// or https:// to wss://
         String wsAddress = advertiseAddress
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.match.model;
+
+/**
+ * Aggregate counters over the match registry.
+ *
+ * <p>Registries that maintain indexes can produce these without loading
+ * every entry, which keeps dashboard refreshes cheap on large clusters.
+ *
+ * @param totalMatches    total number of matches in the registry
+ * @param creatingMatches number of matches in CREATING status
+ * @param runningMatches  number of matches in RUNNING status
+ * @param finishedMatches number of matches in FINISHED status
+ * @param errorMatches    number of matches in ERROR status
+ * @param totalPlayers    sum of player counts across all matches
+ */
+public record MatchRegistryStats(
+        long totalMatches,
+        long creatingMatches,
+        long runningMatches,
+        long finishedMatches,
+        long errorMatches,
+        long totalPlayers
+) {
+
+    /**
+     * Returns the number of active matches (CREATING or RUNNING).
+     *
+     * @return count of active matches
+     */
+    public long activeMatches() {
+        return creatingMatches + runningMatches;
+    }
+
+    /**
+     * Returns the count for a given status.
+     *
+     * @param status the match status
+     * @return count of matches in that status
+     */
+    public long countByStatus(MatchStatus status) {
+        return switch (status) {
+            case CREATING -> creatingMatches;
+            case RUNNING -> runningMatches;
+            case FINISHED -> finishedMatches;
+            case ERROR -> errorMatches;
+        };
+    }
+}
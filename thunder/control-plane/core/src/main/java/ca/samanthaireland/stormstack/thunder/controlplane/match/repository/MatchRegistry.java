@@ -23,7 +23,9 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.match.repository;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 
@@ -74,6 +76,24 @@ public interface MatchRegistry {
      */
     List<MatchRegistryEntry> findByStatus(MatchStatus status);
 
+    /**
+     * Returns a page of matches ordered by match ID, starting after the cursor.
+     *
+     * @param status optional status filter (null for all statuses)
+     * @param nodeId optional node filter (null for all nodes)
+     * @param cursor the match ID to continue after, or null for the first page
+     * @param limit  maximum number of entries in the page
+     * @return the page of matches and the cursor for the next page
+     */
+    MatchPage findPage(MatchStatus status, NodeId nodeId, String cursor, int limit);
+
+    /**
+     * Returns aggregate counts over all matches in the registry.
+     *
+     * @return the registry statistics
+     */
+    MatchRegistryStats stats();
+
     /**
      * Deletes a match by its ID.
      *
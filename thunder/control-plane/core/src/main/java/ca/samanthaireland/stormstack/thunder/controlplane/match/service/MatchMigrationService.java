@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.match.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.EvacuationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MigrationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+
+/**
+ * Service for moving running matches between nodes without ending them.
+ *
+ * <p>A migration copies the match to a new container while it keeps ticking,
+ * then freezes it only long enough to replay the commands it executed during the
+ * copy. If the replay does not reproduce the source's state, the frozen match is
+ * copied again instead. Once the target runs the match, the registry points at it,
+ * connected clients are told to reconnect there and the source container is deleted.
+ */
+public interface MatchMigrationService {
+
+    /**
+     * Migrates a running match to another node.
+     *
+     * @param matchId      the match to migrate
+     * @param targetNodeId the node to move to, or null to let the scheduler choose
+     * @return the outcome of the migration
+     * @throws ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchNotFoundException if the match does not exist
+     * @throws ca.samanthaireland.stormstack.thunder.controlplane.node.exception.NodeNotFoundException if the target node does not exist
+     * @throws ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchMigrationException if the match
+     *         cannot be migrated; it keeps running on its current node
+     */
+    MigrationResult migrate(ClusterMatchId matchId, NodeId targetNodeId);
+
+    /**
+     * Drains a node and migrates every running match off it.
+     *
+     * <p>Matches that fail to migrate keep running on the node and are reported
+     * rather than aborting the evacuation.
+     *
+     * @param nodeId the node to evacuate
+     * @return the migrated and failed matches
+     * @throws ca.samanthaireland.stormstack.thunder.controlplane.node.exception.NodeNotFoundException if the node does not exist
+     */
+    EvacuationResult evacuate(NodeId nodeId);
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.match.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchMigrationException;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchNotFoundException;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.EvacuationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MigrationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.repository.MatchRegistry;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.exception.NodeNotFoundException;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service.SchedulerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of MatchMigrationService that drives the migration steps on the
+ * source and target nodes and relays the captured state between them.
+ *
+ * <p>From the freeze until clients are redirected, the source node rejects
+ * commands with a retryable error (HTTP 503 with Retry-After, or a RETRY status
+ * on the command WebSocket) instead of queueing them where they would be lost.
+ * The redirect reaches the container's command connections as well as the
+ * match's streams, so clients resend those commands to the target. The window lasts for the
+ * replay, the registry update and the redirect; a rolled-back migration reopens
+ * the source.
+ *
+ * <p>This is a pure domain implementation with no framework dependencies.
+ * Dependencies are provided via constructor injection.
+ */
+public class MatchMigrationServiceImpl implements MatchMigrationService {
+    private static final Logger log = LoggerFactory.getLogger(MatchMigrationServiceImpl.class);
+    private static final int EVACUATION_PAGE_SIZE = 100;
+
+    private final SchedulerService schedulerService;
+    private final NodeRegistryService nodeRegistryService;
+    private final LightningNodeClient nodeClient;
+    private final MatchRegistry matchRegistry;
+
+    /**
+     * Creates a new MatchMigrationServiceImpl.
+     *
+     * @param schedulerService    the scheduler service for target selection
+     * @param nodeRegistryService the node registry
+     * @param nodeClient          the client for communicating with nodes
+     * @param matchRegistry       the match registry
+     */
+    public MatchMigrationServiceImpl(
+            SchedulerService schedulerService,
+            NodeRegistryService nodeRegistryService,
+            LightningNodeClient nodeClient,
+            MatchRegistry matchRegistry
+    ) {
+        this.schedulerService = schedulerService;
+        this.nodeRegistryService = nodeRegistryService;
+        this.nodeClient = nodeClient;
+        this.matchRegistry = matchRegistry;
+    }
+
+    @Override
+    public MigrationResult migrate(ClusterMatchId matchId, NodeId targetNodeId) {
+        MatchRegistryEntry entry = matchRegistry.findById(matchId)
+                .orElseThrow(() -> new MatchNotFoundException(matchId));
+        if (entry.status() != MatchStatus.RUNNING) {
+            throw new MatchMigrationException(matchId, "only running matches can be migrated, match is " + entry.status());
+        }
+
+        Node source = createNodeForClient(entry);
+        Node target = selectTarget(entry, targetNodeId);
+        long sourceContainerId = entry.containerId();
+        // Restores keep the node-local match ID, so it is the same on both nodes
+        long nodeMatchId = matchId.localMatchId();
+        long startedAt = System.nanoTime();
+
+        long targetContainerId;
+        try {
+            targetContainerId = nodeClient.createContainer(target, entry.moduleNames());
+        } catch (RuntimeException e) {
+            throw new MatchMigrationException(matchId, e);
+        }
+
+        boolean begun = false;
+        boolean verified;
+        long frozenAt;
+        try {
+            // 1. Copy the match while it keeps ticking on the source
+            String state = nodeClient.beginMigration(source, sourceContainerId, nodeMatchId);
+            begun = true;
+            nodeClient.restoreMatchState(target, targetContainerId, nodeMatchId, state);
+
+            // 2. Freeze the source and replay what it executed during the copy
+            frozenAt = System.nanoTime();
+            String delta = nodeClient.freezeMigration(source, sourceContainerId, nodeMatchId);
+            verified = nodeClient.catchUpMigration(target, targetContainerId, nodeMatchId, delta);
+
+            // 3. Replay diverged: copy the frozen match instead
+            if (!verified) {
+                log.warn("Replay of match {} on node {} diverged, copying the frozen match", matchId, target.nodeId());
+                String frozenState = nodeClient.captureMatchState(source, sourceContainerId, nodeMatchId);
+                nodeClient.restoreMatchState(target, targetContainerId, nodeMatchId, frozenState);
+                if (!nodeClient.catchUpMigration(target, targetContainerId, nodeMatchId, delta)) {
+                    throw new MatchMigrationException(matchId, "node " + target.nodeId() + " did not reproduce the frozen match");
+                }
+            }
+        } catch (RuntimeException e) {
+            rollBack(entry, source, target, targetContainerId, begun);
+            throw e instanceof MatchMigrationException migrationException
+                    ? migrationException
+                    : new MatchMigrationException(matchId, e);
+        }
+        long resumedAt = System.nanoTime();
+
+        // 4. Point the registry at the target, keeping updates made during the migration
+        MatchRegistryEntry migrated = matchRegistry.findById(matchId).orElse(entry)
+                .migratedTo(target.nodeId(), targetContainerId, target.advertiseAddress());
+        matchRegistry.save(migrated);
+
+        // 5. Move connected clients, who resend commands the frozen source rejected, and release the source container
+        int redirected = 0;
+        try {
+            redirected = nodeClient.redirectClients(source, sourceContainerId, nodeMatchId, target, targetContainerId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to redirect clients of match {} from node {}: {}", matchId, source.nodeId(), e.getMessage());
+        }
+        try {
+            nodeClient.deleteContainer(source, sourceContainerId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete container {} of migrated match {} from node {}: {}",
+                    sourceContainerId, matchId, source.nodeId(), e.getMessage());
+        }
+
+        MigrationResult result = new MigrationResult(
+                matchId,
+                source.nodeId(),
+                target.nodeId(),
+                targetContainerId,
+                (resumedAt - frozenAt) / 1_000_000,
+                (System.nanoTime() - startedAt) / 1_000_000,
+                verified,
+                redirected
+        );
+        log.info("Migrated match {} from node {} to node {} (container {}): paused {} ms, replay verified: {}",
+                matchId, source.nodeId(), target.nodeId(), targetContainerId, result.pauseMillis(), verified);
+        return result;
+    }
+
+    @Override
+    public EvacuationResult evacuate(NodeId nodeId) {
+        nodeRegistryService.drain(nodeId);
+
+        // Collect first: every migration moves an entry out of this node's index
+        List<MatchRegistryEntry> running = new ArrayList<>();
+        String cursor = null;
+        do {
+            MatchPage page = matchRegistry.findPage(MatchStatus.RUNNING, nodeId, cursor, EVACUATION_PAGE_SIZE);
+            running.addAll(page.entries());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<MigrationResult> migrated = new ArrayList<>();
+        List<ClusterMatchId> failed = new ArrayList<>();
+        for (MatchRegistryEntry entry : running) {
+            try {
+                migrated.add(migrate(entry.matchId(), null));
+            } catch (RuntimeException e) {
+                log.warn("Failed to migrate match {} off node {}: {}", entry.matchId(), nodeId, e.getMessage());
+                failed.add(entry.matchId());
+            }
+        }
+
+        log.info("Evacuated node {}: {} matches migrated, {} failed", nodeId, migrated.size(), failed.size());
+        return new EvacuationResult(nodeId, migrated, failed);
+    }
+
+    private Node selectTarget(MatchRegistryEntry entry, NodeId targetNodeId) {
+        if (targetNodeId != null) {
+            if (targetNodeId.equals(entry.nodeId())) {
+                throw new MatchMigrationException(entry.matchId(), "match already runs on node " + targetNodeId);
+            }
+            return nodeRegistryService.findById(targetNodeId)
+                    .orElseThrow(() -> new NodeNotFoundException(targetNodeId));
+        }
+        return schedulerService.rankNodes(entry.moduleNames()).stream()
+                .map(NodeScore::node)
+                .filter(node -> !node.nodeId().equals(entry.nodeId()))
+                .findFirst()
+                .orElseThrow(() -> new MatchMigrationException(entry.matchId(), "no other node can host it"));
+    }
+
+    /**
+     * Resumes the match on the source and discards the target container.
+     * Failures are logged: the match keeps running on the source either way.
+     */
+    private void rollBack(MatchRegistryEntry entry, Node source, Node target, long targetContainerId, boolean begun) {
+        if (begun) {
+            try {
+                nodeClient.abortMigration(source, entry.containerId(), entry.matchId().localMatchId());
+            } catch (RuntimeException e) {
+                log.error("Failed to resume match {} on node {} after a failed migration: {}",
+                        entry.matchId(), source.nodeId(), e.getMessage());
+            }
+        }
+        try {
+            nodeClient.deleteContainer(target, targetContainerId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete container {} from node {} after a failed migration: {}",
+                    targetContainerId, target.nodeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a minimal Node object for client calls using registry entry data.
+     */
+    private Node createNodeForClient(MatchRegistryEntry entry) {
+        return Node.register(
+                entry.nodeId(),
+                entry.advertiseAddress(),
+                NodeCapacity.defaultCapacity()
+        );
+    }
+}
@@ -23,7 +23,9 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.match.service;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 
@@ -70,6 +72,20 @@ public interface MatchRoutingService {
      */
     MatchRegistryEntry createMatch(List<String> moduleNames, NodeId preferredNodeId, int playerLimit);
 
+    /**
+     * Creates a burst of matches with the same modules, placing them together so
+     * they spread across the cluster rather than all landing on one node.
+     *
+     * <p>Placement is all-or-nothing: if the cluster cannot fit every match, nothing
+     * is created. Node failures while creating individual matches are not rolled back.
+     *
+     * @param moduleNames modules required for the matches
+     * @param count       the number of matches to create
+     * @param playerLimit maximum number of players per match (0 means unlimited)
+     * @return the created match entries, in creation order
+     */
+    List<MatchRegistryEntry> createMatches(List<String> moduleNames, int count, int playerLimit);
+
     /**
      * Finds a match by its ID.
      *
@@ -93,6 +109,24 @@ public interface MatchRoutingService {
      */
     List<MatchRegistryEntry> findByStatus(MatchStatus status);
 
+    /**
+     * Returns a cursor-addressed page of matches ordered by match ID.
+     *
+     * @param status optional status filter (null for all statuses)
+     * @param nodeId optional node filter (null for all nodes)
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  maximum number of matches to return
+     * @return the page of matches
+     */
+    MatchPage findPage(MatchStatus status, NodeId nodeId, String cursor, int limit);
+
+    /**
+     * Returns aggregate match counts for the cluster.
+     *
+     * @return the match registry statistics
+     */
+    MatchRegistryStats getStats();
+
     /**
      * Deletes a match.
      *
@@ -25,7 +25,9 @@ package ca.samanthaireland.stormstack.thunder.controlplane.match.service;
 import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchNotFoundException;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.repository.MatchRegistry;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
@@ -76,6 +78,20 @@ public class MatchRoutingServiceImpl implements MatchRoutingService {
         log.info("Scheduler selected node {} for new match with modules {}",
                 selectedNode.nodeId(), moduleNames);
 
+        return createOnNode(selectedNode, moduleNames, playerLimit);
+    }
+
+    @Override
+    public List<MatchRegistryEntry> createMatches(List<String> moduleNames, int count, int playerLimit) {
+        List<Node> placements = schedulerService.selectNodesForMatches(count, moduleNames);
+        log.info("Scheduler placed {} matches with modules {}", placements.size(), moduleNames);
+
+        return placements.stream()
+                .map(node -> createOnNode(node, moduleNames, playerLimit))
+                .toList();
+    }
+
+    private MatchRegistryEntry createOnNode(Node selectedNode, List<String> moduleNames, int playerLimit) {
         // 2. Create container on the node
         long containerId = nodeClient.createContainer(selectedNode, moduleNames);
 
@@ -118,6 +134,16 @@ public class MatchRoutingServiceImpl implements MatchRoutingService {
         return matchRegistry.findByStatus(status);
     }
 
+    @Override
+    public MatchPage findPage(MatchStatus status, NodeId nodeId, String cursor, int limit) {
+        return matchRegistry.findPage(status, nodeId, cursor, limit);
+    }
+
+    @Override
+    public MatchRegistryStats getStats() {
+        return matchRegistry.stats();
+    }
+
     @Override
     public void deleteMatch(ClusterMatchId matchId) {
         MatchRegistryEntry entry = matchRegistry.findById(matchId)
@@ -23,6 +23,8 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.module.service;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.client.NodeRequestException;
+import ca.samanthaireland.stormstack.thunder.controlplane.config.ModuleDistributionConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.exception.ModuleDistributionException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.exception.ModuleNotFoundException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.model.ModuleMetadata;
@@ -37,93 +39,220 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementation of ModuleDistributionService.
  *
- * <p>Handles distributing modules to engine nodes.
+ * <p>Handles distributing modules to engine nodes. Transfers are addressed by
+ * the SHA-256 checksum of the JAR: nodes that already report the checksum in
+ * their heartbeat are skipped, and the JAR is streamed from the repository in
+ * chunks so an interrupted transfer resumes from the offset the node last
+ * acknowledged. Fan-out to multiple nodes runs in parallel with bounded
+ * concurrency. Transfers the node rejects with a 4xx status other than 404 or
+ * 409 are not retried, and a transfer that is given up on is aborted so the
+ * node discards its staged bytes.
  */
 public class ModuleDistributionServiceImpl implements ModuleDistributionService {
 
     private static final Logger log = LoggerFactory.getLogger(ModuleDistributionServiceImpl.class);
 
+    private static final int DEFAULT_CHUNK_SIZE_BYTES = 1024 * 1024;
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+
     private final ModuleRepository moduleRepository;
     private final NodeRegistryService nodeRegistryService;
     private final LightningNodeClient nodeClient;
+    private final int chunkSizeBytes;
+    private final int concurrency;
+    private final int maxRetries;
 
     public ModuleDistributionServiceImpl(
             ModuleRepository moduleRepository,
             NodeRegistryService nodeRegistryService,
             LightningNodeClient nodeClient
     ) {
+        this(moduleRepository, nodeRegistryService, nodeClient,
+                DEFAULT_CHUNK_SIZE_BYTES, DEFAULT_CONCURRENCY, DEFAULT_MAX_RETRIES);
+    }
+
+    public ModuleDistributionServiceImpl(
+            ModuleRepository moduleRepository,
+            NodeRegistryService nodeRegistryService,
+            LightningNodeClient nodeClient,
+            ModuleDistributionConfiguration config
+    ) {
+        this(moduleRepository, nodeRegistryService, nodeClient,
+                config.chunkSizeBytes(), config.concurrency(), config.maxRetries());
+    }
+
+    public ModuleDistributionServiceImpl(
+            ModuleRepository moduleRepository,
+            NodeRegistryService nodeRegistryService,
+            LightningNodeClient nodeClient,
+            int chunkSizeBytes,
+            int concurrency,
+            int maxRetries
+    ) {
+        if (chunkSizeBytes <= 0) {
+            throw new IllegalArgumentException("chunkSizeBytes must be positive");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries cannot be negative");
+        }
         this.moduleRepository = moduleRepository;
         this.nodeRegistryService = nodeRegistryService;
         this.nodeClient = nodeClient;
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
     }
 
     @Override
     public void distributeToNode(String name, String version, NodeId nodeId) {
-        // Get module metadata and JAR
         ModuleMetadata metadata = moduleRepository.findByNameAndVersion(name, version)
                 .orElseThrow(() -> new ModuleNotFoundException(name, version));
 
-        byte[] jarData;
-        try (InputStream is = moduleRepository.getJarFile(name, version)
-                .orElseThrow(() -> new ModuleNotFoundException(name, version))) {
-            jarData = is.readAllBytes();
-        } catch (IOException e) {
-            throw new ModuleDistributionException(name, nodeId, e);
-        }
-
-        // Get node
         Node node = nodeRegistryService.findById(nodeId)
                 .orElseThrow(() -> new NodeNotFoundException(nodeId));
 
-        // Send to node
-        sendModuleToNode(node, metadata, jarData);
+        if (node.metrics().hasModuleHash(metadata.checksum())) {
+            log.debug("Node {} already has {}:{}, skipping transfer", nodeId, name, version);
+            return;
+        }
+
+        sendModuleToNode(node, metadata);
     }
 
     @Override
     public int distributeToAllNodes(String name, String version) {
-        // Get module metadata and JAR
         ModuleMetadata metadata = moduleRepository.findByNameAndVersion(name, version)
                 .orElseThrow(() -> new ModuleNotFoundException(name, version));
 
-        byte[] jarData;
-        try (InputStream is = moduleRepository.getJarFile(name, version)
-                .orElseThrow(() -> new ModuleNotFoundException(name, version))) {
-            jarData = is.readAllBytes();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read module JAR", e);
-        }
-
         // Get all healthy nodes
         List<Node> healthyNodes = nodeRegistryService.findAll().stream()
                 .filter(n -> n.status() == NodeStatus.HEALTHY)
                 .toList();
 
-        int successCount = 0;
-        for (Node node : healthyNodes) {
+        // Nodes that already hold the same bytes count as distributed
+        List<Node> targets = healthyNodes.stream()
+                .filter(n -> !n.metrics().hasModuleHash(metadata.checksum()))
+                .toList();
+        int upToDate = healthyNodes.size() - targets.size();
+
+        int successCount = upToDate + sendModuleToNodes(targets, metadata);
+
+        log.info("Distributed {}:{} to {}/{} nodes ({} already up to date)",
+                name, version, successCount, healthyNodes.size(), upToDate);
+        return successCount;
+    }
+
+    private int sendModuleToNodes(List<Node> nodes, ModuleMetadata metadata) {
+        if (nodes.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, nodes.size()), r -> {
+            Thread thread = new Thread(r, "module-distribution-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(nodes.size());
+            for (Node node : nodes) {
+                futures.add(executor.submit(() -> sendModuleToNode(node, metadata)));
+            }
+
+            int successCount = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                try {
+                    futures.get(i).get();
+                    successCount++;
+                } catch (ExecutionException e) {
+                    log.warn("Failed to distribute {}:{} to node {}: {}",
+                            metadata.name(), metadata.version(), nodes.get(i).nodeId(), e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while distributing {}:{}", metadata.name(), metadata.version());
+                    break;
+                }
+            }
+            return successCount;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void sendModuleToNode(Node node, ModuleMetadata metadata) {
+        int attempt = 0;
+        while (true) {
             try {
-                sendModuleToNode(node, metadata, jarData);
-                successCount++;
+                long offset = nodeClient.getModuleTransferOffset(node, metadata.checksum());
+                sendChunks(node, metadata, offset);
+                nodeClient.completeModuleTransfer(node, metadata.checksum(), metadata.fileName());
+                log.debug("Distributed {}:{} to node {}", metadata.name(), metadata.version(), node.nodeId());
+                return;
+            } catch (ModuleNotFoundException e) {
+                throw e;
             } catch (Exception e) {
-                log.warn("Failed to distribute {}:{} to node {}: {}",
-                        name, version, node.nodeId(), e.getMessage());
+                if (isRejected(e) || attempt++ >= maxRetries) {
+                    abortTransfer(node, metadata);
+                    throw new ModuleDistributionException(metadata.name(), node.nodeId(), e);
+                }
+                log.debug("Transfer of {}:{} to node {} failed, resuming (attempt {}/{}): {}",
+                        metadata.name(), metadata.version(), node.nodeId(), attempt, maxRetries, e.getMessage());
             }
         }
+    }
 
-        log.info("Distributed {}:{} to {}/{} nodes", name, version, successCount, healthyNodes.size());
-        return successCount;
+    /**
+     * Whether the node rejected the transfer in a way a retry cannot fix, such as a
+     * transfer over its size limit or a checksum mismatch. 404 and 409 (offset
+     * mismatch) are retried.
+     */
+    private static boolean isRejected(Exception e) {
+        if (e instanceof NodeRequestException rejected) {
+            int status = rejected.getStatusCode();
+            return status >= 400 && status < 500 && status != 404 && status != 409;
+        }
+        return false;
     }
 
-    private void sendModuleToNode(Node node, ModuleMetadata metadata, byte[] jarData) {
+    /**
+     * Discards the bytes the node staged for a transfer that is given up on.
+     */
+    private void abortTransfer(Node node, ModuleMetadata metadata) {
         try {
-            nodeClient.uploadModule(node, metadata.name(), metadata.version(), metadata.fileName(), jarData);
-            log.debug("Distributed {}:{} to node {}", metadata.name(), metadata.version(), node.nodeId());
-        } catch (Exception e) {
-            throw new ModuleDistributionException(metadata.name(), node.nodeId(), e);
+            nodeClient.abortModuleTransfer(node, metadata.checksum());
+        } catch (RuntimeException e) {
+            log.debug("Failed to abort transfer of {}:{} on node {}: {}",
+                    metadata.name(), metadata.version(), node.nodeId(), e.getMessage());
+        }
+    }
+
+    private void sendChunks(Node node, ModuleMetadata metadata, long offset) throws IOException {
+        try (InputStream is = moduleRepository.getJarFile(metadata.name(), metadata.version())
+                .orElseThrow(() -> new ModuleNotFoundException(metadata.name(), metadata.version()))) {
+            is.skipNBytes(offset);
+
+            byte[] buffer = new byte[chunkSizeBytes];
+            long position = offset;
+            int read;
+            while ((read = is.readNBytes(buffer, 0, buffer.length)) > 0) {
+                position = nodeClient.uploadModuleChunk(node, metadata.checksum(), position, buffer, read);
+            }
         }
     }
 }
@@ -111,6 +111,25 @@ public record Node(
         );
     }
 
+    /**
+     * Creates a copy with extra containers counted against the node's capacity,
+     * keeping the last heartbeat time.
+     *
+     * @param reserved the number of containers placed but not yet reported
+     * @return a new Node with the container count increased
+     */
+    public Node withReservedContainers(int reserved) {
+        return new Node(
+                nodeId,
+                advertiseAddress,
+                status,
+                capacity,
+                metrics.withReservedContainers(reserved),
+                registeredAt,
+                lastHeartbeat
+        );
+    }
+
     /**
      * Creates a new node with DRAINING status.
      *
@@ -22,21 +22,35 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.node.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Current metrics from a Lightning Engine node.
  *
- * @param containerCount current number of containers
- * @param matchCount     current number of active matches
- * @param cpuUsage       CPU usage percentage (0.0 - 1.0)
- * @param memoryUsedMb   memory usage in megabytes
- * @param memoryMaxMb    maximum memory in megabytes
+ * @param containerCount  current number of containers
+ * @param matchCount      current number of active matches
+ * @param cpuUsage        CPU usage percentage (0.0 - 1.0)
+ * @param memoryUsedMb    memory usage in megabytes
+ * @param memoryMaxMb     maximum memory in megabytes
+ * @param entityCount     total entities across all containers on the node
+ * @param tickOverrunRate fraction of auto-advanced ticks since the previous heartbeat that overran their interval (0.0 - 1.0)
+ * @param modules         names of the modules installed on the node
+ * @param moduleHashes    SHA-256 checksums of the module JARs present on the node
+ * @param warmContainers  pre-started containers ready to claim, keyed by sorted comma-separated module set
  */
 public record NodeMetrics(
         int containerCount,
         int matchCount,
         double cpuUsage,
         long memoryUsedMb,
-        long memoryMaxMb
+        long memoryMaxMb,
+        long entityCount,
+        double tickOverrunRate,
+        List<String> modules,
+        List<String> moduleHashes,
+        Map<String, Integer> warmContainers
 ) {
 
     public NodeMetrics {
@@ -55,6 +69,65 @@ public record NodeMetrics(
         if (memoryMaxMb < 0) {
             throw new IllegalArgumentException("memoryMaxMb cannot be negative");
         }
+        if (entityCount < 0) {
+            throw new IllegalArgumentException("entityCount cannot be negative");
+        }
+        if (tickOverrunRate < 0.0 || tickOverrunRate > 1.0) {
+            throw new IllegalArgumentException("tickOverrunRate must be between 0.0 and 1.0");
+        }
+        modules = modules != null ? List.copyOf(modules) : List.of();
+        moduleHashes = moduleHashes != null ? List.copyOf(moduleHashes) : List.of();
+        warmContainers = warmContainers != null ? Map.copyOf(warmContainers) : Map.of();
+    }
+
+    /**
+     * Creates metrics from a node that does not run a warm container pool.
+     *
+     * @param containerCount  current number of containers
+     * @param matchCount      current number of active matches
+     * @param cpuUsage        CPU usage percentage (0.0 - 1.0)
+     * @param memoryUsedMb    memory usage in megabytes
+     * @param memoryMaxMb     maximum memory in megabytes
+     * @param entityCount     total entities across all containers on the node
+     * @param tickOverrunRate fraction of auto-advanced ticks that overran their interval
+     * @param modules         names of the modules installed on the node
+     * @param moduleHashes    SHA-256 checksums of the module JARs present on the node
+     */
+    public NodeMetrics(int containerCount, int matchCount, double cpuUsage, long memoryUsedMb, long memoryMaxMb,
+                       long entityCount, double tickOverrunRate, List<String> modules, List<String> moduleHashes) {
+        this(containerCount, matchCount, cpuUsage, memoryUsedMb, memoryMaxMb, entityCount, tickOverrunRate,
+                modules, moduleHashes, Map.of());
+    }
+
+    /**
+     * Creates metrics from a node that does not report module checksums.
+     *
+     * @param containerCount  current number of containers
+     * @param matchCount      current number of active matches
+     * @param cpuUsage        CPU usage percentage (0.0 - 1.0)
+     * @param memoryUsedMb    memory usage in megabytes
+     * @param memoryMaxMb     maximum memory in megabytes
+     * @param entityCount     total entities across all containers on the node
+     * @param tickOverrunRate fraction of auto-advanced ticks that overran their interval
+     * @param modules         names of the modules installed on the node
+     */
+    public NodeMetrics(int containerCount, int matchCount, double cpuUsage, long memoryUsedMb, long memoryMaxMb,
+                       long entityCount, double tickOverrunRate, List<String> modules) {
+        this(containerCount, matchCount, cpuUsage, memoryUsedMb, memoryMaxMb, entityCount, tickOverrunRate,
+                modules, List.of());
+    }
+
+    /**
+     * Creates metrics from a node that does not report load or module details.
+     *
+     * @param containerCount current number of containers
+     * @param matchCount     current number of active matches
+     * @param cpuUsage       CPU usage percentage (0.0 - 1.0)
+     * @param memoryUsedMb   memory usage in megabytes
+     * @param memoryMaxMb    maximum memory in megabytes
+     */
+    public NodeMetrics(int containerCount, int matchCount, double cpuUsage, long memoryUsedMb, long memoryMaxMb) {
+        this(containerCount, matchCount, cpuUsage, memoryUsedMb, memoryMaxMb, 0, 0.0, List.of(), List.of());
     }
 
     /**
@@ -65,4 +138,62 @@ public record NodeMetrics(
     public static NodeMetrics empty() {
         return new NodeMetrics(0, 0, 0.0, 0, 0);
     }
+
+    /**
+     * Returns the heap usage ratio.
+     *
+     * @return memoryUsedMb / memoryMaxMb, or 0.0 if the maximum is unknown
+     */
+    public double heapUsage() {
+        return memoryMaxMb > 0 ? Math.min(1.0, (double) memoryUsedMb / memoryMaxMb) : 0.0;
+    }
+
+    /**
+     * Counts how many of the given modules are not installed on the node.
+     *
+     * @param requiredModules the modules to check
+     * @return the number of missing modules
+     */
+    public int missingModules(Collection<String> requiredModules) {
+        if (requiredModules == null) {
+            return 0;
+        }
+        return (int) requiredModules.stream().filter(m -> !modules.contains(m)).count();
+    }
+
+    /**
+     * Checks whether the node already holds a module JAR with the given checksum.
+     *
+     * @param checksum the SHA-256 checksum of the JAR
+     * @return true if the node reported the checksum
+     */
+    public boolean hasModuleHash(String checksum) {
+        return checksum != null && moduleHashes.contains(checksum.toLowerCase());
+    }
+
+    /**
+     * Counts the warm containers the node holds for a module set.
+     *
+     * @param moduleNames the modules the match needs, in any order
+     * @return the number of pre-started containers with exactly those modules
+     */
+    public int warmContainersFor(Collection<String> moduleNames) {
+        if (moduleNames == null || moduleNames.isEmpty()) {
+            return 0;
+        }
+        String key = String.join(",", moduleNames.stream().distinct().sorted().toList());
+        return warmContainers.getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns a copy with extra containers counted, used for placements that
+     * have not yet shown up in a heartbeat.
+     *
+     * @param reserved the number of reserved containers
+     * @return metrics with the container count increased
+     */
+    public NodeMetrics withReservedContainers(int reserved) {
+        return new NodeMetrics(containerCount + reserved, matchCount, cpuUsage, memoryUsedMb, memoryMaxMb,
+                entityCount, tickOverrunRate, modules, moduleHashes, warmContainers);
+    }
 }
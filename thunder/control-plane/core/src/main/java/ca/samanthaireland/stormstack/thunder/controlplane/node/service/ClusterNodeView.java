@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.node.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * In-memory view of the cluster's nodes used for scheduling decisions.
+ *
+ * <p>The view is reloaded from the node registry once it is older than the refresh
+ * interval, and updated in place by heartbeats, drains and deregistrations handled
+ * by this instance. This keeps placement off the registry's hot path.
+ *
+ * <p>Placements are recorded as reservations on top of the last reported metrics,
+ * so a burst of matches spreads across nodes instead of piling onto the node that
+ * looked emptiest at the last heartbeat. A node's reservations are cleared when a
+ * fresh heartbeat or reload replaces its metrics.
+ */
+public class ClusterNodeView implements NodeRegistryListener {
+    private static final Logger log = LoggerFactory.getLogger(ClusterNodeView.class);
+
+    private final Supplier<List<Node>> loader;
+    private final Duration refreshInterval;
+    private final Clock clock;
+
+    private final Map<NodeId, Node> nodes = new LinkedHashMap<>();
+    private final Map<NodeId, Integer> reservations = new HashMap<>();
+    private Instant loadedAt;
+
+    /**
+     * Creates a new ClusterNodeView.
+     *
+     * @param loader          loads all registered nodes from the registry
+     * @param refreshInterval maximum age of the view before it is reloaded
+     * @param clock           the clock used to age the view
+     */
+    public ClusterNodeView(Supplier<List<Node>> loader, Duration refreshInterval, Clock clock) {
+        this.loader = Objects.requireNonNull(loader, "loader cannot be null");
+        this.refreshInterval = Objects.requireNonNull(refreshInterval, "refreshInterval cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    /**
+     * Returns all nodes, with pending reservations applied to their container counts.
+     *
+     * @return the current node view
+     */
+    public synchronized List<Node> nodes() {
+        refreshIfStale();
+        return nodes.values().stream()
+                .map(this::withReservations)
+                .toList();
+    }
+
+    /**
+     * Records or replaces a node after a registration, heartbeat or drain.
+     *
+     * @param node the latest node state
+     */
+    @Override
+    public synchronized void nodeUpdated(Node node) {
+        nodes.put(node.nodeId(), node);
+        reservations.remove(node.nodeId());
+    }
+
+    /**
+     * Removes a deregistered node.
+     *
+     * @param nodeId the node ID
+     */
+    @Override
+    public synchronized void nodeRemoved(NodeId nodeId) {
+        nodes.remove(nodeId);
+        reservations.remove(nodeId);
+    }
+
+    /**
+     * Reserves container slots on a node for placements not yet visible in its metrics.
+     *
+     * @param nodeId     the node ID
+     * @param containers the number of containers placed
+     */
+    public synchronized void reserve(NodeId nodeId, int containers) {
+        if (nodes.containsKey(nodeId)) {
+            reservations.merge(nodeId, containers, Integer::sum);
+        }
+    }
+
+    /**
+     * Forces the next read to reload from the registry.
+     */
+    public synchronized void invalidate() {
+        loadedAt = null;
+    }
+
+    private void refreshIfStale() {
+        Instant now = clock.instant();
+        if (loadedAt != null && now.isBefore(loadedAt.plus(refreshInterval))) {
+            return;
+        }
+        List<Node> loaded = loader.get();
+        nodes.clear();
+        reservations.clear();
+        loaded.forEach(node -> nodes.put(node.nodeId(), node));
+        loadedAt = now;
+        log.trace("Reloaded node view with {} nodes", loaded.size());
+    }
+
+    private Node withReservations(Node node) {
+        Integer reserved = reservations.get(node.nodeId());
+        return reserved != null ? node.withReservedContainers(reserved) : node;
+    }
+}
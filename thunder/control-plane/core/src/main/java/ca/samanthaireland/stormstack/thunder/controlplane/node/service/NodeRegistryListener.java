@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.node.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+
+/**
+ * Receives node changes handled by this control plane instance.
+ *
+ * <p>Listeners are called synchronously after the registry has been updated,
+ * so implementations must be cheap and must not throw.
+ */
+public interface NodeRegistryListener {
+
+    /**
+     * Called after a node registers, sends a heartbeat or starts draining.
+     *
+     * @param node the latest node state
+     */
+    void nodeUpdated(Node node);
+
+    /**
+     * Called after a node is deregistered.
+     *
+     * @param nodeId the node ID
+     */
+    void nodeRemoved(NodeId nodeId);
+}
@@ -46,16 +46,23 @@ public class NodeRegistryServiceImpl implements NodeRegistryService {
 
     private final NodeRepository nodeRepository;
     private final ControlPlaneConfiguration config;
+    private final List<NodeRegistryListener> listeners;
 
     /**
      * Creates a new NodeRegistryServiceImpl.
      *
      * @param nodeRepository the node repository
      * @param config         the control plane configuration
+     * @param listeners      listeners notified of node changes, such as the scheduler's node view
      */
-    public NodeRegistryServiceImpl(NodeRepository nodeRepository, ControlPlaneConfiguration config) {
+    public NodeRegistryServiceImpl(
+            NodeRepository nodeRepository,
+            ControlPlaneConfiguration config,
+            NodeRegistryListener... listeners
+    ) {
         this.nodeRepository = nodeRepository;
         this.config = config;
+        this.listeners = List.of(listeners);
     }
 
     @Override
@@ -83,7 +90,9 @@ public class NodeRegistryServiceImpl implements NodeRegistryService {
             log.info("Registered new node {} at {}", nodeId, advertiseAddress);
         }
 
-        return nodeRepository.save(node, config.nodeTtlSeconds());
+        Node saved = nodeRepository.save(node, config.nodeTtlSeconds());
+        notifyUpdated(saved);
+        return saved;
     }
 
     @Override
@@ -93,6 +102,7 @@ public class NodeRegistryServiceImpl implements NodeRegistryService {
 
         Node updated = node.withHeartbeat(metrics);
         nodeRepository.save(updated, config.nodeTtlSeconds());
+        notifyUpdated(updated);
 
         log.debug("Heartbeat from node {}: containers={}, matches={}",
                 nodeId, metrics.containerCount(), metrics.matchCount());
@@ -107,6 +117,7 @@ public class NodeRegistryServiceImpl implements NodeRegistryService {
 
         Node drained = node.drain();
         nodeRepository.save(drained, config.nodeTtlSeconds());
+        notifyUpdated(drained);
 
         log.info("Node {} marked as draining", nodeId);
 
@@ -120,6 +131,7 @@ public class NodeRegistryServiceImpl implements NodeRegistryService {
         }
 
         nodeRepository.deleteById(nodeId);
+        listeners.forEach(listener -> listener.nodeRemoved(nodeId));
         log.info("Deregistered node {}", nodeId);
     }
 
@@ -132,4 +144,10 @@ public class NodeRegistryServiceImpl implements NodeRegistryService {
     public List<Node> findAll() {
         return nodeRepository.findAll();
     }
+
+    private void notifyUpdated(Node node) {
+        if (node != null) {
+            listeners.forEach(listener -> listener.nodeUpdated(node));
+        }
+    }
 }
@@ -47,4 +47,20 @@ public interface ProxyConfiguration {
      * @return max body size in bytes
      */
     long maxRequestBodyBytes();
+
+    /**
+     * Returns whether request and response bodies are streamed through the proxy
+     * instead of being buffered in memory.
+     *
+     * @return true if streaming is enabled
+     */
+    boolean streamingEnabled();
+
+    /**
+     * Returns whether the proxy negotiates HTTP/2 with engine nodes, multiplexing
+     * concurrent requests to a node over a single connection.
+     *
+     * @return true if HTTP/2 is preferred
+     */
+    boolean http2Enabled();
 }
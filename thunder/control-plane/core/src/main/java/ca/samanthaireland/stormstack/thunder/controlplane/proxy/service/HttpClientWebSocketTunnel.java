@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.proxy.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * {@link NodeWebSocketTunnel} backed by a {@link WebSocket} to the node.
+ *
+ * <p>The JDK WebSocket allows only one outstanding send at a time, so outgoing messages
+ * are chained onto the previous send. Incoming messages are requested one at a time,
+ * and the next one only once the listener has delivered the previous one, which
+ * propagates backpressure to the node while the client falls behind.
+ */
+class HttpClientWebSocketTunnel implements NodeWebSocketTunnel, WebSocket.Listener {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientWebSocketTunnel.class);
+
+    private final NodeWebSocketTunnel.Listener listener;
+    private final StringBuilder textBuffer = new StringBuilder();
+    private final ByteArrayOutputStream binaryBuffer = new ByteArrayOutputStream();
+    private CompletableFuture<WebSocket> upstream;
+    private CompletableFuture<?> tail;
+
+    HttpClientWebSocketTunnel(NodeWebSocketTunnel.Listener listener) {
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+    }
+
+    /**
+     * Attaches the pending upstream handshake. Sends issued before the handshake
+     * completes are queued behind it.
+     *
+     * @param connecting the pending WebSocket
+     */
+    synchronized void connect(CompletableFuture<WebSocket> connecting) {
+        this.upstream = connecting;
+        this.tail = connecting.whenComplete((webSocket, error) -> {
+            if (error != null) {
+                listener.onError(error);
+            }
+        });
+    }
+
+    @Override
+    public void sendText(String message) {
+        enqueue(webSocket -> webSocket.sendText(message, true));
+    }
+
+    @Override
+    public void sendBinary(ByteBuffer message) {
+        enqueue(webSocket -> webSocket.sendBinary(message, true));
+    }
+
+    @Override
+    public void close(int statusCode, String reason) {
+        enqueue(webSocket -> webSocket.isOutputClosed()
+                ? CompletableFuture.completedFuture(webSocket)
+                : webSocket.sendClose(statusCode, reason != null ? reason : ""));
+    }
+
+    private synchronized void enqueue(Function<WebSocket, CompletableFuture<WebSocket>> send) {
+        if (upstream == null) {
+            throw new IllegalStateException("Tunnel is not connected");
+        }
+        // A failed send must not block the ones queued behind it
+        CompletableFuture<WebSocket> connected = upstream;
+        tail = tail.handle((ignored, error) -> null)
+                .thenCompose(ignored -> connected)
+                .thenCompose(send)
+                .whenComplete((webSocket, error) -> {
+                    if (error != null) {
+                        log.debug("Failed to relay WebSocket message to node: {}", error.getMessage());
+                    }
+                });
+    }
+
+    // =========================================================================
+    // Upstream listener
+    // =========================================================================
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        textBuffer.append(data);
+        if (last) {
+            String message = textBuffer.toString();
+            textBuffer.setLength(0);
+            requestAfter(webSocket, listener.onText(message));
+        } else {
+            webSocket.request(1);
+        }
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        byte[] chunk = new byte[data.remaining()];
+        data.get(chunk);
+        binaryBuffer.writeBytes(chunk);
+        if (last) {
+            ByteBuffer message = ByteBuffer.wrap(binaryBuffer.toByteArray());
+            binaryBuffer.reset();
+            requestAfter(webSocket, listener.onBinary(message));
+        } else {
+            webSocket.request(1);
+        }
+        return null;
+    }
+
+    /**
+     * Requests the next upstream message once the listener has delivered this one,
+     * whether or not the delivery succeeded.
+     */
+    private static void requestAfter(WebSocket webSocket, CompletionStage<?> delivered) {
+        if (delivered == null) {
+            webSocket.request(1);
+        } else {
+            delivered.whenComplete((ignored, error) -> webSocket.request(1));
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        listener.onClose(statusCode, reason);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        listener.onError(error);
+    }
+}
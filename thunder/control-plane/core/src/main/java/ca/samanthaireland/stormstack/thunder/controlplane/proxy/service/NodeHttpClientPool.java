@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.proxy.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.config.ProxyConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-node pool of {@link HttpClient} instances used by the proxy.
+ *
+ * <p>Each node gets its own client, and therefore its own connection pool. With HTTP/2
+ * enabled, concurrent proxied requests to the same node are multiplexed over a single
+ * connection instead of opening one connection per request. A node's client is replaced
+ * when its advertise address changes and released when the node is evicted, either
+ * on a lookup miss or by a periodic {@link #retainOnly} sweep for nodes that leave
+ * and are never addressed again.
+ */
+class NodeHttpClientPool {
+
+    private static final Logger log = LoggerFactory.getLogger(NodeHttpClientPool.class);
+
+    private final Supplier<HttpClient> clientFactory;
+    private final Consumer<HttpClient> clientReleaser;
+    private final Map<NodeId, PooledClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a pool that builds one client per node from the proxy configuration.
+     *
+     * @param config the proxy configuration
+     */
+    NodeHttpClientPool(ProxyConfiguration config) {
+        this(() -> HttpClient.newBuilder()
+                        .connectTimeout(Duration.ofSeconds(config.timeoutSeconds()))
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .version(config.http2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                        .build(),
+                HttpClient::shutdown);
+    }
+
+    NodeHttpClientPool(Supplier<HttpClient> clientFactory, Consumer<HttpClient> clientReleaser) {
+        this.clientFactory = Objects.requireNonNull(clientFactory, "clientFactory cannot be null");
+        this.clientReleaser = Objects.requireNonNull(clientReleaser, "clientReleaser cannot be null");
+    }
+
+    /**
+     * Creates a pool that hands out the same externally owned client for every node.
+     *
+     * @param httpClient the shared client, never shut down by the pool
+     * @return the pool
+     */
+    static NodeHttpClientPool shared(HttpClient httpClient) {
+        Objects.requireNonNull(httpClient, "httpClient cannot be null");
+        return new NodeHttpClientPool(() -> httpClient, client -> { });
+    }
+
+    /**
+     * Returns the client for a node, creating it on first use.
+     *
+     * @param node the target node
+     * @return the node's client
+     */
+    HttpClient clientFor(Node node) {
+        PooledClient pooled = clients.compute(node.nodeId(), (id, existing) -> {
+            if (existing != null && existing.address().equals(node.advertiseAddress())) {
+                return existing;
+            }
+            if (existing != null) {
+                log.debug("Address of node {} changed, replacing proxy client", id);
+                clientReleaser.accept(existing.client());
+            }
+            return new PooledClient(node.advertiseAddress(), clientFactory.get());
+        });
+        return pooled.client();
+    }
+
+    /**
+     * Releases the client for a node that is no longer registered.
+     *
+     * @param nodeId the node ID
+     */
+    void evict(NodeId nodeId) {
+        PooledClient removed = clients.remove(nodeId);
+        if (removed != null) {
+            log.debug("Released proxy client for node {}", nodeId);
+            clientReleaser.accept(removed.client());
+        }
+    }
+
+    /**
+     * Releases the clients of every node that is no longer registered.
+     *
+     * <p>The pooled node IDs are captured before the registered nodes are fetched,
+     * so a client created for a node that registers during the sweep is kept.
+     *
+     * @param registeredNodeIds supplies the IDs of the currently registered nodes
+     */
+    void retainOnly(Supplier<Set<NodeId>> registeredNodeIds) {
+        Set<NodeId> retired = new HashSet<>(clients.keySet());
+        if (retired.isEmpty()) {
+            return;
+        }
+        retired.removeAll(registeredNodeIds.get());
+        retired.forEach(this::evict);
+    }
+
+    /**
+     * Returns the number of nodes with a pooled client.
+     *
+     * @return the pool size
+     */
+    int size() {
+        return clients.size();
+    }
+
+    private record PooledClient(String address, HttpClient client) {
+    }
+}
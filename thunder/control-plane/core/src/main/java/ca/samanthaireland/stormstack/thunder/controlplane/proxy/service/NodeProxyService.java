@@ -27,6 +27,7 @@ import ca.samanthaireland.stormstack.thunder.controlplane.proxy.exception.ProxyD
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.exception.ProxyException;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.exception.NodeNotFoundException;
 
+import java.io.InputStream;
 import java.util.Map;
 
 /**
@@ -66,6 +67,62 @@ public interface NodeProxyService {
             byte[] body
     );
 
+    /**
+     * Proxies an HTTP request to a node without buffering either body.
+     *
+     * <p>The request body is piped to the node as it is read, and the response body is
+     * returned as an open stream. The caller must close the returned response.
+     *
+     * @param nodeId      the target node ID (must be registered)
+     * @param method      the HTTP method (GET, POST, PUT, DELETE, PATCH)
+     * @param path        the request path (e.g., "/api/containers/1/history")
+     * @param queryParams query parameters to forward
+     * @param headers     headers to forward (Authorization, Content-Type, etc.)
+     * @param body        the request body stream (may be null for GET/DELETE)
+     * @return the streaming response from the upstream node
+     * @throws NodeNotFoundException   if the node is not registered
+     * @throws ProxyDisabledException  if proxy functionality is disabled
+     * @throws ProxyException          if the request fails (timeout, connection refused, etc.)
+     */
+    StreamingProxyResponse proxyStream(
+            NodeId nodeId,
+            String method,
+            String path,
+            Map<String, String> queryParams,
+            Map<String, String> headers,
+            InputStream body
+    );
+
+    /**
+     * Opens a WebSocket relay to a node.
+     *
+     * <p>The handshake happens asynchronously; failures are reported through
+     * {@link NodeWebSocketTunnel.Listener#onError(Throwable)}.
+     *
+     * @param nodeId      the target node ID (must be registered)
+     * @param path        the WebSocket path on the node (e.g., "/ws/containers/1/matches/1/snapshot")
+     * @param queryParams query parameters to forward (e.g., the engine auth token)
+     * @param headers     headers to forward on the handshake
+     * @param listener    receives messages and lifecycle events from the node
+     * @return the tunnel for sending messages to the node
+     * @throws NodeNotFoundException   if the node is not registered
+     * @throws ProxyDisabledException  if proxy functionality is disabled
+     */
+    NodeWebSocketTunnel openWebSocket(
+            NodeId nodeId,
+            String path,
+            Map<String, String> queryParams,
+            Map<String, String> headers,
+            NodeWebSocketTunnel.Listener listener
+    );
+
+    /**
+     * Checks if bodies are streamed rather than buffered.
+     *
+     * @return true if streaming mode is enabled
+     */
+    boolean isStreamingEnabled();
+
     /**
      * Checks if proxy functionality is currently enabled.
      *
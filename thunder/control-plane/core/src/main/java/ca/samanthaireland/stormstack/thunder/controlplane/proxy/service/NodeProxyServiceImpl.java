@@ -33,22 +33,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link NodeProxyService} using java.net.http.HttpClient.
+ *
+ * <p>Each node gets its own pooled client (see {@link NodeHttpClientPool}), so
+ * connections are reused across proxied requests and, when HTTP/2 is enabled,
+ * multiplexed.
  */
 public class NodeProxyServiceImpl implements NodeProxyService {
 
@@ -60,10 +68,16 @@ public class NodeProxyServiceImpl implements NodeProxyService {
             "te", "trailer", "transfer-encoding", "upgrade", "host"
     );
 
+    /**
+     * Minimum time between sweeps that release the clients of nodes which left the cluster.
+     */
+    private static final long CLIENT_SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final NodeRegistryService nodeRegistryService;
     private final ProxyConfiguration config;
-    private final HttpClient httpClient;
+    private final NodeHttpClientPool clientPool;
     private final AtomicBoolean enabled;
+    private final AtomicLong nextClientSweepNanos = new AtomicLong(System.nanoTime() + CLIENT_SWEEP_INTERVAL_NANOS);
 
     /**
      * Creates a new NodeProxyServiceImpl.
@@ -75,10 +89,7 @@ public class NodeProxyServiceImpl implements NodeProxyService {
         this.nodeRegistryService = Objects.requireNonNull(nodeRegistryService, "nodeRegistryService cannot be null");
         this.config = Objects.requireNonNull(config, "config cannot be null");
         this.enabled = new AtomicBoolean(config.enabled());
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(config.timeoutSeconds()))
-                .followRedirects(HttpClient.Redirect.NEVER)
-                .build();
+        this.clientPool = new NodeHttpClientPool(config);
     }
 
     /**
@@ -92,7 +103,7 @@ public class NodeProxyServiceImpl implements NodeProxyService {
         this.nodeRegistryService = Objects.requireNonNull(nodeRegistryService, "nodeRegistryService cannot be null");
         this.config = Objects.requireNonNull(config, "config cannot be null");
         this.enabled = new AtomicBoolean(config.enabled());
-        this.httpClient = Objects.requireNonNull(httpClient, "httpClient cannot be null");
+        this.clientPool = NodeHttpClientPool.shared(httpClient);
     }
 
     @Override
@@ -108,57 +119,21 @@ public class NodeProxyServiceImpl implements NodeProxyService {
         Objects.requireNonNull(method, "method cannot be null");
         Objects.requireNonNull(path, "path cannot be null");
 
-        if (!enabled.get()) {
-            throw new ProxyDisabledException();
-        }
-
-        // Look up the node
-        Node node = nodeRegistryService.findById(nodeId)
-                .orElseThrow(() -> new NodeNotFoundException(nodeId));
+        Node node = resolveNode(nodeId);
 
-        // Build the target URL
-        String targetUrl = buildTargetUrl(node.advertiseAddress(), path, queryParams);
-        log.debug("Proxying {} {} to node {} at {}", method, path, nodeId, targetUrl);
+        HttpRequest.BodyPublisher bodyPublisher = body != null && body.length > 0
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest request = buildRequest(node, method, path, queryParams, headers, bodyPublisher);
 
         try {
-            // Build the request
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(targetUrl))
-                    .timeout(Duration.ofSeconds(config.timeoutSeconds()));
-
-            // Set method and body
-            HttpRequest.BodyPublisher bodyPublisher = body != null && body.length > 0
-                    ? HttpRequest.BodyPublishers.ofByteArray(body)
-                    : HttpRequest.BodyPublishers.noBody();
-
-            requestBuilder.method(method.toUpperCase(), bodyPublisher);
-
-            // Forward headers (filtering hop-by-hop headers)
-            if (headers != null) {
-                headers.forEach((name, value) -> {
-                    if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
-                        requestBuilder.header(name, value);
-                    }
-                });
-            }
-
-            // Execute the request
-            HttpResponse<byte[]> response = httpClient.send(requestBuilder.build(),
-                    HttpResponse.BodyHandlers.ofByteArray());
-
-            // Build response headers map
-            // Filter out hop-by-hop headers and HTTP/2 pseudo-headers (which start with ':')
-            Map<String, String> responseHeaders = new HashMap<>();
-            response.headers().map().forEach((name, values) -> {
-                if (!name.startsWith(":") && !HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !values.isEmpty()) {
-                    responseHeaders.put(name, values.getFirst());
-                }
-            });
+            HttpResponse<byte[]> response = clientPool.clientFor(node)
+                    .send(request, HttpResponse.BodyHandlers.ofByteArray());
 
             log.debug("Proxy response from node {}: {} {}", nodeId, response.statusCode(),
                     response.body() != null ? response.body().length + " bytes" : "no body");
 
-            return new ProxyResponse(response.statusCode(), responseHeaders, response.body());
+            return new ProxyResponse(response.statusCode(), filterResponseHeaders(response), response.body());
 
         } catch (IOException e) {
             log.error("IO error proxying to node {}: {}", nodeId, e.getMessage());
@@ -169,6 +144,83 @@ public class NodeProxyServiceImpl implements NodeProxyService {
         }
     }
 
+    @Override
+    public StreamingProxyResponse proxyStream(
+            NodeId nodeId,
+            String method,
+            String path,
+            Map<String, String> queryParams,
+            Map<String, String> headers,
+            InputStream body
+    ) {
+        Objects.requireNonNull(nodeId, "nodeId cannot be null");
+        Objects.requireNonNull(method, "method cannot be null");
+        Objects.requireNonNull(path, "path cannot be null");
+
+        Node node = resolveNode(nodeId);
+
+        // Without a known length the body is sent chunked (HTTP/1.1) or as DATA frames (HTTP/2)
+        HttpRequest.BodyPublisher bodyPublisher = body != null
+                ? HttpRequest.BodyPublishers.ofInputStream(() -> body)
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest request = buildRequest(node, method, path, queryParams, headers, bodyPublisher);
+
+        try {
+            HttpResponse<InputStream> response = clientPool.clientFor(node)
+                    .send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            log.debug("Streaming proxy response from node {}: {}", nodeId, response.statusCode());
+
+            return new StreamingProxyResponse(response.statusCode(), filterResponseHeaders(response), response.body());
+
+        } catch (IOException e) {
+            log.error("IO error proxying to node {}: {}", nodeId, e.getMessage());
+            throw new ProxyException(nodeId, path, "Connection failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProxyException(nodeId, path, "Request interrupted", e);
+        }
+    }
+
+    @Override
+    public NodeWebSocketTunnel openWebSocket(
+            NodeId nodeId,
+            String path,
+            Map<String, String> queryParams,
+            Map<String, String> headers,
+            NodeWebSocketTunnel.Listener listener
+    ) {
+        Objects.requireNonNull(nodeId, "nodeId cannot be null");
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(listener, "listener cannot be null");
+
+        Node node = resolveNode(nodeId);
+
+        String targetUrl = buildTargetUrl(node.advertiseAddress(), path, queryParams)
+                .replaceFirst("^http", "ws");
+        log.debug("Opening WebSocket relay to node {} at {}", nodeId, path);
+
+        WebSocket.Builder builder = clientPool.clientFor(node).newWebSocketBuilder()
+                .connectTimeout(Duration.ofSeconds(config.timeoutSeconds()));
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                String lowerName = name.toLowerCase();
+                if (!HOP_BY_HOP_HEADERS.contains(lowerName) && !lowerName.startsWith("sec-websocket-")) {
+                    builder.header(name, value);
+                }
+            });
+        }
+
+        HttpClientWebSocketTunnel tunnel = new HttpClientWebSocketTunnel(listener);
+        tunnel.connect(builder.buildAsync(URI.create(targetUrl), tunnel));
+        return tunnel;
+    }
+
+    @Override
+    public boolean isStreamingEnabled() {
+        return config.streamingEnabled();
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled.get();
@@ -180,6 +232,81 @@ public class NodeProxyServiceImpl implements NodeProxyService {
         log.info("Node proxy {}", enabled ? "enabled" : "disabled");
     }
 
+    /**
+     * Looks up the target node, releasing any pooled client for nodes that have gone away.
+     */
+    private Node resolveNode(NodeId nodeId) {
+        if (!enabled.get()) {
+            throw new ProxyDisabledException();
+        }
+        sweepRetiredClients();
+        return nodeRegistryService.findById(nodeId)
+                .orElseThrow(() -> {
+                    clientPool.evict(nodeId);
+                    return new NodeNotFoundException(nodeId);
+                });
+    }
+
+    /**
+     * Releases pooled clients for nodes that deregistered or expired, at most once per
+     * {@link #CLIENT_SWEEP_INTERVAL_NANOS}. Runs on the calling request thread; the
+     * thread that wins the race does the sweep and the others skip it.
+     */
+    private void sweepRetiredClients() {
+        long now = System.nanoTime();
+        long due = nextClientSweepNanos.get();
+        if (now - due < 0 || !nextClientSweepNanos.compareAndSet(due, now + CLIENT_SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        try {
+            clientPool.retainOnly(() -> nodeRegistryService.findAll().stream()
+                    .map(Node::nodeId)
+                    .collect(Collectors.toSet()));
+        } catch (RuntimeException e) {
+            log.debug("Skipped proxy client sweep: {}", e.getMessage());
+        }
+    }
+
+    private HttpRequest buildRequest(
+            Node node,
+            String method,
+            String path,
+            Map<String, String> queryParams,
+            Map<String, String> headers,
+            HttpRequest.BodyPublisher bodyPublisher
+    ) {
+        String targetUrl = buildTargetUrl(node.advertiseAddress(), path, queryParams);
+        log.debug("Proxying {} {} to node {} at {}", method, path, node.nodeId(), targetUrl);
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(targetUrl))
+                .timeout(Duration.ofSeconds(config.timeoutSeconds()))
+                .method(method.toUpperCase(), bodyPublisher);
+
+        // Forward headers (filtering hop-by-hop headers)
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    requestBuilder.header(name, value);
+                }
+            });
+        }
+        return requestBuilder.build();
+    }
+
+    /**
+     * Filters out hop-by-hop headers and HTTP/2 pseudo-headers (which start with ':').
+     */
+    private Map<String, String> filterResponseHeaders(HttpResponse<?> response) {
+        Map<String, String> responseHeaders = new HashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":") && !HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !values.isEmpty()) {
+                responseHeaders.put(name, values.getFirst());
+            }
+        });
+        return responseHeaders;
+    }
+
     /**
      * Builds the target URL from the node address, path, and query parameters.
      */
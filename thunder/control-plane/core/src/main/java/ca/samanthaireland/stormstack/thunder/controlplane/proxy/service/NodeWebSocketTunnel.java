@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.proxy.service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A bidirectional WebSocket relay between a client and an engine node.
+ *
+ * <p>Messages sent before the upstream handshake completes are queued and delivered
+ * in order once the connection is established.
+ */
+public interface NodeWebSocketTunnel {
+
+    /**
+     * Sends a text message to the upstream node.
+     *
+     * @param message the message
+     */
+    void sendText(String message);
+
+    /**
+     * Sends a binary message to the upstream node.
+     *
+     * @param message the message
+     */
+    void sendBinary(ByteBuffer message);
+
+    /**
+     * Closes the upstream connection.
+     *
+     * @param statusCode the WebSocket close code
+     * @param reason     the close reason
+     */
+    void close(int statusCode, String reason);
+
+    /**
+     * Callbacks for messages and lifecycle events coming from the upstream node.
+     */
+    interface Listener {
+
+        /**
+         * Called with each complete text message from the node. The next message is
+         * not delivered until the returned stage completes.
+         *
+         * @param message the message
+         * @return a stage that completes once the message has been delivered, or null if it already has
+         */
+        CompletionStage<?> onText(String message);
+
+        /**
+         * Called with each complete binary message from the node. The next message is
+         * not delivered until the returned stage completes.
+         *
+         * @param message the message
+         * @return a stage that completes once the message has been delivered, or null if it already has
+         */
+        CompletionStage<?> onBinary(ByteBuffer message);
+
+        /**
+         * Called when the node closes the connection.
+         *
+         * @param statusCode the WebSocket close code
+         * @param reason     the close reason
+         */
+        void onClose(int statusCode, String reason);
+
+        /**
+         * Called when the connection cannot be established or fails.
+         *
+         * @param error the failure
+         */
+        void onError(Throwable error);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.proxy.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Response from a streamed proxy request to a node.
+ *
+ * <p>Unlike {@link ProxyResponse}, the body is not materialized in memory. The caller
+ * owns the body stream and must close it (directly or via {@link #close()}) once the
+ * body has been forwarded, otherwise the upstream connection is not released.
+ *
+ * @param statusCode the HTTP status code from the upstream node
+ * @param headers    the response headers from the upstream node
+ * @param body       the unread response body stream
+ */
+public record StreamingProxyResponse(
+        int statusCode,
+        Map<String, String> headers,
+        InputStream body
+) implements AutoCloseable {
+
+    public StreamingProxyResponse {
+        Objects.requireNonNull(headers, "headers cannot be null");
+        Objects.requireNonNull(body, "body cannot be null");
+    }
+
+    /**
+     * Checks if this is a successful response (2xx status code).
+     *
+     * @return true if status code is between 200 and 299
+     */
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Checks if the status code permits a response body.
+     *
+     * @return false for 204 No Content and 304 Not Modified
+     */
+    public boolean mayHaveBody() {
+        return statusCode != 204 && statusCode != 304;
+    }
+
+    /**
+     * Closes the body stream, releasing the upstream connection.
+     */
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+
+/**
+ * Placement score for a node. Lower is better.
+ *
+ * @param node           the scored node
+ * @param score          the weighted sum of the load dimensions
+ * @param containerLoad  container slot usage (0.0 - 1.0)
+ * @param cpuLoad        CPU usage (0.0 - 1.0)
+ * @param heapLoad       heap usage (0.0 - 1.0)
+ * @param tickOverrun    tick overrun rate (0.0 - 1.0)
+ * @param entityLoad     entity count relative to the busiest candidate (0.0 - 1.0)
+ * @param missingModules fraction of required modules the node does not have (0.0 - 1.0)
+ * @param coldStart      1.0 if the node has no warm container for the required modules, else 0.0
+ */
+public record NodeScore(
+        Node node,
+        double score,
+        double containerLoad,
+        double cpuLoad,
+        double heapLoad,
+        double tickOverrun,
+        double entityLoad,
+        double missingModules,
+        double coldStart
+) {
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.config.SchedulerConfiguration;
+
+/**
+ * Relative weights of the load dimensions used to score nodes for placement.
+ *
+ * @param container   weight of container slot usage
+ * @param cpu         weight of CPU usage
+ * @param heap        weight of heap usage
+ * @param tickOverrun weight of the tick overrun rate
+ * @param entity      weight of the relative entity count
+ * @param module      weight of missing required modules
+ * @param warmPool    weight of having no warm container ready for the match's modules
+ */
+public record ScoringWeights(
+        double container,
+        double cpu,
+        double heap,
+        double tickOverrun,
+        double entity,
+        double module,
+        double warmPool
+) {
+
+    public ScoringWeights {
+        if (container < 0 || cpu < 0 || heap < 0 || tickOverrun < 0 || entity < 0 || module < 0
+                || warmPool < 0) {
+            throw new IllegalArgumentException("weights cannot be negative");
+        }
+    }
+
+    /**
+     * Creates weights that ignore warm container pools.
+     *
+     * @param container   weight of container slot usage
+     * @param cpu         weight of CPU usage
+     * @param heap        weight of heap usage
+     * @param tickOverrun weight of the tick overrun rate
+     * @param entity      weight of the relative entity count
+     * @param module      weight of missing required modules
+     */
+    public ScoringWeights(double container, double cpu, double heap, double tickOverrun, double entity,
+                          double module) {
+        this(container, cpu, heap, tickOverrun, entity, module, 0.0);
+    }
+
+    /**
+     * Returns the default weights.
+     *
+     * @return weights favouring CPU, heap and container headroom
+     */
+    public static ScoringWeights defaults() {
+        return new ScoringWeights(0.25, 0.25, 0.2, 0.15, 0.1, 0.05, 0.1);
+    }
+
+    /**
+     * Creates weights from the scheduler configuration.
+     *
+     * @param config the scheduler configuration
+     * @return the configured weights
+     */
+    public static ScoringWeights from(SchedulerConfiguration config) {
+        return new ScoringWeights(
+                config.containerWeight(),
+                config.cpuWeight(),
+                config.heapWeight(),
+                config.tickOverrunWeight(),
+                config.entityWeight(),
+                config.moduleWeight(),
+                config.warmPoolWeight()
+        );
+    }
+}
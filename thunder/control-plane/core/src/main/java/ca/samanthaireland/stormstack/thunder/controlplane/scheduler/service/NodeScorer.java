@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.ScoringWeights;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Scores candidate nodes for match placement on several load dimensions.
+ *
+ * <p>Each dimension is normalized to 0.0 - 1.0 and combined using
+ * {@link ScoringWeights}. Entity counts have no natural upper bound, so they are
+ * normalized against the busiest candidate.
+ */
+public class NodeScorer {
+
+    private final ScoringWeights weights;
+
+    /**
+     * Creates a new NodeScorer.
+     *
+     * @param weights the dimension weights
+     */
+    public NodeScorer(ScoringWeights weights) {
+        this.weights = Objects.requireNonNull(weights, "weights cannot be null");
+    }
+
+    /**
+     * Scores the candidates, best (lowest score) first.
+     *
+     * @param candidates      the nodes to score
+     * @param requiredModules modules required by the match (may be null or empty)
+     * @return the scores in ascending order
+     */
+    public List<NodeScore> rank(List<Node> candidates, List<String> requiredModules) {
+        long maxEntities = candidates.stream()
+                .mapToLong(n -> n.metrics().entityCount())
+                .max()
+                .orElse(0);
+
+        return candidates.stream()
+                .map(node -> score(node, requiredModules, maxEntities))
+                .sorted(Comparator.comparingDouble(NodeScore::score))
+                .toList();
+    }
+
+    private NodeScore score(Node node, List<String> requiredModules, long maxEntities) {
+        NodeMetrics metrics = node.metrics();
+        int maxContainers = node.capacity().maxContainers();
+
+        double containerLoad = Math.min(1.0, (double) metrics.containerCount() / maxContainers);
+        double cpuLoad = metrics.cpuUsage();
+        double heapLoad = metrics.heapUsage();
+        double tickOverrun = metrics.tickOverrunRate();
+        double entityLoad = maxEntities > 0 ? (double) metrics.entityCount() / maxEntities : 0.0;
+        double missingModules = requiredModules == null || requiredModules.isEmpty()
+                ? 0.0
+                : (double) metrics.missingModules(requiredModules) / requiredModules.size();
+        // Matches without modules never come from the pool, so every node starts them equally fast
+        double coldStart = requiredModules == null || requiredModules.isEmpty()
+                || metrics.warmContainersFor(requiredModules) > 0 ? 0.0 : 1.0;
+
+        double score = weights.container() * containerLoad
+                + weights.cpu() * cpuLoad
+                + weights.heap() * heapLoad
+                + weights.tickOverrun() * tickOverrun
+                + weights.entity() * entityLoad
+                + weights.module() * missingModules
+                + weights.warmPool() * coldStart;
+
+        return new NodeScore(node, score, containerLoad, cpuLoad, heapLoad, tickOverrun, entityLoad, missingModules,
+                coldStart);
+    }
+}
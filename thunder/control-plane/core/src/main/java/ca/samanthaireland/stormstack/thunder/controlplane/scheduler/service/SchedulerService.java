@@ -24,6 +24,7 @@ package ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
 
 import java.util.List;
 
@@ -34,14 +35,17 @@ public interface SchedulerService {
 
     /**
      * Selects a node to host a new match.
-     * Uses a least-loaded selection algorithm that considers:
+     * Filters out nodes that are not HEALTHY, have no free container slots or are
+     * above the heap threshold, then picks the lowest weighted score over:
      * <ul>
-     *   <li>Node health status (must be HEALTHY)</li>
-     *   <li>Available capacity</li>
-     *   <li>Current load (container and match count)</li>
+     *   <li>Container slot usage</li>
+     *   <li>CPU and heap usage</li>
+     *   <li>Tick overrun rate</li>
+     *   <li>Entity count</li>
+     *   <li>Required modules not yet installed on the node</li>
      * </ul>
      *
-     * @param requiredModules   modules required for the match (reserved for future use)
+     * @param requiredModules   modules required for the match
      * @param preferredNodeId   optional preferred node ID
      * @return the selected node
      * @throws ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoAvailableNodesException if no healthy nodes exist
@@ -49,6 +53,26 @@ public interface SchedulerService {
      */
     Node selectNodeForMatch(List<String> requiredModules, NodeId preferredNodeId);
 
+    /**
+     * Places a burst of matches at once. Each placement is counted against its node
+     * before the next one is chosen, so the burst spreads across the cluster.
+     *
+     * @param count           the number of matches to place
+     * @param requiredModules modules required for the matches
+     * @return the selected node for each match, in placement order
+     * @throws ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoAvailableNodesException if no healthy nodes exist
+     * @throws ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoCapableNodesException if the cluster cannot fit all matches
+     */
+    List<Node> selectNodesForMatches(int count, List<String> requiredModules);
+
+    /**
+     * Scores all nodes that could currently accept a match, best first.
+     *
+     * @param requiredModules modules required for the match
+     * @return the candidate scores in ascending order
+     */
+    List<NodeScore> rankNodes(List<String> requiredModules);
+
     /**
      * Calculates the saturation percentage for a node.
      * Saturation = activeContainers / maxContainers
@@ -22,21 +22,32 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.config.SchedulerConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.service.ClusterNodeView;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
 import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoAvailableNodesException;
 import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoCapableNodesException;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.ScoringWeights;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
- * Implementation of SchedulerService using a least-loaded selection algorithm.
+ * Implementation of SchedulerService using a weighted, multi-dimensional score.
+ *
+ * <p>Nodes are read from a {@link ClusterNodeView} rather than the registry, and
+ * every placement is reserved in the view until the node's next heartbeat.
  *
  * <p>This is a pure domain implementation with no framework dependencies.
  * Dependencies are provided via constructor injection.
@@ -44,20 +55,85 @@ import java.util.Optional;
 public class SchedulerServiceImpl implements SchedulerService {
     private static final Logger log = LoggerFactory.getLogger(SchedulerServiceImpl.class);
 
-    private final NodeRegistryService nodeRegistryService;
+    private final ClusterNodeView nodeView;
+    private final NodeScorer scorer;
+    private final double maxHeapUsage;
 
     /**
-     * Creates a new SchedulerServiceImpl.
+     * Creates a new SchedulerServiceImpl that reads the registry on every call and
+     * uses the default weights.
      *
      * @param nodeRegistryService the node registry service
      */
     public SchedulerServiceImpl(NodeRegistryService nodeRegistryService) {
-        this.nodeRegistryService = nodeRegistryService;
+        this(new ClusterNodeView(nodeRegistryService::findAll, Duration.ZERO, Clock.systemUTC()),
+                ScoringWeights.defaults(), 1.0);
+    }
+
+    /**
+     * Creates a new SchedulerServiceImpl.
+     *
+     * @param nodeView the cached cluster node view
+     * @param config   the scheduler configuration
+     */
+    public SchedulerServiceImpl(ClusterNodeView nodeView, SchedulerConfiguration config) {
+        this(nodeView, ScoringWeights.from(config), config.maxHeapUsage());
+    }
+
+    /**
+     * Creates a new SchedulerServiceImpl.
+     *
+     * @param nodeView     the cluster node view
+     * @param weights      the scoring weights
+     * @param maxHeapUsage heap usage above which nodes are not considered
+     */
+    public SchedulerServiceImpl(ClusterNodeView nodeView, ScoringWeights weights, double maxHeapUsage) {
+        this.nodeView = nodeView;
+        this.scorer = new NodeScorer(weights);
+        this.maxHeapUsage = maxHeapUsage;
     }
 
     @Override
     public Node selectNodeForMatch(List<String> requiredModules, NodeId preferredNodeId) {
-        List<Node> healthyNodes = nodeRegistryService.findAll().stream()
+        Node selected = select(nodeView.nodes(), requiredModules, preferredNodeId);
+        nodeView.reserve(selected.nodeId(), 1);
+        return selected;
+    }
+
+    @Override
+    public List<Node> selectNodesForMatches(int count, List<String> requiredModules) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        // Place against a working copy so a partial burst reserves nothing
+        List<Node> working = new ArrayList<>(nodeView.nodes());
+        List<Node> placements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Node selected = select(working, requiredModules, null);
+            placements.add(selected);
+            working.replaceAll(n -> n.nodeId().equals(selected.nodeId()) ? n.withReservedContainers(1) : n);
+        }
+
+        Map<NodeId, Integer> perNode = new HashMap<>();
+        placements.forEach(n -> perNode.merge(n.nodeId(), 1, Integer::sum));
+        perNode.forEach(nodeView::reserve);
+
+        log.info("Placed {} matches across {} nodes", count, perNode.size());
+        return placements;
+    }
+
+    @Override
+    public List<NodeScore> rankNodes(List<String> requiredModules) {
+        List<Node> capableNodes = nodeView.nodes().stream()
+                .filter(n -> n.status() == NodeStatus.HEALTHY)
+                .filter(this::canPlace)
+                .toList();
+        return scorer.rank(capableNodes, requiredModules);
+    }
+
+    private Node select(List<Node> nodes, List<String> requiredModules, NodeId preferredNodeId) {
+        List<Node> healthyNodes = nodes.stream()
                 .filter(n -> n.status() == NodeStatus.HEALTHY)
                 .toList();
 
@@ -66,9 +142,9 @@ public class SchedulerServiceImpl implements SchedulerService {
             throw new NoAvailableNodesException();
         }
 
-        // Filter nodes that have capacity
+        // Filter nodes that have capacity and heap headroom
         List<Node> capableNodes = healthyNodes.stream()
-                .filter(Node::canAcceptContainers)
+                .filter(this::canPlace)
                 .toList();
 
         if (capableNodes.isEmpty()) {
@@ -86,19 +162,20 @@ public class SchedulerServiceImpl implements SchedulerService {
                 log.debug("Using preferred node {} for match", preferredNodeId);
                 return preferred.get();
             } else {
-                log.debug("Preferred node {} not available, using least-loaded", preferredNodeId);
+                log.debug("Preferred node {} not available, using best-scored", preferredNodeId);
             }
         }
 
-        // Select least-loaded node (lowest saturation)
-        Node selected = capableNodes.stream()
-                .min(Comparator.comparingDouble(this::calculateSaturation))
-                .orElseThrow(() -> new NoCapableNodesException(requiredModules));
+        NodeScore best = scorer.rank(capableNodes, requiredModules).getFirst();
+        log.debug("Selected node {} with score {} (containers={}, cpu={}, heap={}, overrun={}, entities={}, missingModules={}, coldStart={})",
+                best.node().nodeId(), best.score(), best.containerLoad(), best.cpuLoad(), best.heapLoad(),
+                best.tickOverrun(), best.entityLoad(), best.missingModules(), best.coldStart());
 
-        log.debug("Selected node {} with saturation {:.2f}%",
-                selected.nodeId(), calculateSaturation(selected) * 100);
+        return best.node();
+    }
 
-        return selected;
+    private boolean canPlace(Node node) {
+        return node.canAcceptContainers() && node.metrics().heapUsage() <= maxHeapUsage;
     }
 
     @Override
@@ -113,7 +190,7 @@ public class SchedulerServiceImpl implements SchedulerService {
 
     @Override
     public double getClusterSaturation() {
-        List<Node> healthyNodes = nodeRegistryService.findAll().stream()
+        List<Node> healthyNodes = nodeView.nodes().stream()
                 .filter(n -> n.status() == NodeStatus.HEALTHY)
                 .toList();
 
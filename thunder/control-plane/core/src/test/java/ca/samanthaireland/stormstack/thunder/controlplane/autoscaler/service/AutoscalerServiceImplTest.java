@@ -26,8 +26,11 @@ import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.Scali
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingRecommendation;
 import ca.samanthaireland.stormstack.thunder.controlplane.config.AutoscalerConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.SaturationForecast;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
 import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service.SchedulerService;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,10 +41,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -383,6 +388,140 @@ class AutoscalerServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("predictive scaling")
+    class PredictiveScaling {
+
+        private static final Instant START = Instant.parse("2026-01-01T18:00:00Z");
+
+        private NodeMetricsHistory history;
+
+        @BeforeEach
+        void setUpPredictive() {
+            history = new NodeMetricsHistory(60);
+            autoscalerService = new AutoscalerServiceImpl(nodeRegistryService, schedulerService, config, history);
+            lenient().when(config.enabled()).thenReturn(true);
+            lenient().when(config.predictiveEnabled()).thenReturn(true);
+            lenient().when(config.smoothingAlpha()).thenReturn(0.8);
+            lenient().when(config.trendBeta()).thenReturn(0.5);
+            lenient().when(config.scaleUpThreshold()).thenReturn(0.8);
+            lenient().when(config.scaleDownThreshold()).thenReturn(0.3);
+            lenient().when(config.maxTickOverrunRate()).thenReturn(0.1);
+            lenient().when(config.maxNodes()).thenReturn(10);
+            lenient().when(config.minNodes()).thenReturn(1);
+            lenient().when(config.targetSaturation()).thenReturn(0.6);
+        }
+
+        @Test
+        @DisplayName("should scale up ahead of a forecast ramp")
+        void shouldScaleUpAheadOfRamp() {
+            // Arrange - 55% now, climbing 5 points every 10 seconds
+            when(config.forecastHorizonSeconds()).thenReturn(120);
+            Node latest = feed("node-1", 0.0, 30, 35, 40, 45, 50, 55);
+            when(nodeRegistryService.findAll()).thenReturn(List.of(latest));
+            when(schedulerService.getClusterSaturation()).thenReturn(0.55);
+
+            // Act
+            ScalingRecommendation recommendation = autoscalerService.getRecommendation();
+
+            // Assert
+            assertThat(recommendation.action()).isEqualTo(ScalingAction.SCALE_UP);
+            assertThat(recommendation.reason()).contains("Forecast saturation");
+            assertThat(recommendation.currentSaturation()).isEqualTo(0.55);
+        }
+
+        @Test
+        @DisplayName("should stay put when predictive scaling is disabled")
+        void shouldIgnoreForecastWhenDisabled() {
+            // Arrange
+            when(config.predictiveEnabled()).thenReturn(false);
+            Node latest = feed("node-1", 0.0, 30, 35, 40, 45, 50, 55);
+            when(nodeRegistryService.findAll()).thenReturn(List.of(latest));
+            when(schedulerService.getClusterSaturation()).thenReturn(0.55);
+
+            // Act
+            ScalingRecommendation recommendation = autoscalerService.getRecommendation();
+
+            // Assert
+            assertThat(recommendation.action()).isEqualTo(ScalingAction.NONE);
+        }
+
+        @Test
+        @DisplayName("should scale up when tick overruns are forecast to exceed the limit")
+        void shouldScaleUpOnForecastTickOverrun() {
+            // Arrange - saturation is flat at 50% but containers are starting to overrun
+            when(config.forecastHorizonSeconds()).thenReturn(60);
+            Node latest = feed("node-1", 0.1, 50, 50, 50, 50);
+            when(nodeRegistryService.findAll()).thenReturn(List.of(latest));
+            when(schedulerService.getClusterSaturation()).thenReturn(0.5);
+
+            // Act
+            ScalingRecommendation recommendation = autoscalerService.getRecommendation();
+
+            // Assert
+            assertThat(recommendation.action()).isEqualTo(ScalingAction.SCALE_UP);
+            assertThat(recommendation.reason()).contains("tick overrun");
+        }
+
+        @Test
+        @DisplayName("should hold scale-down while the forecast is rising")
+        void shouldHoldScaleDownWhileRising() {
+            // Arrange - 25% now but climbing
+            when(config.forecastHorizonSeconds()).thenReturn(30);
+            Node latest = feed("node-1", 0.0, 10, 15, 20, 25);
+            when(nodeRegistryService.findAll()).thenReturn(List.of(latest));
+            when(schedulerService.getClusterSaturation()).thenReturn(0.25);
+
+            // Act
+            ScalingRecommendation recommendation = autoscalerService.getRecommendation();
+
+            // Assert
+            assertThat(recommendation.action()).isEqualTo(ScalingAction.NONE);
+            assertThat(recommendation.reason()).contains("holding");
+        }
+
+        @Test
+        @DisplayName("should weight node forecasts by capacity")
+        void shouldWeightForecastsByCapacity() {
+            // Arrange - a flat node with 3x the capacity of a flat, fuller node
+            when(config.forecastHorizonSeconds()).thenReturn(60);
+            Node small = feed("small", 0.0, 80, 80, 80);
+            Node large = Node.register("large", "http://large:8080", new NodeCapacity(300))
+                    .withHeartbeat(new NodeMetrics(60, 60, 0.1, 128, 512));
+            when(nodeRegistryService.findAll()).thenReturn(List.of(small, large));
+            when(schedulerService.getClusterSaturation()).thenReturn(0.35);
+
+            // Act
+            SaturationForecast forecast = autoscalerService.getForecast();
+
+            // Assert - (0.8 * 100 + 0.2 * 300) / 400
+            assertThat(forecast.forecastSaturation()).isCloseTo(0.35, within(1e-9));
+            assertThat(forecast.nodesSampled()).isEqualTo(1);
+            assertThat(forecast.samples()).isEqualTo(4);
+        }
+
+        /**
+         * Feeds heartbeats 10 seconds apart into the history and returns the latest node state.
+         */
+        private Node feed(String nodeId, double overrunStep, int... containerCounts) {
+            Node node = null;
+            for (int i = 0; i < containerCounts.length; i++) {
+                double overrun = Math.min(1.0, overrunStep * i);
+                node = new Node(
+                        NodeId.of(nodeId),
+                        "http://" + nodeId + ":8080",
+                        NodeStatus.HEALTHY,
+                        new NodeCapacity(100),
+                        new NodeMetrics(containerCounts[i], containerCounts[i], 0.5, 256, 512, 0, overrun, List.of()),
+                        START,
+                        START.plusSeconds(i * 10L)
+                );
+                history.nodeUpdated(node);
+            }
+            return node;
+        }
+    }
+
     // Helper methods
 
     private Node createNodeWithMetrics(String nodeId, int containerCount, int maxContainers) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.MetricsSample;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link HoltForecaster}.
+ */
+@DisplayName("HoltForecaster")
+class HoltForecasterTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T18:00:00Z");
+
+    @Test
+    @DisplayName("should have no trend for a flat series")
+    void shouldHaveNoTrendForFlatSeries() {
+        // Arrange
+        HoltForecaster forecaster = new HoltForecaster(0.5, 0.3);
+
+        // Act
+        HoltForecaster.Fit fit = forecaster.fit(series(10, 0.5, 0.5, 0.5, 0.5), MetricsSample::saturation);
+
+        // Assert
+        assertThat(fit.level()).isCloseTo(0.5, within(1e-9));
+        assertThat(fit.trendPerSecond()).isCloseTo(0.0, within(1e-9));
+        assertThat(fit.forecast(300)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("should track a steady ramp")
+    void shouldTrackSteadyRamp() {
+        // Arrange - +0.05 every 10s = 0.005/s
+        HoltForecaster forecaster = new HoltForecaster(0.8, 0.5);
+        List<MetricsSample> ramp = series(10, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45);
+
+        // Act
+        HoltForecaster.Fit fit = forecaster.fit(ramp, MetricsSample::saturation);
+
+        // Assert
+        assertThat(fit.last()).isEqualTo(0.45);
+        assertThat(fit.trendPerSecond()).isCloseTo(0.005, within(0.0005));
+        assertThat(fit.forecast(60)).isCloseTo(0.75, within(0.03));
+    }
+
+    @Test
+    @DisplayName("should use elapsed time between irregular samples")
+    void shouldUseElapsedTimeForIrregularSamples() {
+        // Arrange - same slope, but one heartbeat arrived late
+        HoltForecaster forecaster = new HoltForecaster(1.0, 1.0);
+        List<MetricsSample> samples = List.of(
+                sample(0, 0.2),
+                sample(10, 0.3),
+                sample(40, 0.6)
+        );
+
+        // Act
+        HoltForecaster.Fit fit = forecaster.fit(samples, MetricsSample::saturation);
+
+        // Assert
+        assertThat(fit.trendPerSecond()).isCloseTo(0.01, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("should clamp forecasts to the unit range")
+    void shouldClampForecasts() {
+        // Arrange
+        HoltForecaster.Fit rising = new HoltForecaster.Fit(0.9, 0.9, 0.01);
+        HoltForecaster.Fit falling = new HoltForecaster.Fit(0.1, 0.1, -0.01);
+
+        // Act & Assert
+        assertThat(rising.forecast(300)).isEqualTo(1.0);
+        assertThat(falling.forecast(300)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("should reject out-of-range smoothing factors")
+    void shouldRejectInvalidFactors() {
+        assertThatThrownBy(() -> new HoltForecaster(0.0, 0.3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HoltForecaster(0.5, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<MetricsSample> series(int intervalSeconds, double... saturations) {
+        List<MetricsSample> samples = new ArrayList<>();
+        for (int i = 0; i < saturations.length; i++) {
+            samples.add(sample(i * intervalSeconds, saturations[i]));
+        }
+        return samples;
+    }
+
+    private static MetricsSample sample(int offsetSeconds, double saturation) {
+        return new MetricsSample(START.plusSeconds(offsetSeconds), saturation, 0.0, 0.0, 0.0);
+    }
+}
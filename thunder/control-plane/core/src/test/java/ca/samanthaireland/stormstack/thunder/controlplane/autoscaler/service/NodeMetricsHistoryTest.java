@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.MetricsSample;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link NodeMetricsHistory}.
+ */
+@DisplayName("NodeMetricsHistory")
+class NodeMetricsHistoryTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T18:00:00Z");
+    private static final NodeId NODE_ID = NodeId.of("node-1");
+
+    @Test
+    @DisplayName("should record one sample per heartbeat")
+    void shouldRecordSamplePerHeartbeat() {
+        // Arrange
+        NodeMetricsHistory history = new NodeMetricsHistory(10);
+
+        // Act
+        history.nodeUpdated(node(0, 10));
+        history.nodeUpdated(node(10, 20));
+
+        // Assert
+        assertThat(history.samples(NODE_ID))
+                .extracting(MetricsSample::saturation)
+                .containsExactly(0.1, 0.2);
+    }
+
+    @Test
+    @DisplayName("should ignore updates without a newer heartbeat")
+    void shouldIgnoreUpdatesWithoutNewHeartbeat() {
+        // Arrange
+        NodeMetricsHistory history = new NodeMetricsHistory(10);
+        history.nodeUpdated(node(10, 20));
+
+        // Act - e.g. a drain, which keeps the last heartbeat
+        history.nodeUpdated(node(10, 20));
+        history.nodeUpdated(node(5, 30));
+
+        // Assert
+        assertThat(history.samples(NODE_ID)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should drop the oldest sample when full")
+    void shouldDropOldestSampleWhenFull() {
+        // Arrange
+        NodeMetricsHistory history = new NodeMetricsHistory(3);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            history.nodeUpdated(node(i * 10, i * 10));
+        }
+
+        // Assert
+        assertThat(history.samples(NODE_ID))
+                .extracting(MetricsSample::saturation)
+                .containsExactly(0.2, 0.3, 0.4);
+    }
+
+    @Test
+    @DisplayName("should forget removed nodes")
+    void shouldForgetRemovedNodes() {
+        // Arrange
+        NodeMetricsHistory history = new NodeMetricsHistory(10);
+        history.nodeUpdated(node(0, 10));
+
+        // Act
+        history.nodeRemoved(NODE_ID);
+
+        // Assert
+        assertThat(history.samples(NODE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should forget nodes that are no longer registered")
+    void shouldForgetUnregisteredNodes() {
+        // Arrange
+        NodeMetricsHistory history = new NodeMetricsHistory(10);
+        history.nodeUpdated(node(0, 10));
+
+        // Act
+        history.retainOnly(List.of(NodeId.of("node-2")));
+
+        // Assert
+        assertThat(history.samples(NODE_ID)).isEmpty();
+    }
+
+    private static Node node(int offsetSeconds, int containers) {
+        Instant heartbeat = START.plusSeconds(offsetSeconds);
+        return new Node(
+                NODE_ID,
+                "http://node-1:8080",
+                NodeStatus.HEALTHY,
+                new NodeCapacity(100),
+                new NodeMetrics(containers, containers, 0.5, 256, 512),
+                START,
+                heartbeat
+        );
+    }
+}
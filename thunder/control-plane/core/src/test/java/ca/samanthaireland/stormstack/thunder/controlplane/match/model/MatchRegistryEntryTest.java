@@ -202,4 +202,27 @@ class MatchRegistryEntryTest {
         assertThat(finished.playerCount()).isEqualTo(5);
         assertThat(finished.createdAt()).isEqualTo(original.createdAt());
     }
+
+    @Test
+    void migratedTo_movesHostAndKeepsIdentity() {
+        // Arrange
+        ClusterMatchId matchId = ClusterMatchId.of("node-1", 42L, 1L);
+        MatchRegistryEntry original = MatchRegistryEntry.creating(
+                matchId, NodeId.of("node-1"), 42L, List.of("module-a"), "http://node1:8080", 8
+        ).running().withPlayerCount(3);
+
+        // Act
+        MatchRegistryEntry migrated = original.migratedTo(NodeId.of("node-2"), 7L, "https://node2:8443");
+
+        // Assert
+        assertThat(migrated.matchId()).isEqualTo(matchId);
+        assertThat(migrated.nodeId()).isEqualTo(NodeId.of("node-2"));
+        assertThat(migrated.containerId()).isEqualTo(7L);
+        assertThat(migrated.advertiseAddress()).isEqualTo("https://node2:8443");
+        assertThat(migrated.websocketUrl()).isEqualTo("wss://node2:8443/ws/containers/7/matches/1/snapshot");
+        assertThat(migrated.status()).isEqualTo(MatchStatus.RUNNING);
+        assertThat(migrated.playerCount()).isEqualTo(3);
+        assertThat(migrated.playerLimit()).isEqualTo(8);
+        assertThat(migrated.createdAt()).isEqualTo(original.createdAt());
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.match.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchMigrationException;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchNotFoundException;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.EvacuationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MigrationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.repository.MatchRegistry;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service.SchedulerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link MatchMigrationServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchMigrationServiceImpl")
+class MatchMigrationServiceImplTest {
+
+    private static final ClusterMatchId MATCH_ID = ClusterMatchId.of("node-1", 10L, 3L);
+    private static final List<String> MODULES = List.of("EntityModule");
+
+    @Mock
+    private SchedulerService schedulerService;
+
+    @Mock
+    private NodeRegistryService nodeRegistryService;
+
+    @Mock
+    private LightningNodeClient nodeClient;
+
+    @Mock
+    private MatchRegistry matchRegistry;
+
+    private MatchMigrationServiceImpl migrationService;
+    private MatchRegistryEntry entry;
+    private Node target;
+
+    @BeforeEach
+    void setUp() {
+        migrationService = new MatchMigrationServiceImpl(schedulerService, nodeRegistryService, nodeClient, matchRegistry);
+        entry = MatchRegistryEntry.creating(MATCH_ID, NodeId.of("node-1"), 10L, MODULES, "http://node1:8080")
+                .running();
+        target = Node.register(NodeId.of("node-2"), "http://node2:8080", NodeCapacity.defaultCapacity());
+    }
+
+    private void givenTargetContainer() {
+        when(matchRegistry.findById(MATCH_ID)).thenReturn(Optional.of(entry));
+        when(schedulerService.rankNodes(MODULES)).thenReturn(List.of(score(entry.nodeId()), score(target)));
+        when(nodeClient.createContainer(target, MODULES)).thenReturn(20L);
+        when(nodeClient.beginMigration(any(), eq(10L), eq(3L))).thenReturn("state");
+        when(nodeClient.freezeMigration(any(), eq(10L), eq(3L))).thenReturn("delta");
+    }
+
+    @Nested
+    @DisplayName("migrate")
+    class Migrate {
+
+        @Test
+        @DisplayName("should copy, replay, switch the registry and redirect clients")
+        void shouldMigrateWithVerifiedReplay() {
+            givenTargetContainer();
+            when(nodeClient.catchUpMigration(target, 20L, 3L, "delta")).thenReturn(true);
+            when(nodeClient.redirectClients(any(), eq(10L), eq(3L), eq(target), eq(20L))).thenReturn(2);
+
+            MigrationResult result = migrationService.migrate(MATCH_ID, null);
+
+            assertThat(result.targetNodeId()).isEqualTo(NodeId.of("node-2"));
+            assertThat(result.targetContainerId()).isEqualTo(20L);
+            assertThat(result.replayVerified()).isTrue();
+            assertThat(result.redirectedClients()).isEqualTo(2);
+
+            InOrder order = inOrder(nodeClient, matchRegistry);
+            order.verify(nodeClient).beginMigration(any(), eq(10L), eq(3L));
+            order.verify(nodeClient).restoreMatchState(target, 20L, 3L, "state");
+            order.verify(nodeClient).freezeMigration(any(), eq(10L), eq(3L));
+            order.verify(nodeClient).catchUpMigration(target, 20L, 3L, "delta");
+            ArgumentCaptor<MatchRegistryEntry> saved = ArgumentCaptor.forClass(MatchRegistryEntry.class);
+            order.verify(matchRegistry).save(saved.capture());
+            order.verify(nodeClient).redirectClients(any(), eq(10L), eq(3L), eq(target), eq(20L));
+            order.verify(nodeClient).deleteContainer(any(), eq(10L));
+
+            assertThat(saved.getValue().matchId()).isEqualTo(MATCH_ID);
+            assertThat(saved.getValue().nodeId()).isEqualTo(NodeId.of("node-2"));
+            assertThat(saved.getValue().containerId()).isEqualTo(20L);
+            verify(nodeClient, never()).captureMatchState(any(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("should copy the frozen match when the replay diverges")
+        void shouldFallBackToStopAndCopy() {
+            givenTargetContainer();
+            when(nodeClient.catchUpMigration(target, 20L, 3L, "delta")).thenReturn(false, true);
+            when(nodeClient.captureMatchState(any(), eq(10L), eq(3L))).thenReturn("frozen-state");
+
+            MigrationResult result = migrationService.migrate(MATCH_ID, null);
+
+            assertThat(result.replayVerified()).isFalse();
+            verify(nodeClient).restoreMatchState(target, 20L, 3L, "frozen-state");
+            verify(matchRegistry).save(any(MatchRegistryEntry.class));
+        }
+
+        @Test
+        @DisplayName("should resume the source and discard the target when a step fails")
+        void shouldRollBackOnFailure() {
+            givenTargetContainer();
+            doThrow(new RuntimeException("node-2 unreachable"))
+                    .when(nodeClient).catchUpMigration(target, 20L, 3L, "delta");
+
+            assertThatThrownBy(() -> migrationService.migrate(MATCH_ID, null))
+                    .isInstanceOf(MatchMigrationException.class)
+                    .hasMessageContaining("node-2 unreachable");
+
+            verify(nodeClient).abortMigration(any(), eq(10L), eq(3L));
+            verify(nodeClient).deleteContainer(target, 20L);
+            verify(matchRegistry, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should move to the requested node")
+        void shouldUseRequestedTarget() {
+            when(matchRegistry.findById(MATCH_ID)).thenReturn(Optional.of(entry));
+            when(nodeRegistryService.findById(NodeId.of("node-2"))).thenReturn(Optional.of(target));
+            when(nodeClient.createContainer(target, MODULES)).thenReturn(20L);
+            when(nodeClient.beginMigration(any(), eq(10L), eq(3L))).thenReturn("state");
+            when(nodeClient.freezeMigration(any(), eq(10L), eq(3L))).thenReturn("delta");
+            when(nodeClient.catchUpMigration(target, 20L, 3L, "delta")).thenReturn(true);
+
+            MigrationResult result = migrationService.migrate(MATCH_ID, NodeId.of("node-2"));
+
+            assertThat(result.targetNodeId()).isEqualTo(NodeId.of("node-2"));
+            verifyNoInteractions(schedulerService);
+        }
+
+        @Test
+        @DisplayName("should reject moving a match to the node it runs on")
+        void shouldRejectSameNode() {
+            when(matchRegistry.findById(MATCH_ID)).thenReturn(Optional.of(entry));
+
+            assertThatThrownBy(() -> migrationService.migrate(MATCH_ID, NodeId.of("node-1")))
+                    .isInstanceOf(MatchMigrationException.class);
+            verifyNoInteractions(nodeClient);
+        }
+
+        @Test
+        @DisplayName("should only migrate running matches")
+        void shouldRejectFinishedMatch() {
+            when(matchRegistry.findById(MATCH_ID)).thenReturn(Optional.of(entry.finished()));
+
+            assertThatThrownBy(() -> migrationService.migrate(MATCH_ID, null))
+                    .isInstanceOf(MatchMigrationException.class)
+                    .hasMessageContaining("FINISHED");
+        }
+
+        @Test
+        @DisplayName("should throw when the match does not exist")
+        void shouldThrowForUnknownMatch() {
+            when(matchRegistry.findById(MATCH_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> migrationService.migrate(MATCH_ID, null))
+                    .isInstanceOf(MatchNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("evacuate")
+    class Evacuate {
+
+        @Test
+        @DisplayName("should drain the node and report matches that could not move")
+        void shouldDrainAndMigrateEveryMatch() {
+            ClusterMatchId stuckId = ClusterMatchId.of("node-1", 11L, 4L);
+            MatchRegistryEntry stuck = MatchRegistryEntry.creating(stuckId, NodeId.of("node-1"), 11L, MODULES,
+                    "http://node1:8080").running();
+            when(matchRegistry.findPage(MatchStatus.RUNNING, NodeId.of("node-1"), null, 100))
+                    .thenReturn(new MatchPage(List.of(entry), MATCH_ID.value()));
+            when(matchRegistry.findPage(MatchStatus.RUNNING, NodeId.of("node-1"), MATCH_ID.value(), 100))
+                    .thenReturn(new MatchPage(List.of(stuck), null));
+            givenTargetContainer();
+            when(nodeClient.catchUpMigration(target, 20L, 3L, "delta")).thenReturn(true);
+            when(matchRegistry.findById(stuckId)).thenReturn(Optional.of(stuck));
+            when(nodeClient.createContainer(target, MODULES)).thenReturn(20L, 21L);
+            when(nodeClient.beginMigration(any(), eq(11L), eq(4L))).thenThrow(new RuntimeException("timeout"));
+
+            EvacuationResult result = migrationService.evacuate(NodeId.of("node-1"));
+
+            verify(nodeRegistryService).drain(NodeId.of("node-1"));
+            assertThat(result.migrated()).extracting(MigrationResult::matchId).containsExactly(MATCH_ID);
+            assertThat(result.failed()).containsExactly(stuckId);
+            verify(nodeClient).deleteContainer(target, 21L);
+        }
+    }
+
+    private NodeScore score(Node node) {
+        return new NodeScore(node, 0.1, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    private NodeScore score(NodeId nodeId) {
+        return score(Node.register(nodeId, "http://" + nodeId.value() + ":8080", NodeCapacity.defaultCapacity()));
+    }
+}
@@ -169,6 +169,34 @@ class MatchRoutingServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("createMatches")
+    class CreateMatches {
+
+        @Test
+        @DisplayName("should create one match per placement")
+        void shouldCreateOneMatchPerPlacement() {
+            // Arrange
+            List<String> modules = List.of("EntityModule");
+            Node node1 = createNode("node-1", "http://node1:8080");
+            Node node2 = createNode("node-2", "http://node2:8080");
+
+            when(schedulerService.selectNodesForMatches(2, modules)).thenReturn(List.of(node1, node2));
+            when(nodeClient.createContainer(any(Node.class), eq(modules))).thenReturn(7L);
+            when(nodeClient.createMatch(any(Node.class), eq(7L), eq(modules))).thenReturn(1L);
+            when(matchRegistry.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            List<MatchRegistryEntry> result = matchRoutingService.createMatches(modules, 2, 16);
+
+            // Assert
+            assertThat(result).extracting(MatchRegistryEntry::nodeId)
+                    .containsExactly(NodeId.of("node-1"), NodeId.of("node-2"));
+            assertThat(result).allSatisfy(entry -> assertThat(entry.playerLimit()).isEqualTo(16));
+            verify(matchRegistry, times(2)).save(any(MatchRegistryEntry.class));
+        }
+    }
+
     @Nested
     @DisplayName("findById")
     class FindById {
@@ -23,6 +23,7 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.module.service;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.client.NodeRequestException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.exception.ModuleDistributionException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.exception.ModuleNotFoundException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.model.ModuleMetadata;
@@ -42,14 +43,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,6 +74,8 @@ import static org.mockito.Mockito.when;
 @DisplayName("ModuleDistributionServiceImpl")
 class ModuleDistributionServiceImplTest {
 
+    private static final String CHECKSUM = "abc123def456";
+
     @Mock
     private ModuleRepository moduleRepository;
 
@@ -93,15 +107,36 @@ class ModuleDistributionServiceImplTest {
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
+            stubJar(jarContent);
+            when(nodeRegistryService.findById(nodeId)).thenReturn(Optional.of(node));
+            stubChunkUploads();
+
+            // Act
+            service.distributeToNode("test-module", "1.0.0", nodeId);
+
+            // Assert
+            verify(nodeClient).uploadModuleChunk(eq(node), eq(CHECKSUM), eq(0L), any(), eq(jarContent.length));
+            verify(nodeClient).completeModuleTransfer(node, CHECKSUM, "test-module-1.0.0.jar");
+        }
+
+        @Test
+        @DisplayName("should skip node that already has the module checksum")
+        void shouldSkipNodeThatAlreadyHasModuleChecksum() {
+            // Arrange
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            Node node = createNodeWithHashes("node-1", CHECKSUM);
+            NodeId nodeId = NodeId.of("node-1");
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
             when(nodeRegistryService.findById(nodeId)).thenReturn(Optional.of(node));
 
             // Act
             service.distributeToNode("test-module", "1.0.0", nodeId);
 
             // Assert
-            verify(nodeClient).uploadModule(eq(node), eq("test-module"), eq("1.0.0"), eq("test-module-1.0.0.jar"), any());
+            verify(nodeClient, never()).getModuleTransferOffset(any(), any());
+            verify(nodeClient, never()).completeModuleTransfer(any(), any(), any());
         }
 
         @Test
@@ -115,7 +150,7 @@ class ModuleDistributionServiceImplTest {
             // Act & Assert
             assertThatThrownBy(() -> service.distributeToNode("nonexistent", "1.0.0", nodeId))
                     .isInstanceOf(ModuleNotFoundException.class);
-            verify(nodeClient, never()).uploadModule(any(), any(), any(), any(), any());
+            verify(nodeClient, never()).completeModuleTransfer(any(), any(), any());
         }
 
         @Test
@@ -123,19 +158,16 @@ class ModuleDistributionServiceImplTest {
         void shouldThrowExceptionWhenNodeNotFound() {
             // Arrange
             ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
-            byte[] jarContent = "jar content".getBytes();
             NodeId nodeId = NodeId.of("nonexistent");
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
             when(nodeRegistryService.findById(nodeId)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> service.distributeToNode("test-module", "1.0.0", nodeId))
                     .isInstanceOf(NodeNotFoundException.class);
-            verify(nodeClient, never()).uploadModule(any(), any(), any(), any(), any());
+            verify(nodeClient, never()).completeModuleTransfer(any(), any(), any());
         }
 
         @Test
@@ -143,21 +175,42 @@ class ModuleDistributionServiceImplTest {
         void shouldThrowExceptionWhenDistributionFails() {
             // Arrange
             ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
-            byte[] jarContent = "jar content".getBytes();
             Node node = createHealthyNode("node-1");
             NodeId nodeId = NodeId.of("node-1");
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
             when(nodeRegistryService.findById(nodeId)).thenReturn(Optional.of(node));
-            doThrow(new RuntimeException("Connection failed"))
-                    .when(nodeClient).uploadModule(any(), any(), any(), any(), any());
+            when(nodeClient.getModuleTransferOffset(any(), any()))
+                    .thenThrow(new RuntimeException("Connection failed"));
 
             // Act & Assert
             assertThatThrownBy(() -> service.distributeToNode("test-module", "1.0.0", nodeId))
                     .isInstanceOf(ModuleDistributionException.class);
+            verify(nodeClient, times(4)).getModuleTransferOffset(node, CHECKSUM);
+            verify(nodeClient).abortModuleTransfer(node, CHECKSUM);
+        }
+
+        @Test
+        @DisplayName("should not retry a transfer the node rejects")
+        void shouldNotRetryRejectedTransfer() {
+            // Arrange
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            Node node = createHealthyNode("node-1");
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar("0123456789".getBytes());
+            when(nodeRegistryService.findById(node.nodeId())).thenReturn(Optional.of(node));
+            when(nodeClient.uploadModuleChunk(any(), anyString(), anyLong(), any(), anyInt()))
+                    .thenThrow(new NodeRequestException("Transfer too large", 413));
+
+            // Act & Assert
+            assertThatThrownBy(() -> service.distributeToNode("test-module", "1.0.0", node.nodeId()))
+                    .isInstanceOf(ModuleDistributionException.class);
+            verify(nodeClient, times(1)).getModuleTransferOffset(node, CHECKSUM);
+            verify(nodeClient).abortModuleTransfer(node, CHECKSUM);
+            verify(nodeClient, never()).completeModuleTransfer(any(), any(), any());
         }
     }
 
@@ -176,16 +229,16 @@ class ModuleDistributionServiceImplTest {
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
+            stubJar(jarContent);
             when(nodeRegistryService.findAll()).thenReturn(List.of(node1, node2));
+            stubChunkUploads();
 
             // Act
             int count = service.distributeToAllNodes("test-module", "1.0.0");
 
             // Assert
             assertThat(count).isEqualTo(2);
-            verify(nodeClient, times(2)).uploadModule(any(), any(), any(), any(), any());
+            verify(nodeClient, times(2)).completeModuleTransfer(any(), any(), any());
         }
 
         @Test
@@ -199,16 +252,16 @@ class ModuleDistributionServiceImplTest {
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
+            stubJar(jarContent);
             when(nodeRegistryService.findAll()).thenReturn(List.of(healthy, draining));
+            stubChunkUploads();
 
             // Act
             int count = service.distributeToAllNodes("test-module", "1.0.0");
 
             // Assert
             assertThat(count).isEqualTo(1);
-            verify(nodeClient, times(1)).uploadModule(any(), any(), any(), any(), any());
+            verify(nodeClient, times(1)).completeModuleTransfer(any(), any(), any());
         }
 
         @Test
@@ -222,21 +275,20 @@ class ModuleDistributionServiceImplTest {
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
+            stubJar(jarContent);
             when(nodeRegistryService.findAll()).thenReturn(List.of(node1, node2));
+            stubChunkUploads();
 
-            // First call throws, second succeeds
+            // node-1 fails on every attempt, node-2 succeeds
             doThrow(new RuntimeException("Connection failed"))
-                    .doNothing()
-                    .when(nodeClient).uploadModule(any(), any(), any(), any(), any());
+                    .when(nodeClient).completeModuleTransfer(eq(node1), any(), any());
 
             // Act
             int count = service.distributeToAllNodes("test-module", "1.0.0");
 
             // Assert - only 1 success
             assertThat(count).isEqualTo(1);
-            verify(nodeClient, times(2)).uploadModule(any(), any(), any(), any(), any());
+            verify(nodeClient).completeModuleTransfer(eq(node2), any(), any());
         }
 
         @Test
@@ -244,13 +296,10 @@ class ModuleDistributionServiceImplTest {
         void shouldReturnZeroWhenNoHealthyNodes() {
             // Arrange
             ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
-            byte[] jarContent = "jar content".getBytes();
             Node draining = createDrainingNode("node-1");
 
             when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
                     .thenReturn(Optional.of(metadata));
-            when(moduleRepository.getJarFile("test-module", "1.0.0"))
-                    .thenReturn(Optional.of(new ByteArrayInputStream(jarContent)));
             when(nodeRegistryService.findAll()).thenReturn(List.of(draining));
 
             // Act
@@ -258,7 +307,7 @@ class ModuleDistributionServiceImplTest {
 
             // Assert
             assertThat(count).isZero();
-            verify(nodeClient, never()).uploadModule(any(), any(), any(), any(), any());
+            verify(nodeClient, never()).completeModuleTransfer(any(), any(), any());
         }
 
         @Test
@@ -272,10 +321,218 @@ class ModuleDistributionServiceImplTest {
             assertThatThrownBy(() -> service.distributeToAllNodes("nonexistent", "1.0.0"))
                     .isInstanceOf(ModuleNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("should count nodes with matching checksum as distributed without transferring")
+        void shouldCountNodesWithMatchingChecksumWithoutTransferring() {
+            // Arrange
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            byte[] jarContent = "jar content".getBytes();
+            Node upToDate = createNodeWithHashes("node-1", CHECKSUM);
+            Node stale = createNodeWithHashes("node-2", "0ther");
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar(jarContent);
+            when(nodeRegistryService.findAll()).thenReturn(List.of(upToDate, stale));
+            stubChunkUploads();
+
+            // Act
+            int count = service.distributeToAllNodes("test-module", "1.0.0");
+
+            // Assert
+            assertThat(count).isEqualTo(2);
+            verify(nodeClient, never()).getModuleTransferOffset(eq(upToDate), any());
+            verify(nodeClient).completeModuleTransfer(stale, CHECKSUM, "test-module-1.0.0.jar");
+        }
+
+        @Test
+        @DisplayName("should transfer to nodes in parallel")
+        void shouldTransferToNodesInParallel() throws Exception {
+            // Arrange
+            service = new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient, 1024, 3, 0);
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            List<Node> nodes = List.of(createHealthyNode("node-1"), createHealthyNode("node-2"), createHealthyNode("node-3"));
+            CountDownLatch allStarted = new CountDownLatch(nodes.size());
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar(new byte[0]);
+            when(nodeRegistryService.findAll()).thenReturn(nodes);
+            // Each transfer waits until every node has started, which only completes when they run concurrently
+            when(nodeClient.getModuleTransferOffset(any(), any())).thenAnswer(inv -> {
+                allStarted.countDown();
+                if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("transfers did not run in parallel");
+                }
+                return 0L;
+            });
+
+            // Act
+            int count = service.distributeToAllNodes("test-module", "1.0.0");
+
+            // Assert
+            assertThat(count).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should not exceed configured concurrency")
+        void shouldNotExceedConfiguredConcurrency() {
+            // Arrange
+            service = new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient, 1024, 2, 0);
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            List<Node> nodes = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                nodes.add(createHealthyNode("node-" + i));
+            }
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar(new byte[0]);
+            when(nodeRegistryService.findAll()).thenReturn(nodes);
+            when(nodeClient.getModuleTransferOffset(any(), any())).thenAnswer(inv -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                active.decrementAndGet();
+                return 0L;
+            });
+
+            // Act
+            int count = service.distributeToAllNodes("test-module", "1.0.0");
+
+            // Assert
+            assertThat(count).isEqualTo(6);
+            assertThat(peak.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("chunked transfer")
+    class ChunkedTransfer {
+
+        @Test
+        @DisplayName("should stream JAR in chunks of the configured size")
+        void shouldStreamJarInChunksOfConfiguredSize() {
+            // Arrange
+            service = new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient, 4, 1, 0);
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            byte[] jarContent = "0123456789".getBytes();
+            Node node = createHealthyNode("node-1");
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            List<Long> offsets = Collections.synchronizedList(new ArrayList<>());
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar(jarContent);
+            when(nodeRegistryService.findById(node.nodeId())).thenReturn(Optional.of(node));
+            when(nodeClient.uploadModuleChunk(any(), anyString(), anyLong(), any(), anyInt())).thenAnswer(inv -> {
+                long offset = inv.getArgument(2);
+                byte[] chunk = inv.getArgument(3);
+                int length = inv.getArgument(4);
+                offsets.add(offset);
+                received.write(chunk, 0, length);
+                return offset + length;
+            });
+
+            // Act
+            service.distributeToNode("test-module", "1.0.0", node.nodeId());
+
+            // Assert
+            assertThat(offsets).containsExactly(0L, 4L, 8L);
+            assertThat(received.toByteArray()).isEqualTo(jarContent);
+            verify(nodeClient).completeModuleTransfer(node, CHECKSUM, "test-module-1.0.0.jar");
+        }
+
+        @Test
+        @DisplayName("should resume from the offset the node reports")
+        void shouldResumeFromOffsetNodeReports() {
+            // Arrange
+            service = new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient, 4, 1, 0);
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            byte[] jarContent = "0123456789".getBytes();
+            Node node = createHealthyNode("node-1");
+            List<byte[]> chunks = Collections.synchronizedList(new ArrayList<>());
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar(jarContent);
+            when(nodeRegistryService.findById(node.nodeId())).thenReturn(Optional.of(node));
+            when(nodeClient.getModuleTransferOffset(node, CHECKSUM)).thenReturn(6L);
+            when(nodeClient.uploadModuleChunk(any(), anyString(), anyLong(), any(), anyInt())).thenAnswer(inv -> {
+                long offset = inv.getArgument(2);
+                byte[] chunk = inv.getArgument(3);
+                int length = inv.getArgument(4);
+                chunks.add(Arrays.copyOf(chunk, length));
+                return offset + length;
+            });
+
+            // Act
+            service.distributeToNode("test-module", "1.0.0", node.nodeId());
+
+            // Assert
+            assertThat(chunks).hasSize(1);
+            assertThat(new String(chunks.get(0))).isEqualTo("6789");
+            verify(nodeClient).uploadModuleChunk(eq(node), eq(CHECKSUM), eq(6L), any(), eq(4));
+        }
+
+        @Test
+        @DisplayName("should retry a failed transfer from the acknowledged offset")
+        void shouldRetryFailedTransferFromAcknowledgedOffset() {
+            // Arrange
+            service = new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient, 4, 1, 2);
+            ModuleMetadata metadata = createMetadata("test-module", "1.0.0");
+            byte[] jarContent = "0123456789".getBytes();
+            Node node = createHealthyNode("node-1");
+            AtomicInteger calls = new AtomicInteger();
+
+            when(moduleRepository.findByNameAndVersion("test-module", "1.0.0"))
+                    .thenReturn(Optional.of(metadata));
+            stubJar(jarContent);
+            when(nodeRegistryService.findById(node.nodeId())).thenReturn(Optional.of(node));
+            when(nodeClient.getModuleTransferOffset(node, CHECKSUM)).thenReturn(0L, 4L);
+            when(nodeClient.uploadModuleChunk(any(), anyString(), anyLong(), any(), anyInt())).thenAnswer(inv -> {
+                long offset = inv.getArgument(2);
+                int length = inv.getArgument(4);
+                // The second chunk of the first attempt is lost in transit
+                if (calls.incrementAndGet() == 2) {
+                    throw new RuntimeException("Connection reset");
+                }
+                return offset + length;
+            });
+
+            // Act
+            service.distributeToNode("test-module", "1.0.0", node.nodeId());
+
+            // Assert
+            verify(nodeClient, times(2)).getModuleTransferOffset(node, CHECKSUM);
+            verify(nodeClient, times(2)).uploadModuleChunk(eq(node), eq(CHECKSUM), eq(4L), any(), eq(4));
+            verify(nodeClient).uploadModuleChunk(eq(node), eq(CHECKSUM), eq(8L), any(), eq(2));
+            verify(nodeClient).completeModuleTransfer(node, CHECKSUM, "test-module-1.0.0.jar");
+        }
+
+        @Test
+        @DisplayName("should reject invalid chunk size")
+        void shouldRejectInvalidChunkSize() {
+            assertThatThrownBy(() -> new ModuleDistributionServiceImpl(
+                    moduleRepository, nodeRegistryService, nodeClient, 0, 1, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     // Helper methods
 
+    private void stubJar(byte[] jarContent) {
+        when(moduleRepository.getJarFile("test-module", "1.0.0"))
+                .thenAnswer(inv -> Optional.of(new ByteArrayInputStream(jarContent)));
+    }
+
+    private void stubChunkUploads() {
+        lenient().when(nodeClient.uploadModuleChunk(any(), anyString(), anyLong(), any(), anyInt()))
+                .thenAnswer(inv -> (long) inv.getArgument(2) + (int) inv.getArgument(4));
+    }
+
     private ModuleMetadata createMetadata(String name, String version) {
         return ModuleMetadata.create(
                 name,
@@ -283,7 +540,7 @@ class ModuleDistributionServiceImplTest {
                 "Test module",
                 name + "-" + version + ".jar",
                 1024,
-                "abc123def456",
+                CHECKSUM,
                 "admin"
         );
     }
@@ -293,6 +550,11 @@ class ModuleDistributionServiceImplTest {
                 .withHeartbeat(new NodeMetrics(10, 20, 0.5, 256, 512));
     }
 
+    private Node createNodeWithHashes(String nodeId, String... moduleHashes) {
+        return Node.register(NodeId.of(nodeId), "http://" + nodeId + ":8080", new NodeCapacity(100))
+                .withHeartbeat(new NodeMetrics(10, 20, 0.5, 256, 512, 0, 0.0, List.of(), List.of(moduleHashes)));
+    }
+
     private Node createDrainingNode(String nodeId) {
         return createHealthyNode(nodeId).drain();
     }
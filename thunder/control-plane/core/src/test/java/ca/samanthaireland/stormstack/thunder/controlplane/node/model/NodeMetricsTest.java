@@ -24,6 +24,9 @@ package ca.samanthaireland.stormstack.thunder.controlplane.node.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -92,4 +95,95 @@ class NodeMetricsTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("memoryMaxMb cannot be negative");
     }
+
+    @Test
+    void constructor_legacyArguments_defaultsPlacementMetrics() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512);
+
+        assertThat(metrics.entityCount()).isZero();
+        assertThat(metrics.tickOverrunRate()).isZero();
+        assertThat(metrics.modules()).isEmpty();
+    }
+
+    @Test
+    void constructor_nullModules_becomesEmptyList() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512, 100, 0.0, null);
+
+        assertThat(metrics.modules()).isEmpty();
+    }
+
+    @Test
+    void constructor_negativeEntityCount_throwsException() {
+        assertThatThrownBy(() -> new NodeMetrics(5, 10, 0.5, 256, 512, -1, 0.0, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("entityCount cannot be negative");
+    }
+
+    @Test
+    void constructor_tickOverrunRateAboveOne_throwsException() {
+        assertThatThrownBy(() -> new NodeMetrics(5, 10, 0.5, 256, 512, 0, 1.5, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tickOverrunRate must be between 0.0 and 1.0");
+    }
+
+    @Test
+    void heapUsage_returnsUsedOverMax() {
+        assertThat(new NodeMetrics(5, 10, 0.5, 256, 512).heapUsage()).isEqualTo(0.5);
+    }
+
+    @Test
+    void heapUsage_unknownMax_returnsZero() {
+        assertThat(new NodeMetrics(5, 10, 0.5, 256, 0).heapUsage()).isZero();
+    }
+
+    @Test
+    void missingModules_countsModulesNotInstalled() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512, 0, 0.0, List.of("entity", "grid"));
+
+        assertThat(metrics.missingModules(List.of("entity", "grid", "physics"))).isEqualTo(1);
+    }
+
+    @Test
+    void withReservedContainers_addsToContainerCountOnly() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512, 100, 0.25, List.of("entity"));
+
+        NodeMetrics reserved = metrics.withReservedContainers(3);
+
+        assertThat(reserved.containerCount()).isEqualTo(8);
+        assertThat(reserved.matchCount()).isEqualTo(10);
+        assertThat(reserved.entityCount()).isEqualTo(100);
+        assertThat(reserved.modules()).containsExactly("entity");
+    }
+
+    @Test
+    void hasModuleHash_matchesReportedChecksumCaseInsensitively() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512, 0, 0.0, List.of(), List.of("abc123"));
+
+        assertThat(metrics.hasModuleHash("ABC123")).isTrue();
+        assertThat(metrics.hasModuleHash("def456")).isFalse();
+        assertThat(metrics.hasModuleHash(null)).isFalse();
+    }
+
+    @Test
+    void constructor_withoutModuleHashes_defaultsToEmpty() {
+        assertThat(new NodeMetrics(5, 10, 0.5, 256, 512, 0, 0.0, List.of("entity")).moduleHashes()).isEmpty();
+    }
+
+    @Test
+    void warmContainersFor_ignoresModuleOrder() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512, 0, 0.0, List.of("entity", "grid"), List.of(),
+                Map.of("entity,grid", 2));
+
+        assertThat(metrics.warmContainersFor(List.of("grid", "entity"))).isEqualTo(2);
+        assertThat(metrics.warmContainersFor(List.of("entity"))).isZero();
+        assertThat(metrics.warmContainersFor(List.of())).isZero();
+    }
+
+    @Test
+    void withReservedContainers_keepsWarmContainers() {
+        NodeMetrics metrics = new NodeMetrics(5, 10, 0.5, 256, 512, 0, 0.0, List.of("entity"), List.of(),
+                Map.of("entity", 1));
+
+        assertThat(metrics.withReservedContainers(1).warmContainers()).containsEntry("entity", 1);
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.node.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ClusterNodeView}.
+ */
+@DisplayName("ClusterNodeView")
+class ClusterNodeViewTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final List<Node> registry = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private MutableClock clock;
+    private ClusterNodeView view;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        view = new ClusterNodeView(() -> {
+            loads.incrementAndGet();
+            return List.copyOf(registry);
+        }, Duration.ofSeconds(5), clock);
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should load from the registry on first read")
+        void shouldLoadOnFirstRead() {
+            // Arrange
+            registry.add(node("node-1", 2));
+
+            // Act
+            List<Node> nodes = view.nodes();
+
+            // Assert
+            assertThat(nodes).extracting(Node::nodeId).containsExactly(NodeId.of("node-1"));
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should serve cached nodes within the refresh interval")
+        void shouldServeCachedNodesWithinInterval() {
+            // Arrange
+            view.nodes();
+            registry.add(node("node-1", 2));
+            clock.advance(Duration.ofSeconds(4));
+
+            // Act
+            List<Node> nodes = view.nodes();
+
+            // Assert
+            assertThat(nodes).isEmpty();
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should reload once the view is stale")
+        void shouldReloadWhenStale() {
+            // Arrange
+            view.nodes();
+            registry.add(node("node-1", 2));
+            clock.advance(Duration.ofSeconds(5));
+
+            // Act
+            List<Node> nodes = view.nodes();
+
+            // Assert
+            assertThat(nodes).hasSize(1);
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should reload after invalidate")
+        void shouldReloadAfterInvalidate() {
+            // Arrange
+            view.nodes();
+
+            // Act
+            view.invalidate();
+            view.nodes();
+
+            // Assert
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("reservations")
+    class Reservations {
+
+        @Test
+        @DisplayName("should add reserved containers to the node's metrics")
+        void shouldApplyReservations() {
+            // Arrange
+            registry.add(node("node-1", 2));
+            view.nodes();
+
+            // Act
+            view.reserve(NodeId.of("node-1"), 3);
+
+            // Assert
+            assertThat(view.nodes().getFirst().metrics().containerCount()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should clear reservations when the node reports fresh metrics")
+        void shouldClearReservationsOnUpdate() {
+            // Arrange
+            registry.add(node("node-1", 2));
+            view.nodes();
+            view.reserve(NodeId.of("node-1"), 3);
+
+            // Act
+            view.nodeUpdated(node("node-1", 4));
+
+            // Assert
+            assertThat(view.nodes().getFirst().metrics().containerCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should ignore reservations for unknown nodes")
+        void shouldIgnoreUnknownNodes() {
+            // Arrange
+            view.nodes();
+
+            // Act
+            view.reserve(NodeId.of("ghost"), 1);
+            view.nodeUpdated(node("ghost", 0));
+
+            // Assert
+            assertThat(view.nodes().getFirst().metrics().containerCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should drop a removed node and its reservations")
+        void shouldDropRemovedNode() {
+            // Arrange
+            registry.add(node("node-1", 2));
+            view.nodes();
+            view.reserve(NodeId.of("node-1"), 3);
+
+            // Act
+            view.nodeRemoved(NodeId.of("node-1"));
+
+            // Assert
+            assertThat(view.nodes()).isEmpty();
+        }
+    }
+
+    private static Node node(String nodeId, int containerCount) {
+        return Node.register(NodeId.of(nodeId), "http://" + nodeId + ":8080", new NodeCapacity(10))
+                .withHeartbeat(new NodeMetrics(containerCount, containerCount, 0.1, 128, 1024));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
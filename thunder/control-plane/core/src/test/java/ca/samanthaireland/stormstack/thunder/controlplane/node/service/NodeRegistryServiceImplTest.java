@@ -39,6 +39,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -257,6 +259,54 @@ class NodeRegistryServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("cluster node view")
+    class NodeViewUpdates {
+
+        private ClusterNodeView nodeView;
+
+        @BeforeEach
+        void setUpView() {
+            nodeView = new ClusterNodeView(List::of, Duration.ofHours(1), Clock.systemUTC());
+            nodeView.nodes(); // prime the view so it is not reloaded during the test
+            service = new NodeRegistryServiceImpl(nodeRepository, config, nodeView);
+        }
+
+        @Test
+        @DisplayName("should publish heartbeat metrics to the view")
+        void shouldPublishHeartbeatMetricsToView() {
+            // Arrange
+            stubNodeTtl();
+            NodeId nodeId = NodeId.of("node-1");
+            NodeMetrics newMetrics = new NodeMetrics(7, 14, 0.4, 512, 1024);
+            when(nodeRepository.findById(nodeId)).thenReturn(Optional.of(createHealthyNode("node-1", 1, 2)));
+            when(nodeRepository.save(any(Node.class), eq(30))).thenAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            service.heartbeat(nodeId, newMetrics);
+
+            // Assert
+            assertThat(nodeView.nodes())
+                    .singleElement()
+                    .satisfies(n -> assertThat(n.metrics()).isEqualTo(newMetrics));
+        }
+
+        @Test
+        @DisplayName("should remove deregistered nodes from the view")
+        void shouldRemoveDeregisteredNodesFromView() {
+            // Arrange
+            NodeId nodeId = NodeId.of("node-1");
+            nodeView.nodeUpdated(createHealthyNode("node-1", 1, 2));
+            when(nodeRepository.existsById(nodeId)).thenReturn(true);
+
+            // Act
+            service.deregister(nodeId);
+
+            // Assert
+            assertThat(nodeView.nodes()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("findById")
     class FindById {
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.proxy.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link NodeHttpClientPool}.
+ */
+class NodeHttpClientPoolTest {
+
+    private final List<HttpClient> released = new ArrayList<>();
+    private NodeHttpClientPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new NodeHttpClientPool(() -> mock(HttpClient.class), released::add);
+    }
+
+    private Node node(String id, String address) {
+        return Node.register(NodeId.of(id), address, new NodeCapacity(10));
+    }
+
+    @Test
+    void clientFor_sameNode_reusesClient() {
+        // Act
+        HttpClient first = pool.clientFor(node("node-1", "http://backend:8080"));
+        HttpClient second = pool.clientFor(node("node-1", "http://backend:8080"));
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void clientFor_differentNodes_getSeparateClients() {
+        // Act
+        HttpClient first = pool.clientFor(node("node-1", "http://backend-1:8080"));
+        HttpClient second = pool.clientFor(node("node-2", "http://backend-2:8080"));
+
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void clientFor_addressChanged_replacesAndReleasesOldClient() {
+        // Arrange
+        HttpClient original = pool.clientFor(node("node-1", "http://backend:8080"));
+
+        // Act
+        HttpClient replacement = pool.clientFor(node("node-1", "http://backend:9090"));
+
+        // Assert
+        assertThat(replacement).isNotSameAs(original);
+        assertThat(released).containsExactly(original);
+    }
+
+    @Test
+    void evict_releasesClient() {
+        // Arrange
+        HttpClient client = pool.clientFor(node("node-1", "http://backend:8080"));
+
+        // Act
+        pool.evict(NodeId.of("node-1"));
+        pool.evict(NodeId.of("node-1"));
+
+        // Assert
+        assertThat(released).containsExactly(client);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void retainOnly_releasesClientsOfUnregisteredNodes() {
+        // Arrange
+        HttpClient kept = pool.clientFor(node("node-1", "http://backend-1:8080"));
+        HttpClient retired = pool.clientFor(node("node-2", "http://backend-2:8080"));
+
+        // Act
+        pool.retainOnly(() -> Set.of(NodeId.of("node-1"), NodeId.of("node-3")));
+
+        // Assert
+        assertThat(released).containsExactly(retired);
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.clientFor(node("node-1", "http://backend-1:8080"))).isSameAs(kept);
+    }
+
+    @Test
+    void shared_neverReleasesClient() {
+        // Arrange
+        HttpClient shared = mock(HttpClient.class);
+        NodeHttpClientPool sharedPool = NodeHttpClientPool.shared(shared);
+
+        // Act
+        HttpClient client = sharedPool.clientFor(node("node-1", "http://backend:8080"));
+        sharedPool.evict(NodeId.of("node-1"));
+
+        // Assert
+        assertThat(client).isSameAs(shared);
+    }
+}
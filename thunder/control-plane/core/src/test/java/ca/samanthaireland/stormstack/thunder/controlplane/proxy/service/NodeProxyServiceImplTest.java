@@ -34,19 +34,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import org.mockito.quality.Strictness;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -288,4 +296,157 @@ class NodeProxyServiceImplTest {
             assertThat(result.isSuccess()).isFalse();
         }
     }
+
+    @Nested
+    class StreamingProxy {
+
+        @Mock
+        private HttpResponse<InputStream> streamResponse;
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void proxyStream_returnsUnreadBodyStream() throws Exception {
+            // Arrange
+            when(nodeRegistryService.findById(NODE_ID)).thenReturn(Optional.of(createTestNode()));
+            InputStream upstreamBody = new ByteArrayInputStream("{\"ticks\":[]}".getBytes(StandardCharsets.UTF_8));
+            when(streamResponse.statusCode()).thenReturn(200);
+            when(streamResponse.body()).thenReturn(upstreamBody);
+            when(streamResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(
+                    Map.of("Content-Type", java.util.List.of("application/json"),
+                            "Transfer-Encoding", java.util.List.of("chunked")),
+                    (a, b) -> true
+            ));
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(streamResponse);
+
+            // Act
+            StreamingProxyResponse result = proxyService.proxyStream(
+                    NODE_ID, "GET", "/api/history", Map.of(), Map.of(), null);
+
+            // Assert
+            assertThat(result.statusCode()).isEqualTo(200);
+            assertThat(result.body()).isSameAs(upstreamBody);
+            assertThat(result.headers()).containsEntry("Content-Type", "application/json");
+            assertThat(result.headers()).doesNotContainKey("Transfer-Encoding");
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void proxyStream_withBody_sendsBodyOfUnknownLength() throws Exception {
+            // Arrange
+            when(nodeRegistryService.findById(NODE_ID)).thenReturn(Optional.of(createTestNode()));
+            when(streamResponse.statusCode()).thenReturn(201);
+            when(streamResponse.body()).thenReturn(InputStream.nullInputStream());
+            when(streamResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            when(httpClient.send(requestCaptor.capture(), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(streamResponse);
+            InputStream requestBody = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+
+            // Act
+            proxyService.proxyStream(NODE_ID, "POST", "/api/test", Map.of(), Map.of(), requestBody);
+
+            // Assert
+            HttpRequest request = requestCaptor.getValue();
+            assertThat(request.method()).isEqualTo("POST");
+            assertThat(request.bodyPublisher()).isPresent();
+            assertThat(request.bodyPublisher().get().contentLength()).isNegative();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void proxyStream_ioException_throwsProxyException() throws Exception {
+            // Arrange
+            when(nodeRegistryService.findById(NODE_ID)).thenReturn(Optional.of(createTestNode()));
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenThrow(new IOException("Connection refused"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> proxyService.proxyStream(
+                    NODE_ID, "GET", "/api/test", Map.of(), Map.of(), null))
+                    .isInstanceOf(ProxyException.class)
+                    .hasMessageContaining("Connection failed");
+        }
+
+        @Test
+        void isStreamingEnabled_reflectsConfiguration() {
+            when(config.streamingEnabled()).thenReturn(true);
+
+            assertThat(proxyService.isStreamingEnabled()).isTrue();
+        }
+    }
+
+    @Nested
+    class WebSocketRelay {
+
+        @Mock
+        private WebSocket.Builder webSocketBuilder;
+
+        @Mock
+        private NodeWebSocketTunnel.Listener listener;
+
+        @Test
+        void openWebSocket_connectsToWsUrlOfNode() {
+            // Arrange
+            when(nodeRegistryService.findById(NODE_ID)).thenReturn(Optional.of(createTestNode()));
+            when(httpClient.newWebSocketBuilder()).thenReturn(webSocketBuilder);
+            when(webSocketBuilder.connectTimeout(any())).thenReturn(webSocketBuilder);
+            when(webSocketBuilder.header(any(), any())).thenReturn(webSocketBuilder);
+            when(webSocketBuilder.buildAsync(any(), any())).thenReturn(new CompletableFuture<>());
+
+            // Act
+            NodeWebSocketTunnel tunnel = proxyService.openWebSocket(
+                    NODE_ID, "/ws/containers/1/matches/1/snapshot", Map.of("token", "abc"),
+                    Map.of("Authorization", "Bearer eyJ", "Sec-WebSocket-Key", "xyz"), listener);
+
+            // Assert
+            assertThat(tunnel).isNotNull();
+            verify(webSocketBuilder).buildAsync(
+                    eq(URI.create("ws://backend:8080/ws/containers/1/matches/1/snapshot?token=abc")), any());
+            verify(webSocketBuilder).header("Authorization", "Bearer eyJ");
+            verify(webSocketBuilder, never()).header(eq("Sec-WebSocket-Key"), any());
+        }
+
+        @Test
+        void upstreamMessage_requestsNextOnlyAfterDelivery() {
+            // Arrange
+            WebSocket upstream = mock(WebSocket.class);
+            CompletableFuture<Void> delivered = new CompletableFuture<>();
+            doReturn(delivered).when(listener).onText("tick");
+            HttpClientWebSocketTunnel tunnel = new HttpClientWebSocketTunnel(listener);
+
+            // Act
+            tunnel.onText(upstream, "tick", true);
+
+            // Assert
+            verify(upstream, never()).request(anyLong());
+            delivered.complete(null);
+            verify(upstream).request(1);
+        }
+
+        @Test
+        void openWebSocket_connectFailure_notifiesListener() {
+            // Arrange
+            when(nodeRegistryService.findById(NODE_ID)).thenReturn(Optional.of(createTestNode()));
+            when(httpClient.newWebSocketBuilder()).thenReturn(webSocketBuilder);
+            when(webSocketBuilder.connectTimeout(any())).thenReturn(webSocketBuilder);
+            IOException failure = new IOException("Connection refused");
+            when(webSocketBuilder.buildAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(failure));
+
+            // Act
+            proxyService.openWebSocket(NODE_ID, "/ws/simulation", Map.of(), Map.of(), listener);
+
+            // Assert
+            verify(listener).onError(failure);
+        }
+
+        @Test
+        void openWebSocket_throwsProxyDisabledException_whenDisabled() {
+            proxyService.setEnabled(false);
+
+            assertThatThrownBy(() -> proxyService.openWebSocket(
+                    NODE_ID, "/ws/simulation", Map.of(), Map.of(), listener))
+                    .isInstanceOf(ProxyDisabledException.class);
+        }
+    }
 }
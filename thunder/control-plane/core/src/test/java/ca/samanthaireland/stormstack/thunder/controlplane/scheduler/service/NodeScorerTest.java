@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.scheduler.service;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.ScoringWeights;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link NodeScorer}.
+ */
+@DisplayName("NodeScorer")
+class NodeScorerTest {
+
+    @Test
+    @DisplayName("should rank nodes from lowest to highest score")
+    void shouldRankAscending() {
+        // Arrange
+        NodeScorer scorer = new NodeScorer(ScoringWeights.defaults());
+        Node busy = node("busy", 8, 0.9, 900, 1000, 0.5, List.of());
+        Node idle = node("idle", 1, 0.1, 100, 1000, 0.0, List.of());
+
+        // Act
+        List<NodeScore> ranked = scorer.rank(List.of(busy, idle), List.of());
+
+        // Assert
+        assertThat(ranked).extracting(s -> s.node().nodeId().value()).containsExactly("idle", "busy");
+    }
+
+    @Test
+    @DisplayName("should score each dimension with its own weight")
+    void shouldApplyWeightsPerDimension() {
+        // Arrange - only heap counts
+        NodeScorer scorer = new NodeScorer(new ScoringWeights(0, 0, 1, 0, 0, 0));
+        Node node = node("node-1", 5, 0.9, 250, 1000, 1.0, List.of());
+
+        // Act
+        NodeScore score = scorer.rank(List.of(node), List.of()).getFirst();
+
+        // Assert
+        assertThat(score.score()).isCloseTo(0.25, within(0.0001));
+        assertThat(score.containerLoad()).isCloseTo(0.5, within(0.0001));
+        assertThat(score.cpuLoad()).isCloseTo(0.9, within(0.0001));
+        assertThat(score.tickOverrun()).isCloseTo(1.0, within(0.0001));
+    }
+
+    @Test
+    @DisplayName("should normalize entity load against the busiest candidate")
+    void shouldNormalizeEntitiesAgainstBusiest() {
+        // Arrange
+        NodeScorer scorer = new NodeScorer(new ScoringWeights(0, 0, 0, 0, 1, 0));
+        Node light = nodeWithEntities("light", 2_500);
+        Node heavy = nodeWithEntities("heavy", 10_000);
+
+        // Act
+        List<NodeScore> ranked = scorer.rank(List.of(heavy, light), List.of());
+
+        // Assert
+        assertThat(ranked.get(0).entityLoad()).isCloseTo(0.25, within(0.0001));
+        assertThat(ranked.get(1).entityLoad()).isCloseTo(1.0, within(0.0001));
+    }
+
+    @Test
+    @DisplayName("should prefer nodes that already have the required modules")
+    void shouldPreferNodesWithModules() {
+        // Arrange
+        NodeScorer scorer = new NodeScorer(new ScoringWeights(0, 0, 0, 0, 0, 1));
+        Node without = node("without", 1, 0.1, 100, 1000, 0.0, List.of("entity"));
+        Node with = node("with", 1, 0.1, 100, 1000, 0.0, List.of("entity", "physics"));
+
+        // Act
+        List<NodeScore> ranked = scorer.rank(List.of(without, with), List.of("entity", "physics"));
+
+        // Assert
+        assertThat(ranked.get(0).node().nodeId()).isEqualTo(NodeId.of("with"));
+        assertThat(ranked.get(1).missingModules()).isCloseTo(0.5, within(0.0001));
+    }
+
+    @Test
+    @DisplayName("should prefer nodes with a warm container for the module set")
+    void shouldPreferNodesWithWarmContainers() {
+        // Arrange
+        NodeScorer scorer = new NodeScorer(new ScoringWeights(0, 0, 0, 0, 0, 0, 1));
+        Node cold = node("cold", 1, 0.1, 100, 1000, 0.0, List.of("entity", "physics"));
+        Node warm = Node.register(NodeId.of("warm"), "http://warm:8080", new NodeCapacity(10))
+                .withHeartbeat(new NodeMetrics(1, 1, 0.1, 100, 1000, 0, 0.0, List.of("entity", "physics"),
+                        List.of(), Map.of("entity,physics", 2)));
+
+        // Act
+        List<NodeScore> ranked = scorer.rank(List.of(cold, warm), List.of("physics", "entity"));
+
+        // Assert
+        assertThat(ranked.get(0).node().nodeId()).isEqualTo(NodeId.of("warm"));
+        assertThat(ranked.get(0).coldStart()).isZero();
+        assertThat(ranked.get(1).coldStart()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should not penalize cold starts for matches without modules")
+    void shouldIgnoreWarmPoolWithoutModules() {
+        // Arrange
+        NodeScorer scorer = new NodeScorer(new ScoringWeights(0, 0, 0, 0, 0, 0, 1));
+        Node node = node("node-1", 1, 0.1, 100, 1000, 0.0, List.of());
+
+        // Act
+        NodeScore score = scorer.rank(List.of(node), List.of()).getFirst();
+
+        // Assert
+        assertThat(score.coldStart()).isZero();
+        assertThat(score.score()).isZero();
+    }
+
+    private static Node node(String id, int containers, double cpu, long heapUsed, long heapMax,
+                             double overrun, List<String> modules) {
+        return Node.register(NodeId.of(id), "http://" + id + ":8080", new NodeCapacity(10))
+                .withHeartbeat(new NodeMetrics(containers, containers, cpu, heapUsed, heapMax, 0, overrun, modules));
+    }
+
+    private static Node nodeWithEntities(String id, long entities) {
+        return Node.register(NodeId.of(id), "http://" + id + ":8080", new NodeCapacity(10))
+                .withHeartbeat(new NodeMetrics(1, 1, 0.1, 100, 1000, entities, 0.0, List.of()));
+    }
+}
@@ -27,9 +27,12 @@ import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacit
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.service.ClusterNodeView;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
 import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoAvailableNodesException;
 import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.exception.NoCapableNodesException;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.NodeScore;
+import ca.samanthaireland.stormstack.thunder.controlplane.scheduler.model.ScoringWeights;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +41,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -298,6 +304,94 @@ class SchedulerServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("capacity-aware placement")
+    class CapacityAwarePlacement {
+
+        private final List<Node> registry = new ArrayList<>();
+        private SchedulerServiceImpl viewService;
+
+        @BeforeEach
+        void setUpView() {
+            ClusterNodeView view = new ClusterNodeView(() -> List.copyOf(registry), Duration.ofHours(1), Clock.systemUTC());
+            viewService = new SchedulerServiceImpl(view, ScoringWeights.defaults(), 0.9);
+        }
+
+        @Test
+        @DisplayName("should spread consecutive placements before the next heartbeat")
+        void shouldSpreadConsecutivePlacements() {
+            // Arrange - node-1 is slightly emptier, so a stale view would pick it every time
+            registry.add(createHealthyNodeWithCapacity("node-1", 0, 0, 4));
+            registry.add(createHealthyNodeWithCapacity("node-2", 1, 1, 8));
+
+            // Act
+            Node first = viewService.selectNodeForMatch(List.of("module-a"), null);
+            Node second = viewService.selectNodeForMatch(List.of("module-a"), null);
+
+            // Assert
+            assertThat(first.nodeId()).isEqualTo(NodeId.of("node-1"));
+            assertThat(second.nodeId()).isEqualTo(NodeId.of("node-2"));
+        }
+
+        @Test
+        @DisplayName("should skip nodes above the heap threshold")
+        void shouldSkipNodesAboveHeapThreshold() {
+            // Arrange - node-1 has more free slots but almost no heap left
+            registry.add(Node.register(NodeId.of("node-1"), "http://node-1:8080", new NodeCapacity(100))
+                    .withHeartbeat(new NodeMetrics(0, 0, 0.1, 990, 1000)));
+            registry.add(createHealthyNodeWithCapacity("node-2", 50, 50, 100));
+
+            // Act
+            Node selected = viewService.selectNodeForMatch(List.of("module-a"), null);
+
+            // Assert
+            assertThat(selected.nodeId()).isEqualTo(NodeId.of("node-2"));
+        }
+
+        @Test
+        @DisplayName("should place a batch across nodes")
+        void shouldPlaceBatchAcrossNodes() {
+            // Arrange
+            registry.add(createHealthyNodeWithCapacity("node-1", 0, 0, 2));
+            registry.add(createHealthyNodeWithCapacity("node-2", 0, 0, 2));
+
+            // Act
+            List<Node> placements = viewService.selectNodesForMatches(4, List.of("module-a"));
+
+            // Assert
+            assertThat(placements).extracting(n -> n.nodeId().value())
+                    .containsExactlyInAnyOrder("node-1", "node-1", "node-2", "node-2");
+            assertThat(viewService.getClusterSaturation()).isCloseTo(1.0, within(0.001));
+        }
+
+        @Test
+        @DisplayName("should reserve nothing when a batch does not fit")
+        void shouldReserveNothingWhenBatchDoesNotFit() {
+            // Arrange
+            registry.add(createHealthyNodeWithCapacity("node-1", 0, 0, 2));
+
+            // Act & Assert
+            assertThatThrownBy(() -> viewService.selectNodesForMatches(3, List.of("module-a")))
+                    .isInstanceOf(NoCapableNodesException.class);
+            assertThat(viewService.getClusterSaturation()).isZero();
+        }
+
+        @Test
+        @DisplayName("should rank only healthy nodes with headroom")
+        void shouldRankOnlyPlaceableNodes() {
+            // Arrange
+            registry.add(createHealthyNodeWithCapacity("node-1", 10, 10, 100));
+            registry.add(createDrainingNode("node-2", 0, 0));
+            registry.add(createHealthyNodeWithCapacity("node-3", 100, 100, 100));
+
+            // Act
+            List<NodeScore> ranked = viewService.rankNodes(List.of("module-a"));
+
+            // Assert
+            assertThat(ranked).extracting(s -> s.node().nodeId().value()).containsExactly("node-1");
+        }
+    }
+
     // Helper methods
 
     private Node createHealthyNodeWithCapacity(String nodeId, int containerCount, int matchCount, int maxContainers) {
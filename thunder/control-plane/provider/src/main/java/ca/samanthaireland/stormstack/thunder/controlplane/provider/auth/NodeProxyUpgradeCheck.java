@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.auth;
+
+import ca.samanthaireland.stormstack.thunder.auth.quarkus.security.ScopeMatcher;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.config.JwtAuthConfig;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.http.NodeProxyWebSocket;
+import io.quarkus.websockets.next.HttpUpgradeCheck;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.http.HttpServerRequest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Handshake authentication for the node proxy WebSocket.
+ *
+ * <p>The JAX-RS filters do not run for WebSocket upgrades, so this check applies the
+ * same rules as {@link JwtAuthFilter} plus the {@code control-plane.node.proxy} scope
+ * required by the REST proxy. The token is read from, in order:
+ * <ul>
+ *   <li>Subprotocol: {@code Sec-WebSocket-Protocol: Bearer.{token}}</li>
+ *   <li>Query parameter: {@code ?token={token}}</li>
+ *   <li>Header: {@code X-Api-Token}</li>
+ *   <li>Header: {@code Authorization: Bearer {token}}</li>
+ * </ul>
+ *
+ * <p>Upgrades without a token are rejected with 401, and tokens lacking the scope with 403.
+ */
+@ApplicationScoped
+public class NodeProxyUpgradeCheck implements HttpUpgradeCheck {
+    private static final Logger log = LoggerFactory.getLogger(NodeProxyUpgradeCheck.class);
+
+    /**
+     * Scope required to open a proxy relay, matching the REST proxy endpoints.
+     */
+    public static final String REQUIRED_SCOPE = "control-plane.node.proxy";
+
+    private static final String BEARER_SUBPROTOCOL_PREFIX = "Bearer.";
+    private static final String SEC_WEBSOCKET_PROTOCOL = "Sec-WebSocket-Protocol";
+    private static final String TOKEN_PARAM = "token";
+    private static final String API_TOKEN_HEADER = "X-Api-Token";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtAuthConfig config;
+    private final AuthServiceClient authServiceClient;
+    private final JWTParser jwtParser;
+
+    @Inject
+    public NodeProxyUpgradeCheck(JwtAuthConfig config, AuthServiceClient authServiceClient, JWTParser jwtParser) {
+        this.config = config;
+        this.authServiceClient = authServiceClient;
+        this.jwtParser = jwtParser;
+    }
+
+    @Override
+    public boolean appliesTo(String endpointId) {
+        return NodeProxyWebSocket.class.getName().equals(endpointId);
+    }
+
+    @Override
+    public Uni<CheckResult> perform(HttpUpgradeContext context) {
+        if (!config.enabled()) {
+            return CheckResult.permitUpgrade();
+        }
+
+        Optional<String> token = extractToken(context.httpRequest());
+        if (token.isEmpty()) {
+            log.debug("Rejecting node proxy upgrade without a token");
+            return CheckResult.rejectUpgrade(401);
+        }
+
+        // Remote validation blocks on the auth service, so keep it off the event loop
+        return Uni.createFrom().item(() -> check(token.get()))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    private CheckResult check(String token) {
+        Optional<Set<String>> scopes = authServiceClient.isRemoteValidationEnabled()
+                ? validateRemotely(token)
+                : validateLocally(token);
+        if (scopes.isEmpty()) {
+            return CheckResult.rejectUpgradeSync(401);
+        }
+        if (!ScopeMatcher.matches(scopes.get(), REQUIRED_SCOPE)) {
+            log.debug("Rejecting node proxy upgrade: missing scope {}", REQUIRED_SCOPE);
+            return CheckResult.rejectUpgradeSync(403);
+        }
+        return CheckResult.permitUpgradeSync();
+    }
+
+    private Optional<Set<String>> validateRemotely(String token) {
+        return switch (authServiceClient.validateToken(token)) {
+            case AuthServiceClient.ValidationResult.Success success -> {
+                // The auth service has already verified the exchanged JWT; read its scope claims
+                Set<String> scopes = new HashSet<>(success.roles());
+                if (success.jwtToken() != null) {
+                    try {
+                        scopes.addAll(extractScopes(jwtParser.parseOnly(success.jwtToken())));
+                    } catch (ParseException e) {
+                        log.warn("Failed to read scopes from exchanged token: {}", e.getMessage());
+                    }
+                }
+                yield Optional.of(scopes);
+            }
+            case AuthServiceClient.ValidationResult.Failure failure -> {
+                log.warn("Node proxy token validation failed: {}", failure.message());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    private Optional<Set<String>> validateLocally(String token) {
+        try {
+            return Optional.of(extractScopes(jwtParser.parse(token)));
+        } catch (ParseException e) {
+            log.warn("Local JWT validation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> extractToken(HttpServerRequest request) {
+        String subprotocol = request.getHeader(SEC_WEBSOCKET_PROTOCOL);
+        if (subprotocol != null && subprotocol.startsWith(BEARER_SUBPROTOCOL_PREFIX)) {
+            String token = subprotocol.substring(BEARER_SUBPROTOCOL_PREFIX.length());
+            if (!token.isBlank()) {
+                return Optional.of(token);
+            }
+        }
+
+        String query = request.query();
+        if (query != null && !query.isBlank()) {
+            for (String param : query.split("&")) {
+                String[] kv = param.split("=", 2);
+                if (kv.length == 2 && TOKEN_PARAM.equals(kv[0]) && !kv[1].isBlank()) {
+                    return Optional.of(URLDecoder.decode(kv[1], StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        String apiToken = request.getHeader(API_TOKEN_HEADER);
+        if (apiToken != null && !apiToken.isBlank()) {
+            return Optional.of(apiToken);
+        }
+
+        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            String token = authHeader.substring(BEARER_PREFIX.length());
+            if (!token.isBlank()) {
+                return Optional.of(token);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Collects the {@code scopes}, {@code scope} and {@code groups} claims of a token.
+     */
+    private static Set<String> extractScopes(JsonWebToken jwt) {
+        Set<String> scopes = new HashSet<>();
+        Object scopesClaim = jwt.getClaim("scopes");
+        if (scopesClaim instanceof Iterable<?> iterable) {
+            for (Object scope : iterable) {
+                scopes.add(unquote(scope.toString()));
+            }
+        } else if (scopesClaim instanceof String value) {
+            addSpaceSeparated(scopes, value);
+        }
+        if (jwt.getClaim("scope") instanceof String value) {
+            addSpaceSeparated(scopes, value);
+        }
+        Set<String> groups = jwt.getGroups();
+        if (groups != null) {
+            scopes.addAll(groups);
+        }
+        return scopes;
+    }
+
+    private static void addSpaceSeparated(Set<String> scopes, String value) {
+        for (String part : value.split("\\s+")) {
+            if (!part.isBlank()) {
+                scopes.add(part);
+            }
+        }
+    }
+
+    /**
+     * JSON array claims surface as JSON string values whose {@code toString()} keeps the quotes.
+     */
+    private static String unquote(String value) {
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                ? value.substring(1, value.length() - 1)
+                : value;
+    }
+}
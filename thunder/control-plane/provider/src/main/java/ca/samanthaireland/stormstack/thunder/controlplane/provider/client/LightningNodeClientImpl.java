@@ -23,6 +23,7 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.client;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.client.NodeRequestException;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.AuthServiceClient;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -36,9 +37,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -290,6 +293,206 @@ public class LightningNodeClientImpl implements LightningNodeClient {
         }
     }
 
+    @Override
+    public long getModuleTransferOffset(Node node, String checksum) {
+        String url = node.advertiseAddress() + "/api/modules/transfers/" + checksum;
+
+        try {
+            HttpRequest request = addAuthHeader(HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET())
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200) {
+                throw new NodeRequestException(
+                        "Failed to query module transfer: HTTP " + response.statusCode() + " - " + response.body(),
+                        response.statusCode()
+                );
+            }
+
+            return objectMapper.readTree(response.body()).get("offset").asLong();
+
+        } catch (IOException | InterruptedException e) {
+            log.warn("Failed to query module transfer {} on node {}: {}", checksum, node.nodeId(), e.getMessage());
+            throw new RuntimeException("Failed to query module transfer on node " + node.nodeId(), e);
+        }
+    }
+
+    @Override
+    public long uploadModuleChunk(Node node, String checksum, long offset, byte[] chunk, int length) {
+        String url = node.advertiseAddress() + "/api/modules/transfers/" + checksum + "?offset=" + offset;
+
+        try {
+            HttpRequest request = addAuthHeader(HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .header("Content-Type", "application/octet-stream")
+                    .timeout(Duration.ofSeconds(30))
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(chunk, 0, length)))
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200) {
+                throw new NodeRequestException(
+                        "Failed to upload module chunk: HTTP " + response.statusCode() + " - " + response.body(),
+                        response.statusCode()
+                );
+            }
+
+            return objectMapper.readTree(response.body()).get("offset").asLong();
+
+        } catch (IOException | InterruptedException e) {
+            log.warn("Failed to upload chunk of {} at offset {} to node {}: {}",
+                    checksum, offset, node.nodeId(), e.getMessage());
+            throw new RuntimeException("Failed to upload module chunk to node " + node.nodeId(), e);
+        }
+    }
+
+    @Override
+    public void completeModuleTransfer(Node node, String checksum, String fileName) {
+        String url = node.advertiseAddress() + "/api/modules/transfers/" + checksum + "/complete?fileName="
+                + URLEncoder.encode(fileName, StandardCharsets.UTF_8);
+
+        try {
+            HttpRequest request = addAuthHeader(HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.noBody()))
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200 && response.statusCode() != 201) {
+                throw new NodeRequestException(
+                        "Failed to complete module transfer: HTTP " + response.statusCode() + " - " + response.body(),
+                        response.statusCode()
+                );
+            }
+
+            log.info("Installed module {} ({}) on node {}", fileName, checksum, node.nodeId());
+
+        } catch (IOException | InterruptedException e) {
+            log.error("Failed to complete transfer of {} to node {}: {}", fileName, node.nodeId(), e.getMessage());
+            throw new RuntimeException("Failed to complete module transfer on node " + node.nodeId(), e);
+        }
+    }
+
+    @Override
+    public void abortModuleTransfer(Node node, String checksum) {
+        String url = node.advertiseAddress() + "/api/modules/transfers/" + checksum;
+
+        try {
+            HttpRequest request = addAuthHeader(HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .DELETE())
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 204 && response.statusCode() != 200) {
+                throw new NodeRequestException(
+                        "Failed to abort module transfer: HTTP " + response.statusCode() + " - " + response.body(),
+                        response.statusCode()
+                );
+            }
+
+        } catch (IOException | InterruptedException e) {
+            log.warn("Failed to abort module transfer {} on node {}: {}", checksum, node.nodeId(), e.getMessage());
+            throw new RuntimeException("Failed to abort module transfer on node " + node.nodeId(), e);
+        }
+    }
+
+    @Override
+    public String beginMigration(Node node, long containerId, long matchId) {
+        return postMigrationStep(node, containerId, matchId, "begin", null);
+    }
+
+    @Override
+    public String freezeMigration(Node node, long containerId, long matchId) {
+        return postMigrationStep(node, containerId, matchId, "freeze", null);
+    }
+
+    @Override
+    public String captureMatchState(Node node, long containerId, long matchId) {
+        return postMigrationStep(node, containerId, matchId, "capture", null);
+    }
+
+    @Override
+    public void abortMigration(Node node, long containerId, long matchId) {
+        postMigrationStep(node, containerId, matchId, "abort", null);
+    }
+
+    @Override
+    public void restoreMatchState(Node node, long containerId, long matchId, String state) {
+        postMigrationStep(node, containerId, matchId, "restore", state);
+    }
+
+    @Override
+    public boolean catchUpMigration(Node node, long containerId, long matchId, String delta) {
+        String response = postMigrationStep(node, containerId, matchId, "catch-up", delta);
+        try {
+            return objectMapper.readTree(response).path("verified").asBoolean(false);
+        } catch (IOException e) {
+            throw new RuntimeException("Invalid catch-up response from node " + node.nodeId(), e);
+        }
+    }
+
+    @Override
+    public int redirectClients(Node node, long containerId, long matchId, Node target, long targetContainerId) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "nodeAddress", target.advertiseAddress(),
+                    "containerId", targetContainerId));
+            String response = postMigrationStep(node, containerId, matchId, "redirect", body);
+            return objectMapper.readTree(response).path("redirected").asInt();
+        } catch (IOException e) {
+            throw new RuntimeException("Invalid redirect response from node " + node.nodeId(), e);
+        }
+    }
+
+    /**
+     * Posts one step of a match migration and returns the response body.
+     *
+     * <p>Captured states scale with the match, so these requests get the longer
+     * timeout used for module uploads.
+     */
+    private String postMigrationStep(Node node, long containerId, long matchId, String step, String body) {
+        String url = node.advertiseAddress() + "/api/containers/" + containerId
+                + "/matches/" + matchId + "/migration/" + step;
+
+        try {
+            HttpRequest request = addAuthHeader(HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofString(body)))
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200 && response.statusCode() != 204) {
+                throw new RuntimeException(
+                        "Migration step " + step + " failed: HTTP " + response.statusCode() + " - " + response.body()
+                );
+            }
+
+            log.debug("Migration step {} for match {} in container {} on node {} succeeded",
+                    step, matchId, containerId, node.nodeId());
+            return response.body();
+
+        } catch (IOException | InterruptedException e) {
+            log.error("Migration step {} for match {} on node {} failed: {}",
+                    step, matchId, node.nodeId(), e.getMessage());
+            throw new RuntimeException("Migration step " + step + " failed on node " + node.nodeId(), e);
+        }
+    }
+
     private byte[] createMultipartBody(String boundary, String name, String version, String fileName, byte[] jarData)
             throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
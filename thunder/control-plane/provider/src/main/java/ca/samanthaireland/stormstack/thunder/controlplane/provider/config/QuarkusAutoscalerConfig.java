@@ -91,4 +91,52 @@ public interface QuarkusAutoscalerConfig extends AutoscalerConfiguration {
     @WithName("target-saturation")
     @WithDefault("0.6")
     double targetSaturation();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @WithName("predictive-enabled")
+    @WithDefault("true")
+    boolean predictiveEnabled();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @WithName("forecast-horizon-seconds")
+    @WithDefault("300")
+    int forecastHorizonSeconds();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @WithName("history-size")
+    @WithDefault("120")
+    int historySize();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @WithName("smoothing-alpha")
+    @WithDefault("0.5")
+    double smoothingAlpha();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @WithName("trend-beta")
+    @WithDefault("0.3")
+    double trendBeta();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @WithName("max-tick-overrun-rate")
+    @WithDefault("0.1")
+    double maxTickOverrunRate();
 }
@@ -56,4 +56,20 @@ public interface QuarkusProxyConfig extends ProxyConfiguration {
     @WithName("max-request-body-bytes")
     @WithDefault("10485760")
     long maxRequestBodyBytes();
+
+    /**
+     * Whether bodies are streamed through the proxy instead of buffered.
+     */
+    @Override
+    @WithName("streaming-enabled")
+    @WithDefault("true")
+    boolean streamingEnabled();
+
+    /**
+     * Whether to negotiate HTTP/2 with engine nodes.
+     */
+    @Override
+    @WithName("http2-enabled")
+    @WithDefault("true")
+    boolean http2Enabled();
 }
@@ -24,13 +24,18 @@ package ca.samanthaireland.stormstack.thunder.controlplane.provider.config;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.AutoscalerService;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.AutoscalerServiceImpl;
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.NodeMetricsHistory;
 import ca.samanthaireland.stormstack.thunder.controlplane.client.LightningNodeClient;
 import ca.samanthaireland.stormstack.thunder.controlplane.cluster.service.ClusterService;
 import ca.samanthaireland.stormstack.thunder.controlplane.cluster.service.ClusterServiceImpl;
 import ca.samanthaireland.stormstack.thunder.controlplane.config.AutoscalerConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.config.ControlPlaneConfiguration;
+import ca.samanthaireland.stormstack.thunder.controlplane.config.ModuleDistributionConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.config.ModuleStorageConfiguration;
+import ca.samanthaireland.stormstack.thunder.controlplane.config.SchedulerConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.repository.MatchRegistry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchMigrationService;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchMigrationServiceImpl;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchRoutingService;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchRoutingServiceImpl;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.repository.ModuleRepository;
@@ -39,6 +44,7 @@ import ca.samanthaireland.stormstack.thunder.controlplane.module.service.ModuleD
 import ca.samanthaireland.stormstack.thunder.controlplane.module.service.ModuleRegistryService;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.service.ModuleRegistryServiceImpl;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.repository.NodeRepository;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.service.ClusterNodeView;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryServiceImpl;
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.config.ProxyConfiguration;
@@ -50,6 +56,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
 
+import java.time.Clock;
+import java.time.Duration;
+
 /**
  * Quarkus CDI producer for core domain services.
  *
@@ -99,32 +108,90 @@ public class ServiceProducer {
         return quarkusConfig;
     }
 
+    /**
+     * Produces the core ModuleDistributionConfiguration from Quarkus config.
+     *
+     * @param quarkusConfig the Quarkus configuration mapping
+     * @return the core configuration interface
+     */
+    @Produces
+    @Singleton
+    public ModuleDistributionConfiguration moduleDistributionConfiguration(QuarkusModuleDistributionConfig quarkusConfig) {
+        return quarkusConfig;
+    }
+
+    /**
+     * Produces the core SchedulerConfiguration from Quarkus config.
+     *
+     * @param quarkusConfig the Quarkus configuration mapping
+     * @return the core configuration interface
+     */
+    @Produces
+    @Singleton
+    public SchedulerConfiguration schedulerConfiguration(QuarkusSchedulerConfig quarkusConfig) {
+        return quarkusConfig;
+    }
+
+    /**
+     * Produces the cached cluster view shared by the node registry and the scheduler.
+     *
+     * @param nodeRepository the node repository
+     * @param config         the scheduler configuration
+     * @return the cluster node view
+     */
+    @Produces
+    @Singleton
+    public ClusterNodeView clusterNodeView(NodeRepository nodeRepository, SchedulerConfiguration config) {
+        return new ClusterNodeView(
+                nodeRepository::findAll,
+                Duration.ofSeconds(config.nodeViewRefreshSeconds()),
+                Clock.systemUTC()
+        );
+    }
+
+    /**
+     * Produces the per-node heartbeat history used for autoscaler forecasts.
+     *
+     * @param config the autoscaler configuration
+     * @return the metrics history
+     */
+    @Produces
+    @Singleton
+    public NodeMetricsHistory nodeMetricsHistory(AutoscalerConfiguration config) {
+        return new NodeMetricsHistory(config.historySize());
+    }
+
     /**
      * Produces the NodeRegistryService.
      *
      * @param nodeRepository the node repository
      * @param config         the control plane configuration
+     * @param nodeView       the cluster view to keep current on heartbeats
+     * @param metricsHistory the heartbeat history to record into
      * @return the node registry service
      */
     @Produces
     @Singleton
     public NodeRegistryService nodeRegistryService(
             NodeRepository nodeRepository,
-            ControlPlaneConfiguration config
+            ControlPlaneConfiguration config,
+            ClusterNodeView nodeView,
+            NodeMetricsHistory metricsHistory
     ) {
-        return new NodeRegistryServiceImpl(nodeRepository, config);
+        return new NodeRegistryServiceImpl(nodeRepository, config, nodeView, metricsHistory);
     }
 
     /**
      * Produces the SchedulerService.
      *
-     * @param nodeRegistryService the node registry service
+     * @param nodeView the cached cluster view
+     * @param config   the scheduler configuration
      * @return the scheduler service
      */
     @Produces
     @Singleton
-    public SchedulerService schedulerService(NodeRegistryService nodeRegistryService) {
-        return new SchedulerServiceImpl(nodeRegistryService);
+    public SchedulerService schedulerService(ClusterNodeView nodeView, SchedulerConfiguration config) {
+        return new SchedulerServiceImpl(nodeView, config);
     }
 
     /**
@@ -157,12 +224,33 @@ public class ServiceProducer {
         return new MatchRoutingServiceImpl(schedulerService, nodeClient, matchRegistry);
     }
 
+    /**
+     * Produces the MatchMigrationService.
+     *
+     * @param schedulerService    the scheduler service
+     * @param nodeRegistryService the node registry service
+     * @param nodeClient          the lightning node client
+     * @param matchRegistry       the match registry
+     * @return the match migration service
+     */
+    @Produces
+    @Singleton
+    public MatchMigrationService matchMigrationService(
+            SchedulerService schedulerService,
+            NodeRegistryService nodeRegistryService,
+            LightningNodeClient nodeClient,
+            MatchRegistry matchRegistry
+    ) {
+        return new MatchMigrationServiceImpl(schedulerService, nodeRegistryService, nodeClient, matchRegistry);
+    }
+
     /**
      * Produces the AutoscalerService.
      *
      * @param nodeRegistryService the node registry service
      * @param schedulerService    the scheduler service
      * @param config              the autoscaler configuration
+     * @param metricsHistory      the heartbeat history to forecast from
      * @return the autoscaler service
      */
     @Produces
@@ -170,9 +258,10 @@ public class ServiceProducer {
     public AutoscalerService autoscalerService(
             NodeRegistryService nodeRegistryService,
             SchedulerService schedulerService,
-            AutoscalerConfiguration config
+            AutoscalerConfiguration config,
+            NodeMetricsHistory metricsHistory
     ) {
-        return new AutoscalerServiceImpl(nodeRegistryService, schedulerService, config);
+        return new AutoscalerServiceImpl(nodeRegistryService, schedulerService, config, metricsHistory);
     }
 
     /**
@@ -197,6 +286,7 @@ public class ServiceProducer {
      * @param moduleRepository    the module repository
      * @param nodeRegistryService the node registry service
      * @param nodeClient          the node client for module distribution
+     * @param config              the module distribution configuration
      * @return the module distribution service
      */
     @Produces
@@ -204,9 +294,10 @@ public class ServiceProducer {
     public ModuleDistributionService moduleDistributionService(
             ModuleRepository moduleRepository,
             NodeRegistryService nodeRegistryService,
-            LightningNodeClient nodeClient
+            LightningNodeClient nodeClient,
+            ModuleDistributionConfiguration config
     ) {
-        return new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient);
+        return new ModuleDistributionServiceImpl(moduleRepository, nodeRegistryService, nodeClient, config);
     }
 
     /**
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor-based paginated response wrapper.
+ *
+ * <p>Unlike {@link PagedResponse}, the total item count is not computed, so a page
+ * can be served without loading the full result set. Pass {@code nextCursor} back
+ * as the {@code cursor} query parameter to fetch the following page.
+ *
+ * @param items      the items in this page
+ * @param limit      the requested page size
+ * @param nextCursor cursor for the next page, or null if this is the last page
+ * @param hasNext    true if a next page exists
+ * @param <T>        the type of items in the page
+ */
+public record CursorPagedResponse<T>(
+        List<T> items,
+        int limit,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * Creates a cursor page by mapping the given items.
+     *
+     * @param items      the source items
+     * @param limit      the requested page size
+     * @param nextCursor cursor for the next page, or null if this is the last page
+     * @param mapper     function converting source items to response items
+     * @param <S>        source item type
+     * @param <T>        response item type
+     * @return the cursor page
+     */
+    public static <S, T> CursorPagedResponse<T> of(List<S> items, int limit, String nextCursor, Function<S, T> mapper) {
+        return new CursorPagedResponse<>(
+                items.stream().map(mapper).toList(),
+                limit,
+                nextCursor,
+                nextCursor != null
+        );
+    }
+}
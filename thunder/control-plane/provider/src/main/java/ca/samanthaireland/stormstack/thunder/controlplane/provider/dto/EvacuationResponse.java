@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.dto;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.EvacuationResult;
+
+import java.util.List;
+
+/**
+ * Response describing the evacuation of a node.
+ *
+ * @param nodeId   the evacuated node
+ * @param migrated the matches that moved
+ * @param failed   the IDs of matches still running on the node
+ */
+public record EvacuationResponse(
+        String nodeId,
+        List<MigrationResponse> migrated,
+        List<String> failed
+) {
+
+    /**
+     * Creates a response from an evacuation result.
+     *
+     * @param result the evacuation result
+     * @return the response DTO
+     */
+    public static EvacuationResponse from(EvacuationResult result) {
+        return new EvacuationResponse(
+                result.nodeId().value(),
+                result.migrated().stream().map(MigrationResponse::from).toList(),
+                result.failed().stream().map(ClusterMatchId::value).toList()
+        );
+    }
+}
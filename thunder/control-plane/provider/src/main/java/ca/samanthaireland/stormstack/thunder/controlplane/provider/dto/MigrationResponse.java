@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.dto;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MigrationResult;
+
+/**
+ * Response describing a completed live match migration.
+ *
+ * @param matchId           the migrated match, whose ID does not change
+ * @param sourceNodeId      the node the match left
+ * @param targetNodeId      the node now hosting the match
+ * @param targetContainerId the container on the target node
+ * @param pauseMillis       how long the match stopped ticking
+ * @param totalMillis       how long the whole migration took
+ * @param replayVerified    false if the match had to be copied again while frozen
+ * @param redirectedClients the number of websocket clients told to reconnect
+ */
+public record MigrationResponse(
+        String matchId,
+        String sourceNodeId,
+        String targetNodeId,
+        long targetContainerId,
+        long pauseMillis,
+        long totalMillis,
+        boolean replayVerified,
+        int redirectedClients
+) {
+
+    /**
+     * Creates a response from a migration result.
+     *
+     * @param result the migration result
+     * @return the response DTO
+     */
+    public static MigrationResponse from(MigrationResult result) {
+        return new MigrationResponse(
+                result.matchId().value(),
+                result.sourceNodeId().value(),
+                result.targetNodeId().value(),
+                result.targetContainerId(),
+                result.pauseMillis(),
+                result.totalMillis(),
+                result.replayVerified(),
+                result.redirectedClients()
+        );
+    }
+}
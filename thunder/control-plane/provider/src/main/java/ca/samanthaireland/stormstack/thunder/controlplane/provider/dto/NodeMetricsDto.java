@@ -24,23 +24,44 @@ package ca.samanthaireland.stormstack.thunder.controlplane.provider.dto;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * DTO for node metrics information.
  *
- * @param containerCount current number of containers
- * @param matchCount     current number of active matches
- * @param cpuUsage       CPU usage percentage (0.0 - 1.0)
- * @param memoryUsedMb   memory usage in megabytes
- * @param memoryMaxMb    maximum memory in megabytes
+ * @param containerCount  current number of containers
+ * @param matchCount      current number of active matches
+ * @param cpuUsage        CPU usage percentage (0.0 - 1.0)
+ * @param memoryUsedMb    memory usage in megabytes
+ * @param memoryMaxMb     maximum memory in megabytes
+ * @param entityCount     total entities across all containers on the node
+ * @param tickOverrunRate fraction of running containers overrunning their tick budget (0.0 - 1.0)
+ * @param modules         names of modules installed on the node (may be null for older nodes)
+ * @param moduleHashes    SHA-256 checksums of module JARs on the node (may be null for older nodes)
+ * @param warmContainers  warm containers ready to claim by sorted comma-separated module set (may be null for older nodes)
  */
 public record NodeMetricsDto(
         int containerCount,
         int matchCount,
         double cpuUsage,
         long memoryUsedMb,
-        long memoryMaxMb
+        long memoryMaxMb,
+        long entityCount,
+        double tickOverrunRate,
+        List<String> modules,
+        List<String> moduleHashes,
+        Map<String, Integer> warmContainers
 ) {
 
+    /**
+     * Creates a DTO without the placement metrics, as reported by older nodes.
+     */
+    public NodeMetricsDto(int containerCount, int matchCount, double cpuUsage,
+                          long memoryUsedMb, long memoryMaxMb) {
+        this(containerCount, matchCount, cpuUsage, memoryUsedMb, memoryMaxMb, 0, 0.0, List.of(), List.of(), Map.of());
+    }
+
     /**
      * Creates a DTO from a domain model.
      *
@@ -53,7 +74,12 @@ public record NodeMetricsDto(
                 metrics.matchCount(),
                 metrics.cpuUsage(),
                 metrics.memoryUsedMb(),
-                metrics.memoryMaxMb()
+                metrics.memoryMaxMb(),
+                metrics.entityCount(),
+                metrics.tickOverrunRate(),
+                metrics.modules(),
+                metrics.moduleHashes(),
+                metrics.warmContainers()
         );
     }
 
@@ -68,7 +94,12 @@ public record NodeMetricsDto(
                 matchCount,
                 cpuUsage,
                 memoryUsedMb,
-                memoryMaxMb
+                memoryMaxMb,
+                entityCount,
+                tickOverrunRate,
+                modules,
+                moduleHashes,
+                warmContainers
         );
     }
 }
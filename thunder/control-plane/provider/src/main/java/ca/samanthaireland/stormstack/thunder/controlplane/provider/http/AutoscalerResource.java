@@ -23,6 +23,7 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.SaturationForecast;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingRecommendation;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.AutoscalerService;
 import jakarta.inject.Inject;
@@ -39,6 +40,7 @@ import org.slf4j.LoggerFactory;
  * <p>Endpoints:
  * <ul>
  *   <li>GET /api/autoscaler/recommendation - Get current scaling recommendation</li>
+ *   <li>GET /api/autoscaler/forecast - Get the short-horizon load forecast behind recommendations</li>
  *   <li>POST /api/autoscaler/acknowledge - Acknowledge a scaling action (starts cooldown)</li>
  *   <li>GET /api/autoscaler/status - Get autoscaler status</li>
  * </ul>
@@ -68,6 +70,19 @@ public class AutoscalerResource {
         return autoscalerService.getRecommendation();
     }
 
+    /**
+     * Gets the forecast of cluster saturation and tick overrun that the
+     * recommendation is based on.
+     *
+     * @return the saturation forecast
+     */
+    @GET
+    @Path("/forecast")
+    @Scopes("control-plane.autoscaler.read")
+    public SaturationForecast getForecast() {
+        return autoscalerService.getForecast();
+    }
+
     /**
      * Acknowledges that a scaling action was taken.
      * This starts the cooldown timer to prevent rapid scaling.
@@ -23,6 +23,7 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.DashboardOverview;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.PagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.service.DashboardService;
@@ -44,6 +45,7 @@ import jakarta.ws.rs.core.MediaType;
  *   <li>GET /api/dashboard/overview - Complete cluster overview</li>
  *   <li>GET /api/dashboard/nodes - Paginated node list</li>
  *   <li>GET /api/dashboard/matches - Paginated match list</li>
+ *   <li>GET /api/dashboard/matches/page - Cursor-paginated match list</li>
  * </ul>
  *
  * <p>When JWT authentication is enabled ({@code control-plane.jwt.enabled=true}),
@@ -124,4 +126,30 @@ public class DashboardResource {
 
         return dashboardService.getMatches(page, pageSize, status, nodeId);
     }
+
+    /**
+     * Gets a cursor-addressed page of matches with optional filtering.
+     *
+     * <p>Prefer this over {@link #getMatches} on large clusters: pages are read
+     * straight from the registry indexes without counting or loading every match.
+     *
+     * @param cursor optional cursor returned with the previous page
+     * @param limit  items per page (default: 20, max: 100)
+     * @param status optional status filter (CREATING, RUNNING, FINISHED, ERROR)
+     * @param nodeId optional node ID filter
+     * @return cursor-paginated list of matches
+     */
+    @GET
+    @Path("/matches/page")
+    @Scopes("control-plane.dashboard.read")
+    public CursorPagedResponse<MatchResponse> getMatchesByCursor(
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") @DefaultValue("20") int limit,
+            @QueryParam("status") MatchStatus status,
+            @QueryParam("nodeId") String nodeId
+    ) {
+        limit = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+
+        return dashboardService.getMatchesByCursor(cursor, limit, status, nodeId);
+    }
 }
@@ -24,6 +24,7 @@ package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.auth.AuthClientException;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchFullException;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchMigrationException;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchNotFoundException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.exception.ModuleDistributionException;
 import ca.samanthaireland.stormstack.thunder.controlplane.module.exception.ModuleNotFoundException;
@@ -102,6 +103,20 @@ public class ExceptionMappers {
         }
     }
 
+    /**
+     * Maps MatchMigrationException to HTTP 409 Conflict.
+     * The match keeps running on its original node.
+     */
+    @Provider
+    public static class MatchMigrationExceptionMapper implements ExceptionMapper<MatchMigrationException> {
+        @Override
+        public Response toResponse(MatchMigrationException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ErrorResponse("MATCH_MIGRATION_FAILED", e.getMessage(), Instant.now()))
+                    .build();
+        }
+    }
+
     /**
      * Maps AuthClientException to HTTP 502 Bad Gateway.
      */
@@ -28,14 +28,19 @@ import ca.samanthaireland.stormstack.thunder.controlplane.auth.IssueMatchTokenRe
 import ca.samanthaireland.stormstack.thunder.controlplane.auth.MatchTokenResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchFullException;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchMigrationService;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchRoutingService;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CreateMatchBatchRequest;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CreateMatchRequest;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.JoinMatchRequest;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.JoinMatchResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MatchResponse;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MigrationResponse;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
@@ -55,11 +60,14 @@ import java.util.Set;
  * <p>Endpoints:
  * <ul>
  *   <li>POST /api/matches/create - Create a new match (scheduler picks node)</li>
+ *   <li>POST /api/matches/batch - Create several matches in one placement pass</li>
  *   <li>GET /api/matches/{matchId} - Get match details with connection info</li>
  *   <li>GET /api/matches - List all matches</li>
+ *   <li>GET /api/matches/page - List matches one cursor-addressed page at a time</li>
  *   <li>DELETE /api/matches/{matchId} - Delete a match</li>
  *   <li>POST /api/matches/{matchId}/finish - Mark match as finished</li>
  *   <li>POST /api/matches/{matchId}/join - Join a match as a player</li>
+ *   <li>POST /api/matches/{matchId}/migrate - Move a running match to another node</li>
  * </ul>
  */
 @Path("/api/matches")
@@ -67,13 +75,20 @@ import java.util.Set;
 @Consumes({V1_JSON, JSON})
 public class MatchResource {
     private static final Logger log = LoggerFactory.getLogger(MatchResource.class);
+    private static final int MAX_PAGE_SIZE = 500;
 
     private final MatchRoutingService matchRoutingService;
+    private final MatchMigrationService matchMigrationService;
     private final AuthClient authClient;
 
     @Inject
-    public MatchResource(MatchRoutingService matchRoutingService, AuthClient authClient) {
+    public MatchResource(
+            MatchRoutingService matchRoutingService,
+            MatchMigrationService matchMigrationService,
+            AuthClient authClient
+    ) {
         this.matchRoutingService = matchRoutingService;
+        this.matchMigrationService = matchMigrationService;
         this.authClient = authClient;
     }
 
@@ -109,6 +124,36 @@ public class MatchResource {
                 .build();
     }
 
+    /**
+     * Creates several matches at once.
+     * The scheduler places the whole batch together, spreading it across nodes;
+     * if the cluster cannot fit every match, none are created.
+     *
+     * @param request the batch creation request
+     * @return 201 Created with the details of every created match
+     */
+    @POST
+    @Path("/batch")
+    @Scopes("control-plane.match.create")
+    public Response createBatch(@Valid CreateMatchBatchRequest request) {
+        log.info("Create match batch request: modules={}, count={}, playerLimit={}",
+                request.moduleNames(), request.count(), request.playerLimit());
+
+        List<MatchResponse> created = matchRoutingService.createMatches(
+                        request.moduleNames(),
+                        request.count(),
+                        request.playerLimitOrDefault()
+                ).stream()
+                .map(MatchResponse::from)
+                .toList();
+
+        log.info("Match batch created: {} matches", created.size());
+
+        return Response.status(Response.Status.CREATED)
+                .entity(created)
+                .build();
+    }
+
     /**
      * Gets match details by ID, including connection information.
      *
@@ -148,6 +193,32 @@ public class MatchResource {
                 .toList();
     }
 
+    /**
+     * Lists matches in the cluster one page at a time, ordered by match ID.
+     *
+     * @param cursor optional cursor returned with the previous page
+     * @param limit  maximum matches per page (default: 100, max: 500)
+     * @param status optional status filter
+     * @param nodeId optional node ID filter
+     * @return a page of matches and the cursor for the next page
+     */
+    @GET
+    @Path("/page")
+    @Scopes("control-plane.match.read")
+    public CursorPagedResponse<MatchResponse> listPage(
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") @DefaultValue("100") int limit,
+            @QueryParam("status") MatchStatus status,
+            @QueryParam("nodeId") String nodeId
+    ) {
+        limit = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        NodeId filterNodeId = nodeId != null && !nodeId.isBlank() ? NodeId.of(nodeId) : null;
+        String startAfter = cursor != null && !cursor.isBlank() ? cursor : null;
+
+        MatchPage page = matchRoutingService.findPage(status, filterNodeId, startAfter, limit);
+        return CursorPagedResponse.of(page.entries(), limit, page.nextCursor(), MatchResponse::from);
+    }
+
     /**
      * Deletes a match from the cluster.
      * This will also delete the match from the hosting node.
@@ -286,6 +357,28 @@ public class MatchResource {
                 .build();
     }
 
+    /**
+     * Moves a running match to another node without ending it.
+     * Connected clients are told to reconnect to the new node.
+     *
+     * @param matchId      the match ID to migrate
+     * @param targetNodeId optional node to move to; the scheduler chooses if omitted
+     * @return the migration outcome, including how long the match was paused
+     */
+    @POST
+    @Path("/{matchId}/migrate")
+    @Scopes("control-plane.match.update")
+    public MigrationResponse migrate(
+            @PathParam("matchId") String matchId,
+            @QueryParam("targetNodeId") String targetNodeId
+    ) {
+        log.info("Migrate match request: matchId={}, targetNode={}", matchId, targetNodeId);
+
+        NodeId target = targetNodeId != null && !targetNodeId.isBlank() ? NodeId.of(targetNodeId) : null;
+
+        return MigrationResponse.from(matchMigrationService.migrate(ClusterMatchId.fromString(matchId), target));
+    }
+
     /**
      * Builds the command WebSocket URL from match entry.
      */
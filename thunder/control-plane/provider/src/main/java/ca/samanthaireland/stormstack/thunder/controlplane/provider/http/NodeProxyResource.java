@@ -27,6 +27,7 @@ import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.AuthServiceClient;
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.NodeProxyService;
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.ProxyResponse;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.StreamingProxyResponse;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.*;
@@ -45,6 +46,10 @@ import java.util.Map;
  * through the control plane when direct network access is not available (e.g., when
  * nodes are on Docker-internal networks).
  *
+ * <p>When streaming is enabled (the default), request and response bodies are piped
+ * through without being buffered. WebSocket endpoints are relayed separately by
+ * {@link NodeProxyWebSocket}.
+ *
  * <p>Endpoints:
  * <ul>
  *   <li>GET /api/nodes/{nodeId}/proxy/{path:.*} - Proxy GET request to node</li>
@@ -228,7 +233,7 @@ public class NodeProxyResource {
 
         if (apiToken != null && !apiToken.isEmpty()) {
             // API token - must exchange for JWT
-            String jwtToForward = exchangeTokenForJwt(apiToken);
+            String jwtToForward = ProxyTokenExchange.exchangeTokenForJwt(authServiceClient, apiToken);
             if (jwtToForward != null) {
                 headers.put("Authorization", BEARER_PREFIX + jwtToForward);
             } else {
@@ -237,7 +242,7 @@ public class NodeProxyResource {
         } else if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
             // JWT in Authorization header - forward as-is or exchange if needed
             String token = authHeader.substring(BEARER_PREFIX.length());
-            String jwtToForward = exchangeTokenForJwt(token);
+            String jwtToForward = ProxyTokenExchange.exchangeTokenForJwt(authServiceClient, token);
             if (jwtToForward != null) {
                 headers.put("Authorization", BEARER_PREFIX + jwtToForward);
             } else {
@@ -246,6 +251,10 @@ public class NodeProxyResource {
             }
         }
 
+        if (nodeProxyService.isStreamingEnabled()) {
+            return doStreamingProxy(NodeId.of(nodeId), method, path, queryParams, headers, bodyStream);
+        }
+
         // Read body if present
         byte[] body = null;
         if (bodyStream != null) {
@@ -285,40 +294,47 @@ public class NodeProxyResource {
     }
 
     /**
-     * Exchange a token (API token or JWT) for a JWT suitable for forwarding.
-     *
-     * <p>API tokens (lat_...) are opaque session tokens that only the auth service
-     * can validate. When proxying requests to engine nodes, we need to exchange
-     * them for JWTs that the engine can validate locally.
-     *
-     * @param token the incoming token (may be API token or JWT)
-     * @return the JWT to use for forwarding, or null if exchange fails
+     * Pipes the request body to the node and the node's response body back to the
+     * client, so large payloads (e.g. history exports) never sit in control-plane heap.
      */
-    private String exchangeTokenForJwt(String token) {
-        // If token already looks like a JWT (starts with eyJ), return as-is
-        if (token.startsWith("eyJ")) {
-            log.debug("Token is already a JWT, forwarding as-is");
-            return token;
-        }
+    private Response doStreamingProxy(
+            NodeId nodeId,
+            String method,
+            String path,
+            Map<String, String> queryParams,
+            Map<String, String> headers,
+            InputStream bodyStream
+    ) {
+        StreamingProxyResponse proxyResponse = nodeProxyService.proxyStream(
+                nodeId,
+                method,
+                path,
+                queryParams,
+                headers,
+                bodyStream
+        );
 
-        // API token - need to exchange via auth service
-        if (!authServiceClient.isRemoteValidationEnabled()) {
-            log.warn("Cannot exchange API token - remote auth validation not configured");
-            return null;
-        }
+        Response.ResponseBuilder responseBuilder = Response.status(proxyResponse.statusCode());
+        proxyResponse.headers().forEach(responseBuilder::header);
 
-        log.debug("Exchanging API token for JWT via auth service");
-        var result = authServiceClient.validateToken(token);
+        if (!proxyResponse.mayHaveBody()) {
+            closeQuietly(proxyResponse);
+            return responseBuilder.build();
+        }
 
-        return switch (result) {
-            case AuthServiceClient.ValidationResult.Success success -> {
-                log.debug("Token exchange successful for user: {}", success.username());
-                yield success.jwtToken();
-            }
-            case AuthServiceClient.ValidationResult.Failure failure -> {
-                log.warn("Token exchange failed: {}", failure.message());
-                yield null;
+        StreamingOutput output = out -> {
+            try (proxyResponse) {
+                proxyResponse.body().transferTo(out);
             }
         };
+        return responseBuilder.entity(output).build();
+    }
+
+    private void closeQuietly(StreamingProxyResponse proxyResponse) {
+        try {
+            proxyResponse.close();
+        } catch (IOException e) {
+            log.debug("Failed to close proxied response body: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.exception.NodeNotFoundException;
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.AuthServiceClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.exception.ProxyDisabledException;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.NodeProxyService;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.NodeWebSocketTunnel;
+import io.quarkus.websockets.next.CloseReason;
+import io.quarkus.websockets.next.HandshakeRequest;
+import io.quarkus.websockets.next.OnBinaryMessage;
+import io.quarkus.websockets.next.OnClose;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.PathParam;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * WebSocket endpoint that relays a client connection to a WebSocket on an engine node.
+ *
+ * <p>Clients connect to /ws/nodes/{nodeId}/proxy?path=/ws/containers/1/matches/1/snapshot
+ * and the remaining query parameters (e.g. the engine auth token) are forwarded with
+ * the upstream handshake. The handshake is authenticated by
+ * {@link ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.NodeProxyUpgradeCheck},
+ * which requires the {@code control-plane.node.proxy} scope. API tokens are exchanged for a
+ * JWT before the upstream handshake, as the REST proxy does; the engine node then applies
+ * its own checks to the forwarded Authorization header and query parameters.
+ *
+ * <p>Client messages that arrive while the upstream connection is still being opened are
+ * buffered per connection and relayed in order once it is, so a client may send as soon
+ * as its own handshake completes.
+ */
+@WebSocket(path = "/ws/nodes/{nodeId}/proxy")
+public class NodeProxyWebSocket {
+    private static final Logger log = LoggerFactory.getLogger(NodeProxyWebSocket.class);
+    private static final String PATH_PARAM = "path";
+    private static final int POLICY_VIOLATION = 1008;
+    private static final int INTERNAL_ERROR = 1011;
+    private static final int NORMAL_CLOSURE = 1000;
+    private static final String TOKEN_PARAM = "token";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String API_TOKEN_HEADER = "X-Api-Token";
+    private static final String SEC_WEBSOCKET_PROTOCOL = "Sec-WebSocket-Protocol";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String BEARER_SUBPROTOCOL_PREFIX = "Bearer.";
+    private static final int MAX_PENDING_MESSAGES = 256;
+
+    private final NodeProxyService nodeProxyService;
+    private final AuthServiceClient authServiceClient;
+    private final Map<String, Relay> relays = new ConcurrentHashMap<>();
+
+    @Inject
+    public NodeProxyWebSocket(NodeProxyService nodeProxyService, AuthServiceClient authServiceClient) {
+        this.nodeProxyService = nodeProxyService;
+        this.authServiceClient = authServiceClient;
+    }
+
+    @OnOpen
+    public void onOpen(@PathParam String nodeId, WebSocketConnection connection) {
+        // Registered before anything slow, so messages arriving meanwhile are buffered
+        Relay relay = new Relay();
+        relays.put(connection.id(), relay);
+
+        Map<String, String> queryParams = parseQuery(connection.handshakeRequest().query());
+        String path = queryParams.remove(PATH_PARAM);
+        if (path == null || path.isBlank()) {
+            relays.remove(connection.id());
+            close(connection, POLICY_VIOLATION, "Missing 'path' query parameter");
+            return;
+        }
+
+        Map<String, String> headers = forwardedHeaders(connection.handshakeRequest(), queryParams);
+
+        try {
+            NodeWebSocketTunnel tunnel = nodeProxyService.openWebSocket(
+                    NodeId.of(nodeId), path, queryParams, headers, new DownstreamListener(connection));
+            if (relay.attach(tunnel)) {
+                log.debug("WebSocket relay {} opened to node {} path {}", connection.id(), nodeId, path);
+            } else {
+                log.debug("WebSocket relay {} closed before node {} path {} opened", connection.id(), nodeId, path);
+            }
+        } catch (ProxyDisabledException e) {
+            relays.remove(connection.id());
+            close(connection, POLICY_VIOLATION, "Proxy is disabled");
+        } catch (NodeNotFoundException e) {
+            relays.remove(connection.id());
+            close(connection, POLICY_VIOLATION, "Node not found: " + nodeId);
+        }
+    }
+
+    @OnTextMessage
+    public void onTextMessage(String message, WebSocketConnection connection) {
+        Relay relay = relays.get(connection.id());
+        if (relay != null && !relay.send(tunnel -> tunnel.sendText(message))) {
+            close(connection, POLICY_VIOLATION, "Too many messages before the relay opened");
+        }
+    }
+
+    @OnBinaryMessage
+    public void onBinaryMessage(byte[] message, WebSocketConnection connection) {
+        Relay relay = relays.get(connection.id());
+        if (relay != null && !relay.send(tunnel -> tunnel.sendBinary(ByteBuffer.wrap(message)))) {
+            close(connection, POLICY_VIOLATION, "Too many messages before the relay opened");
+        }
+    }
+
+    @OnClose
+    public void onClose(WebSocketConnection connection) {
+        Relay relay = relays.remove(connection.id());
+        if (relay != null) {
+            CloseReason reason = connection.closeReason();
+            relay.close(reason != null ? sendableCode(reason.getCode()) : NORMAL_CLOSURE,
+                    reason != null ? reason.getMessage() : "");
+            log.debug("WebSocket relay {} closed", connection.id());
+        }
+    }
+
+    /**
+     * Exchanges the client's token for a JWT the engine can validate, as the REST proxy does.
+     *
+     * <p>The token is read in the same order as the upgrade check. The JWT is forwarded in
+     * the Authorization header and replaces a {@code token} query parameter. If the exchange
+     * fails, the client's Authorization header and query parameters are forwarded unchanged.
+     */
+    private Map<String, String> forwardedHeaders(HandshakeRequest handshake, Map<String, String> queryParams) {
+        Map<String, String> headers = new HashMap<>();
+        String authorization = handshake.header(AUTHORIZATION_HEADER);
+        String token = clientToken(handshake, queryParams, authorization);
+        String jwt = token != null ? ProxyTokenExchange.exchangeTokenForJwt(authServiceClient, token) : null;
+        if (jwt != null) {
+            headers.put(AUTHORIZATION_HEADER, BEARER_PREFIX + jwt);
+            queryParams.computeIfPresent(TOKEN_PARAM, (name, value) -> jwt);
+        } else if (authorization != null) {
+            headers.put(AUTHORIZATION_HEADER, authorization);
+        }
+        return headers;
+    }
+
+    private static String clientToken(HandshakeRequest handshake, Map<String, String> queryParams,
+                                      String authorization) {
+        String subprotocol = handshake.header(SEC_WEBSOCKET_PROTOCOL);
+        if (subprotocol != null && subprotocol.startsWith(BEARER_SUBPROTOCOL_PREFIX)
+                && subprotocol.length() > BEARER_SUBPROTOCOL_PREFIX.length()) {
+            return subprotocol.substring(BEARER_SUBPROTOCOL_PREFIX.length());
+        }
+        String queryToken = queryParams.get(TOKEN_PARAM);
+        if (queryToken != null && !queryToken.isBlank()) {
+            return queryToken;
+        }
+        String apiToken = handshake.header(API_TOKEN_HEADER);
+        if (apiToken != null && !apiToken.isBlank()) {
+            return apiToken;
+        }
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)
+                && authorization.length() > BEARER_PREFIX.length()) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            if (!name.isEmpty()) {
+                params.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Maps reserved codes that must not appear in a close frame (1005, 1006, 1015) to a normal closure.
+     */
+    private static int sendableCode(int statusCode) {
+        return statusCode == 1005 || statusCode == 1006 || statusCode == 1015 ? NORMAL_CLOSURE : statusCode;
+    }
+
+    private static void close(WebSocketConnection connection, int code, String message) {
+        log.debug("Closing WebSocket relay {}: {}", connection.id(), message);
+        connection.close(new CloseReason(code, message)).subscribe().with(
+                ignored -> { },
+                error -> log.debug("Failed to close WebSocket {}: {}", connection.id(), error.getMessage()));
+    }
+
+    /**
+     * The client side of one relay. Until the upstream tunnel is attached, client messages
+     * are held in arrival order, up to {@link #MAX_PENDING_MESSAGES}, and a close is
+     * remembered so the tunnel is closed as soon as it opens.
+     */
+    private static final class Relay {
+        private final Queue<Consumer<NodeWebSocketTunnel>> pending = new ArrayDeque<>();
+        private NodeWebSocketTunnel tunnel;
+        private boolean closed;
+        private int closeCode;
+        private String closeReason;
+
+        /**
+         * Relays a message, or buffers it while the tunnel is opening.
+         *
+         * @param message sends the message through a tunnel
+         * @return false if the buffer is full
+         */
+        synchronized boolean send(Consumer<NodeWebSocketTunnel> message) {
+            if (tunnel != null) {
+                message.accept(tunnel);
+            } else if (!closed) {
+                if (pending.size() >= MAX_PENDING_MESSAGES) {
+                    return false;
+                }
+                pending.add(message);
+            }
+            return true;
+        }
+
+        /**
+         * Relays the buffered messages and every later one through the tunnel.
+         *
+         * @param opened the upstream tunnel
+         * @return false if the client closed first, in which case the tunnel is closed too
+         */
+        synchronized boolean attach(NodeWebSocketTunnel opened) {
+            if (closed) {
+                opened.close(closeCode, closeReason);
+                return false;
+            }
+            Consumer<NodeWebSocketTunnel> message;
+            while ((message = pending.poll()) != null) {
+                message.accept(opened);
+            }
+            tunnel = opened;
+            return true;
+        }
+
+        synchronized void close(int statusCode, String reason) {
+            closed = true;
+            pending.clear();
+            if (tunnel != null) {
+                tunnel.close(statusCode, reason);
+            } else {
+                closeCode = statusCode;
+                closeReason = reason;
+            }
+        }
+    }
+
+    /**
+     * Forwards upstream messages and lifecycle events to the client connection. Each
+     * message's stage completes once the client connection has written it.
+     */
+    private record DownstreamListener(WebSocketConnection connection) implements NodeWebSocketTunnel.Listener {
+
+        @Override
+        public CompletionStage<?> onText(String message) {
+            return connection.sendText(message)
+                    .onFailure().invoke(error ->
+                            log.debug("Failed to relay text to {}: {}", connection.id(), error.getMessage()))
+                    .subscribeAsCompletionStage();
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(ByteBuffer message) {
+            byte[] bytes = new byte[message.remaining()];
+            message.get(bytes);
+            return connection.sendBinary(bytes)
+                    .onFailure().invoke(error ->
+                            log.debug("Failed to relay binary to {}: {}", connection.id(), error.getMessage()))
+                    .subscribeAsCompletionStage();
+        }
+
+        @Override
+        public void onClose(int statusCode, String reason) {
+            if (connection.isOpen()) {
+                close(connection, sendableCode(statusCode), reason);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            log.warn("WebSocket relay {} to node failed: {}", connection.id(), error.getMessage());
+            if (connection.isOpen()) {
+                close(connection, INTERNAL_ERROR, "Upstream connection failed");
+            }
+        }
+    }
+}
@@ -23,9 +23,12 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.EvacuationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchMigrationService;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.EvacuationResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.HeartbeatRequest;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeRegistrationRequest;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeResponse;
@@ -48,6 +51,7 @@ import java.net.URI;
  *   <li>POST /api/nodes/register - Register a new node</li>
  *   <li>PUT /api/nodes/{nodeId}/heartbeat - Send heartbeat</li>
  *   <li>POST /api/nodes/{nodeId}/drain - Mark node as draining</li>
+ *   <li>POST /api/nodes/{nodeId}/evacuate - Drain node and migrate its matches away</li>
  *   <li>DELETE /api/nodes/{nodeId} - Deregister node</li>
  * </ul>
  */
@@ -58,10 +62,12 @@ public class NodeResource {
     private static final Logger log = LoggerFactory.getLogger(NodeResource.class);
 
     private final NodeRegistryService nodeRegistryService;
+    private final MatchMigrationService matchMigrationService;
 
     @Inject
-    public NodeResource(NodeRegistryService nodeRegistryService) {
+    public NodeResource(NodeRegistryService nodeRegistryService, MatchMigrationService matchMigrationService) {
         this.nodeRegistryService = nodeRegistryService;
+        this.matchMigrationService = matchMigrationService;
     }
 
     /**
@@ -115,6 +121,21 @@ public class NodeResource {
         return Response.ok(NodeResponse.from(node)).build();
     }
 
+    /**
+     * Drain a node and live-migrate every running match on it to other nodes.
+     * Matches that cannot be moved keep running and are listed as failed.
+     */
+    @POST
+    @Path("/{nodeId}/evacuate")
+    @Scopes("control-plane.node.manage")
+    public Response evacuate(@PathParam("nodeId") String nodeId) {
+        log.info("Evacuate request for node: {}", nodeId);
+
+        EvacuationResult result = matchMigrationService.evacuate(NodeId.of(nodeId));
+
+        return Response.ok(EvacuationResponse.from(result)).build();
+    }
+
     /**
      * Deregister a node from the cluster.
      */
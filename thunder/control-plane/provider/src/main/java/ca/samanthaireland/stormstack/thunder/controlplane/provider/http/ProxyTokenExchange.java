@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.AuthServiceClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exchanges client tokens for JWTs that engine nodes can validate, shared by the
+ * REST proxy and the WebSocket relay.
+ */
+final class ProxyTokenExchange {
+    private static final Logger log = LoggerFactory.getLogger(ProxyTokenExchange.class);
+
+    private ProxyTokenExchange() {
+    }
+
+    /**
+     * Exchange a token (API token or JWT) for a JWT suitable for forwarding.
+     *
+     * <p>API tokens (lat_...) are opaque session tokens that only the auth service
+     * can validate. When proxying requests to engine nodes, we need to exchange
+     * them for JWTs that the engine can validate locally.
+     *
+     * @param authServiceClient the client of the auth service
+     * @param token             the incoming token (may be API token or JWT)
+     * @return the JWT to use for forwarding, or null if exchange fails
+     */
+    static String exchangeTokenForJwt(AuthServiceClient authServiceClient, String token) {
+        // If token already looks like a JWT (starts with eyJ), return as-is
+        if (token.startsWith("eyJ")) {
+            log.debug("Token is already a JWT, forwarding as-is");
+            return token;
+        }
+
+        // API token - need to exchange via auth service
+        if (!authServiceClient.isRemoteValidationEnabled()) {
+            log.warn("Cannot exchange API token - remote auth validation not configured");
+            return null;
+        }
+
+        log.debug("Exchanging API token for JWT via auth service");
+        var result = authServiceClient.validateToken(token);
+
+        return switch (result) {
+            case AuthServiceClient.ValidationResult.Success success -> {
+                log.debug("Token exchange successful for user: {}", success.username());
+                yield success.jwtToken();
+            }
+            case AuthServiceClient.ValidationResult.Failure failure -> {
+                log.warn("Token exchange failed: {}", failure.message());
+                yield null;
+            }
+        };
+    }
+}
@@ -23,7 +23,9 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.redis;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.repository.MatchRegistry;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
@@ -32,8 +34,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.keys.KeyScanArgs;
+import io.quarkus.redis.datasource.sortedset.Range;
+import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.ZRangeArgs;
+import io.quarkus.redis.datasource.transactions.OptimisticLockingTransactionResult;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,42 +62,95 @@ import java.util.Optional;
  * <p>Key structure:
  * <ul>
  *   <li>{@code matches:{matchId}} - JSON match entry</li>
- *   <li>{@code matches:node:{nodeId}:{matchId}} - Index for finding matches by node</li>
+ *   <li>{@code match-index:all} - sorted set of every match ID</li>
+ *   <li>{@code match-index:node:{nodeId}} - sorted set of match IDs hosted on a node</li>
+ *   <li>{@code match-index:status:{status}} - sorted set of match IDs in a status</li>
+ *   <li>{@code match-index:players} - running total of players across all matches</li>
+ *   <li>{@code match-index:version} - layout version of the indexes, set once they are built</li>
  * </ul>
+ *
+ * <p>All index members share a score of zero, so each index is ordered lexically by
+ * match ID. This gives stable cursors for {@link #findPage} via {@code ZRANGEBYLEX},
+ * and reads are served from the indexes with batched {@code MGET}s instead of
+ * {@code KEYS} scans, which would block Redis for the whole keyspace.
+ *
+ * <p>Writes update the entry and its indexes in a single {@code MULTI/EXEC}, watching
+ * the entry key so that concurrent updates to the same match cannot leave a stale
+ * status or node index behind.
  */
 @ApplicationScoped
 public class RedisMatchRegistry implements MatchRegistry {
     private static final Logger log = LoggerFactory.getLogger(RedisMatchRegistry.class);
     private static final String MATCH_KEY_PREFIX = "matches:";
-    private static final String NODE_INDEX_PREFIX = "matches:node:";
+    private static final String LEGACY_NODE_INDEX_PREFIX = "matches:node:";
+    private static final String ALL_INDEX_KEY = "match-index:all";
+    private static final String NODE_INDEX_PREFIX = "match-index:node:";
+    private static final String STATUS_INDEX_PREFIX = "match-index:status:";
+    private static final String PLAYER_TOTAL_KEY = "match-index:players";
+    private static final String INDEX_VERSION_KEY = "match-index:version";
+
+    /**
+     * Layout version recorded under {@link #INDEX_VERSION_KEY}; bump it to force a
+     * rebuild when the index layout changes.
+     */
+    private static final String INDEX_VERSION = "1";
+
+    /**
+     * Maximum number of keys fetched per MGET round trip.
+     */
+    private static final int MGET_BATCH_SIZE = 500;
 
+    /**
+     * Number of times a watched write is retried before giving up.
+     */
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final RedisDataSource redisDataSource;
     private final ValueCommands<String, String> valueCommands;
+    private final SortedSetCommands<String, String> sortedSetCommands;
     private final KeyCommands<String> keyCommands;
     private final ObjectMapper objectMapper;
 
     @Inject
     public RedisMatchRegistry(RedisDataSource redisDataSource) {
+        this.redisDataSource = redisDataSource;
         this.valueCommands = redisDataSource.value(String.class);
+        this.sortedSetCommands = redisDataSource.sortedSet(String.class);
         this.keyCommands = redisDataSource.key();
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
     }
 
+    void onStart(@Observes StartupEvent event) {
+        // Redis drops empty sorted sets, so the indexes themselves cannot tell an
+        // empty registry apart from one that was never indexed.
+        if (!INDEX_VERSION.equals(valueCommands.get(INDEX_VERSION_KEY))) {
+            rebuildIndexes();
+        }
+    }
+
     @Override
     public MatchRegistryEntry save(MatchRegistryEntry entry) {
         String key = matchKey(entry.matchId());
-        String nodeIndexKey = nodeIndexKey(entry.nodeId(), entry.matchId());
+        String json = toJson(entry);
 
-        try {
-            String json = objectMapper.writeValueAsString(toMap(entry));
-            valueCommands.set(key, json);
-            // Also store a reference in the node index
-            valueCommands.set(nodeIndexKey, entry.matchId().value());
-            log.debug("Saved match {} on node {}", entry.matchId(), entry.nodeId());
-            return entry;
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize match: " + entry.matchId(), e);
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            OptimisticLockingTransactionResult<String> result = redisDataSource.withTransaction(
+                    ds -> ds.value(String.class).get(key),
+                    (previousJson, tx) -> {
+                        tx.value(String.class).set(key, json);
+                        writeIndexes(tx, entry, parseOrNull(previousJson, key));
+                    },
+                    key
+            );
+            if (!result.discarded()) {
+                log.debug("Saved match {} on node {}", entry.matchId(), entry.nodeId());
+                return entry;
+            }
+            log.debug("Concurrent update of match {}, retrying save (attempt {})", entry.matchId(), attempt);
         }
+        throw new IllegalStateException("Failed to save match " + entry.matchId()
+                + " after " + MAX_WRITE_ATTEMPTS + " attempts due to concurrent updates");
     }
 
     @Override
@@ -105,71 +170,115 @@ public class RedisMatchRegistry implements MatchRegistry {
 
     @Override
     public List<MatchRegistryEntry> findAll() {
-        List<String> keys = keyCommands.keys(MATCH_KEY_PREFIX + "*");
-        List<MatchRegistryEntry> entries = new ArrayList<>();
+        return loadEntries(sortedSetCommands.zrange(ALL_INDEX_KEY, 0, -1));
+    }
 
-        for (String key : keys) {
-            // Skip node index keys
-            if (key.contains(":node:")) {
-                continue;
-            }
-            String json = valueCommands.get(key);
-            if (json != null) {
-                try {
-                    entries.add(fromJson(json));
-                } catch (JsonProcessingException e) {
-                    log.error("Failed to deserialize match from key {}: {}", key, e.getMessage());
-                }
-            }
-        }
+    @Override
+    public List<MatchRegistryEntry> findByNodeId(NodeId nodeId) {
+        return loadEntries(sortedSetCommands.zrange(nodeIndexKey(nodeId), 0, -1));
+    }
 
-        return entries;
+    @Override
+    public List<MatchRegistryEntry> findByStatus(MatchStatus status) {
+        return loadEntries(sortedSetCommands.zrange(statusIndexKey(status), 0, -1));
     }
 
     @Override
-    public List<MatchRegistryEntry> findByNodeId(NodeId nodeId) {
-        List<String> nodeIndexKeys = keyCommands.keys(NODE_INDEX_PREFIX + nodeId.value() + ":*");
-        List<MatchRegistryEntry> entries = new ArrayList<>();
+    public MatchPage findPage(MatchStatus status, NodeId nodeId, String cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        // Walk the most selective index; the status filter is applied in memory only
+        // when both filters are given, since node indexes are small.
+        String indexKey = nodeId != null
+                ? nodeIndexKey(nodeId)
+                : status != null ? statusIndexKey(status) : ALL_INDEX_KEY;
+        boolean filterByStatus = nodeId != null && status != null;
 
-        for (String indexKey : nodeIndexKeys) {
-            String matchIdValue = valueCommands.get(indexKey);
-            if (matchIdValue != null) {
-                findById(ClusterMatchId.fromString(matchIdValue)).ifPresent(entries::add);
+        List<MatchRegistryEntry> page = new ArrayList<>(limit);
+        String position = cursor;
+        while (true) {
+            int wanted = limit - page.size();
+            List<String> ids = sortedSetCommands.zrangebylex(
+                    indexKey,
+                    new Range<>(position, false, null, false),
+                    new ZRangeArgs().limit(0, wanted + 1)
+            );
+            boolean more = ids.size() > wanted;
+            List<String> batch = more ? ids.subList(0, wanted) : ids;
+
+            for (MatchRegistryEntry entry : loadEntries(batch)) {
+                if (!filterByStatus || entry.status() == status) {
+                    page.add(entry);
+                }
+            }
+            if (!batch.isEmpty()) {
+                position = batch.get(batch.size() - 1);
             }
-        }
 
-        return entries;
+            if (!more) {
+                return new MatchPage(page, null);
+            }
+            if (page.size() == limit) {
+                return new MatchPage(page, position);
+            }
+        }
     }
 
     @Override
-    public List<MatchRegistryEntry> findByStatus(MatchStatus status) {
-        return findAll().stream()
-                .filter(entry -> entry.status() == status)
-                .toList();
+    public MatchRegistryStats stats() {
+        TransactionResult result = redisDataSource.withTransaction(tx -> {
+            TransactionalSortedSetCommands<String, String> sortedSets = tx.sortedSet(String.class);
+            sortedSets.zcard(ALL_INDEX_KEY);
+            sortedSets.zcard(statusIndexKey(MatchStatus.CREATING));
+            sortedSets.zcard(statusIndexKey(MatchStatus.RUNNING));
+            sortedSets.zcard(statusIndexKey(MatchStatus.FINISHED));
+            sortedSets.zcard(statusIndexKey(MatchStatus.ERROR));
+            tx.value(String.class).get(PLAYER_TOTAL_KEY);
+        });
+
+        String playerTotal = result.get(5);
+        return new MatchRegistryStats(
+                result.<Long>get(0),
+                result.<Long>get(1),
+                result.<Long>get(2),
+                result.<Long>get(3),
+                result.<Long>get(4),
+                playerTotal != null ? Long.parseLong(playerTotal) : 0
+        );
     }
 
     @Override
     public void deleteById(ClusterMatchId matchId) {
-        Optional<MatchRegistryEntry> entry = findById(matchId);
         String key = matchKey(matchId);
-        keyCommands.del(key);
-
-        // Also remove from node index
-        entry.ifPresent(e -> {
-            String nodeIndexKey = nodeIndexKey(e.nodeId(), matchId);
-            keyCommands.del(nodeIndexKey);
-        });
 
-        log.debug("Deleted match {}", matchId);
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            OptimisticLockingTransactionResult<String> result = redisDataSource.withTransaction(
+                    ds -> ds.value(String.class).get(key),
+                    (previousJson, tx) -> {
+                        tx.key().del(key);
+                        removeFromIndexes(tx, matchId, parseOrNull(previousJson, key));
+                    },
+                    key
+            );
+            if (!result.discarded()) {
+                log.debug("Deleted match {}", matchId);
+                return;
+            }
+            log.debug("Concurrent update of match {}, retrying delete (attempt {})", matchId, attempt);
+        }
+        throw new IllegalStateException("Failed to delete match " + matchId
+                + " after " + MAX_WRITE_ATTEMPTS + " attempts due to concurrent updates");
     }
 
     @Override
     public void deleteByNodeId(NodeId nodeId) {
-        List<MatchRegistryEntry> matches = findByNodeId(nodeId);
-        for (MatchRegistryEntry match : matches) {
-            deleteById(match.matchId());
+        List<String> matchIds = sortedSetCommands.zrange(nodeIndexKey(nodeId), 0, -1);
+        for (String matchId : matchIds) {
+            deleteById(ClusterMatchId.fromString(matchId));
         }
-        log.info("Deleted {} matches for node {}", matches.size(), nodeId);
+        log.info("Deleted {} matches for node {}", matchIds.size(), nodeId);
     }
 
     @Override
@@ -180,9 +289,8 @@ public class RedisMatchRegistry implements MatchRegistry {
 
     @Override
     public long countActive() {
-        return findAll().stream()
-                .filter(e -> e.status() == MatchStatus.CREATING || e.status() == MatchStatus.RUNNING)
-                .count();
+        return sortedSetCommands.zcard(statusIndexKey(MatchStatus.CREATING))
+                + sortedSetCommands.zcard(statusIndexKey(MatchStatus.RUNNING));
     }
 
     @Override
@@ -192,12 +300,141 @@ public class RedisMatchRegistry implements MatchRegistry {
                 .count();
     }
 
+    /**
+     * Rebuilds the match indexes from the stored entries.
+     *
+     * <p>Runs at startup when the index version marker is missing or out of date, e.g.
+     * on the first boot after upgrading from the key-scan based layout. Uses {@code SCAN} rather than
+     * {@code KEYS} so that Redis keeps serving other clients while it runs, and
+     * removes the legacy {@code matches:node:*} reference keys it encounters.
+     */
+    public void rebuildIndexes() {
+        List<String> entryKeys = new ArrayList<>();
+        List<String> legacyKeys = new ArrayList<>();
+        for (String key : keyCommands.scan(new KeyScanArgs().match(MATCH_KEY_PREFIX + "*").count(MGET_BATCH_SIZE))
+                .toIterable()) {
+            if (key.startsWith(LEGACY_NODE_INDEX_PREFIX)) {
+                legacyKeys.add(key);
+            } else {
+                entryKeys.add(key);
+            }
+        }
+
+        List<String> matchIds = entryKeys.stream()
+                .map(key -> key.substring(MATCH_KEY_PREFIX.length()))
+                .toList();
+        List<MatchRegistryEntry> entries = loadEntries(matchIds);
+
+        redisDataSource.withTransaction(tx -> {
+            tx.key().del(PLAYER_TOTAL_KEY);
+            for (MatchRegistryEntry entry : entries) {
+                writeIndexes(tx, entry, null);
+            }
+            tx.value(String.class).set(INDEX_VERSION_KEY, INDEX_VERSION);
+        });
+        for (int from = 0; from < legacyKeys.size(); from += MGET_BATCH_SIZE) {
+            keyCommands.del(legacyKeys.subList(from, Math.min(from + MGET_BATCH_SIZE, legacyKeys.size()))
+                    .toArray(String[]::new));
+        }
+
+        log.info("Rebuilt match indexes for {} matches, removed {} legacy index keys",
+                entries.size(), legacyKeys.size());
+    }
+
+    private void writeIndexes(TransactionalRedisDataSource tx, MatchRegistryEntry entry, MatchRegistryEntry previous) {
+        String matchId = entry.matchId().value();
+        TransactionalSortedSetCommands<String, String> sortedSets = tx.sortedSet(String.class);
+
+        sortedSets.zadd(ALL_INDEX_KEY, 0, matchId);
+        sortedSets.zadd(nodeIndexKey(entry.nodeId()), 0, matchId);
+        sortedSets.zadd(statusIndexKey(entry.status()), 0, matchId);
+
+        int playerDelta = entry.playerCount();
+        if (previous != null) {
+            if (!previous.nodeId().equals(entry.nodeId())) {
+                sortedSets.zrem(nodeIndexKey(previous.nodeId()), matchId);
+            }
+            if (previous.status() != entry.status()) {
+                sortedSets.zrem(statusIndexKey(previous.status()), matchId);
+            }
+            playerDelta -= previous.playerCount();
+        }
+        if (playerDelta != 0) {
+            tx.value(String.class).incrby(PLAYER_TOTAL_KEY, playerDelta);
+        }
+    }
+
+    private void removeFromIndexes(TransactionalRedisDataSource tx, ClusterMatchId matchId, MatchRegistryEntry previous) {
+        TransactionalSortedSetCommands<String, String> sortedSets = tx.sortedSet(String.class);
+        sortedSets.zrem(ALL_INDEX_KEY, matchId.value());
+        if (previous != null) {
+            sortedSets.zrem(nodeIndexKey(previous.nodeId()), matchId.value());
+            sortedSets.zrem(statusIndexKey(previous.status()), matchId.value());
+            if (previous.playerCount() != 0) {
+                tx.value(String.class).incrby(PLAYER_TOTAL_KEY, -previous.playerCount());
+            }
+        }
+    }
+
+    /**
+     * Loads entries for the given match IDs in batched MGETs, preserving order.
+     * IDs whose entry no longer exists are skipped.
+     */
+    private List<MatchRegistryEntry> loadEntries(List<String> matchIds) {
+        List<MatchRegistryEntry> entries = new ArrayList<>(matchIds.size());
+
+        for (int from = 0; from < matchIds.size(); from += MGET_BATCH_SIZE) {
+            String[] keys = matchIds.subList(from, Math.min(from + MGET_BATCH_SIZE, matchIds.size())).stream()
+                    .map(matchId -> MATCH_KEY_PREFIX + matchId)
+                    .toArray(String[]::new);
+            Map<String, String> values = valueCommands.mget(keys);
+
+            for (String key : keys) {
+                String json = values.get(key);
+                if (json == null) {
+                    continue;
+                }
+                try {
+                    entries.add(fromJson(json));
+                } catch (JsonProcessingException e) {
+                    log.error("Failed to deserialize match from key {}: {}", key, e.getMessage());
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    private MatchRegistryEntry parseOrNull(String json, String key) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return fromJson(json);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize match from key {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
     private String matchKey(ClusterMatchId matchId) {
         return MATCH_KEY_PREFIX + matchId.value();
     }
 
-    private String nodeIndexKey(NodeId nodeId, ClusterMatchId matchId) {
-        return NODE_INDEX_PREFIX + nodeId.value() + ":" + matchId.value();
+    private String nodeIndexKey(NodeId nodeId) {
+        return NODE_INDEX_PREFIX + nodeId.value();
+    }
+
+    private String statusIndexKey(MatchStatus status) {
+        return STATUS_INDEX_PREFIX + status.name();
+    }
+
+    private String toJson(MatchRegistryEntry entry) {
+        try {
+            return objectMapper.writeValueAsString(toMap(entry));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize match: " + entry.matchId(), e);
+        }
     }
 
     @SuppressWarnings("unchecked")
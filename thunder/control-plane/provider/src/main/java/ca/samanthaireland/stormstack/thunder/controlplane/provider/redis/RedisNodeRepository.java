@@ -33,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.set.SetCommands;
 import io.quarkus.redis.datasource.value.SetArgs;
 import io.quarkus.redis.datasource.value.ValueCommands;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -45,6 +46,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Redis-backed implementation of NodeRepository.
@@ -53,20 +55,31 @@ import java.util.Optional;
  * Key structure:
  * <ul>
  *   <li>{@code nodes:{nodeId}} - JSON node object with TTL</li>
+ *   <li>{@code node-index:all} - set of registered node IDs</li>
  * </ul>
+ *
+ * <p>{@link #findAll()} reads the index and fetches nodes with a single {@code MGET}
+ * instead of a {@code KEYS} scan. Index members whose node key has expired are
+ * pruned lazily on read. Nodes registered before the index existed are added on
+ * their next heartbeat.
  */
 @ApplicationScoped
 public class RedisNodeRepository implements NodeRepository {
     private static final Logger log = LoggerFactory.getLogger(RedisNodeRepository.class);
     private static final String NODE_KEY_PREFIX = "nodes:";
+    private static final String NODE_INDEX_KEY = "node-index:all";
 
+    private final RedisDataSource redisDataSource;
     private final ValueCommands<String, String> valueCommands;
+    private final SetCommands<String, String> setCommands;
     private final KeyCommands<String> keyCommands;
     private final ObjectMapper objectMapper;
 
     @Inject
     public RedisNodeRepository(RedisDataSource redisDataSource) {
+        this.redisDataSource = redisDataSource;
         this.valueCommands = redisDataSource.value(String.class);
+        this.setCommands = redisDataSource.set(String.class);
         this.keyCommands = redisDataSource.key();
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
@@ -77,7 +90,10 @@ public class RedisNodeRepository implements NodeRepository {
         String key = nodeKey(node.nodeId());
         try {
             String json = objectMapper.writeValueAsString(toMap(node));
-            valueCommands.set(key, json, new SetArgs().ex(ttlSeconds));
+            redisDataSource.withTransaction(tx -> {
+                tx.value(String.class).set(key, json, new SetArgs().ex(ttlSeconds));
+                tx.set(String.class).sadd(NODE_INDEX_KEY, node.nodeId().value());
+            });
             log.debug("Saved node {} with TTL {}s", node.nodeId(), ttlSeconds);
             return node;
         } catch (JsonProcessingException e) {
@@ -102,27 +118,45 @@ public class RedisNodeRepository implements NodeRepository {
 
     @Override
     public List<Node> findAll() {
-        List<String> keys = keyCommands.keys(NODE_KEY_PREFIX + "*");
-        List<Node> nodes = new ArrayList<>();
+        Set<String> nodeIds = setCommands.smembers(NODE_INDEX_KEY);
+        if (nodeIds.isEmpty()) {
+            return List.of();
+        }
+
+        String[] keys = nodeIds.stream().map(id -> NODE_KEY_PREFIX + id).toArray(String[]::new);
+        Map<String, String> values = valueCommands.mget(keys);
+        List<Node> nodes = new ArrayList<>(keys.length);
+        List<String> expired = new ArrayList<>();
 
         for (String key : keys) {
-            String json = valueCommands.get(key);
-            if (json != null) {
-                try {
-                    nodes.add(fromJson(json));
-                } catch (JsonProcessingException e) {
-                    log.error("Failed to deserialize node from key {}: {}", key, e.getMessage());
-                }
+            String json = values.get(key);
+            if (json == null) {
+                // Node key expired via TTL; drop it from the index
+                expired.add(key.substring(NODE_KEY_PREFIX.length()));
+                continue;
+            }
+            try {
+                nodes.add(fromJson(json));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to deserialize node from key {}: {}", key, e.getMessage());
             }
         }
 
+        if (!expired.isEmpty()) {
+            setCommands.srem(NODE_INDEX_KEY, expired.toArray(String[]::new));
+            log.debug("Pruned {} expired nodes from index", expired.size());
+        }
+
         return nodes;
     }
 
     @Override
     public void deleteById(NodeId nodeId) {
         String key = nodeKey(nodeId);
-        keyCommands.del(key);
+        redisDataSource.withTransaction(tx -> {
+            tx.key().del(key);
+            tx.set(String.class).srem(NODE_INDEX_KEY, nodeId.value());
+        });
         log.debug("Deleted node {}", nodeId);
     }
 
@@ -150,7 +184,12 @@ public class RedisNodeRepository implements NodeRepository {
                         "matchCount", node.metrics().matchCount(),
                         "cpuUsage", node.metrics().cpuUsage(),
                         "memoryUsedMb", node.metrics().memoryUsedMb(),
-                        "memoryMaxMb", node.metrics().memoryMaxMb()
+                        "memoryMaxMb", node.metrics().memoryMaxMb(),
+                        "entityCount", node.metrics().entityCount(),
+                        "tickOverrunRate", node.metrics().tickOverrunRate(),
+                        "modules", node.metrics().modules(),
+                        "moduleHashes", node.metrics().moduleHashes(),
+                        "warmContainers", node.metrics().warmContainers()
                 ),
                 "registeredAt", node.registeredAt().toString(),
                 "lastHeartbeat", node.lastHeartbeat().toString()
@@ -170,7 +209,12 @@ public class RedisNodeRepository implements NodeRepository {
                 ((Number) metricsMap.get("matchCount")).intValue(),
                 ((Number) metricsMap.get("cpuUsage")).doubleValue(),
                 ((Number) metricsMap.get("memoryUsedMb")).longValue(),
-                ((Number) metricsMap.get("memoryMaxMb")).longValue()
+                ((Number) metricsMap.get("memoryMaxMb")).longValue(),
+                numberOrZero(metricsMap.get("entityCount")).longValue(),
+                numberOrZero(metricsMap.get("tickOverrunRate")).doubleValue(),
+                (List<String>) metricsMap.get("modules"),
+                (List<String>) metricsMap.get("moduleHashes"),
+                (Map<String, Integer>) metricsMap.get("warmContainers")
         );
 
         return new Node(
@@ -183,4 +227,11 @@ public class RedisNodeRepository implements NodeRepository {
                 Instant.parse((String) map.get("lastHeartbeat"))
         );
     }
+
+    /**
+     * Entries written before a metric existed simply lack the key.
+     */
+    private static Number numberOrZero(Object value) {
+        return value instanceof Number number ? number : 0;
+    }
 }
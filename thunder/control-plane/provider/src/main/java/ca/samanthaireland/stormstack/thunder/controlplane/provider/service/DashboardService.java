@@ -22,6 +22,7 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.service;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.DashboardOverview;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.PagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MatchResponse;
@@ -61,4 +62,15 @@ public interface DashboardService {
      * @return paginated match list
      */
     PagedResponse<MatchResponse> getMatches(int page, int pageSize, MatchStatus status, String nodeId);
+
+    /**
+     * Gets a cursor-addressed page of matches with optional filtering.
+     *
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit  maximum items in the page
+     * @param status optional status filter
+     * @param nodeId optional node ID filter
+     * @return cursor-paginated match list
+     */
+    CursorPagedResponse<MatchResponse> getMatchesByCursor(String cursor, int limit, MatchStatus status, String nodeId);
 }
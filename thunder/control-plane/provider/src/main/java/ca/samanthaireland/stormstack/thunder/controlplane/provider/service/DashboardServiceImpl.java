@@ -27,11 +27,14 @@ import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.Aut
 import ca.samanthaireland.stormstack.thunder.controlplane.config.AutoscalerConfiguration;
 import ca.samanthaireland.stormstack.thunder.controlplane.cluster.model.ClusterStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.cluster.service.ClusterService;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.DashboardOverview;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.DashboardOverview.*;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.PagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MatchResponse;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchRoutingService;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeResponse;
@@ -93,23 +96,13 @@ public class DashboardServiceImpl implements DashboardService {
                 Math.max(0, offlineNodes)
         );
 
-        // Build match summary
-        List<MatchRegistryEntry> allMatches = matchRoutingService.findAll();
-        int runningMatches = (int) allMatches.stream()
-                .filter(m -> m.status() == MatchStatus.RUNNING)
-                .count();
-        int finishedMatches = (int) allMatches.stream()
-                .filter(m -> m.status() == MatchStatus.FINISHED)
-                .count();
-        int totalPlayers = allMatches.stream()
-                .mapToInt(MatchRegistryEntry::playerCount)
-                .sum();
-
+        // Build match summary from registry counters rather than loading every match
+        MatchRegistryStats matchStats = matchRoutingService.getStats();
         MatchSummary matchSummary = new MatchSummary(
-                allMatches.size(),
-                runningMatches,
-                finishedMatches,
-                totalPlayers
+                (int) matchStats.totalMatches(),
+                (int) matchStats.runningMatches(),
+                (int) matchStats.finishedMatches(),
+                (int) matchStats.totalPlayers()
         );
 
         // Build capacity summary
@@ -187,4 +180,13 @@ public class DashboardServiceImpl implements DashboardService {
 
         return PagedResponse.of(responses, page, pageSize);
     }
+
+    @Override
+    public CursorPagedResponse<MatchResponse> getMatchesByCursor(String cursor, int limit, MatchStatus status, String nodeId) {
+        NodeId filterNodeId = nodeId != null && !nodeId.isBlank() ? NodeId.of(nodeId) : null;
+        String startAfter = cursor != null && !cursor.isBlank() ? cursor : null;
+
+        MatchPage page = matchRoutingService.findPage(status, filterNodeId, startAfter, limit);
+        return CursorPagedResponse.of(page.entries(), limit, page.nextCursor(), MatchResponse::from);
+    }
 }
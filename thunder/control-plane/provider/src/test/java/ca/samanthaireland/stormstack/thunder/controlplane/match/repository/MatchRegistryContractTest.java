@@ -23,7 +23,9 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.match.repository;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -188,6 +191,58 @@ class MatchRegistryContractTest {
         assertThat(registry.countActiveByNodeId(NodeId.of("node-3"))).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("findPage() should walk all matches in match ID order")
+    void findPage_shouldWalkAllMatchesInOrder() {
+        registry.save(createTestEntry("node-1", 1L, 3L));
+        registry.save(createTestEntry("node-1", 1L, 1L));
+        registry.save(createTestEntry("node-1", 1L, 2L));
+
+        MatchPage first = registry.findPage(null, null, null, 2);
+        MatchPage second = registry.findPage(null, null, first.nextCursor(), 2);
+
+        assertThat(first.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("node-1-1-1", "node-1-1-2");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("node-1-1-3");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findPage() should apply status and node filters together")
+    void findPage_shouldApplyStatusAndNodeFilters() {
+        registry.save(createTestEntry("node-1", 1L, 1L).running());
+        registry.save(createTestEntry("node-1", 1L, 2L).finished());
+        registry.save(createTestEntry("node-1", 1L, 3L).running());
+        registry.save(createTestEntry("node-2", 1L, 1L).running());
+
+        MatchPage page = registry.findPage(MatchStatus.RUNNING, NodeId.of("node-1"), null, 10);
+
+        assertThat(page.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("node-1-1-1", "node-1-1-3");
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("stats() should count matches by status and sum players")
+    void stats_shouldCountByStatusAndSumPlayers() {
+        registry.save(createTestEntry("node-1", 1L, 1L).running().withPlayerCount(4));
+        registry.save(createTestEntry("node-1", 1L, 2L).withPlayerCount(1));
+        registry.save(createTestEntry("node-2", 1L, 1L).finished());
+        registry.save(createTestEntry("node-2", 1L, 2L).error());
+
+        MatchRegistryStats stats = registry.stats();
+
+        assertThat(stats.totalMatches()).isEqualTo(4);
+        assertThat(stats.creatingMatches()).isEqualTo(1);
+        assertThat(stats.runningMatches()).isEqualTo(1);
+        assertThat(stats.finishedMatches()).isEqualTo(1);
+        assertThat(stats.errorMatches()).isEqualTo(1);
+        assertThat(stats.activeMatches()).isEqualTo(2);
+        assertThat(stats.totalPlayers()).isEqualTo(5);
+    }
+
     private MatchRegistryEntry createTestEntry(String nodeId, long containerId, long matchId) {
         return MatchRegistryEntry.creating(
                 ClusterMatchId.of(nodeId, containerId, matchId),
@@ -234,6 +289,33 @@ class MatchRegistryContractTest {
                     .toList();
         }
 
+        @Override
+        public MatchPage findPage(MatchStatus status, NodeId nodeId, String cursor, int limit) {
+            List<MatchRegistryEntry> candidates = matches.values().stream()
+                    .filter(m -> status == null || m.status() == status)
+                    .filter(m -> nodeId == null || m.nodeId().equals(nodeId))
+                    .filter(m -> cursor == null || m.matchId().value().compareTo(cursor) > 0)
+                    .sorted(Comparator.comparing(m -> m.matchId().value()))
+                    .toList();
+            if (candidates.size() <= limit) {
+                return new MatchPage(candidates, null);
+            }
+            List<MatchRegistryEntry> page = candidates.subList(0, limit);
+            return new MatchPage(page, page.getLast().matchId().value());
+        }
+
+        @Override
+        public MatchRegistryStats stats() {
+            return new MatchRegistryStats(
+                    matches.size(),
+                    findByStatus(MatchStatus.CREATING).size(),
+                    findByStatus(MatchStatus.RUNNING).size(),
+                    findByStatus(MatchStatus.FINISHED).size(),
+                    findByStatus(MatchStatus.ERROR).size(),
+                    matches.values().stream().mapToLong(MatchRegistryEntry::playerCount).sum()
+            );
+        }
+
         @Override
         public void deleteById(ClusterMatchId matchId) {
             matches.remove(matchId);
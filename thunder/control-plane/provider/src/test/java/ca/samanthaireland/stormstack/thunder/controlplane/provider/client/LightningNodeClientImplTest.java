@@ -4,6 +4,7 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.client;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.client.NodeRequestException;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
@@ -385,6 +386,184 @@ class LightningNodeClientImplTest {
         }
     }
 
+    @Nested
+    class ModuleTransfer {
+
+        @Test
+        void getModuleTransferOffset_returnsOffsetFromNode() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn("{\"checksum\": \"abc123\", \"offset\": 4096}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            long offset = client.getModuleTransferOffset(testNode, "abc123");
+
+            assertThat(offset).isEqualTo(4096);
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            verify(httpClient).send(requestCaptor.capture(), any());
+            assertThat(requestCaptor.getValue().uri().toString())
+                    .isEqualTo("http://localhost:8080/api/modules/transfers/abc123");
+        }
+
+        @Test
+        void uploadModuleChunk_sendsOctetStreamAtOffset() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn("{\"checksum\": \"abc123\", \"offset\": 1028}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            long offset = client.uploadModuleChunk(testNode, "abc123", 1024, new byte[16], 4);
+
+            assertThat(offset).isEqualTo(1028);
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            verify(httpClient).send(requestCaptor.capture(), any());
+            HttpRequest request = requestCaptor.getValue();
+            assertThat(request.method()).isEqualTo("PUT");
+            assertThat(request.uri().toString())
+                    .isEqualTo("http://localhost:8080/api/modules/transfers/abc123?offset=1024");
+            assertThat(request.headers().firstValue("Content-Type")).hasValue("application/octet-stream");
+            assertThat(request.bodyPublisher()).isPresent();
+            assertThat(request.bodyPublisher().get().contentLength()).isEqualTo(4);
+        }
+
+        @Test
+        void uploadModuleChunk_withOffsetConflict_throwsRuntimeException() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(409);
+            when(httpResponse.body()).thenReturn("{\"checksum\": \"abc123\", \"offset\": 0}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            assertThatThrownBy(() -> client.uploadModuleChunk(testNode, "abc123", 1024, new byte[16], 4))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Failed to upload module chunk");
+        }
+
+        @Test
+        void completeModuleTransfer_postsFileName() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(201);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            client.completeModuleTransfer(testNode, "abc123", "physics-1.0.0.jar");
+
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            verify(httpClient).send(requestCaptor.capture(), any());
+            assertThat(requestCaptor.getValue().method()).isEqualTo("POST");
+            assertThat(requestCaptor.getValue().uri().toString())
+                    .isEqualTo("http://localhost:8080/api/modules/transfers/abc123/complete?fileName=physics-1.0.0.jar");
+        }
+
+        @Test
+        void abortModuleTransfer_sendsDelete() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(204);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            client.abortModuleTransfer(testNode, "abc123");
+
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            verify(httpClient).send(requestCaptor.capture(), any());
+            assertThat(requestCaptor.getValue().method()).isEqualTo("DELETE");
+            assertThat(requestCaptor.getValue().uri().toString())
+                    .isEqualTo("http://localhost:8080/api/modules/transfers/abc123");
+        }
+
+        @Test
+        void completeModuleTransfer_withChecksumMismatch_throwsRuntimeException() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(422);
+            when(httpResponse.body()).thenReturn("{\"error\": \"Checksum mismatch\"}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            assertThatThrownBy(() -> client.completeModuleTransfer(testNode, "abc123", "physics-1.0.0.jar"))
+                    .isInstanceOf(NodeRequestException.class)
+                    .hasMessageContaining("Failed to complete module transfer")
+                    .extracting(e -> ((NodeRequestException) e).getStatusCode())
+                    .isEqualTo(422);
+        }
+    }
+
+    @Nested
+    class Migration {
+
+        @Test
+        void beginMigration_postsToMigrationEndpointAndReturnsState() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn("{\"matchId\": 7, \"tick\": 120}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            String state = client.beginMigration(testNode, 3, 7);
+
+            assertThat(state).isEqualTo("{\"matchId\": 7, \"tick\": 120}");
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            verify(httpClient).send(requestCaptor.capture(), any());
+            assertThat(requestCaptor.getValue().method()).isEqualTo("POST");
+            assertThat(requestCaptor.getValue().uri().toString())
+                    .isEqualTo("http://localhost:8080/api/containers/3/matches/7/migration/begin");
+        }
+
+        @Test
+        void restoreMatchState_sendsStateAsBody() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(204);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            client.restoreMatchState(testNode, 3, 7, "{\"matchId\": 7}");
+
+            ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+            verify(httpClient).send(requestCaptor.capture(), any());
+            assertThat(requestCaptor.getValue().uri().toString())
+                    .isEqualTo("http://localhost:8080/api/containers/3/matches/7/migration/restore");
+            assertThat(requestCaptor.getValue().bodyPublisher().get().contentLength()).isEqualTo(14);
+        }
+
+        @Test
+        void catchUpMigration_returnsVerifiedFlag() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn("{\"tick\": 130, \"checksum\": 99, \"verified\": false}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            assertThat(client.catchUpMigration(testNode, 3, 7, "{}")).isFalse();
+        }
+
+        @Test
+        void redirectClients_returnsRedirectedCount() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn("{\"redirected\": 5}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            int redirected = client.redirectClients(testNode, 3, 7, testNode, 9);
+
+            assertThat(redirected).isEqualTo(5);
+        }
+
+        @Test
+        void freezeMigration_withConflict_throwsRuntimeException() throws Exception {
+            when(authServiceClient.isRemoteValidationEnabled()).thenReturn(false);
+            when(httpResponse.statusCode()).thenReturn(409);
+            when(httpResponse.body()).thenReturn("{\"error\": \"Match 7 is not migrating\"}");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+
+            assertThatThrownBy(() -> client.freezeMigration(testNode, 3, 7))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Migration step freeze failed");
+        }
+    }
+
     @Nested
     class AuthTokenHandling {
 
@@ -22,6 +22,7 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.SaturationForecast;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingAction;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingRecommendation;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.AutoscalerService;
@@ -105,6 +106,26 @@ class AutoscalerResourceTest {
         }
     }
 
+    @Nested
+    class GetForecast {
+
+        @Test
+        void getForecast_returnsServiceForecast() {
+            // Arrange
+            SaturationForecast forecast = new SaturationForecast(
+                    0.6, 0.58, 0.04, 0.78, 0.0, 0.02, 300, 3, 90, Instant.now()
+            );
+            when(autoscalerService.getForecast()).thenReturn(forecast);
+
+            // Act
+            SaturationForecast response = resource.getForecast();
+
+            // Assert
+            assertThat(response.forecastSaturation()).isEqualTo(0.78);
+            assertThat(response.isRising()).isTrue();
+        }
+    }
+
     @Nested
     class AcknowledgeScalingAction {
 
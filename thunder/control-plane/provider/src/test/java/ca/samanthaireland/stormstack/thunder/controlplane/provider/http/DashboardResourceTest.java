@@ -25,6 +25,7 @@ package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.ScalingAction;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.DashboardOverview;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MatchResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeCapacityDto;
@@ -270,5 +271,36 @@ class DashboardResourceTest {
             // Assert
             verify(dashboardService).getMatches(0, 100, null, null);
         }
+
+        @Test
+        void getMatchesByCursor_passesCursorAndFiltersToService() {
+            // Arrange
+            CursorPagedResponse<MatchResponse> cursorPage = new CursorPagedResponse<>(
+                    List.of(), 20, "node-1-1-9", true
+            );
+            when(dashboardService.getMatchesByCursor("node-1-1-4", 20, MatchStatus.RUNNING, "node-1"))
+                    .thenReturn(cursorPage);
+
+            // Act
+            CursorPagedResponse<MatchResponse> response =
+                    resource.getMatchesByCursor("node-1-1-4", 20, MatchStatus.RUNNING, "node-1");
+
+            // Assert
+            assertThat(response.nextCursor()).isEqualTo("node-1-1-9");
+            assertThat(response.hasNext()).isTrue();
+        }
+
+        @Test
+        void getMatchesByCursor_limitExceedsMax_clampedTo100() {
+            // Arrange
+            when(dashboardService.getMatchesByCursor(any(), eq(100), any(), any()))
+                    .thenReturn(new CursorPagedResponse<>(List.of(), 100, null, false));
+
+            // Act
+            resource.getMatchesByCursor(null, 1000, null, null);
+
+            // Assert
+            verify(dashboardService).getMatchesByCursor(null, 100, null, null);
+        }
     }
 }
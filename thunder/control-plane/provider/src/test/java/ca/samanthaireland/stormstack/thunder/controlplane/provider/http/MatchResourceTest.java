@@ -25,12 +25,18 @@ package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 import ca.samanthaireland.stormstack.thunder.controlplane.auth.AuthClient;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.exception.MatchNotFoundException;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MigrationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchMigrationService;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchRoutingService;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CreateMatchBatchRequest;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CreateMatchRequest;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MatchResponse;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MigrationResponse;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -52,6 +58,9 @@ class MatchResourceTest {
     @Mock
     private MatchRoutingService matchRoutingService;
 
+    @Mock
+    private MatchMigrationService matchMigrationService;
+
     @Mock
     private AuthClient authClient;
 
@@ -65,7 +74,7 @@ class MatchResourceTest {
 
     @BeforeEach
     void setUp() {
-        resource = new MatchResource(matchRoutingService, authClient);
+        resource = new MatchResource(matchRoutingService, matchMigrationService, authClient);
     }
 
     private MatchRegistryEntry createTestEntry() {
@@ -130,6 +139,42 @@ class MatchResourceTest {
         }
     }
 
+    @Nested
+    class CreateBatch {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void createBatch_returns201WithEveryMatch() {
+            // Arrange
+            MatchRegistryEntry entry = createTestEntry();
+            when(matchRoutingService.createMatches(MODULES, 2, 8))
+                    .thenReturn(java.util.List.of(entry, entry));
+
+            CreateMatchBatchRequest request = new CreateMatchBatchRequest(MODULES, 2, 8);
+
+            // Act
+            Response response = resource.createBatch(request);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(201);
+            java.util.List<MatchResponse> body = (java.util.List<MatchResponse>) response.getEntity();
+            assertThat(body).hasSize(2);
+            assertThat(body.get(0).matchId()).isEqualTo(MATCH_ID_STR);
+        }
+
+        @Test
+        void createBatch_withoutPlayerLimit_defaultsToUnlimited() {
+            // Arrange
+            when(matchRoutingService.createMatches(MODULES, 3, 0)).thenReturn(java.util.List.of());
+
+            // Act
+            resource.createBatch(new CreateMatchBatchRequest(MODULES, 3, null));
+
+            // Assert
+            verify(matchRoutingService).createMatches(MODULES, 3, 0);
+        }
+    }
+
     @Nested
     class GetById {
 
@@ -197,6 +242,37 @@ class MatchResourceTest {
             assertThat(response.get(0).status()).isEqualTo(MatchStatus.FINISHED);
             verify(matchRoutingService).findByStatus(MatchStatus.FINISHED);
         }
+
+        @Test
+        void listPage_withCursor_returnsPageAndNextCursor() {
+            // Arrange
+            MatchRegistryEntry entry = createTestEntry();
+            when(matchRoutingService.findPage(MatchStatus.RUNNING, NodeId.of("node-1"), "node-1-1-0", 1))
+                    .thenReturn(new MatchPage(java.util.List.of(entry), MATCH_ID_STR));
+
+            // Act
+            CursorPagedResponse<MatchResponse> response =
+                    resource.listPage("node-1-1-0", 1, MatchStatus.RUNNING, "node-1");
+
+            // Assert
+            assertThat(response.items()).hasSize(1);
+            assertThat(response.nextCursor()).isEqualTo(MATCH_ID_STR);
+            assertThat(response.hasNext()).isTrue();
+        }
+
+        @Test
+        void listPage_limitAboveMaximum_isClamped() {
+            // Arrange
+            when(matchRoutingService.findPage(null, null, null, 500)).thenReturn(MatchPage.empty());
+
+            // Act
+            CursorPagedResponse<MatchResponse> response = resource.listPage(null, 10_000, null, null);
+
+            // Assert
+            assertThat(response.items()).isEmpty();
+            assertThat(response.limit()).isEqualTo(500);
+            assertThat(response.hasNext()).isFalse();
+        }
     }
 
     @Nested
@@ -248,6 +324,41 @@ class MatchResourceTest {
         }
     }
 
+    @Nested
+    class Migrate {
+
+        @Test
+        void migrate_withTargetNode_returnsMigrationOutcome() {
+            // Arrange
+            when(matchMigrationService.migrate(MATCH_ID, NodeId.of("node-2"))).thenReturn(new MigrationResult(
+                    MATCH_ID, NODE_ID, NodeId.of("node-2"), 9L, 12L, 340L, true, 4));
+
+            // Act
+            MigrationResponse response = resource.migrate(MATCH_ID_STR, "node-2");
+
+            // Assert
+            assertThat(response.matchId()).isEqualTo(MATCH_ID_STR);
+            assertThat(response.sourceNodeId()).isEqualTo(NODE_ID_STR);
+            assertThat(response.targetNodeId()).isEqualTo("node-2");
+            assertThat(response.pauseMillis()).isEqualTo(12L);
+            assertThat(response.replayVerified()).isTrue();
+        }
+
+        @Test
+        void migrate_withoutTargetNode_letsSchedulerChoose() {
+            // Arrange
+            when(matchMigrationService.migrate(MATCH_ID, null)).thenReturn(new MigrationResult(
+                    MATCH_ID, NODE_ID, NodeId.of("node-3"), 9L, 12L, 340L, false, 0));
+
+            // Act
+            MigrationResponse response = resource.migrate(MATCH_ID_STR, " ");
+
+            // Assert
+            assertThat(response.targetNodeId()).isEqualTo("node-3");
+            verify(matchMigrationService).migrate(MATCH_ID, null);
+        }
+    }
+
     @Nested
     class UpdatePlayerCount {
 
@@ -29,9 +29,11 @@ import ca.samanthaireland.stormstack.thunder.controlplane.proxy.exception.ProxyD
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.exception.ProxyException;
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.NodeProxyService;
 import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.ProxyResponse;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.StreamingProxyResponse;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +44,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -415,4 +418,73 @@ class NodeProxyResourceTest {
             assertThat(bodyCaptor.getValue()).isEqualTo(requestBodyBytes);
         }
     }
+
+    @Nested
+    class StreamingProxy {
+
+        @BeforeEach
+        void enableStreaming() {
+            when(nodeProxyService.isStreamingEnabled()).thenReturn(true);
+        }
+
+        @Test
+        void proxyGet_streaming_pipesResponseBodyWithoutBuffering() throws Exception {
+            // Arrange
+            setupMockUriInfo(null);
+            setupMockHeaders(null);
+            byte[] responseBody = "{\"history\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+            StreamingProxyResponse proxyResponse = new StreamingProxyResponse(
+                    200, Map.of("Content-Type", "application/json"), new ByteArrayInputStream(responseBody));
+            when(nodeProxyService.proxyStream(eq(NODE_ID), eq("GET"), eq("api/history"), any(), any(), any()))
+                    .thenReturn(proxyResponse);
+
+            // Act
+            Response response = resource.proxyGet(NODE_ID_STR, "api/history", uriInfo, headers);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getEntity()).isInstanceOf(StreamingOutput.class);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ((StreamingOutput) response.getEntity()).write(out);
+            assertThat(out.toByteArray()).isEqualTo(responseBody);
+            verify(nodeProxyService, never()).proxy(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void proxyPost_streaming_passesRequestStreamThrough() {
+            // Arrange
+            setupMockUriInfo(null);
+            setupMockHeaders(null);
+            InputStream requestBody = new ByteArrayInputStream("{\"name\":\"test\"}".getBytes(StandardCharsets.UTF_8));
+            StreamingProxyResponse proxyResponse = new StreamingProxyResponse(
+                    201, Map.of(), new ByteArrayInputStream(new byte[0]));
+            when(nodeProxyService.proxyStream(eq(NODE_ID), eq("POST"), eq("api/test"), any(), any(), same(requestBody)))
+                    .thenReturn(proxyResponse);
+
+            // Act
+            Response response = resource.proxyPost(NODE_ID_STR, "api/test", uriInfo, headers, requestBody);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(201);
+        }
+
+        @Test
+        void proxyDelete_streaming_204_closesBodyAndReturnsNoEntity() throws Exception {
+            // Arrange
+            setupMockUriInfo(null);
+            setupMockHeaders(null);
+            InputStream body = mock(InputStream.class);
+            StreamingProxyResponse proxyResponse = new StreamingProxyResponse(204, Map.of(), body);
+            when(nodeProxyService.proxyStream(eq(NODE_ID), eq("DELETE"), eq("api/test/1"), any(), any(), any()))
+                    .thenReturn(proxyResponse);
+
+            // Act
+            Response response = resource.proxyDelete(NODE_ID_STR, "api/test/1", uriInfo, headers);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(204);
+            assertThat(response.getEntity()).isNull();
+            verify(body).close();
+        }
+    }
 }
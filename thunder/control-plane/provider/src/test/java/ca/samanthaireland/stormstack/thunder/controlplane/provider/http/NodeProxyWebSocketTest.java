@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
+
+import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.AuthServiceClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.NodeProxyService;
+import ca.samanthaireland.stormstack.thunder.controlplane.proxy.service.NodeWebSocketTunnel;
+import io.quarkus.websockets.next.HandshakeRequest;
+import io.quarkus.websockets.next.WebSocketConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link NodeProxyWebSocket}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NodeProxyWebSocketTest {
+
+    private static final String NODE_ID = "node-1";
+
+    @Mock
+    private NodeProxyService nodeProxyService;
+
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    @Mock
+    private WebSocketConnection connection;
+
+    @Mock
+    private HandshakeRequest handshake;
+
+    private NodeProxyWebSocket webSocket;
+
+    @BeforeEach
+    void setUp() {
+        webSocket = new NodeProxyWebSocket(nodeProxyService, authServiceClient);
+        when(connection.id()).thenReturn("conn-1");
+        when(connection.handshakeRequest()).thenReturn(handshake);
+        when(nodeProxyService.openWebSocket(any(), any(), any(), any(), any()))
+                .thenReturn(mock(NodeWebSocketTunnel.class));
+    }
+
+    private void givenExchange(String apiToken, String jwt) {
+        when(authServiceClient.isRemoteValidationEnabled()).thenReturn(true);
+        when(authServiceClient.validateToken(apiToken)).thenReturn(new AuthServiceClient.ValidationResult.Success(
+                "user-1", "alice", Set.of("admin"), Instant.now().plusSeconds(60), jwt));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Map<String, String>> mapCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+
+    @Test
+    void onOpen_exchangesApiTokenHeaderForJwt() {
+        when(handshake.query()).thenReturn("path=/ws/simulation");
+        when(handshake.header("X-Api-Token")).thenReturn("lat_abc");
+        givenExchange("lat_abc", "eyJexchanged");
+
+        webSocket.onOpen(NODE_ID, connection);
+
+        ArgumentCaptor<Map<String, String>> headers = mapCaptor();
+        verify(nodeProxyService).openWebSocket(eq(NodeId.of(NODE_ID)), eq("/ws/simulation"), any(),
+                headers.capture(), any());
+        assertThat(headers.getValue()).containsEntry("Authorization", "Bearer eyJexchanged");
+    }
+
+    @Test
+    void onOpen_replacesApiTokenQueryParameterWithJwt() {
+        when(handshake.query()).thenReturn("path=/ws/simulation&token=lat_abc");
+        givenExchange("lat_abc", "eyJexchanged");
+
+        webSocket.onOpen(NODE_ID, connection);
+
+        ArgumentCaptor<Map<String, String>> query = mapCaptor();
+        ArgumentCaptor<Map<String, String>> headers = mapCaptor();
+        verify(nodeProxyService).openWebSocket(any(), any(), query.capture(), headers.capture(), any());
+        assertThat(query.getValue()).containsEntry("token", "eyJexchanged").doesNotContainKey("path");
+        assertThat(headers.getValue()).containsEntry("Authorization", "Bearer eyJexchanged");
+    }
+
+    @Test
+    void onTextMessage_relaysMessagesSentWhileUpstreamOpensInOrder() {
+        when(handshake.query()).thenReturn("path=/ws/simulation");
+        NodeWebSocketTunnel tunnel = mock(NodeWebSocketTunnel.class);
+        when(nodeProxyService.openWebSocket(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            webSocket.onTextMessage("first", connection);
+            webSocket.onBinaryMessage(new byte[]{1, 2}, connection);
+            return tunnel;
+        });
+
+        webSocket.onOpen(NODE_ID, connection);
+        webSocket.onTextMessage("second", connection);
+
+        InOrder order = inOrder(tunnel);
+        order.verify(tunnel).sendText("first");
+        order.verify(tunnel).sendBinary(ByteBuffer.wrap(new byte[]{1, 2}));
+        order.verify(tunnel).sendText("second");
+    }
+
+    @Test
+    void onClose_closesTunnelThatOpensAfterClientLeft() {
+        when(handshake.query()).thenReturn("path=/ws/simulation");
+        NodeWebSocketTunnel tunnel = mock(NodeWebSocketTunnel.class);
+        when(nodeProxyService.openWebSocket(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            webSocket.onTextMessage("dropped", connection);
+            webSocket.onClose(connection);
+            return tunnel;
+        });
+
+        webSocket.onOpen(NODE_ID, connection);
+
+        verify(tunnel).close(eq(1000), any());
+        verify(tunnel, never()).sendText(any());
+    }
+
+    @Test
+    void onOpen_forwardsJwtWithoutExchange() {
+        when(handshake.query()).thenReturn("path=/ws/simulation");
+        when(handshake.header("Authorization")).thenReturn("Bearer eyJclient");
+
+        webSocket.onOpen(NODE_ID, connection);
+
+        ArgumentCaptor<Map<String, String>> headers = mapCaptor();
+        verify(nodeProxyService).openWebSocket(any(), any(), any(), headers.capture(), any());
+        assertThat(headers.getValue()).containsEntry("Authorization", "Bearer eyJclient");
+        verify(authServiceClient, never()).validateToken(any());
+    }
+}
@@ -22,6 +22,10 @@
 
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.EvacuationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MigrationResult;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchMigrationService;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.exception.NodeNotFoundException;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.Node;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeCapacity;
@@ -29,6 +33,7 @@ import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeMetrics;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.service.NodeRegistryService;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.EvacuationResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.HeartbeatRequest;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeCapacityDto;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeMetricsDto;
@@ -43,6 +48,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,6 +67,9 @@ class NodeResourceTest {
     @Mock
     private NodeRegistryService nodeRegistryService;
 
+    @Mock
+    private MatchMigrationService matchMigrationService;
+
     private NodeResource resource;
 
     private static final String NODE_ID_STR = "node-1";
@@ -69,7 +78,7 @@ class NodeResourceTest {
 
     @BeforeEach
     void setUp() {
-        resource = new NodeResource(nodeRegistryService);
+        resource = new NodeResource(nodeRegistryService, matchMigrationService);
     }
 
     private Node createTestNode() {
@@ -228,6 +237,42 @@ class NodeResourceTest {
         }
     }
 
+    @Nested
+    class Evacuate {
+
+        @Test
+        void evacuate_existingNode_reportsMigratedAndFailedMatches() {
+            // Arrange
+            ClusterMatchId moved = ClusterMatchId.of(NODE_ID, 1L, 1L);
+            ClusterMatchId stuck = ClusterMatchId.of(NODE_ID, 2L, 1L);
+            when(matchMigrationService.evacuate(NODE_ID)).thenReturn(new EvacuationResult(
+                    NODE_ID,
+                    List.of(new MigrationResult(moved, NODE_ID, NodeId.of("node-2"), 5L, 8L, 200L, true, 1)),
+                    List.of(stuck)));
+
+            // Act
+            Response response = resource.evacuate(NODE_ID_STR);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(200);
+
+            EvacuationResponse body = (EvacuationResponse) response.getEntity();
+            assertThat(body.migrated()).extracting(m -> m.matchId()).containsExactly(moved.value());
+            assertThat(body.failed()).containsExactly(stuck.value());
+        }
+
+        @Test
+        void evacuate_nonExistentNode_throwsException() {
+            // Arrange
+            when(matchMigrationService.evacuate(NodeId.of("unknown")))
+                    .thenThrow(new NodeNotFoundException(NodeId.of("unknown")));
+
+            // Act & Assert
+            assertThatThrownBy(() -> resource.evacuate("unknown"))
+                    .isInstanceOf(NodeNotFoundException.class);
+        }
+    }
+
     @Nested
     class Deregister {
 
@@ -24,6 +24,15 @@ package ca.samanthaireland.stormstack.thunder.controlplane.provider.http;
 
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.security.ScopeMatcher;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.AuthServiceClient;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.auth.NodeProxyUpgradeCheck;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.config.JwtAuthConfig;
+import io.quarkus.websockets.next.HttpUpgradeCheck.CheckResult;
+import io.quarkus.websockets.next.HttpUpgradeCheck.HttpUpgradeContext;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import io.vertx.core.http.HttpServerRequest;
+import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -36,12 +45,15 @@ import java.util.HashSet;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Security matrix tests for the Lightning Control Plane REST API.
  *
- * <p>This test verifies that all REST endpoints have appropriate scope annotations
- * and that the scope matching logic works correctly with wildcards.
+ * <p>This test verifies that all REST endpoints have appropriate scope annotations,
+ * that the node proxy WebSocket handshake enforces its scope, and that the scope
+ * matching logic works correctly with wildcards.
  *
  * <h2>Control Plane Scope Matrix</h2>
  * <table>
@@ -91,6 +103,12 @@ class SecurityMatrixTest {
             assertMethodHasScope(NodeResource.class, "drain", "control-plane.node.manage");
         }
 
+        @Test
+        @DisplayName("POST /api/nodes/{nodeId}/evacuate requires control-plane.node.manage")
+        void evacuate_requiresManageScope() {
+            assertMethodHasScope(NodeResource.class, "evacuate", "control-plane.node.manage");
+        }
+
         @Test
         @DisplayName("DELETE /api/nodes/{nodeId} requires control-plane.node.manage")
         void deregister_requiresManageScope() {
@@ -127,6 +145,77 @@ class SecurityMatrixTest {
         }
     }
 
+    @Nested
+    @DisplayName("NodeProxyWebSocket")
+    class NodeProxyWebSocketTests {
+
+        private final JwtAuthConfig config = mock(JwtAuthConfig.class);
+        private final AuthServiceClient authServiceClient = mock(AuthServiceClient.class);
+        private final JWTParser jwtParser = mock(JWTParser.class);
+        private final NodeProxyUpgradeCheck check = new NodeProxyUpgradeCheck(config, authServiceClient, jwtParser);
+
+        @Test
+        @DisplayName("WS /ws/nodes/{nodeId}/proxy requires control-plane.node.proxy")
+        void handshake_requiresProxyScope() {
+            assertThat(NodeProxyUpgradeCheck.REQUIRED_SCOPE).isEqualTo("control-plane.node.proxy");
+            assertThat(check.appliesTo(NodeProxyWebSocket.class.getName())).isTrue();
+        }
+
+        @Test
+        @DisplayName("handshake without a token is rejected with 401")
+        void handshake_withoutToken_isRejected() {
+            when(config.enabled()).thenReturn(true);
+
+            assertThat(perform(null).getHttpResponseCode()).isEqualTo(401);
+        }
+
+        @Test
+        @DisplayName("handshake with an invalid token is rejected with 401")
+        void handshake_withInvalidToken_isRejected() throws ParseException {
+            when(config.enabled()).thenReturn(true);
+            when(jwtParser.parse("bad")).thenThrow(new ParseException("invalid"));
+
+            assertThat(perform("bad").getHttpResponseCode()).isEqualTo(401);
+        }
+
+        @Test
+        @DisplayName("handshake without control-plane.node.proxy is rejected with 403")
+        void handshake_withoutScope_isRejected() throws ParseException {
+            when(config.enabled()).thenReturn(true);
+            givenToken("viewer", "control-plane.cluster.read");
+
+            CheckResult result = perform("viewer");
+
+            assertThat(result.isUpgradePermitted()).isFalse();
+            assertThat(result.getHttpResponseCode()).isEqualTo(403);
+        }
+
+        @Test
+        @DisplayName("handshake with control-plane.node.* is permitted")
+        void handshake_withProxyScope_isPermitted() throws ParseException {
+            when(config.enabled()).thenReturn(true);
+            givenToken("operator", "control-plane.node.*");
+
+            assertThat(perform("operator").isUpgradePermitted()).isTrue();
+        }
+
+        private void givenToken(String token, String scope) throws ParseException {
+            JsonWebToken jwt = mock(JsonWebToken.class);
+            when(jwt.getClaim("scopes")).thenReturn(scope);
+            when(jwtParser.parse(token)).thenReturn(jwt);
+        }
+
+        private CheckResult perform(String token) {
+            HttpServerRequest request = mock(HttpServerRequest.class);
+            when(request.query()).thenReturn(token == null
+                    ? "path=/ws/containers/1/matches/1/snapshot"
+                    : "path=/ws/containers/1/matches/1/snapshot&token=" + token);
+            HttpUpgradeContext context = mock(HttpUpgradeContext.class);
+            when(context.httpRequest()).thenReturn(request);
+            return check.perform(context).await().indefinitely();
+        }
+    }
+
     @Nested
     @DisplayName("ClusterResource")
     class ClusterResourceTests {
@@ -160,6 +249,12 @@ class SecurityMatrixTest {
             assertMethodHasScope(MatchResource.class, "create", "control-plane.match.create");
         }
 
+        @Test
+        @DisplayName("POST /api/matches/batch requires control-plane.match.create")
+        void createBatch_requiresCreateScope() {
+            assertMethodHasScope(MatchResource.class, "createBatch", "control-plane.match.create");
+        }
+
         @Test
         @DisplayName("GET /api/matches/{matchId} requires control-plane.match.read")
         void getById_requiresReadScope() {
@@ -172,6 +267,12 @@ class SecurityMatrixTest {
             assertMethodHasScope(MatchResource.class, "list", "control-plane.match.read");
         }
 
+        @Test
+        @DisplayName("GET /api/matches/page requires control-plane.match.read")
+        void listPage_requiresReadScope() {
+            assertMethodHasScope(MatchResource.class, "listPage", "control-plane.match.read");
+        }
+
         @Test
         @DisplayName("DELETE /api/matches/{matchId} requires control-plane.match.delete")
         void delete_requiresDeleteScope() {
@@ -184,6 +285,12 @@ class SecurityMatrixTest {
             assertMethodHasScope(MatchResource.class, "finish", "control-plane.match.update");
         }
 
+        @Test
+        @DisplayName("POST /api/matches/{matchId}/migrate requires control-plane.match.update")
+        void migrate_requiresUpdateScope() {
+            assertMethodHasScope(MatchResource.class, "migrate", "control-plane.match.update");
+        }
+
         @Test
         @DisplayName("PUT /api/matches/{matchId}/players requires control-plane.match.update")
         void updatePlayerCount_requiresUpdateScope() {
@@ -277,6 +384,12 @@ class SecurityMatrixTest {
             assertMethodHasScope(AutoscalerResource.class, "getRecommendation", "control-plane.autoscaler.read");
         }
 
+        @Test
+        @DisplayName("GET /api/autoscaler/forecast requires control-plane.autoscaler.read")
+        void getForecast_requiresReadScope() {
+            assertMethodHasScope(AutoscalerResource.class, "getForecast", "control-plane.autoscaler.read");
+        }
+
         @Test
         @DisplayName("POST /api/autoscaler/acknowledge requires control-plane.autoscaler.manage")
         void acknowledgeScalingAction_requiresManageScope() {
@@ -311,6 +424,12 @@ class SecurityMatrixTest {
         void getMatches_requiresReadScope() {
             assertMethodHasScope(DashboardResource.class, "getMatches", "control-plane.dashboard.read");
         }
+
+        @Test
+        @DisplayName("GET /api/dashboard/matches/page requires control-plane.dashboard.read")
+        void getMatchesByCursor_requiresReadScope() {
+            assertMethodHasScope(DashboardResource.class, "getMatchesByCursor", "control-plane.dashboard.read");
+        }
     }
 
     @Nested
@@ -23,7 +23,9 @@
 package ca.samanthaireland.stormstack.thunder.controlplane.provider.redis;
 
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.ClusterMatchId;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.repository.MatchRegistry;
 import ca.samanthaireland.stormstack.thunder.controlplane.node.model.NodeId;
@@ -216,6 +218,83 @@ class RedisMatchRegistryIT {
         assertThat(active).isEqualTo(2);
     }
 
+    @Test
+    void save_statusChange_movesMatchBetweenStatusIndexes() {
+        // Arrange
+        MatchRegistryEntry entry = createTestEntry("match-1", "node-1", MatchStatus.RUNNING);
+        matchRegistry.save(entry);
+
+        // Act
+        matchRegistry.save(entry.finished());
+
+        // Assert
+        assertThat(matchRegistry.findByStatus(MatchStatus.RUNNING)).isEmpty();
+        assertThat(matchRegistry.findByStatus(MatchStatus.FINISHED))
+                .extracting(MatchRegistryEntry::matchId)
+                .containsExactly(ClusterMatchId.fromString("match-1"));
+    }
+
+    @Test
+    void findPage_walksIndexWithCursor() {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            matchRegistry.save(createTestEntry("page-match-" + i, "node-1", MatchStatus.RUNNING));
+        }
+
+        // Act
+        MatchPage first = matchRegistry.findPage(null, null, null, 2);
+        MatchPage second = matchRegistry.findPage(null, null, first.nextCursor(), 2);
+        MatchPage third = matchRegistry.findPage(null, null, second.nextCursor(), 2);
+
+        // Assert
+        assertThat(first.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("page-match-1", "page-match-2");
+        assertThat(second.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("page-match-3", "page-match-4");
+        assertThat(third.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("page-match-5");
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    void findPage_withNodeAndStatusFilter_skipsNonMatchingEntries() {
+        // Arrange
+        matchRegistry.save(createTestEntry("match-1", "node-1", MatchStatus.RUNNING));
+        matchRegistry.save(createTestEntry("match-2", "node-1", MatchStatus.FINISHED));
+        matchRegistry.save(createTestEntry("match-3", "node-1", MatchStatus.FINISHED));
+        matchRegistry.save(createTestEntry("match-4", "node-1", MatchStatus.RUNNING));
+        matchRegistry.save(createTestEntry("match-5", "node-2", MatchStatus.RUNNING));
+
+        // Act
+        MatchPage page = matchRegistry.findPage(MatchStatus.RUNNING, NodeId.of("node-1"), null, 2);
+
+        // Assert
+        assertThat(page.entries()).extracting(e -> e.matchId().value())
+                .containsExactly("match-1", "match-4");
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void stats_tracksCountsAndPlayersAcrossUpdatesAndDeletes() {
+        // Arrange
+        MatchRegistryEntry first = createTestEntry("match-1", "node-1", MatchStatus.RUNNING);
+        matchRegistry.save(first.withPlayerCount(3));
+        matchRegistry.save(createTestEntry("match-2", "node-1", MatchStatus.CREATING).withPlayerCount(2));
+        matchRegistry.save(createTestEntry("match-3", "node-2", MatchStatus.RUNNING).withPlayerCount(4));
+
+        // Act
+        matchRegistry.save(first.withPlayerCount(5).finished());
+        matchRegistry.deleteById(ClusterMatchId.fromString("match-3"));
+        MatchRegistryStats stats = matchRegistry.stats();
+
+        // Assert
+        assertThat(stats.totalMatches()).isEqualTo(2);
+        assertThat(stats.creatingMatches()).isEqualTo(1);
+        assertThat(stats.runningMatches()).isZero();
+        assertThat(stats.finishedMatches()).isEqualTo(1);
+        assertThat(stats.totalPlayers()).isEqualTo(7);
+    }
+
     @Test
     void save_preservesModuleNames() {
         // Arrange
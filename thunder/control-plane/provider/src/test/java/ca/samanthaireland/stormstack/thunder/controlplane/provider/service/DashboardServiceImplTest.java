@@ -28,10 +28,13 @@ import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.model.Scali
 import ca.samanthaireland.stormstack.thunder.controlplane.autoscaler.service.AutoscalerService;
 import ca.samanthaireland.stormstack.thunder.controlplane.cluster.model.ClusterStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.cluster.service.ClusterService;
+import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.CursorPagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.DashboardOverview;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.PagedResponse;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.MatchResponse;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchPage;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryEntry;
+import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchRegistryStats;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.model.MatchStatus;
 import ca.samanthaireland.stormstack.thunder.controlplane.match.service.MatchRoutingService;
 import ca.samanthaireland.stormstack.thunder.controlplane.provider.dto.NodeResponse;
@@ -92,12 +95,7 @@ class DashboardServiceImplTest {
         when(clusterService.getClusterStatus()).thenReturn(clusterStatus);
         when(schedulerService.getClusterSaturation()).thenReturn(0.5);
 
-        List<MatchRegistryEntry> matches = List.of(
-                createMatch("m1", MatchStatus.RUNNING, 5),
-                createMatch("m2", MatchStatus.FINISHED, 0),
-                createMatch("m3", MatchStatus.RUNNING, 3)
-        );
-        when(matchRoutingService.findAll()).thenReturn(matches);
+        when(matchRoutingService.getStats()).thenReturn(new MatchRegistryStats(3, 0, 2, 1, 0, 8));
 
         when(autoscalerConfig.enabled()).thenReturn(true);
         when(autoscalerService.getRecommendation()).thenReturn(
@@ -138,7 +136,7 @@ class DashboardServiceImplTest {
         ClusterStatus clusterStatus = new ClusterStatus(0, 0, 0, 0, 0, 0, 0);
         when(clusterService.getClusterStatus()).thenReturn(clusterStatus);
         when(schedulerService.getClusterSaturation()).thenReturn(1.0);
-        when(matchRoutingService.findAll()).thenReturn(List.of());
+        when(matchRoutingService.getStats()).thenReturn(new MatchRegistryStats(0, 0, 0, 0, 0, 0));
         when(autoscalerConfig.enabled()).thenReturn(true);
         when(autoscalerService.getRecommendation()).thenReturn(
                 ScalingRecommendation.scaleUp(0, 1, 1.0, 0.0, "No nodes")
@@ -235,6 +233,41 @@ class DashboardServiceImplTest {
         assertThat(result.items().getFirst().nodeId()).isEqualTo("node-1");
     }
 
+    @Test
+    void getMatchesByCursor_passesFiltersAndReturnsNextCursor() {
+        // Arrange
+        List<MatchRegistryEntry> matches = List.of(
+                createMatchForNode("node-1-1-1", "node-1"),
+                createMatchForNode("node-1-1-2", "node-1")
+        );
+        when(matchRoutingService.findPage(MatchStatus.RUNNING, NodeId.of("node-1"), "node-1-1-0", 2))
+                .thenReturn(new MatchPage(matches, "node-1-1-2"));
+
+        // Act
+        CursorPagedResponse<MatchResponse> result =
+                dashboardService.getMatchesByCursor("node-1-1-0", 2, MatchStatus.RUNNING, "node-1");
+
+        // Assert
+        assertThat(result.items()).extracting(MatchResponse::matchId)
+                .containsExactly("node-1-1-1", "node-1-1-2");
+        assertThat(result.nextCursor()).isEqualTo("node-1-1-2");
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void getMatchesByCursor_blankCursorAndNode_startsFromBeginningUnfiltered() {
+        // Arrange
+        when(matchRoutingService.findPage(null, null, null, 20)).thenReturn(MatchPage.empty());
+
+        // Act
+        CursorPagedResponse<MatchResponse> result = dashboardService.getMatchesByCursor(" ", 20, null, "");
+
+        // Assert
+        assertThat(result.items()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.hasNext()).isFalse();
+    }
+
     @Test
     void getNodes_pagination_worksCorrectly() {
         // Arrange
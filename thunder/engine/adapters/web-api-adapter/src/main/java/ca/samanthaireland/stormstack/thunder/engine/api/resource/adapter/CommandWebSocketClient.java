@@ -29,12 +29,18 @@ import java.net.http.HttpClient;
 import java.net.http.WebSocket;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import ca.samanthaireland.stormstack.thunder.api.proto.CommandProtos;
@@ -55,6 +61,9 @@ import ca.samanthaireland.stormstack.thunder.api.proto.CommandProtos;
  * // Send attach rigid body command
  * client.attachRigidBody(new RigidBodyParams(matchId, playerId, entityId, mass, posX, posY, velX, velY));
  *
+ * // Send many commands in one frame; the ack arrives asynchronously
+ * client.sendBatch(List.of(move, fire)).thenAccept(ack -> ...);
+ *
  * // Close when done
  * client.close();
  * }</pre>
@@ -67,12 +76,19 @@ public class CommandWebSocketClient implements AutoCloseable {
     private static final int RESPONSE_POLL_ATTEMPTS = 100;
     private static final Duration RESPONSE_POLL_INTERVAL = Duration.ofMillis(100);
 
+    /**
+     * First byte of a batch frame; the server treats any other frame as a single command.
+     */
+    private static final byte BATCH_FRAME_TYPE = 0x00;
+
     private final WebSocket webSocket;
     private final ConcurrentLinkedQueue<CommandProtos.CommandResponse> responses = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean connected = new AtomicBoolean(false);
     private final AtomicReference<Throwable> lastError = new AtomicReference<>();
     private final CountDownLatch connectionLatch = new CountDownLatch(1);
     private final Object sendLock = new Object();
+    private final AtomicLong batchSequence = new AtomicLong();
+    private final Map<Long, CompletableFuture<CommandProtos.CommandBatchAck>> pendingBatches = new ConcurrentHashMap<>();
 
     private CommandWebSocketClient(WebSocket webSocket) {
         this.webSocket = webSocket;
@@ -370,6 +386,83 @@ public class CommandWebSocketClient implements AutoCloseable {
         return webSocket.sendBinary(buffer, true).thenAccept(ws -> {});
     }
 
+    /**
+     * Send several commands in one frame.
+     *
+     * <p>The server enqueues the batch in one operation and answers with a single
+     * ack carrying the batch sequence number. The returned future completes when
+     * that ack arrives, so callers can keep sending batches without waiting.
+     *
+     * @param commands the commands to send, in execution order
+     * @return a future completed with the batch ack
+     */
+    public CompletableFuture<CommandProtos.CommandBatchAck> sendBatch(List<CommandProtos.CommandRequest> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("commands must not be empty"));
+        }
+        if (!connected.get()) {
+            return CompletableFuture.failedFuture(new IOException("Not connected"));
+        }
+
+        CompletableFuture<CommandProtos.CommandBatchAck> ack = new CompletableFuture<>();
+
+        // Serialize sends to avoid WebSocket "Send pending" errors; the ack is awaited outside the lock.
+        // Sequences are taken under the lock too, so batches go out in sequence order.
+        synchronized (sendLock) {
+            long sequence = batchSequence.incrementAndGet();
+            CommandProtos.CommandBatch batch = CommandProtos.CommandBatch.newBuilder()
+                    .setSequence(sequence)
+                    .addAllCommands(commands)
+                    .build();
+            pendingBatches.put(sequence, ack);
+            ack.whenComplete((result, error) -> pendingBatches.remove(sequence));
+            try {
+                webSocket.sendBinary(batchFrame(batch), true)
+                        .get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ack.completeExceptionally(new IOException("Interrupted while sending batch", e));
+            } catch (Exception e) {
+                ack.completeExceptionally(new IOException("Failed to send batch", e));
+            }
+        }
+        return ack.orTimeout(DEFAULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static ByteBuffer batchFrame(CommandProtos.CommandBatch batch) {
+        ByteBuffer frame = ByteBuffer.allocate(1 + batch.getSerializedSize());
+        frame.put(BATCH_FRAME_TYPE).put(batch.toByteArray());
+        return frame.flip();
+    }
+
+    /**
+     * Send several commands in one frame and wait for the aggregated ack.
+     *
+     * @param commands the commands to send, in execution order
+     * @return the batch ack
+     * @throws IOException if the batch could not be sent, was refused, or timed out
+     */
+    public CommandProtos.CommandBatchAck sendBatchAndWait(List<CommandProtos.CommandRequest> commands) throws IOException {
+        try {
+            CommandProtos.CommandBatchAck ack = sendBatch(commands).get();
+            if (!ack.getMessage().isEmpty() && ack.getAccepted() == 0) {
+                throw new IOException("Batch failed: " + ack.getMessage());
+            }
+            return ack;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for batch ack", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IOException("Timeout waiting for batch ack", e.getCause());
+            }
+            throw new IOException("Failed to send batch", e.getCause());
+        }
+    }
+
     /**
      * Send a spawn command without waiting for response (fire-and-forget).
      *
@@ -467,6 +560,11 @@ public class CommandWebSocketClient implements AutoCloseable {
             webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "closing").join();
         }
         connected.set(false);
+        failPendingBatches(new IOException("Connection closed"));
+    }
+
+    private void failPendingBatches(Throwable cause) {
+        pendingBatches.values().forEach(ack -> ack.completeExceptionally(cause));
     }
 
     // ==================== Private Helpers ====================
@@ -499,7 +597,8 @@ public class CommandWebSocketClient implements AutoCloseable {
         for (int i = 0; i < RESPONSE_POLL_ATTEMPTS; i++) {
             CommandProtos.CommandResponse response = responses.poll();
             if (response != null) {
-                if (response.getStatus() == CommandProtos.CommandResponse.Status.ERROR) {
+                if (response.getStatus() == CommandProtos.CommandResponse.Status.ERROR
+                        || response.getStatus() == CommandProtos.CommandResponse.Status.RETRY) {
                     throw new IOException("Command failed: " + response.getMessage());
                 }
                 return response;
@@ -561,6 +660,17 @@ public class CommandWebSocketClient implements AutoCloseable {
         private void processCompleteBinaryMessage() {
             try {
                 byte[] bytes = accumulator.getAndClear();
+                // Batch acks use field numbers disjoint from CommandResponse; a single-command
+                // response parses as an ack with sequence 0 and no unparsed flag
+                CommandProtos.CommandBatchAck ack = CommandProtos.CommandBatchAck.parseFrom(bytes);
+                if (ack.getUnparsed()) {
+                    handleUnparsedBatchAck(ack);
+                    return;
+                }
+                if (ack.getSequence() != 0) {
+                    handleBatchAck(ack);
+                    return;
+                }
                 CommandProtos.CommandResponse response = CommandProtos.CommandResponse.parseFrom(bytes);
                 handleResponse(response);
             } catch (Exception e) {
@@ -580,6 +690,30 @@ public class CommandWebSocketClient implements AutoCloseable {
             }
         }
 
+        private void handleBatchAck(CommandProtos.CommandBatchAck ack) {
+            CommandWebSocketClient client = clientRef[0];
+            if (client != null) {
+                CompletableFuture<CommandProtos.CommandBatchAck> pending = client.pendingBatches.get(ack.getSequence());
+                if (pending != null) {
+                    pending.complete(ack);
+                }
+            }
+        }
+
+        /**
+         * The server answers frames in order, so an ack without a sequence belongs to
+         * the oldest batch still waiting.
+         */
+        private void handleUnparsedBatchAck(CommandProtos.CommandBatchAck ack) {
+            CommandWebSocketClient client = clientRef[0];
+            if (client != null) {
+                client.pendingBatches.keySet().stream().min(Long::compare)
+                        .map(client.pendingBatches::get)
+                        .ifPresent(pending -> pending.completeExceptionally(
+                                new IOException("Batch failed: " + ack.getMessage())));
+            }
+        }
+
         private void handleError(Throwable error) {
             CommandWebSocketClient client = clientRef[0];
             if (client != null) {
@@ -593,6 +727,7 @@ public class CommandWebSocketClient implements AutoCloseable {
             if (client != null) {
                 client.connected.set(false);
                 client.connectionLatch.countDown();
+                client.failPendingBatches(new IOException("Connection closed: " + reason));
             }
             return null;
         }
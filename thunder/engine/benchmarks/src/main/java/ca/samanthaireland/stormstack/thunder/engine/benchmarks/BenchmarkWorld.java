@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.benchmarks;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
+import ca.samanthaireland.stormstack.thunder.engine.core.system.EngineSystem;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleResolver;
+import ca.samanthaireland.stormstack.thunder.engine.internal.auth.module.ModuleAuthToken;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.ArrayEntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.DirtyTrackingEntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.EcsProperties;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.LockingEntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.ModuleScopedStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.SimplePermissionRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A populated match wired the way a container wires its store.
+ *
+ * <p>The raw array store is wrapped in locking and dirty tracking as in
+ * {@code ContainerComponentInitializer}, and systems see it through a
+ * {@link ModuleScopedStore} that owns the benchmark module's components, so
+ * every access pays for the full decorator chain and its permission checks.
+ *
+ * <p>Entity values come from a fixed seed, so every run measures the same world.
+ */
+final class BenchmarkWorld {
+
+    static final String MODULE_NAME = "BenchModule";
+    static final long MATCH_ID = 1L;
+    static final int PLAYERS = 8;
+    static final float WORLD_SIZE = 10_000f;
+
+    static final PermissionComponent FLAG = component(9000, "BENCH_FLAG");
+    static final PermissionComponent POSITION_X = component(9001, "POSITION_X");
+    static final PermissionComponent POSITION_Y = component(9002, "POSITION_Y");
+    static final PermissionComponent VELOCITY_X = component(9003, "VELOCITY_X");
+    static final PermissionComponent VELOCITY_Y = component(9004, "VELOCITY_Y");
+    static final PermissionComponent HEALTH = component(9005, "HEALTH");
+
+    static final List<BaseComponent> COMPONENTS = List.of(POSITION_X, POSITION_Y, VELOCITY_X, VELOCITY_Y, HEALTH);
+
+    final DirtyTrackingEntityComponentStore dirtyStore;
+    final EntityComponentStore moduleStore;
+    final ModuleResolver moduleResolver = new SingleModuleResolver();
+    final long[] entityIds;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    BenchmarkWorld(int entityCount) {
+        EntityComponentStore locking = LockingEntityComponentStore.wrap(
+                new ArrayEntityComponentStore(new EcsProperties(entityCount * 2 + 1024, 64)));
+        dirtyStore = new DirtyTrackingEntityComponentStore(locking);
+
+        SimplePermissionRegistry permissions = new SimplePermissionRegistry();
+        Map<String, ModuleAuthToken.ComponentPermission> claims = new HashMap<>();
+        for (PermissionComponent component : allComponents()) {
+            permissions.registerComponent(component, MODULE_NAME);
+            claims.put(ModuleAuthToken.permissionKey(MODULE_NAME, component.getName()),
+                    ModuleAuthToken.ComponentPermission.OWNER);
+        }
+        moduleStore = ModuleScopedStore.create(dirtyStore, permissions,
+                new ModuleAuthToken(MODULE_NAME, claims, false, null));
+
+        entityIds = new long[entityCount];
+        float[] values = new float[COMPONENTS.size()];
+        for (int i = 0; i < entityCount; i++) {
+            long id = moduleStore.createEntityForMatch(MATCH_ID);
+            moduleStore.attachComponent(id, FLAG, 1f);
+            moduleStore.attachComponent(id, CoreComponents.OWNER_ID, i % PLAYERS + 1);
+            randomValues(values);
+            moduleStore.attachComponents(id, COMPONENTS, values);
+            entityIds[i] = id;
+        }
+        dirtyStore.clearDirtyState();
+    }
+
+    /**
+     * Moves a fraction of the entities, as a physics step would.
+     *
+     * @param ratio the fraction of entities to change, from 0 to 1
+     */
+    void mutate(double ratio) {
+        int count = (int) Math.round(entityIds.length * ratio);
+        int start = count == 0 ? 0 : random.nextInt(entityIds.length);
+        for (int i = 0; i < count; i++) {
+            long id = entityIds[(start + i) % entityIds.length];
+            moduleStore.attachComponent(id, POSITION_X, random.nextFloat() * WORLD_SIZE);
+            moduleStore.attachComponent(id, POSITION_Y, random.nextFloat() * WORLD_SIZE);
+        }
+    }
+
+    private void randomValues(float[] values) {
+        values[0] = random.nextFloat() * WORLD_SIZE;
+        values[1] = random.nextFloat() * WORLD_SIZE;
+        values[2] = random.nextFloat() * 10f - 5f;
+        values[3] = random.nextFloat() * 10f - 5f;
+        values[4] = 100f;
+    }
+
+    private static List<PermissionComponent> allComponents() {
+        return List.of(FLAG, POSITION_X, POSITION_Y, VELOCITY_X, VELOCITY_Y, HEALTH);
+    }
+
+    private static PermissionComponent component(long id, String name) {
+        return new PermissionComponent(id, name, PermissionLevel.PRIVATE);
+    }
+
+    private static final class BenchModule implements EngineModule {
+        @Override
+        public List<EngineSystem> createSystems() {
+            return List.of();
+        }
+
+        @Override
+        public List<EngineCommand> createCommands() {
+            return List.of();
+        }
+
+        @Override
+        public List<BaseComponent> createComponents() {
+            return COMPONENTS;
+        }
+
+        @Override
+        public BaseComponent createFlagComponent() {
+            return FLAG;
+        }
+
+        @Override
+        public String getName() {
+            return MODULE_NAME;
+        }
+    }
+
+    private static final class SingleModuleResolver implements ModuleResolver {
+        private final EngineModule module = new BenchModule();
+
+        @Override
+        public EngineModule resolveModule(String moduleName) {
+            return MODULE_NAME.equals(moduleName) ? module : null;
+        }
+
+        @Override
+        public List<String> getAvailableModules() {
+            return List.of(MODULE_NAME);
+        }
+
+        @Override
+        public List<EngineModule> resolveAllModules() {
+            return List.of(module);
+        }
+
+        @Override
+        public boolean hasModule(String moduleName) {
+            return MODULE_NAME.equals(moduleName);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.benchmarks;
+
+import ca.samanthaireland.stormstack.thunder.api.proto.CommandProtos;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.TypedCommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.InMemoryCommandQueueManager;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket.CommandPayloadConverter;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command ingestion as the command websocket performs it: parse a protobuf request,
+ * convert it with {@link CommandPayloadConverter}, enqueue it, and drain the queue on
+ * the next tick.
+ *
+ * <p>{@code typed} selects between the pooled typed payloads and the map-based
+ * fallback for commands without a typed schema.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandIngestionBenchmark {
+
+    private static final int BATCH = 256;
+
+    @Param({"true", "false"})
+    boolean typed;
+
+    private final CommandPayloadConverter converter = new CommandPayloadConverter();
+    private final InMemoryCommandQueueManager queue = new InMemoryCommandQueueManager();
+    private final byte[][] frames = new byte[BATCH][];
+    private EngineCommand command;
+    private CommandSchema schema;
+    private long tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        command = new AttachRigidBodyCommand();
+        schema = typed ? command.typedSchema() : null;
+        for (int i = 0; i < BATCH; i++) {
+            frames[i] = CommandProtos.CommandRequest.newBuilder()
+                    .setCommandName(command.getName())
+                    .setMatchId(i % BenchmarkWorld.PLAYERS + 1)
+                    .setPlayerId(i % BenchmarkWorld.PLAYERS + 1)
+                    .setAttachRigidBody(CommandProtos.AttachRigidBodyPayload.newBuilder()
+                            .setEntityId(i)
+                            .setMass(10)
+                            .setPositionX(i * 3L)
+                            .setPositionY(i * 7L)
+                            .setVelocityX(1)
+                            .setVelocityY(-1))
+                    .build()
+                    .toByteArray();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int ingestAndDrain() throws InvalidProtocolBufferException {
+        for (byte[] frame : frames) {
+            CommandProtos.CommandRequest request = CommandProtos.CommandRequest.parseFrom(frame);
+            queue.enqueue(command, converter.convert(request, schema));
+        }
+        queue.executeCommands(++tick, BATCH);
+        return queue.getQueueSize();
+    }
+
+    /**
+     * Reads every field, as a real command would, and otherwise does nothing.
+     */
+    private static final class AttachRigidBodyCommand implements EngineCommand {
+        private static final Map<String, Class<?>> SCHEMA = Map.of(
+                "entityId", Long.class,
+                "mass", Long.class,
+                "positionX", Long.class,
+                "positionY", Long.class,
+                "velocityX", Long.class,
+                "velocityY", Long.class);
+        private static final CommandSchema TYPED = CommandSchema.of(SCHEMA);
+
+        long checksum;
+
+        @Override
+        public String getName() {
+            return "attachRigidBody";
+        }
+
+        @Override
+        public Map<String, Class<?>> schema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public CommandSchema typedSchema() {
+            return TYPED;
+        }
+
+        @Override
+        public void executeCommand(CommandPayload payload) {
+            if (payload instanceof TypedCommandPayload typed) {
+                for (String field : SCHEMA.keySet()) {
+                    checksum += typed.getLong(field, 0);
+                }
+                return;
+            }
+            for (Object value : payload.getPayload().values()) {
+                checksum += value instanceof Number number ? number.longValue() : 0;
+            }
+        }
+    }
+}
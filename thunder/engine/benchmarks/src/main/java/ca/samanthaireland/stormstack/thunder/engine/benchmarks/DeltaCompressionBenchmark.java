@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.benchmarks;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.DeltaCompressionServiceImpl;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotProviderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DeltaCompressionServiceImpl} between two consecutive snapshots of a match
+ * with a given fraction of entities moved in between.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeltaCompressionBenchmark {
+
+    @Param({"1000", "10000"})
+    int entityCount;
+
+    @Param({"0.01", "0.1", "1.0"})
+    double changeRatio;
+
+    private final DeltaCompressionServiceImpl deltas = new DeltaCompressionServiceImpl();
+    private Snapshot from;
+    private Snapshot to;
+    private DeltaSnapshot delta;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld(entityCount);
+        SnapshotProviderImpl snapshots = new SnapshotProviderImpl(world.dirtyStore, world.moduleResolver);
+        from = snapshots.createForMatch(BenchmarkWorld.MATCH_ID);
+        world.mutate(changeRatio);
+        to = snapshots.createForMatch(BenchmarkWorld.MATCH_ID);
+        delta = deltas.computeDelta(BenchmarkWorld.MATCH_ID, 1, from, 2, to);
+    }
+
+    @Benchmark
+    public DeltaSnapshot computeDelta() {
+        return deltas.computeDelta(BenchmarkWorld.MATCH_ID, 1, from, 2, to);
+    }
+
+    @Benchmark
+    public Snapshot applyDelta() {
+        return deltas.applyDelta(from, delta);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.benchmarks;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EntityComponentStore} queries and writes through the container's decorator chain.
+ *
+ * <p>Each operation covers every entity of the match, the way a system touches
+ * its entities once per tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityComponentStoreBenchmark {
+
+    private static final List<BaseComponent> POSITION = List.of(BenchmarkWorld.POSITION_X, BenchmarkWorld.POSITION_Y);
+
+    @Param({"1000", "10000"})
+    int entityCount;
+
+    private BenchmarkWorld world;
+    private float[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld(entityCount);
+        buffer = new float[BenchmarkWorld.COMPONENTS.size()];
+    }
+
+    @Benchmark
+    public Set<Long> queryByComponents() {
+        return world.moduleStore.getEntitiesWithComponents(BenchmarkWorld.POSITION_X, BenchmarkWorld.VELOCITY_X);
+    }
+
+    @Benchmark
+    public void readComponents(Blackhole blackhole) {
+        for (long id : world.entityIds) {
+            world.moduleStore.getComponents(id, BenchmarkWorld.COMPONENTS, buffer);
+            blackhole.consume(buffer[0]);
+        }
+    }
+
+    @Benchmark
+    public void writeComponent() {
+        for (long id : world.entityIds) {
+            world.moduleStore.attachComponent(id, BenchmarkWorld.HEALTH, 99f);
+        }
+    }
+
+    @Benchmark
+    public void integratePositions() {
+        float[] position = new float[2];
+        for (long id : world.entityIds) {
+            world.moduleStore.getComponents(id, BenchmarkWorld.COMPONENTS, buffer);
+            position[0] = buffer[0] + buffer[2] * 0.016f;
+            position[1] = buffer[1] + buffer[3] * 0.016f;
+            world.moduleStore.attachComponents(id, POSITION, position);
+        }
+    }
+
+    @Benchmark
+    public long createAndDeleteEntity() {
+        long id = world.moduleStore.createEntityForMatch(BenchmarkWorld.MATCH_ID);
+        world.moduleStore.attachComponent(id, BenchmarkWorld.FLAG, 1f);
+        world.moduleStore.deleteEntity(id);
+        return id;
+    }
+}
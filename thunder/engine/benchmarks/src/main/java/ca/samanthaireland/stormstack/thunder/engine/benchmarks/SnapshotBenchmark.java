@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.benchmarks;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.InterestConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.CachingSnapshotProvider;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotProviderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot generation per tick, uncached and cached, at several entity counts and
+ * fractions of entities changed since the previous tick.
+ *
+ * <p>Every invocation first applies that tick's changes, so all variants pay the
+ * same write cost and differ only in how the snapshot is built. The player variant
+ * adds area-of-interest filtering, which exercises the spatial grid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "10000"})
+    int entityCount;
+
+    @Param({"0.0", "0.01", "0.1", "1.0"})
+    double changeRatio;
+
+    private BenchmarkWorld world;
+    private SnapshotProviderImpl uncached;
+    private CachingSnapshotProvider cached;
+    private CachingSnapshotProvider interest;
+    private long tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld(entityCount);
+        uncached = new SnapshotProviderImpl(world.dirtyStore, world.moduleResolver);
+        cached = new CachingSnapshotProvider(world.dirtyStore, world.moduleResolver, () -> tick);
+        interest = new CachingSnapshotProvider(world.dirtyStore, world.moduleResolver, () -> tick,
+                CachingSnapshotProvider.DEFAULT_REBUILD_THRESHOLD,
+                CachingSnapshotProvider.DEFAULT_MAX_CACHE_AGE_TICKS,
+                InterestConfig.withRadius(BenchmarkWorld.WORLD_SIZE / 10));
+    }
+
+    @Benchmark
+    public Snapshot snapshotProvider() {
+        world.mutate(changeRatio);
+        return uncached.createForMatch(BenchmarkWorld.MATCH_ID);
+    }
+
+    @Benchmark
+    public Snapshot cachingSnapshotProvider() {
+        tick++;
+        world.mutate(changeRatio);
+        return cached.createForMatch(BenchmarkWorld.MATCH_ID);
+    }
+
+    @Benchmark
+    public Snapshot playerSnapshotWithInterest() {
+        tick++;
+        world.mutate(changeRatio);
+        return interest.createForMatchAndPlayer(BenchmarkWorld.MATCH_ID, 1);
+    }
+}
@@ -34,6 +34,14 @@ public interface CommandBuilder {
     CommandBuilder withName(String name);
     CommandBuilder withSchema(Map<String, Class<?>> schema);
     CommandBuilder withExecution(Consumer<CommandPayload> execution);
+
+    /**
+     * Execute the command against a {@link TypedCommandPayload} laid out by the
+     * command schema. Map payloads are copied into a pooled typed payload first,
+     * so the execution has a single code path. Requires a schema whose fields
+     * all have primitive storage.
+     */
+    CommandBuilder withTypedExecution(Consumer<TypedCommandPayload> execution);
     EngineCommand build();
 
 
@@ -42,6 +50,7 @@ public interface CommandBuilder {
         private String name;
         private Map<String, Class<?>> schema;
         private Consumer<CommandPayload> execution;
+        private Consumer<TypedCommandPayload> typedExecution;
 
         @Override
         public CommandBuilder withName(String name) {
@@ -61,8 +70,17 @@ public interface CommandBuilder {
             return this;
         }
 
+        @Override
+        public CommandBuilder withTypedExecution(Consumer<TypedCommandPayload> execution) {
+            this.typedExecution = execution;
+            return this;
+        }
+
         @Override
         public EngineCommand build() {
+            if (typedExecution != null) {
+                return buildTyped();
+            }
             return new EngineCommand() {
                 @Override
                 public String getName() {
@@ -80,5 +98,44 @@ public interface CommandBuilder {
                 }
             };
         }
+
+        private EngineCommand buildTyped() {
+            CommandSchema compiled = CommandSchema.of(schema);
+            if (!compiled.isTyped()) {
+                throw new IllegalStateException("Command '" + name
+                        + "' uses typed execution but declares fields without primitive storage");
+            }
+            Consumer<TypedCommandPayload> execution = typedExecution;
+            return new EngineCommand() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public Map<String, Class<?>> schema() {
+                    return schema;
+                }
+
+                @Override
+                public CommandSchema typedSchema() {
+                    return compiled;
+                }
+
+                @Override
+                public void executeCommand(CommandPayload payload) {
+                    if (payload instanceof TypedCommandPayload typed && typed.schema() == compiled) {
+                        execution.accept(typed);
+                        return;
+                    }
+                    TypedCommandPayload typed = compiled.acquire(0, 0);
+                    try {
+                        execution.accept(typed.copyFrom(payload.getPayload()));
+                    } finally {
+                        typed.release();
+                    }
+                }
+            };
+        }
     }
 }
@@ -30,6 +30,11 @@ import java.util.List;
  */
 public interface CommandQueue {
 
+    /**
+     * Tick value meaning "execute on the next tick".
+     */
+    long NEXT_TICK = 0L;
+
     /**
      * Enqueue a command with its payload for execution.
      *
@@ -38,6 +43,35 @@ public interface CommandQueue {
      */
     void enqueue(EngineCommand engineCommand, CommandPayload payload);
 
+    /**
+     * Enqueue several commands in one operation, preserving their order.
+     *
+     * <p>Implementations should make the whole batch visible to the executor
+     * at once so it is not interleaved with commands from other producers.
+     *
+     * @param commands the commands to execute
+     */
+    default void enqueueAll(List<QueuedCommand> commands) {
+        for (QueuedCommand command : commands) {
+            enqueueAt(command.command(), command.payload(), command.tick());
+        }
+    }
+
+    /**
+     * Enqueue a command to execute on a specific tick, for lockstep and
+     * input-delay schemes. Ticks that have already been reached execute on
+     * the next tick.
+     *
+     * <p>The default implementation ignores the tick.
+     *
+     * @param engineCommand the command to execute
+     * @param payload the command payload
+     * @param tick the tick to execute on, or {@link #NEXT_TICK}
+     */
+    default void enqueueAt(EngineCommand engineCommand, CommandPayload payload, long tick) {
+        enqueue(engineCommand, payload);
+    }
+
     /**
      * Get all errors that occurred during command execution since the last call.
      *
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package ca.samanthaireland.stormstack.thunder.engine.core.command;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Compiled, slot-indexed form of {@link EngineCommand#schema()}.
+ *
+ * <p>Field names are sorted, so the slot of each field is stable for a given
+ * schema. Decoders write parameters straight into a pooled
+ * {@link TypedCommandPayload} by field name, and commands read primitives back
+ * without boxing or an intermediate map.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * CommandSchema schema = CommandSchema.of(Map.of("entityId", Long.class, "forceX", Float.class));
+ * TypedCommandPayload payload = schema.acquire(matchId, playerId);
+ * payload.setLong("entityId", 42);
+ * payload.setDouble("forceX", 1.5);
+ * }</pre>
+ */
+public final class CommandSchema {
+
+    /**
+     * Number of idle payloads retained per schema.
+     */
+    static final int POOL_CAPACITY = 256;
+
+    /**
+     * Storage class of a schema field.
+     */
+    public enum FieldType {
+        LONG, DOUBLE, BOOLEAN, STRING
+    }
+
+    private final String[] names;
+    private final FieldType[] types;
+    private final Map<String, Integer> slots;
+    private final boolean typed;
+    private final ArrayBlockingQueue<TypedCommandPayload> pool = new ArrayBlockingQueue<>(POOL_CAPACITY);
+
+    private CommandSchema(Map<String, Class<?>> schema) {
+        this.names = schema.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+        this.types = new FieldType[names.length];
+        this.slots = new HashMap<>(names.length * 2);
+        boolean allTyped = true;
+        for (int slot = 0; slot < names.length; slot++) {
+            types[slot] = fieldType(schema.get(names[slot]));
+            allTyped &= types[slot] != null;
+            slots.put(names[slot], slot);
+        }
+        this.typed = allTyped;
+    }
+
+    /**
+     * Compile a command schema.
+     *
+     * @param schema field names mapped to their declared types, may be null
+     * @return the compiled schema
+     */
+    public static CommandSchema of(Map<String, Class<?>> schema) {
+        return new CommandSchema(schema != null ? schema : Map.of());
+    }
+
+    /**
+     * Get the number of fields in this schema.
+     *
+     * @return the field count
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Get the slot of a field.
+     *
+     * @param name the field name
+     * @return the slot, or -1 if the field is not declared
+     */
+    public int slotOf(String name) {
+        Integer slot = name != null ? slots.get(name) : null;
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Get the name of the field in a slot.
+     *
+     * @param slot the slot
+     * @return the field name
+     */
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Get the storage class of the field in a slot.
+     *
+     * @param slot the slot
+     * @return the field type, or null if the declared type has no primitive storage
+     */
+    public FieldType type(int slot) {
+        return types[slot];
+    }
+
+    /**
+     * Check whether every field has a primitive storage class.
+     *
+     * <p>Only fully typed schemas can be decoded into a {@link TypedCommandPayload}.
+     *
+     * @return true if the schema can be decoded without a map
+     */
+    public boolean isTyped() {
+        return typed;
+    }
+
+    /**
+     * Take a cleared payload for this schema from the pool, or allocate one.
+     *
+     * @param matchId  the match the command targets
+     * @param playerId the player issuing the command
+     * @return an empty payload bound to this schema
+     * @throws IllegalStateException if the schema is not fully typed
+     */
+    public TypedCommandPayload acquire(long matchId, long playerId) {
+        if (!typed) {
+            throw new IllegalStateException("Schema has fields without primitive storage: " + Arrays.toString(names));
+        }
+        TypedCommandPayload payload = pool.poll();
+        if (payload == null) {
+            payload = new TypedCommandPayload(this);
+        }
+        payload.reset(matchId, playerId);
+        return payload;
+    }
+
+    /**
+     * Return a payload to the pool. Payloads beyond the pool capacity are dropped.
+     */
+    void release(TypedCommandPayload payload) {
+        pool.offer(payload);
+    }
+
+    /**
+     * Get the number of idle payloads in the pool.
+     *
+     * @return the pool size
+     */
+    int pooled() {
+        return pool.size();
+    }
+
+    private static FieldType fieldType(Class<?> type) {
+        if (type == Long.class || type == long.class
+                || type == Integer.class || type == int.class
+                || type == Short.class || type == short.class
+                || type == Byte.class || type == byte.class) {
+            return FieldType.LONG;
+        }
+        if (type == Double.class || type == double.class || type == Float.class || type == float.class) {
+            return FieldType.DOUBLE;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return FieldType.BOOLEAN;
+        }
+        if (type == String.class) {
+            return FieldType.STRING;
+        }
+        return null;
+    }
+}
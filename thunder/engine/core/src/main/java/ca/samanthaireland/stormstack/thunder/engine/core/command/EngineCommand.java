@@ -68,6 +68,20 @@ public interface EngineCommand {
 
     Map<String, Class<?>> schema();
 
+    /**
+     * Get the compiled schema used to decode payloads for this command without
+     * an intermediate map.
+     *
+     * <p>Commands that return a schema here read {@link TypedCommandPayload}
+     * fields directly, and ingestion paths may hand them a pooled typed payload.
+     * Commands that read {@link CommandPayload#getPayload()} return null.
+     *
+     * @return the compiled schema, or null if the command reads map payloads
+     */
+    default CommandSchema typedSchema() {
+        return null;
+    }
+
     /**
      * Execute the command with the given payload.
      *
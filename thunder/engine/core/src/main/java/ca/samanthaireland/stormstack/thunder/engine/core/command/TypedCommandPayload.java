@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package ca.samanthaireland.stormstack.thunder.engine.core.command;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command payload that stores parameters as primitives in the slots of a
+ * {@link CommandSchema}.
+ *
+ * <p>Instances are pooled per schema: obtain one with
+ * {@link CommandSchema#acquire(long, long)} and hand it to the command queue,
+ * which returns it to the pool once the command has executed. A command must
+ * not keep a reference to its payload after {@code executeCommand} returns.
+ *
+ * <p>Fields that are not declared by the schema are not stored. Setters return
+ * false when a value cannot be stored losslessly in the declared field type so
+ * that decoders can fall back to a map payload.
+ */
+public final class TypedCommandPayload implements CommandPayload {
+
+    private static final String MATCH_ID = "matchId";
+    private static final String PLAYER_ID = "playerId";
+
+    private final transient CommandSchema schema;
+    private final long[] values;
+    private final String[] strings;
+    private final boolean[] present;
+    private long matchId;
+    private long playerId;
+    private transient boolean pooled;
+
+    TypedCommandPayload(CommandSchema schema) {
+        this.schema = schema;
+        this.values = new long[schema.size()];
+        this.strings = new String[schema.size()];
+        this.present = new boolean[schema.size()];
+    }
+
+    void reset(long matchId, long playerId) {
+        Arrays.fill(present, false);
+        Arrays.fill(strings, null);
+        this.matchId = matchId;
+        this.playerId = playerId;
+        this.pooled = false;
+        setLong(MATCH_ID, matchId);
+        setLong(PLAYER_ID, playerId);
+    }
+
+    /**
+     * Return this payload to its schema's pool. Further calls are ignored.
+     */
+    public void release() {
+        if (!pooled) {
+            pooled = true;
+            schema.release(this);
+        }
+    }
+
+    /**
+     * Get the schema this payload is laid out for.
+     *
+     * @return the schema
+     */
+    public CommandSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Get the match the command targets.
+     *
+     * @return the match ID
+     */
+    public long matchId() {
+        return matchId;
+    }
+
+    /**
+     * Get the player issuing the command.
+     *
+     * @return the player ID
+     */
+    public long playerId() {
+        return playerId;
+    }
+
+    // ---- Decoding ----
+
+    /**
+     * Store an integral value.
+     *
+     * @return false if the field is declared with a non-numeric type
+     */
+    public boolean setLong(String name, long value) {
+        int slot = schema.slotOf(name);
+        if (slot < 0) {
+            return true;
+        }
+        switch (schema.type(slot)) {
+            case LONG -> values[slot] = value;
+            case DOUBLE -> values[slot] = Double.doubleToRawLongBits(value);
+            default -> {
+                return false;
+            }
+        }
+        present[slot] = true;
+        return true;
+    }
+
+    /**
+     * Store a floating-point value.
+     *
+     * @return false if the field is declared with a non-floating-point type
+     */
+    public boolean setDouble(String name, double value) {
+        int slot = schema.slotOf(name);
+        if (slot < 0) {
+            return true;
+        }
+        if (schema.type(slot) != CommandSchema.FieldType.DOUBLE) {
+            return false;
+        }
+        values[slot] = Double.doubleToRawLongBits(value);
+        present[slot] = true;
+        return true;
+    }
+
+    /**
+     * Store a boolean value.
+     *
+     * @return false if the field is declared with a non-boolean type
+     */
+    public boolean setBoolean(String name, boolean value) {
+        int slot = schema.slotOf(name);
+        if (slot < 0) {
+            return true;
+        }
+        if (schema.type(slot) != CommandSchema.FieldType.BOOLEAN) {
+            return false;
+        }
+        values[slot] = value ? 1L : 0L;
+        present[slot] = true;
+        return true;
+    }
+
+    /**
+     * Store a string value.
+     *
+     * @return false if the field is declared with a non-string type
+     */
+    public boolean setString(String name, String value) {
+        int slot = schema.slotOf(name);
+        if (slot < 0) {
+            return true;
+        }
+        if (schema.type(slot) != CommandSchema.FieldType.STRING) {
+            return false;
+        }
+        strings[slot] = value;
+        present[slot] = value != null;
+        return true;
+    }
+
+    /**
+     * Copy the declared fields of a map payload, coercing values the way
+     * {@link PayloadMapper} does.
+     *
+     * @param data the raw payload map
+     * @return this payload
+     * @throws PayloadMapper.PayloadConversionException if a value cannot be coerced
+     */
+    public TypedCommandPayload copyFrom(Map<String, Object> data) {
+        for (int slot = 0; slot < schema.size(); slot++) {
+            Object value = data.get(schema.name(slot));
+            if (value != null) {
+                store(slot, value);
+            }
+        }
+        if (schema.slotOf(MATCH_ID) < 0 && data.get(MATCH_ID) instanceof Number n) {
+            matchId = n.longValue();
+        }
+        if (schema.slotOf(PLAYER_ID) < 0 && data.get(PLAYER_ID) instanceof Number n) {
+            playerId = n.longValue();
+        }
+        return this;
+    }
+
+    private void store(int slot, Object value) {
+        String name = schema.name(slot);
+        try {
+            switch (schema.type(slot)) {
+                case LONG -> values[slot] = value instanceof Number n
+                        ? n.longValue() : Long.parseLong(value.toString().trim());
+                case DOUBLE -> values[slot] = Double.doubleToRawLongBits(value instanceof Number n
+                        ? n.doubleValue() : Double.parseDouble(value.toString().trim()));
+                case BOOLEAN -> values[slot] = (value instanceof Boolean b
+                        ? b : Boolean.parseBoolean(value.toString().trim())) ? 1L : 0L;
+                case STRING -> strings[slot] = value.toString();
+            }
+        } catch (NumberFormatException e) {
+            throw new PayloadMapper.PayloadConversionException(
+                    "Invalid value for '" + name + "': " + value, e);
+        }
+        present[slot] = true;
+        if (MATCH_ID.equals(name)) {
+            matchId = values[slot];
+        } else if (PLAYER_ID.equals(name)) {
+            playerId = values[slot];
+        }
+    }
+
+    // ---- Reading ----
+
+    /**
+     * Check whether a declared field was supplied.
+     *
+     * @param name the field name
+     * @return true if the field has a value
+     */
+    public boolean has(String name) {
+        int slot = schema.slotOf(name);
+        return slot >= 0 && present[slot];
+    }
+
+    /**
+     * Read an integral field.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned when the field is absent
+     * @return the field value
+     */
+    public long getLong(String name, long defaultValue) {
+        int slot = schema.slotOf(name);
+        if (slot < 0 || !present[slot]) {
+            return contextOrDefault(name, defaultValue);
+        }
+        return switch (schema.type(slot)) {
+            case LONG -> values[slot];
+            case DOUBLE -> (long) Double.longBitsToDouble(values[slot]);
+            default -> defaultValue;
+        };
+    }
+
+    /**
+     * Read a floating-point field.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned when the field is absent
+     * @return the field value
+     */
+    public double getDouble(String name, double defaultValue) {
+        int slot = schema.slotOf(name);
+        if (slot < 0 || !present[slot]) {
+            return defaultValue;
+        }
+        return switch (schema.type(slot)) {
+            case LONG -> values[slot];
+            case DOUBLE -> Double.longBitsToDouble(values[slot]);
+            default -> defaultValue;
+        };
+    }
+
+    /**
+     * Read a floating-point field as a float.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned when the field is absent
+     * @return the field value
+     */
+    public float getFloat(String name, float defaultValue) {
+        return (float) getDouble(name, defaultValue);
+    }
+
+    /**
+     * Read a boolean field.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned when the field is absent
+     * @return the field value
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        int slot = schema.slotOf(name);
+        if (slot < 0 || !present[slot] || schema.type(slot) != CommandSchema.FieldType.BOOLEAN) {
+            return defaultValue;
+        }
+        return values[slot] != 0L;
+    }
+
+    /**
+     * Read a string field.
+     *
+     * @param name the field name
+     * @return the field value, or null if absent
+     */
+    public String getString(String name) {
+        int slot = schema.slotOf(name);
+        if (slot < 0 || !present[slot]) {
+            return null;
+        }
+        return switch (schema.type(slot)) {
+            case LONG -> Long.toString(values[slot]);
+            case DOUBLE -> Double.toString(Double.longBitsToDouble(values[slot]));
+            case BOOLEAN -> Boolean.toString(values[slot] != 0L);
+            case STRING -> strings[slot];
+        };
+    }
+
+    private long contextOrDefault(String name, long defaultValue) {
+        if (MATCH_ID.equals(name)) {
+            return matchId;
+        }
+        if (PLAYER_ID.equals(name)) {
+            return playerId;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Materialize the payload as a map for commands that read map payloads.
+     *
+     * <p>This allocates; typed commands should use the getters instead.
+     */
+    @Override
+    public Map<String, Object> getPayload() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put(MATCH_ID, matchId);
+        payload.put(PLAYER_ID, playerId);
+        for (int slot = 0; slot < schema.size(); slot++) {
+            if (!present[slot]) {
+                continue;
+            }
+            Object value = switch (schema.type(slot)) {
+                case LONG -> values[slot];
+                case DOUBLE -> Double.longBitsToDouble(values[slot]);
+                case BOOLEAN -> values[slot] != 0L;
+                case STRING -> strings[slot];
+            };
+            payload.put(schema.name(slot), value);
+        }
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return "TypedCommandPayload" + getPayload();
+    }
+}
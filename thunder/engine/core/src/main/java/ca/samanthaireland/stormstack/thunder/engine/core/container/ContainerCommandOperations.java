@@ -5,8 +5,10 @@
 package ca.samanthaireland.stormstack.thunder.engine.core.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Fluent API for container command operations.
@@ -27,6 +29,12 @@ import java.util.List;
  *
  * // Check if a command exists
  * boolean hasSpawn = container.commands().has("SpawnEntity");
+ *
+ * // Enqueue several commands in one operation
+ * BatchResult result = container.commands().batch()
+ *     .add("Move", movePayload)
+ *     .add("Fire", firePayload)
+ *     .execute();
  * }</pre>
  */
 public interface ContainerCommandOperations {
@@ -39,6 +47,13 @@ public interface ContainerCommandOperations {
      */
     CommandBuilder named(String commandName);
 
+    /**
+     * Creates a builder that enqueues several commands in one queue operation.
+     *
+     * @return a batch builder
+     */
+    BatchBuilder batch();
+
     /**
      * Returns metadata for all available commands.
      *
@@ -61,6 +76,17 @@ public interface ContainerCommandOperations {
      */
     List<String> names();
 
+    /**
+     * Returns the compiled schema of a command that reads typed payloads.
+     *
+     * <p>Ingestion paths use it to decode requests straight into a pooled
+     * {@link ca.samanthaireland.stormstack.thunder.engine.core.command.TypedCommandPayload}.
+     *
+     * @param commandName the command name
+     * @return the schema, or empty if the command is unknown or reads map payloads
+     */
+    Optional<CommandSchema> typedSchema(String commandName);
+
     /**
      * Returns commands provided by the specified module.
      *
@@ -108,6 +134,16 @@ public interface ContainerCommandOperations {
          */
         CommandBuilder param(String name, Object value);
 
+        /**
+         * Schedules the command for a specific tick, for lockstep and
+         * input-delay netcode. Ticks that have already been reached execute
+         * on the next tick.
+         *
+         * @param tick the tick to execute on
+         * @return this for fluent chaining
+         */
+        CommandBuilder atTick(long tick);
+
         /**
          * Executes the command.
          *
@@ -117,4 +153,74 @@ public interface ContainerCommandOperations {
          */
         ContainerCommandOperations execute();
     }
+
+    /**
+     * Fluent builder for enqueuing several commands at once.
+     *
+     * <p>All commands are resolved first; the ones that resolve are enqueued
+     * together, in order, so they execute in the same tick unless the
+     * per-tick command limit splits them. Commands that cannot be resolved are
+     * reported in the result instead of failing the whole batch.
+     */
+    interface BatchBuilder {
+
+        /**
+         * Adds a command to the batch.
+         *
+         * @param commandName the command name
+         * @param payload the command payload
+         * @return this for fluent chaining
+         */
+        BatchBuilder add(String commandName, CommandPayload payload);
+
+        /**
+         * Adds a command to the batch with a payload built from parameters.
+         *
+         * @param commandName the command name
+         * @param parameters the parameter map
+         * @return this for fluent chaining
+         */
+        BatchBuilder add(String commandName, java.util.Map<String, Object> parameters);
+
+        /**
+         * Adds a command to the batch, scheduled for a specific tick.
+         *
+         * @param commandName the command name
+         * @param payload the command payload
+         * @param tick the tick to execute on
+         * @return this for fluent chaining
+         */
+        BatchBuilder add(String commandName, CommandPayload payload, long tick);
+
+        /**
+         * Enqueues the batch.
+         *
+         * @return how many commands were enqueued and which were rejected
+         * @throws IllegalStateException if the container is not running
+         */
+        BatchResult execute();
+    }
+
+    /**
+     * Outcome of enqueuing a batch.
+     *
+     * @param accepted number of commands enqueued
+     * @param rejected commands that were not enqueued
+     */
+    record BatchResult(int accepted, List<RejectedCommand> rejected) {
+
+        public BatchResult {
+            rejected = rejected != null ? List.copyOf(rejected) : List.of();
+        }
+    }
+
+    /**
+     * A command in a batch that could not be enqueued.
+     *
+     * @param index position of the command in the batch
+     * @param commandName the command name
+     * @param reason why the command was rejected
+     */
+    record RejectedCommand(int index, String commandName, String reason) {
+    }
 }
@@ -23,6 +23,8 @@
 
 package ca.samanthaireland.stormstack.thunder.engine.core.container;
 
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.InterestConfig;
+
 import java.nio.file.Path;
 import java.util.List;
 
@@ -36,6 +38,8 @@ import java.util.List;
  * @param maxMemoryMb        Maximum memory allocation in megabytes (0 = unlimited/JVM default)
  * @param moduleJarPaths     Specific JAR files to load (optional)
  * @param moduleScanDirectory Directory to scan for module JARs (optional)
+ * @param interest           Area-of-interest settings for player snapshots
+ * @param tickPolicy         How auto-advance recovers when ticks overrun their interval
  */
 public record ContainerConfig(
         String name,
@@ -44,7 +48,9 @@ public record ContainerConfig(
         int maxCommandsPerTick,
         long maxMemoryMb,
         List<String> moduleJarPaths,
-        Path moduleScanDirectory
+        Path moduleScanDirectory,
+        InterestConfig interest,
+        TickPolicy tickPolicy
 ) {
     /**
      * Default configuration values.
@@ -54,6 +60,15 @@ public record ContainerConfig(
     public static final int DEFAULT_MAX_COMMANDS_PER_TICK = 10_000;
     public static final long DEFAULT_MAX_MEMORY_MB = 0; // 0 = unlimited (use JVM heap)
 
+    public ContainerConfig {
+        if (interest == null) {
+            interest = InterestConfig.DISABLED;
+        }
+        if (tickPolicy == null) {
+            tickPolicy = TickPolicy.DEFAULT;
+        }
+    }
+
     /**
      * Creates a default configuration with the given name.
      *
@@ -68,10 +83,23 @@ public record ContainerConfig(
                 DEFAULT_MAX_COMMANDS_PER_TICK,
                 DEFAULT_MAX_MEMORY_MB,
                 List.of(),
-                null
+                null,
+                InterestConfig.DISABLED,
+                TickPolicy.DEFAULT
         );
     }
 
+    /**
+     * Returns a copy of this configuration with a different name.
+     *
+     * @param name the container name
+     * @return a ContainerConfig that differs from this one only in its name
+     */
+    public ContainerConfig withName(String name) {
+        return new ContainerConfig(name, maxEntities, maxComponents, maxCommandsPerTick, maxMemoryMb,
+                moduleJarPaths, moduleScanDirectory, interest, tickPolicy);
+    }
+
     /**
      * Creates a builder for fluent configuration.
      *
@@ -90,6 +118,8 @@ public record ContainerConfig(
         private long maxMemoryMb = DEFAULT_MAX_MEMORY_MB;
         private List<String> moduleJarPaths = List.of();
         private Path moduleScanDirectory = null;
+        private InterestConfig interest = InterestConfig.DISABLED;
+        private TickPolicy tickPolicy = TickPolicy.DEFAULT;
 
         private Builder(String name) {
             this.name = name;
@@ -133,6 +163,28 @@ public record ContainerConfig(
             return this;
         }
 
+        /**
+         * Enables area-of-interest filtering for player snapshots.
+         *
+         * @param interest the interest settings
+         * @return this builder
+         */
+        public Builder interest(InterestConfig interest) {
+            this.interest = interest;
+            return this;
+        }
+
+        /**
+         * Sets how auto-advance recovers when ticks overrun their interval.
+         *
+         * @param tickPolicy the tick policy
+         * @return this builder
+         */
+        public Builder tickPolicy(TickPolicy tickPolicy) {
+            this.tickPolicy = tickPolicy;
+            return this;
+        }
+
         public ContainerConfig build() {
             return new ContainerConfig(
                     name,
@@ -141,7 +193,9 @@ public record ContainerConfig(
                     maxCommandsPerTick,
                     maxMemoryMb,
                     moduleJarPaths,
-                    moduleScanDirectory
+                    moduleScanDirectory,
+                    interest,
+                    tickPolicy
             );
         }
     }
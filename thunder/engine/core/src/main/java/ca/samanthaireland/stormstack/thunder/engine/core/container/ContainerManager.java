@@ -24,6 +24,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.core.container;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -40,6 +41,41 @@ public interface ContainerManager {
      */
     ExecutionContainer createContainer(ContainerConfig config);
 
+    /**
+     * Claims a container that is already started with the given modules installed.
+     *
+     * <p>Managers that keep a pool of pre-warmed containers hand one out here, named
+     * after {@code config}, and refill the pool in the background. The claimed container
+     * is registered like one returned by {@link #createContainer(ContainerConfig)}.
+     *
+     * @param config      the container configuration; every setting except the name must match the pool's
+     * @param moduleNames the modules the container must have installed
+     * @return a running container, or empty if none is warm and the caller must create one
+     */
+    default Optional<ExecutionContainer> claimWarmContainer(ContainerConfig config, List<String> moduleNames) {
+        return Optional.empty();
+    }
+
+    /**
+     * Starts warming containers for a module set before anything claims one.
+     *
+     * <p>Managers without a pool of pre-warmed containers ignore this.
+     *
+     * @param config      the configuration claims will request; the name is ignored
+     * @param moduleNames the modules to install
+     */
+    default void prewarmContainers(ContainerConfig config, List<String> moduleNames) {
+    }
+
+    /**
+     * Returns how many pre-warmed containers are waiting to be claimed, by module set.
+     *
+     * @return warm container counts keyed by the sorted, comma-separated module names
+     */
+    default Map<String, Integer> getWarmContainerCounts() {
+        return Map.of();
+    }
+
     /**
      * Retrieves a container by ID.
      *
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.container;
+
+/**
+ * Fluent API for moving a running match to another container, typically on
+ * another node.
+ *
+ * <p>Migration copies the match while it keeps running and then only pauses it
+ * for the commands executed during the copy:
+ * <ol>
+ *   <li>{@link #begin} on the source captures the state between ticks and starts
+ *       recording every command executed from then on.</li>
+ *   <li>{@link #restore} on the target rebuilds the match from that state, with
+ *       the same match, entity and player IDs, without ticking it.</li>
+ *   <li>{@link #freeze} on the source stops ticking and returns the recorded
+ *       commands, the commands still queued and a checksum.</li>
+ *   <li>{@link #catchUp} on the target replays the recorded commands tick by tick,
+ *       verifies the checksum and resumes ticking with the queued commands.</li>
+ * </ol>
+ *
+ * <p>Replay is exact only if the match's systems are deterministic. When the
+ * checksums differ, the caller falls back to a stop-and-copy: {@link #capture}
+ * the frozen source, {@link #restore} it on the target and call {@link #catchUp}
+ * again, which then has nothing to replay. {@link #abort} resumes the source
+ * after a failed migration.
+ *
+ * <p>From {@link #freeze} until clients are redirected to the target, the
+ * source rejects new commands with a
+ * {@link ca.samanthaireland.stormstack.thunder.engine.core.exception.MatchMigratingException}
+ * rather than queueing them where they would never execute. Clients resend
+ * them to the target once redirected; {@link #abort} lifts the rejection.
+ *
+ * <p>The tick counter and auto-advance are container-wide, so a migrating match
+ * must be the only match in both containers. State that modules keep outside
+ * the entity store is not migrated.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * MatchMigrationState state = source.migration().begin(matchId);
+ * target.migration().restore(state);
+ * MigrationDelta delta = source.migration().freeze(matchId);
+ * if (!target.migration().catchUp(delta).verified()) {
+ *     target.migration().restore(source.migration().capture(matchId));
+ *     target.migration().catchUp(delta);
+ * }
+ * }</pre>
+ */
+public interface ContainerMigrationOperations {
+
+    /**
+     * Capture a match's state while it keeps running and start recording the
+     * commands it executes.
+     *
+     * @param matchId the match to migrate
+     * @return the match state at the current tick
+     * @throws IllegalStateException if the container hosts other matches or the
+     *         match is already migrating
+     */
+    MatchMigrationState begin(long matchId);
+
+    /**
+     * Stop ticking a migrating match and hand over what happened since {@link #begin}.
+     *
+     * <p>Queued commands are removed from the source so they execute exactly once,
+     * on the target. Commands sent to the source afterwards are rejected with a
+     * retryable {@link ca.samanthaireland.stormstack.thunder.engine.core.exception.MatchMigratingException}.
+     *
+     * @param matchId the migrating match
+     * @return the commands executed since the capture and the commands still queued
+     * @throws IllegalStateException if the match is not migrating
+     */
+    MigrationDelta freeze(long matchId);
+
+    /**
+     * Capture the state of a match without starting a migration.
+     *
+     * @param matchId the match ID
+     * @return the match state at the current tick
+     */
+    MatchMigrationState capture(long matchId);
+
+    /**
+     * Abandon a migration and resume the match on this container.
+     *
+     * <p>Commands removed by {@link #freeze} are queued again, new commands are
+     * accepted again and auto-advance restarts at its previous interval.
+     *
+     * @param matchId the migrating match
+     */
+    void abort(long matchId);
+
+    /**
+     * Rebuild a match from a captured state, replacing any earlier restore of it.
+     *
+     * <p>The match is left paused at the captured tick.
+     *
+     * @param state the captured state
+     * @throws IllegalStateException if the container auto-advances or hosts other matches
+     */
+    void restore(MatchMigrationState state);
+
+    /**
+     * Replay the commands a source executed after the restored state and, if the
+     * result matches the source, resume the match.
+     *
+     * <p>Commands are replayed on the ticks they originally executed on. When the
+     * checksum matches, the source's queued commands are queued here and
+     * auto-advance starts at the source's interval; otherwise the match stays
+     * paused so the caller can restore a fresh capture.
+     *
+     * @param delta the source's delta
+     * @return the tick and checksum reached and whether they match the source
+     */
+    CatchUpResult catchUp(MigrationDelta delta);
+
+    /**
+     * Compute a checksum over a match's tick, entities and component values.
+     *
+     * <p>Components are identified by module-qualified name, so equal matches in
+     * different containers have equal checksums.
+     *
+     * @param matchId the match ID
+     * @return the checksum
+     */
+    long checksum(long matchId);
+
+    /**
+     * Result of replaying a delta.
+     *
+     * @param tick the tick reached
+     * @param checksum the checksum after replay
+     * @param verified whether the tick and checksum match the source's
+     */
+    record CatchUpResult(long tick, long checksum, boolean verified) {
+    }
+}
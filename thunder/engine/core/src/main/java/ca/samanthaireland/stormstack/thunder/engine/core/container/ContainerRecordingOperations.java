@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.container;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Fluent API for recording a match's inputs and replaying them.
+ *
+ * <p>A recording is an append-only, memory-mapped input log of every command
+ * the match executes, with the tick it executed on and its payload, plus
+ * keyframes: the full match state, as captured for migration, at the start and
+ * end of the recording and every {@code keyframeInterval} ticks in between.
+ * Commands in the container-wide lane are recorded too, since they may act on
+ * the match.
+ *
+ * <p>{@link #replay} restores the keyframe at or before a tick into this
+ * container and re-executes the logged commands back-to-back, without waiting
+ * for a tick interval, checking the match against every later keyframe. This
+ * reproduces production traffic offline for benchmarking and for comparing a
+ * performance change against the recorded behaviour. As with migration, replay
+ * is exact only if the match's systems are deterministic.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * live.recording().start(matchId, Path.of("match-1.ilog"), 600);
+ * // ... the match runs ...
+ * live.recording().stop(matchId);
+ *
+ * ReplayResult result = bench.recording().replay(Path.of("match-1.ilog"), 0, Long.MAX_VALUE);
+ * System.out.println(result.ticksPerSecond() + " ticks/s, diverged: " + result.diverged());
+ * }</pre>
+ */
+public interface ContainerRecordingOperations {
+
+    /**
+     * Start recording a match to a file, replacing any existing file.
+     *
+     * <p>Keyframes are captured on the tick thread, so short intervals on large
+     * matches cost tick time.
+     *
+     * @param matchId the match ID
+     * @param file the log file
+     * @param keyframeInterval ticks between keyframes, or 0 for only the first and last
+     * @return the recording
+     * @throws IllegalStateException if the match is already being recorded or the
+     *         container is replaying
+     */
+    RecordingInfo start(long matchId, Path file, int keyframeInterval);
+
+    /**
+     * Stop recording a match, writing a final keyframe.
+     *
+     * @param matchId the match ID
+     * @return the finished recording
+     * @throws IllegalStateException if the match is not being recorded
+     */
+    RecordingInfo stop(long matchId);
+
+    /**
+     * The recording in progress for a match.
+     *
+     * @param matchId the match ID
+     * @return the recording, or empty if the match is not being recorded
+     */
+    Optional<RecordingInfo> status(long matchId);
+
+    /**
+     * Replay a recording into this container as fast as possible.
+     *
+     * <p>Replay restores the recorded match under its own ID and rewinds the tick
+     * counter, so the container must not auto-advance, host any match or record
+     * one; use a dedicated container. Until the replay returns, advancing, playing
+     * and turbo runs fail with a
+     * {@link ca.samanthaireland.stormstack.thunder.engine.core.exception.ConflictException}.
+     * The match is left paused at the last replayed tick.
+     *
+     * @param file the log file
+     * @param fromTick replay from the last keyframe at or before this tick, or from
+     *        the first keyframe if the recording starts later
+     * @param toTick the last tick to replay; ticks past the end of the log are not replayed
+     * @return the replay's throughput and whether it reproduced the recording
+     * @throws IllegalArgumentException if the file is not an input log or has no keyframes
+     * @throws IllegalStateException if the container auto-advances, hosts a match,
+     *         records one or is already replaying
+     */
+    ReplayResult replay(Path file, long fromTick, long toTick);
+
+    /**
+     * A recording, in progress or finished.
+     *
+     * @param matchId the recorded match
+     * @param file the log file
+     * @param fromTick the tick of the first keyframe
+     * @param toTick the last tick recorded so far
+     * @param commands commands recorded
+     * @param keyframes keyframes recorded
+     * @param bytes the log size in bytes
+     * @param failure why recording stopped before {@code stop} was called, such as a
+     *        command payload that cannot be replayed exactly, or null
+     */
+    record RecordingInfo(long matchId, Path file, long fromTick, long toTick, long commands,
+                         int keyframes, long bytes, String failure) {
+    }
+
+    /**
+     * Result of a replay.
+     *
+     * @param matchId the replayed match
+     * @param fromTick the tick of the keyframe replay started from
+     * @param toTick the last tick replayed
+     * @param commands commands replayed
+     * @param elapsedNanos time spent replaying, excluding reading the log and restoring the keyframe
+     * @param checksum the match checksum at {@code toTick}
+     * @param keyframesVerified later keyframes the replayed match matched
+     * @param divergedAtTick the first keyframe tick the replayed match differed at, or -1
+     */
+    record ReplayResult(long matchId, long fromTick, long toTick, long commands, long elapsedNanos,
+                        long checksum, int keyframesVerified, long divergedAtTick) {
+
+        /**
+         * @return the number of ticks replayed
+         */
+        public long ticks() {
+            return toTick - fromTick;
+        }
+
+        /**
+         * @return ticks replayed per second of elapsed time
+         */
+        public double ticksPerSecond() {
+            return elapsedNanos > 0 ? ticks() * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+
+        /**
+         * @return whether the replay differed from the recording at some keyframe
+         */
+        public boolean diverged() {
+            return divergedAtTick >= 0;
+        }
+    }
+}
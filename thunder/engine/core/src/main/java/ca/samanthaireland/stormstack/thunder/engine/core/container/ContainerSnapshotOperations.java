@@ -6,7 +6,10 @@
 package ca.samanthaireland.stormstack.thunder.engine.core.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,6 +34,11 @@ import java.util.Optional;
  */
 public interface ContainerSnapshotOperations {
 
+    /**
+     * Change version reported when the container cannot track changes.
+     */
+    long UNKNOWN_VERSION = -1L;
+
     /**
      * Create a snapshot for the specified match.
      *
@@ -60,4 +68,42 @@ public interface ContainerSnapshotOperations {
                 .map(pid -> forMatchAndPlayer(matchId, pid))
                 .orElseGet(() -> forMatch(matchId));
     }
+
+    /**
+     * Get the change version of a match.
+     *
+     * <p>The version increases whenever an entity in the match is added, removed or
+     * modified. Streams compare it against the last version they published to skip
+     * rebuilding snapshots for matches that did not change.
+     *
+     * @param matchId the match ID
+     * @return the change version, or {@link #UNKNOWN_VERSION} if changes are not tracked
+     */
+    default long changeVersion(long matchId) {
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Get the distance from each entity to the player's nearest positioned entity.
+     *
+     * <p>Distances are only known when the container has area-of-interest filtering
+     * enabled; entities without a known distance are absent from the result.
+     *
+     * @param matchId the match ID
+     * @param playerId the viewing player
+     * @param entityIds the entities to measure
+     * @return distance by entity ID, possibly empty
+     */
+    default Map<Long, Double> viewerDistances(long matchId, long playerId, Collection<Long> entityIds) {
+        return Map.of();
+    }
+
+    /**
+     * Get the wire encoding hints declared by the container's modules.
+     *
+     * @return the encoding schema for this container's snapshot columns
+     */
+    default SnapshotEncodingSchema encodingSchema() {
+        return SnapshotEncodingSchema.RAW;
+    }
 }
@@ -4,6 +4,8 @@
  */
 package ca.samanthaireland.stormstack.thunder.engine.core.container;
 
+import java.util.Map;
+
 /**
  * Fluent API for container tick operations.
  *
@@ -26,12 +28,17 @@ package ca.samanthaireland.stormstack.thunder.engine.core.container;
  *     .play(16)      // Start at 60 FPS
  *     .waitForTick(1000)  // Wait until tick 1000
  *     .stop();
+ *
+ * // Turbo: run 10,000 ticks back-to-back without post-tick work
+ * TurboResult result = container.ticks()
+ *     .headless(true)
+ *     .turbo(10_000);
  * }</pre>
  */
 public interface ContainerTickOperations {
 
     /**
-     * Advances the simulation by one tick.
+     * Advances the simulation by one tick, returning once the tick has completed.
      *
      * @return this for fluent chaining
      * @throws IllegalStateException if the container is not running
@@ -53,13 +60,72 @@ public interface ContainerTickOperations {
      *
      * @param intervalMs the interval between ticks in milliseconds
      * @return this for fluent chaining
-     * @throws IllegalStateException if the container is not running
+     * @throws IllegalStateException if the container is not running or is running a turbo run
      * @throws IllegalArgumentException if intervalMs is less than 1
      */
     ContainerTickOperations play(long intervalMs);
 
     /**
-     * Stops auto-advancing ticks.
+     * Starts auto-advancing ticks at a multiple of the nominal rate.
+     *
+     * <p>The ticks are spaced {@code intervalMs / speed} apart, so systems still
+     * see {@code intervalMs} as the tick length while the simulation runs
+     * {@code speed} times faster than real time.
+     *
+     * @param intervalMs the nominal interval between ticks in milliseconds
+     * @param speed the rate multiplier, e.g. 50 for 50x real time
+     * @return this for fluent chaining
+     * @throws IllegalStateException if the container is not running or is running a turbo run
+     * @throws IllegalArgumentException if intervalMs is less than 1 or speed is not positive
+     */
+    ContainerTickOperations play(long intervalMs, double speed);
+
+    /**
+     * Runs ticks back-to-back as fast as possible and waits for them to finish.
+     *
+     * <p>Ticks run on the container's tick lane in batches, so other work for the
+     * container is not starved during a long run. {@link #stop()} ends the run
+     * after its current batch.
+     *
+     * @param count the number of ticks to run
+     * @return the ticks run, the time they took and the time spent in each system
+     * @throws IllegalStateException if the container is not running or is auto-advancing
+     * @throws IllegalArgumentException if count is less than 1
+     */
+    TurboResult turbo(int count);
+
+    /**
+     * Runs ticks back-to-back as fast as possible, optionally headless, and waits
+     * for them to finish.
+     *
+     * <p>A headless run leaves headless mode as it found it. Headless changes
+     * requested while a run is in progress take effect when it finishes, and
+     * auto-advance cannot start until then.
+     *
+     * @param count the number of ticks to run
+     * @param headless whether to run headless, on top of the current headless mode
+     * @return the ticks run, the time they took and the time spent in each system
+     * @throws IllegalStateException if the container is not running, is auto-advancing
+     *         or is already running a turbo run
+     * @throws IllegalArgumentException if count is less than 1
+     */
+    TurboResult turbo(int count, boolean headless);
+
+    /**
+     * Turns headless mode on or off.
+     *
+     * <p>A headless container does not notify tick listeners, which skips snapshot
+     * persistence, and snapshot streams stop publishing until it is turned off.
+     * During a turbo run the change is applied when the run finishes.
+     *
+     * @param headless whether to run headless
+     * @return this for fluent chaining
+     */
+    ContainerTickOperations headless(boolean headless);
+
+    /**
+     * Stops auto-advancing ticks, and stops a turbo run in progress after its
+     * current batch.
      *
      * @return this for fluent chaining
      */
@@ -88,7 +154,7 @@ public interface ContainerTickOperations {
     ContainerTickOperations waitForTick(long targetTick, long timeoutMs) throws InterruptedException, java.util.concurrent.TimeoutException;
 
     /**
-     * Returns the current tick number.
+     * Returns the current tick number, i.e. the last tick whose systems have finished running.
      *
      * @return the current tick
      */
@@ -107,4 +173,47 @@ public interface ContainerTickOperations {
      * @return the interval, or 0 if not auto-advancing
      */
     long interval();
+
+    /**
+     * Returns the auto-advance rate multiplier.
+     *
+     * @return the multiplier, 1 at real time
+     */
+    double speed();
+
+    /**
+     * Checks if the container is headless.
+     *
+     * @return true if tick listeners and snapshot streams are paused
+     */
+    boolean isHeadless();
+
+    /**
+     * Result of a {@link #turbo} run.
+     *
+     * @param fromTick the tick before the run
+     * @param toTick the tick after the run
+     * @param elapsedNanos wall time of the run
+     * @param systemNanos time spent in each system during the run, by system name
+     */
+    record TurboResult(long fromTick, long toTick, long elapsedNanos, Map<String, Long> systemNanos) {
+
+        public TurboResult {
+            systemNanos = Map.copyOf(systemNanos);
+        }
+
+        /**
+         * @return the number of ticks run
+         */
+        public long ticks() {
+            return toTick - fromTick;
+        }
+
+        /**
+         * @return ticks run per second of wall time
+         */
+        public double ticksPerSecond() {
+            return elapsedNanos > 0 ? ticks() * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+    }
 }
@@ -216,6 +216,34 @@ public interface ExecutionContainer {
      */
     ContainerSessionOperations sessions();
 
+    /**
+     * Returns a fluent API for migrating a match to another container.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * MatchMigrationState state = source.migration().begin(matchId);
+     * target.migration().restore(state);
+     * target.migration().catchUp(source.migration().freeze(matchId));
+     * }</pre>
+     *
+     * @return the migration operations interface
+     */
+    ContainerMigrationOperations migration();
+
+    /**
+     * Returns a fluent API for recording a match's inputs and replaying them.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * live.recording().start(matchId, Path.of("match.ilog"), 600);
+     * live.recording().stop(matchId);
+     * ReplayResult result = bench.recording().replay(Path.of("match.ilog"), 0, Long.MAX_VALUE);
+     * }</pre>
+     *
+     * @return the recording operations interface
+     */
+    ContainerRecordingOperations recording();
+
 
     // Note for Claude: Do not add any non-fluent methods to this class.
     /**
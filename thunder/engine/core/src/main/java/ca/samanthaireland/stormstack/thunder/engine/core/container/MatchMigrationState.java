@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.container;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The complete state of a match, captured between ticks so it can be rebuilt in
+ * another container.
+ *
+ * <p>Unlike a {@link ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot},
+ * the state keeps entity IDs and addresses components by module-qualified name
+ * ({@code Module.COMPONENT}), because component IDs differ between containers.
+ * Entities list only the components they actually have, so the state is exact
+ * and carries no missing-value markers.
+ *
+ * @param matchId the match ID, kept by the restored match
+ * @param tick the last tick completed before the capture
+ * @param enabledModules the modules enabled for the match
+ * @param playerLimit the match's player limit (0 means unlimited)
+ * @param components the module-qualified component names entities index into
+ * @param entities every entity of the match
+ * @param players players of the container
+ * @param sessionPlayers players holding a session in the match
+ * @param checksum the state checksum, see {@link ContainerMigrationOperations#checksum(long)}
+ */
+public record MatchMigrationState(
+        long matchId,
+        long tick,
+        List<String> enabledModules,
+        int playerLimit,
+        List<String> components,
+        List<EntityState> entities,
+        List<Long> players,
+        List<Long> sessionPlayers,
+        long checksum
+) {
+
+    public MatchMigrationState {
+        enabledModules = List.copyOf(Objects.requireNonNull(enabledModules, "enabledModules"));
+        components = List.copyOf(Objects.requireNonNull(components, "components"));
+        entities = List.copyOf(Objects.requireNonNull(entities, "entities"));
+        players = List.copyOf(Objects.requireNonNull(players, "players"));
+        sessionPlayers = List.copyOf(Objects.requireNonNull(sessionPlayers, "sessionPlayers"));
+    }
+
+    /**
+     * One entity and the components it has.
+     *
+     * @param entityId the entity ID
+     * @param componentIndexes indexes into {@link MatchMigrationState#components()}
+     * @param values the component values, parallel to {@code componentIndexes}
+     */
+    public record EntityState(long entityId, int[] componentIndexes, float[] values) {
+
+        public EntityState {
+            if (componentIndexes.length != values.length) {
+                throw new IllegalArgumentException("componentIndexes and values must have the same length");
+            }
+        }
+    }
+}
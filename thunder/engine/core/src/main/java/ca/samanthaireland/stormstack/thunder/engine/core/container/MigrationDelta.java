@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.container;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Everything that happened to a match after its state was captured, handed to
+ * the target container when the source stops ticking.
+ *
+ * @param matchId the match ID
+ * @param fromTick the tick the captured state was taken at
+ * @param toTick the last tick the source completed
+ * @param executed commands the source executed after {@code fromTick}, in execution order
+ * @param pending commands the source had queued but not executed
+ * @param checksum the source's state checksum at {@code toTick}
+ * @param tickIntervalMs the source's auto-advance interval, or 0 if it was ticked manually
+ */
+public record MigrationDelta(
+        long matchId,
+        long fromTick,
+        long toTick,
+        List<RecordedCommand> executed,
+        List<RecordedCommand> pending,
+        long checksum,
+        long tickIntervalMs
+) {
+
+    public MigrationDelta {
+        executed = List.copyOf(Objects.requireNonNull(executed, "executed"));
+        pending = List.copyOf(Objects.requireNonNull(pending, "pending"));
+    }
+
+    /**
+     * A command with the tick it executed on, or was scheduled for.
+     *
+     * @param tick the tick
+     * @param commandName the command name
+     * @param payload the command parameters
+     */
+    public record RecordedCommand(long tick, String commandName, Map<String, Object> payload) {
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.container;
+
+/**
+ * How an auto-advancing container keeps its fixed timestep when ticks run late.
+ *
+ * <p>Ticks are scheduled on a fixed grid of {@code start + n * interval}. When a tick
+ * overruns its slot, the next one is already due and the container has fallen
+ * behind the grid; {@code overrun} decides how it recovers:
+ * <ul>
+ *   <li>{@link Overrun#CATCH_UP} runs the missed ticks back to back, up to
+ *       {@code maxCatchUpTicks} in a row, then drops whatever is still missing.
+ *       Simulated time stays in step with wall-clock time.</li>
+ *   <li>{@link Overrun#DROP} skips missed slots and waits for the next one on the
+ *       grid. Ticks never bunch up, but simulated time loses the skipped ticks.</li>
+ *   <li>{@link Overrun#SLOW_DOWN} moves the grid so the next tick starts right away.
+ *       No tick is lost and none bunch up; the simulation runs slower than real time
+ *       while ticks overrun.</li>
+ * </ul>
+ *
+ * @param overrun         recovery strategy for late ticks
+ * @param maxCatchUpTicks most ticks {@link Overrun#CATCH_UP} runs back to back before dropping
+ */
+public record TickPolicy(
+        Overrun overrun,
+        int maxCatchUpTicks
+) {
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    /**
+     * Catch up with at most {@value #DEFAULT_MAX_CATCH_UP_TICKS} back-to-back ticks.
+     */
+    public static final TickPolicy DEFAULT = new TickPolicy(Overrun.CATCH_UP, DEFAULT_MAX_CATCH_UP_TICKS);
+
+    public TickPolicy {
+        if (overrun == null) {
+            throw new IllegalArgumentException("overrun must not be null");
+        }
+        if (maxCatchUpTicks < 0) {
+            throw new IllegalArgumentException("maxCatchUpTicks must not be negative");
+        }
+    }
+
+    /**
+     * Recovery strategy for ticks that fall behind the fixed timestep.
+     */
+    public enum Overrun {
+        CATCH_UP,
+        DROP,
+        SLOW_DOWN
+    }
+}
@@ -24,6 +24,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.core.entity;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.util.IdGeneratorV2;
 
 /**
@@ -51,10 +52,10 @@ public final class CoreComponents {
      * </ul>
      */
     public static final BaseComponent MATCH_ID = new CoreComponent(
-            IdGeneratorV2.newId(), "MATCH_ID");
+            IdGeneratorV2.newId(), "MATCH_ID", ComponentEncoding.INTEGER);
 
     public static final BaseComponent ENTITY_ID = new CoreComponent(
-            IdGeneratorV2.newId(), "ENTITY_ID");
+            IdGeneratorV2.newId(), "ENTITY_ID", ComponentEncoding.INTEGER);
 
     /**
      * Component that stores the owner (player) ID for an entity.
@@ -68,14 +69,14 @@ public final class CoreComponents {
      * </ul>
      */
     public static final BaseComponent OWNER_ID = new CoreComponent(
-            IdGeneratorV2.newId(), "OWNER_ID");
+            IdGeneratorV2.newId(), "OWNER_ID", ComponentEncoding.INTEGER);
 
     /**
      * Internal component class for core components.
      */
     private static class CoreComponent extends BaseComponent {
-        CoreComponent(long id, String name) {
-            super(id, name);
+        CoreComponent(long id, String name, ComponentEncoding encoding) {
+            super(id, name, encoding);
         }
     }
 }
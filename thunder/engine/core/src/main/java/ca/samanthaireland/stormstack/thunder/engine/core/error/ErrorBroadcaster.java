@@ -23,6 +23,7 @@
 
 package ca.samanthaireland.stormstack.thunder.engine.core.error;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -41,6 +42,17 @@ public interface ErrorBroadcaster {
      */
     void publish(GameError error);
 
+    /**
+     * Publish several errors, such as everything collected in one tick.
+     *
+     * <p>Implementations may deliver them to each subscriber as one batch.
+     *
+     * @param errors the errors to publish, in order
+     */
+    default void publishAll(List<GameError> errors) {
+        errors.forEach(this::publish);
+    }
+
     /**
      * Subscribe to receive errors.
      *
@@ -68,6 +80,21 @@ public interface ErrorBroadcaster {
      */
     String subscribeToPlayer(long matchId, long playerId, Consumer<GameError> listener);
 
+    /**
+     * Subscribe to receive errors for a specific player in batches.
+     *
+     * <p>Each batch holds the errors published since the previous one, with
+     * repeats of an undelivered error folded into it (see {@link GameError#occurrences()}).
+     *
+     * @param matchId the match ID to filter by
+     * @param playerId the player ID to filter by
+     * @param listener the listener to receive each batch of errors
+     * @return a subscription ID for unsubscribing
+     */
+    default String subscribeToPlayerBatches(long matchId, long playerId, Consumer<List<GameError>> listener) {
+        return subscribeToPlayer(matchId, playerId, error -> listener.accept(List.of(error)));
+    }
+
     /**
      * Unsubscribe from receiving errors.
      *
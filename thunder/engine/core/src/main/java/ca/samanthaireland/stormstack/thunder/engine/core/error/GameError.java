@@ -36,6 +36,7 @@ import java.time.Instant;
  * @param source the source of the error (command name, system class, etc.)
  * @param message the error message
  * @param details additional details (stack trace, etc.)
+ * @param occurrences how many identical errors this one stands for (at least 1)
  */
 public record GameError(
         String id,
@@ -45,7 +46,8 @@ public record GameError(
         ErrorType type,
         String source,
         String message,
-        String details
+        String details,
+        int occurrences
 ) {
     public enum ErrorType {
         COMMAND,
@@ -53,6 +55,47 @@ public record GameError(
         GENERAL
     }
 
+    public GameError {
+        if (occurrences < 1) {
+            throw new IllegalArgumentException("occurrences must be at least 1: " + occurrences);
+        }
+    }
+
+    /**
+     * Create an error that occurred once.
+     */
+    public GameError(String id, Instant timestamp, long matchId, long playerId, ErrorType type,
+                     String source, String message, String details) {
+        this(id, timestamp, matchId, playerId, type, source, message, details, 1);
+    }
+
+    /**
+     * Fold a later identical error into this one, keeping this error's id,
+     * timestamp and details.
+     *
+     * @param later the later error
+     * @return an error counting the occurrences of both
+     */
+    public GameError mergedWith(GameError later) {
+        return new GameError(id, timestamp, matchId, playerId, type, source, message, details,
+                occurrences + later.occurrences);
+    }
+
+    /**
+     * Get the key identical errors share: everything but the id, timestamp and details.
+     *
+     * @return the coalescing key
+     */
+    public CoalescingKey coalescingKey() {
+        return new CoalescingKey(matchId, playerId, type, source, message);
+    }
+
+    /**
+     * Identity of an error for coalescing repeats.
+     */
+    public record CoalescingKey(long matchId, long playerId, ErrorType type, String source, String message) {
+    }
+
     public static GameError commandError(long matchId, long playerId, String commandName, String message, String details) {
         return new GameError(
                 generateId(),
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.snapshot;
+
+/**
+ * Area-of-interest settings for player-scoped snapshots.
+ *
+ * <p>When enabled, a player's snapshot contains the entities the player owns plus every
+ * entity within {@code radius} of one of the player's positioned entities (its viewers).
+ * An entity that is already visible stays visible until it is further than
+ * {@code radius + hysteresis} away, so entities near the edge do not flicker.
+ *
+ * <p>Positions are read from the {@code positionX}/{@code positionY} components of
+ * {@code positionModule}, or of the first module that declares both when no module
+ * is named.
+ *
+ * @param radius         interest radius in world units; 0 disables interest management
+ * @param cellSize       spatial grid cell size in world units
+ * @param hysteresis     extra distance before a visible entity is dropped
+ * @param positionModule module that owns the position components, or null for any
+ * @param positionX      name of the X position component
+ * @param positionY      name of the Y position component
+ */
+public record InterestConfig(
+        float radius,
+        float cellSize,
+        float hysteresis,
+        String positionModule,
+        String positionX,
+        String positionY
+) {
+    public static final String DEFAULT_POSITION_X = "POSITION_X";
+    public static final String DEFAULT_POSITION_Y = "POSITION_Y";
+
+    /**
+     * Interest management turned off; player snapshots contain owned entities only.
+     */
+    public static final InterestConfig DISABLED = new InterestConfig(
+            0, 0, 0, null, DEFAULT_POSITION_X, DEFAULT_POSITION_Y);
+
+    public InterestConfig {
+        if (radius < 0 || hysteresis < 0) {
+            throw new IllegalArgumentException("radius and hysteresis must not be negative");
+        }
+        if (radius > 0 && cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive when interest management is enabled");
+        }
+        if (positionX == null || positionY == null) {
+            throw new IllegalArgumentException("position component names must not be null");
+        }
+    }
+
+    /**
+     * Creates an interest configuration with grid cells as large as the radius and a
+     * hysteresis band of a quarter radius, using the default position components.
+     *
+     * @param radius interest radius in world units
+     * @return the configuration
+     */
+    public static InterestConfig withRadius(float radius) {
+        return new InterestConfig(radius, radius, radius * 0.25f, null, DEFAULT_POSITION_X, DEFAULT_POSITION_Y);
+    }
+
+    /**
+     * Returns a copy that reads positions from the given module.
+     *
+     * @param moduleName the module that owns the position components
+     * @return the configuration
+     */
+    public InterestConfig withPositionModule(String moduleName) {
+        return new InterestConfig(radius, cellSize, hysteresis, moduleName, positionX, positionY);
+    }
+
+    /**
+     * Returns whether interest management is enabled.
+     *
+     * @return true if the radius is positive
+     */
+    public boolean enabled() {
+        return radius > 0;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoding hints for every snapshot column of a container, by module and component name.
+ *
+ * <p>Built from the {@link BaseComponent#getEncoding()} hints of installed modules.
+ * Columns without a declared hint are encoded as raw floats; the {@code ENTITY_ID}
+ * column every module carries uses the core entity ID encoding.
+ */
+public final class SnapshotEncodingSchema {
+
+    /** Schema that encodes every column as raw floats, apart from entity IDs. */
+    public static final SnapshotEncodingSchema RAW = new SnapshotEncodingSchema(Map.of());
+
+    private final Map<String, Map<String, ComponentEncoding>> encodings;
+
+    private SnapshotEncodingSchema(Map<String, Map<String, ComponentEncoding>> encodings) {
+        this.encodings = encodings;
+    }
+
+    /**
+     * Builds a schema from each module's snapshot components.
+     *
+     * @param componentsByModule snapshot components by module name
+     * @return the schema
+     */
+    public static SnapshotEncodingSchema fromComponents(Map<String, List<BaseComponent>> componentsByModule) {
+        Map<String, Map<String, ComponentEncoding>> encodings = new HashMap<>();
+        componentsByModule.forEach((module, components) -> {
+            Map<String, ComponentEncoding> moduleEncodings = new HashMap<>();
+            for (BaseComponent component : components) {
+                if (component.getEncoding().kind() != ComponentEncoding.Kind.RAW) {
+                    moduleEncodings.put(component.getName(), component.getEncoding());
+                }
+            }
+            if (!moduleEncodings.isEmpty()) {
+                encodings.put(module, Map.copyOf(moduleEncodings));
+            }
+        });
+        return new SnapshotEncodingSchema(Map.copyOf(encodings));
+    }
+
+    /**
+     * Builds a schema from declared column encodings, as sent to clients.
+     *
+     * @param encodings declared encodings by module and component name
+     * @return the schema
+     */
+    public static SnapshotEncodingSchema of(Map<String, Map<String, ComponentEncoding>> encodings) {
+        Map<String, Map<String, ComponentEncoding>> copy = new HashMap<>();
+        encodings.forEach((module, components) -> {
+            if (!components.isEmpty()) {
+                copy.put(module, Map.copyOf(components));
+            }
+        });
+        return new SnapshotEncodingSchema(Map.copyOf(copy));
+    }
+
+    /**
+     * Returns the declared encodings, omitting raw columns.
+     *
+     * @return encodings by module and component name
+     */
+    public Map<String, Map<String, ComponentEncoding>> declaredEncodings() {
+        return encodings;
+    }
+
+    /**
+     * Returns the encoding for a column.
+     *
+     * @param moduleName    the module name
+     * @param componentName the component name
+     * @return the declared encoding, or {@link ComponentEncoding#RAW}
+     */
+    public ComponentEncoding encodingOf(String moduleName, String componentName) {
+        ComponentEncoding declared = encodings.getOrDefault(moduleName, Map.of()).get(componentName);
+        if (declared != null) {
+            return declared;
+        }
+        if (CoreComponents.ENTITY_ID.getName().equals(componentName)) {
+            return CoreComponents.ENTITY_ID.getEncoding();
+        }
+        return ComponentEncoding.RAW;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SnapshotEncodingSchema other && encodings.equals(other.encodings);
+    }
+
+    @Override
+    public int hashCode() {
+        return encodings.hashCode();
+    }
+}
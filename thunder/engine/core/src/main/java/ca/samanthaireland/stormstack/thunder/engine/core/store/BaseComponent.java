@@ -35,6 +35,8 @@ import java.util.Objects;
  * <ul>
  *   <li>A unique ID (either provided or auto-generated)</li>
  *   <li>A name identifying the component type</li>
+ *   <li>An optional {@link ComponentEncoding} hint describing the values it holds,
+ *       used to pack snapshots on the wire</li>
  * </ul>
  *
  * <p>Follows SOLID principles:
@@ -48,6 +50,7 @@ public abstract class BaseComponent {
 
     private final long id;
     private final String name;
+    private final ComponentEncoding encoding;
 
     /**
      * Create a component with the specified ID and name.
@@ -57,11 +60,24 @@ public abstract class BaseComponent {
      * @throws IllegalArgumentException if id is not positive or name is null/blank
      */
     public BaseComponent(long id, String name) {
+        this(id, name, ComponentEncoding.RAW);
+    }
+
+    /**
+     * Create a component with the specified ID, name, and value encoding hint.
+     *
+     * @param id the component ID (must be positive)
+     * @param name the component name (must not be null or blank)
+     * @param encoding how the component's values may be packed (null for raw floats)
+     * @throws IllegalArgumentException if id is not positive or name is null/blank
+     */
+    public BaseComponent(long id, String name, ComponentEncoding encoding) {
         if (id <= 0) {
             throw new IllegalArgumentException("Component ID must be positive, got: " + id);
         }
         this.id = id;
         this.name = validateName(name);
+        this.encoding = encoding != null ? encoding : ComponentEncoding.RAW;
     }
 
     /**
@@ -73,6 +89,7 @@ public abstract class BaseComponent {
     public BaseComponent(String name) {
         this.id = IdGeneratorV2.newId();
         this.name = validateName(name);
+        this.encoding = ComponentEncoding.RAW;
     }
 
     /**
@@ -106,6 +123,15 @@ public abstract class BaseComponent {
         return name;
     }
 
+    /**
+     * Returns how this component's values may be packed on the wire.
+     *
+     * @return the encoding hint, {@link ComponentEncoding#RAW} unless declared
+     */
+    public ComponentEncoding getEncoding() {
+        return encoding;
+    }
+
     private static String validateName(String name) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Component name must not be null or blank");
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.store;
+
+/**
+ * Describes how a component's values can be packed on the wire.
+ *
+ * <p>Component values are stored as floats, but many only ever hold booleans, whole
+ * numbers, or positions on a bounded map. An encoding hint lets snapshot encoders
+ * spend only the bits those values need:
+ * <ul>
+ *   <li>{@link Kind#RAW} - full 32-bit float (the default)</li>
+ *   <li>{@link Kind#BOOLEAN} - one bit, zero or non-zero</li>
+ *   <li>{@link Kind#INTEGER} - whole numbers, as a fixed-width offset from {@code min}
+ *       when a range is given, otherwise as a variable-length integer</li>
+ *   <li>{@link Kind#QUANTIZED} - values in {@code [min, max]} rounded to {@code precision}</li>
+ * </ul>
+ *
+ * <p>Hints are advisory: encoders check every value and fall back to raw floats for
+ * any value the hint cannot represent, so a wrong hint costs bytes, not correctness.
+ * Quantized values are the only lossy case, and lose at most half of {@code precision}.
+ *
+ * @param kind      the encoding kind
+ * @param min       the lowest representable value (ranged integer and quantized only)
+ * @param max       the highest representable value (ranged integer and quantized only)
+ * @param precision the quantization step (quantized only)
+ */
+public record ComponentEncoding(Kind kind, double min, double max, double precision) {
+
+    // Whole floats beyond this no longer survive a round trip through long arithmetic.
+    private static final double INTEGER_LIMIT = 0x1p62;
+
+    /** Full-precision float encoding. */
+    public static final ComponentEncoding RAW = new ComponentEncoding(Kind.RAW, 0, 0, 0);
+
+    /** One-bit encoding for flags. */
+    public static final ComponentEncoding BOOLEAN = new ComponentEncoding(Kind.BOOLEAN, 0, 1, 1);
+
+    /** Variable-length encoding for unbounded whole numbers such as IDs. */
+    public static final ComponentEncoding INTEGER = new ComponentEncoding(
+            Kind.INTEGER, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1);
+
+    /**
+     * Encoding kinds.
+     */
+    public enum Kind {
+        RAW,
+        BOOLEAN,
+        INTEGER,
+        QUANTIZED
+    }
+
+    public ComponentEncoding {
+        if (kind == null) {
+            throw new IllegalArgumentException("Encoding kind must not be null");
+        }
+        if (kind == Kind.QUANTIZED && !(precision > 0)) {
+            throw new IllegalArgumentException("Quantization precision must be positive, got: " + precision);
+        }
+        if ((kind == Kind.QUANTIZED || kind == Kind.INTEGER) && min > max) {
+            throw new IllegalArgumentException("Encoding range is empty: [" + min + ", " + max + "]");
+        }
+    }
+
+    /**
+     * Whole numbers in {@code [min, max]}.
+     *
+     * @param min the lowest value
+     * @param max the highest value
+     * @return the encoding
+     */
+    public static ComponentEncoding integer(long min, long max) {
+        return new ComponentEncoding(Kind.INTEGER, min, max, 1);
+    }
+
+    /**
+     * Values in {@code [min, max]} rounded to multiples of {@code precision} above {@code min}.
+     *
+     * @param min       the lowest value
+     * @param max       the highest value
+     * @param precision the step between representable values
+     * @return the encoding
+     */
+    public static ComponentEncoding quantized(double min, double max, double precision) {
+        return new ComponentEncoding(Kind.QUANTIZED, min, max, precision);
+    }
+
+    /**
+     * Returns true if this is a fixed-width integer with a known range.
+     *
+     * @return true for ranged integers
+     */
+    public boolean ranged() {
+        return kind == Kind.INTEGER && !Double.isInfinite(min) && !Double.isInfinite(max);
+    }
+
+    /**
+     * Returns the number of bits each value takes, or -1 for variable-length integers.
+     *
+     * @return bits per value
+     */
+    public int bitsPerValue() {
+        return switch (kind) {
+            case RAW -> Float.SIZE;
+            case BOOLEAN -> 1;
+            case INTEGER -> ranged() ? bitsFor((long) (max - min)) : -1;
+            case QUANTIZED -> bitsFor(steps());
+        };
+    }
+
+    /**
+     * Returns true if {@code value} can be packed without leaving the hint's contract.
+     *
+     * @param value the value to check
+     * @return true if the value fits
+     */
+    public boolean accepts(float value) {
+        return switch (kind) {
+            case RAW -> true;
+            case BOOLEAN -> value == 0f || value == 1f;
+            case INTEGER -> value == Math.rint(value)
+                    && value >= Math.max(min, -INTEGER_LIMIT) && value <= Math.min(max, INTEGER_LIMIT);
+            case QUANTIZED -> value >= min && value <= max;
+        };
+    }
+
+    /**
+     * Maps an accepted value to its packed integer form.
+     *
+     * @param value the value, which must be {@linkplain #accepts(float) accepted}
+     * @return the packed value
+     */
+    public long pack(float value) {
+        return switch (kind) {
+            case RAW -> Integer.toUnsignedLong(Float.floatToRawIntBits(value));
+            case BOOLEAN -> value != 0f ? 1 : 0;
+            case INTEGER -> ranged() ? (long) value - (long) min : (long) value;
+            case QUANTIZED -> Math.min(steps(), Math.round((value - min) / precision));
+        };
+    }
+
+    /**
+     * Maps a packed value back to a component value.
+     *
+     * @param packed the packed value
+     * @return the component value
+     */
+    public float unpack(long packed) {
+        return switch (kind) {
+            case RAW -> Float.intBitsToFloat((int) packed);
+            case BOOLEAN -> packed != 0 ? 1f : 0f;
+            case INTEGER -> ranged() ? (float) (packed + (long) min) : (float) packed;
+            case QUANTIZED -> (float) Math.min(max, min + packed * precision);
+        };
+    }
+
+    private long steps() {
+        return Math.round((max - min) / precision);
+    }
+
+    private static int bitsFor(long maxValue) {
+        return Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(maxValue));
+    }
+}
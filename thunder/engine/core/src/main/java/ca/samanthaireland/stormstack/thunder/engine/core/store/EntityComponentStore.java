@@ -66,6 +66,9 @@ public interface EntityComponentStore {
     /**
      * Create a new entity with the given ID.
      *
+     * <p>IDs generated afterwards by {@link #createEntityForMatch(long)} continue
+     * above it, so restored entities keep their IDs without colliding with new ones.
+     *
      * <p><b>Deprecated:</b> Use {@link #createEntityForMatch(long)} instead
      * to ensure proper MATCH_ID component attachment for match isolation.
      *
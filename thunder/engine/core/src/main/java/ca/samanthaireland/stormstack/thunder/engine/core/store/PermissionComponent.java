@@ -62,7 +62,21 @@ public class PermissionComponent extends BaseComponent {
      * @throws IllegalArgumentException if id is not positive, name is null/blank, or permissionLevel is null
      */
     public PermissionComponent(long id, String name, PermissionLevel permissionLevel) {
-        super(id, name);
+        this(id, name, permissionLevel, ComponentEncoding.RAW);
+    }
+
+    /**
+     * Create a permission component with the specified ID, name, permission level, and
+     * value encoding hint.
+     *
+     * @param id the component ID (must be positive)
+     * @param name the component name (must not be null or blank)
+     * @param permissionLevel the permission level for this component
+     * @param encoding how the component's values may be packed (null for raw floats)
+     * @throws IllegalArgumentException if id is not positive, name is null/blank, or permissionLevel is null
+     */
+    public PermissionComponent(long id, String name, PermissionLevel permissionLevel, ComponentEncoding encoding) {
+        super(id, name, encoding);
         if (permissionLevel == null) {
             throw new IllegalArgumentException("Permission level must not be null");
         }
@@ -28,15 +28,18 @@ import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
 import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleResolver;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.CommandQueueExecutor;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.InMemoryCommandQueueManager;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.FanOutExecutor;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.SubscriberMailbox;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -61,6 +64,10 @@ import java.util.concurrent.atomic.AtomicLong;
 public class GameLoop {
 
     private static final int DEFAULT_MAX_COMMANDS_PER_TICK = 10000;
+    // Undelivered ticks a listener may fall behind before further ticks are dropped
+    private static final int TICK_LISTENER_CAPACITY = 1_024;
+    // Wall-clock time the first tick of any game loop in this JVM completed, 0 until then
+    private static final AtomicLong FIRST_TICK_COMPLETED_MILLIS = new AtomicLong();
 
     private final ModuleResolver moduleResolver;
     private final CommandQueueExecutor commandQueueExecutor;
@@ -70,25 +77,29 @@ public class GameLoop {
     private volatile List<EngineSystem> cachedSystems;
 
     // Tick listeners for post-tick notifications (thread-safe for concurrent modification)
-    private final List<TickListener> tickListeners = new CopyOnWriteArrayList<>();
+    private final List<TickSubscription> tickListeners = new CopyOnWriteArrayList<>();
 
-    // Thread pool for async tick listener notification (fire and forget)
-    private final ExecutorService tickListenerExecutor = Executors.newCachedThreadPool(r -> {
-        Thread t = new Thread(r, "TickListener-Worker");
-        t.setDaemon(true);
-        return t;
-    });
+    // Node-wide bounded pool the listener mailboxes drain on (fire and forget)
+    private final FanOutExecutor tickListenerExecutor = FanOutExecutor.tickListeners();
+    private final AtomicLong retiredTickListenerOverflow = new AtomicLong();
+    private volatile boolean shutdown;
+    private volatile boolean tickListenersSuspended;
 
     // Tick timing metrics (all times in nanoseconds)
     private volatile long lastTickDurationNanos;
     private final AtomicLong totalTickDurationNanos = new AtomicLong(0);
     private final AtomicLong tickCount = new AtomicLong(0);
-    private volatile long minTickDurationNanos = Long.MAX_VALUE;
-    private volatile long maxTickDurationNanos = 0;
+    private final AtomicLong minTickDurationNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxTickDurationNanos = new AtomicLong(0);
 
     // Per-system execution metrics for the last tick
     private volatile List<SystemExecutionMetrics> lastTickSystemMetrics = Collections.emptyList();
 
+    // Rolling-window latency distributions, keyed by system class or command name
+    private final RollingLatencyHistogram tickLatency = new RollingLatencyHistogram();
+    private final Map<String, RollingLatencyHistogram> systemLatencies = new ConcurrentHashMap<>();
+    private final Map<String, RollingLatencyHistogram> commandLatencies = new ConcurrentHashMap<>();
+
     /**
      * Create a new game loop with command execution support.
      *
@@ -147,7 +158,7 @@ public class GameLoop {
         log.trace("Advancing tick: {}", tick);
 
         // Execute commands scheduled for this tick
-        executeCommands();
+        executeCommands(tick);
 
         // Run all systems
         List<EngineSystem> systems = getOrBuildSystems();
@@ -161,22 +172,25 @@ public class GameLoop {
         lastTickDurationNanos = duration;
         totalTickDurationNanos.addAndGet(duration);
         tickCount.incrementAndGet();
-        if (duration < minTickDurationNanos) {
-            minTickDurationNanos = duration;
-        }
-        if (duration > maxTickDurationNanos) {
-            maxTickDurationNanos = duration;
+        minTickDurationNanos.accumulateAndGet(duration, Math::min);
+        maxTickDurationNanos.accumulateAndGet(duration, Math::max);
+        tickLatency.record(duration);
+        if (FIRST_TICK_COMPLETED_MILLIS.get() == 0) {
+            FIRST_TICK_COMPLETED_MILLIS.compareAndSet(0, System.currentTimeMillis());
         }
 
         log.trace("Tick {} complete, {} systems executed, duration {}ns", tick, systemsRun, duration);
     }
 
     /**
-     * Execute queued commands up to the configured limit.
+     * Execute commands due on this tick up to the configured limit.
      */
-    private void executeCommands() {
+    private void executeCommands(long tick) {
         if (commandQueueExecutor != null) {
-            commandQueueExecutor.executeCommands(maxCommandsPerTick);
+            commandQueueExecutor.executeCommands(tick, maxCommandsPerTick);
+            for (CommandExecutionMetrics metrics : getLastTickCommandMetrics()) {
+                latencyOf(commandLatencies, metrics.commandName()).record(metrics.executionTimeNanos());
+            }
         }
     }
 
@@ -200,12 +214,28 @@ public class GameLoop {
                 log.error("Error executing system: {}", system.getClass().getSimpleName(), e);
             }
             long duration = System.nanoTime() - startTime;
-            metrics.add(new SystemExecutionMetrics(system.getClass().getSimpleName(), duration, success));
+            String name = system.getClass().getSimpleName();
+            metrics.add(new SystemExecutionMetrics(name, duration, success));
+            latencyOf(systemLatencies, name).record(duration);
         }
         lastTickSystemMetrics = metrics;
         return successCount;
     }
 
+    /**
+     * Get when the first tick of any game loop in this JVM completed.
+     *
+     * @return the wall-clock time in milliseconds, or 0 if no tick has completed yet
+     */
+    public static long getFirstTickCompletedMillis() {
+        return FIRST_TICK_COMPLETED_MILLIS.get();
+    }
+
+    private static RollingLatencyHistogram latencyOf(Map<String, RollingLatencyHistogram> latencies, String name) {
+        RollingLatencyHistogram histogram = latencies.get(name);
+        return histogram != null ? histogram : latencies.computeIfAbsent(name, k -> new RollingLatencyHistogram());
+    }
+
     /**
      * Invalidate the cached systems list.
      *
@@ -259,8 +289,19 @@ public class GameLoop {
      */
     public void addTickListener(TickListener listener) {
         Objects.requireNonNull(listener, "listener must not be null");
-        tickListeners.add(listener);
-        log.debug("Registered tick listener: {}", listener.getClass().getSimpleName());
+        String name = listener.getClass().getSimpleName();
+        SubscriberMailbox<Long> mailbox = new SubscriberMailbox<>("tick-listener-" + name,
+                tickListenerExecutor, TICK_LISTENER_CAPACITY, ticks -> {
+                    for (Long tick : ticks) {
+                        try {
+                            listener.onTickComplete(tick);
+                        } catch (Exception e) {
+                            log.error("Error in tick listener: {}", name, e);
+                        }
+                    }
+                });
+        tickListeners.add(new TickSubscription(listener, mailbox));
+        log.debug("Registered tick listener: {}", name);
     }
 
     /**
@@ -270,42 +311,89 @@ public class GameLoop {
      * @return true if the listener was removed, false if it was not registered
      */
     public boolean removeTickListener(TickListener listener) {
-        boolean removed = tickListeners.remove(listener);
-        if (removed) {
-            log.debug("Removed tick listener: {}", listener.getClass().getSimpleName());
+        for (TickSubscription subscription : tickListeners) {
+            if (subscription.listener().equals(listener) && tickListeners.remove(subscription)) {
+                retire(subscription);
+                log.debug("Removed tick listener: {}", listener.getClass().getSimpleName());
+                return true;
+            }
         }
-        return removed;
+        return false;
     }
 
     /**
      * Notify all registered tick listeners that a tick has completed.
      *
      * <p>Notifications are sent asynchronously (fire and forget) to avoid
-     * blocking the game loop. Each listener is invoked in a separate task
-     * to prevent slow listeners from affecting others.
+     * blocking the game loop. Each listener has its own bounded mailbox that
+     * receives ticks in order and one at a time; a listener that is still busy
+     * gets the ticks completed meanwhile as one batch, so a slow listener costs
+     * one queued task rather than one per tick and never delays the others.
      *
      * @param tick the tick number that just completed
      */
     private void notifyTickListeners(long tick) {
-        for (TickListener listener : tickListeners) {
-            tickListenerExecutor.submit(() -> {
-                try {
-                    listener.onTickComplete(tick);
-                } catch (Exception e) {
-                    log.error("Error in tick listener: {}", listener.getClass().getSimpleName(), e);
-                }
-            });
+        if (shutdown || tickListenersSuspended) {
+            return;
+        }
+        for (TickSubscription subscription : tickListeners) {
+            subscription.mailbox().offer(tick);
+        }
+    }
+
+    /**
+     * Suspend or resume tick listener notifications.
+     *
+     * <p>While suspended, completed ticks are not offered to any listener, so
+     * snapshot persistence and other post-tick work is skipped rather than queued.
+     *
+     * @param suspended whether to suspend notifications
+     */
+    public void setTickListenersSuspended(boolean suspended) {
+        this.tickListenersSuspended = suspended;
+    }
+
+    /**
+     * Check whether tick listener notifications are suspended.
+     *
+     * @return true if suspended
+     */
+    public boolean isTickListenersSuspended() {
+        return tickListenersSuspended;
+    }
+
+    /**
+     * Get the number of tick notifications dropped because a listener fell
+     * too far behind.
+     *
+     * @return the total across current and removed listeners
+     */
+    public long getTickListenerOverflowCount() {
+        long total = retiredTickListenerOverflow.get();
+        for (TickSubscription subscription : tickListeners) {
+            total += subscription.mailbox().getOverflowCount();
         }
+        return total;
     }
 
     /**
-     * Shutdown the tick listener executor.
+     * Stop notifying tick listeners.
      *
-     * <p>Call this when the game loop is no longer needed to clean up resources.
+     * <p>Call this when the game loop is no longer needed. The listener executor
+     * is shared across game loops, so it keeps running.
      */
     public void shutdown() {
-        tickListenerExecutor.shutdown();
-        log.info("GameLoop tick listener executor shutdown initiated");
+        shutdown = true;
+        for (TickSubscription subscription : tickListeners) {
+            retire(subscription);
+        }
+        tickListeners.clear();
+        log.info("GameLoop tick listener notification stopped");
+    }
+
+    private void retire(TickSubscription subscription) {
+        subscription.mailbox().close();
+        retiredTickListenerOverflow.addAndGet(subscription.mailbox().getOverflowCount());
     }
 
     /**
@@ -316,16 +404,55 @@ public class GameLoop {
     public TickMetrics getTickMetrics() {
         long count = tickCount.get();
         long avgNanos = count > 0 ? totalTickDurationNanos.get() / count : 0;
-        long minNanos = minTickDurationNanos == Long.MAX_VALUE ? 0 : minTickDurationNanos;
+        long minNanos = minTickDurationNanos.get();
         return new TickMetrics(
                 lastTickDurationNanos,
                 avgNanos,
-                minNanos,
-                maxTickDurationNanos,
+                minNanos == Long.MAX_VALUE ? 0 : minNanos,
+                maxTickDurationNanos.get(),
                 count
         );
     }
 
+    /**
+     * Get the tick duration distribution over the rolling window.
+     *
+     * @return the tick latency snapshot
+     */
+    public LatencyHistogram.Snapshot getTickLatency() {
+        return tickLatency.snapshot();
+    }
+
+    /**
+     * Get the per-system execution time distributions over the rolling window.
+     *
+     * @return latency snapshots keyed by system class name, sorted by name
+     */
+    public Map<String, LatencyHistogram.Snapshot> getSystemLatencies() {
+        return snapshotAll(systemLatencies);
+    }
+
+    /**
+     * Get the per-command execution time distributions over the rolling window.
+     *
+     * @return latency snapshots keyed by command name, sorted by name
+     */
+    public Map<String, LatencyHistogram.Snapshot> getCommandLatencies() {
+        return snapshotAll(commandLatencies);
+    }
+
+    private static Map<String, LatencyHistogram.Snapshot> snapshotAll(Map<String, RollingLatencyHistogram> latencies) {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        latencies.forEach((name, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            // Skip systems and commands that have not run within the window
+            if (snapshot.count() > 0) {
+                snapshots.put(name, snapshot);
+            }
+        });
+        return snapshots;
+    }
+
     /**
      * Get system execution metrics from the last tick.
      *
@@ -354,8 +481,11 @@ public class GameLoop {
         lastTickDurationNanos = 0;
         totalTickDurationNanos.set(0);
         tickCount.set(0);
-        minTickDurationNanos = Long.MAX_VALUE;
-        maxTickDurationNanos = 0;
+        minTickDurationNanos.set(Long.MAX_VALUE);
+        maxTickDurationNanos.set(0);
+        tickLatency.reset();
+        systemLatencies.clear();
+        commandLatencies.clear();
         log.debug("Tick metrics reset");
     }
 
@@ -403,4 +533,10 @@ public class GameLoop {
             return maxTickNanos / 1_000_000.0;
         }
     }
+
+    /**
+     * A tick listener and the mailbox that feeds it.
+     */
+    private record TickSubscription(TickListener listener, SubscriberMailbox<Long> mailbox) {
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package ca.samanthaireland.stormstack.thunder.engine.internal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear nanosecond buckets.
+ *
+ * <p>As in HDR histograms, each power-of-two range is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so a percentile is reported as the
+ * upper bound of its bucket and is at most 1/{@value #SUB_BUCKETS} (about 6%)
+ * above the true value. Recording is allocation-free and safe from any thread.
+ *
+ * <p>Buckets stop at 2^{@value #MAX_EXPONENT} ns (about 69 seconds); longer
+ * durations share the top bucket, which reports the recorded maximum. That keeps
+ * a histogram to {@value #BUCKETS} counters, about 4KB.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    // Values below SUB_BUCKETS get exact buckets; each higher exponent up to MAX_EXPONENT gets SUB_BUCKETS
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record one duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Take a point-in-time snapshot of the recorded durations.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return merge(List.of(this));
+    }
+
+    /**
+     * Take a snapshot of the durations recorded across several histograms, as if
+     * they had all been recorded in one.
+     *
+     * @param histograms the histograms to combine
+     * @return the combined snapshot
+     */
+    public static Snapshot merge(List<LatencyHistogram> histograms) {
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        long max = 0;
+        for (LatencyHistogram histogram : histograms) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += histogram.buckets.get(i);
+            }
+            sum += histogram.totalNanos.get();
+            max = Math.max(max, histogram.maxNanos.get());
+        }
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return new Snapshot(
+                total,
+                total > 0 ? sum / total : 0,
+                percentile(counts, total, 0.50, max),
+                percentile(counts, total, 0.90, max),
+                percentile(counts, total, 0.99, max),
+                percentile(counts, total, 0.999, max),
+                max
+        );
+    }
+
+    /**
+     * Discard all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        if (nanos >= 1L << MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (nanos >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        if (bucket == BUCKETS - 1) {
+            // Also holds every duration past the top exponent; percentiles are capped at the maximum
+            return Long.MAX_VALUE;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Histogram snapshot.
+     *
+     * @param count number of recorded durations
+     * @param meanNanos mean duration in nanoseconds
+     * @param p50Nanos median duration in nanoseconds
+     * @param p90Nanos 90th percentile duration in nanoseconds
+     * @param p99Nanos 99th percentile duration in nanoseconds
+     * @param p999Nanos 99.9th percentile duration in nanoseconds
+     * @param maxNanos maximum duration in nanoseconds
+     */
+    public record Snapshot(
+            long count,
+            long meanNanos,
+            long p50Nanos,
+            long p90Nanos,
+            long p99Nanos,
+            long p999Nanos,
+            long maxNanos
+    ) {
+        /**
+         * An empty snapshot.
+         */
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0);
+
+        /**
+         * Get the median duration in milliseconds.
+         */
+        public double p50Ms() {
+            return p50Nanos / 1_000_000.0;
+        }
+
+        /**
+         * Get the 90th percentile duration in milliseconds.
+         */
+        public double p90Ms() {
+            return p90Nanos / 1_000_000.0;
+        }
+
+        /**
+         * Get the 99th percentile duration in milliseconds.
+         */
+        public double p99Ms() {
+            return p99Nanos / 1_000_000.0;
+        }
+
+        /**
+         * Get the 99.9th percentile duration in milliseconds.
+         */
+        public double p999Ms() {
+            return p999Nanos / 1_000_000.0;
+        }
+
+        /**
+         * Get the maximum duration in milliseconds.
+         */
+        public double maxMs() {
+            return maxNanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency histogram over a rolling time window.
+ *
+ * <p>The window is divided into equal slices, each backed by its own
+ * {@link LatencyHistogram}. A slice is cleared the first time it is written in a
+ * new period, and snapshots merge only the slices whose period still falls within
+ * the window, so old outliers age out without a background sweeper. The window
+ * therefore covers between {@code window - slice} and {@code window} of history.
+ *
+ * <p>Slices are allocated the first time they are written, so a histogram that
+ * records rarely, or not at all, holds only the slices it has used.
+ */
+public final class RollingLatencyHistogram {
+
+    /**
+     * Default window length in milliseconds.
+     */
+    public static final long DEFAULT_WINDOW_MS = 60_000;
+
+    /**
+     * Default number of slices the window is divided into.
+     */
+    public static final int DEFAULT_SLICES = 6;
+
+    private final AtomicReferenceArray<LatencyHistogram> slices;
+    private final AtomicLongArray periods;
+    private final long sliceNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Create a histogram over the default one-minute window.
+     */
+    public RollingLatencyHistogram() {
+        this(DEFAULT_WINDOW_MS, DEFAULT_SLICES);
+    }
+
+    /**
+     * Create a histogram over a custom window.
+     *
+     * @param windowMs the window length in milliseconds
+     * @param sliceCount the number of slices the window is divided into
+     */
+    public RollingLatencyHistogram(long windowMs, int sliceCount) {
+        this(windowMs, sliceCount, System::nanoTime);
+    }
+
+    RollingLatencyHistogram(long windowMs, int sliceCount, LongSupplier clock) {
+        if (windowMs <= 0 || sliceCount <= 0) {
+            throw new IllegalArgumentException("Window and slice count must be positive");
+        }
+        this.slices = new AtomicReferenceArray<>(sliceCount);
+        this.periods = new AtomicLongArray(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            periods.set(i, Long.MIN_VALUE);
+        }
+        this.sliceNanos = Math.max(1, windowMs * 1_000_000L / sliceCount);
+        this.clock = clock;
+    }
+
+    /**
+     * Record one duration in the current slice.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long period = currentPeriod();
+        int index = (int) Math.floorMod(period, (long) slices.length());
+        LatencyHistogram slice = sliceAt(index);
+        long slicePeriod = periods.get(index);
+        if (slicePeriod != period && periods.compareAndSet(index, slicePeriod, period)) {
+            // Records racing the rollover may be dropped; acceptable for metrics
+            slice.reset();
+        }
+        slice.record(nanos);
+    }
+
+    /**
+     * Take a snapshot of the durations recorded within the window.
+     *
+     * @return the snapshot
+     */
+    public LatencyHistogram.Snapshot snapshot() {
+        long oldest = currentPeriod() - slices.length() + 1;
+        List<LatencyHistogram> live = new ArrayList<>(slices.length());
+        for (int i = 0; i < slices.length(); i++) {
+            LatencyHistogram slice = slices.get(i);
+            if (slice != null && periods.get(i) >= oldest) {
+                live.add(slice);
+            }
+        }
+        return live.isEmpty() ? LatencyHistogram.Snapshot.EMPTY : LatencyHistogram.merge(live);
+    }
+
+    /**
+     * Discard all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < slices.length(); i++) {
+            periods.set(i, Long.MIN_VALUE);
+            LatencyHistogram slice = slices.get(i);
+            if (slice != null) {
+                slice.reset();
+            }
+        }
+    }
+
+    private LatencyHistogram sliceAt(int index) {
+        LatencyHistogram slice = slices.get(index);
+        if (slice == null) {
+            slices.compareAndSet(index, null, new LatencyHistogram());
+            slice = slices.get(index);
+        }
+        return slice;
+    }
+
+    private long currentPeriod() {
+        return Math.floorDiv(clock.getAsLong(), sliceNanos);
+    }
+}
@@ -30,7 +30,9 @@ package ca.samanthaireland.stormstack.thunder.engine.internal;
  * such as persisting snapshots, sending updates to clients, or logging metrics.
  *
  * <p>Listeners are notified after all systems and game masters have executed for a tick.
- * Implementations should be mindful of performance as they run on the game loop thread.
+ * Notifications run off the game loop thread, one at a time and in tick order for each
+ * listener. A listener that falls more than a bounded number of ticks behind misses the
+ * newest ticks, so implementations should still be mindful of performance.
  */
 @FunctionalInterface
 public interface TickListener {
@@ -104,21 +104,38 @@ public final class ModulePermissionClaimBuilder {
                 continue;
             }
 
-            // Get the existing module's components
-            List<BaseComponent> existingComponents = getModuleComponents(existingModule);
-
-            // Add claims based on permission level
-            for (BaseComponent component : existingComponents) {
-                if (component instanceof PermissionComponent permissionComponent) {
-                    PermissionLevel level = permissionComponent.getPermissionLevel();
-                    String key = ModuleAuthToken.permissionKey(existingModuleName, permissionComponent.getName());
-
-                    switch (level) {
-                        case READ -> claims.put(key, ModuleAuthToken.ComponentPermission.READ);
-                        case WRITE -> claims.put(key, ModuleAuthToken.ComponentPermission.WRITE);
-                        case PRIVATE -> {
-                            // No access to private components from other modules
-                        }
+            withAccessibleComponents(existingModuleName, getModuleComponents(existingModule));
+        }
+        return this;
+    }
+
+    /**
+     * Add READ/WRITE claims for the accessible components of one other module.
+     *
+     * <p>Lets callers that already hold a module's declared components build claims
+     * without asking the module to create them again.
+     *
+     * @param ownerModuleName the name of the module that owns the components
+     * @param components the owner module's declared components
+     * @return this builder for chaining
+     */
+    public ModulePermissionClaimBuilder withAccessibleComponents(String ownerModuleName,
+                                                                 List<BaseComponent> components) {
+        if (ownerModuleName.equals(moduleName)) {
+            return this;
+        }
+
+        // Add claims based on permission level
+        for (BaseComponent component : components) {
+            if (component instanceof PermissionComponent permissionComponent) {
+                PermissionLevel level = permissionComponent.getPermissionLevel();
+                String key = ModuleAuthToken.permissionKey(ownerModuleName, permissionComponent.getName());
+
+                switch (level) {
+                    case READ -> claims.put(key, ModuleAuthToken.ComponentPermission.READ);
+                    case WRITE -> claims.put(key, ModuleAuthToken.ComponentPermission.WRITE);
+                    case PRIVATE -> {
+                        // No access to private components from other modules
                     }
                 }
             }
@@ -133,6 +133,17 @@ public class ContainerClassLoader extends URLClassLoader implements Closeable {
      * @return true if the class should be loaded from parent
      */
     private boolean shouldLoadFromParent(String name) {
+        return isParentFirst(name);
+    }
+
+    /**
+     * Check whether a class belongs to the engine APIs and libraries that module
+     * classloaders must share with the engine rather than define themselves.
+     *
+     * @param name the fully qualified class name
+     * @return true if the class must come from the parent classloader
+     */
+    public static boolean isParentFirst(String name) {
         for (String prefix : PARENT_FIRST_PACKAGES) {
             if (name.startsWith(prefix)) {
                 return true;
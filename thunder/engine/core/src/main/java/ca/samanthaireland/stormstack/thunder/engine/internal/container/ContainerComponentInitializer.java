@@ -47,6 +47,7 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.LockingE
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.SimplePermissionRegistry;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.DefaultInjector;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleTemplateCache;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.OnDiskModuleManager;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -69,6 +70,7 @@ public class ContainerComponentInitializer {
     private final long containerId;
     private final ContainerConfig config;
     private final Supplier<Long> tickSupplier;
+    private final ModuleTemplateCache moduleTemplateCache;
 
     // Initialized components
     private ContainerClassLoader containerClassLoader;
@@ -86,16 +88,31 @@ public class ContainerComponentInitializer {
     private DeltaSnapshotProvider deltaSnapshotProvider;
 
     /**
-     * Creates a new initializer for the specified container.
+     * Creates a new initializer for the specified container, which defines its own module classes.
      *
      * @param containerId the container ID
      * @param config the container configuration
      * @param tickSupplier supplier for current tick (from ContainerTickExecutor)
      */
     public ContainerComponentInitializer(long containerId, ContainerConfig config, Supplier<Long> tickSupplier) {
+        this(containerId, config, tickSupplier, null);
+    }
+
+    /**
+     * Creates a new initializer for the specified container.
+     *
+     * @param containerId the container ID
+     * @param config the container configuration
+     * @param tickSupplier supplier for current tick (from ContainerTickExecutor)
+     * @param moduleTemplateCache the node's module class cache, or null to define module
+     *                            classes in this container's own classloader
+     */
+    public ContainerComponentInitializer(long containerId, ContainerConfig config, Supplier<Long> tickSupplier,
+                                         ModuleTemplateCache moduleTemplateCache) {
         this.containerId = containerId;
         this.config = config;
         this.tickSupplier = tickSupplier;
+        this.moduleTemplateCache = moduleTemplateCache;
     }
 
     /**
@@ -147,12 +164,11 @@ public class ContainerComponentInitializer {
                 ? config.moduleScanDirectory()
                 : Path.of("modules");
 
-        moduleManager = new OnDiskModuleManager(
-                injector,
-                permissionRegistry,
-                modulePath.toString(),
-                containerClassLoader
-        );
+        // Module classes come from the node's cache when there is one, so containers running
+        // the same module version share its bytecode; instances and stores stay per container.
+        moduleManager = moduleTemplateCache != null
+                ? new OnDiskModuleManager(modulePath, moduleTemplateCache, injector, permissionRegistry, entityStore)
+                : new OnDiskModuleManager(injector, permissionRegistry, modulePath.toString(), containerClassLoader);
 
         matchService.setModuleResolver(moduleManager);
         injector.addClass(ModuleManager.class, moduleManager);
@@ -178,7 +194,10 @@ public class ContainerComponentInitializer {
         cachingSnapshotProvider = new CachingSnapshotProvider(
                 dirtyTrackingStore,
                 moduleManager,
-                tickSupplier
+                tickSupplier,
+                CachingSnapshotProvider.DEFAULT_REBUILD_THRESHOLD,
+                CachingSnapshotProvider.DEFAULT_MAX_CACHE_AGE_TICKS,
+                config.interest()
         );
 
         // Create delta snapshot provider for efficient WebSocket broadcasting
@@ -23,12 +23,23 @@
 package ca.samanthaireland.stormstack.thunder.engine.internal.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerStatus;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerTickOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.TickPolicy;
 import ca.samanthaireland.stormstack.thunder.engine.internal.GameLoop;
+import ca.samanthaireland.stormstack.thunder.engine.internal.LatencyHistogram;
+import ca.samanthaireland.stormstack.thunder.engine.internal.RollingLatencyHistogram;
+import ca.samanthaireland.stormstack.thunder.engine.internal.SystemExecutionMetrics;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.TickLane;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.TickScheduler;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -37,40 +48,97 @@ import java.util.function.Supplier;
  * Handles tick execution and auto-advance for a container.
  *
  * <p>Extracted from InMemoryExecutionContainer to follow SRP.
- * Manages the scheduled executor for tick advancement and auto-play functionality.
+ * Manages tick advancement and auto-play functionality. Ticks run on a
+ * {@link TickLane} of a node-wide {@link TickScheduler} rather than a thread per
+ * container; the lane keeps ticks serialized and in order. The current tick is
+ * published only once the game loop has finished it, so a reader never sees a
+ * tick number whose systems are still running.
+ *
+ * <p>Auto-advance is a fixed-timestep loop: tick {@code n} is due at
+ * {@code start + n * interval} and is started precisely on time by
+ * {@link TickLane#scheduleAt}. When a tick overruns and the next one is already
+ * due, the container's {@link TickPolicy} decides whether to catch up, drop the
+ * missed ticks or slow the simulation down. The executor records how late the
+ * game loop actually begins each tick (scheduling lag), counts ticks whose
+ * execution takes longer than the interval (overruns) and counts ticks skipped
+ * to get back on schedule (dropped ticks).
+ *
+ * <p>Auto-advance can run faster than real time by a speed multiplier, and
+ * {@link #runTurbo} runs a fixed number of ticks back-to-back with no spacing at
+ * all, until they are done or {@link #cancelTurbo} stops it between batches. In
+ * headless mode the game loop skips its tick listeners.
  */
 @Slf4j
 public class ContainerTickExecutor {
 
+    private static final int TURBO_BATCH_TICKS = 256;
+
     private final long containerId;
     private final String containerName;
     private final Supplier<ContainerStatus> statusSupplier;
+    private final TickPolicy tickPolicy;
+    // Only written by tasks on the tick lane
     private final AtomicLong currentTick;
     private final AtomicLong autoAdvanceInterval;
 
-    private final ScheduledExecutorService tickExecutor;
-    private volatile ScheduledFuture<?> autoAdvanceTask;
+    private final TickLane tickLane;
+    private volatile FixedStepLoop autoAdvanceLoop;
     private volatile GameLoop gameLoop;
+    private volatile double speed = 1.0;
+    private volatile boolean headless;
+    // Guards starting turbo runs and auto-advance, and headless changes during a run
+    private final Object turboLock = new Object();
+    private boolean turboRunning;
+    private boolean headlessAfterTurbo;
+    private volatile boolean turboCancelled;
+
+    private final RollingLatencyHistogram schedulingLag = new RollingLatencyHistogram();
+    private final AtomicLong scheduledTickCount = new AtomicLong(0);
+    private final AtomicLong overrunCount = new AtomicLong(0);
+    private final AtomicLong droppedTickCount = new AtomicLong(0);
 
     /**
-     * Creates a new tick executor for the specified container.
+     * Creates a new tick executor for the specified container on the shared scheduler.
      *
      * @param containerId the container ID
      * @param containerName the container name (for logging)
      * @param statusSupplier supplier for current container status
      */
     public ContainerTickExecutor(long containerId, String containerName, Supplier<ContainerStatus> statusSupplier) {
+        this(containerId, containerName, statusSupplier, TickScheduler.shared());
+    }
+
+    /**
+     * Creates a new tick executor for the specified container with the default tick policy.
+     *
+     * @param containerId the container ID
+     * @param containerName the container name (for logging)
+     * @param statusSupplier supplier for current container status
+     * @param scheduler the node-wide scheduler ticks run on
+     */
+    public ContainerTickExecutor(long containerId, String containerName, Supplier<ContainerStatus> statusSupplier,
+                                 TickScheduler scheduler) {
+        this(containerId, containerName, statusSupplier, scheduler, TickPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates a new tick executor for the specified container.
+     *
+     * @param containerId the container ID
+     * @param containerName the container name (for logging)
+     * @param statusSupplier supplier for current container status
+     * @param scheduler the node-wide scheduler ticks run on
+     * @param tickPolicy how auto-advance recovers from overrunning ticks
+     */
+    public ContainerTickExecutor(long containerId, String containerName, Supplier<ContainerStatus> statusSupplier,
+                                 TickScheduler scheduler, TickPolicy tickPolicy) {
         this.containerId = containerId;
         this.containerName = containerName;
         this.statusSupplier = statusSupplier;
+        this.tickPolicy = tickPolicy;
         this.currentTick = new AtomicLong(0);
         this.autoAdvanceInterval = new AtomicLong(0);
-
-        this.tickExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "container-" + containerId + "-tick");
-            t.setDaemon(true);
-            return t;
-        });
+        this.tickLane = scheduler.newLane("container-" + containerId);
     }
 
     /**
@@ -80,10 +148,13 @@ public class ContainerTickExecutor {
      */
     public void setGameLoop(GameLoop gameLoop) {
         this.gameLoop = gameLoop;
+        if (gameLoop != null) {
+            gameLoop.setTickListenersSuspended(headless);
+        }
     }
 
     /**
-     * Gets the current tick value.
+     * Gets the last completed tick.
      *
      * @return the current tick
      */
@@ -92,61 +163,287 @@ public class ContainerTickExecutor {
     }
 
     /**
-     * Advances the container by one tick.
+     * Advances the container by one tick and waits for the tick to complete.
+     *
+     * <p>The tick is queued behind any tick already running on the lane, so manual
+     * and automatic ticks never overlap.
      *
      * @return the new tick value
+     * @throws IllegalStateException if called from inside a tick, which could never
+     *         wait for the next one, or if the executor shuts down before the tick runs
      */
     public long advanceTick() {
-        long tick = currentTick.incrementAndGet();
-        tickExecutor.execute(() -> {
-            if (gameLoop != null) {
-                gameLoop.advanceTick(tick);
+        if (tickLane.isCurrentThreadInLane()) {
+            throw new IllegalStateException("Cannot advance container " + containerId + " from inside a tick");
+        }
+        return callOnLane(this::runTick);
+    }
+
+    /**
+     * Runs a task on the tick lane between ticks and waits for its result.
+     *
+     * <p>The task sees the container at rest: no tick is running, and none starts
+     * until it returns.
+     *
+     * @param task the task to run
+     * @param <T> the result type
+     * @return the task's result
+     * @throws IllegalStateException if called from inside a tick, or if the executor
+     *         shuts down before the task runs
+     */
+    public <T> T callOnLane(Callable<T> task) {
+        if (tickLane.isCurrentThreadInLane()) {
+            throw new IllegalStateException("Cannot wait for container " + containerId + "'s lane from inside a tick");
+        }
+        FutureTask<T> future = new FutureTask<>(task);
+        tickLane.execute(future);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the tick lane of container " + containerId, e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Container " + containerId + " shut down before the task ran", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs ticks back-to-back and waits for them to complete.
+     *
+     * <p>Ticks run in batches of {@value #TURBO_BATCH_TICKS} per lane task, so
+     * other tasks queued on the lane run between batches, and a cancelled run
+     * stops after its current batch.
+     *
+     * @param count the number of ticks to run
+     * @return the ticks run, their wall time and the time spent in each system
+     * @throws IllegalStateException if auto-advance is active, or if called from inside a tick
+     */
+    public ContainerTickOperations.TurboResult runTurbo(int count) {
+        return runTurbo(count, false);
+    }
+
+    /**
+     * Runs ticks back-to-back, optionally headless, and waits for them to complete.
+     *
+     * <p>Auto-advance cannot start during the run, and headless changes made
+     * during it are applied when it finishes instead of the mode it started with.
+     *
+     * @param count the number of ticks to run
+     * @param headless whether to run headless, on top of the current headless mode
+     * @return the ticks run, their wall time and the time spent in each system
+     * @throws IllegalStateException if auto-advance or another turbo run is active,
+     *         or if called from inside a tick
+     */
+    public ContainerTickOperations.TurboResult runTurbo(int count, boolean headless) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        synchronized (turboLock) {
+            if (turboRunning) {
+                throw new IllegalStateException("Container " + containerId + " is already running a turbo run");
+            }
+            if (isAutoAdvancing()) {
+                throw new IllegalStateException("Container " + containerId + " must not auto-advance during a turbo run");
+            }
+            turboRunning = true;
+            turboCancelled = false;
+            headlessAfterTurbo = this.headless;
+            if (headless) {
+                applyHeadless(true);
+            }
+        }
+        try {
+            return runTurboBatches(count);
+        } finally {
+            synchronized (turboLock) {
+                turboRunning = false;
+                applyHeadless(headlessAfterTurbo);
+            }
+        }
+    }
+
+    private ContainerTickOperations.TurboResult runTurboBatches(int count) {
+        Map<String, Long> systemNanos = new HashMap<>();
+        long fromTick = currentTick.get();
+        long startNanos = System.nanoTime();
+        int remaining = count;
+        while (remaining > 0 && !turboCancelled) {
+            int batch = Math.min(remaining, TURBO_BATCH_TICKS);
+            callOnLane(() -> {
+                for (int i = 0; i < batch; i++) {
+                    runTick();
+                    GameLoop loop = gameLoop;
+                    if (loop != null) {
+                        for (SystemExecutionMetrics metrics : loop.getLastTickSystemMetrics()) {
+                            systemNanos.merge(metrics.systemName(), metrics.executionTimeNanos(), Long::sum);
+                        }
+                    }
+                }
+                return null;
+            });
+            remaining -= batch;
+        }
+        ContainerTickOperations.TurboResult result = new ContainerTickOperations.TurboResult(
+                fromTick, currentTick.get(), System.nanoTime() - startNanos, systemNanos);
+        log.info("Container {} '{}' ran {} turbo ticks at {} ticks/s{}", containerId, containerName, result.ticks(),
+                String.format("%.0f", result.ticksPerSecond()), headless ? " (headless)" : "");
+        return result;
+    }
+
+    /**
+     * Stops a turbo run in progress after its current batch; the run then reports
+     * the ticks it completed. Does nothing if no run is in progress.
+     */
+    public void cancelTurbo() {
+        synchronized (turboLock) {
+            if (turboRunning) {
+                turboCancelled = true;
             }
+        }
+    }
+
+    /**
+     * Turns headless mode on or off; a headless game loop skips its tick listeners.
+     * During a turbo run the change is applied when the run finishes.
+     *
+     * @param headless whether to run headless
+     */
+    public void setHeadless(boolean headless) {
+        synchronized (turboLock) {
+            if (turboRunning) {
+                headlessAfterTurbo = headless;
+            } else {
+                applyHeadless(headless);
+            }
+        }
+    }
+
+    private void applyHeadless(boolean headless) {
+        this.headless = headless;
+        GameLoop loop = gameLoop;
+        if (loop != null) {
+            loop.setTickListenersSuspended(headless);
+        }
+    }
+
+    /**
+     * Checks if headless mode is on.
+     *
+     * @return true if headless
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Moves the tick counter to a tick restored from another container.
+     *
+     * <p>Auto-advance must be stopped; the next tick run is {@code tick + 1}.
+     *
+     * @param tick the last completed tick
+     * @throws IllegalStateException if the container is auto-advancing
+     */
+    public void restoreTick(long tick) {
+        if (isAutoAdvancing()) {
+            throw new IllegalStateException("Cannot restore the tick of container " + containerId + " while it auto-advances");
+        }
+        callOnLane(() -> {
+            currentTick.set(tick);
+            return tick;
         });
+    }
+
+    /**
+     * Runs the next tick on the lane and publishes its number once the game loop is done with it.
+     */
+    private long runTick() {
+        long tick = currentTick.get() + 1;
+        try {
+            GameLoop loop = gameLoop;
+            if (loop != null) {
+                loop.advanceTick(tick);
+            }
+        } finally {
+            currentTick.set(tick);
+        }
         return tick;
     }
 
+    /**
+     * Runs one scheduled tick, recording lag and overrun against its intended start.
+     */
+    private void runScheduledTick(long intendedStartNanos, long intervalNanos) {
+        long startNanos = System.nanoTime();
+        if (gameLoop != null) {
+            schedulingLag.record(startNanos - intendedStartNanos);
+        }
+        runTick();
+        scheduledTickCount.incrementAndGet();
+        if (System.nanoTime() - startNanos > intervalNanos) {
+            overrunCount.incrementAndGet();
+        }
+    }
+
     /**
      * Starts auto-advancing at the specified interval.
      *
      * @param intervalMs the interval in milliseconds between ticks
      */
     public void startAutoAdvance(long intervalMs) {
+        startAutoAdvance(intervalMs, 1.0);
+    }
+
+    /**
+     * Starts auto-advancing faster or slower than real time.
+     *
+     * @param intervalMs the nominal interval in milliseconds between ticks
+     * @param speed the rate multiplier; ticks start {@code intervalMs / speed} apart
+     * @throws IllegalStateException if a turbo run is active
+     */
+    public void startAutoAdvance(long intervalMs, double speed) {
         if (intervalMs <= 0) {
             throw new IllegalArgumentException("intervalMs must be positive");
         }
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("speed must be positive");
+        }
 
-        stopAutoAdvance(); // Stop any existing auto-advance
-
-        autoAdvanceInterval.set(intervalMs);
-        autoAdvanceTask = tickExecutor.scheduleAtFixedRate(
-                this::advanceTickSafe,
-                0,
-                intervalMs,
-                TimeUnit.MILLISECONDS
-        );
-
-        log.info("Container {} '{}' auto-advance started at {} ms interval", containerId, containerName, intervalMs);
-    }
-
-    private void advanceTickSafe() {
-        try {
-            if (statusSupplier.get() == ContainerStatus.RUNNING) {
-                advanceTick();
+        synchronized (turboLock) {
+            if (turboRunning) {
+                throw new IllegalStateException("Container " + containerId + " cannot auto-advance during a turbo run");
             }
-        } catch (Exception e) {
-            log.error("Error during auto-advance tick in container {}: {}", containerId, e.getMessage(), e);
+            stopAutoAdvance(); // Stop any existing auto-advance
+
+            autoAdvanceInterval.set(intervalMs);
+            this.speed = speed;
+            long stepNanos = Math.max(1, Math.round(TimeUnit.MILLISECONDS.toNanos(intervalMs) / speed));
+            FixedStepLoop loop = new FixedStepLoop(stepNanos);
+            autoAdvanceLoop = loop;
+            loop.start(System.nanoTime());
         }
+
+        log.info("Container {} '{}' auto-advance started at {} ms interval, {}x speed ({} on overrun)",
+                containerId, containerName, intervalMs, speed, tickPolicy.overrun());
     }
 
     /**
      * Stops auto-advancing.
      */
     public void stopAutoAdvance() {
-        if (autoAdvanceTask != null) {
-            autoAdvanceTask.cancel(false);
-            autoAdvanceTask = null;
+        FixedStepLoop loop = autoAdvanceLoop;
+        if (loop != null) {
+            loop.cancel();
+            autoAdvanceLoop = null;
             autoAdvanceInterval.set(0);
+            speed = 1.0;
             log.debug("Container {} auto-advance stopped", containerId);
         }
     }
@@ -157,7 +454,8 @@ public class ContainerTickExecutor {
      * @return true if auto-advancing
      */
     public boolean isAutoAdvancing() {
-        return autoAdvanceTask != null && !autoAdvanceTask.isCancelled();
+        FixedStepLoop loop = autoAdvanceLoop;
+        return loop != null && !loop.isCancelled();
     }
 
     /**
@@ -169,6 +467,70 @@ public class ContainerTickExecutor {
         return autoAdvanceInterval.get();
     }
 
+    /**
+     * Gets the auto-advance rate multiplier.
+     *
+     * @return the multiplier, 1 at real time or when not auto-advancing
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Gets the policy auto-advance applies when ticks overrun.
+     *
+     * @return the tick policy
+     */
+    public TickPolicy getTickPolicy() {
+        return tickPolicy;
+    }
+
+    /**
+     * Gets the number of ticks run by auto-advance.
+     *
+     * @return the scheduled tick count since the last reset
+     */
+    public long getScheduledTickCount() {
+        return scheduledTickCount.get();
+    }
+
+    /**
+     * Gets the number of auto-advanced ticks that took longer than the interval.
+     *
+     * @return the overrun count since the last reset
+     */
+    public long getOverrunCount() {
+        return overrunCount.get();
+    }
+
+    /**
+     * Gets the number of scheduled ticks skipped to get back on the fixed timestep.
+     *
+     * @return the dropped tick count since the last reset
+     */
+    public long getDroppedTickCount() {
+        return droppedTickCount.get();
+    }
+
+    /**
+     * Gets the distribution of auto-advanced tick start delays over the rolling window.
+     *
+     * @return the scheduling lag snapshot
+     */
+    public LatencyHistogram.Snapshot getSchedulingLag() {
+        return schedulingLag.snapshot();
+    }
+
+    /**
+     * Resets the scheduled, overrun and dropped tick counts and scheduling lag.
+     */
+    public void resetMetrics() {
+        scheduledTickCount.set(0);
+        overrunCount.set(0);
+        droppedTickCount.set(0);
+        schedulingLag.reset();
+    }
+
     /**
      * Shuts down the tick executor.
      *
@@ -178,17 +540,112 @@ public class ContainerTickExecutor {
      */
     public boolean shutdown(long timeout, TimeUnit unit) {
         stopAutoAdvance();
-        tickExecutor.shutdown();
+        cancelTurbo();
+        tickLane.close();
         try {
-            if (!tickExecutor.awaitTermination(timeout, unit)) {
-                tickExecutor.shutdownNow();
+            if (!tickLane.awaitIdle(timeout, unit)) {
+                tickLane.closeNow();
                 return false;
             }
             return true;
         } catch (InterruptedException e) {
-            tickExecutor.shutdownNow();
+            tickLane.closeNow();
             Thread.currentThread().interrupt();
             return false;
         }
     }
+
+    /**
+     * Fixed-timestep auto-advance loop. Each step runs one tick on the lane, then
+     * plans the next start from the tick grid and the {@link TickPolicy}.
+     */
+    private final class FixedStepLoop implements TickLane.Cancellable {
+        private final long stepNanos;
+        // Only touched by the step currently running on the lane, or before the first step
+        private long nextStartNanos;
+        private int caughtUp;
+        private volatile TickLane.Cancellable pending;
+        private volatile boolean cancelled;
+
+        FixedStepLoop(long stepNanos) {
+            this.stepNanos = stepNanos;
+        }
+
+        void start(long firstStartNanos) {
+            nextStartNanos = firstStartNanos;
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                pending = tickLane.scheduleAt(this::step, nextStartNanos);
+            } catch (RejectedExecutionException e) {
+                log.debug("Container {} auto-advance stopped: tick lane closed", containerId);
+            }
+        }
+
+        private void step() {
+            if (cancelled) {
+                return;
+            }
+            long intendedStartNanos = nextStartNanos;
+            try {
+                if (statusSupplier.get() == ContainerStatus.RUNNING) {
+                    runScheduledTick(intendedStartNanos, stepNanos);
+                }
+            } catch (Exception e) {
+                log.error("Error during auto-advance tick in container {}: {}", containerId, e.getMessage(), e);
+            } finally {
+                if (!cancelled) {
+                    nextStartNanos = planNext(intendedStartNanos + stepNanos, System.nanoTime());
+                    schedule();
+                }
+            }
+        }
+
+        /**
+         * Chooses when the next tick starts, given the slot it is due in and the time now.
+         */
+        private long planNext(long dueNanos, long nowNanos) {
+            if (dueNanos - nowNanos > 0) {
+                caughtUp = 0;
+                return dueNanos;
+            }
+            return switch (tickPolicy.overrun()) {
+                case CATCH_UP -> {
+                    if (caughtUp < tickPolicy.maxCatchUpTicks()) {
+                        caughtUp++;
+                        yield dueNanos;
+                    }
+                    caughtUp = 0;
+                    yield skipMissed(dueNanos, nowNanos);
+                }
+                case DROP -> skipMissed(dueNanos, nowNanos);
+                case SLOW_DOWN -> nowNanos;
+            };
+        }
+
+        /**
+         * Skips every slot that has already passed and returns the first one still ahead.
+         */
+        private long skipMissed(long dueNanos, long nowNanos) {
+            long missed = (nowNanos - dueNanos) / stepNanos + 1;
+            droppedTickCount.addAndGet(missed);
+            return dueNanos + missed * stepNanos;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            TickLane.Cancellable current = pending;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
 }
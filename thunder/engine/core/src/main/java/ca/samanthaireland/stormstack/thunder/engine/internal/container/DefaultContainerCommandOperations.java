@@ -5,12 +5,16 @@
 package ca.samanthaireland.stormstack.thunder.engine.internal.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandQueue;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerCommandOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +34,11 @@ public final class DefaultContainerCommandOperations implements ContainerCommand
         return new DefaultCommandBuilder(this, commandName);
     }
 
+    @Override
+    public BatchBuilder batch() {
+        return new DefaultBatchBuilder(this);
+    }
+
     @Override
     public List<ExecutionContainer.CommandInfo> available() {
         return container.getAvailableCommands();
@@ -48,6 +57,11 @@ public final class DefaultContainerCommandOperations implements ContainerCommand
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<CommandSchema> typedSchema(String commandName) {
+        return Optional.ofNullable(container.resolveTypedSchema(commandName));
+    }
+
     @Override
     public List<ExecutionContainer.CommandInfo> fromModule(String moduleName) {
         return container.getAvailableCommands().stream()
@@ -63,6 +77,7 @@ public final class DefaultContainerCommandOperations implements ContainerCommand
         private final DefaultContainerCommandOperations operations;
         private final String commandName;
         private Long matchId;
+        private long tick = CommandQueue.NEXT_TICK;
         private CommandPayload payload;
         private final Map<String, Object> params = new HashMap<>();
 
@@ -95,14 +110,20 @@ public final class DefaultContainerCommandOperations implements ContainerCommand
             return this;
         }
 
+        @Override
+        public CommandBuilder atTick(long tick) {
+            this.tick = tick;
+            return this;
+        }
+
         @Override
         public ContainerCommandOperations execute() {
             CommandPayload effectivePayload = buildPayload();
 
             if (matchId != null) {
-                operations.container.enqueueCommandInternal(matchId, commandName, effectivePayload);
+                operations.container.enqueueCommandInternal(matchId, commandName, effectivePayload, tick);
             } else {
-                operations.container.enqueueCommandInternal(commandName, effectivePayload);
+                operations.container.enqueueCommandInternal(commandName, effectivePayload, tick);
             }
 
             return operations;
@@ -119,6 +140,44 @@ public final class DefaultContainerCommandOperations implements ContainerCommand
         }
     }
 
+    /**
+     * Default implementation of BatchBuilder.
+     */
+    private static final class DefaultBatchBuilder implements BatchBuilder {
+
+        private final DefaultContainerCommandOperations operations;
+        private final List<String> commandNames = new ArrayList<>();
+        private final List<CommandPayload> payloads = new ArrayList<>();
+        private final List<Long> ticks = new ArrayList<>();
+
+        DefaultBatchBuilder(DefaultContainerCommandOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public BatchBuilder add(String commandName, CommandPayload payload) {
+            return add(commandName, payload, CommandQueue.NEXT_TICK);
+        }
+
+        @Override
+        public BatchBuilder add(String commandName, CommandPayload payload, long tick) {
+            commandNames.add(commandName);
+            payloads.add(payload != null ? payload : new MapCommandPayload(Map.of()));
+            ticks.add(tick);
+            return this;
+        }
+
+        @Override
+        public BatchBuilder add(String commandName, Map<String, Object> parameters) {
+            return add(commandName, new MapCommandPayload(parameters != null ? parameters : Map.of()));
+        }
+
+        @Override
+        public BatchResult execute() {
+            return operations.container.enqueueCommandsInternal(commandNames, payloads, ticks);
+        }
+    }
+
     /**
      * Simple CommandPayload implementation wrapping a Map.
      */
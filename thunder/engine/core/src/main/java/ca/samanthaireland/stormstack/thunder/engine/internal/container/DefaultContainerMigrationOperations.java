@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.QueuedCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerMigrationOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MigrationDelta;
+import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.EntityNotFoundException;
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.MatchMigratingException;
+import ca.samanthaireland.stormstack.thunder.engine.core.match.Match;
+import ca.samanthaireland.stormstack.thunder.engine.core.match.Player;
+import ca.samanthaireland.stormstack.thunder.engine.core.session.PlayerSession;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.InMemoryCommandQueueManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Default implementation of {@link ContainerMigrationOperations}.
+ *
+ * <p>Captures and restores run on the container's tick lane, so they always see
+ * the match between two ticks.
+ *
+ * <p>Command intake is lock-free, so commands are admitted through
+ * {@link #admit}: a freeze waits for enqueues already admitted before it drains
+ * the queue, and every later command is rejected until the migration is aborted.
+ */
+@Slf4j
+public final class DefaultContainerMigrationOperations implements ContainerMigrationOperations {
+
+    private static final String CORE_MODULE = "core";
+    private static final long SEED = 0xcbf29ce484222325L;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final InMemoryExecutionContainer container;
+    private final Map<Long, Migration> migrations = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock admission = new ReentrantReadWriteLock();
+    private volatile long frozenMatchId = NONE;
+
+    public DefaultContainerMigrationOperations(InMemoryExecutionContainer container) {
+        this.container = container;
+    }
+
+    @Override
+    public MatchMigrationState begin(long matchId) {
+        requireSoleMatch(matchId);
+        Migration migration = new Migration();
+        if (migrations.putIfAbsent(matchId, migration) != null) {
+            throw new IllegalStateException("Match " + matchId + " is already migrating");
+        }
+        try {
+            MatchMigrationState state = container.getTickExecutor().callOnLane(() -> {
+                MatchMigrationState captured = captureOnLane(matchId);
+                migration.fromTick = captured.tick();
+                container.getCommandQueueManager().addRecorder(migration);
+                return captured;
+            });
+            log.info("Container {} began migrating match {} at tick {} ({} entities)",
+                    container.getId(), matchId, state.tick(), state.entities().size());
+            return state;
+        } catch (RuntimeException e) {
+            migrations.remove(matchId);
+            throw e;
+        }
+    }
+
+    @Override
+    public MigrationDelta freeze(long matchId) {
+        Migration migration = migrations.get(matchId);
+        if (migration == null) {
+            throw new IllegalStateException("Match " + matchId + " is not migrating");
+        }
+        ContainerTickExecutor tickExecutor = container.getTickExecutor();
+        migration.tickIntervalMs = tickExecutor.getAutoAdvanceInterval();
+        tickExecutor.stopAutoAdvance();
+        // Wait for admitted enqueues so the drain below sees them, and refuse later ones
+        admission.writeLock().lock();
+        try {
+            frozenMatchId = matchId;
+        } finally {
+            admission.writeLock().unlock();
+        }
+
+        return tickExecutor.callOnLane(() -> {
+            InMemoryCommandQueueManager queue = container.getCommandQueueManager();
+            queue.removeRecorder(migration);
+            List<QueuedCommand> pending = new ArrayList<>(queue.drainPending(matchId));
+            pending.addAll(queue.drainPending(InMemoryCommandQueueManager.CONTAINER_LANE));
+            migration.pending = pending;
+
+            MatchMigrationState state = captureOnLane(matchId);
+            List<MigrationDelta.RecordedCommand> queued = new ArrayList<>(pending.size());
+            for (QueuedCommand command : pending) {
+                queued.add(new MigrationDelta.RecordedCommand(
+                        command.tick(), command.command().getName(), copyOf(command.payload())));
+            }
+            log.info("Container {} froze match {} at tick {} ({} commands replayed, {} queued)",
+                    container.getId(), matchId, state.tick(), migration.executed.size(), queued.size());
+            return new MigrationDelta(matchId, migration.fromTick, state.tick(), migration.executed,
+                    queued, state.checksum(), migration.tickIntervalMs);
+        });
+    }
+
+    @Override
+    public MatchMigrationState capture(long matchId) {
+        return container.getTickExecutor().callOnLane(() -> captureOnLane(matchId));
+    }
+
+    @Override
+    public void abort(long matchId) {
+        Migration migration = migrations.remove(matchId);
+        if (migration == null) {
+            return;
+        }
+        admission.writeLock().lock();
+        try {
+            if (frozenMatchId == matchId) {
+                frozenMatchId = NONE;
+            }
+            InMemoryCommandQueueManager queue = container.getCommandQueueManager();
+            queue.removeRecorder(migration);
+            queue.enqueueAll(migration.pending);
+        } finally {
+            admission.writeLock().unlock();
+        }
+        if (migration.tickIntervalMs > 0 && !container.getTickExecutor().isAutoAdvancing()) {
+            container.getTickExecutor().startAutoAdvance(migration.tickIntervalMs);
+        }
+        log.info("Container {} aborted migration of match {}", container.getId(), matchId);
+    }
+
+    @Override
+    public void restore(MatchMigrationState state) {
+        ContainerTickExecutor tickExecutor = container.getTickExecutor();
+        if (tickExecutor.isAutoAdvancing()) {
+            throw new IllegalStateException("Container " + container.getId() + " must not auto-advance during a restore");
+        }
+        requireNoOtherMatch(state.matchId());
+        List<BaseComponent> components = resolve(state.components());
+
+        tickExecutor.restoreTick(state.tick());
+        long checksum = tickExecutor.callOnLane(() -> {
+            EntityComponentStore store = container.getEntityStore();
+            discardOnLane(state.matchId());
+            container.createMatchInternal(new Match(state.matchId(), container.getId(),
+                    state.enabledModules(), state.playerLimit()));
+            for (MatchMigrationState.EntityState entity : state.entities()) {
+                restoreEntity(store, components, entity);
+            }
+            return captureOnLane(state.matchId()).checksum();
+        });
+        if (checksum != state.checksum()) {
+            throw new IllegalStateException("Restored match " + state.matchId() + " does not match its captured state");
+        }
+
+        for (long playerId : state.players()) {
+            if (!container.players().has(playerId)) {
+                container.players().create(playerId);
+            }
+        }
+        for (long playerId : state.sessionPlayers()) {
+            if (container.sessions().find(playerId, state.matchId()).isEmpty()) {
+                // Clients reconnect to the new node, so sessions start disconnected
+                container.sessions().create(playerId, state.matchId());
+                container.sessions().disconnect(playerId, state.matchId());
+            }
+        }
+        log.info("Container {} restored match {} at tick {} ({} entities)",
+                container.getId(), state.matchId(), state.tick(), state.entities().size());
+    }
+
+    /**
+     * Delete a match and its entities, such as one restored only to be replayed.
+     *
+     * @param matchId the match ID
+     */
+    void discard(long matchId) {
+        container.getTickExecutor().callOnLane(() -> {
+            discardOnLane(matchId);
+            return null;
+        });
+    }
+
+    private void discardOnLane(long matchId) {
+        if (container.getMatchInternal(matchId).isPresent()) {
+            EntityComponentStore store = container.getEntityStore();
+            entitiesOf(store, matchId).forEach(store::deleteEntity);
+            container.deleteMatchInternal(matchId);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void restoreEntity(EntityComponentStore store, List<BaseComponent> components,
+                                      MatchMigrationState.EntityState entity) {
+        store.createEntity(entity.entityId());
+        int count = entity.componentIndexes().length;
+        long[] componentIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            componentIds[i] = components.get(entity.componentIndexes()[i]).getId();
+        }
+        store.attachComponents(entity.entityId(), componentIds, entity.values());
+    }
+
+    @Override
+    public CatchUpResult catchUp(MigrationDelta delta) {
+        long matchId = delta.matchId();
+        if (container.getMatchInternal(matchId).isEmpty()) {
+            throw new EntityNotFoundException(String.format("Match %d not found.", matchId));
+        }
+        ContainerTickExecutor tickExecutor = container.getTickExecutor();
+        long tick = tickExecutor.getCurrentTick();
+        if (tick > delta.toTick()) {
+            throw new IllegalStateException("Match " + matchId + " is at tick " + tick
+                    + ", past the source's tick " + delta.toTick());
+        }
+
+        TreeMap<Long, List<MigrationDelta.RecordedCommand>> byTick = new TreeMap<>();
+        for (MigrationDelta.RecordedCommand command : delta.executed()) {
+            if (command.tick() > tick) {
+                byTick.computeIfAbsent(command.tick(), t -> new ArrayList<>()).add(command);
+            }
+        }
+        while (tick < delta.toTick()) {
+            // One lane keeps the recorded execution order within the tick
+            for (MigrationDelta.RecordedCommand command : byTick.getOrDefault(tick + 1, List.of())) {
+                container.commands().named(command.commandName())
+                        .withParams(command.payload())
+                        .forMatch(matchId)
+                        .execute();
+            }
+            tick = tickExecutor.advanceTick();
+        }
+
+        long checksum = checksum(matchId);
+        boolean verified = tick == delta.toTick() && checksum == delta.checksum();
+        if (!verified) {
+            log.warn("Container {} replayed match {} to tick {} but its state differs from the source",
+                    container.getId(), matchId, tick);
+            return new CatchUpResult(tick, checksum, false);
+        }
+
+        for (MigrationDelta.RecordedCommand command : delta.pending()) {
+            container.commands().named(command.commandName())
+                    .withParams(command.payload())
+                    .atTick(command.tick())
+                    .execute();
+        }
+        if (delta.tickIntervalMs() > 0) {
+            tickExecutor.startAutoAdvance(delta.tickIntervalMs());
+        }
+        log.info("Container {} caught match {} up to tick {} ({} commands replayed)",
+                container.getId(), matchId, tick, byTick.values().stream().mapToInt(List::size).sum());
+        return new CatchUpResult(tick, checksum, true);
+    }
+
+    /**
+     * Enqueue a command unless a migration has frozen this container.
+     *
+     * <p>A migrating match is the container's only match, so a freeze rejects
+     * commands for every lane.
+     *
+     * @throws MatchMigratingException if a match is frozen
+     */
+    void admit(Runnable enqueue) {
+        admission.readLock().lock();
+        try {
+            long frozen = frozenMatchId;
+            if (frozen != NONE) {
+                throw new MatchMigratingException(frozen);
+            }
+            enqueue.run();
+        } finally {
+            admission.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long checksum(long matchId) {
+        return capture(matchId).checksum();
+    }
+
+    /**
+     * Capture a match. Must run on the tick lane.
+     */
+    MatchMigrationState captureOnLane(long matchId) {
+        Match match = container.getMatchInternal(matchId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Match %d not found.", matchId)));
+        EntityComponentStore store = container.getEntityStore();
+        Map<String, BaseComponent> catalog = catalog();
+        List<String> names = new ArrayList<>(catalog.keySet());
+        List<BaseComponent> components = new ArrayList<>(catalog.values());
+        long tick = container.getTickExecutor().getCurrentTick();
+
+        long checksum = mix(mix(SEED, matchId), tick);
+        List<MatchMigrationState.EntityState> entities = new ArrayList<>();
+        int[] indexes = new int[components.size()];
+        float[] values = new float[components.size()];
+        for (long entityId : entitiesOf(store, matchId)) {
+            checksum = mix(checksum, entityId);
+            int count = 0;
+            for (int i = 0; i < components.size(); i++) {
+                if (store.hasComponent(entityId, components.get(i))) {
+                    float value = store.getComponent(entityId, components.get(i));
+                    indexes[count] = i;
+                    values[count] = value;
+                    count++;
+                    checksum = mix(mix(checksum, names.get(i).hashCode()), Float.floatToRawIntBits(value));
+                }
+            }
+            entities.add(new MatchMigrationState.EntityState(
+                    entityId, Arrays.copyOf(indexes, count), Arrays.copyOf(values, count)));
+        }
+
+        List<Long> players = container.players().all().stream()
+                .map(Player::id)
+                .toList();
+        List<Long> sessionPlayers = container.sessions().forMatch(matchId).stream()
+                .map(PlayerSession::playerId)
+                .toList();
+        return new MatchMigrationState(matchId, tick, match.enabledModules() != null ? match.enabledModules() : List.of(),
+                match.playerLimit(), names, entities, players, sessionPlayers, checksum);
+    }
+
+    /**
+     * The entities of a match in ID order.
+     */
+    private static List<Long> entitiesOf(EntityComponentStore store, long matchId) {
+        float matchIdFloat = (float) matchId;
+        List<Long> entities = new ArrayList<>();
+        for (long entityId : store.getEntitiesWithComponents(CoreComponents.MATCH_ID)) {
+            if (store.getComponent(entityId, CoreComponents.MATCH_ID) == matchIdFloat) {
+                entities.add(entityId);
+            }
+        }
+        entities.sort(null);
+        return entities;
+    }
+
+    /**
+     * Every component of the container by module-qualified name, in name order so
+     * that containers with the same modules index components identically.
+     */
+    private Map<String, BaseComponent> catalog() {
+        TreeMap<String, BaseComponent> catalog = new TreeMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (BaseComponent core : List.of(CoreComponents.MATCH_ID, CoreComponents.ENTITY_ID, CoreComponents.OWNER_ID)) {
+            seen.add(core.getId());
+            catalog.put(CORE_MODULE + "." + core.getName(), core);
+        }
+        for (EngineModule module : container.getModuleManagerInternal().resolveAllModules()) {
+            List<BaseComponent> components = new ArrayList<>();
+            BaseComponent flag = module.createFlagComponent();
+            if (flag != null) {
+                components.add(flag);
+            }
+            if (module.createComponents() != null) {
+                components.addAll(module.createComponents());
+            }
+            for (BaseComponent component : components) {
+                if (seen.add(component.getId())) {
+                    catalog.put(module.getName() + "." + component.getName(), component);
+                }
+            }
+        }
+        return catalog;
+    }
+
+    private List<BaseComponent> resolve(List<String> names) {
+        Map<String, BaseComponent> catalog = catalog();
+        List<BaseComponent> components = new ArrayList<>(names.size());
+        for (String name : names) {
+            BaseComponent component = catalog.get(name);
+            if (component == null) {
+                throw new IllegalStateException("Component " + name + " is not installed in container " + container.getId());
+            }
+            components.add(component);
+        }
+        return components;
+    }
+
+    private void requireSoleMatch(long matchId) {
+        if (container.getMatchInternal(matchId).isEmpty()) {
+            throw new EntityNotFoundException(String.format("Match %d not found.", matchId));
+        }
+        requireNoOtherMatch(matchId);
+    }
+
+    private void requireNoOtherMatch(long matchId) {
+        for (Match match : container.getAllMatchesInternal()) {
+            if (match.id() != matchId) {
+                throw new IllegalStateException("Container " + container.getId()
+                        + " hosts other matches; only a container's sole match can migrate");
+            }
+        }
+    }
+
+    private static Map<String, Object> copyOf(CommandPayload payload) {
+        Map<String, Object> data = payload != null ? payload.getPayload() : null;
+        return data != null ? new HashMap<>(data) : new HashMap<>();
+    }
+
+    private static long mix(long hash, long value) {
+        hash ^= value;
+        hash *= 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    /**
+     * A match being migrated away. Records executed commands on the tick lane.
+     */
+    private static final class Migration implements InMemoryCommandQueueManager.ExecutionRecorder {
+
+        private final List<MigrationDelta.RecordedCommand> executed = new ArrayList<>();
+        private volatile long fromTick;
+        private volatile long tickIntervalMs;
+        private volatile List<QueuedCommand> pending = List.of();
+
+        @Override
+        public void record(long tick, long laneMatchId, String commandName, CommandPayload payload) {
+            executed.add(new MigrationDelta.RecordedCommand(tick, commandName, copyOf(payload)));
+        }
+    }
+}
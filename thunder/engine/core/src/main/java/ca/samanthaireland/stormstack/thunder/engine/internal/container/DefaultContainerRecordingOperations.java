@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerRecordingOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MigrationDelta;
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.ConflictException;
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.EntityNotFoundException;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.InMemoryCommandQueueManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Default implementation of {@link ContainerRecordingOperations}.
+ *
+ * <p>Recordings are written on the tick lane by an
+ * {@link InMemoryCommandQueueManager.ExecutionRecorder}, which sees each command
+ * before it executes and each tick before its commands run, so keyframes are
+ * captured between ticks. Keyframes use the migration capture, and replay uses
+ * the migration restore.
+ *
+ * <p>A replay rewinds the container's tick counter and drives the tick lane
+ * itself, so it only runs in a container with no matches and no recordings, and
+ * the container refuses to tick, play or turbo until it finishes. The replayed
+ * match is deleted when the replay ends, so the same container can replay again.
+ */
+@Slf4j
+public final class DefaultContainerRecordingOperations implements ContainerRecordingOperations {
+
+    private final InMemoryExecutionContainer container;
+    private final DefaultContainerMigrationOperations migration;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    public DefaultContainerRecordingOperations(InMemoryExecutionContainer container,
+                                               DefaultContainerMigrationOperations migration) {
+        this.container = container;
+        this.migration = migration;
+    }
+
+    @Override
+    public RecordingInfo start(long matchId, Path file, int keyframeInterval) {
+        if (keyframeInterval < 0) {
+            throw new IllegalArgumentException("keyframeInterval must not be negative");
+        }
+        if (container.getMatchInternal(matchId).isEmpty()) {
+            throw new EntityNotFoundException(String.format("Match %d not found.", matchId));
+        }
+        if (replaying.get()) {
+            throw new IllegalStateException("Container " + container.getId() + " is replaying a recording");
+        }
+        Recording recording = new Recording(matchId, file, keyframeInterval);
+        if (recordings.putIfAbsent(matchId, recording) != null) {
+            throw new IllegalStateException("Match " + matchId + " is already being recorded");
+        }
+        try {
+            recording.writer = new InputLogWriter(file, matchId);
+            RecordingInfo info = container.getTickExecutor().callOnLane(() -> {
+                MatchMigrationState state = migration.captureOnLane(matchId);
+                recording.fromTick = state.tick();
+                recording.keyframe(state);
+                container.getCommandQueueManager().addRecorder(recording);
+                return recording.info();
+            });
+            log.info("Container {} started recording match {} at tick {} to {}",
+                    container.getId(), matchId, info.fromTick(), file);
+            return info;
+        } catch (IOException e) {
+            recordings.remove(matchId);
+            throw new UncheckedIOException("Failed to create input log " + file, e);
+        } catch (RuntimeException e) {
+            recordings.remove(matchId);
+            if (recording.writer != null) {
+                recording.writer.close();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public RecordingInfo stop(long matchId) {
+        Recording recording = recordings.remove(matchId);
+        if (recording == null) {
+            throw new IllegalStateException("Match " + matchId + " is not being recorded");
+        }
+        RecordingInfo info = container.getTickExecutor().callOnLane(() -> {
+            container.getCommandQueueManager().removeRecorder(recording);
+            if (!recording.failed && container.getMatchInternal(matchId).isPresent()) {
+                recording.keyframe(migration.captureOnLane(matchId));
+            }
+            RecordingInfo finished = recording.info();
+            recording.writer.close();
+            return finished;
+        });
+        log.info("Container {} stopped recording match {} at tick {} ({} commands, {} keyframes, {} bytes)",
+                container.getId(), matchId, info.toTick(), info.commands(), info.keyframes(), info.bytes());
+        return info;
+    }
+
+    @Override
+    public Optional<RecordingInfo> status(long matchId) {
+        return Optional.ofNullable(recordings.get(matchId)).map(Recording::info);
+    }
+
+    @Override
+    public ReplayResult replay(Path file, long fromTick, long toTick) {
+        if (!replaying.compareAndSet(false, true)) {
+            throw new IllegalStateException("Container " + container.getId() + " is already replaying a recording");
+        }
+        try {
+            if (!container.getAllMatchesInternal().isEmpty() || !recordings.isEmpty()) {
+                throw new IllegalStateException("Container " + container.getId()
+                        + " hosts matches or recordings; replay into an empty container");
+            }
+            return replayInto(file, fromTick, toTick);
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    /**
+     * Refuse to drive the tick lane while a replay does.
+     *
+     * @throws ConflictException if a replay is running
+     */
+    void checkNotReplaying() {
+        if (replaying.get()) {
+            throw new ConflictException("Container " + container.getId() + " is replaying a recording");
+        }
+    }
+
+    private ReplayResult replayInto(Path file, long fromTick, long toTick) {
+        InputLogReader inputLog;
+        try {
+            inputLog = InputLogReader.read(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read input log " + file, e);
+        }
+        long matchId = inputLog.matchId();
+        MatchMigrationState keyframe = inputLog.keyframeFor(fromTick);
+        try {
+            migration.restore(keyframe);
+            return replayFrom(file, inputLog, keyframe, toTick);
+        } finally {
+            migration.discard(matchId);
+        }
+    }
+
+    private ReplayResult replayFrom(Path file, InputLogReader inputLog, MatchMigrationState keyframe, long toTick) {
+        long matchId = inputLog.matchId();
+        List<MigrationDelta.RecordedCommand> commands = inputLog.commands();
+        List<MatchMigrationState> keyframes = inputLog.keyframes();
+        long lastTick = keyframes.getLast().tick();
+        if (!commands.isEmpty()) {
+            lastTick = Math.max(lastTick, commands.getLast().tick());
+        }
+        long endTick = Math.min(toTick, lastTick);
+
+        ContainerTickExecutor tickExecutor = container.getTickExecutor();
+        long tick = keyframe.tick();
+        int next = 0;
+        while (next < commands.size() && commands.get(next).tick() <= tick) {
+            next++;
+        }
+        int nextKeyframe = 0;
+        while (nextKeyframe < keyframes.size() && keyframes.get(nextKeyframe).tick() <= tick) {
+            nextKeyframe++;
+        }
+        long replayed = 0;
+        int verified = 0;
+        long divergedAt = -1;
+        long elapsed = 0;
+
+        while (tick < endTick) {
+            long started = System.nanoTime();
+            // One lane keeps the recorded execution order within the tick
+            for (; next < commands.size() && commands.get(next).tick() == tick + 1; next++) {
+                MigrationDelta.RecordedCommand command = commands.get(next);
+                container.commands().named(command.commandName())
+                        .withParams(command.payload())
+                        .forMatch(matchId)
+                        .execute();
+                replayed++;
+            }
+            tick = tickExecutor.advanceTick();
+            elapsed += System.nanoTime() - started;
+
+            if (nextKeyframe < keyframes.size() && keyframes.get(nextKeyframe).tick() == tick) {
+                if (migration.checksum(matchId) == keyframes.get(nextKeyframe).checksum()) {
+                    verified++;
+                } else if (divergedAt < 0) {
+                    divergedAt = tick;
+                    log.warn("Container {} replayed match {} from {} but diverged at tick {}",
+                            container.getId(), matchId, file, tick);
+                }
+                nextKeyframe++;
+            }
+        }
+
+        ReplayResult result = new ReplayResult(matchId, keyframe.tick(), tick, replayed, elapsed,
+                migration.checksum(matchId), verified, divergedAt);
+        log.info("Container {} replayed match {} ticks {}-{} ({} commands) at {} ticks/s",
+                container.getId(), matchId, result.fromTick(), result.toTick(), replayed,
+                String.format("%.1f", result.ticksPerSecond()));
+        return result;
+    }
+
+    /**
+     * Close every recording without a final keyframe, after the tick lane has shut down.
+     */
+    void closeAll() {
+        for (Long matchId : List.copyOf(recordings.keySet())) {
+            Recording recording = recordings.remove(matchId);
+            if (recording != null) {
+                container.getCommandQueueManager().removeRecorder(recording);
+                recording.writer.close();
+                log.info("Container {} closed recording of match {} at tick {}",
+                        container.getId(), matchId, recording.toTick);
+            }
+        }
+    }
+
+    /**
+     * A match being recorded. Appends to its log on the tick lane.
+     */
+    private final class Recording implements InMemoryCommandQueueManager.ExecutionRecorder {
+
+        private final long matchId;
+        private final Path file;
+        private final int keyframeInterval;
+        private InputLogWriter writer;
+        private long lastKeyframeTick = -1;
+        private volatile boolean failed;
+        private volatile String failure;
+        // Written on the lane and read by status(), which must not touch the writer
+        private volatile long fromTick;
+        private volatile long toTick;
+        private volatile long commands;
+        private volatile int keyframes;
+        private volatile long bytes;
+
+        private Recording(long matchId, Path file, int keyframeInterval) {
+            this.matchId = matchId;
+            this.file = file;
+            this.keyframeInterval = keyframeInterval;
+        }
+
+        @Override
+        public void record(long tick, long laneMatchId, String commandName, CommandPayload payload) {
+            if (failed || (laneMatchId != matchId && laneMatchId != InMemoryCommandQueueManager.CONTAINER_LANE)) {
+                return;
+            }
+            try {
+                writer.appendCommand(tick, commandName, payload != null ? payload.getPayload() : null);
+                commands = writer.commandCount();
+                bytes = writer.size();
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        @Override
+        public void tickStarted(long tick) {
+            if (failed) {
+                return;
+            }
+            long completed = tick - 1;
+            toTick = completed;
+            if (keyframeInterval > 0 && completed > lastKeyframeTick
+                    && (completed - fromTick) % keyframeInterval == 0) {
+                try {
+                    keyframe(migration.captureOnLane(matchId));
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }
+        }
+
+        private void keyframe(MatchMigrationState state) {
+            if (state.tick() > lastKeyframeTick) {
+                writer.appendKeyframe(state);
+                lastKeyframeTick = state.tick();
+                keyframes = writer.keyframeCount();
+                bytes = writer.size();
+            }
+            toTick = state.tick();
+        }
+
+        private void fail(RuntimeException e) {
+            // Never fail the tick; the log stays readable up to the last whole record
+            failed = true;
+            failure = e.getMessage();
+            container.getCommandQueueManager().removeRecorder(this);
+            log.warn("Container {} stopped recording match {} at tick {}: {}",
+                    container.getId(), matchId, toTick, e.getMessage());
+        }
+
+        private RecordingInfo info() {
+            return new RecordingInfo(matchId, file, fromTick, toTick, commands, keyframes, bytes, failure);
+        }
+    }
+}
@@ -7,7 +7,12 @@ package ca.samanthaireland.stormstack.thunder.engine.internal.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerSnapshotOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotProvider;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.DirtyTrackingEntityComponentStore;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Default implementation of container-scoped snapshot operations.
@@ -18,9 +23,22 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.Snaps
 public class DefaultContainerSnapshotOperations implements ContainerSnapshotOperations {
 
     private final SnapshotProvider snapshotProvider;
+    private final DirtyTrackingEntityComponentStore dirtyStore;
 
     public DefaultContainerSnapshotOperations(SnapshotProvider snapshotProvider) {
+        this(snapshotProvider, null);
+    }
+
+    /**
+     * Creates snapshot operations that also report match change versions.
+     *
+     * @param snapshotProvider the container's snapshot provider
+     * @param dirtyStore the container's dirty tracking store, or null if changes are not tracked
+     */
+    public DefaultContainerSnapshotOperations(SnapshotProvider snapshotProvider,
+                                              DirtyTrackingEntityComponentStore dirtyStore) {
         this.snapshotProvider = snapshotProvider;
+        this.dirtyStore = dirtyStore;
     }
 
     @Override
@@ -32,4 +50,19 @@ public class DefaultContainerSnapshotOperations implements ContainerSnapshotOper
     public Snapshot forMatchAndPlayer(long matchId, long playerId) {
         return snapshotProvider.createForMatchAndPlayer(matchId, playerId);
     }
+
+    @Override
+    public SnapshotEncodingSchema encodingSchema() {
+        return snapshotProvider.encodingSchema();
+    }
+
+    @Override
+    public Map<Long, Double> viewerDistances(long matchId, long playerId, Collection<Long> entityIds) {
+        return snapshotProvider.viewerDistances(matchId, playerId, entityIds);
+    }
+
+    @Override
+    public long changeVersion(long matchId) {
+        return dirtyStore != null ? dirtyStore.changeVersion(matchId) : UNKNOWN_VERSION;
+    }
 }
@@ -46,6 +46,37 @@ public final class DefaultContainerTickOperations implements ContainerTickOperat
         return this;
     }
 
+    @Override
+    public ContainerTickOperations play(long intervalMs, double speed) {
+        if (intervalMs < 1) {
+            throw new IllegalArgumentException("intervalMs must be at least 1");
+        }
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("speed must be positive");
+        }
+        container.startAutoAdvanceInternal(intervalMs, speed);
+        return this;
+    }
+
+    @Override
+    public TurboResult turbo(int count) {
+        return turbo(count, false);
+    }
+
+    @Override
+    public TurboResult turbo(int count, boolean headless) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        return container.runTurboInternal(count, headless);
+    }
+
+    @Override
+    public ContainerTickOperations headless(boolean headless) {
+        container.getTickExecutor().setHeadless(headless);
+        return this;
+    }
+
     @Override
     public ContainerTickOperations stop() {
         container.stopAutoAdvanceInternal();
@@ -91,4 +122,14 @@ public final class DefaultContainerTickOperations implements ContainerTickOperat
     public long interval() {
         return container.getAutoAdvanceIntervalInternal();
     }
+
+    @Override
+    public double speed() {
+        return container.getTickExecutor().getSpeed();
+    }
+
+    @Override
+    public boolean isHeadless() {
+        return container.getTickExecutor().isHeadless();
+    }
 }
@@ -28,10 +28,13 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerStatus;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleTemplateCache;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.TickScheduler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,6 +50,9 @@ public class InMemoryContainerManager implements ContainerManager {
     private final ConcurrentMap<Long, ExecutionContainer> containers = new ConcurrentHashMap<>();
     private final AtomicLong nextContainerId = new AtomicLong(1);
     private final ContainerConfig defaultConfig;
+    private final TickScheduler tickScheduler;
+    private final ModuleTemplateCache moduleTemplateCache;
+    private volatile WarmContainerPool warmPool;
 
     /**
      * Creates a new container manager with default configuration.
@@ -61,7 +67,34 @@ public class InMemoryContainerManager implements ContainerManager {
      * @param defaultConfig configuration to use when creating new containers
      */
     public InMemoryContainerManager(ContainerConfig defaultConfig) {
+        this(defaultConfig, TickScheduler.shared());
+    }
+
+    /**
+     * Creates a new container manager whose containers tick on the given scheduler and
+     * each define their own module classes.
+     *
+     * @param defaultConfig configuration to use when creating new containers
+     * @param tickScheduler the node-wide scheduler shared by every container
+     */
+    public InMemoryContainerManager(ContainerConfig defaultConfig, TickScheduler tickScheduler) {
+        this(defaultConfig, tickScheduler, null);
+    }
+
+    /**
+     * Creates a new container manager whose containers tick on the given scheduler and
+     * share module classes through the given cache.
+     *
+     * @param defaultConfig configuration to use when creating new containers
+     * @param tickScheduler the node-wide scheduler shared by every container
+     * @param moduleTemplateCache the node-wide module class cache, or null to give every
+     *                            container its own copy of each module's classes
+     */
+    public InMemoryContainerManager(ContainerConfig defaultConfig, TickScheduler tickScheduler,
+                                    ModuleTemplateCache moduleTemplateCache) {
         this.defaultConfig = defaultConfig;
+        this.tickScheduler = tickScheduler;
+        this.moduleTemplateCache = moduleTemplateCache;
         log.info("ContainerManager initialized (no default container)");
     }
 
@@ -74,23 +107,107 @@ public class InMemoryContainerManager implements ContainerManager {
      * @param maxCommandsPerTick maximum commands processed per tick
      */
     public InMemoryContainerManager(String moduleScanDirectory, int maxEntities, int maxComponents, int maxCommandsPerTick) {
+        this(moduleScanDirectory, maxEntities, maxComponents, maxCommandsPerTick, TickScheduler.shared());
+    }
+
+    /**
+     * Creates a new container manager with the specified defaults and tick scheduler,
+     * whose containers each define their own module classes.
+     *
+     * @param moduleScanDirectory directory to scan for module JARs
+     * @param maxEntities maximum entities per container
+     * @param maxComponents maximum components per container
+     * @param maxCommandsPerTick maximum commands processed per tick
+     * @param tickScheduler the node-wide scheduler shared by every container
+     */
+    public InMemoryContainerManager(String moduleScanDirectory, int maxEntities, int maxComponents, int maxCommandsPerTick,
+                                    TickScheduler tickScheduler) {
+        this(moduleScanDirectory, maxEntities, maxComponents, maxCommandsPerTick, tickScheduler, null);
+    }
+
+    /**
+     * Creates a new container manager with the specified defaults, tick scheduler and module class cache.
+     *
+     * @param moduleScanDirectory directory to scan for module JARs
+     * @param maxEntities maximum entities per container
+     * @param maxComponents maximum components per container
+     * @param maxCommandsPerTick maximum commands processed per tick
+     * @param tickScheduler the node-wide scheduler shared by every container
+     * @param moduleTemplateCache the node-wide module class cache, or null to isolate module classes per container
+     */
+    public InMemoryContainerManager(String moduleScanDirectory, int maxEntities, int maxComponents, int maxCommandsPerTick,
+                                    TickScheduler tickScheduler, ModuleTemplateCache moduleTemplateCache) {
         this(ContainerConfig.builder("default")
                 .moduleScanDirectory(java.nio.file.Path.of(moduleScanDirectory))
                 .maxEntities(maxEntities)
                 .maxComponents(maxComponents)
                 .maxCommandsPerTick(maxCommandsPerTick)
-                .build());
+                .build(), tickScheduler, moduleTemplateCache);
+    }
+
+    /**
+     * Keep started containers warm for the module sets that get claimed.
+     *
+     * @param warmer   starts a pooled container and installs its modules
+     * @param minSize  containers to keep warm per module set
+     * @param maxSize  upper bound the per-module-set target grows to under demand
+     * @param maxPools maximum number of distinct module sets to pool
+     * @return the pool, which is closed by {@link #shutdownAll()}
+     */
+    public WarmContainerPool enableWarmPool(WarmContainerPool.Warmer warmer, int minSize, int maxSize, int maxPools) {
+        WarmContainerPool pool = new WarmContainerPool(this, warmer, minSize, maxSize, maxPools);
+        WarmContainerPool previous = warmPool;
+        warmPool = pool;
+        if (previous != null) {
+            previous.close();
+        }
+        log.info("Warm container pool enabled (min={}, max={}, moduleSets={})", minSize, maxSize, maxPools);
+        return pool;
     }
 
     @Override
     public ExecutionContainer createContainer(ContainerConfig config) {
-        long containerId = nextContainerId.getAndIncrement();
-        ExecutionContainer container = new InMemoryExecutionContainer(containerId, config);
-        containers.put(containerId, container);
-        log.info("Created container {} with name '{}'", containerId, config.name());
+        ExecutionContainer container = newUnregisteredContainer(config);
+        register(container);
+        log.info("Created container {} with name '{}'", container.getId(), config.name());
         return container;
     }
 
+    @Override
+    public Optional<ExecutionContainer> claimWarmContainer(ContainerConfig config, List<String> moduleNames) {
+        WarmContainerPool pool = warmPool;
+        return pool != null ? pool.claim(config, moduleNames) : Optional.empty();
+    }
+
+    @Override
+    public void prewarmContainers(ContainerConfig config, List<String> moduleNames) {
+        WarmContainerPool pool = warmPool;
+        if (pool != null) {
+            pool.prewarm(config, moduleNames);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getWarmContainerCounts() {
+        WarmContainerPool pool = warmPool;
+        return pool != null ? pool.getWarmCounts() : Map.of();
+    }
+
+    /**
+     * Create a container with the next ID without making it visible through this manager.
+     */
+    InMemoryExecutionContainer newUnregisteredContainer(ContainerConfig config) {
+        long containerId = nextContainerId.getAndIncrement();
+        return new InMemoryExecutionContainer(containerId, config, tickScheduler, moduleTemplateCache);
+    }
+
+    /**
+     * Make a container created by {@link #newUnregisteredContainer(ContainerConfig)} visible.
+     */
+    void register(ExecutionContainer container) {
+        containers.put(container.getId(), container);
+    }
+
     @Override
     public Optional<ExecutionContainer> getContainer(long containerId) {
         return Optional.ofNullable(containers.get(containerId));
@@ -132,6 +249,10 @@ public class InMemoryContainerManager implements ContainerManager {
 
     @Override
     public void shutdownAll() {
+        WarmContainerPool pool = warmPool;
+        if (pool != null) {
+            pool.close();
+        }
         log.info("Shutting down all {} containers", containers.size());
 
         for (ExecutionContainer container : containers.values()) {
@@ -24,13 +24,18 @@
 package ca.samanthaireland.stormstack.thunder.engine.internal.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandQueue;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.QueuedCommand;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerCommandOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerLifecycleOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerMatchOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerMigrationOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerModuleOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerPlayerOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerRecordingOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerResourceOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerSessionOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerSnapshotOperations;
@@ -46,10 +51,13 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.core.match.InMemory
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotProvider;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.DefaultInjector;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleTemplateCache;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.TickScheduler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -61,9 +69,10 @@ import java.util.concurrent.atomic.AtomicReference;
  *
  * <p>Each container has:
  * <ul>
- *     <li>Isolated classloader for module JARs</li>
+ *     <li>Its own module instances, created from module classes shared through the node's
+ *         {@link ModuleTemplateCache} or, without one, defined in an isolated classloader</li>
  *     <li>Separate EntityComponentStore</li>
- *     <li>Independent GameLoop with its own tick thread</li>
+ *     <li>Independent GameLoop ticked on its own serial lane of the node-wide tick scheduler</li>
  *     <li>Container-scoped command queue</li>
  * </ul>
  */
@@ -71,8 +80,9 @@ import java.util.concurrent.atomic.AtomicReference;
 public class InMemoryExecutionContainer implements ExecutionContainer, Closeable {
 
     private final long id;
-    private final ContainerConfig config;
+    private volatile ContainerConfig config;
     private final AtomicReference<ContainerStatus> status;
+    private final ModuleTemplateCache moduleTemplateCache;
 
     // Collaborators (extracted for SRP)
     private ContainerComponentInitializer componentInitializer;
@@ -88,6 +98,10 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
     private ContainerSnapshotOperations snapshotOperations;
     private ContainerPlayerOperations playerOperations;
     private ContainerSessionOperations sessionOperations;
+    // Eager: they hold the state of in-flight migrations and recordings
+    private final DefaultContainerMigrationOperations migrationOperations = new DefaultContainerMigrationOperations(this);
+    private final DefaultContainerRecordingOperations recordingOperations =
+            new DefaultContainerRecordingOperations(this, migrationOperations);
 
     /**
      * Creates a new execution container.
@@ -96,12 +110,40 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
      * @param config the container configuration
      */
     public InMemoryExecutionContainer(long id, ContainerConfig config) {
+        this(id, config, TickScheduler.shared());
+    }
+
+    /**
+     * Creates a new execution container that ticks on the given scheduler and defines
+     * its own module classes.
+     *
+     * @param id        the unique container ID
+     * @param config    the container configuration
+     * @param scheduler the node-wide tick scheduler
+     */
+    public InMemoryExecutionContainer(long id, ContainerConfig config, TickScheduler scheduler) {
+        this(id, config, scheduler, null);
+    }
+
+    /**
+     * Creates a new execution container that ticks on the given scheduler and takes
+     * its module classes from the given cache.
+     *
+     * @param id                  the unique container ID
+     * @param config              the container configuration
+     * @param scheduler           the node-wide tick scheduler
+     * @param moduleTemplateCache the node-wide module class cache, or null to isolate module classes
+     */
+    public InMemoryExecutionContainer(long id, ContainerConfig config, TickScheduler scheduler,
+                                      ModuleTemplateCache moduleTemplateCache) {
         this.id = id;
         this.config = Objects.requireNonNull(config, "config must not be null");
         this.status = new AtomicReference<>(ContainerStatus.CREATED);
+        this.moduleTemplateCache = moduleTemplateCache;
 
         // Create tick executor collaborator
-        this.tickExecutor = new ContainerTickExecutor(id, config.name(), this::getStatus);
+        this.tickExecutor = new ContainerTickExecutor(id, config.name(), this::getStatus, scheduler,
+                config.tickPolicy());
 
         log.info("Created container {} with name '{}'", id, config.name());
     }
@@ -115,6 +157,15 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
         return componentInitializer != null ? componentInitializer.getGameLoop() : null;
     }
 
+    /**
+     * Get the tick executor for this container.
+     *
+     * @return the tick executor
+     */
+    public ContainerTickExecutor getTickExecutor() {
+        return tickExecutor;
+    }
+
     /**
      * Get the caching snapshot provider for this container.
      *
@@ -162,6 +213,17 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
         return status.get();
     }
 
+    /**
+     * Give a container taken from a {@link WarmContainerPool} the name it was claimed under.
+     *
+     * @param name the new container name
+     */
+    void rename(String name) {
+        String previous = config.name();
+        config = config.withName(name);
+        log.info("Container {} '{}' renamed to '{}'", id, previous, name);
+    }
+
     // =========================================================================
     // LIFECYCLE (Internal methods - use lifecycle() fluent API)
     // =========================================================================
@@ -176,7 +238,8 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
 
         try {
             log.info("Starting container {} '{}'", id, config.name());
-            componentInitializer = new ContainerComponentInitializer(id, config, tickExecutor::getCurrentTick);
+            componentInitializer = new ContainerComponentInitializer(id, config, tickExecutor::getCurrentTick,
+                    moduleTemplateCache);
             componentInitializer.initialize();
             tickExecutor.setGameLoop(componentInitializer.getGameLoop());
             status.set(ContainerStatus.RUNNING);
@@ -205,6 +268,7 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
 
         try {
             tickExecutor.shutdown(5, TimeUnit.SECONDS);
+            recordingOperations.closeAll();
 
             if (componentInitializer != null) {
                 GameLoop gameLoop = componentInitializer.getGameLoop();
@@ -268,6 +332,7 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
      */
     long advanceTickInternal() {
         checkRunning();
+        recordingOperations.checkNotReplaying();
         return tickExecutor.advanceTick();
     }
 
@@ -276,14 +341,34 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
      */
     void startAutoAdvanceInternal(long intervalMs) {
         checkRunning();
+        recordingOperations.checkNotReplaying();
         tickExecutor.startAutoAdvance(intervalMs);
     }
 
+    /**
+     * Internal implementation of play with a speed. Use {@link #ticks()}.play() instead.
+     */
+    void startAutoAdvanceInternal(long intervalMs, double speed) {
+        checkRunning();
+        recordingOperations.checkNotReplaying();
+        tickExecutor.startAutoAdvance(intervalMs, speed);
+    }
+
+    /**
+     * Internal implementation of turbo. Use {@link #ticks()}.turbo() instead.
+     */
+    ContainerTickOperations.TurboResult runTurboInternal(int count, boolean headless) {
+        checkRunning();
+        recordingOperations.checkNotReplaying();
+        return tickExecutor.runTurbo(count, headless);
+    }
+
     /**
      * Internal implementation of stopAutoAdvance. Use {@link #ticks()}.stop() instead.
      */
     void stopAutoAdvanceInternal() {
         tickExecutor.stopAutoAdvance();
+        tickExecutor.cancelTurbo();
     }
 
     /**
@@ -334,6 +419,16 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
      */
     void deleteMatchInternal(long matchId) {
         componentInitializer.getMatchService().deleteMatch(matchId);
+        componentInitializer.getCachingSnapshotProvider().removeMatch(matchId);
+        componentInitializer.getDeltaSnapshotProvider().resetBroadcastState(matchId);
+    }
+
+    /**
+     * The module manager, used to resolve components by module.
+     */
+    ModuleManager getModuleManagerInternal() {
+        checkRunning();
+        return componentInitializer.getModuleManager();
     }
 
     @Override
@@ -394,6 +489,18 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
      * The matchId should be included in the payload if needed.
      */
     void enqueueCommandInternal(String commandName, CommandPayload payload) {
+        enqueueCommandInternal(commandName, payload, CommandQueue.NEXT_TICK);
+    }
+
+    /**
+     * Enqueues a command to execute on a specific tick.
+     */
+    void enqueueCommandInternal(String commandName, CommandPayload payload, long tick) {
+        EngineCommand command = resolveForEnqueue(commandName);
+        migrationOperations.admit(() -> componentInitializer.getCommandQueueManager().enqueueAt(command, payload, tick));
+    }
+
+    private EngineCommand resolveForEnqueue(String commandName) {
         checkRunning();
 
         CommandResolver commandResolver = componentInitializer.getCommandResolver();
@@ -401,16 +508,61 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
         if (command == null) {
             throw new EntityNotFoundException("Command not found: " + commandName);
         }
+        return command;
+    }
+
+    /**
+     * Resolves the typed schema of a command, or null if the command is unknown
+     * or reads map payloads.
+     */
+    CommandSchema resolveTypedSchema(String commandName) {
+        if (componentInitializer == null) {
+            return null;
+        }
+        EngineCommand command = componentInitializer.getCommandResolver().resolveByName(commandName);
+        return command != null ? command.typedSchema() : null;
+    }
+
+    /**
+     * Resolves a batch of commands and enqueues the ones that resolve in a
+     * single queue operation. Unknown commands are reported, not thrown.
+     */
+    ContainerCommandOperations.BatchResult enqueueCommandsInternal(List<String> commandNames,
+                                                                   List<CommandPayload> payloads,
+                                                                   List<Long> ticks) {
+        checkRunning();
+
+        CommandResolver commandResolver = componentInitializer.getCommandResolver();
+        List<QueuedCommand> resolved = new ArrayList<>(commandNames.size());
+        List<ContainerCommandOperations.RejectedCommand> rejected = new ArrayList<>();
+        for (int i = 0; i < commandNames.size(); i++) {
+            String commandName = commandNames.get(i);
+            EngineCommand command = commandName != null ? commandResolver.resolveByName(commandName) : null;
+            if (command == null) {
+                rejected.add(new ContainerCommandOperations.RejectedCommand(
+                        i, commandName, "Command not found: " + commandName));
+            } else {
+                resolved.add(new QueuedCommand(command, payloads.get(i), ticks.get(i)));
+            }
+        }
 
-        componentInitializer.getCommandQueueManager().enqueue(command, payload);
+        migrationOperations.admit(() -> componentInitializer.getCommandQueueManager().enqueueAll(resolved));
+        return new ContainerCommandOperations.BatchResult(resolved.size(), rejected);
     }
 
     /**
-     * Enqueues a command with explicit match context (matchId should be in payload).
-     * Provided for API clarity; delegates to {@link #enqueueCommandInternal(String, CommandPayload)}.
+     * Enqueues a command in the queue lane of an explicit match.
      */
     void enqueueCommandInternal(long matchId, String commandName, CommandPayload payload) {
-        enqueueCommandInternal(commandName, payload);
+        enqueueCommandInternal(matchId, commandName, payload, CommandQueue.NEXT_TICK);
+    }
+
+    /**
+     * Enqueues a command in the queue lane of an explicit match, to execute on a specific tick.
+     */
+    void enqueueCommandInternal(long matchId, String commandName, CommandPayload payload, long tick) {
+        EngineCommand command = resolveForEnqueue(commandName);
+        migrationOperations.admit(() -> componentInitializer.getCommandQueueManager().enqueue(command, payload, matchId, tick));
     }
 
     @Override
@@ -521,7 +673,8 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
             DefaultInjector injector = componentInitializer.getInjector();
             SnapshotProvider provider = injector.getClass(SnapshotProvider.class);
             if (provider != null) {
-                snapshotOperations = new DefaultContainerSnapshotOperations(provider);
+                snapshotOperations = new DefaultContainerSnapshotOperations(
+                        provider, componentInitializer.getDirtyTrackingStore());
             }
         }
         return snapshotOperations;
@@ -542,4 +695,14 @@ public class InMemoryExecutionContainer implements ExecutionContainer, Closeable
         }
         return sessionOperations;
     }
+
+    @Override
+    public ContainerMigrationOperations migration() {
+        return migrationOperations;
+    }
+
+    @Override
+    public ContainerRecordingOperations recording() {
+        return recordingOperations;
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MigrationDelta;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ca.samanthaireland.stormstack.thunder.engine.internal.container.InputLogWriter.*;
+
+/**
+ * Reads an input log written by {@link InputLogWriter}.
+ *
+ * <p>The file is mapped read-only and decoded in one pass. A log whose writer
+ * did not close it ends in zeroed space, which reads as the end of the log.
+ *
+ * @param matchId the recorded match
+ * @param commands the executed commands in execution order
+ * @param keyframes the match states in tick order
+ */
+record InputLogReader(long matchId, List<MigrationDelta.RecordedCommand> commands,
+                      List<MatchMigrationState> keyframes) {
+
+    /**
+     * Decode a log file.
+     *
+     * @param file the log file
+     * @return the decoded log
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not an input log
+     */
+    static InputLogReader read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException(file + " is not an input log");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported input log version " + version + " in " + file);
+        }
+        long matchId = buffer.getLong();
+
+        List<MigrationDelta.RecordedCommand> commands = new ArrayList<>();
+        List<MatchMigrationState> keyframes = new ArrayList<>();
+        while (buffer.remaining() > Integer.BYTES) {
+            byte type = buffer.get();
+            int length = buffer.getInt();
+            if (type == COMMAND) {
+                commands.add(new MigrationDelta.RecordedCommand(buffer.getLong(), getString(buffer), getMap(buffer)));
+            } else if (type == KEYFRAME) {
+                keyframes.add(getState(buffer));
+            } else if (type == 0) {
+                break;
+            } else {
+                // Unknown record types are skipped
+                buffer.position(buffer.position() + length);
+            }
+        }
+        return new InputLogReader(matchId, commands, keyframes);
+    }
+
+    /**
+     * The last keyframe at or before a tick, or the first keyframe if the log starts after it.
+     *
+     * @throws IllegalArgumentException if the log has no keyframes
+     */
+    MatchMigrationState keyframeFor(long tick) {
+        if (keyframes.isEmpty()) {
+            throw new IllegalArgumentException("Input log of match " + matchId + " has no keyframes");
+        }
+        MatchMigrationState found = keyframes.getFirst();
+        for (MatchMigrationState keyframe : keyframes) {
+            if (keyframe.tick() > tick) {
+                break;
+            }
+            found = keyframe;
+        }
+        return found;
+    }
+
+    private static MatchMigrationState getState(MappedByteBuffer buffer) {
+        long matchId = buffer.getLong();
+        long tick = buffer.getLong();
+        int playerLimit = buffer.getInt();
+        List<String> modules = getStrings(buffer);
+        List<String> components = getStrings(buffer);
+        int entityCount = buffer.getInt();
+        List<MatchMigrationState.EntityState> entities = new ArrayList<>(entityCount);
+        for (int e = 0; e < entityCount; e++) {
+            long entityId = buffer.getLong();
+            int count = buffer.getInt();
+            int[] indexes = new int[count];
+            float[] values = new float[count];
+            for (int i = 0; i < count; i++) {
+                indexes[i] = buffer.getInt();
+                values[i] = buffer.getFloat();
+            }
+            entities.add(new MatchMigrationState.EntityState(entityId, indexes, values));
+        }
+        List<Long> players = getLongs(buffer);
+        List<Long> sessionPlayers = getLongs(buffer);
+        long checksum = buffer.getLong();
+        return new MatchMigrationState(matchId, tick, modules, playerLimit, components, entities,
+                players, sessionPlayers, checksum);
+    }
+
+    private static List<String> getStrings(MappedByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(getString(buffer));
+        }
+        return values;
+    }
+
+    private static List<Long> getLongs(MappedByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<Long> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(buffer.getLong());
+        }
+        return values;
+    }
+
+    private static String getString(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> getMap(MappedByteBuffer buffer) {
+        int size = buffer.getInt();
+        Map<String, Object> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(getString(buffer), getValue(buffer));
+        }
+        return map;
+    }
+
+    private static Object getValue(MappedByteBuffer buffer) {
+        byte tag = buffer.get();
+        return switch (tag) {
+            case NULL -> null;
+            case INT -> buffer.getInt();
+            case LONG -> buffer.getLong();
+            case FLOAT -> buffer.getFloat();
+            case DOUBLE -> buffer.getDouble();
+            case BOOLEAN -> buffer.get() != 0;
+            case STRING -> getString(buffer);
+            case LIST -> {
+                int size = buffer.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(getValue(buffer));
+                }
+                yield list;
+            }
+            case MAP -> getMap(buffer);
+            default -> throw new IllegalArgumentException("Unknown input log value tag " + tag);
+        };
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends a match's input log to a memory-mapped file.
+ *
+ * <p>The file starts with a header ({@code magic, version, matchId}) followed by
+ * records of the form {@code [type byte][length int][body]}:
+ * <ul>
+ *   <li>{@link #COMMAND}: {@code tick long, name string, payload map}</li>
+ *   <li>{@link #KEYFRAME}: a {@link MatchMigrationState}</li>
+ * </ul>
+ *
+ * <p>Strings are UTF-8 with an int length. Payload values carry a one-byte tag
+ * so they are read back with their original boxed type. Only nulls, numbers,
+ * booleans, strings and lists and maps of those can be recorded; a command with
+ * any other value is refused rather than stored as something it would not replay as.
+ *
+ * <p>The file is mapped in {@link #REGION_SIZE} regions, so appending is a memory
+ * copy; the unused tail of the last region is truncated on {@link #close()}.
+ * Not thread-safe: the tick lane is the only writer.
+ */
+final class InputLogWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x53544C47; // "STLG"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final byte COMMAND = 1;
+    static final byte KEYFRAME = 2;
+
+    static final byte NULL = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte FLOAT = 3;
+    static final byte DOUBLE = 4;
+    static final byte BOOLEAN = 5;
+    static final byte STRING = 6;
+    static final byte LIST = 7;
+    static final byte MAP = 8;
+
+    private static final int REGION_SIZE = 1 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+    private long commands;
+    private int keyframes;
+
+    InputLogWriter(Path file, long matchId) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            map(0, REGION_SIZE);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        region.putInt(MAGIC).putInt(VERSION).putLong(matchId);
+    }
+
+    /**
+     * Append a command executed on {@code tick}.
+     *
+     * @throws IllegalArgumentException if the payload holds a value of a type the log
+     *         cannot read back; nothing is appended
+     */
+    void appendCommand(long tick, String commandName, Map<String, Object> payload) {
+        scratch.clear();
+        while (true) {
+            try {
+                scratch.putLong(tick);
+                putString(commandName);
+                putMap(payload != null ? payload : Map.of());
+                break;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+        append(COMMAND);
+        commands++;
+    }
+
+    /**
+     * Append the state of the match between two ticks.
+     */
+    void appendKeyframe(MatchMigrationState state) {
+        scratch.clear();
+        while (true) {
+            try {
+                putState(state);
+                break;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+        append(KEYFRAME);
+        keyframes++;
+    }
+
+    long commandCount() {
+        return commands;
+    }
+
+    int keyframeCount() {
+        return keyframes;
+    }
+
+    /**
+     * Bytes written so far, including the header.
+     */
+    long size() {
+        return regionStart + region.position();
+    }
+
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        try {
+            long size = size();
+            region.force();
+            region = null;
+            channel.truncate(size);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close input log " + file, e);
+        }
+    }
+
+    private void append(byte type) {
+        scratch.flip();
+        int needed = 1 + Integer.BYTES + scratch.remaining();
+        if (region.remaining() < needed) {
+            try {
+                map(size(), Math.max(REGION_SIZE, needed));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to extend input log " + file, e);
+            }
+        }
+        region.put(type).putInt(scratch.remaining()).put(scratch);
+    }
+
+    private void map(long position, int length) throws IOException {
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        regionStart = position;
+    }
+
+    private void putState(MatchMigrationState state) {
+        scratch.putLong(state.matchId()).putLong(state.tick()).putInt(state.playerLimit());
+        putStrings(state.enabledModules());
+        putStrings(state.components());
+        scratch.putInt(state.entities().size());
+        for (MatchMigrationState.EntityState entity : state.entities()) {
+            scratch.putLong(entity.entityId()).putInt(entity.componentIndexes().length);
+            for (int i = 0; i < entity.componentIndexes().length; i++) {
+                scratch.putInt(entity.componentIndexes()[i]).putFloat(entity.values()[i]);
+            }
+        }
+        putLongs(state.players());
+        putLongs(state.sessionPlayers());
+        scratch.putLong(state.checksum());
+    }
+
+    private void putStrings(List<String> values) {
+        scratch.putInt(values.size());
+        for (String value : values) {
+            putString(value);
+        }
+    }
+
+    private void putLongs(List<Long> values) {
+        scratch.putInt(values.size());
+        for (long value : values) {
+            scratch.putLong(value);
+        }
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        scratch.putInt(bytes.length).put(bytes);
+    }
+
+    private void putMap(Map<?, ?> map) {
+        scratch.putInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            putString(String.valueOf(entry.getKey()));
+            putValue(entry.getValue());
+        }
+    }
+
+    private void putValue(Object value) {
+        if (value == null) {
+            scratch.put(NULL);
+        } else if (value instanceof Integer i) {
+            scratch.put(INT).putInt(i);
+        } else if (value instanceof Long l) {
+            scratch.put(LONG).putLong(l);
+        } else if (value instanceof Float f) {
+            scratch.put(FLOAT).putFloat(f);
+        } else if (value instanceof Double d) {
+            scratch.put(DOUBLE).putDouble(d);
+        } else if (value instanceof Boolean b) {
+            scratch.put(BOOLEAN).put((byte) (b ? 1 : 0));
+        } else if (value instanceof List<?> list) {
+            scratch.put(LIST).putInt(list.size());
+            for (Object element : list) {
+                putValue(element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            scratch.put(MAP);
+            putMap(map);
+        } else if (value instanceof String string) {
+            scratch.put(STRING);
+            putString(string);
+        } else {
+            throw new IllegalArgumentException("Payload value of type " + value.getClass().getName()
+                    + " cannot be recorded for exact replay");
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerStatus;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of containers that are already started with a module set installed, so a
+ * match can be deployed without paying for container initialization in the request.
+ *
+ * <p>Starting a container allocates its ECS store, scans its module directory and
+ * initializes every module, which takes seconds for large module sets. The pool does
+ * that ahead of time on a background thread. Warm containers are started but not
+ * ticking, and are not registered with the {@link InMemoryContainerManager} until they
+ * are claimed, so they do not show up in container listings or node metrics.
+ *
+ * <p>There is one pool per container configuration (ignoring the name) and module set,
+ * created the first time that combination is claimed, or ahead of time by
+ * {@link #prewarm} for module sets known to be needed. Each pool starts out keeping
+ * {@code minSize} containers warm; every claim that finds it empty raises that target
+ * by one, up to {@code maxSize}. The number of pools is capped so that one-off module
+ * sets cannot pin unbounded memory.
+ */
+@Slf4j
+public final class WarmContainerPool implements Closeable {
+
+    /**
+     * Prepares a pooled container for its module set.
+     */
+    @FunctionalInterface
+    public interface Warmer {
+
+        /**
+         * Start the container and install the modules.
+         *
+         * @param container   the new container, in CREATED state
+         * @param moduleNames the modules to install
+         */
+        void warm(ExecutionContainer container, List<String> moduleNames);
+
+        /**
+         * Version of what the warmer installs, such as the node's module generation.
+         * Containers warmed under an older version are discarded instead of claimed.
+         *
+         * @return the current version
+         */
+        default long version() {
+            return 0;
+        }
+    }
+
+    private static final String POOLED_NAME = "warm-pool";
+
+    private final InMemoryContainerManager containerManager;
+    private final Warmer warmer;
+    private final int minSize;
+    private final int maxSize;
+    private final int maxPools;
+    private final ExecutorService refiller;
+
+    private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a warm container pool.
+     *
+     * @param containerManager the manager that assigns IDs and registers claimed containers
+     * @param warmer           prepares each pooled container
+     * @param minSize          containers to keep warm per module set
+     * @param maxSize          upper bound the per-module-set target grows to under demand
+     * @param maxPools         maximum number of distinct module sets to keep pools for
+     */
+    public WarmContainerPool(InMemoryContainerManager containerManager, Warmer warmer,
+                             int minSize, int maxSize, int maxPools) {
+        if (minSize < 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("Pool sizes must satisfy 0 <= min <= max, got min=" + minSize
+                    + ", max=" + maxSize);
+        }
+        if (maxPools < 0) {
+            throw new IllegalArgumentException("maxPools cannot be negative");
+        }
+        this.containerManager = containerManager;
+        this.warmer = warmer;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.maxPools = maxPools;
+        this.refiller = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "warm-container-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Take a warm container for the configuration and module set, naming it after the configuration.
+     *
+     * <p>Triggers a background refill whether or not a container was available.
+     *
+     * @param config      the requested configuration
+     * @param moduleNames the modules the container must have installed
+     * @return a running container, or empty if none is warm yet
+     */
+    public Optional<ExecutionContainer> claim(ContainerConfig config, List<String> moduleNames) {
+        if (closed || moduleNames.isEmpty() || maxSize == 0) {
+            return Optional.empty();
+        }
+
+        PoolKey key = new PoolKey(config.withName(POOLED_NAME), moduleSetKey(moduleNames));
+        Pool pool = pools.get(key);
+        // A pool created by this claim is empty; it starts warming below, once it is published
+        boolean[] created = {false};
+        if (pool == null) {
+            if (pools.size() >= maxPools) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            pool = pools.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return new Pool(k, moduleNames);
+            });
+        }
+
+        InMemoryExecutionContainer container = created[0] ? null : pool.poll();
+        if (container == null) {
+            misses.incrementAndGet();
+            pool.grow();
+            refill(pool);
+            return Optional.empty();
+        }
+
+        hits.incrementAndGet();
+        container.rename(config.name());
+        containerManager.register(container);
+        refill(pool);
+        log.info("Claimed warm container {} for modules [{}]", container.getId(), key.moduleSet());
+        return Optional.of(container);
+    }
+
+    /**
+     * Create the pool for a configuration and module set, if it does not exist yet,
+     * and start warming its containers so the first claim can already be served.
+     *
+     * @param config      the configuration claims will request; the name is ignored
+     * @param moduleNames the modules to install
+     * @return true if the pool exists, false if the pool is closed or already holds
+     *         the maximum number of module sets
+     */
+    public boolean prewarm(ContainerConfig config, List<String> moduleNames) {
+        if (closed || moduleNames.isEmpty() || maxSize == 0) {
+            return false;
+        }
+        PoolKey key = new PoolKey(config.withName(POOLED_NAME), moduleSetKey(moduleNames));
+        Pool pool = pools.get(key);
+        if (pool == null) {
+            if (pools.size() >= maxPools) {
+                log.warn("Not pre-warming modules [{}]: already pooling {} module sets", key.moduleSet(), maxPools);
+                return false;
+            }
+            pool = pools.computeIfAbsent(key, k -> new Pool(k, moduleNames));
+        }
+        refill(pool);
+        log.info("Pre-warming {} containers for modules [{}]", pool.target.get(), key.moduleSet());
+        return true;
+    }
+
+    /**
+     * Get how many warm containers are waiting to be claimed, by module set.
+     *
+     * @return warm container counts keyed by {@link #moduleSetKey(Collection)}
+     */
+    public Map<String, Integer> getWarmCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Pool pool : pools.values()) {
+            counts.merge(pool.key.moduleSet(), pool.idle.size(), Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Get the number of claims served by a warm container.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of claims that found no warm container.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Stop and discard every warm container, for example after the installed modules changed.
+     *
+     * <p>The pools refill on their next claim.
+     */
+    public void drain() {
+        for (Pool pool : pools.values()) {
+            WarmContainer warm;
+            while ((warm = pool.idle.pollFirst()) != null) {
+                discard(warm.container());
+            }
+        }
+    }
+
+    /**
+     * Stop the refill thread and every warm container.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        refiller.shutdownNow();
+        drain();
+    }
+
+    /**
+     * Build the key that identifies a module set regardless of order.
+     *
+     * @param moduleNames the module names
+     * @return the sorted, distinct module names separated by commas
+     */
+    public static String moduleSetKey(Collection<String> moduleNames) {
+        return String.join(",", moduleNames.stream().distinct().sorted().toList());
+    }
+
+    private void refill(Pool pool) {
+        while (!closed) {
+            int warming = pool.warming.get();
+            if (pool.idle.size() + warming >= pool.target.get()) {
+                return;
+            }
+            if (pool.warming.compareAndSet(warming, warming + 1)) {
+                try {
+                    refiller.execute(() -> warmOne(pool));
+                } catch (RejectedExecutionException e) {
+                    // Closed after the check above; the refill thread is gone
+                    pool.warming.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void warmOne(Pool pool) {
+        InMemoryExecutionContainer container = containerManager.newUnregisteredContainer(pool.key.config());
+        try {
+            long version = warmer.version();
+            container.rename("warm-" + container.getId());
+            warmer.warm(container, pool.moduleNames);
+            if (closed || container.getStatus() != ContainerStatus.RUNNING) {
+                discard(container);
+                return;
+            }
+            pool.idle.addLast(new WarmContainer(container, version));
+            log.debug("Warmed container {} for modules [{}]", container.getId(), pool.key.moduleSet());
+        } catch (RuntimeException e) {
+            // Don't retry here; the next claim refills the pool again
+            log.warn("Failed to warm a container for modules [{}]: {}", pool.key.moduleSet(), e.getMessage());
+            discard(container);
+        } finally {
+            pool.warming.decrementAndGet();
+        }
+    }
+
+    private void discard(InMemoryExecutionContainer container) {
+        try {
+            container.lifecycle().stop();
+        } catch (RuntimeException e) {
+            log.warn("Failed to stop warm container {}: {}", container.getId(), e.getMessage());
+        }
+    }
+
+    private record PoolKey(ContainerConfig config, String moduleSet) {
+    }
+
+    private record WarmContainer(InMemoryExecutionContainer container, long version) {
+    }
+
+    private final class Pool {
+
+        private final PoolKey key;
+        private final List<String> moduleNames;
+        private final ConcurrentLinkedDeque<WarmContainer> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger warming = new AtomicInteger();
+        private final AtomicInteger target;
+
+        private Pool(PoolKey key, List<String> moduleNames) {
+            this.key = key;
+            // Install in the order of the first claim, which may matter to modules that use each other's exports
+            this.moduleNames = List.copyOf(moduleNames);
+            this.target = new AtomicInteger(minSize);
+        }
+
+        private InMemoryExecutionContainer poll() {
+            long current = warmer.version();
+            WarmContainer warm;
+            while ((warm = idle.pollFirst()) != null) {
+                if (warm.version() == current && warm.container().getStatus() == ContainerStatus.RUNNING) {
+                    return warm.container();
+                }
+                log.debug("Discarding stale warm container {}", warm.container().getId());
+                discard(warm.container());
+            }
+            return null;
+        }
+
+        private void grow() {
+            target.accumulateAndGet(1, (current, step) -> Math.min(maxSize, current + step));
+        }
+    }
+}
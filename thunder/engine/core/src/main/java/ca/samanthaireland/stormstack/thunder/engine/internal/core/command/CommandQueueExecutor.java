@@ -25,4 +25,16 @@ package ca.samanthaireland.stormstack.thunder.engine.internal.core.command;
 
 public interface CommandQueueExecutor {
     void executeCommands(int amount);
+
+    /**
+     * Execute up to {@code amount} commands that are due on the given tick.
+     *
+     * <p>The default implementation ignores the tick.
+     *
+     * @param tick the tick being executed
+     * @param amount the maximum number of commands to execute
+     */
+    default void executeCommands(long tick, int amount) {
+        executeCommands(amount);
+    }
 }
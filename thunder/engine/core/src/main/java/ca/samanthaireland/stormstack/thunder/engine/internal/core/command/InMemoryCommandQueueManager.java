@@ -20,85 +20,257 @@
  * SOFTWARE.
  */
 
-
 package ca.samanthaireland.stormstack.thunder.engine.internal.core.command;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandExecutionException;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandQueue;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.QueuedCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.TypedCommandPayload;
 import ca.samanthaireland.stormstack.thunder.engine.internal.CommandExecutionMetrics;
+import ca.samanthaireland.stormstack.thunder.engine.internal.LatencyHistogram;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Thread-safe in-memory implementation of {@link CommandQueue} and {@link CommandQueueExecutor}.
  *
- * <p>Commands are enqueued when scheduled and dequeued when executed.
+ * <p>Commands are queued per match, in lanes keyed by the match ID the payload
+ * carries (or {@link #CONTAINER_LANE} when it carries none). Each tick the
+ * per-tick budget is shared fairly between the lanes that have work: every
+ * lane gets an equal share, unused share is redistributed, and the starting
+ * lane rotates between ticks. A busy match therefore cannot starve the
+ * others, while commands within a match keep their FIFO order.
+ *
+ * <p>Commands can target a future tick with {@link #enqueueAt}; they are held
+ * until that tick is executed.
+ *
+ * <p>The latency from a command becoming due (enqueued, or its target tick
+ * reached) to its execution is recorded per match and container-wide.
  * Errors during execution are captured and can be retrieved via {@link #getErrors()}.
+ *
+ * <p>{@link ExecutionRecorder}s observe every command as it executes, which is
+ * how a match's command log is captured for migration and input recording.
  */
 @Slf4j
 public class InMemoryCommandQueueManager implements CommandQueue, CommandQueueExecutor {
 
-    private final ConcurrentLinkedQueue<ScheduledCommand> commandQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Lane for commands whose payload does not name a match.
+     */
+    public static final long CONTAINER_LANE = 0L;
+
+    /**
+     * Ticks an empty lane is kept for before it is dropped.
+     */
+    private static final long IDLE_LANE_TICKS = 1_000;
+
+    private final ConcurrentHashMap<Long, MatchLane> lanes = new ConcurrentHashMap<>();
     private final ConcurrentLinkedQueue<CommandExecutionException> errorQueue = new ConcurrentLinkedQueue<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final List<ExecutionRecorder> recorders = new CopyOnWriteArrayList<>();
+
+    // Last tick passed to executeCommands; written by the tick thread only
+    private volatile long lastTick;
+    private int rotation;
 
     // Per-command execution metrics for the last tick
     private volatile List<CommandExecutionMetrics> lastTickCommandMetrics = Collections.emptyList();
 
     @Override
     public void enqueue(EngineCommand command, CommandPayload payload) {
+        enqueue(command, payload, matchIdOf(payload), NEXT_TICK);
+    }
+
+    @Override
+    public void enqueueAt(EngineCommand command, CommandPayload payload, long tick) {
+        enqueue(command, payload, matchIdOf(payload), tick);
+    }
+
+    /**
+     * Enqueue a command in an explicit match lane.
+     *
+     * @param command the command to execute
+     * @param payload the command payload
+     * @param matchId the match lane, or {@link #CONTAINER_LANE}
+     * @param tick the tick to execute on, or {@link #NEXT_TICK}
+     */
+    public void enqueue(EngineCommand command, CommandPayload payload, long matchId, long tick) {
         if (command == null) {
             log.warn("Attempted to schedule null command");
             return;
         }
-        commandQueue.add(new ScheduledCommand(command, payload));
-        log.debug("Scheduled command: {}", command.getName());
+        ScheduledCommand scheduled = new ScheduledCommand(command, payload, tick, System.nanoTime());
+        lanes.compute(matchId, (id, lane) -> {
+            MatchLane target = lane != null ? lane : new MatchLane(id);
+            target.offer(scheduled);
+            return target;
+        });
+        log.debug("Scheduled command: {} (match {}, tick {})", command.getName(), matchId, tick);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The commands of each match are linked into that match's lane in a
+     * single append, so they are drained contiguously and in order.
+     */
+    @Override
+    public void enqueueAll(List<QueuedCommand> commands) {
+        long now = System.nanoTime();
+        Map<Long, List<ScheduledCommand>> byMatch = new LinkedHashMap<>();
+        for (QueuedCommand queued : commands) {
+            if (queued.command() == null) {
+                log.warn("Attempted to schedule null command");
+                continue;
+            }
+            byMatch.computeIfAbsent(matchIdOf(queued.payload()), id -> new ArrayList<>())
+                    .add(new ScheduledCommand(queued.command(), queued.payload(), queued.tick(), now));
+        }
+        byMatch.forEach((matchId, scheduled) -> lanes.compute(matchId, (id, lane) -> {
+            MatchLane target = lane != null ? lane : new MatchLane(id);
+            target.offerAll(scheduled);
+            return target;
+        }));
+        if (!byMatch.isEmpty()) {
+            log.debug("Scheduled batch of {} commands across {} matches", commands.size(), byMatch.size());
+        }
     }
 
     @Override
     public void executeCommands(int amount) {
-        log.trace("Execute {} commands.", amount);
+        executeCommands(lastTick + 1, amount);
+    }
+
+    @Override
+    public void executeCommands(long tick, int amount) {
+        log.trace("Execute {} commands for tick {}.", amount, tick);
+        lastTick = tick;
+        if (!recorders.isEmpty()) {
+            for (ExecutionRecorder recorder : recorders) {
+                recorder.tickStarted(tick);
+            }
+        }
         if (amount <= 0) {
             lastTickCommandMetrics = Collections.emptyList();
             return;
         }
 
-        List<CommandExecutionMetrics> metrics = new ArrayList<>();
-        int executed = 0;
-        while (executed < amount) {
-            ScheduledCommand scheduled = commandQueue.poll();
-            if (scheduled == null) {
-                break;
+        long now = System.nanoTime();
+        List<MatchLane> active = new ArrayList<>();
+        for (MatchLane lane : lanes.values()) {
+            if (lane.admit(tick, now)) {
+                active.add(lane);
+            } else {
+                pruneIfIdle(lane, tick);
             }
+        }
+        if (active.size() > 1) {
+            Collections.rotate(active, -(rotation++ % active.size()));
+        }
 
-            long startTime = System.nanoTime();
-            boolean success = false;
-            try {
-                scheduled.command().executeCommand(scheduled.payload());
-                log.debug("Executed command: {}", scheduled.command().getName());
-                success = true;
-                executed++;
-            } catch (Exception e) {
-                log.error("Failed to execute command: {}", scheduled.command().getName(), e);
-                errorQueue.add(new CommandExecutionException(
-                        scheduled.command().getName(),
-                        scheduled.payload(),
-                        e
-                ));
+        List<CommandExecutionMetrics> metrics = new ArrayList<>();
+        int remaining = amount;
+        int executed = 0;
+        while (remaining > 0 && !active.isEmpty()) {
+            int share = Math.max(1, remaining / active.size());
+            Iterator<MatchLane> lanesWithWork = active.iterator();
+            while (lanesWithWork.hasNext() && remaining > 0) {
+                MatchLane lane = lanesWithWork.next();
+                for (int attempts = 0; attempts < share && remaining > 0; attempts++) {
+                    ScheduledCommand scheduled = lane.poll();
+                    if (scheduled == null) {
+                        break;
+                    }
+                    if (execute(scheduled, lane, metrics)) {
+                        executed++;
+                        remaining--;
+                    }
+                }
+                if (lane.isReadyEmpty()) {
+                    lanesWithWork.remove();
+                }
             }
-            long duration = System.nanoTime() - startTime;
-            metrics.add(new CommandExecutionMetrics(scheduled.command().getName(), duration, success));
         }
 
         lastTickCommandMetrics = metrics;
         log.debug("Executed {} commands", executed);
     }
 
+    private boolean execute(ScheduledCommand scheduled, MatchLane lane, List<CommandExecutionMetrics> metrics) {
+        long startTime = System.nanoTime();
+        long waited = startTime - scheduled.dueNanos();
+        latency.record(waited);
+        lane.latency.record(waited);
+
+        if (!recorders.isEmpty()) {
+            for (ExecutionRecorder recorder : recorders) {
+                recorder.record(lastTick, lane.matchId, scheduled.command().getName(), scheduled.payload());
+            }
+        }
+
+        boolean success = false;
+        try {
+            scheduled.command().executeCommand(scheduled.payload());
+            log.debug("Executed command: {}", scheduled.command().getName());
+            success = true;
+            if (scheduled.payload() instanceof TypedCommandPayload typed) {
+                // Failed payloads stay referenced by their error, so only successful ones are recycled
+                typed.release();
+            }
+        } catch (Exception e) {
+            log.error("Failed to execute command: {}", scheduled.command().getName(), e);
+            errorQueue.add(new CommandExecutionException(
+                    scheduled.command().getName(),
+                    scheduled.payload(),
+                    e
+            ));
+        }
+        lane.executed.incrementAndGet();
+        long duration = System.nanoTime() - startTime;
+        metrics.add(new CommandExecutionMetrics(scheduled.command().getName(), duration, success));
+        return success;
+    }
+
+    private void pruneIfIdle(MatchLane lane, long tick) {
+        if (tick - lane.lastActiveTick > IDLE_LANE_TICKS) {
+            lanes.computeIfPresent(lane.matchId, (id, current) ->
+                    current.pending.get() == 0 && tick - current.lastActiveTick > IDLE_LANE_TICKS ? null : current);
+        }
+    }
+
+    /**
+     * Resolve the match lane of a payload from its {@code matchId} parameter.
+     */
+    private static long matchIdOf(CommandPayload payload) {
+        if (payload == null) {
+            return CONTAINER_LANE;
+        }
+        if (payload instanceof TypedCommandPayload typed) {
+            return typed.matchId();
+        }
+        Map<String, Object> data = payload.getPayload();
+        if (data != null && data.get("matchId") instanceof Number matchId) {
+            return matchId.longValue();
+        }
+        return CONTAINER_LANE;
+    }
+
     @Override
     public List<CommandExecutionException> getErrors() {
         List<CommandExecutionException> errors = new ArrayList<>();
@@ -110,12 +282,49 @@ public class InMemoryCommandQueueManager implements CommandQueue, CommandQueueEx
     }
 
     /**
-     * Get the number of commands currently in the queue.
+     * Get the number of commands currently in the queue, including commands
+     * scheduled for future ticks.
      *
      * @return the queue size
      */
     public int getQueueSize() {
-        return commandQueue.size();
+        int size = 0;
+        for (MatchLane lane : lanes.values()) {
+            size += lane.pending.get();
+        }
+        return size;
+    }
+
+    /**
+     * Remove and return every command still waiting in a match's lane, including
+     * commands scheduled for future ticks.
+     *
+     * <p>Commands are returned in the order they would have executed.
+     *
+     * @param matchId the match lane, or {@link #CONTAINER_LANE}
+     * @return the removed commands with their target ticks
+     */
+    public List<QueuedCommand> drainPending(long matchId) {
+        MatchLane lane = lanes.get(matchId);
+        return lane != null ? lane.drain() : List.of();
+    }
+
+    /**
+     * Start observing executed commands.
+     *
+     * @param recorder the recorder to add
+     */
+    public void addRecorder(ExecutionRecorder recorder) {
+        recorders.add(recorder);
+    }
+
+    /**
+     * Stop observing executed commands.
+     *
+     * @param recorder the recorder to remove
+     */
+    public void removeRecorder(ExecutionRecorder recorder) {
+        recorders.remove(recorder);
     }
 
     /**
@@ -131,7 +340,7 @@ public class InMemoryCommandQueueManager implements CommandQueue, CommandQueueEx
      * Clear all pending commands from the queue.
      */
     public void clear() {
-        commandQueue.clear();
+        lanes.values().forEach(MatchLane::clear);
         log.debug("Command queue cleared");
     }
 
@@ -152,9 +361,210 @@ public class InMemoryCommandQueueManager implements CommandQueue, CommandQueueEx
         return lastTickCommandMetrics;
     }
 
+    /**
+     * Get the container-wide latency from a command becoming due to its execution.
+     *
+     * @return the latency histogram snapshot
+     */
+    public LatencyHistogram.Snapshot getQueueLatency() {
+        return latency.snapshot();
+    }
+
+    /**
+     * Get queue depth and latency for every match with recent command traffic.
+     *
+     * @return per-match queue statistics ordered by match ID
+     */
+    public List<MatchQueueStats> getMatchQueueStats() {
+        return lanes.values().stream()
+                .sorted(Comparator.comparingLong(lane -> lane.matchId))
+                .map(MatchLane::stats)
+                .toList();
+    }
+
+    /**
+     * Reset the latency histograms and executed counters.
+     */
+    public void resetMetrics() {
+        latency.reset();
+        lanes.values().forEach(lane -> {
+            lane.latency.reset();
+            lane.executed.set(0);
+        });
+    }
+
+    /**
+     * Queue statistics for one match.
+     *
+     * @param matchId the match ID, or {@link #CONTAINER_LANE}
+     * @param pending commands waiting, including future-tick commands
+     * @param scheduled commands waiting for a future tick
+     * @param executed commands executed since the last reset
+     * @param latency latency from becoming due to execution
+     */
+    public record MatchQueueStats(
+            long matchId,
+            int pending,
+            int scheduled,
+            long executed,
+            LatencyHistogram.Snapshot latency
+    ) {
+    }
+
+    /**
+     * Observes commands as they execute.
+     */
+    @FunctionalInterface
+    public interface ExecutionRecorder {
+
+        /**
+         * Called on the tick thread just before a command executes, while its
+         * payload is still valid. Pooled payloads are recycled afterwards, so
+         * recorders must copy what they keep.
+         *
+         * @param tick the tick being executed
+         * @param matchId the lane the command ran in
+         * @param commandName the command name
+         * @param payload the command payload
+         */
+        void record(long tick, long matchId, String commandName, CommandPayload payload);
+
+        /**
+         * Called on the tick thread before any command of a tick executes, while
+         * the container is still in the state the previous tick left it in.
+         *
+         * @param tick the tick about to execute
+         */
+        default void tickStarted(long tick) {
+        }
+    }
+
     /**
      * A scheduled command with its payload.
+     *
+     * @param tick the target tick, or {@link CommandQueue#NEXT_TICK}
+     * @param dueNanos when the command became due, for latency accounting
      */
-    private record ScheduledCommand(EngineCommand command, CommandPayload payload) {
+    private record ScheduledCommand(EngineCommand command, CommandPayload payload, long tick, long dueNanos) {
+
+        ScheduledCommand dueAt(long nanos) {
+            return new ScheduledCommand(command, payload, tick, nanos);
+        }
+
+        QueuedCommand toQueued() {
+            return new QueuedCommand(command, payload, tick);
+        }
+    }
+
+    /**
+     * Commands for one match.
+     *
+     * <p>Producers append to a lock-free intake queue. The tick thread moves
+     * intake into the ready queue, or into the future-tick schedule, under the
+     * lane lock, so producers never contend with draining.
+     */
+    private static final class MatchLane {
+
+        private final long matchId;
+        private final ConcurrentLinkedQueue<ScheduledCommand> intake = new ConcurrentLinkedQueue<>();
+        private final ArrayDeque<ScheduledCommand> ready = new ArrayDeque<>();
+        private final TreeMap<Long, ArrayDeque<ScheduledCommand>> future = new TreeMap<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger scheduled = new AtomicInteger();
+        private final AtomicLong executed = new AtomicLong();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private volatile long lastActiveTick;
+
+        MatchLane(long matchId) {
+            this.matchId = matchId;
+        }
+
+        void offer(ScheduledCommand command) {
+            pending.incrementAndGet();
+            intake.add(command);
+        }
+
+        void offerAll(List<ScheduledCommand> commands) {
+            pending.addAndGet(commands.size());
+            intake.addAll(commands);
+        }
+
+        /**
+         * Make commands due on {@code tick} ready, oldest target tick first.
+         *
+         * @return true if the lane has ready commands
+         */
+        synchronized boolean admit(long tick, long nowNanos) {
+            while (!future.isEmpty() && future.firstKey() <= tick) {
+                for (ScheduledCommand command : future.pollFirstEntry().getValue()) {
+                    scheduled.decrementAndGet();
+                    ready.add(command.dueAt(nowNanos));
+                }
+            }
+            ScheduledCommand command;
+            while ((command = intake.poll()) != null) {
+                if (command.tick() > tick) {
+                    scheduled.incrementAndGet();
+                    future.computeIfAbsent(command.tick(), t -> new ArrayDeque<>()).add(command);
+                } else {
+                    ready.add(command);
+                }
+            }
+            if (!ready.isEmpty() || !future.isEmpty()) {
+                lastActiveTick = tick;
+            }
+            return !ready.isEmpty();
+        }
+
+        synchronized ScheduledCommand poll() {
+            ScheduledCommand command = ready.poll();
+            if (command != null) {
+                pending.decrementAndGet();
+            }
+            return command;
+        }
+
+        synchronized boolean isReadyEmpty() {
+            return ready.isEmpty();
+        }
+
+        synchronized void clear() {
+            int removed = ready.size();
+            ready.clear();
+            for (ArrayDeque<ScheduledCommand> commands : future.values()) {
+                removed += commands.size();
+            }
+            future.clear();
+            scheduled.set(0);
+            while (intake.poll() != null) {
+                removed++;
+            }
+            pending.addAndGet(-removed);
+        }
+
+        synchronized List<QueuedCommand> drain() {
+            List<QueuedCommand> drained = new ArrayList<>();
+            for (ScheduledCommand command : ready) {
+                drained.add(command.toQueued());
+            }
+            ready.clear();
+            for (ArrayDeque<ScheduledCommand> commands : future.values()) {
+                for (ScheduledCommand command : commands) {
+                    drained.add(command.toQueued());
+                }
+            }
+            future.clear();
+            scheduled.set(0);
+            ScheduledCommand command;
+            while ((command = intake.poll()) != null) {
+                drained.add(command.toQueued());
+            }
+            pending.addAndGet(-drained.size());
+            return drained;
+        }
+
+        MatchQueueStats stats() {
+            return new MatchQueueStats(matchId, pending.get(), scheduled.get(), executed.get(), latency.snapshot());
+        }
     }
 }
@@ -25,93 +25,194 @@ package ca.samanthaireland.stormstack.thunder.engine.internal.core.error;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.error.ErrorBroadcaster;
 import ca.samanthaireland.stormstack.thunder.engine.core.error.GameError;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.FanOutExecutor;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.SubscriberMailbox;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
  * In-memory implementation of {@link ErrorBroadcaster}.
  *
- * <p>Uses a thread pool to dispatch errors asynchronously to avoid blocking
- * the error publisher.
+ * <p>Each subscription gets a bounded {@link SubscriberMailbox} drained on the
+ * node-wide {@link FanOutExecutor#errors()} pool, so publishing never blocks
+ * and never queues more than one task per subscriber. Errors published while a
+ * subscriber is busy reach it as one batch, with repeats of an undelivered
+ * error folded into it; a subscriber that falls {@value #DEFAULT_SUBSCRIBER_CAPACITY}
+ * distinct errors behind drops the rest.
  */
 @Slf4j
 public class InMemoryErrorBroadcaster implements ErrorBroadcaster {
 
+    /**
+     * Default number of distinct undelivered errors per subscriber.
+     */
+    public static final int DEFAULT_SUBSCRIBER_CAPACITY = 1_024;
+
     private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
 
-    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
-        Thread t = new Thread(r, "ErrorBroadcaster-Worker");
-        t.setDaemon(true);
-        return t;
-    });
+    private final FanOutExecutor executor;
+    private final int subscriberCapacity;
+    // Counts of subscriptions that have since been removed
+    private final AtomicLong retiredOverflow = new AtomicLong();
+    private final AtomicLong retiredCoalesced = new AtomicLong();
+    private volatile boolean shutdown;
+
+    /**
+     * Create a broadcaster on the shared error executor.
+     */
+    public InMemoryErrorBroadcaster() {
+        this(FanOutExecutor.errors(), DEFAULT_SUBSCRIBER_CAPACITY);
+    }
+
+    /**
+     * Create a broadcaster on a specific executor.
+     *
+     * @param executor the executor subscribers are notified on
+     * @param subscriberCapacity the maximum number of distinct undelivered errors per subscriber
+     */
+    public InMemoryErrorBroadcaster(FanOutExecutor executor, int subscriberCapacity) {
+        this.executor = executor;
+        this.subscriberCapacity = subscriberCapacity;
+    }
 
     @Override
     public void publish(GameError error) {
-        log.debug("Publishing error: type={}, source={}, message={}",
-                error.type(), error.source(), error.message());
+        publishAll(List.of(error));
+    }
 
+    @Override
+    public void publishAll(List<GameError> errors) {
+        if (shutdown || errors.isEmpty()) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            for (GameError error : errors) {
+                log.debug("Publishing error: type={}, source={}, message={}",
+                        error.type(), error.source(), error.message());
+            }
+        }
         for (Subscription subscription : subscriptions.values()) {
-            if (subscription.matches(error)) {
-                executor.submit(() -> {
-                    try {
-                        subscription.listener().accept(error);
-                    } catch (Exception e) {
-                        log.error("Error dispatching to subscriber {}: {}",
-                                subscription.id(), e.getMessage());
-                    }
-                });
+            if (errors.size() == 1) {
+                if (subscription.matches(errors.get(0))) {
+                    subscription.mailbox().offer(errors.get(0));
+                }
+                continue;
+            }
+            List<GameError> matching = new ArrayList<>(errors.size());
+            for (GameError error : errors) {
+                if (subscription.matches(error)) {
+                    matching.add(error);
+                }
+            }
+            if (!matching.isEmpty()) {
+                subscription.mailbox().offerAll(matching);
             }
         }
     }
 
     @Override
     public String subscribe(Consumer<GameError> listener) {
-        String id = generateId();
-        subscriptions.put(id, new Subscription(id, null, null, listener));
+        String id = add(null, null, each(listener));
         log.debug("Subscription {} added (all errors)", id);
         return id;
     }
 
     @Override
     public String subscribeToMatch(long matchId, Consumer<GameError> listener) {
-        String id = generateId();
-        subscriptions.put(id, new Subscription(id, matchId, null, listener));
+        String id = add(matchId, null, each(listener));
         log.debug("Subscription {} added for match {}", id, matchId);
         return id;
     }
 
     @Override
     public String subscribeToPlayer(long matchId, long playerId, Consumer<GameError> listener) {
-        String id = generateId();
-        subscriptions.put(id, new Subscription(id, matchId, playerId, listener));
+        String id = add(matchId, playerId, each(listener));
         log.debug("Subscription {} added for match {} player {}", id, matchId, playerId);
         return id;
     }
 
+    @Override
+    public String subscribeToPlayerBatches(long matchId, long playerId, Consumer<List<GameError>> listener) {
+        String id = add(matchId, playerId, listener);
+        log.debug("Batched subscription {} added for match {} player {}", id, matchId, playerId);
+        return id;
+    }
+
     @Override
     public void unsubscribe(String subscriptionId) {
         Subscription removed = subscriptions.remove(subscriptionId);
         if (removed != null) {
+            removed.mailbox().close();
+            retiredOverflow.addAndGet(removed.mailbox().getOverflowCount());
+            retiredCoalesced.addAndGet(removed.mailbox().getCoalescedCount());
             log.debug("Subscription {} removed", subscriptionId);
         }
     }
 
+    private String add(Long matchId, Long playerId, Consumer<List<GameError>> listener) {
+        String id = generateId();
+        SubscriberMailbox<GameError> mailbox = new SubscriberMailbox<>("error-subscriber-" + id, executor,
+                subscriberCapacity, listener, GameError::coalescingKey, GameError::mergedWith);
+        subscriptions.put(id, new Subscription(id, matchId, playerId, mailbox));
+        return id;
+    }
+
+    private static Consumer<List<GameError>> each(Consumer<GameError> listener) {
+        return errors -> {
+            for (GameError error : errors) {
+                try {
+                    listener.accept(error);
+                } catch (Exception e) {
+                    log.error("Error dispatching to subscriber: {}", e.getMessage());
+                }
+            }
+        };
+    }
+
     private String generateId() {
         return UUID.randomUUID().toString();
     }
 
     /**
-     * Shutdown the executor.
+     * Get the number of errors dropped because a subscriber's mailbox was full.
+     *
+     * @return the total overflow count across current and past subscribers
+     */
+    public long getDroppedCount() {
+        long total = retiredOverflow.get();
+        for (Subscription subscription : subscriptions.values()) {
+            total += subscription.mailbox().getOverflowCount();
+        }
+        return total;
+    }
+
+    /**
+     * Get the number of errors folded into an identical undelivered error.
+     *
+     * @return the total coalesced count across current and past subscribers
+     */
+    public long getCoalescedCount() {
+        long total = retiredCoalesced.get();
+        for (Subscription subscription : subscriptions.values()) {
+            total += subscription.mailbox().getCoalescedCount();
+        }
+        return total;
+    }
+
+    /**
+     * Stop dispatching errors. The executor is shared, so it keeps running.
      */
     public void shutdown() {
-        executor.shutdown();
-        log.info("ErrorBroadcaster executor shutdown initiated");
+        shutdown = true;
+        subscriptions.values().forEach(subscription -> subscription.mailbox().close());
+        log.info("ErrorBroadcaster dispatch stopped");
     }
 
     /**
@@ -121,7 +222,7 @@ public class InMemoryErrorBroadcaster implements ErrorBroadcaster {
             String id,
             Long matchId,
             Long playerId,
-            Consumer<GameError> listener
+            SubscriberMailbox<GameError> mailbox
     ) {
         boolean matches(GameError error) {
             // If no filter, match everything
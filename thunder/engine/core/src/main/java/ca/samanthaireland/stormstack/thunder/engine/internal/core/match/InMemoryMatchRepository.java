@@ -58,6 +58,9 @@ public class InMemoryMatchRepository implements MatchRepository {
             long newId = idGenerator.getAndIncrement();
             matchToSave = new Match(newId, match.enabledModules());
             log.debug("Generated new match ID: {}", newId);
+        } else {
+            // Keep generated IDs clear of explicitly assigned ones, such as migrated matches
+            idGenerator.accumulateAndGet(match.id() + 1, Math::max);
         }
         log.debug("Saving match: {}", matchToSave.id());
         matches.put(matchToSave.id(), matchToSave);
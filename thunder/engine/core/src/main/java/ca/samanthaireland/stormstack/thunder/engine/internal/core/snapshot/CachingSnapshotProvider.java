@@ -24,8 +24,10 @@ package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ComponentData;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.InterestConfig;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ModuleData;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
 import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
@@ -137,6 +139,27 @@ public class CachingSnapshotProvider implements SnapshotProvider {
             Supplier<Long> tickSupplier,
             double rebuildThreshold,
             int maxCacheAgeTicks) {
+        this(dirtyStore, moduleResolver, tickSupplier, rebuildThreshold, maxCacheAgeTicks, InterestConfig.DISABLED);
+    }
+
+    /**
+     * Creates a CachingSnapshotProvider with custom configuration and area-of-interest
+     * filtering for player snapshots.
+     *
+     * @param dirtyStore       the dirty tracking entity store
+     * @param moduleResolver   the module resolver
+     * @param tickSupplier     supplier for current tick
+     * @param rebuildThreshold fraction of entities changed that triggers full rebuild (0.0 - 1.0)
+     * @param maxCacheAgeTicks maximum ticks before forced cache refresh
+     * @param interest         area-of-interest settings for player snapshots
+     */
+    public CachingSnapshotProvider(
+            DirtyTrackingEntityComponentStore dirtyStore,
+            ModuleResolver moduleResolver,
+            Supplier<Long> tickSupplier,
+            double rebuildThreshold,
+            int maxCacheAgeTicks,
+            InterestConfig interest) {
 
         this.dirtyStore = Objects.requireNonNull(dirtyStore, "dirtyStore must not be null");
         this.entityStore = dirtyStore;
@@ -146,7 +169,10 @@ public class CachingSnapshotProvider implements SnapshotProvider {
         this.maxCacheAgeTicks = maxCacheAgeTicks;
 
         // Create delegate using the same store (but delegate reads from it directly)
-        this.delegate = new SnapshotProviderImpl(dirtyStore, moduleResolver);
+        SpatialInterestIndex interestIndex = interest.enabled()
+                ? new SpatialInterestIndex(dirtyStore, moduleResolver, interest, dirtyStore::changeVersion)
+                : null;
+        this.delegate = new SnapshotProviderImpl(dirtyStore, moduleResolver, interestIndex);
     }
 
     @Override
@@ -360,11 +386,21 @@ public class CachingSnapshotProvider implements SnapshotProvider {
 
     @Override
     public Snapshot createForMatchAndPlayer(long matchId, long playerId) {
-        // Player-filtered snapshots are not cached (they're typically one-off requests)
-        // Just delegate to the underlying provider
+        // Player-filtered snapshots are not cached; with interest management enabled
+        // the delegate shares one spatial index across all viewers of the match
         return delegate.createForMatchAndPlayer(matchId, playerId);
     }
 
+    @Override
+    public SnapshotEncodingSchema encodingSchema() {
+        return delegate.encodingSchema();
+    }
+
+    @Override
+    public Map<Long, Double> viewerDistances(long matchId, long playerId, Collection<Long> entityIds) {
+        return delegate.viewerDistances(matchId, playerId, entityIds);
+    }
+
     /**
      * Returns the last dirty info for a match.
      *
@@ -388,6 +424,18 @@ public class CachingSnapshotProvider implements SnapshotProvider {
         log.debug("Cache invalidated for match {}", matchId);
     }
 
+    /**
+     * Drops every cached state of a deleted match, including its interest grid.
+     *
+     * @param matchId the match ID
+     */
+    public void removeMatch(long matchId) {
+        cache.remove(matchId);
+        lastDirtyInfoByMatch.remove(matchId);
+        delegate.removeMatch(matchId);
+        log.debug("Snapshot state removed for match {}", matchId);
+    }
+
     /**
      * Clears all cached snapshots.
      */
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Deflater;
+
+/**
+ * Deflates a connection's frames as one continuous stream.
+ *
+ * <p>Every frame is sync-flushed so it can be inflated as soon as it arrives, while the
+ * compression window carries over between frames: module and component names and
+ * recurring values from earlier frames act as a dictionary shared with the client's
+ * inflater, so small deltas compress far better than they would one by one.
+ *
+ * <p>The client must feed every frame, in order, to a single raw
+ * ({@code nowrap}) inflater. One instance serves one connection; call {@link #close()}
+ * when it ends to release native memory.
+ */
+public final class FrameDeflater implements AutoCloseable {
+
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final byte[] buffer = new byte[8192];
+
+    /**
+     * Compresses one frame.
+     *
+     * @param frame the uncompressed frame
+     * @return the compressed bytes, ending on a sync-flush boundary
+     */
+    public synchronized byte[] deflate(byte[] frame) {
+        deflater.setInput(frame);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, frame.length / 2));
+        int written;
+        do {
+            written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            out.write(buffer, 0, written);
+        } while (written == buffer.length);
+        return out.toByteArray();
+    }
+
+    @Override
+    public synchronized void close() {
+        deflater.end();
+    }
+}
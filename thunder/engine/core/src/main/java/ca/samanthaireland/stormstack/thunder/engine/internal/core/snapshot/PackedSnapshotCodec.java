@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ComponentData;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ModuleData;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Bit-packed binary encoding of snapshots and deltas.
+ *
+ * <p>Each column is packed with the {@link ComponentEncoding} its component declares:
+ * flags take one bit, ranged integers and quantized values take only the bits their
+ * range needs, and unbounded integers such as entity IDs are written as variable-length
+ * differences from the previous value in the column. Columns holding any value the hint
+ * cannot represent are written as raw floats instead, so packing never corrupts data.
+ *
+ * <p>Frame layout (bit stream, most significant bit first, padded to a whole byte):
+ * <pre>
+ * snapshot: kind=1 (8 bits), moduleCount (varint),
+ *           per module: name, version (strings), componentCount (varint),
+ *             per component: name (string), valueCount (varint), column
+ * delta:    kind=2 (8 bits), matchId, fromTick, toTick (varints),
+ *           added IDs, removed IDs (id lists), moduleCount (varint),
+ *             per module: name (string), componentCount (varint),
+ *               per component: name (string), entity IDs (id list), column
+ * schema:   kind=3 (8 bits), moduleCount (varint),
+ *           per module: name (string), componentCount (varint),
+ *             per component: name (string), encoding kind (8 bits), min, max, precision (64-bit doubles)
+ * column:   packed (1 bit), then per value either the packed form or 32 raw float bits
+ * id list:  count (varint), then ascending IDs as varint differences
+ * string:   byte length (varint), UTF-8 bytes
+ * varint:   7-bit groups, low group first, high bit set while more groups follow
+ * </pre>
+ *
+ * <p>Both ends must use the same {@link SnapshotEncodingSchema}. Streams send it as a
+ * schema frame ({@link #encodeSchema()}) before the first snapshot, so a client builds its
+ * codec from {@link #decodeSchema(byte[])} alone. Instances are immutable and thread-safe.
+ */
+public final class PackedSnapshotCodec {
+
+    /** Frame kind of a full snapshot. */
+    public static final int SNAPSHOT_FRAME = 1;
+
+    /** Frame kind of a delta. */
+    public static final int DELTA_FRAME = 2;
+
+    /** Frame kind of an encoding schema. */
+    public static final int SCHEMA_FRAME = 3;
+
+    private final SnapshotEncodingSchema schema;
+
+    /**
+     * Creates a codec for a container's encoding schema.
+     *
+     * @param schema the column encodings
+     */
+    public PackedSnapshotCodec(SnapshotEncodingSchema schema) {
+        this.schema = schema != null ? schema : SnapshotEncodingSchema.RAW;
+    }
+
+    /**
+     * Encodes this codec's schema, so a receiver can build a matching codec.
+     *
+     * @return the frame bytes
+     */
+    public byte[] encodeSchema() {
+        BitWriter out = new BitWriter();
+        out.write(SCHEMA_FRAME, 8);
+        Map<String, Map<String, ComponentEncoding>> modules = schema.declaredEncodings();
+        out.writeVarint(modules.size());
+        for (Map.Entry<String, Map<String, ComponentEncoding>> module : modules.entrySet()) {
+            out.writeString(module.getKey());
+            out.writeVarint(module.getValue().size());
+            for (Map.Entry<String, ComponentEncoding> component : module.getValue().entrySet()) {
+                ComponentEncoding encoding = component.getValue();
+                out.writeString(component.getKey());
+                out.write(encoding.kind().ordinal(), 8);
+                out.write(Double.doubleToRawLongBits(encoding.min()), Double.SIZE);
+                out.write(Double.doubleToRawLongBits(encoding.max()), Double.SIZE);
+                out.write(Double.doubleToRawLongBits(encoding.precision()), Double.SIZE);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a schema frame.
+     *
+     * @param frame the frame bytes
+     * @return the schema
+     * @throws IllegalArgumentException if the frame is not a valid schema frame
+     */
+    public static SnapshotEncodingSchema decodeSchema(byte[] frame) {
+        BitReader in = new BitReader(frame);
+        expectKind(in, SCHEMA_FRAME);
+        ComponentEncoding.Kind[] kinds = ComponentEncoding.Kind.values();
+        int moduleCount = in.readCount();
+        Map<String, Map<String, ComponentEncoding>> modules = new HashMap<>();
+        for (int m = 0; m < moduleCount; m++) {
+            String moduleName = in.readString();
+            int componentCount = in.readCount();
+            Map<String, ComponentEncoding> components = new HashMap<>();
+            for (int c = 0; c < componentCount; c++) {
+                String componentName = in.readString();
+                int kind = (int) in.read(8);
+                if (kind >= kinds.length) {
+                    throw new IllegalArgumentException("Unknown encoding kind in schema frame: " + kind);
+                }
+                double min = Double.longBitsToDouble(in.read(Double.SIZE));
+                double max = Double.longBitsToDouble(in.read(Double.SIZE));
+                double precision = Double.longBitsToDouble(in.read(Double.SIZE));
+                components.put(componentName, new ComponentEncoding(kinds[kind], min, max, precision));
+            }
+            modules.put(moduleName, components);
+        }
+        return SnapshotEncodingSchema.of(modules);
+    }
+
+    /**
+     * Encodes a full snapshot.
+     *
+     * @param snapshot the snapshot
+     * @return the frame bytes
+     */
+    public byte[] encode(Snapshot snapshot) {
+        BitWriter out = new BitWriter();
+        out.write(SNAPSHOT_FRAME, 8);
+        out.writeVarint(snapshot.modules().size());
+        for (ModuleData module : snapshot.modules()) {
+            out.writeString(module.name());
+            out.writeString(module.versionString());
+            out.writeVarint(module.components().size());
+            for (ComponentData component : module.components()) {
+                out.writeString(component.name());
+                out.writeVarint(component.values().size());
+                writeColumn(out, schema.encodingOf(module.name(), component.name()), component.values());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a delta.
+     *
+     * @param delta the delta
+     * @return the frame bytes
+     */
+    public byte[] encode(DeltaSnapshot delta) {
+        BitWriter out = new BitWriter();
+        out.write(DELTA_FRAME, 8);
+        out.writeVarint(delta.matchId());
+        out.writeVarint(delta.fromTick());
+        out.writeVarint(delta.toTick());
+        writeIds(out, delta.addedEntities());
+        writeIds(out, delta.removedEntities());
+
+        Map<String, Map<String, Map<Long, Float>>> changed =
+                delta.changedComponents() != null ? delta.changedComponents() : Map.of();
+        out.writeVarint(changed.size());
+        for (Map.Entry<String, Map<String, Map<Long, Float>>> module : changed.entrySet()) {
+            out.writeString(module.getKey());
+            out.writeVarint(module.getValue().size());
+            for (Map.Entry<String, Map<Long, Float>> component : module.getValue().entrySet()) {
+                out.writeString(component.getKey());
+                List<Long> ids = writeIds(out, component.getValue().keySet());
+                List<Float> values = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    values.add(component.getValue().get(id));
+                }
+                writeColumn(out, schema.encodingOf(module.getKey(), component.getKey()), values);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a full snapshot frame.
+     *
+     * @param frame the frame bytes
+     * @return the snapshot
+     * @throws IllegalArgumentException if the frame is not a snapshot frame
+     */
+    public Snapshot decodeSnapshot(byte[] frame) {
+        BitReader in = new BitReader(frame);
+        expectKind(in, SNAPSHOT_FRAME);
+        int moduleCount = in.readCount();
+        List<ModuleData> modules = new ArrayList<>(moduleCount);
+        for (int m = 0; m < moduleCount; m++) {
+            String moduleName = in.readString();
+            String version = in.readString();
+            int componentCount = in.readCount();
+            List<ComponentData> components = new ArrayList<>(componentCount);
+            for (int c = 0; c < componentCount; c++) {
+                String componentName = in.readString();
+                int valueCount = in.readCount();
+                components.add(ComponentData.of(componentName,
+                        readColumn(in, schema.encodingOf(moduleName, componentName), valueCount)));
+            }
+            modules.add(ModuleData.of(moduleName, version, components));
+        }
+        return new Snapshot(modules);
+    }
+
+    /**
+     * Decodes a delta frame.
+     *
+     * @param frame the frame bytes
+     * @return the delta
+     * @throws IllegalArgumentException if the frame is not a delta frame
+     */
+    public DeltaSnapshot decodeDelta(byte[] frame) {
+        BitReader in = new BitReader(frame);
+        expectKind(in, DELTA_FRAME);
+        long matchId = in.readVarint();
+        long fromTick = in.readVarint();
+        long toTick = in.readVarint();
+        Set<Long> added = new LinkedHashSet<>(readIds(in));
+        Set<Long> removed = new LinkedHashSet<>(readIds(in));
+
+        int moduleCount = in.readCount();
+        Map<String, Map<String, Map<Long, Float>>> changed = new LinkedHashMap<>();
+        for (int m = 0; m < moduleCount; m++) {
+            String moduleName = in.readString();
+            int componentCount = in.readCount();
+            Map<String, Map<Long, Float>> components = new LinkedHashMap<>();
+            for (int c = 0; c < componentCount; c++) {
+                String componentName = in.readString();
+                List<Long> ids = readIds(in);
+                List<Float> values = readColumn(in, schema.encodingOf(moduleName, componentName), ids.size());
+                Map<Long, Float> byEntity = new LinkedHashMap<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    byEntity.put(ids.get(i), values.get(i));
+                }
+                components.put(componentName, byEntity);
+            }
+            changed.put(moduleName, components);
+        }
+        return new DeltaSnapshot(matchId, fromTick, toTick, changed, added, removed);
+    }
+
+    private static void expectKind(BitReader in, int kind) {
+        int actual = (int) in.read(8);
+        if (actual != kind) {
+            throw new IllegalArgumentException("Expected frame kind " + kind + ", got: " + actual);
+        }
+    }
+
+    private static void writeColumn(BitWriter out, ComponentEncoding encoding, List<Float> values) {
+        boolean packed = encoding.kind() != ComponentEncoding.Kind.RAW;
+        for (int i = 0; packed && i < values.size(); i++) {
+            Float value = values.get(i);
+            packed = value != null && encoding.accepts(value);
+        }
+        out.write(packed ? 1 : 0, 1);
+
+        int bits = encoding.bitsPerValue();
+        long previous = 0;
+        for (Float value : values) {
+            float v = value != null ? value : Float.NaN;
+            if (!packed) {
+                out.write(Integer.toUnsignedLong(Float.floatToRawIntBits(v)), Float.SIZE);
+            } else if (bits < 0) {
+                long current = encoding.pack(v);
+                out.writeVarint(zigzag(current - previous));
+                previous = current;
+            } else {
+                out.write(encoding.pack(v), bits);
+            }
+        }
+    }
+
+    private static List<Float> readColumn(BitReader in, ComponentEncoding encoding, int count) {
+        boolean packed = in.read(1) == 1;
+        int bits = encoding.bitsPerValue();
+        List<Float> values = new ArrayList<>(count);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            if (!packed) {
+                values.add(Float.intBitsToFloat((int) in.read(Float.SIZE)));
+            } else if (bits < 0) {
+                previous += unzigzag(in.readVarint());
+                values.add(encoding.unpack(previous));
+            } else {
+                values.add(encoding.unpack(in.read(bits)));
+            }
+        }
+        return values;
+    }
+
+    private static List<Long> writeIds(BitWriter out, Collection<Long> ids) {
+        List<Long> sorted = new ArrayList<>(ids != null ? ids : List.of());
+        Collections.sort(sorted);
+        out.writeVarint(sorted.size());
+        long previous = 0;
+        for (Long id : sorted) {
+            out.writeVarint(zigzag(id - previous));
+            previous = id;
+        }
+        return sorted;
+    }
+
+    private static List<Long> readIds(BitReader in) {
+        int count = in.readCount();
+        List<Long> ids = new ArrayList<>(count);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unzigzag(in.readVarint());
+            ids.add(previous);
+        }
+        return ids;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Appends bit fields to a growing byte array.
+     */
+    private static final class BitWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        private long pending;
+        private int pendingBits;
+
+        void write(long value, int bits) {
+            for (int remaining = bits; remaining > 0; ) {
+                int take = Math.min(remaining, 8 - pendingBits);
+                remaining -= take;
+                pending = (pending << take) | ((value >>> remaining) & ((1L << take) - 1));
+                pendingBits += take;
+                if (pendingBits == 8) {
+                    bytes.write((int) pending);
+                    pending = 0;
+                    pendingBits = 0;
+                }
+            }
+        }
+
+        void writeVarint(long value) {
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                write((v & 0x7F) | 0x80, 8);
+                v >>>= 7;
+            }
+            write(v, 8);
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            for (byte b : utf8) {
+                write(b & 0xFF, 8);
+            }
+        }
+
+        byte[] toByteArray() {
+            if (pendingBits > 0) {
+                write(0, 8 - pendingBits);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * Reads bit fields written by {@link BitWriter}.
+     */
+    private static final class BitReader {
+        private final byte[] bytes;
+        private long position;
+
+        BitReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long read(int bits) {
+            long value = 0;
+            for (int i = 0; i < bits; i++) {
+                int index = (int) (position >>> 3);
+                if (index >= bytes.length) {
+                    throw new IllegalArgumentException("Truncated snapshot frame");
+                }
+                int bit = (bytes[index] >>> (7 - (position & 7))) & 1;
+                value = (value << 1) | bit;
+                position++;
+            }
+            return value;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                long group = read(8);
+                value |= (group & 0x7F) << shift;
+                if ((group & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in snapshot frame");
+        }
+
+        int readCount() {
+            long count = readVarint();
+            if (count < 0 || count > bytes.length * 8L) {
+                throw new IllegalArgumentException("Invalid count in snapshot frame: " + count);
+            }
+            return (int) count;
+        }
+
+        String readString() {
+            byte[] utf8 = new byte[readCount()];
+            for (int i = 0; i < utf8.length; i++) {
+                utf8[i] = (byte) read(8);
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
+
+import java.util.*;
+
+/**
+ * Spends a per-client byte budget on the most important entity changes of a delta.
+ *
+ * <p>Each entity with pending changes accumulates priority every time it is left out,
+ * weighted by its most important changed component and by its distance to the viewer.
+ * When a delta does not fit the budget, entities are sent in order of accumulated
+ * priority until the budget runs out; the rest are deferred and win out later as their
+ * priority keeps growing, so nothing starves. Removals are always sent.
+ *
+ * <p>The budget is a token bucket holding at most one second of bytes. Sizes are
+ * estimates of the encoded delta, not exact wire sizes.
+ *
+ * <p>One instance serves one connection. Methods are synchronized so the stream's
+ * emitter and message handlers may call it concurrently.
+ */
+public final class PriorityAccumulator {
+
+    /** Estimated bytes per entity entry (ID and framing). */
+    static final int ENTITY_BYTES = 8;
+
+    /** Estimated bytes per changed component value (name reference and value). */
+    static final int VALUE_BYTES = 16;
+
+    private static final double DEFAULT_WEIGHT = 1.0;
+    private static final double ADDED_WEIGHT_FACTOR = 2.0;
+
+    private final long bytesPerSecond;
+    private final Map<String, Double> componentPriority;
+    private final double distanceFalloff;
+    private final Map<Long, Double> accumulated = new HashMap<>();
+
+    private double tokens;
+    private long lastRefillNanos = Long.MIN_VALUE;
+
+    /**
+     * Outcome of a selection.
+     *
+     * @param delta            the delta to send
+     * @param deferredEntities how many entities with changes were held back
+     */
+    public record Selection(DeltaSnapshot delta, int deferredEntities) {
+
+        /**
+         * Returns true if every pending change was selected.
+         *
+         * @return true if nothing was deferred
+         */
+        public boolean complete() {
+            return deferredEntities == 0;
+        }
+    }
+
+    /**
+     * Creates an accumulator.
+     *
+     * @param bytesPerSecond    the byte budget per second, or zero or less for unlimited
+     * @param componentPriority importance by component name; unlisted components weigh 1
+     * @param distanceFalloff   distance at which an entity's weight halves, or zero or less
+     *                          to ignore distance
+     */
+    public PriorityAccumulator(long bytesPerSecond, Map<String, Double> componentPriority, double distanceFalloff) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.componentPriority = componentPriority != null ? Map.copyOf(componentPriority) : Map.of();
+        this.distanceFalloff = distanceFalloff;
+        this.tokens = bytesPerSecond;
+    }
+
+    /**
+     * Returns true if this accumulator applies a budget.
+     *
+     * @return true if the byte budget is limited
+     */
+    public boolean limited() {
+        return bytesPerSecond > 0;
+    }
+
+    /**
+     * Selects the part of a delta that fits the budget.
+     *
+     * @param delta     the full delta against what the client has
+     * @param distances distance to the viewer by entity ID; entities without one are not scaled
+     * @param nowNanos  the current {@link System#nanoTime()}
+     * @return the delta to send and how many entities were deferred
+     */
+    public synchronized Selection select(DeltaSnapshot delta, Map<Long, Double> distances, long nowNanos) {
+        if (!limited()) {
+            return new Selection(delta, 0);
+        }
+        refill(nowNanos);
+
+        Map<Long, Integer> valueCounts = new HashMap<>();
+        Map<Long, Double> weights = new HashMap<>();
+        collectPending(delta, valueCounts, weights);
+        for (Long added : delta.addedEntities()) {
+            valueCounts.putIfAbsent(added, 0);
+            weights.merge(added, DEFAULT_WEIGHT * ADDED_WEIGHT_FACTOR, (w, unused) -> w * ADDED_WEIGHT_FACTOR);
+        }
+
+        tokens -= (double) delta.removedEntities().size() * ENTITY_BYTES;
+        long total = 0;
+        for (int values : valueCounts.values()) {
+            total += cost(values);
+        }
+        if (total <= tokens) {
+            tokens -= total;
+            accumulated.clear();
+            return new Selection(delta, 0);
+        }
+
+        for (Map.Entry<Long, Double> entry : weights.entrySet()) {
+            double weight = entry.getValue() * distanceFactor(distances.get(entry.getKey()));
+            accumulated.merge(entry.getKey(), weight, Double::sum);
+        }
+        accumulated.keySet().retainAll(valueCounts.keySet());
+
+        List<Long> order = new ArrayList<>(valueCounts.keySet());
+        order.sort(Comparator.comparingDouble((Long id) -> accumulated.getOrDefault(id, 0.0)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        Set<Long> selected = new HashSet<>();
+        for (Long id : order) {
+            int cost = cost(valueCounts.get(id));
+            if (selected.isEmpty() || cost <= tokens) {
+                // The top entity always goes out so a tiny budget still makes progress.
+                selected.add(id);
+                tokens -= cost;
+            }
+        }
+        accumulated.keySet().removeAll(selected);
+
+        return new Selection(restrict(delta, selected), valueCounts.size() - selected.size());
+    }
+
+    /**
+     * Returns the number of entities currently carrying accumulated priority.
+     *
+     * @return deferred entity count
+     */
+    public synchronized int deferredCount() {
+        return accumulated.size();
+    }
+
+    private void refill(long nowNanos) {
+        if (lastRefillNanos != Long.MIN_VALUE) {
+            double elapsedSeconds = Math.max(0, nowNanos - lastRefillNanos) / 1_000_000_000.0;
+            tokens = Math.min(bytesPerSecond, tokens + elapsedSeconds * bytesPerSecond);
+        }
+        lastRefillNanos = nowNanos;
+    }
+
+    private void collectPending(DeltaSnapshot delta, Map<Long, Integer> valueCounts, Map<Long, Double> weights) {
+        for (Map<String, Map<Long, Float>> module : delta.changedComponents().values()) {
+            for (Map.Entry<String, Map<Long, Float>> component : module.entrySet()) {
+                double weight = componentPriority.getOrDefault(component.getKey(), DEFAULT_WEIGHT);
+                for (Long entityId : component.getValue().keySet()) {
+                    valueCounts.merge(entityId, 1, Integer::sum);
+                    weights.merge(entityId, weight, Math::max);
+                }
+            }
+        }
+    }
+
+    private double distanceFactor(Double distance) {
+        if (distance == null || distanceFalloff <= 0) {
+            return 1.0;
+        }
+        return distanceFalloff / (distanceFalloff + distance);
+    }
+
+    private static int cost(int values) {
+        return ENTITY_BYTES + values * VALUE_BYTES;
+    }
+
+    private static DeltaSnapshot restrict(DeltaSnapshot delta, Set<Long> selected) {
+        Map<String, Map<String, Map<Long, Float>>> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Map<Long, Float>>> module : delta.changedComponents().entrySet()) {
+            Map<String, Map<Long, Float>> components = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<Long, Float>> component : module.getValue().entrySet()) {
+                Map<Long, Float> values = new LinkedHashMap<>();
+                component.getValue().forEach((entityId, value) -> {
+                    if (selected.contains(entityId)) {
+                        values.put(entityId, value);
+                    }
+                });
+                if (!values.isEmpty()) {
+                    components.put(component.getKey(), values);
+                }
+            }
+            if (!components.isEmpty()) {
+                changed.put(module.getKey(), components);
+            }
+        }
+
+        Set<Long> added = new LinkedHashSet<>();
+        for (Long id : delta.addedEntities()) {
+            if (selected.contains(id)) {
+                added.add(id);
+            }
+        }
+        return new DeltaSnapshot(delta.matchId(), delta.fromTick(), delta.toTick(),
+                changed, added, delta.removedEntities());
+    }
+}
@@ -24,7 +24,10 @@
 package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -67,4 +70,28 @@ public interface SnapshotProvider {
                 .orElseGet(() -> createForMatch(matchId));
     }
 
+    /**
+     * Returns the distance from each entity to the player's nearest positioned entity.
+     *
+     * <p>Only available when area-of-interest filtering is enabled; otherwise, and for
+     * entities without a position, no distance is reported.
+     *
+     * @param matchId the match ID
+     * @param playerId the viewing player
+     * @param entityIds the entities to measure
+     * @return distance by entity ID, possibly empty
+     */
+    default Map<Long, Double> viewerDistances(long matchId, long playerId, Collection<Long> entityIds) {
+        return Map.of();
+    }
+
+    /**
+     * Returns the wire encoding hints for the columns this provider produces.
+     *
+     * @return the encoding schema
+     */
+    default SnapshotEncodingSchema encodingSchema() {
+        return SnapshotEncodingSchema.RAW;
+    }
+
 }
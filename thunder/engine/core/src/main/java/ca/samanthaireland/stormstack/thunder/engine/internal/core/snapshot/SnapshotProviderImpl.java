@@ -27,6 +27,7 @@ import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ComponentData;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ModuleData;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
 import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
@@ -47,6 +48,9 @@ import java.util.function.Predicate;
  *   <li>Player ID (optional) - only entities owned by the specified player</li>
  * </ul>
  *
+ * <p>When constructed with a {@link SpatialInterestIndex}, player snapshots also include
+ * every entity within the interest radius of the player's positioned entities.
+ *
  * <p>Uses a columnar data format for efficient serialization:
  * <pre>
  * {
@@ -62,12 +66,29 @@ public class SnapshotProviderImpl implements SnapshotProvider {
 
     private final EntityComponentStore entityStore;
     private final ModuleResolver moduleResolver;
+    private final SpatialInterestIndex interestIndex;
 
     private volatile List<ModuleComponentMapping> cachedMappings;
+    private volatile SnapshotEncodingSchema cachedSchema;
 
     public SnapshotProviderImpl(EntityComponentStore entityStore, ModuleResolver moduleResolver) {
+        this(entityStore, moduleResolver, null);
+    }
+
+    /**
+     * Creates a provider with area-of-interest filtering for player snapshots.
+     *
+     * @param entityStore    the entity store
+     * @param moduleResolver the module resolver
+     * @param interestIndex  the interest index, or null for owner-only player snapshots
+     */
+    public SnapshotProviderImpl(
+            EntityComponentStore entityStore,
+            ModuleResolver moduleResolver,
+            SpatialInterestIndex interestIndex) {
         this.entityStore = Objects.requireNonNull(entityStore, "entityStore must not be null");
         this.moduleResolver = Objects.requireNonNull(moduleResolver, "moduleResolver must not be null");
+        this.interestIndex = interestIndex;
     }
 
     @Override
@@ -79,9 +100,46 @@ public class SnapshotProviderImpl implements SnapshotProvider {
 
     @Override
     public Snapshot createForMatchAndPlayer(long matchId, long playerId) {
-        return createSnapshot(
-                new SnapshotFilter(matchId, Optional.of(playerId))
-        );
+        SnapshotFilter filter = new SnapshotFilter(matchId, Optional.of(playerId));
+        if (interestIndex == null) {
+            return createSnapshot(filter);
+        }
+
+        List<ModuleComponentMapping> mappings = getOrBuildMappings();
+        if (mappings.isEmpty()) {
+            return Snapshot.empty();
+        }
+
+        SnapshotFilter matchOnly = new SnapshotFilter(matchId, Optional.empty());
+        Set<Long> visible = interestIndex.visibleTo(matchId, playerId,
+                () -> filterEntities(findCandidateEntities(), buildEntityFilter(matchOnly)));
+        if (visible.isEmpty()) {
+            log.debug("No entities in area of interest for filter: {}", filter);
+            return Snapshot.empty();
+        }
+
+        return new Snapshot(buildSnapshotData(mappings, visible, matchId));
+    }
+
+    @Override
+    public Map<Long, Double> viewerDistances(long matchId, long playerId, Collection<Long> entityIds) {
+        return interestIndex != null
+                ? interestIndex.distancesFrom(matchId, playerId, entityIds)
+                : Map.of();
+    }
+
+    @Override
+    public SnapshotEncodingSchema encodingSchema() {
+        SnapshotEncodingSchema schema = cachedSchema;
+        if (schema == null) {
+            Map<String, List<BaseComponent>> componentsByModule = new LinkedHashMap<>();
+            for (ModuleComponentMapping mapping : getOrBuildMappings()) {
+                componentsByModule.put(mapping.moduleName(), mapping.components());
+            }
+            schema = SnapshotEncodingSchema.fromComponents(componentsByModule);
+            cachedSchema = schema;
+        }
+        return schema;
     }
 
     /**
@@ -316,12 +374,24 @@ public class SnapshotProviderImpl implements SnapshotProvider {
         return mappings;
     }
 
+    /**
+     * Drops per-match state of a deleted match.
+     *
+     * @param matchId the match ID
+     */
+    public void removeMatch(long matchId) {
+        if (interestIndex != null) {
+            interestIndex.remove(matchId);
+        }
+    }
+
     /**
      * Invalidates the cached component mappings.
      * Call this when modules are added or removed.
      */
     public void invalidateCache() {
         cachedMappings = null;
+        cachedSchema = null;
         log.debug("Component mapping cache invalidated");
     }
 
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A small ring of the most recent published snapshots of one stream, by tick.
+ *
+ * <p>Delta streams keep one ring per match (or per player view) so that connections
+ * publishing the same tick build its snapshot once and send identical contents. The ring
+ * is also the baseline store for acknowledging clients: a connection remembers only the
+ * newest tick its client acknowledged and looks the snapshot up here, so baselines are
+ * held once per view rather than once per connection. A tick that has been evicted
+ * resolves to nothing, and the client gets a full update.
+ *
+ * <p>Each snapshot is recorded with the match's change version. Connections asking for a
+ * tick already in the ring at the same or an older version share its snapshot. A newer
+ * version for a tick at or before the newest recorded one means the match changed without
+ * the tick advancing (a paused container) or the tick was rewound by a restore; the ring
+ * then drops every snapshot, starts a new epoch and records the new one. Lookups carry the
+ * epoch a connection was sent its frames in, so a tick recorded again after a clear is
+ * never mistaken for the snapshot sent before it. Thread-safe.
+ */
+public final class SnapshotRing {
+
+    private final long[] ticks;
+    private final long[] versions;
+    private final Snapshot[] snapshots;
+    private int next;
+    private int size;
+    private long newestTick;
+    private long newestVersion;
+    private long epoch;
+
+    /**
+     * A snapshot handed out by the ring, with the epoch it belongs to.
+     *
+     * @param snapshot the snapshot for the tick
+     * @param epoch    the ring's epoch when it was handed out
+     */
+    public record Published(Snapshot snapshot, long epoch) {
+    }
+
+    /**
+     * Creates a ring.
+     *
+     * @param capacity how many ticks to retain (must be positive)
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public SnapshotRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring capacity must be positive, got: " + capacity);
+        }
+        this.ticks = new long[capacity];
+        this.versions = new long[capacity];
+        this.snapshots = new Snapshot[capacity];
+    }
+
+    /**
+     * Returns the snapshot recorded for a tick, recording one from {@code factory} if none is.
+     *
+     * @param tick    the tick
+     * @param version the match's change version read with the tick
+     * @param factory builds the snapshot for the tick
+     * @return the snapshot every connection uses for this tick
+     * @see #publish(long, long, Supplier)
+     */
+    public Snapshot computeIfAbsent(long tick, long version, Supplier<Snapshot> factory) {
+        return publish(tick, version, factory).snapshot();
+    }
+
+    /**
+     * Returns the snapshot recorded for a tick and the current epoch, recording one from
+     * {@code factory} if none is.
+     *
+     * <p>The factory runs under the ring's lock, so concurrent connections publishing the
+     * same tick build its snapshot once. If the tick is at or before the newest recorded one
+     * with a newer version the ring is cleared first. A caller that read a tick older than
+     * the newest recorded one without a newer version raced a later publication; it gets a
+     * fresh snapshot that is not recorded.
+     *
+     * @param tick    the tick
+     * @param version the match's change version read with the tick
+     * @param factory builds the snapshot for the tick
+     * @return the snapshot every connection uses for this tick, with the ring's epoch
+     */
+    public synchronized Published publish(long tick, long version, Supplier<Snapshot> factory) {
+        int index = indexOf(tick);
+        if (index >= 0 && version <= versions[index]) {
+            return new Published(snapshots[index], epoch);
+        }
+        if (size > 0 && tick <= newestTick) {
+            if (version <= newestVersion) {
+                return new Published(factory.get(), epoch);
+            }
+            clear();
+        }
+        Snapshot snapshot = factory.get();
+        ticks[next] = tick;
+        versions[next] = version;
+        snapshots[next] = snapshot;
+        next = (next + 1) % ticks.length;
+        size = Math.min(size + 1, ticks.length);
+        newestTick = tick;
+        newestVersion = version;
+        return new Published(snapshot, epoch);
+    }
+
+    /**
+     * Returns the snapshot recorded for a tick, if it is still retained.
+     *
+     * @param tick the tick
+     * @return the snapshot, or empty if it was never recorded or has been evicted
+     */
+    public synchronized Optional<Snapshot> get(long tick) {
+        int index = indexOf(tick);
+        return index >= 0 ? Optional.of(snapshots[index]) : Optional.empty();
+    }
+
+    /**
+     * Returns the snapshot recorded for a tick in the given epoch, if it is still retained.
+     *
+     * @param tick  the tick
+     * @param epoch the epoch the caller's frame for the tick was published in
+     * @return the snapshot, or empty if it was never recorded, has been evicted, or the
+     *         ring has been cleared since that epoch
+     */
+    public synchronized Optional<Snapshot> get(long tick, long epoch) {
+        return epoch == this.epoch ? get(tick) : Optional.empty();
+    }
+
+    /**
+     * Returns the current epoch, which advances each time the ring is cleared.
+     *
+     * @return the epoch
+     */
+    public synchronized long epoch() {
+        return epoch;
+    }
+
+    /**
+     * Returns how many ticks the ring can retain.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return ticks.length;
+    }
+
+    /**
+     * Returns how many ticks are retained.
+     *
+     * @return the number of snapshots in the ring
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void clear() {
+        Arrays.fill(snapshots, null);
+        next = 0;
+        size = 0;
+        epoch++;
+    }
+
+    private int indexOf(long tick) {
+        // Newest first: acknowledged ticks are almost always recent
+        for (int i = 1; i <= size; i++) {
+            int index = Math.floorMod(next - i, ticks.length);
+            if (ticks[index] == tick) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
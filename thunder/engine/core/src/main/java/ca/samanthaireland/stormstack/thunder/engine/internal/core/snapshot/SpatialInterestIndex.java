@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerSnapshotOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.InterestConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleResolver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Uniform-grid spatial index that answers "which entities can this player see".
+ *
+ * <p>Each match has its own grid of square cells. Entities are bucketed by the cell
+ * containing their position and by their owner. The grid is shared by every viewer
+ * of a match and refreshed at most once per change of the match's change version:
+ * a refresh re-reads positions, and only entities that crossed a cell boundary
+ * touch the cell buckets. Queries then only scan the cells around a player's
+ * positioned entities, so their cost follows local density rather than match size.
+ *
+ * <p><b>Hysteresis:</b> the index remembers what each player saw on its previous
+ * query. An entity enters view within {@link InterestConfig#radius()} and leaves it
+ * only beyond {@code radius + hysteresis}.
+ *
+ * <p><b>Thread Safety:</b> queries for the same match are serialized on that
+ * match's grid; different matches proceed in parallel.
+ *
+ * @see InterestConfig
+ * @see SnapshotProviderImpl
+ */
+@Slf4j
+public class SpatialInterestIndex {
+
+    /** Marks an entity without owner or position; never used as a bucket key. */
+    private static final long NONE = Long.MIN_VALUE;
+    private static final long VIEWER_IDLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final EntityComponentStore entityStore;
+    private final ModuleResolver moduleResolver;
+    private final InterestConfig config;
+    private final LongUnaryOperator versionSource;
+    private final Map<Long, MatchGrid> grids = new ConcurrentHashMap<>();
+
+    private volatile PositionComponents positions;
+
+    /**
+     * Creates an index over the given store.
+     *
+     * @param entityStore    the store to read positions and owners from
+     * @param moduleResolver resolves the module declaring the position components
+     * @param config         the interest settings, must be enabled
+     * @param versionSource  returns a match's change version, or
+     *                       {@link ContainerSnapshotOperations#UNKNOWN_VERSION} to refresh on every query
+     */
+    public SpatialInterestIndex(
+            EntityComponentStore entityStore,
+            ModuleResolver moduleResolver,
+            InterestConfig config,
+            LongUnaryOperator versionSource) {
+        this.entityStore = Objects.requireNonNull(entityStore, "entityStore must not be null");
+        this.moduleResolver = Objects.requireNonNull(moduleResolver, "moduleResolver must not be null");
+        this.config = Objects.requireNonNull(config, "config must not be null");
+        this.versionSource = Objects.requireNonNull(versionSource, "versionSource must not be null");
+        if (!config.enabled()) {
+            throw new IllegalArgumentException("Interest management is disabled in " + config);
+        }
+    }
+
+    /**
+     * Returns the entities a player should receive: everything it owns plus every
+     * entity within the interest radius of one of its positioned entities.
+     *
+     * @param matchId       the match
+     * @param playerId      the viewing player
+     * @param matchEntities supplies the match's snapshot entities; only called when the grid is stale
+     * @return the visible entity IDs
+     */
+    public Set<Long> visibleTo(long matchId, long playerId, Supplier<Set<Long>> matchEntities) {
+        MatchGrid grid = grids.computeIfAbsent(matchId, id -> new MatchGrid());
+        synchronized (grid) {
+            grid.refresh(matchId, matchEntities);
+            return grid.query(playerId);
+        }
+    }
+
+    /**
+     * Returns the distance from each entity to the nearest positioned entity the player owns.
+     *
+     * <p>Uses the grid as of the last refresh; entities without a position, and all
+     * entities when the player has no positioned entity, are left out.
+     *
+     * @param matchId   the match
+     * @param playerId  the viewing player
+     * @param entityIds the entities to measure
+     * @return distance by entity ID
+     */
+    public Map<Long, Double> distancesFrom(long matchId, long playerId, Collection<Long> entityIds) {
+        MatchGrid grid = grids.get(matchId);
+        if (grid == null) {
+            return Map.of();
+        }
+        synchronized (grid) {
+            return grid.distancesFrom(playerId, entityIds);
+        }
+    }
+
+    /**
+     * Returns how many entities of a match are tracked by the index.
+     *
+     * @param matchId the match
+     * @return the tracked entity count
+     */
+    public int trackedEntityCount(long matchId) {
+        MatchGrid grid = grids.get(matchId);
+        if (grid == null) {
+            return 0;
+        }
+        synchronized (grid) {
+            return grid.entities.size();
+        }
+    }
+
+    /**
+     * Drops the grid of a deleted match.
+     *
+     * @param matchId the match
+     */
+    public void remove(long matchId) {
+        grids.remove(matchId);
+    }
+
+    /**
+     * Drops all index state, e.g. after the entity store was reset.
+     */
+    public void clear() {
+        grids.clear();
+        positions = null;
+    }
+
+    private PositionComponents positions() {
+        PositionComponents resolved = positions;
+        if (resolved == null) {
+            // Retried on every refresh until the module providing positions is installed
+            resolved = resolvePositions();
+            positions = resolved;
+        }
+        return resolved;
+    }
+
+    private PositionComponents resolvePositions() {
+        for (EngineModule module : moduleResolver.resolveAllModules()) {
+            if (config.positionModule() != null && !config.positionModule().equals(module.getName())) {
+                continue;
+            }
+            List<BaseComponent> components = module.createComponents();
+            if (components == null) {
+                continue;
+            }
+            BaseComponent x = null;
+            BaseComponent y = null;
+            for (BaseComponent component : components) {
+                if (config.positionX().equals(component.getName())) {
+                    x = component;
+                } else if (config.positionY().equals(component.getName())) {
+                    y = component;
+                }
+            }
+            if (x != null && y != null) {
+                log.debug("Interest management reads positions from module {}", module.getName());
+                return new PositionComponents(x, y);
+            }
+        }
+        return null;
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value / config.cellSize());
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Grid, ownership and viewer state of a single match. Guarded by its own monitor.
+     */
+    private final class MatchGrid {
+        private final Map<Long, Tracked> entities = new HashMap<>();
+        private final Map<Long, Set<Long>> cells = new HashMap<>();
+        private final Map<Long, Set<Long>> ownedBy = new HashMap<>();
+        private final Map<Long, Viewer> viewers = new HashMap<>();
+        private long version = ContainerSnapshotOperations.UNKNOWN_VERSION;
+        private long generation;
+        private boolean built;
+
+        void refresh(long matchId, Supplier<Set<Long>> matchEntities) {
+            long current = versionSource.applyAsLong(matchId);
+            if (built && current == version && current != ContainerSnapshotOperations.UNKNOWN_VERSION) {
+                return;
+            }
+            built = true;
+            version = current;
+            generation++;
+
+            PositionComponents pos = positions();
+            for (Long entityId : matchEntities.get()) {
+                Tracked tracked = entities.computeIfAbsent(entityId, Tracked::new);
+                tracked.generation = generation;
+                updateOwner(tracked);
+                updateCell(tracked, pos);
+            }
+
+            Iterator<Tracked> it = entities.values().iterator();
+            while (it.hasNext()) {
+                Tracked tracked = it.next();
+                if (tracked.generation != generation) {
+                    unlink(cells, tracked.cell, tracked.id);
+                    unlink(ownedBy, tracked.owner, tracked.id);
+                    it.remove();
+                }
+            }
+
+            long now = System.nanoTime();
+            viewers.values().removeIf(viewer -> now - viewer.lastQueryNanos > VIEWER_IDLE_NANOS);
+        }
+
+        private void updateOwner(Tracked tracked) {
+            float ownerValue = entityStore.getComponent(tracked.id, CoreComponents.OWNER_ID);
+            long owner = Float.isNaN(ownerValue) ? NONE : (long) ownerValue;
+            if (owner != tracked.owner) {
+                unlink(ownedBy, tracked.owner, tracked.id);
+                link(ownedBy, owner, tracked.id);
+                tracked.owner = owner;
+            }
+        }
+
+        private void updateCell(Tracked tracked, PositionComponents pos) {
+            long cell = NONE;
+            if (pos != null) {
+                float x = entityStore.getComponent(tracked.id, pos.x());
+                float y = entityStore.getComponent(tracked.id, pos.y());
+                if (!Float.isNaN(x) && !Float.isNaN(y)) {
+                    tracked.x = x;
+                    tracked.y = y;
+                    cell = cellKey(cellCoord(x), cellCoord(y));
+                }
+            }
+            if (cell != tracked.cell) {
+                unlink(cells, tracked.cell, tracked.id);
+                link(cells, cell, tracked.id);
+                tracked.cell = cell;
+            }
+        }
+
+        Set<Long> query(long playerId) {
+            Set<Long> owned = ownedBy.getOrDefault(playerId, Set.of());
+            Viewer viewer = viewers.computeIfAbsent(playerId, id -> new Viewer());
+            viewer.lastQueryNanos = System.nanoTime();
+
+            float radius = config.radius();
+            float outer = radius + config.hysteresis();
+            float radiusSq = radius * radius;
+            float outerSq = outer * outer;
+
+            Set<Long> visible = new HashSet<>();
+            for (Long ownedId : owned) {
+                Tracked eye = entities.get(ownedId);
+                if (eye == null || eye.cell == NONE) {
+                    continue;
+                }
+                int minCx = cellCoord(eye.x - outer);
+                int maxCx = cellCoord(eye.x + outer);
+                int minCy = cellCoord(eye.y - outer);
+                int maxCy = cellCoord(eye.y + outer);
+                for (int cx = minCx; cx <= maxCx; cx++) {
+                    for (int cy = minCy; cy <= maxCy; cy++) {
+                        Set<Long> members = cells.get(cellKey(cx, cy));
+                        if (members == null) {
+                            continue;
+                        }
+                        for (Long id : members) {
+                            if (visible.contains(id) || owned.contains(id)) {
+                                continue;
+                            }
+                            Tracked other = entities.get(id);
+                            float dx = other.x - eye.x;
+                            float dy = other.y - eye.y;
+                            float distSq = dx * dx + dy * dy;
+                            if (distSq <= radiusSq || (distSq <= outerSq && viewer.visible.contains(id))) {
+                                visible.add(id);
+                            }
+                        }
+                    }
+                }
+            }
+            viewer.visible = visible;
+
+            Set<Long> result = new HashSet<>(owned.size() + visible.size());
+            result.addAll(owned);
+            result.addAll(visible);
+            return result;
+        }
+
+        Map<Long, Double> distancesFrom(long playerId, Collection<Long> entityIds) {
+            List<Tracked> eyes = new ArrayList<>();
+            for (Long ownedId : ownedBy.getOrDefault(playerId, Set.of())) {
+                Tracked eye = entities.get(ownedId);
+                if (eye != null && eye.cell != NONE) {
+                    eyes.add(eye);
+                }
+            }
+            if (eyes.isEmpty()) {
+                return Map.of();
+            }
+
+            Map<Long, Double> distances = new HashMap<>(entityIds.size() * 2);
+            for (Long id : entityIds) {
+                Tracked other = entities.get(id);
+                if (other == null || other.cell == NONE) {
+                    continue;
+                }
+                double best = Double.MAX_VALUE;
+                for (Tracked eye : eyes) {
+                    double dx = other.x - eye.x;
+                    double dy = other.y - eye.y;
+                    best = Math.min(best, dx * dx + dy * dy);
+                }
+                distances.put(id, Math.sqrt(best));
+            }
+            return distances;
+        }
+
+        private void link(Map<Long, Set<Long>> buckets, long key, long entityId) {
+            if (key != NONE) {
+                buckets.computeIfAbsent(key, k -> new HashSet<>()).add(entityId);
+            }
+        }
+
+        private void unlink(Map<Long, Set<Long>> buckets, long key, long entityId) {
+            if (key == NONE) {
+                return;
+            }
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(entityId) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Index entry for one entity.
+     */
+    private static final class Tracked {
+        final long id;
+        long owner = NONE;
+        long cell = NONE;
+        float x;
+        float y;
+        long generation;
+
+        Tracked(long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Per-player view state used for hysteresis.
+     */
+    private static final class Viewer {
+        Set<Long> visible = Set.of();
+        long lastQueryNanos;
+    }
+
+    private record PositionComponents(BaseComponent x, BaseComponent y) {
+    }
+}
@@ -109,6 +109,8 @@ public class ArrayEntityComponentStore implements EntityComponentStore {
     @Override
     public void createEntity(long id) {
         allocateEntityRow(id);
+        // Generated IDs must never collide with explicitly created ones
+        nextEntityId.accumulateAndGet(id + 1, Math::max);
     }
 
     @Override
@@ -29,6 +29,7 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.Dirty
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Decorator that tracks dirty (modified/added/removed) entities per match.
@@ -50,6 +51,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * and clear the dirty state for a match. This should be called by the snapshot provider
  * before generating a snapshot.
  *
+ * <p><b>Change Versions:</b> Every mutation also bumps a per-match version number that
+ * is never cleared by consumption. Readers that only need to know <em>whether</em> a
+ * match changed (e.g. snapshot streams deciding whether to publish) can compare
+ * {@link #changeVersion(long)} against the last value they saw without disturbing
+ * the dirty sets used by the snapshot provider.
+ *
  * <p><b>Thread Safety:</b> Uses ConcurrentHashMap for thread-safe dirty tracking.
  * However, the delegate store must also be thread-safe for full thread safety.
  *
@@ -82,6 +89,9 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
     private final Map<Long, Set<Long>> addedEntitiesByMatch = new ConcurrentHashMap<>();
     private final Map<Long, Set<Long>> removedEntitiesByMatch = new ConcurrentHashMap<>();
 
+    // Monotonic per-match change counters, survive consumeDirtyInfo
+    private final Map<Long, AtomicLong> changeVersionByMatch = new ConcurrentHashMap<>();
+
     /**
      * Creates a dirty tracking decorator wrapping the given delegate store.
      *
@@ -151,6 +161,21 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
         );
     }
 
+    /**
+     * Returns the change version of a match.
+     *
+     * <p>The version increases every time an entity of the match is added, removed
+     * or modified, and is unaffected by {@link #consumeDirtyInfo(long)}. Two equal
+     * readings mean the match did not change in between.
+     *
+     * @param matchId the match to check
+     * @return the current change version, 0 if the match never changed
+     */
+    public long changeVersion(long matchId) {
+        AtomicLong version = changeVersionByMatch.get(matchId);
+        return version != null ? version.get() : 0L;
+    }
+
     /**
      * Clears all dirty tracking state.
      */
@@ -172,6 +197,7 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
             dirtyEntitiesByMatch
                     .computeIfAbsent(matchId, k -> ConcurrentHashMap.newKeySet())
                     .add(entityId);
+            bumpVersion(matchId);
         }
     }
 
@@ -185,6 +211,7 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
         addedEntitiesByMatch
                 .computeIfAbsent(matchId, k -> ConcurrentHashMap.newKeySet())
                 .add(entityId);
+        bumpVersion(matchId);
     }
 
     /**
@@ -197,6 +224,18 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
         removedEntitiesByMatch
                 .computeIfAbsent(matchId, k -> ConcurrentHashMap.newKeySet())
                 .add(entityId);
+        bumpVersion(matchId);
+    }
+
+    /**
+     * Increments the change version of a match.
+     *
+     * @param matchId the match that changed
+     */
+    private void bumpVersion(long matchId) {
+        changeVersionByMatch
+                .computeIfAbsent(matchId, k -> new AtomicLong())
+                .incrementAndGet();
     }
 
     // ==================== EntityComponentStore Implementation ====================
@@ -205,6 +244,8 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
     public void reset() {
         delegate.reset();
         clearDirtyState();
+        // Every match lost its entities; keep versions monotonic so readers notice
+        changeVersionByMatch.values().forEach(AtomicLong::incrementAndGet);
     }
 
     @Override
@@ -244,6 +285,9 @@ public class DirtyTrackingEntityComponentStore implements EntityComponentStore {
             // (i.e., it existed before this tracking interval)
             if (!wasAdded) {
                 markRemoved(matchId, id);
+            } else {
+                // Streams may already have published the transient entity
+                bumpVersion(matchId);
             }
         }
     }
@@ -25,11 +25,15 @@ package ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -41,28 +45,49 @@ import java.util.jar.JarFile;
 /**
  * Generic JAR file loader for factory implementations.
  *
- * <p>This class scans JAR files for classes implementing a specific factory interface
+ * <p>This class finds classes implementing a specific factory interface in JAR files
  * and provides methods to instantiate them. It abstracts the common JAR loading logic
  * used by both modules and AIs.
  *
+ * <p>A JAR that ships a {@code META-INF/services/<factory interface>} file, in
+ * {@link java.util.ServiceLoader} format, only has the classes it lists loaded. A JAR
+ * without one is scanned: every top-level class is loaded to check whether it is a
+ * factory, which runs the verifier over the whole module and is much slower for large JARs.
+ *
  * @param <FACTORY> the factory interface type to load
  */
 @Slf4j
 public class ModuleFactoryClassLoader<FACTORY> implements FactoryClassloader<FACTORY>, Closeable {
 
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+
     private final Class<FACTORY> factoryInterface;
     private final String factoryTypeName;
+    private final ClassLoader parentClassLoader;
     private final List<URLClassLoader> openClassLoaders = new CopyOnWriteArrayList<>();
 
     /**
-     * Create a new JAR factory loader.
+     * Create a new JAR factory loader whose JAR classloaders delegate to this class's loader.
      *
      * @param factoryInterface the factory interface class to search for
      * @param factoryTypeName human-readable name for logging (e.g., "ModuleFactory", "AIFactory")
      */
     public ModuleFactoryClassLoader(Class<FACTORY> factoryInterface, String factoryTypeName) {
+        this(factoryInterface, factoryTypeName, ModuleFactoryClassLoader.class.getClassLoader());
+    }
+
+    /**
+     * Create a new JAR factory loader.
+     *
+     * @param factoryInterface the factory interface class to search for
+     * @param factoryTypeName human-readable name for logging (e.g., "ModuleFactory", "AIFactory")
+     * @param parentClassLoader the parent of each JAR's classloader (e.g., a ContainerClassLoader)
+     */
+    public ModuleFactoryClassLoader(Class<FACTORY> factoryInterface, String factoryTypeName,
+                                    ClassLoader parentClassLoader) {
         this.factoryInterface = factoryInterface;
         this.factoryTypeName = factoryTypeName;
+        this.parentClassLoader = parentClassLoader;
     }
 
     /**
@@ -87,51 +112,131 @@ public class ModuleFactoryClassLoader<FACTORY> implements FactoryClassloader<FAC
         // instances may reference inner classes that need to be loaded later.
         // The classloader must remain open for the factory's lifetime.
         // Classloaders are tracked and closed when this loader is closed.
-        URLClassLoader classLoader = new URLClassLoader(new URL[]{jarUrl}, getClass().getClassLoader());
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{jarUrl}, parentClassLoader);
         openClassLoaders.add(classLoader);
 
+        for (Class<? extends FACTORY> factoryClass : findFactoryClasses(jarFile, classLoader)) {
+            newFactory(factoryClass).ifPresent(factories::add);
+        }
+        return factories;
+    }
+
+    /**
+     * Find the factory classes in a JAR without instantiating them.
+     *
+     * <p>Uses the JAR's service file if it has one and scans it otherwise.
+     *
+     * @param jarFile the JAR file
+     * @param classLoader the classloader that defines the JAR's classes
+     * @return the factory classes, in index or JAR order
+     * @throws IOException if the JAR file cannot be read
+     */
+    public List<Class<? extends FACTORY>> findFactoryClasses(File jarFile, ClassLoader classLoader) throws IOException {
+        List<Class<? extends FACTORY>> factoryClasses = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        boolean indexed;
         try (JarFile jar = new JarFile(jarFile)) {
-            Enumeration<JarEntry> entries = jar.entries();
+            Optional<List<String>> index = readIndex(jar);
+            indexed = index.isPresent();
+            List<String> classNames = index.orElseGet(() -> scanClassNames(jar));
+            for (String className : classNames) {
+                loadFactoryClass(classLoader, className, indexed).ifPresent(factoryClasses::add);
+            }
+        }
 
-            while (entries.hasMoreElements()) {
-                JarEntry entry = entries.nextElement();
-                String name = entry.getName();
+        log.info("Loaded {} {} implementations from {} by {} in {} ms", factoryClasses.size(), factoryTypeName,
+                jarFile.getName(), indexed ? "service index" : "full scan",
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return factoryClasses;
+    }
 
-                if (name.endsWith(".class") && !name.contains("$")) {
-                    String className = name.replace('/', '.').replace(".class", "");
-                    Optional<FACTORY> factory = tryLoadFactory(classLoader, className);
-                    factory.ifPresent(factories::add);
+    /**
+     * Instantiate a factory class through its no-arg constructor.
+     *
+     * @param factoryClass the factory class
+     * @return Optional containing the factory if successful
+     */
+    public Optional<FACTORY> newFactory(Class<? extends FACTORY> factoryClass) {
+        try {
+            return Optional.of(factoryClass.getDeclaredConstructor().newInstance());
+        } catch (NoSuchMethodException e) {
+            log.warn("{} {} does not have a no-arg constructor", factoryTypeName, factoryClass.getName());
+        } catch (Exception | LinkageError e) {
+            log.warn("Failed to instantiate {} {}: {}", factoryTypeName, factoryClass.getName(), e.toString());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Read the factory class names from the JAR's service file, if it has one.
+     *
+     * <p>The file is read from the JAR itself rather than through the classloader,
+     * so service files visible through the parent classloader are ignored.
+     */
+    private Optional<List<String>> readIndex(JarFile jar) throws IOException {
+        JarEntry entry = jar.getJarEntry(SERVICES_PREFIX + factoryInterface.getName());
+        if (entry == null) {
+            return Optional.empty();
+        }
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(jar.getInputStream(entry), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (!className.isEmpty() && !classNames.contains(className)) {
+                    classNames.add(className);
                 }
             }
         }
+        return Optional.of(classNames);
+    }
 
-        log.info("Loaded {} {} implementations from {}", factories.size(), factoryTypeName, jarFile.getName());
-        return factories;
+    /**
+     * List every top-level class in a JAR without a service file.
+     */
+    private List<String> scanClassNames(JarFile jar) {
+        log.debug("{} has no {} service file; scanning every class", jar.getName(), factoryTypeName);
+        List<String> classNames = new ArrayList<>();
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.endsWith(".class") && !name.contains("$") && !name.endsWith("module-info.class")) {
+                classNames.add(name.replace('/', '.').substring(0, name.length() - ".class".length()));
+            }
+        }
+        return classNames;
     }
 
     /**
-     * Try to load a class and instantiate it as a factory.
+     * Try to load a class and check that it is a concrete factory.
      *
      * @param classLoader the class loader to use
      * @param className the fully qualified class name
-     * @return Optional containing the factory if successful
+     * @param indexed whether the class was listed in the service file, so failing to load it is worth a warning
+     * @return Optional containing the factory class if it is one
      */
-    private Optional<FACTORY> tryLoadFactory(ClassLoader classLoader, String className) {
+    private Optional<Class<? extends FACTORY>> loadFactoryClass(ClassLoader classLoader, String className,
+                                                               boolean indexed) {
         try {
             Class<?> clazz = classLoader.loadClass(className);
 
-            if (factoryInterface.isAssignableFrom(clazz) && !clazz.isInterface()) {
-                @SuppressWarnings("unchecked")
-                FACTORY factory = (FACTORY) clazz.getDeclaredConstructor().newInstance();
+            if (factoryInterface.isAssignableFrom(clazz) && !clazz.isInterface()
+                    && !Modifier.isAbstract(clazz.getModifiers())) {
                 log.debug("Found {}: {}", factoryTypeName, className);
-                return Optional.of(factory);
+                return Optional.of(clazz.asSubclass(factoryInterface));
+            }
+            if (indexed) {
+                log.warn("{} lists {} as a {} but it does not implement {}", SERVICES_PREFIX,
+                        className, factoryTypeName, factoryInterface.getName());
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            if (indexed) {
+                log.warn("Could not load {} {} listed in the service file: {}", factoryTypeName, className, e.toString());
+            } else {
+                log.trace("Could not load class {}: {}", className, e.toString());
             }
-        } catch (ClassNotFoundException | NoClassDefFoundError e) {
-            log.trace("Class not found: {}", className);
-        } catch (NoSuchMethodException e) {
-            log.warn("{} {} does not have a no-arg constructor", factoryTypeName, className);
-        } catch (Exception e) {
-            log.warn("Failed to instantiate {} {}: {}", factoryTypeName, className, e.getMessage());
         }
 
         return Optional.empty();
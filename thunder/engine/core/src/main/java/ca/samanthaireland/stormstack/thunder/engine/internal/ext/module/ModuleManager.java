@@ -152,4 +152,16 @@ public interface ModuleManager extends ModuleResolver {
      * @return the resolved module if found and compatible, empty otherwise
      */
     Optional<EngineModule> getModule(ModuleIdentifier identifier);
+
+    /**
+     * Get a counter that changes whenever the set of installed modules changes.
+     *
+     * <p>Lets callers that copy modules elsewhere, such as pre-warmed containers,
+     * tell whether their copy is out of date.
+     *
+     * @return the current generation, or 0 if this manager does not track changes
+     */
+    default long getGeneration() {
+        return 0;
+    }
 }
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.ext.module;
+
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleFactory;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.ContainerClassLoader;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar.FactoryClassloader;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar.ModuleFactoryClassLoader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.ProtectionDomain;
+import java.util.Enumeration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-wide cache of module classes shared by every container.
+ *
+ * <p>Without it each container defines its own copy of every module class, so a node
+ * running many containers parses, verifies and JIT-compiles the same bytecode once per
+ * container. This cache defines each module JAR's classes once, in a classloader keyed
+ * by the SHA-256 of the JAR's content, and hands every container fresh factory instances
+ * created from those classes. Module instances, their stores and their tokens stay per
+ * container; only the classes, and so any static fields they declare, are shared.
+ *
+ * <p>A JAR is copied into the cache directory under its digest before it is loaded, so
+ * replacing the file in a container's module directory loads a new version next to the
+ * old one rather than changing classes under running containers. A version's classloader
+ * is only weakly held here: once no container references its factories or modules it
+ * can be unloaded, and when it is collected the JAR it read from is closed and its copy
+ * deleted. Copies left in the cache directory by an earlier process are deleted when the
+ * cache is created, so the directory must not be shared between nodes.
+ */
+@Slf4j
+public final class ModuleTemplateCache implements FactoryClassloader<ModuleFactory>, Closeable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Path cacheDirectory;
+    private final ClassLoader parentClassLoader;
+    private final ModuleFactoryClassLoader<ModuleFactory> discovery;
+
+    private final Map<String, WeakReference<TemplateClassLoader>> templates = new ConcurrentHashMap<>();
+    private final Map<FileKey, String> digests = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Create a template cache whose module classloaders delegate to this class's loader.
+     *
+     * @param cacheDirectory the directory that holds the content-addressed JAR copies
+     */
+    public ModuleTemplateCache(Path cacheDirectory) {
+        this(cacheDirectory, ModuleTemplateCache.class.getClassLoader());
+    }
+
+    /**
+     * Create a template cache.
+     *
+     * @param cacheDirectory the directory that holds the content-addressed JAR copies
+     * @param parentClassLoader the parent of each module version's classloader
+     */
+    public ModuleTemplateCache(Path cacheDirectory, ClassLoader parentClassLoader) {
+        this.cacheDirectory = cacheDirectory;
+        this.parentClassLoader = parentClassLoader;
+        this.discovery = new ModuleFactoryClassLoader<>(ModuleFactory.class, "ModuleFactory", parentClassLoader);
+        deleteCachedJars();
+    }
+
+    /**
+     * Create factories for the modules in a JAR, defining the JAR's classes only if
+     * no container has loaded the same content before.
+     *
+     * @param jarFile the JAR file to load
+     * @return new factory instances for the JAR's modules
+     * @throws IOException if the JAR file cannot be read or copied into the cache
+     */
+    @Override
+    public List<ModuleFactory> loadFactoriesFromJar(File jarFile) throws IOException {
+        List<ModuleFactory> factories = new ArrayList<>();
+
+        if (!jarFile.exists() || !jarFile.isFile() || !jarFile.getName().endsWith(".jar")) {
+            log.warn("Invalid JAR file: {}", jarFile);
+            return factories;
+        }
+
+        TemplateClassLoader template = templateFor(jarFile);
+        for (Class<? extends ModuleFactory> factoryClass : template.factoryClasses) {
+            discovery.newFactory(factoryClass).ifPresent(factories::add);
+        }
+        return factories;
+    }
+
+    /**
+     * Get the number of module versions whose classes are currently loaded.
+     *
+     * @return the number of live module versions
+     */
+    public int getTemplateCount() {
+        templates.values().removeIf(reference -> reference.get() == null);
+        return templates.size();
+    }
+
+    /**
+     * Get the number of JAR loads served by already defined classes.
+     *
+     * @return the cache hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of JAR loads that had to define the JAR's classes.
+     *
+     * @return the cache miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Close the classloaders of every cached module version and delete their JAR copies.
+     *
+     * <p>Factories and modules already handed out keep their classes, but any class
+     * they have not loaded yet can no longer be found.
+     */
+    @Override
+    public synchronized void close() {
+        for (WeakReference<TemplateClassLoader> reference : templates.values()) {
+            TemplateClassLoader template = reference.get();
+            if (template != null) {
+                closeJar(template.digest, template.jar);
+            }
+        }
+        templates.clear();
+        deleteCachedJars();
+    }
+
+    private TemplateClassLoader templateFor(File jarFile) throws IOException {
+        String digest = digestOf(jarFile);
+
+        Optional<TemplateClassLoader> cached = live(digest);
+        if (cached.isPresent()) {
+            hits.incrementAndGet();
+            return cached.get();
+        }
+
+        // Defining a version is rare; serializing it keeps two containers starting
+        // together from defining the same classes twice.
+        synchronized (this) {
+            cached = live(digest);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                return cached.get();
+            }
+
+            long startNanos = System.nanoTime();
+            Path cachedJar = copyIntoCache(jarFile.toPath(), digest);
+            TemplateClassLoader template = new TemplateClassLoader(digest, cachedJar.toUri().toURL(), parentClassLoader);
+            URLClassLoader jar = template.jar;
+            CLEANER.register(template, () -> evict(digest, jar));
+            template.factoryClasses = List.copyOf(discovery.findFactoryClasses(cachedJar.toFile(), template));
+            templates.put(digest, new WeakReference<>(template));
+            misses.incrementAndGet();
+
+            log.info("Defined module version {} from {} with {} factories in {} ms", digest.substring(0, 12),
+                    jarFile.getName(), template.factoryClasses.size(), (System.nanoTime() - startNanos) / 1_000_000);
+            return template;
+        }
+    }
+
+    /**
+     * Release a module version whose classloader was collected. Runs on the cleaner
+     * thread, so it must not reach the collected classloader itself.
+     */
+    private void evict(String digest, URLClassLoader jar) {
+        closeJar(digest, jar);
+        synchronized (this) {
+            // The same content may have been defined again since; its copy stays
+            if (live(digest).isEmpty()) {
+                templates.remove(digest);
+                deleteQuietly(cacheDirectory.resolve(digest + ".jar"));
+                log.debug("Unloaded module version {}", digest.substring(0, 12));
+            }
+        }
+    }
+
+    private static void closeJar(String digest, URLClassLoader jar) {
+        try {
+            jar.close();
+        } catch (IOException e) {
+            log.warn("Failed to close JAR of module version {}", digest, e);
+        }
+    }
+
+    private void deleteCachedJars() {
+        if (!Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory, "*.{jar,part}")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean module template directory {}", cacheDirectory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached module JAR {}", file, e);
+        }
+    }
+
+    private Optional<TemplateClassLoader> live(String digest) {
+        WeakReference<TemplateClassLoader> reference = templates.get(digest);
+        return Optional.ofNullable(reference == null ? null : reference.get());
+    }
+
+    /**
+     * Hash a JAR's content, reusing the previous hash while its size and modification time are unchanged.
+     */
+    private String digestOf(File jarFile) throws IOException {
+        Path path = jarFile.toPath().toAbsolutePath().normalize();
+        FileKey key = new FileKey(path, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+        String known = digests.get(key);
+        if (known != null) {
+            return known;
+        }
+
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                sha256.update(buffer, 0, read);
+            }
+        }
+
+        String digest = HexFormat.of().formatHex(sha256.digest());
+        digests.keySet().removeIf(existing -> existing.path().equals(path));
+        digests.put(key, digest);
+        return digest;
+    }
+
+    private Path copyIntoCache(Path jarFile, String digest) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path target = cacheDirectory.resolve(digest + ".jar");
+        if (!Files.exists(target)) {
+            Path partial = Files.createTempFile(cacheDirectory, digest, ".part");
+            Files.copy(jarFile, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return target;
+    }
+
+    private record FileKey(Path path, long size, long lastModifiedMillis) {
+    }
+
+    /**
+     * Classloader for one module version, holding the factory classes found in it.
+     *
+     * <p>Delegates like {@link ContainerClassLoader}: engine APIs and libraries come from
+     * the parent, everything else from the JAR first, so a module version is not shadowed
+     * by a copy of the same classes on the engine classpath.
+     *
+     * <p>The JAR is read through a separate loader that defines nothing, so the JAR can
+     * still be closed after this classloader has been collected.
+     */
+    private static final class TemplateClassLoader extends ClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        private final String digest;
+        private final URLClassLoader jar;
+        private final ProtectionDomain protectionDomain;
+        private List<Class<? extends ModuleFactory>> factoryClasses = List.of();
+
+        private TemplateClassLoader(String digest, URL jarUrl, ClassLoader parent) {
+            super("module-" + digest.substring(0, 12), parent);
+            this.digest = digest;
+            this.jar = new URLClassLoader(new URL[]{jarUrl}, null);
+            this.protectionDomain = new ProtectionDomain(new CodeSource(jarUrl, (CodeSigner[]) null), null, this, null);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (ContainerClassLoader.isParentFirst(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    try {
+                        c = findClass(name);
+                    } catch (ClassNotFoundException e) {
+                        c = getParent().loadClass(name);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+                return c;
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            String path = name.replace('.', '/') + ".class";
+            if (jar.findResource(path) == null) {
+                throw new ClassNotFoundException(name);
+            }
+            try (InputStream in = jar.getResourceAsStream(path)) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                byte[] bytes = in.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length, protectionDomain);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+        @Override
+        protected URL findResource(String name) {
+            return jar.findResource(name);
+        }
+
+        @Override
+        protected Enumeration<URL> findResources(String name) throws IOException {
+            return jar.findResources(name);
+        }
+    }
+}
@@ -38,22 +38,20 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.auth.module.ModuleA
 import ca.samanthaireland.stormstack.thunder.engine.internal.auth.module.ModulePermissionClaimBuilder;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.ModuleScopedStore;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar.FactoryClassloader;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar.ModuleFactoryClassLoader;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.jar.JarFile;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -72,9 +70,18 @@ public class OnDiskModuleManager implements ModuleManager {
     private final Map<String, ModuleFactory> factoryCache = new ConcurrentHashMap<>();
     private final Map<String, EngineModule> moduleCache = new ConcurrentHashMap<>();
     private final Map<String, ModuleScopedContext> moduleContextCache = new ConcurrentHashMap<>();
+    private final Map<String, List<BaseComponent>> declaredComponentsCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
 
     private boolean scanned = false;
 
+    /**
+     * Modules loaded by the scan in progress that still need a token, or null outside a scan.
+     * Tokens are issued once for the whole scan instead of after every module.
+     */
+    private List<String> pendingTokenModules;
+
     /**
      * Create an OnDiskModuleManager with a custom directory and factory classloader.
      *
@@ -116,14 +123,7 @@ public class OnDiskModuleManager implements ModuleManager {
             String scanDirectory,
             ClassLoader parentClassLoader) {
         this.scanDirectory = Path.of(scanDirectory);
-        this.factoryClassloader = new ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar.ModuleFactoryClassLoader<>(
-                ModuleFactory.class, "ModuleFactory") {
-            @Override
-            public List<ModuleFactory> loadFactoriesFromJar(File jarFile) throws IOException {
-                // Override to use the container's parent classloader
-                return loadFactoriesFromJarWithParent(jarFile, parentClassLoader);
-            }
-        };
+        this.factoryClassloader = new ModuleFactoryClassLoader<>(ModuleFactory.class, "ModuleFactory", parentClassLoader);
         this.moduleContext = moduleContext;
         this.permissionRegistry = permissionRegistry;
         this.sharedStore = moduleContext.getEntityComponentStore();
@@ -131,48 +131,6 @@ public class OnDiskModuleManager implements ModuleManager {
         log.info("OnDiskModuleManager initialized for container with custom classloader");
     }
 
-    /**
-     * Load module factories from a JAR using a custom parent classloader.
-     */
-    private static List<ModuleFactory> loadFactoriesFromJarWithParent(File jarFile, ClassLoader parentClassLoader) throws IOException {
-        List<ModuleFactory> factories = new ArrayList<>();
-
-        if (!jarFile.exists() || !jarFile.isFile() || !jarFile.getName().endsWith(".jar")) {
-            log.warn("Invalid JAR file: {}", jarFile);
-            return factories;
-        }
-
-        URL jarUrl = jarFile.toURI().toURL();
-        URLClassLoader classLoader = new URLClassLoader(new URL[]{jarUrl}, parentClassLoader);
-
-        try (JarFile jar = new JarFile(jarFile)) {
-            Enumeration<java.util.jar.JarEntry> entries = jar.entries();
-
-            while (entries.hasMoreElements()) {
-                java.util.jar.JarEntry entry = entries.nextElement();
-                String name = entry.getName();
-
-                if (name.endsWith(".class") && !name.contains("$")) {
-                    String className = name.replace('/', '.').replace(".class", "");
-                    try {
-                        Class<?> clazz = classLoader.loadClass(className);
-                        if (ModuleFactory.class.isAssignableFrom(clazz) && !clazz.isInterface()) {
-                            @SuppressWarnings("unchecked")
-                            ModuleFactory factory = (ModuleFactory) clazz.getDeclaredConstructor().newInstance();
-                            factories.add(factory);
-                            log.debug("Found ModuleFactory: {}", className);
-                        }
-                    } catch (Exception e) {
-                        log.trace("Could not load class {}: {}", className, e.getMessage());
-                    }
-                }
-            }
-        }
-
-        log.info("Loaded {} ModuleFactory implementations from {}", factories.size(), jarFile.getName());
-        return factories;
-    }
-
     /**
      * Scan the JAR directory for ModuleFactory implementations.
      *
@@ -197,9 +155,14 @@ public class OnDiskModuleManager implements ModuleManager {
             return;
         }
 
+        pendingTokenModules = new ArrayList<>();
         try (Stream<Path> paths = Files.list(scanDirectory)) {
             paths.filter(path -> path.toString().endsWith(".jar"))
                     .forEach(this::loadJarFile);
+        } finally {
+            List<String> loaded = pendingTokenModules;
+            pendingTokenModules = null;
+            issueTokens(loaded);
         }
 
         scanned = true;
@@ -279,25 +242,6 @@ public class OnDiskModuleManager implements ModuleManager {
                 }
             }
 
-            // Build JWT permission claims
-            Map<String, ModuleAuthToken.ComponentPermission> componentPermissions =
-                    ModulePermissionClaimBuilder.forModule(moduleName)
-                            .withOwnComponents(declaredComponents)
-                            .withAccessibleComponentsFrom(moduleCache.values())
-                            .build();
-
-            // Issue JWT token for this module
-            // EntityModule gets superuser privileges to attach FLAG components during spawn
-            boolean isSuperuser = ENTITY_MODULE_NAME.equals(moduleName);
-            ModuleAuthToken authToken = isSuperuser
-                    ? authService.issueSuperuserToken(moduleName, componentPermissions)
-                    : authService.issueRegularToken(moduleName, componentPermissions);
-
-            // Create the final scoped store with the JWT token
-            ModuleScopedStore finalStore = ModuleScopedStore.create(
-                    sharedStore, permissionRegistry, authToken);
-            moduleScopedContext.setModuleScopedStore(finalStore);
-
             // Register module exports in the shared context
             List<ModuleExports> exports = module.getExports();
             if (exports != null) {
@@ -318,74 +262,74 @@ public class OnDiskModuleManager implements ModuleManager {
             factoryCache.put(moduleName, factory);
             moduleCache.put(moduleName, module);
             moduleContextCache.put(moduleName, moduleScopedContext);
+            declaredComponentsCache.put(moduleName, List.copyOf(declaredComponents));
+            generation.incrementAndGet();
             log.info("Registered and initialized module: {} from {} with {} components",
                     moduleName, source, declaredComponents.size());
 
-            // Refresh tokens for all existing modules so they can access the new module's components
-            refreshExistingModuleTokens(moduleName);
+            if (pendingTokenModules != null) {
+                pendingTokenModules.add(moduleName);
+            } else {
+                issueTokens(List.of(moduleName));
+            }
         } catch (Exception e) {
             log.error("Failed to initialize module from factory: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Refresh JWT tokens for all existing modules after a new module is installed.
+     * Issue JWT tokens for newly loaded modules and refresh every other module's token.
      *
-     * <p>When a new module is installed, existing modules may need access to its
-     * components (if they have READ or WRITE permission level). This method
-     * re-issues JWT tokens for all existing modules with updated permission claims.
+     * <p>Existing modules may need access to the new modules' components (if they have
+     * READ or WRITE permission level), so every loaded module gets a token built from the
+     * current set of modules. Claims are built from the components cached when each module
+     * was initialized rather than asking the modules to create them again.
      *
-     * @param newModuleName the name of the newly installed module (to skip it)
+     * @param newModuleNames the names of the modules that do not have a token yet
      */
-    private void refreshExistingModuleTokens(String newModuleName) {
-        for (Map.Entry<String, ModuleScopedContext> entry : moduleContextCache.entrySet()) {
-            String existingModuleName = entry.getKey();
-
-            // Skip the newly installed module (its token is already up-to-date)
-            if (existingModuleName.equals(newModuleName)) {
-                continue;
-            }
-
-            ModuleScopedContext existingContext = entry.getValue();
-            EngineModule existingModule = moduleCache.get(existingModuleName);
-
-            if (existingModule == null || existingContext == null) {
-                continue;
-            }
-
-            // Get the existing module's current token
-            ModuleScopedStore existingStore = existingContext.getModuleScopedStore();
-            ModuleAuthToken existingToken = existingStore.getAuthToken();
+    private void issueTokens(List<String> newModuleNames) {
+        if (newModuleNames.isEmpty()) {
+            return;
+        }
 
-            // Get the existing module's components
-            List<BaseComponent> declaredComponents = new ArrayList<>();
-            BaseComponent flagComponent = existingModule.createFlagComponent();
-            if (flagComponent != null) {
-                declaredComponents.add(flagComponent);
-            }
-            List<BaseComponent> moduleComponents = existingModule.createComponents();
-            if (moduleComponents != null) {
-                declaredComponents.addAll(moduleComponents);
+        for (Map.Entry<String, ModuleScopedContext> entry : moduleContextCache.entrySet()) {
+            String moduleName = entry.getKey();
+            ModuleScopedContext context = entry.getValue();
+            Map<String, ModuleAuthToken.ComponentPermission> componentPermissions = buildClaims(moduleName);
+
+            ModuleAuthToken authToken;
+            if (newModuleNames.contains(moduleName)) {
+                // EntityModule gets superuser privileges to attach FLAG components during spawn
+                authToken = ENTITY_MODULE_NAME.equals(moduleName)
+                        ? authService.issueSuperuserToken(moduleName, componentPermissions)
+                        : authService.issueRegularToken(moduleName, componentPermissions);
+            } else {
+                // Refresh the JWT token using the auth service (preserves superuser status)
+                authToken = authService.refreshToken(
+                        context.getModuleScopedStore().getAuthToken(), componentPermissions);
             }
 
-            // Rebuild JWT permission claims with access to all currently loaded modules
-            Map<String, ModuleAuthToken.ComponentPermission> componentPermissions =
-                    ModulePermissionClaimBuilder.forModule(existingModuleName)
-                            .withOwnComponents(declaredComponents)
-                            .withAccessibleComponentsFrom(moduleCache.values())
-                            .build();
-
-            // Refresh the JWT token using the auth service (preserves superuser status)
-            ModuleAuthToken newAuthToken = authService.refreshToken(existingToken, componentPermissions);
-
             // Update the module's scoped store with the new token
-            ModuleScopedStore newStore = ModuleScopedStore.create(
-                    sharedStore, permissionRegistry, newAuthToken);
-            existingContext.setModuleScopedStore(newStore);
+            context.setModuleScopedStore(ModuleScopedStore.create(sharedStore, permissionRegistry, authToken));
+        }
 
-            log.debug("Refreshed JWT token for module {} with access to new module {}",
-                    existingModuleName, newModuleName);
+        log.debug("Issued JWT tokens for {} and refreshed {} other modules",
+                newModuleNames, moduleContextCache.size() - newModuleNames.size());
+    }
+
+    /**
+     * Build a module's JWT permission claims against all currently loaded modules.
+     *
+     * @param moduleName the module to build claims for
+     * @return the module's permission claims
+     */
+    private Map<String, ModuleAuthToken.ComponentPermission> buildClaims(String moduleName) {
+        ModulePermissionClaimBuilder builder = ModulePermissionClaimBuilder.forModule(moduleName)
+                .withOwnComponents(declaredComponentsCache.getOrDefault(moduleName, List.of()));
+        for (Map.Entry<String, List<BaseComponent>> entry : declaredComponentsCache.entrySet()) {
+            builder.withAccessibleComponents(entry.getKey(), entry.getValue());
         }
+        return builder.build();
     }
 
     @Override
@@ -476,7 +420,9 @@ public class OnDiskModuleManager implements ModuleManager {
         factoryCache.clear();
         moduleCache.clear();
         moduleContextCache.clear();
+        declaredComponentsCache.clear();
         permissionRegistry.clear();
+        generation.incrementAndGet();
         scanned = false;
         log.info("Module resolver reset");
     }
@@ -537,8 +483,11 @@ public class OnDiskModuleManager implements ModuleManager {
 
         ModuleFactory removed = factoryCache.remove(moduleName);
         moduleCache.remove(moduleName);
+        moduleContextCache.remove(moduleName);
+        declaredComponentsCache.remove(moduleName);
 
         if (removed != null) {
+            generation.incrementAndGet();
             log.info("Uninstalled module: {}", moduleName);
             return true;
         }
@@ -578,10 +527,16 @@ public class OnDiskModuleManager implements ModuleManager {
         }
 
         moduleCache.put(moduleName, module);
+        generation.incrementAndGet();
         log.info("Registered compound module: {} with {} components",
                 moduleName, module.getComponentModules().size());
     }
 
+    @Override
+    public long getGeneration() {
+        return generation.get();
+    }
+
     @Override
     public Optional<EngineModule> getModule(ModuleIdentifier identifier) {
         ensureScanned();
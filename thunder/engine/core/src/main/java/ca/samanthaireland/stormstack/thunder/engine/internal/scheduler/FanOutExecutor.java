@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, node-wide executor for fire-and-forget notifications.
+ *
+ * <p>Tick listeners and error subscribers used to get a cached thread pool per
+ * game loop or broadcaster, which grows a thread for every slow listener. These
+ * shared pools have a fixed number of threads and a bounded queue; when the
+ * queue is full the notification is dropped and counted rather than blocking
+ * the tick that published it.
+ */
+@Slf4j
+public final class FanOutExecutor implements Executor {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private final String name;
+    private final ThreadPoolExecutor pool;
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Create a bounded executor.
+     *
+     * @param name the name used for the executor's threads
+     * @param threads the number of threads
+     * @param queueCapacity the maximum number of queued notifications
+     */
+    public FanOutExecutor(String name, int threads, int queueCapacity) {
+        this.name = name;
+        AtomicInteger index = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, name + "-" + index.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the shared executor for tick listener notifications.
+     *
+     * @return the tick listener executor
+     */
+    public static FanOutExecutor tickListeners() {
+        return Shared.TICK_LISTENERS;
+    }
+
+    /**
+     * Get the shared executor for error subscriber notifications.
+     *
+     * @return the error executor
+     */
+    public static FanOutExecutor errors() {
+        return Shared.ERRORS;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tryExecute(task);
+    }
+
+    /**
+     * Submit a notification, reporting whether it was accepted.
+     *
+     * <p>Callers that track their own in-flight task, such as
+     * {@link SubscriberMailbox}, use this to learn that the task was dropped.
+     *
+     * @param task the notification to run
+     * @return true if the task was queued, false if it was dropped
+     */
+    public boolean tryExecute(Runnable task) {
+        try {
+            pool.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (dropped.incrementAndGet() % 1_000 == 1) {
+                log.warn("Fan-out executor '{}' saturated, {} notifications dropped so far", name, dropped.get());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of notifications dropped because the queue was full.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Get the number of queued notifications.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return pool.getQueue().size();
+    }
+
+    /**
+     * Get the executor name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    private static final class Shared {
+        private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        private static final FanOutExecutor TICK_LISTENERS =
+                new FanOutExecutor("tick-listener", THREADS, DEFAULT_QUEUE_CAPACITY);
+        private static final FanOutExecutor ERRORS =
+                new FanOutExecutor("error-broadcast", THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+}
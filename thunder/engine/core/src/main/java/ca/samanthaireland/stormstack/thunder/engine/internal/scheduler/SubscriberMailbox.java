@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded, batching queue between a publisher and one subscriber.
+ *
+ * <p>Publishing to a subscriber used to submit one task per event, so a busy
+ * tick queued a task per listener per tick and a slow listener filled the
+ * shared {@link FanOutExecutor} for everyone. A mailbox instead queues the
+ * event on a non-blocking queue and schedules a single drain task when the
+ * subscriber goes from idle to busy. The drain task hands everything queued so
+ * far to the subscriber as one batch, in publish order, so a subscriber never
+ * has more than one task in flight and never sees events concurrently.
+ *
+ * <p>Each mailbox holds at most {@code capacity} undelivered events; further
+ * events are dropped and counted. With a coalescing key, an event equal by key
+ * to one that is still undelivered is merged into it instead of taking a slot,
+ * so a burst of identical events costs one slot.
+ *
+ * @param <T> the event type
+ */
+@Slf4j
+public final class SubscriberMailbox<T> {
+
+    private final String name;
+    private final FanOutExecutor executor;
+    private final int capacity;
+    private final Consumer<List<T>> subscriber;
+    private final Function<? super T, ?> coalesceKey;
+    private final BinaryOperator<T> merge;
+
+    private final Queue<Slot<T>> queue = new ConcurrentLinkedQueue<>();
+    private final Map<Object, Slot<T>> pending;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong overflow = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Create a mailbox that delivers every event.
+     *
+     * @param name the subscriber name used in logs
+     * @param executor the executor drain tasks run on
+     * @param capacity the maximum number of undelivered events
+     * @param subscriber receives each batch of events
+     */
+    public SubscriberMailbox(String name, FanOutExecutor executor, int capacity, Consumer<List<T>> subscriber) {
+        this(name, executor, capacity, subscriber, null, null);
+    }
+
+    /**
+     * Create a mailbox that merges undelivered events with the same key.
+     *
+     * @param name the subscriber name used in logs
+     * @param executor the executor drain tasks run on
+     * @param capacity the maximum number of undelivered events
+     * @param subscriber receives each batch of events
+     * @param coalesceKey extracts the key events are merged by, or null to never merge
+     * @param merge combines the undelivered event with a new one of the same key
+     */
+    public SubscriberMailbox(String name, FanOutExecutor executor, int capacity, Consumer<List<T>> subscriber,
+                             Function<? super T, ?> coalesceKey, BinaryOperator<T> merge) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if ((coalesceKey == null) != (merge == null)) {
+            throw new IllegalArgumentException("coalesceKey and merge must be given together");
+        }
+        this.name = name;
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.capacity = capacity;
+        this.subscriber = Objects.requireNonNull(subscriber, "subscriber must not be null");
+        this.coalesceKey = coalesceKey;
+        this.merge = merge;
+        this.pending = coalesceKey != null ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Queue an event and schedule delivery.
+     *
+     * @param event the event
+     * @return false if the mailbox was full or closed and the event was dropped
+     */
+    public boolean offer(T event) {
+        boolean accepted = enqueue(event);
+        schedule();
+        return accepted;
+    }
+
+    /**
+     * Queue several events and schedule a single delivery for all of them.
+     *
+     * @param events the events, in publish order
+     * @return the number of events dropped because the mailbox was full or closed
+     */
+    public int offerAll(Collection<? extends T> events) {
+        int droppedEvents = 0;
+        for (T event : events) {
+            if (!enqueue(event)) {
+                droppedEvents++;
+            }
+        }
+        schedule();
+        return droppedEvents;
+    }
+
+    private boolean enqueue(T event) {
+        if (closed) {
+            return false;
+        }
+        if (pending == null) {
+            if (!reserve()) {
+                return false;
+            }
+            queue.offer(new Slot<>(null, event));
+            return true;
+        }
+        boolean[] accepted = {true};
+        pending.compute(coalesceKey.apply(event), (key, slot) -> {
+            if (slot != null) {
+                slot.event = merge.apply(slot.event, event);
+                coalesced.incrementAndGet();
+                return slot;
+            }
+            if (!reserve()) {
+                accepted[0] = false;
+                return null;
+            }
+            Slot<T> added = new Slot<>(key, event);
+            queue.offer(added);
+            return added;
+        });
+        return accepted[0];
+    }
+
+    private boolean reserve() {
+        if (size.incrementAndGet() <= capacity) {
+            return true;
+        }
+        size.decrementAndGet();
+        if (overflow.incrementAndGet() % 1_000 == 1) {
+            log.warn("Subscriber '{}' is not keeping up, {} events dropped so far", name, overflow.get());
+        }
+        return false;
+    }
+
+    private void schedule() {
+        if (closed || queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (!executor.tryExecute(this::drain)) {
+            // Events stay queued; the next offer tries to schedule again
+            scheduled.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            List<T> batch = new ArrayList<>(Math.min(size.get(), capacity));
+            Slot<T> slot;
+            while (batch.size() < capacity && (slot = queue.poll()) != null) {
+                size.decrementAndGet();
+                if (pending != null) {
+                    // Detach first so later merges start a new slot instead of mutating this one
+                    pending.remove(slot.key, slot);
+                }
+                batch.add(slot.event);
+            }
+            if (!batch.isEmpty() && !closed) {
+                deliver(batch);
+            }
+        } finally {
+            scheduled.set(false);
+            schedule();
+        }
+    }
+
+    private void deliver(List<T> batch) {
+        try {
+            subscriber.accept(batch);
+            delivered.addAndGet(batch.size());
+        } catch (Exception e) {
+            log.error("Error delivering {} events to subscriber '{}'", batch.size(), name, e);
+        }
+    }
+
+    /**
+     * Stop accepting and delivering events and discard anything queued.
+     */
+    public void close() {
+        closed = true;
+        queue.clear();
+        if (pending != null) {
+            pending.clear();
+        }
+        size.set(0);
+    }
+
+    /**
+     * Get the number of events dropped because the mailbox was full.
+     *
+     * @return the overflow count
+     */
+    public long getOverflowCount() {
+        return overflow.get();
+    }
+
+    /**
+     * Get the number of events merged into an undelivered event.
+     *
+     * @return the coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Get the number of events handed to the subscriber.
+     *
+     * @return the delivered count
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Get the number of undelivered events.
+     *
+     * @return the queued event count
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Get the subscriber name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    private static final class Slot<T> {
+        private final Object key;
+        private volatile T event;
+
+        private Slot(Object key, T event) {
+            this.key = key;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serial execution lane on a {@link TickScheduler}.
+ *
+ * <p>Tasks submitted to a lane run one at a time and in submission order, but
+ * not on a dedicated thread: whenever the lane has work it queues itself for the
+ * scheduler's workers with the deadline of its oldest task, runs that one task,
+ * and queues itself again. A task that throws is logged and does not stop the
+ * lane.
+ *
+ * <p>{@link #scheduleAt} starts a task at an exact time: the scheduler's timer
+ * thread times the start and only then queues the task, so no worker is held
+ * waiting for it.
+ */
+@Slf4j
+public final class TickLane implements Executor {
+
+    private final TickScheduler scheduler;
+    private final String name;
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatched = new AtomicBoolean();
+    private final Object idleLock = new Object();
+    private int pending;
+    private volatile Thread runner;
+    private volatile boolean closed;
+
+    TickLane(TickScheduler scheduler, String name) {
+        this.scheduler = scheduler;
+        this.name = name;
+    }
+
+    /**
+     * Run a task as soon as possible.
+     *
+     * @param task the task
+     * @throws RejectedExecutionException if the lane is closed
+     */
+    @Override
+    public void execute(Runnable task) {
+        execute(task, System.nanoTime());
+    }
+
+    /**
+     * Run a task, competing for a worker with the given deadline.
+     *
+     * @param task the task
+     * @param deadlineNanos the {@link System#nanoTime()} by which the task should have started
+     * @throws RejectedExecutionException if the lane is closed
+     */
+    public void execute(Runnable task, long deadlineNanos) {
+        if (closed || scheduler.isShutdown()) {
+            throw new RejectedExecutionException("Lane '" + name + "' is closed");
+        }
+        synchronized (idleLock) {
+            pending++;
+        }
+        tasks.add(new Task(task, deadlineNanos));
+        tryDispatch();
+    }
+
+    /**
+     * Run a task once, starting it as close to the given time as the worker can manage.
+     *
+     * <p>The task is handed to a worker when the scheduler's timer thread wakes for
+     * {@code startNanos}: within the platform's park latency, or a few microseconds
+     * when the scheduler spins.
+     *
+     * @param task the task
+     * @param startNanos the {@link System#nanoTime()} at which to start the task
+     * @return a handle that cancels the task if it has not started
+     * @throws RejectedExecutionException if the lane is closed
+     */
+    public Cancellable scheduleAt(Runnable task, long startNanos) {
+        if (closed) {
+            throw new RejectedExecutionException("Lane '" + name + "' is closed");
+        }
+        OneShot oneShot = new OneShot(task);
+        if (startNanos - System.nanoTime() <= 0) {
+            execute(oneShot::run, startNanos);
+        } else {
+            oneShot.timer = scheduler.schedulePrecise(this, startNanos, oneShot::run);
+        }
+        return oneShot;
+    }
+
+    /**
+     * Check whether the calling thread is currently running a task of this lane.
+     *
+     * <p>A task that waits for other work on its own lane would wait forever, so
+     * callers that block on lane work use this to run it inline instead.
+     *
+     * @return true if called from inside one of this lane's tasks
+     */
+    public boolean isCurrentThreadInLane() {
+        return runner == Thread.currentThread();
+    }
+
+    /**
+     * Stop accepting tasks. Tasks already queued still run.
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            scheduler.laneClosed();
+        }
+    }
+
+    /**
+     * Close the lane, discard queued tasks and interrupt the running task, if any.
+     *
+     * <p>Discarded tasks that are {@link Future}s are cancelled so nobody waits on them forever.
+     */
+    public void closeNow() {
+        close();
+        Task discarded;
+        while ((discarded = tasks.poll()) != null) {
+            if (discarded.runnable() instanceof Future<?> future) {
+                future.cancel(false);
+            }
+            completed();
+        }
+        Thread current = runner;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * Wait until every submitted task has finished.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if the lane became idle in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (idleLock) {
+            while (pending > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(idleLock, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Check whether the lane has been closed.
+     *
+     * @return true if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Get the lane name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    void fire(TickScheduler.Timer timer) {
+        try {
+            execute(timer.task, timer.deadlineNanos);
+        } catch (RejectedExecutionException e) {
+            log.debug("Dropped timer for closed lane '{}'", name);
+        }
+    }
+
+    /**
+     * Run the oldest task; called by a scheduler worker.
+     */
+    void runNext() {
+        Task task = tasks.poll();
+        if (task != null) {
+            runner = Thread.currentThread();
+            try {
+                task.runnable().run();
+            } catch (Throwable t) {
+                log.error("Error in lane '{}': {}", name, t.getMessage(), t);
+            } finally {
+                runner = null;
+                // Do not leak an interrupt aimed at this lane into the next lane's task
+                Thread.interrupted();
+                completed();
+            }
+        }
+        dispatched.set(false);
+        tryDispatch();
+    }
+
+    private void tryDispatch() {
+        while (!tasks.isEmpty() && dispatched.compareAndSet(false, true)) {
+            Task head = tasks.peek();
+            if (head != null) {
+                try {
+                    scheduler.dispatch(this, head.deadlineNanos());
+                } catch (RejectedExecutionException e) {
+                    dispatched.set(false);
+                    throw e;
+                }
+                return;
+            }
+            // Drained by closeNow between the checks
+            dispatched.set(false);
+        }
+    }
+
+    private void completed() {
+        synchronized (idleLock) {
+            if (--pending == 0) {
+                idleLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Handle for a scheduled start.
+     */
+    public interface Cancellable {
+
+        /**
+         * Stop the task from starting; a run already in progress completes.
+         */
+        void cancel();
+
+        /**
+         * Check whether the task was cancelled.
+         *
+         * @return true if cancelled
+         */
+        boolean isCancelled();
+    }
+
+    private record Task(Runnable runnable, long deadlineNanos) {
+    }
+
+    private static final class OneShot implements Cancellable {
+        private final Runnable task;
+        private volatile TickScheduler.Timer timer;
+        private volatile boolean cancelled;
+
+        OneShot(Runnable task) {
+            this.task = task;
+        }
+
+        void run() {
+            if (!cancelled) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            TickScheduler.Timer current = timer;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Node-wide scheduler that runs the ticks of every container on a fixed pool of
+ * worker threads.
+ *
+ * <p>Tick starts are timed by a single timer thread, so thousands of
+ * auto-advancing containers cost one timer thread plus the worker pool rather
+ * than a thread each. Work is submitted through {@link TickLane}s:
+ * each lane runs its tasks one at a time and in submission order, which gives a
+ * container the same serialization a single-threaded executor did. Lanes compete
+ * for workers by deadline, so the container whose tick is most overdue runs
+ * first and a busy container cannot starve the others.
+ *
+ * <p>Armed starts live on a hashed timing wheel with one-millisecond slots, so
+ * arming one costs the same however many containers are waiting. When a slot
+ * comes up, its starts move to a small deadline-ordered queue, and the timer
+ * thread hands each task to its lane exactly when due, so workers never wait for
+ * a start time. The thread parks until the next slot with starts or the earliest
+ * due start, then spins through the final stretch of the spin window (200 microseconds by
+ * default); with no starts armed it parks indefinitely.
+ *
+ * <p>Ticks are CPU-bound, so the default pool is sized to the available cores.
+ * A task that blocks holds a worker for its duration.
+ */
+@Slf4j
+public final class TickScheduler {
+
+    /** Spin window used unless one is given: parking alone can wake a start tens of microseconds late. */
+    public static final long DEFAULT_SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private static final long DEFAULT_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final String name;
+    private final ThreadPoolExecutor workers;
+    private final Thread precisionThread;
+    private final long spinNanos;
+    private final long resolutionNanos;
+    private final long startNanos;
+    private final Queue<Timer> pendingTimers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong dispatchSequence = new AtomicLong();
+    private final AtomicInteger laneCount = new AtomicInteger();
+    private volatile boolean running = true;
+
+    // Only touched by the timer thread
+    private final Queue<Timer>[] wheel;
+    private final int wheelMask;
+    private final PriorityQueue<Timer> dueTimers = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.deadlineNanos - b.deadlineNanos, 0));
+    private long wheelTick;
+    private int wheelTimers;
+
+    // What the timer thread is parked for, so arming a start only wakes it when needed
+    private volatile boolean parkedIdle;
+    private volatile long parkedUntilNanos;
+
+    /**
+     * Create a scheduler with one worker per available core and the default spin window.
+     *
+     * @param name the name used for the scheduler's threads
+     */
+    public TickScheduler(String name) {
+        this(name, defaultWorkerCount());
+    }
+
+    /**
+     * Create a scheduler with a fixed number of workers and the default spin window.
+     *
+     * @param name the name used for the scheduler's threads
+     * @param workerCount the number of worker threads
+     * @see #DEFAULT_SPIN_NANOS
+     */
+    public TickScheduler(String name, int workerCount) {
+        this(name, workerCount, DEFAULT_SPIN_NANOS);
+    }
+
+    /**
+     * Create a scheduler with a fixed number of workers and a precision spin window.
+     *
+     * <p>With a positive spin window the timer thread busy-waits through the last
+     * {@code spinNanos} before each precise start instead of parking, trading one core's
+     * worth of spinning for start times within a few microseconds. Zero disables spinning.
+     *
+     * @param name the name used for the scheduler's threads
+     * @param workerCount the number of worker threads
+     * @param spinNanos how long before a precise start to stop parking and spin; 0 to never spin
+     */
+    public TickScheduler(String name, int workerCount, long spinNanos) {
+        this(name, workerCount, DEFAULT_RESOLUTION_NANOS, DEFAULT_WHEEL_SIZE, spinNanos);
+    }
+
+    @SuppressWarnings("unchecked")
+    TickScheduler(String name, int workerCount, long resolutionNanos, int wheelSize, long spinNanos) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive, got: " + workerCount);
+        }
+        if (spinNanos < 0) {
+            throw new IllegalArgumentException("spinNanos must not be negative, got: " + spinNanos);
+        }
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two, got: " + wheelSize);
+        }
+        this.name = name;
+        this.spinNanos = spinNanos;
+        this.resolutionNanos = resolutionNanos;
+        this.wheel = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.wheelMask = wheelSize - 1;
+        this.startNanos = System.nanoTime();
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        // Dispatches are Comparable by deadline, so the queue hands out the most overdue lane first
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, name + "-worker-" + workerIndex.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.workers.prestartAllCoreThreads();
+
+        this.precisionThread = new Thread(this::runPrecision, name + "-precise");
+        this.precisionThread.setDaemon(true);
+        this.precisionThread.start();
+        log.info("Tick scheduler '{}' started with {} workers", name, workerCount);
+    }
+
+    /**
+     * Get the default worker count: one per available core, and at least two.
+     *
+     * @return the default worker count
+     */
+    public static int defaultWorkerCount() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Get the scheduler shared by containers created without an explicit one.
+     *
+     * @return the shared scheduler
+     */
+    public static TickScheduler shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Create a lane whose tasks run one at a time, in submission order.
+     *
+     * @param laneName the lane name, used in log messages
+     * @return the new lane
+     */
+    public TickLane newLane(String laneName) {
+        laneCount.incrementAndGet();
+        return new TickLane(this, laneName);
+    }
+
+    /**
+     * Get the number of worker threads.
+     *
+     * @return the worker count
+     */
+    public int getWorkerCount() {
+        return workers.getCorePoolSize();
+    }
+
+    /**
+     * Get how long before each start the timer thread stops parking and spins.
+     *
+     * @return the spin window in nanoseconds; 0 if the scheduler never spins
+     */
+    public long getSpinNanos() {
+        return spinNanos;
+    }
+
+    /**
+     * Get the number of lanes that have not been closed.
+     *
+     * @return the open lane count
+     */
+    public int getLaneCount() {
+        return laneCount.get();
+    }
+
+    /**
+     * Get the number of lanes waiting for a worker.
+     *
+     * @return the ready lane count
+     */
+    public int getReadyLaneCount() {
+        return workers.getQueue().size();
+    }
+
+    /**
+     * Stop the timer and worker threads. Lanes reject work afterwards.
+     *
+     * @param timeout the maximum time to wait for running tasks
+     * @param unit the time unit of the timeout
+     * @return true if all workers terminated in time
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        running = false;
+        LockSupport.unpark(precisionThread);
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeout, unit)) {
+                workers.shutdownNow();
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Check whether the scheduler has been shut down.
+     *
+     * @return true if shut down
+     */
+    public boolean isShutdown() {
+        return !running;
+    }
+
+    void laneClosed() {
+        laneCount.decrementAndGet();
+    }
+
+    /**
+     * Hand a ready lane to the worker pool, ordered by the deadline of its next task.
+     */
+    void dispatch(TickLane lane, long deadlineNanos) {
+        workers.execute(new Dispatch(lane, deadlineNanos, dispatchSequence.getAndIncrement()));
+    }
+
+    /**
+     * Arm a one-shot timer that hands the task to the lane as close to the deadline as
+     * parking (or spinning, if enabled) allows.
+     */
+    Timer schedulePrecise(TickLane lane, long deadlineNanos, Runnable task) {
+        Timer timer = new Timer(lane, deadlineNanos, task);
+        pendingTimers.add(timer);
+        if (parkedIdle || deadlineNanos - spinNanos - parkedUntilNanos < 0) {
+            // The timer thread would sleep past this start
+            LockSupport.unpark(precisionThread);
+        }
+        return timer;
+    }
+
+    private void runPrecision() {
+        while (running) {
+            long now = System.nanoTime();
+            if (wheelTimers == 0) {
+                // Nothing on the wheel: skip the idle slots instead of walking them
+                wheelTick = Math.max(wheelTick, slotOf(now + spinNanos) + 1);
+            }
+            transferPendingTimers();
+            expireSlots(now);
+
+            Timer head = dueTimers.peek();
+            if (head != null && head.cancelled) {
+                dueTimers.poll();
+            } else if (head != null && head.deadlineNanos - now <= 0) {
+                dueTimers.poll();
+                head.lane.fire(head);
+            } else if (head != null && head.deadlineNanos - now <= spinNanos) {
+                Thread.onSpinWait();
+            } else {
+                park(now, head);
+            }
+        }
+        log.debug("Tick scheduler '{}' timer thread stopped", name);
+    }
+
+    private void transferPendingTimers() {
+        Timer timer;
+        while ((timer = pendingTimers.poll()) != null) {
+            if (timer.cancelled) {
+                continue;
+            }
+            long slot = slotOf(timer.deadlineNanos);
+            if (slot < wheelTick) {
+                // Its slot has already come up
+                dueTimers.add(timer);
+            } else {
+                timer.slot = slot;
+                wheel[(int) (slot & wheelMask)].add(timer);
+                wheelTimers++;
+            }
+        }
+    }
+
+    private void expireSlots(long now) {
+        while (wheelTimers > 0 && slotStartNanos(wheelTick) - spinNanos - now <= 0) {
+            Iterator<Timer> it = wheel[(int) (wheelTick & wheelMask)].iterator();
+            while (it.hasNext()) {
+                Timer timer = it.next();
+                if (timer.cancelled || timer.slot <= wheelTick) {
+                    it.remove();
+                    wheelTimers--;
+                    if (!timer.cancelled) {
+                        dueTimers.add(timer);
+                    }
+                }
+            }
+            wheelTick++;
+        }
+    }
+
+    private void park(long now, Timer head) {
+        boolean armed = head != null || wheelTimers > 0;
+        long wakeNanos = wheelTimers > 0 ? nextSlotWithTimers() : 0;
+        if (head != null && (wheelTimers == 0 || head.deadlineNanos - spinNanos - wakeNanos < 0)) {
+            wakeNanos = head.deadlineNanos - spinNanos;
+        }
+        parkedUntilNanos = wakeNanos;
+        parkedIdle = !armed;
+        // Re-check after publishing, so a start armed meanwhile is never slept through
+        if (pendingTimers.isEmpty() && running) {
+            if (armed) {
+                LockSupport.parkNanos(this, wakeNanos - now);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        parkedIdle = false;
+    }
+
+    private long nextSlotWithTimers() {
+        for (int i = 0; i < wheel.length; i++) {
+            if (!wheel[(int) ((wheelTick + i) & wheelMask)].isEmpty()) {
+                return slotStartNanos(wheelTick + i) - spinNanos;
+            }
+        }
+        return slotStartNanos(wheelTick + wheel.length) - spinNanos;
+    }
+
+    private long slotOf(long nanos) {
+        return Math.floorDiv(nanos - startNanos, resolutionNanos);
+    }
+
+    private long slotStartNanos(long slot) {
+        return startNanos + slot * resolutionNanos;
+    }
+
+    /**
+     * A task waiting on the timer thread.
+     */
+    static final class Timer {
+        final TickLane lane;
+        final long deadlineNanos;
+        final Runnable task;
+        // Only touched by the timer thread
+        long slot;
+        volatile boolean cancelled;
+
+        Timer(TickLane lane, long deadlineNanos, Runnable task) {
+            this.lane = lane;
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * A ready lane queued for a worker, ordered by deadline then arrival.
+     */
+    private record Dispatch(TickLane lane, long deadlineNanos, long sequence)
+            implements Runnable, Comparable<Dispatch> {
+
+        @Override
+        public void run() {
+            lane.runNext();
+        }
+
+        @Override
+        public int compareTo(Dispatch other) {
+            int byDeadline = Long.compare(deadlineNanos - other.deadlineNanos, 0);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final TickScheduler INSTANCE = new TickScheduler("tick-scheduler");
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.command;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TypedCommandPayload")
+class TypedCommandPayloadTest {
+
+    private final CommandSchema schema = CommandSchema.of(Map.of(
+            "entityId", Long.class,
+            "forceX", Float.class,
+            "visible", Boolean.class,
+            "label", String.class
+    ));
+
+    @Nested
+    @DisplayName("schema")
+    class Schema {
+
+        @Test
+        @DisplayName("assigns slots in sorted field order")
+        void assignsSortedSlots() {
+            assertThat(schema.size()).isEqualTo(4);
+            assertThat(schema.name(0)).isEqualTo("entityId");
+            assertThat(schema.slotOf("label")).isEqualTo(2);
+            assertThat(schema.slotOf("unknown")).isEqualTo(-1);
+            assertThat(schema.type(schema.slotOf("forceX"))).isEqualTo(CommandSchema.FieldType.DOUBLE);
+        }
+
+        @Test
+        @DisplayName("is not typed when a field has no primitive storage")
+        void notTypedForObjectFields() {
+            CommandSchema listSchema = CommandSchema.of(Map.of("ids", List.class));
+
+            assertThat(listSchema.isTyped()).isFalse();
+            assertThatThrownBy(() -> listSchema.acquire(1, 2)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("decoding")
+    class Decoding {
+
+        @Test
+        @DisplayName("stores and reads primitives by field name")
+        void storesPrimitives() {
+            TypedCommandPayload payload = schema.acquire(7, 9);
+
+            assertThat(payload.setLong("entityId", 42)).isTrue();
+            assertThat(payload.setDouble("forceX", 1.5)).isTrue();
+            assertThat(payload.setBoolean("visible", true)).isTrue();
+            assertThat(payload.setString("label", "crate")).isTrue();
+
+            assertThat(payload.getLong("entityId", 0)).isEqualTo(42);
+            assertThat(payload.getFloat("forceX", 0f)).isEqualTo(1.5f);
+            assertThat(payload.getBoolean("visible", false)).isTrue();
+            assertThat(payload.getString("label")).isEqualTo("crate");
+            assertThat(payload.matchId()).isEqualTo(7);
+            assertThat(payload.getLong("playerId", 0)).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("widens integral values into floating-point fields")
+        void widensLongToDouble() {
+            TypedCommandPayload payload = schema.acquire(0, 0);
+
+            assertThat(payload.setLong("forceX", 3)).isTrue();
+
+            assertThat(payload.getDouble("forceX", 0)).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("rejects values that do not fit the declared type")
+        void rejectsMismatchedTypes() {
+            TypedCommandPayload payload = schema.acquire(0, 0);
+
+            assertThat(payload.setDouble("entityId", 1.5)).isFalse();
+            assertThat(payload.setString("entityId", "42")).isFalse();
+            assertThat(payload.setBoolean("label", true)).isFalse();
+            assertThat(payload.has("entityId")).isFalse();
+        }
+
+        @Test
+        @DisplayName("ignores fields the schema does not declare")
+        void ignoresUndeclaredFields() {
+            TypedCommandPayload payload = schema.acquire(0, 0);
+
+            assertThat(payload.setLong("positionX", 5)).isTrue();
+
+            assertThat(payload.has("positionX")).isFalse();
+            assertThat(payload.getLong("positionX", -1)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("copies and coerces map payloads")
+        void copiesMapPayload() {
+            TypedCommandPayload payload = schema.acquire(0, 0)
+                    .copyFrom(Map.<String, Object>of("entityId", "42", "forceX", 2, "matchId", 3L));
+
+            assertThat(payload.getLong("entityId", 0)).isEqualTo(42);
+            assertThat(payload.getDouble("forceX", 0)).isEqualTo(2.0);
+            assertThat(payload.matchId()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("rejects unparseable map values")
+        void rejectsUnparseableMapValues() {
+            TypedCommandPayload payload = schema.acquire(0, 0);
+
+            assertThatThrownBy(() -> payload.copyFrom(Map.<String, Object>of("entityId", "not-a-number")))
+                    .isInstanceOf(PayloadMapper.PayloadConversionException.class)
+                    .hasMessageContaining("entityId");
+        }
+
+        @Test
+        @DisplayName("materializes present fields for map-based commands")
+        void materializesMap() {
+            TypedCommandPayload payload = schema.acquire(1, 2);
+            payload.setLong("entityId", 42);
+
+            assertThat(payload.getPayload())
+                    .containsEntry("matchId", 1L)
+                    .containsEntry("playerId", 2L)
+                    .containsEntry("entityId", 42L)
+                    .doesNotContainKey("forceX");
+        }
+    }
+
+    @Nested
+    @DisplayName("pooling")
+    class Pooling {
+
+        @Test
+        @DisplayName("reuses released payloads with cleared fields")
+        void reusesReleasedPayloads() {
+            TypedCommandPayload first = schema.acquire(1, 1);
+            first.setLong("entityId", 42);
+            first.release();
+            first.release();
+
+            assertThat(schema.pooled()).isEqualTo(1);
+
+            TypedCommandPayload second = schema.acquire(2, 2);
+            assertThat(second).isSameAs(first);
+            assertThat(second.has("entityId")).isFalse();
+            assertThat(second.matchId()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("typed commands")
+    class TypedCommands {
+
+        @Test
+        @DisplayName("execute typed payloads directly")
+        void executeTypedPayloadDirectly() {
+            AtomicReference<TypedCommandPayload> received = new AtomicReference<>();
+            EngineCommand command = CommandBuilder.newCommand()
+                    .withName("push")
+                    .withSchema(Map.of("entityId", Long.class))
+                    .withTypedExecution(received::set)
+                    .build();
+            TypedCommandPayload payload = command.typedSchema().acquire(0, 0);
+
+            command.executeCommand(payload);
+
+            assertThat(received.get()).isSameAs(payload);
+        }
+
+        @Test
+        @DisplayName("copy map payloads into a typed payload")
+        void copyMapPayloads() {
+            AtomicReference<Long> entityId = new AtomicReference<>();
+            EngineCommand command = CommandBuilder.newCommand()
+                    .withName("push")
+                    .withSchema(Map.of("entityId", Long.class))
+                    .withTypedExecution(p -> entityId.set(p.getLong("entityId", 0)))
+                    .build();
+
+            command.executeCommand(() -> Map.of("entityId", 42));
+
+            assertThat(entityId.get()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("return the typed payload to the pool when a map payload does not convert")
+        void releaseOnConversionFailure() {
+            AtomicReference<Long> entityId = new AtomicReference<>();
+            EngineCommand command = CommandBuilder.newCommand()
+                    .withName("push")
+                    .withSchema(Map.of("entityId", Long.class))
+                    .withTypedExecution(p -> entityId.set(p.getLong("entityId", 0)))
+                    .build();
+
+            assertThatThrownBy(() -> command.executeCommand(() -> Map.of("entityId", "not-a-number")))
+                    .isInstanceOf(PayloadMapper.PayloadConversionException.class);
+
+            assertThat(command.typedSchema().pooled()).isEqualTo(1);
+            assertThat(entityId.get()).isNull();
+        }
+
+        @Test
+        @DisplayName("reject schemas without primitive storage")
+        void rejectNonPrimitiveSchemas() {
+            CommandBuilder builder = CommandBuilder.newCommand()
+                    .withName("bulk")
+                    .withSchema(Map.of("ids", List.class))
+                    .withTypedExecution(p -> { });
+
+            assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("map-based commands have no typed schema")
+        void mapCommandsHaveNoTypedSchema() {
+            EngineCommand command = CommandBuilder.newCommand()
+                    .withName("legacy")
+                    .withSchema(Map.of("entityId", Long.class))
+                    .withExecution(p -> { })
+                    .build();
+
+            assertThat(command.typedSchema()).isNull();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.core.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link ComponentEncoding}.
+ */
+@DisplayName("ComponentEncoding")
+class ComponentEncodingTest {
+
+    @Test
+    @DisplayName("components default to raw floats")
+    void defaultsToRaw() {
+        BaseComponent component = new BaseComponentTest.TestComponent(1, "TEST");
+
+        assertThat(component.getEncoding()).isEqualTo(ComponentEncoding.RAW);
+        assertThat(component.getEncoding().bitsPerValue()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("booleans take one bit and only accept 0 and 1")
+    void booleans() {
+        ComponentEncoding encoding = ComponentEncoding.BOOLEAN;
+
+        assertThat(encoding.bitsPerValue()).isEqualTo(1);
+        assertThat(encoding.accepts(1f)).isTrue();
+        assertThat(encoding.accepts(2f)).isFalse();
+        assertThat(encoding.unpack(encoding.pack(1f))).isEqualTo(1f);
+    }
+
+    @Test
+    @DisplayName("ranged integers take only the bits their range needs")
+    void rangedIntegers() {
+        ComponentEncoding encoding = ComponentEncoding.integer(-10, 245);
+
+        assertThat(encoding.bitsPerValue()).isEqualTo(8);
+        assertThat(encoding.accepts(3.5f)).isFalse();
+        assertThat(encoding.accepts(246f)).isFalse();
+        assertThat(encoding.unpack(encoding.pack(-10f))).isEqualTo(-10f);
+        assertThat(encoding.unpack(encoding.pack(245f))).isEqualTo(245f);
+    }
+
+    @Test
+    @DisplayName("unbounded integers are variable length")
+    void unboundedIntegers() {
+        assertThat(ComponentEncoding.INTEGER.bitsPerValue()).isEqualTo(-1);
+        assertThat(ComponentEncoding.INTEGER.accepts(Float.POSITIVE_INFINITY)).isFalse();
+        assertThat(ComponentEncoding.INTEGER.accepts(Float.NaN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("quantized values round to the precision")
+    void quantized() {
+        ComponentEncoding encoding = ComponentEncoding.quantized(0, 1024, 1.0 / 64);
+
+        assertThat(encoding.bitsPerValue()).isEqualTo(17);
+        assertThat(encoding.unpack(encoding.pack(512.3f))).isCloseTo(512.3f, within(1f / 128));
+        assertThat(encoding.accepts(1024.5f)).isFalse();
+    }
+
+    @Test
+    @DisplayName("rejects a non-positive precision")
+    void rejectsBadPrecision() {
+        assertThatThrownBy(() -> ComponentEncoding.quantized(0, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("permission components carry their encoding")
+    void permissionComponentEncoding() {
+        PermissionComponent component = new PermissionComponent(
+                1, "IS_VISIBLE", PermissionLevel.READ, ComponentEncoding.BOOLEAN);
+
+        assertThat(component.getEncoding()).isEqualTo(ComponentEncoding.BOOLEAN);
+    }
+}
@@ -36,7 +36,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -133,11 +135,11 @@ class GameLoopTest {
         }
 
         @Test
-        @DisplayName("should execute commands during tick")
+        @DisplayName("should execute commands due on the tick")
         void shouldExecuteCommands() {
-            gameLoop.advanceTick(1);
+            gameLoop.advanceTick(7);
 
-            verify(commandQueueExecutor).executeCommands(10000); // default max
+            verify(commandQueueExecutor).executeCommands(7L, 10000); // default max
         }
 
         @Test
@@ -156,7 +158,7 @@ class GameLoopTest {
 
             customLoop.advanceTick(1);
 
-            verify(commandQueueExecutor).executeCommands(500);
+            verify(commandQueueExecutor).executeCommands(1L, 500);
         }
 
         @Test
@@ -252,6 +254,125 @@ class GameLoopTest {
         }
     }
 
+    @Nested
+    @DisplayName("Latency metrics")
+    class LatencyMetrics {
+
+        @Test
+        @DisplayName("should record tick and per-system latency")
+        void shouldRecordTickAndSystemLatency() {
+            EngineSystem sleepingSystem = () -> {
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            when(moduleResolver.resolveAllModules()).thenReturn(List.of(module));
+            when(module.createSystems()).thenReturn(List.of(sleepingSystem));
+            GameLoop gameLoop = new GameLoop(moduleResolver);
+
+            for (int i = 0; i < 5; i++) {
+                gameLoop.advanceTick(i);
+            }
+
+            assertThat(gameLoop.getTickLatency().count()).isEqualTo(5);
+            assertThat(gameLoop.getTickLatency().p50Nanos()).isGreaterThanOrEqualTo(2_000_000L);
+            assertThat(gameLoop.getSystemLatencies()).hasSize(1);
+            assertThat(gameLoop.getSystemLatencies().values().iterator().next().count()).isEqualTo(5);
+            assertThat(gameLoop.getCommandLatencies()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should track min and max tick duration")
+        void shouldTrackMinAndMax() {
+            when(moduleResolver.resolveAllModules()).thenReturn(List.of());
+            GameLoop gameLoop = new GameLoop(moduleResolver);
+
+            gameLoop.advanceTick(1);
+            gameLoop.advanceTick(2);
+
+            GameLoop.TickMetrics metrics = gameLoop.getTickMetrics();
+            assertThat(metrics.minTickNanos()).isPositive().isLessThanOrEqualTo(metrics.maxTickNanos());
+        }
+
+        @Test
+        @DisplayName("should clear latency on reset")
+        void shouldClearLatencyOnReset() {
+            when(moduleResolver.resolveAllModules()).thenReturn(List.of(module));
+            when(module.createSystems()).thenReturn(List.of(system1));
+            GameLoop gameLoop = new GameLoop(moduleResolver);
+            gameLoop.advanceTick(1);
+
+            gameLoop.resetTickMetrics();
+
+            assertThat(gameLoop.getTickLatency().count()).isZero();
+            assertThat(gameLoop.getSystemLatencies()).isEmpty();
+            assertThat(gameLoop.getTickMetrics().minTickNanos()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tick listeners")
+    class TickListeners {
+
+        @Test
+        @DisplayName("should deliver every tick in order to a slow listener")
+        void shouldDeliverTicksInOrderToSlowListener() {
+            when(moduleResolver.resolveAllModules()).thenReturn(List.of());
+            GameLoop gameLoop = new GameLoop(moduleResolver);
+            List<Long> ticks = new CopyOnWriteArrayList<>();
+            gameLoop.addTickListener(tick -> {
+                ticks.add(tick);
+                sleep(1);
+            });
+
+            for (long tick = 1; tick <= 50; tick++) {
+                gameLoop.advanceTick(tick);
+            }
+
+            await(() -> ticks.size() == 50);
+            assertThat(ticks).isSorted().doesNotHaveDuplicates();
+            assertThat(gameLoop.getTickListenerOverflowCount()).isZero();
+            gameLoop.shutdown();
+        }
+
+        @Test
+        @DisplayName("should stop notifying a removed listener")
+        void shouldStopNotifyingRemovedListener() {
+            when(moduleResolver.resolveAllModules()).thenReturn(List.of());
+            GameLoop gameLoop = new GameLoop(moduleResolver);
+            AtomicInteger calls = new AtomicInteger();
+            TickListener listener = tick -> calls.incrementAndGet();
+            gameLoop.addTickListener(listener);
+            gameLoop.advanceTick(1);
+            await(() -> calls.get() == 1);
+
+            assertThat(gameLoop.removeTickListener(listener)).isTrue();
+            gameLoop.advanceTick(2);
+            sleep(50);
+
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(gameLoop.removeTickListener(listener)).isFalse();
+        }
+
+        private void await(BooleanSupplier condition) {
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (!condition.getAsBoolean()) {
+                assertThat(System.nanoTime()).as("condition met within 5s").isLessThan(deadline);
+                sleep(1);
+            }
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Integration scenarios")
     class IntegrationScenarios {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LatencyHistogram")
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    @DisplayName("empty histogram reports zeros")
+    void emptyHistogramReportsZeros() {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p99Nanos()).isZero();
+        assertThat(snapshot.maxNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("percentiles fall within a factor of two of the recorded values")
+    void percentilesWithinFactorOfTwo() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.p50Nanos()).isBetween(1_000L, 2_000L);
+        assertThat(snapshot.p99Nanos()).isBetween(1_000L, 2_000L);
+        assertThat(snapshot.maxNanos()).isEqualTo(1_000_000L);
+        assertThat(snapshot.meanNanos()).isEqualTo((99 * 1_000L + 1_000_000L) / 100);
+    }
+
+    @Test
+    @DisplayName("percentiles are within one sub-bucket of the recorded values")
+    void percentilesWithinSubBucket() {
+        for (long nanos = 1; nanos <= 10_000_000L; nanos *= 3) {
+            LatencyHistogram single = new LatencyHistogram();
+            single.record(nanos);
+            single.record(Long.MAX_VALUE / 4);
+
+            // p50 is the upper bound of the smaller value's bucket
+            assertThat(single.snapshot().p50Nanos()).isBetween(nanos, nanos + nanos / 16);
+        }
+    }
+
+    @Test
+    @DisplayName("p999 separates the slowest tenth of a percent")
+    void p999SeparatesTail() {
+        for (int i = 0; i < 9_990; i++) {
+            histogram.record(1_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(50_000_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.p99Nanos()).isBetween(1_000L, 1_063L);
+        assertThat(snapshot.p999Nanos()).isBetween(1_000L, 1_063L);
+
+        histogram.record(50_000_000);
+
+        assertThat(histogram.snapshot().p999Nanos()).isEqualTo(50_000_000L);
+    }
+
+    @Test
+    @DisplayName("merge combines counts from several histograms")
+    void mergeCombinesHistograms() {
+        LatencyHistogram other = new LatencyHistogram();
+        histogram.record(1_000);
+        other.record(3_000);
+        other.record(3_000);
+
+        LatencyHistogram.Snapshot merged = LatencyHistogram.merge(List.of(histogram, other));
+
+        assertThat(merged.count()).isEqualTo(3);
+        assertThat(merged.p50Nanos()).isBetween(3_000L, 3_000L + 3_000L / 16);
+        assertThat(merged.maxNanos()).isEqualTo(3_000L);
+        assertThat(merged.meanNanos()).isEqualTo(7_000L / 3);
+    }
+
+    @Test
+    @DisplayName("percentiles never exceed the maximum")
+    void percentilesCappedAtMax() {
+        histogram.record(1_500);
+
+        assertThat(histogram.snapshot().p50Nanos()).isEqualTo(1_500L);
+    }
+
+    @Test
+    @DisplayName("durations past the top bucket report the maximum")
+    void durationsPastTopBucketReportMax() {
+        histogram.record(1_000);
+        histogram.record(TimeUnit.MINUTES.toNanos(5));
+        histogram.record(TimeUnit.HOURS.toNanos(2));
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.p90Nanos()).isEqualTo(TimeUnit.HOURS.toNanos(2));
+        assertThat(snapshot.maxNanos()).isEqualTo(TimeUnit.HOURS.toNanos(2));
+    }
+
+    @Test
+    @DisplayName("reset discards recorded values")
+    void resetDiscardsValues() {
+        histogram.record(5_000);
+
+        histogram.reset();
+
+        assertThat(histogram.snapshot().count()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RollingLatencyHistogram")
+class RollingLatencyHistogramTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+    private final RollingLatencyHistogram histogram = new RollingLatencyHistogram(60_000, 6, now::get);
+
+    @Test
+    @DisplayName("empty histogram reports zeros")
+    void emptyHistogramReportsZeros() {
+        assertThat(histogram.snapshot()).isEqualTo(LatencyHistogram.Snapshot.EMPTY);
+    }
+
+    @Test
+    @DisplayName("snapshot merges every slice within the window")
+    void snapshotMergesSlicesInWindow() {
+        histogram.record(1_000);
+        now.addAndGet(25 * SECOND);
+        histogram.record(2_000);
+        now.addAndGet(25 * SECOND);
+        histogram.record(3_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(3);
+        assertThat(snapshot.maxNanos()).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("values age out once their slice leaves the window")
+    void valuesAgeOut() {
+        histogram.record(50_000_000);
+        now.addAndGet(30 * SECOND);
+        histogram.record(1_000);
+
+        now.addAndGet(35 * SECOND);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.maxNanos()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("reused slice is cleared before recording")
+    void reusedSliceIsCleared() {
+        histogram.record(50_000_000);
+        now.addAndGet(60 * SECOND);
+        histogram.record(1_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.maxNanos()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("reset discards recorded values")
+    void resetDiscardsValues() {
+        histogram.record(5_000);
+
+        histogram.reset();
+
+        assertThat(histogram.snapshot().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("rejects a non-positive window")
+    void rejectsNonPositiveWindow() {
+        assertThatThrownBy(() -> new RollingLatencyHistogram(0, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
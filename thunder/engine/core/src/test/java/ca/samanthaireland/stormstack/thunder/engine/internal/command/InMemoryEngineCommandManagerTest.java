@@ -26,6 +26,7 @@ package ca.samanthaireland.stormstack.thunder.engine.internal.command;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandExecutionException;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.QueuedCommand;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.InMemoryCommandQueueManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -277,6 +278,112 @@ class InMemoryEngineCommandManagerTest {
         executor.shutdown();
     }
 
+    @Test
+    void executeCommands_shouldShareBudgetFairlyBetweenMatches() {
+        List<String> executedCommands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commandManager.enqueue(new RecordingEngineCommand("spam" + i, executedCommands), new MatchPayload(1));
+        }
+        commandManager.enqueue(new RecordingEngineCommand("quiet0", executedCommands), new MatchPayload(2));
+        commandManager.enqueue(new RecordingEngineCommand("quiet1", executedCommands), new MatchPayload(2));
+
+        commandManager.executeCommands(1, 10);
+
+        assertThat(executedCommands).hasSize(10).contains("quiet0", "quiet1");
+        assertThat(executedCommands.stream().filter(name -> name.startsWith("spam")))
+                .containsExactly("spam0", "spam1", "spam2", "spam3", "spam4", "spam5", "spam6", "spam7");
+    }
+
+    @Test
+    void executeCommands_shouldHoldCommandsUntilTheirTick() {
+        List<String> executedCommands = new ArrayList<>();
+        commandManager.enqueueAt(new RecordingEngineCommand("later", executedCommands), new MatchPayload(1), 3);
+        commandManager.enqueue(new RecordingEngineCommand("now", executedCommands), new MatchPayload(1));
+
+        commandManager.executeCommands(1, 10);
+        commandManager.executeCommands(2, 10);
+
+        assertThat(executedCommands).containsExactly("now");
+        assertThat(commandManager.getQueueSize()).isEqualTo(1);
+
+        commandManager.executeCommands(3, 10);
+
+        assertThat(executedCommands).containsExactly("now", "later");
+        assertThat(commandManager.getQueueSize()).isZero();
+    }
+
+    @Test
+    void executeCommands_shouldRunPastTicksOnNextTick() {
+        List<String> executedCommands = new ArrayList<>();
+        commandManager.executeCommands(5, 10);
+        commandManager.enqueueAt(new RecordingEngineCommand("late", executedCommands), new MatchPayload(1), 2);
+
+        commandManager.executeCommands(6, 10);
+
+        assertThat(executedCommands).containsExactly("late");
+    }
+
+    @Test
+    void clear_shouldRemoveScheduledCommands() {
+        commandManager.enqueueAt(new TestEngineCommand("later"), new MatchPayload(1), 10);
+        commandManager.executeCommands(1, 10);
+
+        commandManager.clear();
+
+        assertThat(commandManager.getQueueSize()).isZero();
+        commandManager.executeCommands(10, 10);
+        assertThat(commandManager.getLastTickCommandMetrics()).isEmpty();
+    }
+
+    @Test
+    void getMatchQueueStats_shouldReportDepthAndLatencyPerMatch() {
+        commandManager.enqueue(new TestEngineCommand("a"), new MatchPayload(1));
+        commandManager.enqueue(new TestEngineCommand("b"), new MatchPayload(1));
+        commandManager.enqueueAt(new TestEngineCommand("c"), new MatchPayload(2), 5);
+
+        commandManager.executeCommands(1, 1);
+
+        List<InMemoryCommandQueueManager.MatchQueueStats> stats = commandManager.getMatchQueueStats();
+        assertThat(stats).extracting(InMemoryCommandQueueManager.MatchQueueStats::matchId).containsExactly(1L, 2L);
+        assertThat(stats.get(0).pending()).isEqualTo(1);
+        assertThat(stats.get(0).executed()).isEqualTo(1);
+        assertThat(stats.get(0).latency().count()).isEqualTo(1);
+        assertThat(stats.get(1).scheduled()).isEqualTo(1);
+        assertThat(commandManager.getQueueLatency().count()).isEqualTo(1);
+    }
+
+    @Test
+    void drainPending_shouldRemoveReadyAndScheduledCommandsOfOneMatch() {
+        commandManager.enqueue(new TestEngineCommand("a"), new MatchPayload(1));
+        commandManager.enqueueAt(new TestEngineCommand("b"), new MatchPayload(1), 5);
+        commandManager.enqueue(new TestEngineCommand("other"), new MatchPayload(2));
+        commandManager.executeCommands(1, 0);
+
+        List<QueuedCommand> drained = commandManager.drainPending(1);
+
+        assertThat(drained).extracting(queued -> queued.command().getName()).containsExactly("a", "b");
+        assertThat(drained.get(1).tick()).isEqualTo(5);
+        assertThat(commandManager.getQueueSize()).isEqualTo(1);
+        assertThat(commandManager.drainPending(3)).isEmpty();
+    }
+
+    @Test
+    void recorders_shouldSeeEveryExecutedCommandWithItsTick() {
+        List<String> recorded = new ArrayList<>();
+        InMemoryCommandQueueManager.ExecutionRecorder recorder = (tick, matchId, commandName, payload) ->
+                recorded.add(tick + ":" + matchId + ":" + commandName + ":" + payload.getPayload().get("matchId"));
+        commandManager.addRecorder(recorder);
+        commandManager.enqueue(new TestEngineCommand("a"), new MatchPayload(1));
+        commandManager.enqueue(new FailingEngineCommand("b"), new MatchPayload(2));
+
+        commandManager.executeCommands(7, 10);
+        commandManager.removeRecorder(recorder);
+        commandManager.enqueue(new TestEngineCommand("c"), new MatchPayload(1));
+        commandManager.executeCommands(8, 10);
+
+        assertThat(recorded).containsExactlyInAnyOrder("7:1:a:1", "7:2:b:2");
+    }
+
     // Test implementations
 
     private static class TestEngineCommand implements EngineCommand {
@@ -378,6 +485,13 @@ class InMemoryEngineCommandManagerTest {
         }
     }
 
+    private record MatchPayload(long matchId) implements CommandPayload {
+        @Override
+        public Map<String, Object> getPayload() {
+            return Map.of("matchId", matchId);
+        }
+    }
+
     private record TestPayload(String data) implements CommandPayload {
         @Override
         public Map<String, Object> getPayload() {
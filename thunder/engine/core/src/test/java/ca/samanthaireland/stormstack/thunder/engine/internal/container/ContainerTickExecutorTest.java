@@ -23,7 +23,9 @@
 package ca.samanthaireland.stormstack.thunder.engine.internal.container;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerStatus;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.TickPolicy;
 import ca.samanthaireland.stormstack.thunder.engine.internal.GameLoop;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.TickScheduler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -121,6 +123,64 @@ class ContainerTickExecutorTest {
         verify(mockGameLoop).advanceTick(1L);
     }
 
+    @Test
+    @DisplayName("advanceTick() should publish the tick only after the game loop finishes it")
+    @Timeout(5)
+    void advanceTickShouldPublishAfterCompletion() {
+        AtomicLong tickSeenDuringTick = new AtomicLong(-1);
+        GameLoop mockGameLoop = mock(GameLoop.class);
+        doAnswer(invocation -> {
+            tickSeenDuringTick.set(executor.getCurrentTick());
+            return null;
+        }).when(mockGameLoop).advanceTick(anyLong());
+        executor.setGameLoop(mockGameLoop);
+
+        long tick = executor.advanceTick();
+
+        assertThat(tick).isEqualTo(1);
+        assertThat(tickSeenDuringTick.get()).isZero();
+        assertThat(executor.getCurrentTick()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("advanceTick() from inside a tick should throw instead of deadlocking")
+    @Timeout(5)
+    void advanceTickFromInsideTickShouldThrow() {
+        GameLoop mockGameLoop = mock(GameLoop.class);
+        doAnswer(invocation -> executor.advanceTick()).when(mockGameLoop).advanceTick(anyLong());
+        executor.setGameLoop(mockGameLoop);
+
+        assertThatThrownBy(() -> executor.advanceTick())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("inside a tick");
+        assertThat(executor.getCurrentTick()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("callOnLane() should run between ticks and return the result")
+    void callOnLaneShouldReturnResult() {
+        executor.advanceTick();
+
+        assertThat(executor.callOnLane(executor::getCurrentTick)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("restoreTick() should continue counting from the restored tick")
+    void restoreTickShouldContinueFromRestoredTick() {
+        executor.restoreTick(41);
+
+        assertThat(executor.getCurrentTick()).isEqualTo(41);
+        assertThat(executor.advanceTick()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("restoreTick() should be refused while auto-advancing")
+    void restoreTickShouldBeRefusedWhileAutoAdvancing() {
+        executor.startAutoAdvance(1_000);
+
+        assertThatThrownBy(() -> executor.restoreTick(5)).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     @DisplayName("advanceTick() without gameLoop should not throw")
     void advanceTickWithoutGameLoopShouldNotThrow() {
@@ -280,6 +340,183 @@ class ContainerTickExecutorTest {
         assertThat(executor.isAutoAdvancing()).isFalse();
     }
 
+    // ========== Auto-Advance Metrics Tests ==========
+
+    @Test
+    @DisplayName("Ticks longer than the interval should count as overruns")
+    @Timeout(5)
+    void slowTicksShouldCountAsOverruns() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        GameLoop slowGameLoop = mock(GameLoop.class);
+        doAnswer(invocation -> {
+            Thread.sleep(30);
+            latch.countDown();
+            return null;
+        }).when(slowGameLoop).advanceTick(anyLong());
+
+        executor.setGameLoop(slowGameLoop);
+        executor.startAutoAdvance(10);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        executor.stopAutoAdvance();
+
+        assertThat(executor.getOverrunCount()).isGreaterThanOrEqualTo(2);
+        assertThat(executor.getScheduledTickCount()).isGreaterThanOrEqualTo(executor.getOverrunCount());
+        // Each overrun pushes the next tick back, so lag accumulates
+        assertThat(executor.getSchedulingLag().count()).isGreaterThanOrEqualTo(3);
+        assertThat(executor.getSchedulingLag().maxNanos()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    @DisplayName("Manual ticks should not record overruns or lag")
+    @Timeout(5)
+    void manualTicksShouldNotRecordMetrics() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        GameLoop slowGameLoop = mock(GameLoop.class);
+        doAnswer(invocation -> {
+            Thread.sleep(20);
+            latch.countDown();
+            return null;
+        }).when(slowGameLoop).advanceTick(anyLong());
+
+        executor.setGameLoop(slowGameLoop);
+        executor.advanceTick();
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getScheduledTickCount()).isZero();
+        assertThat(executor.getOverrunCount()).isZero();
+        assertThat(executor.getSchedulingLag().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("resetMetrics() should clear overruns and lag")
+    @Timeout(5)
+    void resetMetricsShouldClear() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        GameLoop slowGameLoop = mock(GameLoop.class);
+        doAnswer(invocation -> {
+            Thread.sleep(20);
+            latch.countDown();
+            return null;
+        }).when(slowGameLoop).advanceTick(anyLong());
+
+        executor.setGameLoop(slowGameLoop);
+        executor.startAutoAdvance(5);
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown(1, TimeUnit.SECONDS);
+
+        executor.resetMetrics();
+
+        assertThat(executor.getScheduledTickCount()).isZero();
+        assertThat(executor.getOverrunCount()).isZero();
+        assertThat(executor.getSchedulingLag().count()).isZero();
+    }
+
+    // ========== Overrun Policy Tests ==========
+
+    @Test
+    @DisplayName("DROP should skip the slots a slow tick overran")
+    @Timeout(5)
+    void dropPolicyShouldSkipMissedSlots() throws InterruptedException {
+        ContainerTickExecutor dropping = executorWithPolicy(new TickPolicy(TickPolicy.Overrun.DROP, 0));
+        try {
+            CountDownLatch latch = new CountDownLatch(3);
+            dropping.setGameLoop(sleepingGameLoop(25, latch));
+            dropping.startAutoAdvance(10);
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            dropping.stopAutoAdvance();
+
+            // Each 25 ms tick runs past the next 10 ms slot, and at least two slots are skipped per tick
+            assertThat(dropping.getDroppedTickCount()).isGreaterThanOrEqualTo(4);
+        } finally {
+            dropping.shutdown(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("SLOW_DOWN should start the next tick right away without dropping")
+    @Timeout(5)
+    void slowDownPolicyShouldNotDropOrLag() throws InterruptedException {
+        ContainerTickExecutor slowing = executorWithPolicy(new TickPolicy(TickPolicy.Overrun.SLOW_DOWN, 0));
+        try {
+            CountDownLatch latch = new CountDownLatch(4);
+            slowing.setGameLoop(sleepingGameLoop(25, latch));
+            slowing.startAutoAdvance(10);
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            slowing.stopAutoAdvance();
+
+            assertThat(slowing.getDroppedTickCount()).isZero();
+            assertThat(slowing.getOverrunCount()).isGreaterThanOrEqualTo(3);
+            // The schedule moves with the overruns, so ticks never start behind it
+            assertThat(slowing.getSchedulingLag().maxNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(10));
+        } finally {
+            slowing.shutdown(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("CATCH_UP should run missed ticks back to back up to its bound")
+    @Timeout(5)
+    void catchUpPolicyShouldBeBounded() throws InterruptedException {
+        ContainerTickExecutor bounded = executorWithPolicy(new TickPolicy(TickPolicy.Overrun.CATCH_UP, 2));
+        ContainerTickExecutor unbounded = executorWithPolicy(new TickPolicy(TickPolicy.Overrun.CATCH_UP, 1_000));
+        try {
+            CountDownLatch boundedTicks = new CountDownLatch(5);
+            CountDownLatch unboundedTicks = new CountDownLatch(5);
+            bounded.setGameLoop(slowFirstTickGameLoop(boundedTicks));
+            unbounded.setGameLoop(slowFirstTickGameLoop(unboundedTicks));
+            bounded.startAutoAdvance(10);
+            unbounded.startAutoAdvance(10);
+
+            assertThat(boundedTicks.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(unboundedTicks.await(2, TimeUnit.SECONDS)).isTrue();
+            bounded.stopAutoAdvance();
+            unbounded.stopAutoAdvance();
+
+            // The first tick takes ten intervals; two are caught up and the rest dropped
+            assertThat(bounded.getDroppedTickCount()).isGreaterThanOrEqualTo(5);
+            assertThat(unbounded.getDroppedTickCount()).isZero();
+        } finally {
+            bounded.shutdown(1, TimeUnit.SECONDS);
+            unbounded.shutdown(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Executor should use the default tick policy unless given one")
+    void shouldUseDefaultTickPolicy() {
+        assertThat(executor.getTickPolicy()).isEqualTo(TickPolicy.DEFAULT);
+    }
+
+    private ContainerTickExecutor executorWithPolicy(TickPolicy policy) {
+        return new ContainerTickExecutor(2L, "policy-container", () -> currentStatus,
+                TickScheduler.shared(), policy);
+    }
+
+    private static GameLoop sleepingGameLoop(long sleepMs, CountDownLatch latch) {
+        GameLoop loop = mock(GameLoop.class);
+        doAnswer(invocation -> {
+            Thread.sleep(sleepMs);
+            latch.countDown();
+            return null;
+        }).when(loop).advanceTick(anyLong());
+        return loop;
+    }
+
+    private static GameLoop slowFirstTickGameLoop(CountDownLatch latch) {
+        GameLoop loop = mock(GameLoop.class);
+        doAnswer(invocation -> {
+            if (invocation.<Long>getArgument(0) == 1L) {
+                Thread.sleep(100);
+            }
+            latch.countDown();
+            return null;
+        }).when(loop).advanceTick(anyLong());
+        return loop;
+    }
+
     // ========== Shutdown Tests ==========
 
     @Test
@@ -313,7 +550,15 @@ class ContainerTickExecutorTest {
         }).when(slowGameLoop).advanceTick(anyLong());
 
         executor.setGameLoop(slowGameLoop);
-        executor.advanceTick();
+        // advanceTick() waits for the tick, so run it on another thread
+        Thread advancer = new Thread(() -> {
+            try {
+                executor.advanceTick();
+            } catch (IllegalStateException expected) {
+                // Interrupted by the shutdown
+            }
+        });
+        advancer.start();
 
         // Wait for the task to start
         startLatch.await(1, TimeUnit.SECONDS);
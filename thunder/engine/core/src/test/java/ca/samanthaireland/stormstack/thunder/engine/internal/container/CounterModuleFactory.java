@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandBuilder;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.core.system.EngineSystem;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleContext;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Module shared by the container tests: moves every entity by its velocity each
+ * tick; commands spawn entities and change velocities.
+ */
+public class CounterModuleFactory implements ModuleFactory {
+
+    static final BaseComponent POSITION = new TestComponent("POSITION");
+    static final BaseComponent VELOCITY = new TestComponent("VELOCITY");
+    static final BaseComponent FLAG = new TestComponent("COUNTER");
+
+    @Override
+    public EngineModule create(ModuleContext context) {
+        EntityComponentStore store = context.getEntityComponentStore();
+        return new EngineModule() {
+            @Override
+            public List<EngineSystem> createSystems() {
+                return List.of(() -> {
+                    for (long entity : store.getEntitiesWithComponents(POSITION, VELOCITY)) {
+                        store.attachComponent(entity, POSITION,
+                                store.getComponent(entity, POSITION) + store.getComponent(entity, VELOCITY));
+                    }
+                });
+            }
+
+            @Override
+            public List<EngineCommand> createCommands() {
+                return List.of(
+                        CommandBuilder.newCommand()
+                                .withName("spawn")
+                                .withSchema(Map.of("matchId", Long.class, "position", Float.class,
+                                        "velocity", Float.class))
+                                .withExecution(payload -> {
+                                    long entity = store.createEntityForMatch(number(payload, "matchId").longValue());
+                                    store.attachComponent(entity, FLAG, 1f);
+                                    store.attachComponent(entity, POSITION, number(payload, "position").floatValue());
+                                    store.attachComponent(entity, VELOCITY, number(payload, "velocity").floatValue());
+                                })
+                                .build(),
+                        CommandBuilder.newCommand()
+                                .withName("push")
+                                .withSchema(Map.of("matchId", Long.class, "entityId", Long.class,
+                                        "amount", Float.class))
+                                .withExecution(payload -> {
+                                    long entity = number(payload, "entityId").longValue();
+                                    store.attachComponent(entity, VELOCITY,
+                                            store.getComponent(entity, VELOCITY) + number(payload, "amount").floatValue());
+                                })
+                                .build());
+            }
+
+            @Override
+            public List<BaseComponent> createComponents() {
+                return List.of(POSITION, VELOCITY);
+            }
+
+            @Override
+            public BaseComponent createFlagComponent() {
+                return FLAG;
+            }
+
+            @Override
+            public String getName() {
+                return "CounterModule";
+            }
+        };
+    }
+
+    private static Number number(CommandPayload payload, String name) {
+        return (Number) payload.getPayload().get(name);
+    }
+
+    private static class TestComponent extends BaseComponent {
+        TestComponent(String name) {
+            super(name);
+        }
+    }
+}
@@ -125,6 +125,15 @@ class DefaultContainerCommandOperationsTest {
             assertThat(result).isSameAs(builder);
         }
 
+        @Test
+        @DisplayName("builder allows atTick chaining")
+        void builderAllowsAtTickChaining() {
+            var builder = commands.named("test-command");
+            var result = builder.atTick(42L);
+
+            assertThat(result).isSameAs(builder);
+        }
+
         @Test
         @DisplayName("builder allows multiple param calls")
         void builderAllowsMultipleParamCalls() {
@@ -155,6 +164,55 @@ class DefaultContainerCommandOperationsTest {
         }
     }
 
+    @Nested
+    @DisplayName("batch builder")
+    class BatchBuilderTests {
+
+        @Test
+        @DisplayName("add returns same builder")
+        void addReturnsSameBuilder() {
+            var batch = commands.batch();
+            var result = batch.add("test-command", java.util.Map.of("key", "value"));
+
+            assertThat(result).isSameAs(batch);
+        }
+
+        @Test
+        @DisplayName("empty batch accepts nothing")
+        void emptyBatchAcceptsNothing() {
+            ContainerCommandOperations.BatchResult result = commands.batch().execute();
+
+            assertThat(result.accepted()).isZero();
+            assertThat(result.rejected()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("unknown commands are rejected by index instead of thrown")
+        void unknownCommandsAreRejectedByIndex() {
+            ContainerCommandOperations.BatchResult result = commands.batch()
+                    .add("unknown-a", java.util.Map.of())
+                    .add("unknown-b", java.util.Map.of())
+                    .execute();
+
+            assertThat(result.accepted()).isZero();
+            assertThat(result.rejected())
+                    .extracting(ContainerCommandOperations.RejectedCommand::index)
+                    .containsExactly(0, 1);
+            assertThat(result.rejected().get(1).commandName()).isEqualTo("unknown-b");
+            assertThat(result.rejected().get(1).reason()).contains("Command not found");
+        }
+
+        @Test
+        @DisplayName("execute throws when container not running")
+        void executeThrowsWhenNotRunning() {
+            container.lifecycle().pause();
+
+            assertThatThrownBy(() ->
+                    commands.batch().add("any-command", java.util.Map.of()).execute()
+            ).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("fluent chaining")
     class FluentChaining {
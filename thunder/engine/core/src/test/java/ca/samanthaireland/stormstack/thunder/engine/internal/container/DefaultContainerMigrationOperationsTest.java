@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerMigrationOperations;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MigrationDelta;
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.MatchMigratingException;
+import ca.samanthaireland.stormstack.thunder.engine.core.match.Match;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DefaultContainerMigrationOperations")
+class DefaultContainerMigrationOperationsTest {
+
+    private InMemoryExecutionContainer source;
+    private InMemoryExecutionContainer target;
+    private long matchId;
+
+    @BeforeEach
+    void setUp() {
+        source = startContainer(1L, "source");
+        target = startContainer(2L, "target");
+        matchId = source.match().withModule("CounterModule").create().id();
+        spawn(source, 10f, 1f);
+        spawn(source, 20f, 2f);
+        source.ticks().advance();
+    }
+
+    @AfterEach
+    void tearDown() {
+        source.lifecycle().stop();
+        target.lifecycle().stop();
+    }
+
+    @Nested
+    @DisplayName("migrate")
+    class Migrate {
+
+        @Test
+        @DisplayName("moves a match with the commands executed during the copy")
+        void replaysCommandLog() {
+            MatchMigrationState state = source.migration().begin(matchId);
+            target.migration().restore(state);
+
+            push(source, state.entities().get(0).entityId(), 5f);
+            source.ticks().advance();
+            source.ticks().advance();
+            source.commands().named("push")
+                    .withParams(Map.of("matchId", matchId, "entityId", state.entities().get(1).entityId(),
+                            "amount", 1f))
+                    .atTick(10)
+                    .execute();
+            MigrationDelta delta = source.migration().freeze(matchId);
+
+            ContainerMigrationOperations.CatchUpResult result = target.migration().catchUp(delta);
+
+            assertThat(delta.executed()).extracting(MigrationDelta.RecordedCommand::commandName)
+                    .containsExactly("push");
+            assertThat(delta.pending()).hasSize(1);
+            assertThat(result.verified()).isTrue();
+            assertThat(result.tick()).isEqualTo(source.ticks().current());
+            assertThat(target.ticks().current()).isEqualTo(source.ticks().current());
+            assertThat(target.migration().checksum(matchId)).isEqualTo(source.migration().checksum(matchId));
+            assertThat(target.getCommandQueueManager().getQueueSize()).isEqualTo(1);
+            assertThat(source.getCommandQueueManager().getQueueSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("keeps match and entity IDs, and generates new ones above them")
+        void keepsIds() {
+            MatchMigrationState state = source.migration().begin(matchId);
+            target.migration().restore(state);
+
+            assertThat(target.matches().get(matchId)).isPresent();
+            long newEntity = target.getEntityStore().createEntityForMatch(matchId);
+            assertThat(newEntity).isGreaterThan(state.entities().get(1).entityId());
+            assertThat(target.match().withModule("CounterModule").create().id()).isGreaterThan(matchId);
+        }
+
+        @Test
+        @DisplayName("restores players with disconnected sessions")
+        void restoresPlayers() {
+            source.players().create(7L);
+            source.sessions().create(7L, matchId);
+
+            target.migration().restore(source.migration().begin(matchId));
+
+            assertThat(target.players().has(7L)).isTrue();
+            assertThat(target.sessions().canReconnect(7L, matchId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("resumes ticking at the source's interval")
+        void resumesAutoAdvance() {
+            source.ticks().play(1_000);
+            target.migration().restore(source.migration().begin(matchId));
+
+            target.migration().catchUp(source.migration().freeze(matchId));
+
+            assertThat(source.ticks().isPlaying()).isFalse();
+            assertThat(target.ticks().isPlaying()).isTrue();
+            assertThat(target.ticks().interval()).isEqualTo(1_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("fallback")
+    class Fallback {
+
+        @Test
+        @DisplayName("leaves the match paused when the replayed state differs")
+        void reportsMismatch() {
+            target.migration().restore(source.migration().begin(matchId));
+            push(source, 1L, 3f);
+            source.ticks().advance();
+            MigrationDelta delta = source.migration().freeze(matchId);
+            MigrationDelta wrong = new MigrationDelta(delta.matchId(), delta.fromTick(), delta.toTick(),
+                    delta.executed(), delta.pending(), delta.checksum() + 1, 1_000);
+
+            ContainerMigrationOperations.CatchUpResult result = target.migration().catchUp(wrong);
+
+            assertThat(result.verified()).isFalse();
+            assertThat(target.ticks().isPlaying()).isFalse();
+        }
+
+        @Test
+        @DisplayName("stop-and-copy replaces a diverged restore")
+        void stopAndCopy() {
+            target.migration().restore(source.migration().begin(matchId));
+            push(source, 1L, 3f);
+            source.ticks().advance();
+            MigrationDelta delta = source.migration().freeze(matchId);
+
+            target.migration().restore(source.migration().capture(matchId));
+            ContainerMigrationOperations.CatchUpResult result = target.migration().catchUp(delta);
+
+            assertThat(result.verified()).isTrue();
+            assertThat(target.getEntityStore().getEntityCount()).isEqualTo(source.getEntityStore().getEntityCount());
+        }
+
+        @Test
+        @DisplayName("abort resumes the source with its queued commands")
+        void abortResumesSource() {
+            source.ticks().play(1_000);
+            source.migration().begin(matchId);
+            push(source, 1L, 1f);
+            source.migration().freeze(matchId);
+            assertThat(source.getCommandQueueManager().getQueueSize()).isZero();
+
+            source.migration().abort(matchId);
+
+            assertThat(source.ticks().isPlaying()).isTrue();
+            await(() -> source.getEntityStore().getComponent(1L, CounterModuleFactory.VELOCITY) == 2f);
+        }
+
+        @Test
+        @DisplayName("rejects commands sent to a frozen source until aborted")
+        void rejectsCommandsWhileFrozen() {
+            source.migration().begin(matchId);
+            source.migration().freeze(matchId);
+
+            assertThatThrownBy(() -> push(source, 1L, 1f))
+                    .isInstanceOf(MatchMigratingException.class);
+            assertThat(source.getCommandQueueManager().getQueueSize()).isZero();
+
+            source.migration().abort(matchId);
+            push(source, 1L, 1f);
+
+            assertThat(source.getCommandQueueManager().getQueueSize()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("preconditions")
+    class Preconditions {
+
+        @Test
+        @DisplayName("refuses containers hosting other matches")
+        void refusesSharedContainers() {
+            source.match().withModule("CounterModule").create();
+
+            assertThatThrownBy(() -> source.migration().begin(matchId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("refuses to migrate a match twice")
+        void refusesConcurrentMigrations() {
+            source.migration().begin(matchId);
+
+            assertThatThrownBy(() -> source.migration().begin(matchId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("refuses to freeze a match that is not migrating")
+        void refusesFreezeWithoutBegin() {
+            assertThatThrownBy(() -> source.migration().freeze(matchId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("refuses components the target does not have")
+        void refusesUnknownComponents() {
+            MatchMigrationState state = source.migration().capture(matchId);
+            MatchMigrationState foreign = new MatchMigrationState(state.matchId(), state.tick(),
+                    state.enabledModules(), 0, List.of("OtherModule.MASS"), List.of(), List.of(), List.of(), 0);
+
+            assertThatThrownBy(() -> target.migration().restore(foreign))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("OtherModule.MASS");
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 10s");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private static InMemoryExecutionContainer startContainer(long id, String name) {
+        InMemoryExecutionContainer container = new InMemoryExecutionContainer(id, ContainerConfig.withDefaults(name));
+        container.lifecycle().start();
+        container.modules().install(CounterModuleFactory.class);
+        return container;
+    }
+
+    private void spawn(InMemoryExecutionContainer container, float position, float velocity) {
+        container.commands().named("spawn")
+                .withParams(Map.of("matchId", matchId, "position", position, "velocity", velocity))
+                .execute();
+    }
+
+    private void push(InMemoryExecutionContainer container, long entityId, float amount) {
+        container.commands().named("push")
+                .withParams(Map.of("matchId", matchId, "entityId", entityId, "amount", amount))
+                .execute();
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerRecordingOperations.RecordingInfo;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerRecordingOperations.ReplayResult;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MigrationDelta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("DefaultContainerRecordingOperations")
+class DefaultContainerRecordingOperationsTest {
+
+    @TempDir
+    Path dir;
+
+    private InMemoryExecutionContainer live;
+    private InMemoryExecutionContainer bench;
+    private long matchId;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        live = startContainer(1L, "live");
+        bench = startContainer(2L, "bench");
+        matchId = live.match().withModule("CounterModule").create().id();
+        spawn(10f, 1f);
+        live.ticks().advance();
+        file = dir.resolve("match.ilog");
+    }
+
+    @AfterEach
+    void tearDown() {
+        live.lifecycle().stop();
+        bench.lifecycle().stop();
+    }
+
+    @Nested
+    @DisplayName("record")
+    class Record {
+
+        @Test
+        @DisplayName("logs executed commands and keyframes at the interval")
+        void logsCommandsAndKeyframes() throws Exception {
+            live.recording().start(matchId, file, 2);
+            push(1L, 2f);
+            advance(5);
+
+            RecordingInfo info = live.recording().stop(matchId);
+            InputLogReader inputLog = InputLogReader.read(file);
+
+            assertThat(info.fromTick()).isEqualTo(1);
+            assertThat(info.toTick()).isEqualTo(6);
+            assertThat(info.commands()).isEqualTo(1);
+            assertThat(info.bytes()).isEqualTo(Files.size(file));
+            assertThat(inputLog.matchId()).isEqualTo(matchId);
+            assertThat(inputLog.commands()).extracting(MigrationDelta.RecordedCommand::tick,
+                    MigrationDelta.RecordedCommand::commandName).containsExactly(tuple(2L, "push"));
+            assertThat(inputLog.keyframes()).extracting(MatchMigrationState::tick).containsExactly(1L, 3L, 5L, 6L);
+            assertThat(inputLog.keyframes().getLast().checksum()).isEqualTo(live.migration().checksum(matchId));
+        }
+
+        @Test
+        @DisplayName("reports progress while recording")
+        void reportsStatus() {
+            live.recording().start(matchId, file, 0);
+            advance(3);
+
+            assertThat(live.recording().status(matchId)).hasValueSatisfying(info -> {
+                assertThat(info.fromTick()).isEqualTo(1);
+                assertThat(info.keyframes()).isEqualTo(1);
+            });
+            live.recording().stop(matchId);
+            assertThat(live.recording().status(matchId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("closes the log when the container stops")
+        void closesOnStop() throws Exception {
+            live.recording().start(matchId, file, 0);
+            push(1L, 1f);
+            live.ticks().advance();
+
+            live.lifecycle().stop();
+
+            assertThat(InputLogReader.read(file).commands()).hasSize(1);
+            assertThat(live.recording().status(matchId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("refuses to record a match twice or stop a match that is not recorded")
+        void refusesInvalidTransitions() {
+            live.recording().start(matchId, file, 0);
+
+            assertThatThrownBy(() -> live.recording().start(matchId, dir.resolve("other.ilog"), 0))
+                    .isInstanceOf(IllegalStateException.class);
+            live.recording().stop(matchId);
+            assertThatThrownBy(() -> live.recording().stop(matchId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("replay")
+    class Replay {
+
+        @Test
+        @DisplayName("reproduces the recorded match and verifies every keyframe")
+        void reproducesRecording() {
+            live.recording().start(matchId, file, 4);
+            for (int i = 0; i < 5; i++) {
+                push(1L, 0.5f);
+                spawn(i, 2f);
+                advance(3);
+            }
+            live.recording().stop(matchId);
+
+            ReplayResult result = bench.recording().replay(file, 0, Long.MAX_VALUE);
+
+            assertThat(result.fromTick()).isEqualTo(1);
+            assertThat(result.toTick()).isEqualTo(live.ticks().current());
+            assertThat(result.commands()).isEqualTo(10);
+            assertThat(result.diverged()).isFalse();
+            assertThat(result.keyframesVerified()).isEqualTo(4);
+            assertThat(result.checksum()).isEqualTo(live.migration().checksum(matchId));
+            assertThat(result.ticksPerSecond()).isPositive();
+            assertThat(bench.ticks().isPlaying()).isFalse();
+        }
+
+        @Test
+        @DisplayName("starts from the last keyframe at or before the requested tick")
+        void startsFromKeyframe() {
+            live.recording().start(matchId, file, 5);
+            push(1L, 1f);
+            advance(12);
+            live.recording().stop(matchId);
+
+            ReplayResult result = bench.recording().replay(file, 8, 11);
+
+            assertThat(result.fromTick()).isEqualTo(6);
+            assertThat(result.toTick()).isEqualTo(11);
+            assertThat(result.ticks()).isEqualTo(5);
+            assertThat(result.commands()).isZero();
+            assertThat(result.keyframesVerified()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("reports the first keyframe the replay differs from")
+        void reportsDivergence() throws Exception {
+            MatchMigrationState start = live.migration().capture(matchId);
+            advance(2);
+            MatchMigrationState end = live.migration().capture(matchId);
+            try (InputLogWriter writer = new InputLogWriter(file, matchId)) {
+                writer.appendKeyframe(start);
+                writer.appendKeyframe(new MatchMigrationState(end.matchId(), end.tick(), end.enabledModules(),
+                        end.playerLimit(), end.components(), end.entities(), end.players(), end.sessionPlayers(),
+                        end.checksum() + 1));
+            }
+
+            ReplayResult result = bench.recording().replay(file, 0, Long.MAX_VALUE);
+
+            assertThat(result.diverged()).isTrue();
+            assertThat(result.divergedAtTick()).isEqualTo(end.tick());
+            assertThat(result.checksum()).isEqualTo(end.checksum());
+        }
+
+        @Test
+        @DisplayName("deletes the replayed match so the container can replay again")
+        void replaysTwiceIntoOneContainer() {
+            live.recording().start(matchId, file, 2);
+            push(1L, 1f);
+            advance(4);
+            live.recording().stop(matchId);
+
+            ReplayResult first = bench.recording().replay(file, 0, Long.MAX_VALUE);
+            assertThat(bench.matches().all()).isEmpty();
+            ReplayResult second = bench.recording().replay(file, 0, Long.MAX_VALUE);
+
+            assertThat(second.diverged()).isFalse();
+            assertThat(second.toTick()).isEqualTo(first.toTick());
+            assertThat(second.checksum()).isEqualTo(first.checksum());
+            assertThat(bench.matches().all()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("refuses containers that host a match")
+        void refusesLiveContainers() {
+            live.recording().start(matchId, file, 0);
+            advance(3);
+            live.recording().stop(matchId);
+            long tick = live.ticks().current();
+
+            assertThatThrownBy(() -> live.recording().replay(file, 0, Long.MAX_VALUE))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("empty container");
+            assertThat(live.ticks().current()).isEqualTo(tick);
+            assertThat(live.matches().all()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("refuses files that are not input logs")
+        void refusesForeignFiles() throws Exception {
+            Files.writeString(file, "not a log at all");
+
+            assertThatThrownBy(() -> bench.recording().replay(file, 0, Long.MAX_VALUE))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("input log")
+    class InputLog {
+
+        @Test
+        @DisplayName("keeps payload value types")
+        void roundTripsPayloadTypes() throws Exception {
+            Map<String, Object> nested = new HashMap<>();
+            nested.put("missing", null);
+            nested.put("flag", true);
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("int", 1);
+            payload.put("long", 2L);
+            payload.put("float", 3.5f);
+            payload.put("double", 4.25);
+            payload.put("string", "héllo");
+            payload.put("list", List.of(1, "two", 3L));
+            payload.put("map", nested);
+
+            try (InputLogWriter writer = new InputLogWriter(file, 9L)) {
+                writer.appendCommand(4L, "anything", payload);
+            }
+
+            MigrationDelta.RecordedCommand command = InputLogReader.read(file).commands().getFirst();
+            assertThat(command.tick()).isEqualTo(4L);
+            assertThat(command.payload()).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("refuses payload values it could not read back with their type")
+        void refusesLossyPayloadValues() throws Exception {
+            try (InputLogWriter writer = new InputLogWriter(file, 9L)) {
+                writer.appendCommand(1L, "kept", Map.of("value", 1L));
+
+                assertThatThrownBy(() -> writer.appendCommand(2L, "lossy",
+                        Map.of("values", List.of(new StringBuilder("x")))))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("StringBuilder");
+                assertThat(writer.commandCount()).isEqualTo(1);
+            }
+
+            assertThat(InputLogReader.read(file).commands()).extracting(MigrationDelta.RecordedCommand::commandName)
+                    .containsExactly("kept");
+        }
+
+        @Test
+        @DisplayName("grows past one mapped region and truncates to its contents")
+        void growsAcrossRegions() throws Exception {
+            char[] chars = new char[10_000];
+            Arrays.fill(chars, 'x');
+            String large = new String(chars);
+            long size;
+            try (InputLogWriter writer = new InputLogWriter(file, 9L)) {
+                for (int i = 0; i < 300; i++) {
+                    writer.appendCommand(i, "cmd", Map.of("blob", large));
+                }
+                size = writer.size();
+            }
+
+            List<MigrationDelta.RecordedCommand> commands = new ArrayList<>(InputLogReader.read(file).commands());
+            assertThat(size).isGreaterThan(1 << 21);
+            assertThat(Files.size(file)).isEqualTo(size);
+            assertThat(commands).hasSize(300);
+            assertThat(commands.getLast().payload()).containsEntry("blob", large);
+        }
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            live.ticks().advance();
+        }
+    }
+
+    private static InMemoryExecutionContainer startContainer(long id, String name) {
+        InMemoryExecutionContainer container = new InMemoryExecutionContainer(id, ContainerConfig.withDefaults(name));
+        container.lifecycle().start();
+        container.modules().install(CounterModuleFactory.class);
+        return container;
+    }
+
+    private void spawn(float position, float velocity) {
+        live.commands().named("spawn")
+                .withParams(Map.of("matchId", matchId, "position", position, "velocity", velocity))
+                .execute();
+    }
+
+    private void push(long entityId, float amount) {
+        live.commands().named("push")
+                .withParams(Map.of("matchId", matchId, "entityId", entityId, "amount", amount))
+                .execute();
+    }
+}
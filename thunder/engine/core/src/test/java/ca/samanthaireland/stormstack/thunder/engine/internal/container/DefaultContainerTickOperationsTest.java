@@ -13,6 +13,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -187,6 +192,143 @@ class DefaultContainerTickOperationsTest {
         }
     }
 
+    @Nested
+    @DisplayName("turbo and headless")
+    class TurboAndHeadless {
+
+        @Test
+        @DisplayName("turbo runs the requested ticks back-to-back")
+        void turboRunsTicks() {
+            ticks.advance();
+
+            ContainerTickOperations.TurboResult result = ticks.turbo(600);
+
+            assertThat(result.fromTick()).isEqualTo(1);
+            assertThat(result.toTick()).isEqualTo(601);
+            assertThat(result.ticks()).isEqualTo(600);
+            assertThat(result.ticksPerSecond()).isPositive();
+            assertThat(ticks.current()).isEqualTo(601);
+        }
+
+        @Test
+        @DisplayName("turbo reports the time spent in each system")
+        void turboReportsSystemTime() {
+            container.modules().install(CounterModuleFactory.class);
+
+            ContainerTickOperations.TurboResult result = ticks.turbo(10);
+
+            assertThat(result.systemNanos()).hasSize(1);
+            assertThat(result.systemNanos().values()).allSatisfy(nanos -> assertThat(nanos).isPositive());
+        }
+
+        @Test
+        @DisplayName("turbo refuses to run while auto-advancing")
+        void turboRefusesWhilePlaying() {
+            ticks.play(50);
+
+            assertThatThrownBy(() -> ticks.turbo(10)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> container.ticks().turbo(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("a turbo run blocks auto-advance and applies headless changes when it finishes")
+        void turboHoldsOffPlayAndHeadlessChanges() throws Exception {
+            CountDownLatch laneBlocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> blocker = CompletableFuture.runAsync(() ->
+                    container.getTickExecutor().callOnLane(() -> {
+                        laneBlocked.countDown();
+                        return release.await(5, TimeUnit.SECONDS);
+                    }));
+            assertThat(laneBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<ContainerTickOperations.TurboResult> turbo =
+                    CompletableFuture.supplyAsync(() -> ticks.turbo(10, true));
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (!ticks.isHeadless() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> ticks.play(50)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> ticks.turbo(10)).isInstanceOf(IllegalStateException.class);
+            ticks.headless(true);
+            assertThat(ticks.isHeadless()).isTrue();
+
+            release.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+            assertThat(turbo.get(5, TimeUnit.SECONDS).ticks()).isEqualTo(10);
+            assertThat(ticks.isHeadless()).isTrue();
+            assertThat(ticks.isPlaying()).isFalse();
+        }
+
+        @Test
+        @DisplayName("stop ends a turbo run after its current batch")
+        void stopCancelsTurbo() throws Exception {
+            CountDownLatch laneBlocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> blocker = CompletableFuture.runAsync(() ->
+                    container.getTickExecutor().callOnLane(() -> {
+                        laneBlocked.countDown();
+                        return release.await(5, TimeUnit.SECONDS);
+                    }));
+            assertThat(laneBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<ContainerTickOperations.TurboResult> turbo =
+                    CompletableFuture.supplyAsync(() -> ticks.turbo(1_000_000, true));
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (!ticks.isHeadless() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            ticks.stop();
+            release.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+
+            assertThat(turbo.get(5, TimeUnit.SECONDS).ticks()).isEqualTo(256);
+            assertThat(ticks.isHeadless()).isFalse();
+            assertThat(ticks.turbo(10).ticks()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("a headless turbo run restores the headless mode it started with")
+        void headlessTurboRestoresMode() {
+            ticks.turbo(10, true);
+
+            assertThat(ticks.isHeadless()).isFalse();
+        }
+
+        @Test
+        @DisplayName("headless ticks are not offered to tick listeners")
+        void headlessSkipsTickListeners() {
+            List<Long> notified = new CopyOnWriteArrayList<>();
+            container.getGameLoop().addTickListener(notified::add);
+
+            ticks.headless(true).turbo(10);
+            assertThat(ticks.isHeadless()).isTrue();
+            ticks.headless(false).advance();
+
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (notified.isEmpty() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertThat(notified).containsExactly(11L);
+        }
+
+        @Test
+        @DisplayName("play with a speed spaces ticks by the interval divided by the speed")
+        void playWithSpeed() throws Exception {
+            ticks.play(1_000, 100);
+
+            assertThat(ticks.interval()).isEqualTo(1_000);
+            assertThat(ticks.speed()).isEqualTo(100);
+            ticks.waitForTick(5, 5_000);
+
+            ticks.stop();
+            assertThat(ticks.speed()).isEqualTo(1);
+            assertThatThrownBy(() -> ticks.play(16, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("waitForTick")
     class WaitForTick {
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.container;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerStatus;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WarmContainerPool")
+class WarmContainerPoolTest {
+
+    private static final ContainerConfig SMALL = ContainerConfig.builder("match")
+            .maxEntities(100)
+            .build();
+
+    private final List<ExecutionContainer> warmed = new CopyOnWriteArrayList<>();
+    private InMemoryContainerManager containerManager;
+
+    @BeforeEach
+    void setUp() {
+        containerManager = new InMemoryContainerManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        containerManager.shutdownAll();
+    }
+
+    private WarmContainerPool enablePool(int minSize, int maxSize, int maxPools) {
+        return containerManager.enableWarmPool((container, moduleNames) -> {
+            container.lifecycle().start();
+            warmed.add(container);
+        }, minSize, maxSize, maxPools);
+    }
+
+    @Nested
+    @DisplayName("claim")
+    class Claim {
+
+        @Test
+        @DisplayName("misses the first time a module set is seen, then serves warm containers")
+        void missesThenHits() {
+            WarmContainerPool pool = enablePool(1, 2, 4);
+
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of("MoveModule"))).isEmpty();
+            awaitWarm(pool, "MoveModule", 2);
+
+            Optional<ExecutionContainer> claimed = containerManager.claimWarmContainer(
+                    SMALL.withName("match-1"), List.of("MoveModule"));
+
+            assertThat(claimed).isPresent();
+            assertThat(claimed.get().getStatus()).isEqualTo(ContainerStatus.RUNNING);
+            assertThat(claimed.get().getName()).isEqualTo("match-1");
+            assertThat(containerManager.getContainer(claimed.get().getId())).contains(claimed.get());
+            assertThat(pool.getHitCount()).isEqualTo(1);
+            assertThat(pool.getMissCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("keeps warm containers out of the manager until claimed")
+        void warmContainersAreNotRegistered() {
+            WarmContainerPool pool = enablePool(1, 1, 4);
+
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            awaitWarm(pool, "MoveModule", 1);
+
+            assertThat(containerManager.getAllContainers()).isEmpty();
+            assertThat(containerManager.getWarmContainerCounts()).containsEntry("MoveModule", 1);
+        }
+
+        @Test
+        @DisplayName("treats module sets in any order as the same pool")
+        void moduleOrderDoesNotMatter() {
+            WarmContainerPool pool = enablePool(1, 1, 4);
+
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule", "EntityModule"));
+            awaitWarm(pool, "EntityModule,MoveModule", 1);
+
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of("EntityModule", "MoveModule")))
+                    .isPresent();
+        }
+
+        @Test
+        @DisplayName("only serves containers with the same configuration")
+        void configurationMustMatch() {
+            WarmContainerPool pool = enablePool(1, 1, 4);
+
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            awaitWarm(pool, "MoveModule", 1);
+
+            ContainerConfig larger = ContainerConfig.builder("match").maxEntities(200).build();
+            assertThat(containerManager.claimWarmContainer(larger, List.of("MoveModule"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("does not pool more module sets than allowed")
+        void capsModuleSets() {
+            WarmContainerPool pool = enablePool(1, 1, 1);
+
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            containerManager.claimWarmContainer(SMALL, List.of("EntityModule"));
+            awaitWarm(pool, "MoveModule", 1);
+
+            assertThat(pool.getWarmCounts()).containsOnlyKeys("MoveModule");
+        }
+
+        @Test
+        @DisplayName("serves the first claim of a pre-warmed module set")
+        void prewarmedSetHitsOnFirstClaim() {
+            WarmContainerPool pool = enablePool(2, 2, 4);
+
+            assertThat(pool.prewarm(SMALL, List.of("MoveModule", "EntityModule"))).isTrue();
+            awaitWarm(pool, "EntityModule,MoveModule", 2);
+
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of("EntityModule", "MoveModule")))
+                    .isPresent();
+            assertThat(pool.getHitCount()).isEqualTo(1);
+            assertThat(pool.getMissCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("does not pre-warm more module sets than allowed")
+        void prewarmRespectsModuleSetCap() {
+            WarmContainerPool pool = enablePool(1, 1, 1);
+
+            assertThat(pool.prewarm(SMALL, List.of("MoveModule"))).isTrue();
+            assertThat(pool.prewarm(SMALL, List.of("MoveModule"))).isTrue();
+            assertThat(pool.prewarm(SMALL, List.of("EntityModule"))).isFalse();
+            awaitWarm(pool, "MoveModule", 1);
+
+            assertThat(pool.getWarmCounts()).containsOnlyKeys("MoveModule");
+        }
+
+        @Test
+        @DisplayName("never pools containers without modules")
+        void ignoresEmptyModuleSets() {
+            WarmContainerPool pool = enablePool(1, 1, 4);
+
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of())).isEmpty();
+            assertThat(pool.getWarmCounts()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("drain stops every warm container")
+        void drainStopsWarmContainers() {
+            WarmContainerPool pool = enablePool(1, 1, 4);
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            awaitWarm(pool, "MoveModule", 1);
+
+            pool.drain();
+
+            assertThat(pool.getWarmCounts()).containsEntry("MoveModule", 0);
+            assertThat(warmed).allSatisfy(c -> assertThat(c.getStatus()).isEqualTo(ContainerStatus.STOPPED));
+        }
+
+        @Test
+        @DisplayName("shutdownAll closes the pool")
+        void shutdownClosesPool() {
+            WarmContainerPool pool = enablePool(1, 1, 4);
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            awaitWarm(pool, "MoveModule", 1);
+
+            containerManager.shutdownAll();
+
+            assertThat(warmed).allSatisfy(c -> assertThat(c.getStatus()).isEqualTo(ContainerStatus.STOPPED));
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of("MoveModule"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("discards containers that fail to warm")
+        void discardsFailedWarmups() {
+            WarmContainerPool pool = containerManager.enableWarmPool((container, moduleNames) -> {
+                warmed.add(container);
+                throw new IllegalStateException("module missing");
+            }, 1, 1, 4);
+
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            await(() -> !warmed.isEmpty() && warmed.get(0).getStatus() == ContainerStatus.STOPPED);
+
+            assertThat(pool.getWarmCounts()).containsEntry("MoveModule", 0);
+        }
+
+        @Test
+        @DisplayName("discards containers warmed under an older version")
+        void discardsStaleContainers() {
+            AtomicLong version = new AtomicLong();
+            WarmContainerPool pool = containerManager.enableWarmPool(new WarmContainerPool.Warmer() {
+                @Override
+                public void warm(ExecutionContainer container, List<String> moduleNames) {
+                    container.lifecycle().start();
+                    warmed.add(container);
+                }
+
+                @Override
+                public long version() {
+                    return version.get();
+                }
+            }, 1, 1, 4);
+            containerManager.claimWarmContainer(SMALL, List.of("MoveModule"));
+            awaitWarm(pool, "MoveModule", 1);
+            ExecutionContainer stale = warmed.get(0);
+
+            version.incrementAndGet();
+
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of("MoveModule"))).isEmpty();
+            assertThat(stale.getStatus()).isEqualTo(ContainerStatus.STOPPED);
+            awaitWarm(pool, "MoveModule", 1);
+            assertThat(containerManager.claimWarmContainer(SMALL, List.of("MoveModule"))).isPresent();
+        }
+
+        @Test
+        @DisplayName("claims racing close do not throw")
+        void claimsRacingClose() throws InterruptedException {
+            WarmContainerPool pool = enablePool(1, 2, 4);
+            List<Throwable> failures = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> claimers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread claimer = new Thread(() -> {
+                    started.countDown();
+                    for (int n = 0; n < 2_000; n++) {
+                        try {
+                            pool.claim(SMALL, List.of("MoveModule")).ifPresent(c -> c.lifecycle().stop());
+                        } catch (Throwable t) {
+                            failures.add(t);
+                        }
+                    }
+                });
+                claimers.add(claimer);
+                claimer.start();
+            }
+            started.await();
+
+            pool.close();
+            for (Thread claimer : claimers) {
+                claimer.join(10_000);
+            }
+
+            assertThat(failures).isEmpty();
+            assertThat(pool.claim(SMALL, List.of("MoveModule"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("rejects inconsistent sizes")
+        void rejectsInvalidSizes() {
+            assertThatThrownBy(() -> enablePool(2, 1, 4)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static void awaitWarm(WarmContainerPool pool, String moduleSet, int count) {
+        await(() -> pool.getWarmCounts().getOrDefault(moduleSet, 0) == count);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 10s");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -24,12 +24,13 @@
 package ca.samanthaireland.stormstack.thunder.engine.internal.core.error;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.error.GameError;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.FanOutExecutor;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -45,7 +46,6 @@ class InMemoryErrorBroadcasterTest {
     }
 
     @Test
-    @Disabled("Flaky test - async thread pool timing causes race conditions where errors may not be delivered within the 2s timeout")
     void subscribe_receivesAllErrors() throws InterruptedException {
         List<GameError> received = new ArrayList<>();
         CountDownLatch latch = new CountDownLatch(2);
@@ -142,6 +142,80 @@ class InMemoryErrorBroadcasterTest {
         assertThat(received.get(0).message()).isEqualTo("before unsubscribe");
     }
 
+    @Test
+    void subscribeToPlayerBatches_receivesTickAsOneBatch() throws InterruptedException {
+        List<List<GameError>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        broadcaster.subscribeToPlayerBatches(1, 100, batch -> {
+            batches.add(batch);
+            latch.countDown();
+        });
+
+        broadcaster.publishAll(List.of(
+                GameError.commandError(1, 100, "cmd", "first", ""),
+                GameError.commandError(1, 200, "cmd", "other player", ""),
+                GameError.commandError(1, 100, "cmd", "second", "")));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(GameError::message).containsExactly("first", "second");
+    }
+
+    @Test
+    void publishAll_coalescesIdenticalErrors() throws InterruptedException {
+        List<GameError> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        broadcaster.subscribeToPlayerBatches(1, 100, batch -> {
+            received.addAll(batch);
+            latch.countDown();
+        });
+
+        List<GameError> tick = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tick.add(GameError.commandError(1, 100, "move", "entity not found", "stack " + i));
+        }
+        tick.add(GameError.commandError(1, 100, "attack", "out of range", ""));
+        broadcaster.publishAll(tick);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).occurrences()).isEqualTo(50);
+        assertThat(received.get(0).details()).isEqualTo("stack 0");
+        assertThat(received.get(1).occurrences()).isEqualTo(1);
+        assertThat(broadcaster.getCoalescedCount()).isEqualTo(49);
+    }
+
+    @Test
+    void publish_dropsErrorsBeyondSubscriberCapacity() throws InterruptedException {
+        InMemoryErrorBroadcaster bounded = new InMemoryErrorBroadcaster(
+                new FanOutExecutor("test-errors", 1, 10), 2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<GameError> received = new CopyOnWriteArrayList<>();
+
+        bounded.subscribe(error -> {
+            received.add(error);
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        bounded.publish(GameError.generalError("test", "in flight", ""));
+        while (received.isEmpty()) {
+            Thread.sleep(1);
+        }
+        for (int i = 0; i < 5; i++) {
+            bounded.publish(GameError.generalError("test", "queued " + i, ""));
+        }
+
+        assertThat(bounded.getDroppedCount()).isEqualTo(3);
+        release.countDown();
+        bounded.shutdown();
+    }
+
     @Test
     void gameError_commandError_setsCorrectType() {
         GameError error = GameError.commandError(1, 2, "TestCommand", "failed", "stack");
@@ -166,6 +240,20 @@ class InMemoryErrorBroadcasterTest {
         assertThat(error.source()).isEqualTo("PhysicsSystem");
     }
 
+    @Test
+    void gameError_mergedWith_countsOccurrences() {
+        GameError first = GameError.commandError(1, 2, "TestCommand", "failed", "stack");
+        GameError repeat = GameError.commandError(1, 2, "TestCommand", "failed", "other stack");
+
+        GameError merged = first.mergedWith(repeat);
+
+        assertThat(first.occurrences()).isEqualTo(1);
+        assertThat(merged.occurrences()).isEqualTo(2);
+        assertThat(merged.id()).isEqualTo(first.id());
+        assertThat(merged.details()).isEqualTo("stack");
+        assertThat(first.coalescingKey()).isEqualTo(repeat.coalescingKey());
+    }
+
     @Test
     void gameError_generalError_setsCorrectType() {
         GameError error = GameError.generalError("Startup", "failed to init", "stack");
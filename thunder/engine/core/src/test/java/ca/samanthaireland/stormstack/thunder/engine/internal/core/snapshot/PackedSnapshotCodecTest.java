@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ComponentData;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link PackedSnapshotCodec} and {@link FrameDeflater}.
+ */
+@DisplayName("PackedSnapshotCodec")
+class PackedSnapshotCodecTest {
+
+    private static final int ENTITIES = 200;
+
+    private static final SnapshotEncodingSchema SCHEMA = SnapshotEncodingSchema.fromComponents(Map.of(
+            "GridMapModule", List.of(
+                    new TestComponent(1, "POSITION_X", ComponentEncoding.quantized(0, 1024, 1.0 / 64)),
+                    new TestComponent(2, "POSITION_Y", ComponentEncoding.quantized(0, 1024, 1.0 / 64)),
+                    new TestComponent(3, "VISIBLE", ComponentEncoding.BOOLEAN),
+                    new TestComponent(4, "HEALTH", ComponentEncoding.integer(0, 100)))));
+
+    private final PackedSnapshotCodec codec = new PackedSnapshotCodec(SCHEMA);
+
+    private static Snapshot snapshot(int entities) {
+        List<Float> ids = new ArrayList<>();
+        List<Float> xs = new ArrayList<>();
+        List<Float> ys = new ArrayList<>();
+        List<Float> visible = new ArrayList<>();
+        List<Float> health = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            ids.add((float) (i + 1));
+            xs.add((i * 37 % 1024) + 0.25f);
+            ys.add((i * 91 % 1024) + 0.5f);
+            visible.add(i % 3 == 0 ? 0f : 1f);
+            health.add((float) (i % 101));
+        }
+        return Snapshot.builder()
+                .module("GridMapModule", "1.0",
+                        ComponentData.of("ENTITY_ID", ids),
+                        ComponentData.of("POSITION_X", xs),
+                        ComponentData.of("POSITION_Y", ys),
+                        ComponentData.of("VISIBLE", visible),
+                        ComponentData.of("HEALTH", health))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("round trip values within their declared precision")
+        void roundTrip() {
+            Snapshot original = snapshot(ENTITIES);
+
+            Snapshot decoded = codec.decodeSnapshot(codec.encode(original));
+
+            assertThat(decoded.moduleNames()).containsExactly("GridMapModule");
+            var module = decoded.module("GridMapModule").orElseThrow();
+            assertThat(module.component("ENTITY_ID").orElseThrow().values())
+                    .isEqualTo(original.module("GridMapModule").orElseThrow().component("ENTITY_ID").orElseThrow().values());
+            assertThat(module.component("HEALTH").orElseThrow().values())
+                    .isEqualTo(original.module("GridMapModule").orElseThrow().component("HEALTH").orElseThrow().values());
+            List<Float> xs = module.component("POSITION_X").orElseThrow().values();
+            List<Float> originalXs = original.module("GridMapModule").orElseThrow().component("POSITION_X").orElseThrow().values();
+            for (int i = 0; i < xs.size(); i++) {
+                assertThat(xs.get(i)).isCloseTo(originalXs.get(i), within(1f / 128));
+            }
+        }
+
+        @Test
+        @DisplayName("packs hinted columns far smaller than raw floats")
+        void packsSmaller() {
+            byte[] packed = codec.encode(snapshot(ENTITIES));
+            byte[] raw = new PackedSnapshotCodec(SnapshotEncodingSchema.RAW).encode(snapshot(ENTITIES));
+
+            // 4 columns of 32-bit floats vs. 17-bit positions, 1-bit flags and 7-bit health
+            assertThat(raw.length).isGreaterThan(ENTITIES * 4 * 4);
+            assertThat(packed.length * 2).isLessThan(raw.length);
+        }
+
+        @Test
+        @DisplayName("falls back to raw floats for values the hint cannot hold")
+        void fallsBackToRaw() {
+            Snapshot original = Snapshot.builder()
+                    .module("GridMapModule", "1.0",
+                            ComponentData.of("HEALTH", 50f, 150.5f),
+                            ComponentData.of("VISIBLE", 1f, Float.NaN))
+                    .build();
+
+            Snapshot decoded = codec.decodeSnapshot(codec.encode(original));
+
+            var module = decoded.module("GridMapModule").orElseThrow();
+            assertThat(module.component("HEALTH").orElseThrow().values()).containsExactly(50f, 150.5f);
+            assertThat(module.component("VISIBLE").orElseThrow().values().get(1)).isNaN();
+        }
+
+        @Test
+        @DisplayName("rejects frames of the wrong kind")
+        void rejectsWrongKind() {
+            byte[] delta = codec.encode(new DeltaSnapshot(1, 1, 2, Map.of(), Set.of(), Set.of()));
+
+            assertThatThrownBy(() -> codec.decodeSnapshot(delta))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Deltas")
+    class Deltas {
+
+        @Test
+        @DisplayName("round trip entity sets and changed values")
+        void roundTrip() {
+            DeltaSnapshot original = new DeltaSnapshot(7, 100, 101,
+                    Map.of("GridMapModule", Map.of(
+                            "HEALTH", Map.of(5L, 40f, 3L, 99f),
+                            "POSITION_X", Map.of(5L, 12.5f))),
+                    Set.of(5L, 900L), Set.of(2L));
+
+            DeltaSnapshot decoded = codec.decodeDelta(codec.encode(original));
+
+            assertThat(decoded).isEqualTo(original);
+        }
+
+        @Test
+        @DisplayName("empty heartbeat delta is a handful of bytes")
+        void heartbeatIsTiny() {
+            byte[] frame = codec.encode(new DeltaSnapshot(7, 100, 100, Map.of(), Set.of(), Set.of()));
+
+            assertThat(frame.length).isLessThanOrEqualTo(8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Schema frames")
+    class SchemaFrames {
+
+        @Test
+        @DisplayName("carry every declared encoding")
+        void roundTrip() {
+            SnapshotEncodingSchema decoded = PackedSnapshotCodec.decodeSchema(codec.encodeSchema());
+
+            assertThat(decoded).isEqualTo(SCHEMA);
+            assertThat(decoded.encodingOf("GridMapModule", "POSITION_X"))
+                    .isEqualTo(ComponentEncoding.quantized(0, 1024, 1.0 / 64));
+        }
+
+        @Test
+        @DisplayName("let a client decode a stream from the frames it receives alone")
+        void clientDecodesFromReceivedFrames() {
+            Snapshot original = snapshot(ENTITIES);
+            DeltaSnapshot delta = new DeltaSnapshot(7, 100, 101,
+                    Map.of("GridMapModule", Map.of("HEALTH", Map.of(5L, 40f), "VISIBLE", Map.of(5L, 0f))),
+                    Set.of(900L), Set.of(2L));
+            List<byte[]> received = List.of(codec.encodeSchema(), codec.encode(original), codec.encode(delta));
+
+            assertThat(received.get(0)[0]).isEqualTo((byte) PackedSnapshotCodec.SCHEMA_FRAME);
+            PackedSnapshotCodec client = new PackedSnapshotCodec(PackedSnapshotCodec.decodeSchema(received.get(0)));
+
+            assertThat(client.decodeSnapshot(received.get(1))).isEqualTo(codec.decodeSnapshot(received.get(1)));
+            assertThat(client.decodeDelta(received.get(2))).isEqualTo(delta);
+        }
+
+        @Test
+        @DisplayName("an empty schema round trips to the raw schema")
+        void emptySchema() {
+            byte[] frame = new PackedSnapshotCodec(SnapshotEncodingSchema.RAW).encodeSchema();
+
+            assertThat(PackedSnapshotCodec.decodeSchema(frame)).isEqualTo(SnapshotEncodingSchema.RAW);
+        }
+    }
+
+    @Nested
+    @DisplayName("FrameDeflater")
+    class Deflating {
+
+        @Test
+        @DisplayName("frames inflate in order with one inflater and shrink as history builds up")
+        void continuousStream() throws Exception {
+            byte[] first = codec.encode(snapshot(ENTITIES));
+            byte[] second = codec.encode(snapshot(ENTITIES));
+
+            try (FrameDeflater deflater = new FrameDeflater()) {
+                byte[] firstCompressed = deflater.deflate(first);
+                byte[] secondCompressed = deflater.deflate(second);
+
+                Inflater inflater = new Inflater(true);
+                assertThat(inflate(inflater, firstCompressed)).isEqualTo(first);
+                assertThat(inflate(inflater, secondCompressed)).isEqualTo(second);
+                inflater.end();
+
+                assertThat(secondCompressed.length).isLessThan(firstCompressed.length);
+            }
+        }
+
+        private byte[] inflate(Inflater inflater, byte[] compressed) throws Exception {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inflater.inflate(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static class TestComponent extends BaseComponent {
+        TestComponent(long id, String name, ComponentEncoding encoding) {
+            super(id, name, encoding);
+        }
+    }
+}
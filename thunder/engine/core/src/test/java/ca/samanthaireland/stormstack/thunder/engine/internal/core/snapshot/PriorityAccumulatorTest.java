@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PriorityAccumulator}.
+ */
+@DisplayName("PriorityAccumulator")
+class PriorityAccumulatorTest {
+
+    private static final long MATCH_ID = 1L;
+    private static final long SECOND = 1_000_000_000L;
+    // one entity with a single changed value
+    private static final int ONE_VALUE = PriorityAccumulator.ENTITY_BYTES + PriorityAccumulator.VALUE_BYTES;
+
+    private static DeltaSnapshot delta(Map<String, Map<Long, Float>> components, Set<Long> added, Set<Long> removed) {
+        return new DeltaSnapshot(MATCH_ID, 1, 2, Map.of("TestModule", components), added, removed);
+    }
+
+    private static Map<Long, Float> values(long... entityIds) {
+        Map<Long, Float> values = new LinkedHashMap<>();
+        for (long id : entityIds) {
+            values.put(id, (float) id);
+        }
+        return values;
+    }
+
+    private static Set<Long> sentEntities(DeltaSnapshot delta) {
+        Set<Long> sent = new HashSet<>(delta.addedEntities());
+        delta.changedComponents().values().forEach(module ->
+                module.values().forEach(component -> sent.addAll(component.keySet())));
+        return sent;
+    }
+
+    @Test
+    @DisplayName("unlimited budget passes the delta through")
+    void unlimitedPassesThrough() {
+        PriorityAccumulator accumulator = new PriorityAccumulator(0, Map.of(), 0);
+        DeltaSnapshot delta = delta(Map.of("POSITION_X", values(1, 2, 3)), Set.of(), Set.of());
+
+        PriorityAccumulator.Selection selection = accumulator.select(delta, Map.of(), 0);
+
+        assertThat(selection.delta()).isSameAs(delta);
+        assertThat(selection.complete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("delta that fits the budget is sent whole")
+    void fittingDeltaSentWhole() {
+        PriorityAccumulator accumulator = new PriorityAccumulator(10 * ONE_VALUE, Map.of(), 0);
+        DeltaSnapshot delta = delta(Map.of("POSITION_X", values(1, 2, 3)), Set.of(), Set.of());
+
+        PriorityAccumulator.Selection selection = accumulator.select(delta, Map.of(), 0);
+
+        assertThat(selection.delta()).isSameAs(delta);
+        assertThat(accumulator.deferredCount()).isZero();
+    }
+
+    @Nested
+    @DisplayName("Over budget")
+    class OverBudget {
+
+        @Test
+        @DisplayName("sends the most important components first")
+        void importantComponentsFirst() {
+            PriorityAccumulator accumulator = new PriorityAccumulator(
+                    2 * ONE_VALUE, Map.of("HEALTH", 5.0), 0);
+            Map<String, Map<Long, Float>> components = new LinkedHashMap<>();
+            components.put("POSITION_X", values(1, 2));
+            components.put("HEALTH", values(3));
+
+            PriorityAccumulator.Selection selection = accumulator.select(
+                    delta(components, Set.of(), Set.of()), Map.of(), 0);
+
+            assertThat(sentEntities(selection.delta())).contains(3L).hasSize(2);
+            assertThat(selection.deferredEntities()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("nearer entities win over distant ones")
+        void nearerFirst() {
+            PriorityAccumulator accumulator = new PriorityAccumulator(ONE_VALUE, Map.of(), 10);
+
+            PriorityAccumulator.Selection selection = accumulator.select(
+                    delta(Map.of("POSITION_X", values(1, 2)), Set.of(), Set.of()),
+                    Map.of(1L, 200.0, 2L, 1.0), 0);
+
+            assertThat(sentEntities(selection.delta())).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("deferred entities gain priority until they are sent")
+        void deferredEntitiesDoNotStarve() {
+            PriorityAccumulator accumulator = new PriorityAccumulator(ONE_VALUE, Map.of(), 10);
+            DeltaSnapshot delta = delta(Map.of("POSITION_X", values(1, 2)), Set.of(), Set.of());
+            Map<Long, Double> distances = Map.of(1L, 30.0, 2L, 1.0);
+
+            Set<Long> sent = new HashSet<>();
+            for (int i = 0; i < 6; i++) {
+                sent.addAll(sentEntities(accumulator.select(delta, distances, i * SECOND).delta()));
+            }
+
+            assertThat(sent).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("always sends removals and at least one entity")
+        void removalsAndProgress() {
+            PriorityAccumulator accumulator = new PriorityAccumulator(1, Map.of(), 0);
+
+            PriorityAccumulator.Selection selection = accumulator.select(
+                    delta(Map.of("POSITION_X", values(1, 2)), Set.of(), Set.of(9L)), Map.of(), 0);
+
+            assertThat(selection.delta().removedEntities()).containsExactly(9L);
+            assertThat(sentEntities(selection.delta())).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("added entities outrank plain changes")
+        void addedEntitiesFirst() {
+            PriorityAccumulator accumulator = new PriorityAccumulator(ONE_VALUE, Map.of(), 0);
+
+            PriorityAccumulator.Selection selection = accumulator.select(
+                    delta(Map.of("POSITION_X", values(1, 2)), Set.of(2L), Set.of()), Map.of(), 0);
+
+            assertThat(selection.delta().addedEntities()).containsExactly(2L);
+            assertThat(sentEntities(selection.delta())).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("budget refills over time")
+        void budgetRefills() {
+            PriorityAccumulator accumulator = new PriorityAccumulator(2 * ONE_VALUE, Map.of(), 0);
+            DeltaSnapshot delta = delta(Map.of("POSITION_X", values(1, 2, 3, 4)), Set.of(), Set.of());
+
+            assertThat(accumulator.select(delta, Map.of(), 0).deferredEntities()).isEqualTo(2);
+            assertThat(accumulator.select(delta, Map.of(), 0).deferredEntities()).isEqualTo(3);
+            assertThat(accumulator.select(delta, Map.of(), 2 * SECOND).deferredEntities()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SnapshotRing}.
+ */
+@DisplayName("SnapshotRing")
+class SnapshotRingTest {
+
+    private static Snapshot snapshot() {
+        return new Snapshot(List.of());
+    }
+
+    @Test
+    @DisplayName("rejects non-positive capacity")
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new SnapshotRing(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("computeIfAbsent")
+    class ComputeIfAbsent {
+
+        @Test
+        @DisplayName("builds a tick's snapshot once")
+        void buildsOnce() {
+            SnapshotRing ring = new SnapshotRing(4);
+            AtomicInteger builds = new AtomicInteger();
+            Snapshot first = ring.computeIfAbsent(7, 0, () -> {
+                builds.incrementAndGet();
+                return snapshot();
+            });
+
+            Snapshot second = ring.computeIfAbsent(7, 0, () -> {
+                builds.incrementAndGet();
+                return snapshot();
+            });
+
+            assertThat(second).isSameAs(first);
+            assertThat(builds).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("evicts the oldest tick when full")
+        void evictsOldest() {
+            SnapshotRing ring = new SnapshotRing(2);
+            ring.computeIfAbsent(1, 0, SnapshotRingTest::snapshot);
+            ring.computeIfAbsent(2, 0, SnapshotRingTest::snapshot);
+            ring.computeIfAbsent(3, 0, SnapshotRingTest::snapshot);
+
+            assertThat(ring.get(1)).isEmpty();
+            assertThat(ring.get(2)).isPresent();
+            assertThat(ring.get(3)).isPresent();
+            assertThat(ring.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("drops every snapshot when a recorded tick changes")
+        void clearsOnNewerVersionOfRecordedTick() {
+            SnapshotRing ring = new SnapshotRing(4);
+            ring.computeIfAbsent(6, 1, SnapshotRingTest::snapshot);
+            Snapshot stale = ring.computeIfAbsent(7, 1, SnapshotRingTest::snapshot);
+
+            Snapshot changed = ring.computeIfAbsent(7, 2, SnapshotRingTest::snapshot);
+
+            assertThat(changed).isNotSameAs(stale);
+            assertThat(ring.get(6)).isEmpty();
+            assertThat(ring.get(7)).containsSame(changed);
+            assertThat(ring.computeIfAbsent(7, 1, SnapshotRingTest::snapshot)).isSameAs(changed);
+        }
+
+        @Test
+        @DisplayName("drops every snapshot when a rewound timeline reaches a recorded tick")
+        void clearsOnRewind() {
+            SnapshotRing ring = new SnapshotRing(4);
+            ring.computeIfAbsent(9, 3, SnapshotRingTest::snapshot);
+            Snapshot oldTimeline = ring.computeIfAbsent(10, 3, SnapshotRingTest::snapshot);
+
+            ring.computeIfAbsent(5, 8, SnapshotRingTest::snapshot);
+            Snapshot newTimeline = ring.computeIfAbsent(10, 9, SnapshotRingTest::snapshot);
+
+            assertThat(newTimeline).isNotSameAs(oldTimeline);
+            assertThat(ring.get(9)).isEmpty();
+            assertThat(ring.get(5)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("does not record a tick read before a newer publication")
+        void doesNotRecordStaleReads() {
+            SnapshotRing ring = new SnapshotRing(4);
+            ring.computeIfAbsent(11, 4, SnapshotRingTest::snapshot);
+
+            ring.computeIfAbsent(10, 4, SnapshotRingTest::snapshot);
+
+            assertThat(ring.get(10)).isEmpty();
+            assertThat(ring.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("get")
+    class Get {
+
+        @Test
+        @DisplayName("returns the recorded snapshot")
+        void returnsRecorded() {
+            SnapshotRing ring = new SnapshotRing(4);
+            Snapshot recorded = ring.computeIfAbsent(3, 0, SnapshotRingTest::snapshot);
+
+            assertThat(ring.get(3)).containsSame(recorded);
+        }
+
+        @Test
+        @DisplayName("resolves a tick only in the epoch it was published in")
+        void resolvesWithinEpoch() {
+            SnapshotRing ring = new SnapshotRing(4);
+            SnapshotRing.Published sent = ring.publish(3, 1, SnapshotRingTest::snapshot);
+
+            assertThat(ring.get(3, sent.epoch())).containsSame(sent.snapshot());
+
+            SnapshotRing.Published changed = ring.publish(3, 2, SnapshotRingTest::snapshot);
+
+            assertThat(changed.epoch()).isGreaterThan(sent.epoch());
+            assertThat(ring.get(3, sent.epoch())).isEmpty();
+            assertThat(ring.get(3, changed.epoch())).containsSame(changed.snapshot());
+        }
+
+        @Test
+        @DisplayName("keeps the epoch while ticks advance")
+        void keepsEpochWhileAdvancing() {
+            SnapshotRing ring = new SnapshotRing(2);
+            long epoch = ring.publish(1, 0, SnapshotRingTest::snapshot).epoch();
+            ring.publish(2, 1, SnapshotRingTest::snapshot);
+            ring.publish(3, 2, SnapshotRingTest::snapshot);
+
+            assertThat(ring.epoch()).isEqualTo(epoch);
+            assertThat(ring.get(1, epoch)).isEmpty();
+            assertThat(ring.get(3, epoch)).isPresent();
+        }
+
+        @Test
+        @DisplayName("is empty for unknown ticks")
+        void emptyForUnknown() {
+            SnapshotRing ring = new SnapshotRing(4);
+
+            assertThat(ring.get(3)).isEmpty();
+            assertThat(ring.size()).isZero();
+        }
+    }
+}
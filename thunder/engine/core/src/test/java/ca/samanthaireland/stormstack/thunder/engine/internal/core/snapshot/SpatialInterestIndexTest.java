@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.ComponentData;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.InterestConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleResolver;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleVersion;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.ArrayEntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.DirtyTrackingEntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.store.EcsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SpatialInterestIndex}.
+ */
+@DisplayName("SpatialInterestIndex")
+class SpatialInterestIndexTest {
+
+    private static final EcsProperties PROPERTIES = new EcsProperties(10000, 100);
+    private static final long MATCH_ID = 1L;
+    private static final long PLAYER = 7L;
+    private static final long OTHER_PLAYER = 8L;
+
+    private static final BaseComponent TEST_FLAG = new TestComponent(2000, "TEST_FLAG");
+    private static final BaseComponent POSITION_X = new TestComponent(2001, "POSITION_X");
+    private static final BaseComponent POSITION_Y = new TestComponent(2002, "POSITION_Y");
+
+    // radius 10, cell size 10, hysteresis 2.5
+    private static final InterestConfig INTEREST = InterestConfig.withRadius(10f);
+
+    private DirtyTrackingEntityComponentStore store;
+    private SpatialInterestIndex index;
+    private AtomicInteger refreshes;
+
+    @BeforeEach
+    void setUp() {
+        store = new DirtyTrackingEntityComponentStore(new ArrayEntityComponentStore(PROPERTIES));
+        index = new SpatialInterestIndex(store, new TestModuleResolver(), INTEREST, store::changeVersion);
+        refreshes = new AtomicInteger();
+    }
+
+    private Set<Long> visibleTo(long playerId) {
+        return index.visibleTo(MATCH_ID, playerId, () -> {
+            refreshes.incrementAndGet();
+            return store.getEntitiesWithComponents(TEST_FLAG, CoreComponents.MATCH_ID);
+        });
+    }
+
+    private long spawn(long ownerId, float x, float y) {
+        long entityId = store.createEntityForMatch(MATCH_ID);
+        store.attachComponent(entityId, TEST_FLAG, 1.0f);
+        store.attachComponent(entityId, CoreComponents.OWNER_ID, ownerId);
+        move(entityId, x, y);
+        return entityId;
+    }
+
+    private void move(long entityId, float x, float y) {
+        store.attachComponent(entityId, POSITION_X, x);
+        store.attachComponent(entityId, POSITION_Y, y);
+    }
+
+    @Nested
+    @DisplayName("Visibility")
+    class Visibility {
+
+        @Test
+        @DisplayName("includes owned entities and neighbours within the radius")
+        void includesOwnedAndNearby() {
+            long eye = spawn(PLAYER, 0, 0);
+            long near = spawn(OTHER_PLAYER, 6, 6);
+            long far = spawn(OTHER_PLAYER, 50, 0);
+
+            assertThat(visibleTo(PLAYER)).containsExactlyInAnyOrder(eye, near);
+        }
+
+        @Test
+        @DisplayName("owned entities are visible regardless of distance")
+        void ownedAlwaysVisible() {
+            long eye = spawn(PLAYER, 0, 0);
+            long farOwned = spawn(PLAYER, 500, 500);
+
+            assertThat(visibleTo(PLAYER)).containsExactlyInAnyOrder(eye, farOwned);
+        }
+
+        @Test
+        @DisplayName("sees around every positioned entity the player owns")
+        void unionOfViewers() {
+            spawn(PLAYER, 0, 0);
+            spawn(PLAYER, 100, 100);
+            long nearFirst = spawn(OTHER_PLAYER, -5, 0);
+            long nearSecond = spawn(OTHER_PLAYER, 105, 100);
+
+            assertThat(visibleTo(PLAYER)).contains(nearFirst, nearSecond);
+        }
+
+        @Test
+        @DisplayName("player without entities sees nothing")
+        void spectatorSeesNothing() {
+            spawn(OTHER_PLAYER, 0, 0);
+
+            assertThat(visibleTo(PLAYER)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Hysteresis")
+    class Hysteresis {
+
+        @Test
+        @DisplayName("visible entity stays visible inside the hysteresis band")
+        void staysVisibleInsideBand() {
+            spawn(PLAYER, 0, 0);
+            long other = spawn(OTHER_PLAYER, 9, 0);
+            assertThat(visibleTo(PLAYER)).contains(other);
+
+            move(other, 12, 0);
+            assertThat(visibleTo(PLAYER)).contains(other);
+
+            move(other, 13, 0);
+            assertThat(visibleTo(PLAYER)).doesNotContain(other);
+        }
+
+        @Test
+        @DisplayName("entity entering the band is not visible until inside the radius")
+        void entersOnlyInsideRadius() {
+            spawn(PLAYER, 0, 0);
+            long other = spawn(OTHER_PLAYER, 12, 0);
+
+            assertThat(visibleTo(PLAYER)).doesNotContain(other);
+
+            move(other, 10, 0);
+            assertThat(visibleTo(PLAYER)).contains(other);
+        }
+    }
+
+    @Nested
+    @DisplayName("Maintenance")
+    class Maintenance {
+
+        @Test
+        @DisplayName("does not refresh while the match is unchanged")
+        void skipsRefreshWhenUnchanged() {
+            spawn(PLAYER, 0, 0);
+
+            visibleTo(PLAYER);
+            visibleTo(PLAYER);
+            visibleTo(OTHER_PLAYER);
+
+            assertThat(refreshes).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("drops deleted entities")
+        void dropsDeletedEntities() {
+            spawn(PLAYER, 0, 0);
+            long other = spawn(OTHER_PLAYER, 1, 1);
+            visibleTo(PLAYER);
+
+            store.deleteEntity(other);
+
+            assertThat(visibleTo(PLAYER)).doesNotContain(other);
+            assertThat(index.trackedEntityCount(MATCH_ID)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("forgets removed matches")
+        void forgetsRemovedMatches() {
+            spawn(PLAYER, 0, 0);
+            visibleTo(PLAYER);
+
+            index.remove(MATCH_ID);
+
+            assertThat(index.trackedEntityCount(MATCH_ID)).isZero();
+            assertThat(index.distancesFrom(MATCH_ID, PLAYER, List.of(1L))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Distances")
+    class Distances {
+
+        @Test
+        @DisplayName("measures from the nearest owned entity")
+        void measuresFromNearestOwned() {
+            spawn(PLAYER, 0, 0);
+            spawn(PLAYER, 100, 0);
+            long near = spawn(OTHER_PLAYER, 3, 4);
+            long between = spawn(OTHER_PLAYER, 90, 0);
+            visibleTo(PLAYER);
+
+            Map<Long, Double> distances = index.distancesFrom(MATCH_ID, PLAYER, List.of(near, between));
+
+            assertThat(distances).containsEntry(near, 5.0).containsEntry(between, 10.0);
+        }
+
+        @Test
+        @DisplayName("reports nothing for a player without entities")
+        void emptyForSpectator() {
+            long other = spawn(OTHER_PLAYER, 1, 1);
+            visibleTo(PLAYER);
+
+            assertThat(index.distancesFrom(MATCH_ID, PLAYER, List.of(other))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("player snapshots from the caching provider honour the interest radius")
+    void cachingProviderUsesInterest() {
+        CachingSnapshotProvider provider = new CachingSnapshotProvider(
+                store, new TestModuleResolver(), () -> 0L,
+                CachingSnapshotProvider.DEFAULT_REBUILD_THRESHOLD,
+                CachingSnapshotProvider.DEFAULT_MAX_CACHE_AGE_TICKS,
+                INTEREST);
+        long eye = spawn(PLAYER, 0, 0);
+        long near = spawn(OTHER_PLAYER, 3, 0);
+        spawn(OTHER_PLAYER, 80, 0);
+
+        Snapshot snapshot = provider.createForMatchAndPlayer(MATCH_ID, PLAYER);
+
+        List<Float> entityIds = snapshot.modules().getFirst().component("ENTITY_ID")
+                .map(ComponentData::values)
+                .orElseThrow();
+        assertThat(entityIds).containsExactlyInAnyOrder((float) eye, (float) near);
+    }
+
+    private static class TestComponent extends BaseComponent {
+        TestComponent(long id, String name) {
+            super(id, name);
+        }
+    }
+
+    private static class TestModuleResolver implements ModuleResolver {
+        @Override
+        public List<EngineModule> resolveAllModules() {
+            return List.of(new TestModule());
+        }
+
+        @Override
+        public EngineModule resolveModule(String moduleName) {
+            return "TestModule".equals(moduleName) ? new TestModule() : null;
+        }
+
+        @Override
+        public List<String> getAvailableModules() {
+            return List.of("TestModule");
+        }
+
+        @Override
+        public boolean hasModule(String moduleName) {
+            return "TestModule".equals(moduleName);
+        }
+    }
+
+    private static class TestModule implements EngineModule {
+        @Override
+        public String getName() {
+            return "TestModule";
+        }
+
+        @Override
+        public ModuleVersion getVersion() {
+            return ModuleVersion.of(1, 0);
+        }
+
+        @Override
+        public List<ca.samanthaireland.stormstack.thunder.engine.core.system.EngineSystem> createSystems() {
+            return List.of();
+        }
+
+        @Override
+        public List<ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand> createCommands() {
+            return List.of();
+        }
+
+        @Override
+        public BaseComponent createFlagComponent() {
+            return TEST_FLAG;
+        }
+
+        @Override
+        public List<BaseComponent> createComponents() {
+            return List.of(POSITION_X, POSITION_Y);
+        }
+    }
+}
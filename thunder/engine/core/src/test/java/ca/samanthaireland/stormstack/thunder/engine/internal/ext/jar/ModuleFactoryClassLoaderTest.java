@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ModuleFactoryClassLoader")
+class ModuleFactoryClassLoaderTest {
+
+    private static final String INDEX = "META-INF/services/" + Supplier.class.getName();
+
+    @TempDir
+    Path tempDir;
+
+    private ModuleFactoryClassLoader<Supplier> loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new ModuleFactoryClassLoader<>(Supplier.class, "Supplier");
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    @Nested
+    @DisplayName("with a service index")
+    class WithIndex {
+
+        @Test
+        @DisplayName("loads only the listed factories")
+        void loadsOnlyListedFactories() throws IOException {
+            Map<String, byte[]> entries = classEntries(Alpha.class, Beta.class, LegacyGreeter.class);
+            entries.put(INDEX, (Alpha.class.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+
+            List<Supplier> factories = loader.loadFactoriesFromJar(jar("indexed.jar", entries).toFile());
+
+            assertThat(factories).extracting(Supplier::get).containsExactly("alpha");
+        }
+
+        @Test
+        @DisplayName("ignores comments, blank lines and duplicates")
+        void ignoresCommentsAndBlankLines() throws IOException {
+            Map<String, byte[]> entries = classEntries(Alpha.class, Beta.class);
+            entries.put(INDEX, ("# bundled factories\n\n" + Alpha.class.getName() + "  # first\n"
+                    + Beta.class.getName() + "\n" + Alpha.class.getName() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+
+            List<Supplier> factories = loader.loadFactoriesFromJar(jar("commented.jar", entries).toFile());
+
+            assertThat(factories).extracting(Supplier::get).containsExactly("alpha", "beta");
+        }
+
+        @Test
+        @DisplayName("never touches unlisted classes, even broken ones")
+        void neverTouchesUnlistedClasses() throws IOException {
+            Map<String, byte[]> entries = classEntries(Alpha.class);
+            entries.put("broken/Broken.class", new byte[]{0, 1, 2, 3});
+            entries.put(INDEX, Alpha.class.getName().getBytes(StandardCharsets.UTF_8));
+
+            List<Supplier> factories = loader.loadFactoriesFromJar(jar("broken.jar", entries).toFile());
+
+            assertThat(factories).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("skips listed classes that are missing or not factories")
+        void skipsBadEntries() throws IOException {
+            Map<String, byte[]> entries = classEntries(Alpha.class);
+            entries.put(INDEX, ("missing.Factory\n" + String.class.getName() + "\n" + Alpha.class.getName())
+                    .getBytes(StandardCharsets.UTF_8));
+
+            List<Supplier> factories = loader.loadFactoriesFromJar(jar("bad-index.jar", entries).toFile());
+
+            assertThat(factories).extracting(Supplier::get).containsExactly("alpha");
+        }
+    }
+
+    @Nested
+    @DisplayName("without a service index")
+    class WithoutIndex {
+
+        @Test
+        @DisplayName("falls back to scanning top-level classes")
+        void scansTopLevelClasses() throws IOException {
+            Map<String, byte[]> entries = classEntries(Alpha.class, LegacyGreeter.class);
+
+            List<Supplier> factories = loader.loadFactoriesFromJar(jar("legacy.jar", entries).toFile());
+
+            assertThat(factories).extracting(Supplier::get).containsExactly("legacy");
+        }
+
+        @Test
+        @DisplayName("survives classes that fail to load")
+        void survivesBrokenClasses() throws IOException {
+            Map<String, byte[]> entries = classEntries(LegacyGreeter.class);
+            entries.put("broken/Broken.class", new byte[]{0, 1, 2, 3});
+
+            List<Supplier> factories = loader.loadFactoriesFromJar(jar("legacy-broken.jar", entries).toFile());
+
+            assertThat(factories).extracting(Supplier::get).containsExactly("legacy");
+        }
+    }
+
+    @Test
+    @DisplayName("returns nothing for a file that is not a JAR")
+    void rejectsNonJarFiles() throws IOException {
+        Path text = Files.writeString(tempDir.resolve("module.txt"), "not a jar");
+
+        assertThat(loader.loadFactoriesFromJar(text.toFile())).isEmpty();
+    }
+
+    private static Map<String, byte[]> classEntries(Class<?>... classes) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (Class<?> clazz : classes) {
+            String name = clazz.getName().replace('.', '/') + ".class";
+            try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+                entries.put(name, in.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private Path jar(String fileName, Map<String, byte[]> entries) throws IOException {
+        Path path = tempDir.resolve(fileName);
+        try (OutputStream out = Files.newOutputStream(path); JarOutputStream jar = new JarOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                jar.putNextEntry(new JarEntry(entry.getKey()));
+                jar.write(entry.getValue());
+                jar.closeEntry();
+            }
+        }
+        return path;
+    }
+
+    public static class Alpha implements Supplier<String> {
+        @Override
+        public String get() {
+            return "alpha";
+        }
+    }
+
+    public static class Beta implements Supplier<String> {
+        @Override
+        public String get() {
+            return "beta";
+        }
+    }
+}
+
+/**
+ * Top-level factory, the only kind a legacy full scan can find.
+ */
+class LegacyGreeter implements Supplier<String> {
+    @Override
+    public String get() {
+        return "legacy";
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.ext.module;
+
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.EngineModule;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleContext;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ModuleTemplateCache")
+class ModuleTemplateCacheTest {
+
+    /**
+     * Hides the fixture factory from the module classloaders so they define it from the JAR.
+     */
+    private static final ClassLoader ENGINE_ONLY = new ClassLoader(ModuleTemplateCacheTest.class.getClassLoader()) {
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(CountingFactory.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            return super.loadClass(name, resolve);
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private ModuleTemplateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ModuleTemplateCache(tempDir.resolve("templates"), ENGINE_ONLY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("defines a JAR's classes once for every container that loads it")
+    void sharesClassesBetweenLoads() throws IOException {
+        Path first = moduleJar(tempDir.resolve("container-1"), "v1");
+        Path second = moduleJar(tempDir.resolve("container-2"), "v1");
+
+        List<ModuleFactory> firstFactories = cache.loadFactoriesFromJar(first.toFile());
+        List<ModuleFactory> secondFactories = cache.loadFactoriesFromJar(second.toFile());
+
+        assertThat(firstFactories).hasSize(1);
+        assertThat(secondFactories).hasSize(1);
+        assertThat(secondFactories.get(0)).isNotSameAs(firstFactories.get(0));
+        assertThat(secondFactories.get(0).getClass()).isSameAs(firstFactories.get(0).getClass());
+        assertThat(firstFactories.get(0).getClass()).isNotSameAs(CountingFactory.class);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getTemplateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("prefers the JAR's classes over copies on the engine classpath")
+    void prefersJarOverParentClasspath() throws IOException {
+        ModuleTemplateCache sharedClasspath = new ModuleTemplateCache(
+                tempDir.resolve("shared-templates"), ModuleTemplateCacheTest.class.getClassLoader());
+        try {
+            ModuleFactory factory = sharedClasspath.loadFactoriesFromJar(
+                    moduleJar(tempDir.resolve("container-1"), "v1").toFile()).get(0);
+
+            assertThat(factory.getClass().getName()).isEqualTo(CountingFactory.class.getName());
+            assertThat(factory.getClass()).isNotSameAs(CountingFactory.class);
+            assertThat(factory.getClass().getClassLoader())
+                    .isNotSameAs(ModuleTemplateCacheTest.class.getClassLoader());
+            // Engine APIs still come from the engine so the factory is usable as one
+            assertThat(factory).isInstanceOf(ModuleFactory.class);
+        } finally {
+            sharedClasspath.close();
+        }
+    }
+
+    @Test
+    @DisplayName("defines a new version when the JAR's content changes")
+    void definesNewVersionForNewContent() throws IOException {
+        Path jar = moduleJar(tempDir.resolve("container-1"), "v1");
+        ModuleFactory original = cache.loadFactoriesFromJar(jar.toFile()).get(0);
+
+        Files.delete(jar);
+        moduleJar(tempDir.resolve("container-1"), "v2-with-more-content");
+        ModuleFactory upgraded = cache.loadFactoriesFromJar(jar.toFile()).get(0);
+
+        assertThat(upgraded.getClass()).isNotSameAs(original.getClass());
+        assertThat(upgraded.getClass().getName()).isEqualTo(original.getClass().getName());
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getTemplateCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("keeps cached versions apart from the original JAR file")
+    void copiesJarIntoCache() throws IOException {
+        Path jar = moduleJar(tempDir.resolve("container-1"), "v1");
+        ModuleFactory factory = cache.loadFactoriesFromJar(jar.toFile()).get(0);
+
+        Files.delete(jar);
+
+        assertThat(factory.create(null)).isNull();
+        try (var templates = Files.list(tempDir.resolve("templates"))) {
+            assertThat(templates).hasSize(1)
+                    .allSatisfy(path -> assertThat(path.getFileName().toString()).endsWith(".jar"));
+        }
+    }
+
+    @Test
+    @DisplayName("deletes cached versions when closed")
+    void deletesCopiesOnClose() throws IOException {
+        cache.loadFactoriesFromJar(moduleJar(tempDir.resolve("container-1"), "v1").toFile());
+
+        cache.close();
+
+        try (var templates = Files.list(tempDir.resolve("templates"))) {
+            assertThat(templates).isEmpty();
+        }
+        assertThat(cache.getTemplateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("deletes versions cached by an earlier process")
+    void deletesLeftoverCopies() throws IOException {
+        Path templates = Files.createDirectories(tempDir.resolve("leftover"));
+        Files.writeString(templates.resolve("0123.jar"), "stale");
+        Files.writeString(templates.resolve("4567.part"), "stale");
+        Files.writeString(templates.resolve("notes.txt"), "kept");
+
+        new ModuleTemplateCache(templates, ENGINE_ONLY).close();
+
+        try (var files = Files.list(templates)) {
+            assertThat(files).containsExactly(templates.resolve("notes.txt"));
+        }
+    }
+
+    @Test
+    @DisplayName("returns nothing for a file that is not a JAR")
+    void rejectsNonJarFiles() throws IOException {
+        Path text = Files.writeString(tempDir.resolve("module.txt"), "not a jar");
+
+        assertThat(cache.loadFactoriesFromJar(text.toFile())).isEmpty();
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    private static Path moduleJar(Path directory, String version) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve("counting-module.jar");
+        String className = CountingFactory.class.getName().replace('.', '/') + ".class";
+        try (InputStream in = CountingFactory.class.getClassLoader().getResourceAsStream(className);
+             OutputStream out = Files.newOutputStream(path);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(new JarEntry(className));
+            jar.write(in.readAllBytes());
+            jar.closeEntry();
+            jar.putNextEntry(new JarEntry("META-INF/services/" + ModuleFactory.class.getName()));
+            jar.write(CountingFactory.class.getName().getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+            jar.putNextEntry(new JarEntry("version.txt"));
+            jar.write(version.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+        return path;
+    }
+
+    public static class CountingFactory implements ModuleFactory {
+        @Override
+        public EngineModule create(ModuleContext context) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FanOutExecutor")
+class FanOutExecutorTest {
+
+    @Test
+    @DisplayName("runs submitted notifications")
+    @Timeout(5)
+    void runsNotifications() throws InterruptedException {
+        FanOutExecutor executor = new FanOutExecutor("test-fan-out", 2, 100);
+        CountDownLatch done = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            executor.execute(done::countDown);
+        }
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("drops notifications instead of blocking when saturated")
+    @Timeout(5)
+    void dropsWhenSaturated() throws InterruptedException {
+        FanOutExecutor executor = new FanOutExecutor("test-saturated", 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ran.incrementAndGet();
+            });
+        }
+
+        // One running and two queued; the other seven are dropped
+        assertThat(executor.getDroppedCount()).isEqualTo(7);
+        release.countDown();
+        Thread.sleep(100);
+        assertThat(ran.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("tryExecute reports dropped notifications")
+    @Timeout(5)
+    void tryExecuteReportsDrops() {
+        FanOutExecutor executor = new FanOutExecutor("test-try", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocked = () -> {
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        assertThat(executor.tryExecute(blocked)).isTrue();
+        assertThat(executor.tryExecute(blocked)).isTrue();
+        assertThat(executor.tryExecute(blocked)).isFalse();
+        assertThat(executor.getDroppedCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("shared executors are singletons")
+    void sharedExecutorsAreSingletons() {
+        assertThat(FanOutExecutor.tickListeners()).isSameAs(FanOutExecutor.tickListeners());
+        assertThat(FanOutExecutor.errors()).isNotSameAs(FanOutExecutor.tickListeners());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SubscriberMailbox")
+class SubscriberMailboxTest {
+
+    private final FanOutExecutor executor = new FanOutExecutor("test-mailbox", 2, 100);
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @Nested
+    @DisplayName("delivery")
+    class Delivery {
+
+        @Test
+        @DisplayName("delivers events in publish order")
+        @Timeout(5)
+        void deliversInOrder() {
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("ordered", executor, 1_000, batches::add);
+
+            IntStream.range(0, 500).forEach(mailbox::offer);
+
+            await(() -> delivered().size() == 500);
+            assertThat(delivered()).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+            assertThat(mailbox.getDeliveredCount()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("batches events published while the subscriber is busy")
+        @Timeout(5)
+        void batchesWhileBusy() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("busy", executor, 100, batch -> {
+                batches.add(batch);
+                await(release);
+            });
+
+            mailbox.offer(0);
+            await(() -> batches.size() == 1);
+            mailbox.offer(1);
+            mailbox.offer(2);
+            mailbox.offer(3);
+            release.countDown();
+
+            await(() -> batches.size() == 2);
+            assertThat(batches).containsExactly(List.of(0), List.of(1, 2, 3));
+        }
+
+        @Test
+        @DisplayName("offerAll hands the events over as one batch")
+        @Timeout(5)
+        void offerAllIsOneBatch() {
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("all", executor, 100, batches::add);
+
+            assertThat(mailbox.offerAll(List.of(1, 2, 3))).isZero();
+
+            await(() -> !batches.isEmpty());
+            assertThat(batches).containsExactly(List.of(1, 2, 3));
+        }
+
+        @Test
+        @DisplayName("keeps delivering after the subscriber throws")
+        @Timeout(5)
+        void survivesSubscriberFailure() {
+            AtomicInteger calls = new AtomicInteger();
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("failing", executor, 100, batch -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("boom");
+                }
+                batches.add(batch);
+            });
+
+            mailbox.offer(1);
+            await(() -> calls.get() == 1);
+            mailbox.offer(2);
+
+            await(() -> !batches.isEmpty());
+            assertThat(batches).containsExactly(List.of(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("bounds")
+    class Bounds {
+
+        @Test
+        @DisplayName("drops and counts events beyond capacity")
+        @Timeout(5)
+        void dropsBeyondCapacity() {
+            CountDownLatch release = new CountDownLatch(1);
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("slow", executor, 3, batch -> {
+                batches.add(batch);
+                await(release);
+            });
+
+            mailbox.offer(0);
+            await(() -> batches.size() == 1);
+            IntStream.range(1, 6).forEach(mailbox::offer);
+
+            assertThat(mailbox.size()).isEqualTo(3);
+            assertThat(mailbox.getOverflowCount()).isEqualTo(2);
+            release.countDown();
+            await(() -> batches.size() == 2);
+            assertThat(batches.get(1)).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("schedules at most one task per subscriber")
+        @Timeout(5)
+        void oneTaskPerSubscriber() {
+            FanOutExecutor tiny = new FanOutExecutor("test-tiny", 1, 1);
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("tiny", tiny, 10_000, batches::add);
+
+            IntStream.range(0, 5_000).forEach(mailbox::offer);
+
+            await(() -> delivered().size() == 5_000);
+            assertThat(tiny.getDroppedCount()).isZero();
+            assertThat(mailbox.getOverflowCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("discards queued events and rejects new ones once closed")
+        void closeDiscards() {
+            CountDownLatch release = new CountDownLatch(1);
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("closed", executor, 10, batch -> {
+                batches.add(batch);
+                await(release);
+            });
+            mailbox.offer(0);
+            await(() -> batches.size() == 1);
+            mailbox.offer(1);
+
+            mailbox.close();
+            release.countDown();
+
+            assertThat(mailbox.offer(2)).isFalse();
+            assertThat(mailbox.size()).isZero();
+            assertThat(batches).containsExactly(List.of(0));
+        }
+
+        @Test
+        @DisplayName("rejects a non-positive capacity")
+        void rejectsInvalidCapacity() {
+            assertThatThrownBy(() -> new SubscriberMailbox<Integer>("bad", executor, 0, batches::add))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("merges undelivered events with the same key")
+        @Timeout(5)
+        void mergesSameKey() {
+            CountDownLatch release = new CountDownLatch(1);
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("coalescing", executor, 2, batch -> {
+                batches.add(batch);
+                await(release);
+            }, value -> value % 10, Integer::sum);
+
+            mailbox.offer(100);
+            await(() -> batches.size() == 1);
+            mailbox.offer(1);
+            mailbox.offer(11);
+            mailbox.offer(21);
+            mailbox.offer(2);
+            release.countDown();
+
+            await(() -> batches.size() == 2);
+            assertThat(batches.get(1)).containsExactly(33, 2);
+            assertThat(mailbox.getCoalescedCount()).isEqualTo(2);
+            assertThat(mailbox.getOverflowCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("starts a new event once the previous one was delivered")
+        @Timeout(5)
+        void deliveredEventsAreNotMerged() {
+            SubscriberMailbox<Integer> mailbox = new SubscriberMailbox<>("delivered", executor, 10, batches::add,
+                    value -> 0, Integer::sum);
+
+            mailbox.offer(1);
+            await(() -> batches.size() == 1);
+            mailbox.offer(2);
+
+            await(() -> batches.size() == 2);
+            assertThat(batches).containsExactly(List.of(1), List.of(2));
+        }
+    }
+
+    private List<Integer> delivered() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.internal.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TickScheduler")
+class TickSchedulerTest {
+
+    private TickScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TickScheduler("test-scheduler", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("lanes")
+    class Lanes {
+
+        @Test
+        @DisplayName("run tasks one at a time in submission order")
+        @Timeout(5)
+        void runTasksSeriallyInOrder() throws InterruptedException {
+            TickLane lane = scheduler.newLane("serial");
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicBoolean overlapped = new AtomicBoolean();
+
+            for (int i = 0; i < 200; i++) {
+                int index = i;
+                lane.execute(() -> {
+                    if (concurrent.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    order.add(index);
+                    concurrent.decrementAndGet();
+                });
+            }
+
+            assertThat(lane.awaitIdle(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(overlapped).isFalse();
+            assertThat(order).hasSize(200).isSorted();
+        }
+
+        @Test
+        @DisplayName("share the worker pool across many lanes")
+        @Timeout(5)
+        void shareWorkersAcrossLanes() throws InterruptedException {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            CountDownLatch done = new CountDownLatch(500);
+
+            for (int i = 0; i < 500; i++) {
+                scheduler.newLane("lane-" + i).execute(() -> {
+                    threads.add(Thread.currentThread());
+                    done.countDown();
+                });
+            }
+
+            assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(threads).hasSizeLessThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("hand the next worker to the earliest deadline")
+        @Timeout(5)
+        void earliestDeadlineRunsFirst() throws InterruptedException {
+            TickScheduler single = new TickScheduler("single", 1);
+            try {
+                CountDownLatch blocked = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                single.newLane("blocker").execute(() -> {
+                    blocked.countDown();
+                    awaitQuietly(release);
+                });
+                assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+
+                List<String> order = Collections.synchronizedList(new ArrayList<>());
+                long now = System.nanoTime();
+                single.newLane("late").execute(() -> order.add("late"), now + 3_000_000);
+                single.newLane("overdue").execute(() -> order.add("overdue"), now - 3_000_000);
+                TickLane onTime = single.newLane("on-time");
+                onTime.execute(() -> order.add("on-time"), now);
+                release.countDown();
+
+                assertThat(onTime.awaitIdle(1, TimeUnit.SECONDS)).isTrue();
+                Thread.sleep(50);
+                assertThat(order).containsExactly("overdue", "on-time", "late");
+            } finally {
+                single.shutdown(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("keep running after a task throws")
+        @Timeout(5)
+        void keepRunningAfterFailure() throws InterruptedException {
+            TickLane lane = scheduler.newLane("failing");
+            AtomicBoolean ran = new AtomicBoolean();
+
+            lane.execute(() -> {
+                throw new IllegalStateException("boom");
+            });
+            lane.execute(() -> ran.set(true));
+
+            assertThat(lane.awaitIdle(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(ran).isTrue();
+        }
+
+        @Test
+        @DisplayName("reject tasks once closed")
+        void rejectAfterClose() {
+            TickLane lane = scheduler.newLane("closed");
+            int open = scheduler.getLaneCount();
+
+            lane.close();
+
+            assertThat(scheduler.getLaneCount()).isEqualTo(open - 1);
+            assertThatThrownBy(() -> lane.execute(() -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+        }
+
+        @Test
+        @DisplayName("closeNow interrupts the running task and discards the rest")
+        @Timeout(5)
+        void closeNowInterrupts() throws InterruptedException {
+            TickLane lane = scheduler.newLane("slow");
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean interrupted = new AtomicBoolean();
+            AtomicBoolean secondRan = new AtomicBoolean();
+            lane.execute(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            });
+            lane.execute(() -> secondRan.set(true));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(lane.awaitIdle(10, TimeUnit.MILLISECONDS)).isFalse();
+            lane.closeNow();
+
+            assertThat(lane.awaitIdle(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(interrupted).isTrue();
+            assertThat(secondRan).isFalse();
+        }
+
+        @Test
+        @DisplayName("closeNow cancels discarded futures")
+        @Timeout(5)
+        void closeNowCancelsFutures() throws InterruptedException {
+            TickLane lane = scheduler.newLane("futures");
+            CountDownLatch started = new CountDownLatch(1);
+            lane.execute(() -> {
+                started.countDown();
+                sleepQuietly(5_000);
+            });
+            FutureTask<Integer> queued = new FutureTask<>(() -> 1);
+            lane.execute(queued);
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            lane.closeNow();
+
+            assertThat(queued.isCancelled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("know whether the caller is one of their tasks")
+        @Timeout(5)
+        void knowCurrentThread() throws InterruptedException {
+            TickLane lane = scheduler.newLane("self");
+            AtomicBoolean inside = new AtomicBoolean();
+            lane.execute(() -> inside.set(lane.isCurrentThreadInLane()));
+            lane.awaitIdle(1, TimeUnit.SECONDS);
+
+            assertThat(inside).isTrue();
+            assertThat(lane.isCurrentThreadInLane()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("precise one-shot starts")
+    class ScheduleAt {
+
+        @Test
+        @DisplayName("never start before the requested time")
+        @Timeout(5)
+        void neverStartEarly() throws InterruptedException {
+            TickLane lane = scheduler.newLane("precise");
+            List<Long> lateness = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch runs = new CountDownLatch(10);
+
+            for (int i = 1; i <= 10; i++) {
+                long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(3L * i);
+                lane.scheduleAt(() -> {
+                    lateness.add(System.nanoTime() - startNanos);
+                    runs.countDown();
+                }, startNanos);
+            }
+
+            assertThat(runs.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(lateness).allMatch(late -> late >= 0);
+        }
+
+        @Test
+        @DisplayName("never start before the requested time when spinning")
+        @Timeout(5)
+        void neverStartEarlyWhenSpinning() throws InterruptedException {
+            TickScheduler spinning = new TickScheduler("spinning", 1, TimeUnit.MICROSECONDS.toNanos(100));
+            try {
+                TickLane lane = spinning.newLane("spin");
+                List<Long> lateness = Collections.synchronizedList(new ArrayList<>());
+                CountDownLatch runs = new CountDownLatch(10);
+
+                for (int i = 1; i <= 10; i++) {
+                    long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(3L * i);
+                    lane.scheduleAt(() -> {
+                        lateness.add(System.nanoTime() - startNanos);
+                        runs.countDown();
+                    }, startNanos);
+                }
+
+                assertThat(runs.await(2, TimeUnit.SECONDS)).isTrue();
+                assertThat(lateness).allMatch(late -> late >= 0);
+            } finally {
+                spinning.shutdown(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("start in deadline order across wheel rotations")
+        @Timeout(5)
+        void startInOrderAcrossRotations() throws InterruptedException {
+            // Four one-millisecond slots, so most starts wrap around the wheel several times
+            TickScheduler small = new TickScheduler("small-wheel", 1, TimeUnit.MILLISECONDS.toNanos(1), 4, 0);
+            try {
+                TickLane lane = small.newLane("rotations");
+                List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+                List<Long> lateness = Collections.synchronizedList(new ArrayList<>());
+                CountDownLatch runs = new CountDownLatch(6);
+                long base = System.nanoTime();
+                int[] delaysMs = {23, 2, 11, 17, 5, 29};
+
+                for (int delay : delaysMs) {
+                    long startNanos = base + TimeUnit.MILLISECONDS.toNanos(delay);
+                    lane.scheduleAt(() -> {
+                        lateness.add(System.nanoTime() - startNanos);
+                        order.add(delay);
+                        runs.countDown();
+                    }, startNanos);
+                }
+
+                assertThat(runs.await(2, TimeUnit.SECONDS)).isTrue();
+                assertThat(order).containsExactly(2, 5, 11, 17, 23, 29);
+                assertThat(lateness).allMatch(late -> late >= 0);
+            } finally {
+                small.shutdown(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("wake for an earlier start armed while waiting for a later one")
+        @Timeout(5)
+        void wakeForEarlierStart() throws InterruptedException {
+            TickLane lane = scheduler.newLane("earlier");
+            CountDownLatch early = new CountDownLatch(1);
+            lane.scheduleAt(() -> { }, System.nanoTime() + TimeUnit.SECONDS.toNanos(3));
+            Thread.sleep(5);
+
+            lane.scheduleAt(early::countDown, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertThat(early.await(500, TimeUnit.MILLISECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("do not hold a worker while waiting for the start")
+        @Timeout(5)
+        void doNotHoldWorkerWhileWaiting() throws InterruptedException {
+            TickScheduler single = new TickScheduler("single", 1);
+            try {
+                CountDownLatch precise = new CountDownLatch(1);
+                CountDownLatch other = new CountDownLatch(1);
+                single.newLane("precise").scheduleAt(precise::countDown,
+                        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500));
+                Thread.sleep(5);
+
+                single.newLane("other").execute(other::countDown);
+
+                // The only worker is free, so the other lane runs long before the precise start
+                assertThat(other.await(200, TimeUnit.MILLISECONDS)).isTrue();
+                assertThat(precise.getCount()).isEqualTo(1);
+                assertThat(precise.await(2, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                single.shutdown(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("run straight away when the time has passed")
+        @Timeout(5)
+        void runOverdueImmediately() throws InterruptedException {
+            TickLane lane = scheduler.newLane("overdue");
+            CountDownLatch ran = new CountDownLatch(1);
+
+            lane.scheduleAt(ran::countDown, System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+
+            assertThat(ran.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("do not run once cancelled")
+        @Timeout(5)
+        void doNotRunWhenCancelled() throws InterruptedException {
+            TickLane lane = scheduler.newLane("cancel-one-shot");
+            AtomicBoolean ran = new AtomicBoolean();
+
+            TickLane.Cancellable task = lane.scheduleAt(() -> ran.set(true),
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20));
+            task.cancel();
+            Thread.sleep(50);
+
+            assertThat(task.isCancelled()).isTrue();
+            assertThat(ran).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("spin window")
+    class SpinWindow {
+
+        @Test
+        @DisplayName("defaults to a short spin before each start")
+        void defaultsToShortSpin() {
+            assertThat(TickScheduler.DEFAULT_SPIN_NANOS).isEqualTo(TimeUnit.MICROSECONDS.toNanos(200));
+            assertThat(scheduler.getSpinNanos()).isEqualTo(TickScheduler.DEFAULT_SPIN_NANOS);
+        }
+
+        @Test
+        @DisplayName("uses the configured window, including none")
+        void usesConfiguredWindow() {
+            TickScheduler longer = new TickScheduler("longer", 1, TimeUnit.MICROSECONDS.toNanos(500));
+            TickScheduler parking = new TickScheduler("parking", 1, 0);
+            try {
+                assertThat(longer.getSpinNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(500));
+                assertThat(parking.getSpinNanos()).isZero();
+            } finally {
+                longer.shutdown(1, TimeUnit.SECONDS);
+                parking.shutdown(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("rejects a negative window")
+        void rejectsNegativeWindow() {
+            assertThatThrownBy(() -> new TickScheduler("invalid", 1, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("rejects a non-positive worker count")
+    void rejectsNonPositiveWorkers() {
+        assertThatThrownBy(() -> new TickScheduler("invalid", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("rejects a wheel size that is not a power of two")
+    void rejectsUnevenWheel() {
+        assertThatThrownBy(() -> new TickScheduler("invalid", 1, TimeUnit.MILLISECONDS.toNanos(1), 6, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -247,6 +247,63 @@ class DirtyTrackingEntityComponentStoreTest {
         }
     }
 
+    @Nested
+    @DisplayName("Change Versions")
+    class ChangeVersions {
+
+        @Test
+        @DisplayName("starts at zero for an unchanged match")
+        void startsAtZero() {
+            assertThat(dirtyStore.changeVersion(MATCH_ID)).isZero();
+        }
+
+        @Test
+        @DisplayName("increases on every mutation")
+        void increasesOnMutation() {
+            long entityId = dirtyStore.createEntityForMatch(MATCH_ID);
+            long afterCreate = dirtyStore.changeVersion(MATCH_ID);
+
+            dirtyStore.attachComponent(entityId, POSITION_X, 1.0f);
+            long afterAttach = dirtyStore.changeVersion(MATCH_ID);
+
+            dirtyStore.deleteEntity(entityId);
+
+            assertThat(afterCreate).isPositive();
+            assertThat(afterAttach).isGreaterThan(afterCreate);
+            assertThat(dirtyStore.changeVersion(MATCH_ID)).isGreaterThan(afterAttach);
+        }
+
+        @Test
+        @DisplayName("is not cleared by consuming dirty info")
+        void survivesConsume() {
+            dirtyStore.createEntityForMatch(MATCH_ID);
+            long version = dirtyStore.changeVersion(MATCH_ID);
+
+            dirtyStore.consumeDirtyInfo(MATCH_ID);
+
+            assertThat(dirtyStore.changeVersion(MATCH_ID)).isEqualTo(version);
+        }
+
+        @Test
+        @DisplayName("is tracked separately per match")
+        void trackedPerMatch() {
+            dirtyStore.createEntityForMatch(MATCH_ID);
+
+            assertThat(dirtyStore.changeVersion(2L)).isZero();
+        }
+
+        @Test
+        @DisplayName("increases on reset")
+        void increasesOnReset() {
+            dirtyStore.createEntityForMatch(MATCH_ID);
+            long version = dirtyStore.changeVersion(MATCH_ID);
+
+            dirtyStore.reset();
+
+            assertThat(dirtyStore.changeVersion(MATCH_ID)).isGreaterThan(version);
+        }
+    }
+
     @Nested
     @DisplayName("Delegation")
     class Delegation {
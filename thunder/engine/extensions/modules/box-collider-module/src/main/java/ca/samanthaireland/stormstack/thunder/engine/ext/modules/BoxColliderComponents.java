@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.component.ColliderComponent;
@@ -44,21 +45,21 @@ public final class BoxColliderComponents {
 
     // Collision filtering
     public static final BaseComponent COLLISION_LAYER = new ColliderComponent(
-            IdGeneratorV2.newId(), "COLLISION_LAYER");
+            IdGeneratorV2.newId(), "COLLISION_LAYER", ComponentEncoding.INTEGER);
     public static final BaseComponent COLLISION_MASK = new ColliderComponent(
-            IdGeneratorV2.newId(), "COLLISION_MASK");
+            IdGeneratorV2.newId(), "COLLISION_MASK", ComponentEncoding.INTEGER);
 
     // Trigger mode (1 = trigger, 0 = solid)
     public static final BaseComponent IS_TRIGGER = new ColliderComponent(
-            IdGeneratorV2.newId(), "IS_TRIGGER");
+            IdGeneratorV2.newId(), "IS_TRIGGER", ComponentEncoding.BOOLEAN);
 
     // Collision state (updated each tick)
     public static final BaseComponent IS_COLLIDING = new ColliderComponent(
-            IdGeneratorV2.newId(), "IS_COLLIDING");
+            IdGeneratorV2.newId(), "IS_COLLIDING", ComponentEncoding.BOOLEAN);
     public static final BaseComponent COLLISION_COUNT = new ColliderComponent(
-            IdGeneratorV2.newId(), "COLLISION_COUNT");
+            IdGeneratorV2.newId(), "COLLISION_COUNT", ComponentEncoding.INTEGER);
     public static final BaseComponent LAST_COLLISION_ENTITY = new ColliderComponent(
-            IdGeneratorV2.newId(), "LAST_COLLISION_ENTITY");
+            IdGeneratorV2.newId(), "LAST_COLLISION_ENTITY", ComponentEncoding.INTEGER);
 
     // Collision normal (direction to push out)
     public static final BaseComponent COLLISION_NORMAL_X = new ColliderComponent(
@@ -72,13 +73,13 @@ public final class BoxColliderComponents {
 
     // Collision handler components
     public static final BaseComponent COLLISION_HANDLER_TYPE = new ColliderComponent(
-            IdGeneratorV2.newId(), "COLLISION_HANDLER_TYPE");
+            IdGeneratorV2.newId(), "COLLISION_HANDLER_TYPE", ComponentEncoding.INTEGER);
     public static final BaseComponent COLLISION_HANDLER_PARAM1 = new ColliderComponent(
             IdGeneratorV2.newId(), "COLLISION_HANDLER_PARAM1");
     public static final BaseComponent COLLISION_HANDLER_PARAM2 = new ColliderComponent(
             IdGeneratorV2.newId(), "COLLISION_HANDLER_PARAM2");
     public static final BaseComponent COLLISION_HANDLED_TICK = new ColliderComponent(
-            IdGeneratorV2.newId(), "COLLISION_HANDLED_TICK");
+            IdGeneratorV2.newId(), "COLLISION_HANDLED_TICK", ComponentEncoding.INTEGER);
 
     // Module flag (PRIVATE - only EntityModule with superuser can attach during spawn)
     public static final BaseComponent FLAG = new PermissionComponent(
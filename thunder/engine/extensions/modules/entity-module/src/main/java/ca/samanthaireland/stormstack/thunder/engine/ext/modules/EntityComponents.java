@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.util.IdGeneratorV2;
@@ -26,11 +27,11 @@ public final class EntityComponents {
 
     // Entity metadata components
     public static final BaseComponent ENTITY_TYPE = new PermissionComponent(
-            IdGeneratorV2.newId(), "ENTITY_TYPE", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "ENTITY_TYPE", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent OWNER_ID = new PermissionComponent(
-            IdGeneratorV2.newId(), "OWNER_ID", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "OWNER_ID", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent PLAYER_ID = new PermissionComponent(
-            IdGeneratorV2.newId(), "PLAYER_ID", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "PLAYER_ID", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent FLAG = new PermissionComponent(
             IdGeneratorV2.newId(), "entity", PermissionLevel.READ);
 
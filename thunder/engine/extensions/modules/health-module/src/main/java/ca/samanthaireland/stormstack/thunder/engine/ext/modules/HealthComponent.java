@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 
 /**
  * Base component for health-related data.
@@ -9,4 +10,8 @@ public class HealthComponent extends BaseComponent {
     public HealthComponent(long id, String name) {
         super(id, name);
     }
+
+    public HealthComponent(long id, String name, ComponentEncoding encoding) {
+        super(id, name, encoding);
+    }
 }
@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.util.IdGeneratorV2;
@@ -33,9 +34,9 @@ public final class HealthComponents {
     public static final BaseComponent DAMAGE_TAKEN = new HealthComponent(
             IdGeneratorV2.newId(), "DAMAGE_TAKEN");
     public static final BaseComponent IS_DEAD = new HealthComponent(
-            IdGeneratorV2.newId(), "IS_DEAD");
+            IdGeneratorV2.newId(), "IS_DEAD", ComponentEncoding.BOOLEAN);
     public static final BaseComponent INVULNERABLE = new HealthComponent(
-            IdGeneratorV2.newId(), "INVULNERABLE");
+            IdGeneratorV2.newId(), "INVULNERABLE", ComponentEncoding.BOOLEAN);
 
     // Module flag (PRIVATE - only EntityModule with superuser can attach during spawn)
     public static final BaseComponent FLAG = new PermissionComponent(
@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 
 /**
  * Base component for item-related data.
@@ -9,4 +10,8 @@ public class ItemComponent extends BaseComponent {
     public ItemComponent(long id, String name) {
         super(id, name);
     }
+
+    public ItemComponent(long id, String name, ComponentEncoding encoding) {
+        super(id, name, encoding);
+    }
 }
@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.util.IdGeneratorV2;
@@ -42,21 +43,21 @@ public final class ItemComponents {
 
     // Item instance components
     public static final BaseComponent ITEM_TYPE_ID = new ItemComponent(
-            IdGeneratorV2.newId(), "ITEM_TYPE_ID");
+            IdGeneratorV2.newId(), "ITEM_TYPE_ID", ComponentEncoding.INTEGER);
     public static final BaseComponent STACK_SIZE = new ItemComponent(
-            IdGeneratorV2.newId(), "STACK_SIZE");
+            IdGeneratorV2.newId(), "STACK_SIZE", ComponentEncoding.INTEGER);
     public static final BaseComponent MAX_STACK = new ItemComponent(
-            IdGeneratorV2.newId(), "MAX_STACK");
+            IdGeneratorV2.newId(), "MAX_STACK", ComponentEncoding.INTEGER);
     public static final BaseComponent OWNER_ENTITY_ID = new ItemComponent(
-            IdGeneratorV2.newId(), "OWNER_ENTITY_ID");
+            IdGeneratorV2.newId(), "OWNER_ENTITY_ID", ComponentEncoding.INTEGER);
     public static final BaseComponent SLOT_INDEX = new ItemComponent(
-            IdGeneratorV2.newId(), "SLOT_INDEX");
+            IdGeneratorV2.newId(), "SLOT_INDEX", ComponentEncoding.INTEGER);
 
     // Item type properties (stored per item type in registry)
     public static final BaseComponent ITEM_NAME_HASH = new ItemComponent(
             IdGeneratorV2.newId(), "ITEM_NAME_HASH");
     public static final BaseComponent ITEM_RARITY = new ItemComponent(
-            IdGeneratorV2.newId(), "ITEM_RARITY");
+            IdGeneratorV2.newId(), "ITEM_RARITY", ComponentEncoding.INTEGER);
     public static final BaseComponent ITEM_VALUE = new ItemComponent(
             IdGeneratorV2.newId(), "ITEM_VALUE");
     public static final BaseComponent ITEM_WEIGHT = new ItemComponent(
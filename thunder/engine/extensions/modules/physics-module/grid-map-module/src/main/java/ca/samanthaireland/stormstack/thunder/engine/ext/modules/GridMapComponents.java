@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.util.IdGeneratorV2;
@@ -25,23 +26,23 @@ public final class GridMapComponents {
 
     // Grid position components for entities
     public static final BaseComponent GRID_POS_X = new PermissionComponent(
-            IdGeneratorV2.newId(), "GRID_POS_X", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "GRID_POS_X", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent GRID_POS_Y = new PermissionComponent(
-            IdGeneratorV2.newId(), "GRID_POS_Y", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "GRID_POS_Y", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent GRID_POS_Z = new PermissionComponent(
-            IdGeneratorV2.newId(), "GRID_POS_Z", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "GRID_POS_Z", PermissionLevel.READ, ComponentEncoding.INTEGER);
 
     // Map dimension components (attached to the map entity itself)
     public static final BaseComponent MAP_WIDTH = new PermissionComponent(
-            IdGeneratorV2.newId(), "MAP_WIDTH", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "MAP_WIDTH", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent MAP_HEIGHT = new PermissionComponent(
-            IdGeneratorV2.newId(), "MAP_HEIGHT", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "MAP_HEIGHT", PermissionLevel.READ, ComponentEncoding.INTEGER);
     public static final BaseComponent MAP_DEPTH = new PermissionComponent(
-            IdGeneratorV2.newId(), "MAP_DEPTH", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "MAP_DEPTH", PermissionLevel.READ, ComponentEncoding.INTEGER);
 
     // Map entity marker
     public static final BaseComponent MAP_ENTITY = new PermissionComponent(
-            IdGeneratorV2.newId(), "MAP_ENTITY", PermissionLevel.READ);
+            IdGeneratorV2.newId(), "MAP_ENTITY", PermissionLevel.READ, ComponentEncoding.BOOLEAN);
 
     public static final BaseComponent FLAG = new PermissionComponent(
             IdGeneratorV2.newId(), "gridmap", PermissionLevel.READ);
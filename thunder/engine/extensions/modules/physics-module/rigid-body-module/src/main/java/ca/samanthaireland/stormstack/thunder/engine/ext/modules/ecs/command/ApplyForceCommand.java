@@ -2,11 +2,9 @@ package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandBuilder;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
-import ca.samanthaireland.stormstack.thunder.engine.core.command.PayloadMapper;
 import ca.samanthaireland.stormstack.thunder.engine.core.exception.InvalidParameterException;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.Vector3;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.service.PhysicsService;
-import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command.dto.ApplyForcePayload;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -34,18 +32,20 @@ public final class ApplyForceCommand {
                         "forceY", Float.class,
                         "forceZ", Float.class
                 ))
-                .withExecution(payload -> {
-                    ApplyForcePayload dto = PayloadMapper.convert(payload, ApplyForcePayload.class);
-
-                    if (!dto.hasEntityId()) {
+                .withTypedExecution(payload -> {
+                    if (!payload.has("entityId")) {
                         throw new InvalidParameterException("applyForce: missing entityId");
                     }
 
-                    Vector3 force = new Vector3(dto.getForceX(), dto.getForceY(), dto.getForceZ());
-                    physicsService.applyForce(dto.entityId(), force);
+                    long entityId = payload.getLong("entityId", 0L);
+                    Vector3 force = new Vector3(
+                            payload.getFloat("forceX", 0f),
+                            payload.getFloat("forceY", 0f),
+                            payload.getFloat("forceZ", 0f));
+                    physicsService.applyForce(entityId, force);
 
                     log.debug("Applied force ({},{},{}) to entity {}",
-                            force.x(), force.y(), force.z(), dto.entityId());
+                            force.x(), force.y(), force.z(), entityId);
                 })
                 .build();
     }
@@ -2,11 +2,9 @@ package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandBuilder;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
-import ca.samanthaireland.stormstack.thunder.engine.core.command.PayloadMapper;
 import ca.samanthaireland.stormstack.thunder.engine.core.exception.InvalidParameterException;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.Vector3;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.service.PhysicsService;
-import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command.dto.ApplyImpulsePayload;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -34,18 +32,20 @@ public final class ApplyImpulseCommand {
                         "impulseY", Float.class,
                         "impulseZ", Float.class
                 ))
-                .withExecution(payload -> {
-                    ApplyImpulsePayload dto = PayloadMapper.convert(payload, ApplyImpulsePayload.class);
-
-                    if (!dto.hasEntityId()) {
+                .withTypedExecution(payload -> {
+                    if (!payload.has("entityId")) {
                         throw new InvalidParameterException("applyImpulse: missing entityId");
                     }
 
-                    Vector3 impulse = new Vector3(dto.getImpulseX(), dto.getImpulseY(), dto.getImpulseZ());
-                    physicsService.applyImpulse(dto.entityId(), impulse);
+                    long entityId = payload.getLong("entityId", 0L);
+                    Vector3 impulse = new Vector3(
+                            payload.getFloat("impulseX", 0f),
+                            payload.getFloat("impulseY", 0f),
+                            payload.getFloat("impulseZ", 0f));
+                    physicsService.applyImpulse(entityId, impulse);
 
                     log.debug("Applied impulse ({},{},{}) to entity {}",
-                            impulse.x(), impulse.y(), impulse.z(), dto.entityId());
+                            impulse.x(), impulse.y(), impulse.z(), entityId);
                 })
                 .build();
     }
@@ -2,10 +2,8 @@ package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandBuilder;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
-import ca.samanthaireland.stormstack.thunder.engine.core.command.PayloadMapper;
 import ca.samanthaireland.stormstack.thunder.engine.core.exception.InvalidParameterException;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.service.PhysicsService;
-import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command.dto.ApplyTorquePayload;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -31,16 +29,16 @@ public final class ApplyTorqueCommand {
                         "entityId", Long.class,
                         "torque", Float.class
                 ))
-                .withExecution(payload -> {
-                    ApplyTorquePayload dto = PayloadMapper.convert(payload, ApplyTorquePayload.class);
-
-                    if (!dto.hasEntityId()) {
+                .withTypedExecution(payload -> {
+                    if (!payload.has("entityId")) {
                         throw new InvalidParameterException("applyTorque: missing entityId");
                     }
 
-                    physicsService.applyTorque(dto.entityId(), dto.getTorque());
+                    long entityId = payload.getLong("entityId", 0L);
+                    float torque = payload.getFloat("torque", 0f);
+                    physicsService.applyTorque(entityId, torque);
 
-                    log.debug("Applied torque {} to entity {}", dto.getTorque(), dto.entityId());
+                    log.debug("Applied torque {} to entity {}", torque, entityId);
                 })
                 .build();
     }
@@ -2,11 +2,9 @@ package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandBuilder;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
-import ca.samanthaireland.stormstack.thunder.engine.core.command.PayloadMapper;
 import ca.samanthaireland.stormstack.thunder.engine.core.exception.InvalidParameterException;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.Vector3;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.service.PhysicsService;
-import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command.dto.SetPositionPayload;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -34,18 +32,20 @@ public final class SetPositionCommand {
                         "positionY", Float.class,
                         "positionZ", Float.class
                 ))
-                .withExecution(payload -> {
-                    SetPositionPayload dto = PayloadMapper.convert(payload, SetPositionPayload.class);
-
-                    if (!dto.hasEntityId()) {
+                .withTypedExecution(payload -> {
+                    if (!payload.has("entityId")) {
                         throw new InvalidParameterException("setPosition: missing entityId");
                     }
 
-                    Vector3 position = new Vector3(dto.getPositionX(), dto.getPositionY(), dto.getPositionZ());
-                    physicsService.setPosition(dto.entityId(), position);
+                    long entityId = payload.getLong("entityId", 0L);
+                    Vector3 position = new Vector3(
+                            payload.getFloat("positionX", 0f),
+                            payload.getFloat("positionY", 0f),
+                            payload.getFloat("positionZ", 0f));
+                    physicsService.setPosition(entityId, position);
 
                     log.debug("Set position ({},{},{}) for entity {}",
-                            position.x(), position.y(), position.z(), dto.entityId());
+                            position.x(), position.y(), position.z(), entityId);
                 })
                 .build();
     }
@@ -2,11 +2,9 @@ package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandBuilder;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.EngineCommand;
-import ca.samanthaireland.stormstack.thunder.engine.core.command.PayloadMapper;
 import ca.samanthaireland.stormstack.thunder.engine.core.exception.InvalidParameterException;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.Vector3;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.domain.service.PhysicsService;
-import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.command.dto.SetVelocityPayload;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -34,18 +32,20 @@ public final class SetVelocityCommand {
                         "velocityY", Float.class,
                         "velocityZ", Float.class
                 ))
-                .withExecution(payload -> {
-                    SetVelocityPayload dto = PayloadMapper.convert(payload, SetVelocityPayload.class);
-
-                    if (!dto.hasEntityId()) {
+                .withTypedExecution(payload -> {
+                    if (!payload.has("entityId")) {
                         throw new InvalidParameterException("setVelocity: missing entityId");
                     }
 
-                    Vector3 velocity = new Vector3(dto.getVelocityX(), dto.getVelocityY(), dto.getVelocityZ());
-                    physicsService.setVelocity(dto.entityId(), velocity);
+                    long entityId = payload.getLong("entityId", 0L);
+                    Vector3 velocity = new Vector3(
+                            payload.getFloat("velocityX", 0f),
+                            payload.getFloat("velocityY", 0f),
+                            payload.getFloat("velocityZ", 0f));
+                    physicsService.setVelocity(entityId, velocity);
 
                     log.debug("Set velocity ({},{},{}) for entity {}",
-                            velocity.x(), velocity.y(), velocity.z(), dto.entityId());
+                            velocity.x(), velocity.y(), velocity.z(), entityId);
                 })
                 .build();
     }
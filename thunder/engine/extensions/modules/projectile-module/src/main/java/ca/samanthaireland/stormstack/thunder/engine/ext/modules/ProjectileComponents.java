@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.component.ProjectileComponent;
@@ -31,7 +32,7 @@ public final class ProjectileComponents {
 
     // Projectile metadata
     public static final BaseComponent OWNER_ENTITY_ID = new ProjectileComponent(
-            IdGeneratorV2.newId(), "OWNER_ENTITY_ID");
+            IdGeneratorV2.newId(), "OWNER_ENTITY_ID", ComponentEncoding.INTEGER);
     public static final BaseComponent DAMAGE = new ProjectileComponent(
             IdGeneratorV2.newId(), "DAMAGE");
 
@@ -47,21 +48,21 @@ public final class ProjectileComponents {
     public static final BaseComponent LIFETIME = new ProjectileComponent(
             IdGeneratorV2.newId(), "LIFETIME");
     public static final BaseComponent TICKS_ALIVE = new ProjectileComponent(
-            IdGeneratorV2.newId(), "TICKS_ALIVE");
+            IdGeneratorV2.newId(), "TICKS_ALIVE", ComponentEncoding.INTEGER);
 
     // Piercing
     public static final BaseComponent PIERCE_COUNT = new ProjectileComponent(
-            IdGeneratorV2.newId(), "PIERCE_COUNT");
+            IdGeneratorV2.newId(), "PIERCE_COUNT", ComponentEncoding.INTEGER);
     public static final BaseComponent HITS_REMAINING = new ProjectileComponent(
-            IdGeneratorV2.newId(), "HITS_REMAINING");
+            IdGeneratorV2.newId(), "HITS_REMAINING", ComponentEncoding.INTEGER);
 
     // Projectile type (for different projectile behaviors)
     public static final BaseComponent PROJECTILE_TYPE = new ProjectileComponent(
-            IdGeneratorV2.newId(), "PROJECTILE_TYPE");
+            IdGeneratorV2.newId(), "PROJECTILE_TYPE", ComponentEncoding.INTEGER);
 
     // Pending destroy flag
     public static final BaseComponent PENDING_DESTROY = new ProjectileComponent(
-            IdGeneratorV2.newId(), "PENDING_DESTROY");
+            IdGeneratorV2.newId(), "PENDING_DESTROY", ComponentEncoding.BOOLEAN);
 
     // Module flag (PRIVATE - only EntityModule with superuser can attach during spawn)
     public static final BaseComponent FLAG = new PermissionComponent(
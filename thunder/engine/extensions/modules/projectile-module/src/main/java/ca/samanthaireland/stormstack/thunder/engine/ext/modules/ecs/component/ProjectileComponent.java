@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.component;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 
 /**
  * Base component for projectile-related data.
@@ -9,4 +10,8 @@ public class ProjectileComponent extends BaseComponent {
     public ProjectileComponent(long id, String name) {
         super(id, name);
     }
+
+    public ProjectileComponent(long id, String name, ComponentEncoding encoding) {
+        super(id, name, encoding);
+    }
 }
@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.component.RenderingComponent;
@@ -28,7 +29,7 @@ public final class RenderingComponents {
 
     // Resource ID - links to texture/sprite binary resource
     public static final BaseComponent RESOURCE_ID =
-            new RenderingComponent(IdGeneratorV2.newId(), "RESOURCE_ID");
+            new RenderingComponent(IdGeneratorV2.newId(), "RESOURCE_ID", ComponentEncoding.INTEGER);
 
     // Sprite dimensions
     public static final BaseComponent SPRITE_WIDTH =
@@ -42,11 +43,11 @@ public final class RenderingComponents {
 
     // Render order (higher values render on top)
     public static final BaseComponent SPRITE_Z_INDEX =
-            new RenderingComponent(IdGeneratorV2.newId(), "SPRITE_Z_INDEX");
+            new RenderingComponent(IdGeneratorV2.newId(), "SPRITE_Z_INDEX", ComponentEncoding.INTEGER);
 
     // Visibility flag (0 = hidden, non-zero = visible)
     public static final BaseComponent SPRITE_VISIBLE =
-            new RenderingComponent(IdGeneratorV2.newId(), "SPRITE_VISIBLE");
+            new RenderingComponent(IdGeneratorV2.newId(), "SPRITE_VISIBLE", ComponentEncoding.BOOLEAN);
 
     // Module flag (PRIVATE - only EntityModule with superuser can attach during spawn)
     public static final BaseComponent FLAG = new PermissionComponent(
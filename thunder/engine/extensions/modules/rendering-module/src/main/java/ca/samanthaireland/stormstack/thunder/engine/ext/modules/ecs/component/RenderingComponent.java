@@ -1,6 +1,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.ext.modules.ecs.component;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.store.BaseComponent;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.ComponentEncoding;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionComponent;
 import ca.samanthaireland.stormstack.thunder.engine.core.store.PermissionLevel;
 
@@ -11,4 +12,8 @@ public class RenderingComponent extends PermissionComponent {
     public RenderingComponent(long id, String name) {
         super(id, name, PermissionLevel.READ);
     }
+
+    public RenderingComponent(long id, String name, ComponentEncoding encoding) {
+        super(id, name, PermissionLevel.READ, encoding);
+    }
 }
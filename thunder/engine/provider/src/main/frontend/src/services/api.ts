@@ -141,6 +141,8 @@ export interface GameError {
   source: string;
   message: string;
   details: string;
+  /** Identical errors folded into this one; absent on older engines. */
+  occurrences?: number;
 }
 
 export interface SessionData {
@@ -310,6 +312,8 @@ export interface CreateContainerRequest {
   maxMemoryMb?: number;
   moduleJars?: string[];
   moduleScanDirectory?: string;
+  overrunPolicy?: 'CATCH_UP' | 'DROP' | 'SLOW_DOWN';
+  maxCatchUpTicks?: number;
 }
 
 export interface ContainerStatsData {
@@ -337,6 +341,38 @@ export interface CommandMetricsData {
   success: boolean;
 }
 
+export interface LatencyData {
+  count: number;
+  p50Ms: number;
+  p90Ms: number;
+  p99Ms: number;
+  p999Ms: number;
+  maxMs: number;
+}
+
+export interface TickLatencyData {
+  tick: LatencyData;
+  schedulingLag: LatencyData;
+  autoAdvanceIntervalMs: number;
+  overruns: number;
+  droppedTicks: number;
+  systems: Record<string, LatencyData>;
+  commands: Record<string, LatencyData>;
+}
+
+export interface MatchQueueMetricsData {
+  matchId: number;
+  pending: number;
+  scheduled: number;
+  executed: number;
+  latency: LatencyData;
+}
+
+export interface CommandQueueMetricsData {
+  latency: LatencyData;
+  matches: MatchQueueMetricsData[];
+}
+
 export interface SnapshotMetricsData {
   totalGenerations: number;
   cacheHits: number;
@@ -365,9 +401,11 @@ export interface ContainerMetricsData {
   totalEntities: number;
   totalComponentTypes: number;
   commandQueueSize: number;
+  commandQueue?: CommandQueueMetricsData;
   snapshotMetrics?: SnapshotMetricsData;
   lastTickSystems?: SystemMetricsData[];
   lastTickCommands?: CommandMetricsData[];
+  tickLatency?: TickLatencyData;
 }
 
 // Legacy aliases for backward compatibility
@@ -51,7 +51,7 @@ export interface GenericPayload {
 }
 
 export interface CommandResponse {
-  status: "UNKNOWN" | "ACCEPTED" | "ERROR" | "INVALID";
+  status: "UNKNOWN" | "ACCEPTED" | "ERROR" | "INVALID" | "RETRY";
   message: string;
   commandName: string;
 }
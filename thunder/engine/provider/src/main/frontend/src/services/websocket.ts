@@ -104,6 +104,10 @@ export class WebSocketClient {
     this.ws.onmessage = (event) => {
       try {
         const snapshot = JSON.parse(event.data) as SnapshotData;
+        // Heartbeats carry no modules: the match is unchanged since the last snapshot
+        if (!snapshot.modules && !snapshot.error) {
+          return;
+        }
         this.notifyListeners(snapshot);
       } catch (error) {
         console.error("Failed to parse snapshot:", error);
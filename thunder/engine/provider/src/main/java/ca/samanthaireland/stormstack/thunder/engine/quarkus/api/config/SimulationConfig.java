@@ -29,6 +29,7 @@ import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandQueue;
 import ca.samanthaireland.stormstack.thunder.engine.core.match.MatchService;
 import ca.samanthaireland.stormstack.thunder.engine.core.match.PlayerService;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
 import ca.samanthaireland.stormstack.thunder.engine.core.session.PlayerSessionRepository;
 import ca.samanthaireland.stormstack.thunder.engine.core.session.PlayerSessionService;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotRestoreService;
@@ -64,8 +65,11 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.core.resource.OnDis
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.jar.ModuleFactoryClassLoader;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.DefaultInjector;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleTemplateCache;
 import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.OnDiskModuleManager;
 import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.WarmContainerPool;
+import ca.samanthaireland.stormstack.thunder.engine.internal.scheduler.TickScheduler;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.session.DefaultPlayerSessionService;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.session.InMemoryPlayerSessionRepository;
 import ca.samanthaireland.stormstack.thunder.engine.core.error.ErrorBroadcaster;
@@ -80,17 +84,24 @@ import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.persistence.Snap
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.persistence.SnapshotPersistenceConfig;
 import com.mongodb.client.MongoClient;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * CDI configuration for simulation beans.
  */
 @ApplicationScoped
 public class SimulationConfig {
+    private static final Logger log = LoggerFactory.getLogger(SimulationConfig.class);
 
     @ConfigProperty(name = "ecs.max-entities", defaultValue = "1000000")
     int maxEntities;
@@ -107,6 +118,30 @@ public class SimulationConfig {
     @ConfigProperty(name = "storage.resources-path", defaultValue = "resources")
     String resourcesPath;
 
+    @ConfigProperty(name = "simulation.tick-scheduler.workers", defaultValue = "0")
+    int tickSchedulerWorkers;
+
+    @ConfigProperty(name = "simulation.tick-scheduler.spin-micros", defaultValue = "200")
+    long tickSchedulerSpinMicros;
+
+    @ConfigProperty(name = "simulation.modules.shared-classes", defaultValue = "false")
+    boolean sharedModuleClasses;
+
+    @ConfigProperty(name = "storage.module-templates-path", defaultValue = "module-templates")
+    String moduleTemplatesPath;
+
+    @ConfigProperty(name = "simulation.container-pool.enabled", defaultValue = "false")
+    boolean containerPoolEnabled;
+
+    @ConfigProperty(name = "simulation.container-pool.min-size", defaultValue = "1")
+    int containerPoolMinSize;
+
+    @ConfigProperty(name = "simulation.container-pool.max-size", defaultValue = "4")
+    int containerPoolMaxSize;
+
+    @ConfigProperty(name = "simulation.container-pool.max-module-sets", defaultValue = "8")
+    int containerPoolMaxModuleSets;
+
     // ---------- Core infrastructure ----------
 
     @Produces
@@ -134,12 +169,70 @@ public class SimulationConfig {
 
     // ---------- Container management ----------
 
+    @Produces
+    @Singleton
+    public TickScheduler tickScheduler() {
+        // One scheduler per node; 0 sizes the worker pool to the available cores
+        int workers = tickSchedulerWorkers > 0 ? tickSchedulerWorkers : TickScheduler.defaultWorkerCount();
+        return new TickScheduler("tick-scheduler", workers,
+                TimeUnit.MICROSECONDS.toNanos(tickSchedulerSpinMicros));
+    }
+
+    void closeTickScheduler(@Disposes TickScheduler tickScheduler) {
+        tickScheduler.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Produces
+    @Singleton
+    public ModuleTemplateCache moduleTemplateCache() {
+        // One cache per node so containers running the same module version share its classes
+        return new ModuleTemplateCache(Path.of(moduleTemplatesPath));
+    }
+
+    void closeModuleTemplateCache(@Disposes ModuleTemplateCache moduleTemplateCache) {
+        moduleTemplateCache.close();
+    }
+
     @Produces
     @ApplicationScoped
-    public ContainerManager containerManager() {
-        // Creates manager with default container initialized automatically
-        return new InMemoryContainerManager(
-                modulesPath, maxEntities, maxComponents, maxCommandsPerTick);
+    public ContainerManager containerManager(TickScheduler tickScheduler, ModuleTemplateCache moduleTemplateCache,
+                                             ModuleManager moduleManager) {
+        // Creates manager with default container initialized automatically; without shared
+        // classes every container defines its own copy of each module
+        InMemoryContainerManager manager = new InMemoryContainerManager(
+                modulesPath, maxEntities, maxComponents, maxCommandsPerTick, tickScheduler,
+                sharedModuleClasses ? moduleTemplateCache : null);
+        if (containerPoolEnabled) {
+            manager.enableWarmPool(new GlobalModuleWarmer(moduleManager),
+                    containerPoolMinSize, containerPoolMaxSize, containerPoolMaxModuleSets);
+        }
+        return manager;
+    }
+
+    /**
+     * Warms pooled containers the same way container creation does: start, then install
+     * each requested module from the global pool.
+     */
+    private record GlobalModuleWarmer(ModuleManager moduleManager) implements WarmContainerPool.Warmer {
+
+        @Override
+        public void warm(ExecutionContainer container, List<String> moduleNames) {
+            container.lifecycle().start();
+            for (String moduleName : moduleNames) {
+                ModuleFactory factory = moduleManager.getFactory(moduleName);
+                if (factory != null) {
+                    container.modules().install(factory.getClass());
+                } else {
+                    log.warn("Module '{}' not found in global pool, skipping", moduleName);
+                }
+            }
+        }
+
+        @Override
+        public long version() {
+            // Installing or uninstalling a module invalidates containers warmed before it
+            return moduleManager.getGeneration();
+        }
     }
 
     @Produces
@@ -22,20 +22,33 @@
 
 package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.dto;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * DTO for node metrics information.
  *
- * @param containerCount current number of containers
- * @param matchCount     current number of active matches
- * @param cpuUsage       CPU usage percentage (0.0 - 1.0)
- * @param memoryUsedMb   memory usage in megabytes
- * @param memoryMaxMb    maximum memory in megabytes
+ * @param containerCount  current number of containers
+ * @param matchCount      current number of active matches
+ * @param cpuUsage        CPU usage percentage (0.0 - 1.0)
+ * @param memoryUsedMb    memory usage in megabytes
+ * @param memoryMaxMb     maximum memory in megabytes
+ * @param entityCount     total entities across all containers
+ * @param tickOverrunRate fraction of auto-advanced ticks since the previous heartbeat that exceeded their interval (0.0 - 1.0)
+ * @param modules         names of modules installed on this node
+ * @param moduleHashes    SHA-256 checksums of the module JARs on this node
+ * @param warmContainers  pre-started containers ready to claim, keyed by sorted comma-separated module set
  */
 public record NodeMetricsDto(
         int containerCount,
         int matchCount,
         double cpuUsage,
         long memoryUsedMb,
-        long memoryMaxMb
+        long memoryMaxMb,
+        long entityCount,
+        double tickOverrunRate,
+        List<String> modules,
+        List<String> moduleHashes,
+        Map<String, Integer> warmContainers
 ) {
 }
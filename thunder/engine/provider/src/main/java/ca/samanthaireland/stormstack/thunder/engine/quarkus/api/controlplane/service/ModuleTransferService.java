@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Receives module JARs pushed by the control plane.
+ *
+ * <p>Transfers are addressed by the SHA-256 checksum of the JAR and staged on
+ * disk, so a sender that loses its connection can ask for the received offset
+ * and resume from there. The checksums of installed JARs are reported in the
+ * heartbeat so the control plane can skip nodes that already hold a module.
+ * Transfers are limited in size and chunk count, and abandoned transfers expire.
+ */
+public interface ModuleTransferService {
+
+    /**
+     * Returns how many bytes of a transfer have been received.
+     *
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @return the received byte count, 0 if the transfer is unknown
+     * @throws IllegalArgumentException if the checksum is not a SHA-256 hex digest
+     */
+    long getOffset(String checksum);
+
+    /**
+     * Appends a chunk to a transfer.
+     *
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @param offset   the offset the chunk starts at; must equal the received byte count
+     * @param chunk    the chunk contents
+     * @return the received byte count after the chunk
+     * @throws IllegalArgumentException if the checksum is not a SHA-256 hex digest
+     * @throws TransferOffsetMismatchException if the offset does not match the received byte count
+     * @throws TransferLimitExceededException if the chunk takes the transfer past its size or chunk
+     *         limit; the transfer is discarded
+     * @throws IOException if the chunk cannot be staged
+     */
+    long append(String checksum, long offset, InputStream chunk) throws IOException;
+
+    /**
+     * Verifies a transfer and installs the JAR as a module.
+     *
+     * <p>If the staged bytes do not match the checksum they are discarded so
+     * the sender can start over.
+     *
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @param fileName the file name to install the JAR under
+     * @throws IllegalArgumentException if the checksum or file name is invalid
+     * @throws TransferVerificationException if no bytes are staged or they do not match the checksum
+     * @throws IOException if the JAR cannot be installed
+     */
+    void complete(String checksum, String fileName) throws IOException;
+
+    /**
+     * Discards a transfer and its staged bytes. Unknown transfers are ignored.
+     *
+     * @param checksum the SHA-256 checksum identifying the JAR
+     * @throws IllegalArgumentException if the checksum is not a SHA-256 hex digest
+     * @throws IOException if the staged bytes cannot be deleted
+     */
+    void abort(String checksum) throws IOException;
+
+    /**
+     * Returns the SHA-256 checksums of the module JARs present on this node.
+     *
+     * @return lowercase hex checksums
+     */
+    List<String> installedModuleHashes();
+
+    /**
+     * Thrown when a chunk does not start at the received byte count.
+     */
+    class TransferOffsetMismatchException extends IllegalStateException {
+
+        private final long expectedOffset;
+
+        public TransferOffsetMismatchException(long expectedOffset, long actualOffset) {
+            super("Expected chunk at offset " + expectedOffset + " but got " + actualOffset);
+            this.expectedOffset = expectedOffset;
+        }
+
+        public long getExpectedOffset() {
+            return expectedOffset;
+        }
+    }
+
+    /**
+     * Thrown when a transfer grows past the configured size or chunk limit.
+     * The transfer has been discarded.
+     */
+    class TransferLimitExceededException extends IllegalStateException {
+
+        public TransferLimitExceededException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Thrown when the staged bytes of a transfer are missing or do not match its checksum.
+     * The sender must start the transfer over.
+     */
+    class TransferVerificationException extends IllegalStateException {
+
+        public TransferVerificationException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service;
+
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ModuleTransferService that stages transfers in a hidden
+ * directory inside the module scan directory.
+ *
+ * <p>The module manager only scans the top level of its directory for
+ * {@code .jar} files, so staged {@code .part} files are never picked up before
+ * they are verified. Staged transfers survive a restart and can be resumed.
+ *
+ * <p>Each transfer is capped at a maximum size and chunk count; exceeding either
+ * discards it. Transfers that receive no chunk for longer than the staleness
+ * timeout are discarded when the next transfer starts.
+ */
+@ApplicationScoped
+public class ModuleTransferServiceImpl implements ModuleTransferService {
+    private static final Logger log = LoggerFactory.getLogger(ModuleTransferServiceImpl.class);
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final String STAGING_DIRECTORY = ".transfers";
+    private static final String STAGED_SUFFIX = ".part";
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CHUNKS = 4096;
+    private static final Duration DEFAULT_STALE_AFTER = Duration.ofHours(1);
+
+    private final ModuleManager moduleManager;
+    private final Path modulesDirectory;
+    private final Path stagingDirectory;
+    private final long maxBytes;
+    private final int maxChunks;
+    private final Duration staleAfter;
+    private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+    private final Map<Path, InstalledJar> installedJars = new ConcurrentHashMap<>();
+
+    @Inject
+    public ModuleTransferServiceImpl(
+            ModuleManager moduleManager,
+            @ConfigProperty(name = "storage.modules-path", defaultValue = "modules") String modulesPath,
+            @ConfigProperty(name = "storage.module-transfers.max-bytes", defaultValue = "268435456") long maxBytes,
+            @ConfigProperty(name = "storage.module-transfers.max-chunks", defaultValue = "4096") int maxChunks,
+            @ConfigProperty(name = "storage.module-transfers.stale-after", defaultValue = "PT1H") Duration staleAfter
+    ) {
+        this(moduleManager, Path.of(modulesPath), maxBytes, maxChunks, staleAfter);
+    }
+
+    /**
+     * Constructor for testing with a custom module directory and default limits.
+     *
+     * @param moduleManager    the module manager that installs verified JARs
+     * @param modulesDirectory the directory the module manager scans
+     */
+    public ModuleTransferServiceImpl(ModuleManager moduleManager, Path modulesDirectory) {
+        this(moduleManager, modulesDirectory, DEFAULT_MAX_BYTES, DEFAULT_MAX_CHUNKS, DEFAULT_STALE_AFTER);
+    }
+
+    /**
+     * Constructor for testing with a custom module directory and limits.
+     *
+     * @param moduleManager    the module manager that installs verified JARs
+     * @param modulesDirectory the directory the module manager scans
+     * @param maxBytes         the most bytes a transfer may stage
+     * @param maxChunks        the most chunks a transfer may be sent in
+     * @param staleAfter       how long a transfer may go without a chunk before it is discarded
+     */
+    public ModuleTransferServiceImpl(ModuleManager moduleManager, Path modulesDirectory,
+                                     long maxBytes, int maxChunks, Duration staleAfter) {
+        if (maxBytes <= 0 || maxChunks <= 0) {
+            throw new IllegalArgumentException("Transfer limits must be positive");
+        }
+        this.moduleManager = moduleManager;
+        this.modulesDirectory = modulesDirectory;
+        this.stagingDirectory = modulesDirectory.resolve(STAGING_DIRECTORY);
+        this.maxBytes = maxBytes;
+        this.maxChunks = maxChunks;
+        this.staleAfter = staleAfter;
+    }
+
+    @Override
+    public long getOffset(String checksum) {
+        Path staged = stagedFile(checksum);
+        try {
+            return Files.exists(staged) ? Files.size(staged) : 0;
+        } catch (IOException e) {
+            log.warn("Failed to read staged transfer {}: {}", checksum, e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public long append(String checksum, long offset, InputStream chunk) throws IOException {
+        Path staged = stagedFile(checksum);
+        if (offset == 0) {
+            expireStaleTransfers();
+        }
+        return withTransfer(checksum, transfer -> {
+            long received = Files.exists(staged) ? Files.size(staged) : 0;
+            if (offset != received) {
+                if (received == 0) {
+                    transfers.remove(checksum, transfer);
+                }
+                throw new TransferOffsetMismatchException(received, offset);
+            }
+            if (++transfer.chunks > maxChunks) {
+                discard(checksum, transfer, staged);
+                throw new TransferLimitExceededException(
+                        "Transfer " + checksum + " exceeds " + maxChunks + " chunks");
+            }
+
+            Files.createDirectories(stagingDirectory);
+            boolean withinLimit;
+            try (OutputStream out = Files.newOutputStream(staged,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                withinLimit = copy(chunk, out, maxBytes - received);
+            }
+            if (!withinLimit) {
+                discard(checksum, transfer, staged);
+                throw new TransferLimitExceededException(
+                        "Transfer " + checksum + " exceeds " + maxBytes + " bytes");
+            }
+            return Files.size(staged);
+        });
+    }
+
+    @Override
+    public void complete(String checksum, String fileName) throws IOException {
+        Path staged = stagedFile(checksum);
+        String jarName = sanitizeFileName(fileName);
+
+        withTransfer(checksum, transfer -> {
+            if (!Files.exists(staged)) {
+                transfers.remove(checksum, transfer);
+                throw new TransferVerificationException("No transfer in progress for " + checksum);
+            }
+
+            String actual = sha256(staged);
+            if (!actual.equals(checksum)) {
+                discard(checksum, transfer, staged);
+                throw new TransferVerificationException("Checksum mismatch for " + jarName + ": got " + actual);
+            }
+
+            // The module manager installs under the source file name, so give the JAR its real name first
+            Path installDirectory = Files.createTempDirectory("module-transfer-");
+            Path jar = installDirectory.resolve(jarName);
+            try {
+                Files.move(staged, jar, StandardCopyOption.REPLACE_EXISTING);
+                transfers.remove(checksum, transfer);
+                moduleManager.installModule(jar);
+            } finally {
+                Files.deleteIfExists(jar);
+                Files.deleteIfExists(installDirectory);
+            }
+            return null;
+        });
+
+        log.info("Installed module {} from transfer {}", jarName, checksum);
+    }
+
+    @Override
+    public void abort(String checksum) throws IOException {
+        Path staged = stagedFile(checksum);
+        withTransfer(checksum, transfer -> {
+            discard(checksum, transfer, staged);
+            return null;
+        });
+        log.info("Aborted module transfer {}", checksum);
+    }
+
+    /**
+     * Discards staged transfers that have not received a chunk within the
+     * staleness timeout, and forgets transfers whose staged bytes are gone.
+     */
+    void expireStaleTransfers() {
+        Instant cutoff = Instant.now().minus(staleAfter);
+        if (Files.isDirectory(stagingDirectory)) {
+            try (Stream<Path> paths = Files.list(stagingDirectory)) {
+                paths.map(path -> path.getFileName().toString())
+                        .filter(name -> name.endsWith(STAGED_SUFFIX))
+                        .map(name -> name.substring(0, name.length() - STAGED_SUFFIX.length()))
+                        .filter(checksum -> SHA256_HEX.matcher(checksum).matches())
+                        .forEach(checksum -> expireIfStale(checksum, cutoff));
+            } catch (IOException e) {
+                log.warn("Failed to list staged transfers in {}: {}", stagingDirectory, e.getMessage());
+            }
+        }
+        transfers.forEach((checksum, transfer) -> {
+            synchronized (transfer) {
+                if (!Files.exists(stagedFile(checksum))) {
+                    transfers.remove(checksum, transfer);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the number of transfers with in-memory state.
+     */
+    int getTransferCount() {
+        return transfers.size();
+    }
+
+    private void expireIfStale(String checksum, Instant cutoff) {
+        Path staged = stagedFile(checksum);
+        try {
+            withTransfer(checksum, transfer -> {
+                if (Files.exists(staged) && Files.getLastModifiedTime(staged).toInstant().isBefore(cutoff)) {
+                    discard(checksum, transfer, staged);
+                    log.info("Discarded stale module transfer {}", checksum);
+                } else if (!Files.exists(staged)) {
+                    transfers.remove(checksum, transfer);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            log.warn("Failed to expire staged transfer {}: {}", checksum, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> installedModuleHashes() {
+        if (!Files.isDirectory(modulesDirectory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> paths = Files.list(modulesDirectory)) {
+            List<Path> jars = paths
+                    .filter(path -> path.toString().endsWith(".jar"))
+                    .filter(Files::isRegularFile)
+                    .toList();
+            installedJars.keySet().retainAll(jars);
+            return jars.stream()
+                    .map(this::installedHash)
+                    .filter(hash -> hash != null)
+                    .distinct()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list module directory {}: {}", modulesDirectory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns the cached checksum of an installed JAR, hashing it again only
+     * when its size or modification time changed.
+     */
+    private String installedHash(Path jar) {
+        try {
+            long size = Files.size(jar);
+            FileTime modified = Files.getLastModifiedTime(jar);
+            InstalledJar cached = installedJars.get(jar);
+            if (cached != null && cached.size() == size && cached.modified().equals(modified)) {
+                return cached.checksum();
+            }
+            String checksum = sha256(jar);
+            installedJars.put(jar, new InstalledJar(size, modified, checksum));
+            return checksum;
+        } catch (IOException e) {
+            log.warn("Failed to hash module JAR {}: {}", jar, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path stagedFile(String checksum) {
+        if (checksum == null || !SHA256_HEX.matcher(checksum).matches()) {
+            throw new IllegalArgumentException("Checksum must be a lowercase SHA-256 hex digest");
+        }
+        return stagingDirectory.resolve(checksum + STAGED_SUFFIX);
+    }
+
+    /**
+     * Runs an action while holding the transfer's lock. Entries are only removed
+     * under their lock, so an action never runs on an entry that was already
+     * removed while a newer one for the same checksum is in use.
+     */
+    private <T> T withTransfer(String checksum, TransferAction<T> action) throws IOException {
+        while (true) {
+            Transfer transfer = transfers.computeIfAbsent(checksum, k -> new Transfer());
+            synchronized (transfer) {
+                if (transfers.get(checksum) == transfer) {
+                    return action.apply(transfer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a transfer's staged bytes and forgets it. Must hold the transfer's lock.
+     */
+    private void discard(String checksum, Transfer transfer, Path staged) throws IOException {
+        transfers.remove(checksum, transfer);
+        Files.deleteIfExists(staged);
+    }
+
+    /**
+     * Copies a chunk, stopping once it would take the transfer past its size limit.
+     *
+     * @return false if the chunk holds more than {@code remaining} bytes
+     */
+    private static boolean copy(InputStream in, OutputStream out, long remaining) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (read > remaining) {
+                return false;
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+        return true;
+    }
+
+    /**
+     * Sanitize filename to prevent path traversal attacks.
+     * Removes path separators and keeps only alphanumeric, dash, underscore, and dot.
+     */
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName == null ? "" : fileName.replace("/", "").replace("\\", "").replace("..", "");
+        name = name.replaceAll("[^a-zA-Z0-9._-]", "_");
+        if (!name.endsWith(".jar") || name.length() <= ".jar".length()) {
+            throw new IllegalArgumentException("File must be a JAR file");
+        }
+        return name;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record InstalledJar(long size, FileTime modified, String checksum) {
+    }
+
+    /**
+     * In-flight transfer state, also used as the transfer's lock. Chunk counts
+     * start over after a restart; the size limit still applies to resumed bytes.
+     */
+    private static final class Transfer {
+        private int chunks;
+    }
+
+    @FunctionalInterface
+    private interface TransferAction<T> {
+        T apply(Transfer transfer) throws IOException;
+    }
+}
@@ -23,6 +23,10 @@
 package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.ContainerTickExecutor;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.config.ControlPlaneClientConfig;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.dto.HeartbeatRequest;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.dto.NodeCapacityDto;
@@ -41,6 +45,11 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -55,18 +64,27 @@ public class NodeRegistrationServiceImpl implements NodeRegistrationService {
 
     private final ControlPlaneClientConfig config;
     private final ContainerManager containerManager;
+    private final ModuleManager moduleManager;
+    private final ModuleTransferService moduleTransferService;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final String nodeId;
     private final AtomicBoolean registered = new AtomicBoolean(false);
+    // Scheduled tick and overrun counts per container as of the last heartbeat
+    private final Map<Long, TickCounts> lastTickCounts = new HashMap<>();
+    private volatile double tickOverrunRate;
 
     @Inject
     public NodeRegistrationServiceImpl(
             ControlPlaneClientConfig config,
-            ContainerManager containerManager
+            ContainerManager containerManager,
+            ModuleManager moduleManager,
+            ModuleTransferService moduleTransferService
     ) {
         this.config = config;
         this.containerManager = containerManager;
+        this.moduleManager = moduleManager;
+        this.moduleTransferService = moduleTransferService;
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(REQUEST_TIMEOUT)
                 .build();
@@ -126,6 +144,7 @@ public class NodeRegistrationServiceImpl implements NodeRegistrationService {
             return;
         }
 
+        tickOverrunRate = sampleTickOverrunRate(containerManager.getAllContainers());
         HeartbeatRequest request = new HeartbeatRequest(getCurrentMetrics());
 
         try {
@@ -194,10 +213,14 @@ public class NodeRegistrationServiceImpl implements NodeRegistrationService {
 
     @Override
     public NodeMetricsDto getCurrentMetrics() {
-        int containerCount = containerManager.getAllContainers().size();
-        int matchCount = containerManager.getAllContainers().stream()
+        List<ExecutionContainer> containers = containerManager.getAllContainers();
+        int containerCount = containers.size();
+        int matchCount = containers.stream()
                 .mapToInt(c -> c.matches().all().size())
                 .sum();
+        long entityCount = containers.stream()
+                .mapToLong(c -> c.getStats().entityCount())
+                .sum();
 
         Runtime runtime = Runtime.getRuntime();
         long usedMemory = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
@@ -210,7 +233,12 @@ public class NodeRegistrationServiceImpl implements NodeRegistrationService {
                 matchCount,
                 cpuUsage,
                 usedMemory,
-                maxMemory
+                maxMemory,
+                entityCount,
+                tickOverrunRate,
+                moduleManager.getAvailableModules(),
+                moduleTransferService.installedModuleHashes(),
+                containerManager.getWarmContainerCounts()
         );
     }
 
@@ -224,6 +252,40 @@ public class NodeRegistrationServiceImpl implements NodeRegistrationService {
         return registered.get();
     }
 
+    /**
+     * Fraction of auto-advanced ticks that took longer than their interval since
+     * the previous sample, across all containers.
+     *
+     * <p>Containers seen for the first time, or whose counts went backwards after a
+     * metrics reset, are measured from zero.
+     */
+    private synchronized double sampleTickOverrunRate(List<ExecutionContainer> containers) {
+        long ticks = 0;
+        long overruns = 0;
+        Set<Long> seen = new HashSet<>();
+        for (ExecutionContainer container : containers) {
+            if (!(container instanceof InMemoryExecutionContainer inMemory)) {
+                continue;
+            }
+            ContainerTickExecutor tickExecutor = inMemory.getTickExecutor();
+            TickCounts current = new TickCounts(
+                    tickExecutor.getScheduledTickCount(), tickExecutor.getOverrunCount());
+            TickCounts previous = lastTickCounts.put(container.getId(), current);
+            seen.add(container.getId());
+            if (previous == null || current.ticks() < previous.ticks() || current.overruns() < previous.overruns()) {
+                previous = TickCounts.ZERO;
+            }
+            ticks += current.ticks() - previous.ticks();
+            overruns += current.overruns() - previous.overruns();
+        }
+        lastTickCounts.keySet().retainAll(seen);
+        return ticks == 0 ? 0.0 : Math.min(1.0, (double) overruns / ticks);
+    }
+
+    private record TickCounts(long ticks, long overruns) {
+        static final TickCounts ZERO = new TickCounts(0, 0);
+    }
+
     private double getCpuUsage() {
         try {
             OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
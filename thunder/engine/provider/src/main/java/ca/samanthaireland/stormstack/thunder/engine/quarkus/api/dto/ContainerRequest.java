@@ -32,6 +32,10 @@ import java.util.List;
  * Request DTO for creating or updating an execution container.
  *
  * <p>Supports selecting modules and resources to install from the global pool.
+ * A positive {@code interestRadius} enables area-of-interest filtering for player
+ * snapshots, reading positions from {@code interestPositionModule} if given.
+ * {@code overrunPolicy} ({@code CATCH_UP}, {@code DROP} or {@code SLOW_DOWN}) and
+ * {@code maxCatchUpTicks} override the node's default tick policy.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record ContainerRequest(
@@ -43,13 +47,17 @@ public record ContainerRequest(
         @JsonProperty("moduleJars") List<String> moduleJars,
         @JsonProperty("moduleScanDirectory") String moduleScanDirectory,
         @JsonProperty("moduleNames") List<String> moduleNames,
-        @JsonProperty("resourceIds") List<Long> resourceIds
+        @JsonProperty("resourceIds") List<Long> resourceIds,
+        @JsonProperty("interestRadius") Float interestRadius,
+        @JsonProperty("interestPositionModule") String interestPositionModule,
+        @JsonProperty("overrunPolicy") String overrunPolicy,
+        @JsonProperty("maxCatchUpTicks") Integer maxCatchUpTicks
 ) {
     /**
      * Creates a request with just a name, using defaults for other values.
      */
     public ContainerRequest(String name) {
-        this(name, null, null, null, null, null, null, null, null);
+        this(name, null, null, null, null, null, null, null, null, null, null, null, null);
     }
 
     /**
@@ -29,6 +29,8 @@ package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto;
  * @param playing whether the simulation is auto-advancing
  * @param tick the current tick value
  * @param intervalMs the interval between ticks when playing (0 when stopped)
+ * @param speed the auto-advance rate multiplier (1 at real time)
+ * @param headless whether tick listeners and snapshot streams are paused
  */
-public record PlayStatusResponse(boolean playing, long tick, long intervalMs) {
+public record PlayStatusResponse(boolean playing, long tick, long intervalMs, double speed, boolean headless) {
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerRecordingOperations.RecordingInfo;
+
+/**
+ * An input recording of a match.
+ *
+ * @param matchId the recorded match
+ * @param recording the recording name, used to replay it
+ * @param fromTick the tick recording started at
+ * @param toTick the last tick recorded so far
+ * @param commands commands recorded
+ * @param keyframes keyframes recorded
+ * @param bytes the log size in bytes
+ * @param failure why recording stopped early, or null; the log is only valid up to {@code toTick}
+ */
+public record RecordingResponse(long matchId, String recording, long fromTick, long toTick,
+                                long commands, int keyframes, long bytes, String failure) {
+
+    public static RecordingResponse from(RecordingInfo info) {
+        return new RecordingResponse(info.matchId(), info.file().getFileName().toString(), info.fromTick(),
+                info.toTick(), info.commands(), info.keyframes(), info.bytes(), info.failure());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerRecordingOperations.ReplayResult;
+
+/**
+ * Result of replaying an input recording.
+ *
+ * @param matchId the replayed match
+ * @param fromTick the tick of the keyframe replay started from
+ * @param toTick the last tick replayed
+ * @param ticks ticks replayed
+ * @param commands commands replayed
+ * @param elapsedMs time spent replaying
+ * @param ticksPerSecond replay throughput
+ * @param checksum the match checksum at {@code toTick}
+ * @param keyframesVerified later keyframes the replay matched
+ * @param diverged whether the replay differed from the recording
+ * @param divergedAtTick the first keyframe tick the replay differed at, or -1
+ */
+public record ReplayResponse(long matchId, long fromTick, long toTick, long ticks, long commands,
+                             double elapsedMs, double ticksPerSecond, long checksum,
+                             int keyframesVerified, boolean diverged, long divergedAtTick) {
+
+    public static ReplayResponse from(ReplayResult result) {
+        return new ReplayResponse(result.matchId(), result.fromTick(), result.toTick(), result.ticks(),
+                result.commands(), result.elapsedNanos() / 1_000_000.0, result.ticksPerSecond(),
+                result.checksum(), result.keyframesVerified(), result.diverged(), result.divergedAtTick());
+    }
+}
@@ -23,6 +23,7 @@
 package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto;
 
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.util.List;
 
@@ -57,15 +58,18 @@ import java.util.List;
  * }
  * }</pre>
  *
+ * <p>Streams send a heartbeat without {@code modules} when the match has not changed
+ * since the last full snapshot; clients keep their previous state.
+ *
  * @param matchId the match ID this snapshot belongs to
  * @param tick    the simulation tick when this snapshot was taken
- * @param modules the module data with version information and components
+ * @param modules the module data with version information and components, null for heartbeats
  * @param error   error message if the request failed, null on success
  */
 public record SnapshotResponse(
         long matchId,
         long tick,
-        List<ModuleDataResponse> modules,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<ModuleDataResponse> modules,
         String error
 ) {
     /**
@@ -89,6 +93,17 @@ public record SnapshotResponse(
         return new SnapshotResponse(0, 0, List.of(), message);
     }
 
+    /**
+     * Creates a heartbeat for a match that has not changed since the last snapshot.
+     *
+     * @param matchId the match ID
+     * @param tick    the current simulation tick
+     * @return a heartbeat response without module data
+     */
+    public static SnapshotResponse heartbeat(long matchId, long tick) {
+        return new SnapshotResponse(matchId, tick, null, null);
+    }
+
     /**
      * Creates a response from domain Snapshot.
      *
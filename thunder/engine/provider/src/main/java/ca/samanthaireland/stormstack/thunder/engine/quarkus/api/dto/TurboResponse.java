@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerTickOperations.TurboResult;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Result of a turbo run.
+ *
+ * @param fromTick the tick before the run
+ * @param toTick the tick after the run
+ * @param ticks ticks run
+ * @param elapsedMs wall time of the run
+ * @param ticksPerSecond ticks run per second of wall time
+ * @param headless whether the run skipped tick listeners and snapshot streams
+ * @param systems time spent in each system, slowest first
+ */
+public record TurboResponse(long fromTick, long toTick, long ticks, double elapsedMs, double ticksPerSecond,
+                            boolean headless, List<SystemTime> systems) {
+
+    public static TurboResponse from(TurboResult result, boolean headless) {
+        List<SystemTime> systems = result.systemNanos().entrySet().stream()
+                .sorted(Comparator.comparing(e -> -e.getValue()))
+                .map(e -> new SystemTime(e.getKey(), e.getValue() / 1_000_000.0,
+                        result.ticks() > 0 ? e.getValue() / 1_000.0 / result.ticks() : 0,
+                        result.elapsedNanos() > 0 ? (double) e.getValue() / result.elapsedNanos() : 0))
+                .toList();
+        return new TurboResponse(result.fromTick(), result.toTick(), result.ticks(),
+                result.elapsedNanos() / 1_000_000.0, result.ticksPerSecond(), headless, systems);
+    }
+
+    /**
+     * Time one system took during a turbo run.
+     *
+     * @param name the system name
+     * @param totalMs total time across the run
+     * @param avgTickUs average time per tick in microseconds
+     * @param share fraction of the run's wall time
+     */
+    public record SystemTime(String name, double totalMs, double avgTickUs, double share) {
+    }
+}
@@ -34,6 +34,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -44,7 +45,7 @@ import java.util.Map;
  * <ol>
  *   <li>Retrieves all command execution errors from the queue</li>
  *   <li>Converts them to GameError objects</li>
- *   <li>Publishes them via the ErrorBroadcaster</li>
+ *   <li>Publishes them via the ErrorBroadcaster as one batch</li>
  * </ol>
  */
 public class ErrorCollectorTickListener implements TickListener {
@@ -68,10 +69,11 @@ public class ErrorCollectorTickListener implements TickListener {
 
         log.debug("Tick {}: collecting {} command errors", tick, errors.size());
 
+        List<GameError> gameErrors = new ArrayList<>(errors.size());
         for (CommandExecutionException error : errors) {
-            GameError gameError = convertToGameError(error);
-            errorBroadcaster.publish(gameError);
+            gameErrors.add(convertToGameError(error));
         }
+        errorBroadcaster.publishAll(gameErrors);
     }
 
     private GameError convertToGameError(CommandExecutionException error) {
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.metrics;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.internal.GameLoop;
+import ca.samanthaireland.stormstack.thunder.engine.internal.LatencyHistogram;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.ContainerTickExecutor;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryExecutionContainer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exports per-container tick latency metrics to Micrometer for Prometheus scraping.
+ *
+ * <p>Containers, systems and commands come and go at runtime, so meters are
+ * registered and removed by a periodic refresh rather than once at startup. The
+ * refresh also copies every value into the meters' holders, so a scrape never
+ * walks histogram buckets and no meter keeps a deleted container (and its
+ * entity store) reachable.
+ *
+ * <p>Also reports how long the node took to start: from JVM launch to accepting
+ * requests, and to the first completed tick of the first container that ticks.
+ */
+@ApplicationScoped
+public class TickMetricsExporter {
+    private static final Logger log = LoggerFactory.getLogger(TickMetricsExporter.class);
+
+    private static final String METRIC_PREFIX = "thunder_engine_";
+
+    private final MeterRegistry registry;
+    private final ContainerManager containerManager;
+    private final int refreshIntervalSeconds;
+    private final Map<Long, ContainerMeters> containers = new ConcurrentHashMap<>();
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private volatile double readySeconds = Double.NaN;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public TickMetricsExporter(
+            MeterRegistry registry,
+            ContainerManager containerManager,
+            @ConfigProperty(name = "metrics.tick.refresh-interval-seconds", defaultValue = "5") int refreshIntervalSeconds
+    ) {
+        this.registry = registry;
+        this.containerManager = containerManager;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+        Gauge.builder(METRIC_PREFIX + "startup_ready_seconds", this, e -> e.readySeconds)
+                .description("Time from JVM start until the node accepted requests")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + "startup_time_to_first_tick_seconds", this, TickMetricsExporter::timeToFirstTick)
+                .description("Time from JVM start until the first container completed its first tick")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        readySeconds = (System.currentTimeMillis() - jvmStartMillis) / 1_000.0;
+        log.info("Node ready {}s after JVM start", readySeconds);
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "tick-metrics-exporter");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(this::refreshSafe, 0, refreshIntervalSeconds, TimeUnit.SECONDS);
+        log.info("Tick metrics exporter started with refresh interval {}s", refreshIntervalSeconds);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void refreshSafe() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Error refreshing tick metrics: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Register meters for new containers, remove those of deleted containers and
+     * update the cached latency snapshots.
+     */
+    void refresh() {
+        Map<Long, InMemoryExecutionContainer> live = new HashMap<>();
+        for (ExecutionContainer container : containerManager.getAllContainers()) {
+            if (container instanceof InMemoryExecutionContainer inMemory && inMemory.getGameLoop() != null) {
+                live.put(container.getId(), inMemory);
+            }
+        }
+        // Remove first so a replacement container does not pick up the old container's meters
+        containers.entrySet().removeIf(entry -> {
+            if (live.containsKey(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().remove();
+            return true;
+        });
+        live.forEach((id, container) -> containers.computeIfAbsent(id, k -> new ContainerMeters(container))
+                .update(container));
+    }
+
+    private double timeToFirstTick() {
+        long firstTickMillis = GameLoop.getFirstTickCompletedMillis();
+        return firstTickMillis == 0 ? Double.NaN : (firstTickMillis - jvmStartMillis) / 1_000.0;
+    }
+
+    /**
+     * Meters of one container.
+     */
+    private final class ContainerMeters {
+        private final Tags tags;
+        private final List<Meter> meters = new ArrayList<>();
+        private final LatencyGauges tickLatency;
+        private final LatencyGauges schedulingLag;
+        private final Map<String, LatencyGauges> systemLatencies = new HashMap<>();
+        private final Map<String, LatencyGauges> commandLatencies = new HashMap<>();
+        private volatile long overruns;
+        private volatile long droppedTicks;
+        private volatile long droppedListenerTicks;
+        private volatile long totalTicks;
+        private volatile long intervalMs;
+
+        ContainerMeters(InMemoryExecutionContainer container) {
+            this.tags = Tags.of("container_id", String.valueOf(container.getId()), "container", container.getName());
+            this.tickLatency = new LatencyGauges("tick_duration_seconds",
+                    "Tick duration over the rolling window", tags);
+            this.schedulingLag = new LatencyGauges("tick_scheduling_lag_seconds",
+                    "Delay between each auto-advanced tick's intended and actual start", tags);
+
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + "tick_overruns_total", this, m -> m.overruns)
+                    .description("Auto-advanced ticks that took longer than the interval")
+                    .tags(tags)
+                    .register(registry));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + "tick_dropped_total", this, m -> m.droppedTicks)
+                    .description("Scheduled ticks skipped to get back on the fixed timestep")
+                    .tags(tags)
+                    .register(registry));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + "tick_listener_dropped_total", this,
+                            m -> m.droppedListenerTicks)
+                    .description("Tick notifications dropped because a tick listener fell too far behind")
+                    .tags(tags)
+                    .register(registry));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + "ticks_total", this, m -> m.totalTicks)
+                    .description("Ticks executed by the game loop")
+                    .tags(tags)
+                    .register(registry));
+            meters.add(Gauge.builder(METRIC_PREFIX + "tick_interval_seconds", this, m -> m.intervalMs / 1_000.0)
+                    .description("Configured auto-advance interval, or 0 if not auto-advancing")
+                    .tags(tags)
+                    .register(registry));
+        }
+
+        void update(InMemoryExecutionContainer container) {
+            GameLoop gameLoop = container.getGameLoop();
+            if (gameLoop == null) {
+                return;
+            }
+            ContainerTickExecutor tickExecutor = container.getTickExecutor();
+            overruns = tickExecutor.getOverrunCount();
+            droppedTicks = tickExecutor.getDroppedTickCount();
+            totalTicks = gameLoop.getTickMetrics().totalTicks();
+            droppedListenerTicks = gameLoop.getTickListenerOverflowCount();
+            intervalMs = tickExecutor.getAutoAdvanceInterval();
+            tickLatency.set(gameLoop.getTickLatency());
+            schedulingLag.set(tickExecutor.getSchedulingLag());
+            updateAll(systemLatencies, gameLoop.getSystemLatencies(), "system_duration_seconds",
+                    "System execution time over the rolling window", "system");
+            updateAll(commandLatencies, gameLoop.getCommandLatencies(), "command_duration_seconds",
+                    "Command execution time over the rolling window", "command");
+        }
+
+        private void updateAll(Map<String, LatencyGauges> gauges, Map<String, LatencyHistogram.Snapshot> snapshots,
+                               String name, String description, String tagKey) {
+            snapshots.forEach((key, snapshot) -> gauges
+                    .computeIfAbsent(key, k -> new LatencyGauges(name, description, tags.and(tagKey, k)))
+                    .set(snapshot));
+            // Systems and commands that left the window report zero until they run again
+            gauges.forEach((key, latency) -> {
+                if (!snapshots.containsKey(key)) {
+                    latency.set(LatencyHistogram.Snapshot.EMPTY);
+                }
+            });
+        }
+
+        void remove() {
+            meters.forEach(registry::remove);
+            tickLatency.remove();
+            schedulingLag.remove();
+            systemLatencies.values().forEach(LatencyGauges::remove);
+            commandLatencies.values().forEach(LatencyGauges::remove);
+        }
+    }
+
+    /**
+     * Quantile and maximum gauges over a cached latency snapshot.
+     */
+    private final class LatencyGauges {
+        private final List<Meter> meters = new ArrayList<>();
+        private volatile LatencyHistogram.Snapshot snapshot = LatencyHistogram.Snapshot.EMPTY;
+
+        LatencyGauges(String name, String description, Tags tags) {
+            quantile(name, description, tags, "0.5", LatencyHistogram.Snapshot::p50Nanos);
+            quantile(name, description, tags, "0.9", LatencyHistogram.Snapshot::p90Nanos);
+            quantile(name, description, tags, "0.99", LatencyHistogram.Snapshot::p99Nanos);
+            quantile(name, description, tags, "0.999", LatencyHistogram.Snapshot::p999Nanos);
+            meters.add(Gauge.builder(METRIC_PREFIX + name + "_max", this, g -> seconds(g.snapshot.maxNanos()))
+                    .description(description)
+                    .tags(tags)
+                    .register(registry));
+        }
+
+        private void quantile(String name, String description, Tags tags, String quantile,
+                              ToLongFunction<LatencyHistogram.Snapshot> nanos) {
+            meters.add(Gauge.builder(METRIC_PREFIX + name, this, g -> seconds(nanos.applyAsLong(g.snapshot)))
+                    .description(description)
+                    .tags(tags.and("quantile", quantile))
+                    .register(registry));
+        }
+
+        void set(LatencyHistogram.Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        void remove() {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
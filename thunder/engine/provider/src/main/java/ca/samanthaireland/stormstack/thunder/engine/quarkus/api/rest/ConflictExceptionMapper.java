@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ * MIT License
+ */
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.ConflictException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import java.util.Map;
+
+/**
+ * Maps ConflictException to HTTP 409 Conflict responses.
+ */
+@Provider
+public class ConflictExceptionMapper implements ExceptionMapper<ConflictException> {
+
+    @Override
+    public Response toResponse(ConflictException exception) {
+        return Response.status(Response.Status.CONFLICT)
+                .entity(Map.of("error", exception.getMessage() != null ? exception.getMessage() : "Conflict"))
+                .build();
+    }
+}
@@ -29,6 +29,8 @@ import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryE
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.TickPolicy;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.InterestConfig;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.ContainerRequest;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.ContainerResponse;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.persistence.ContainerSnapshotPersistenceListener;
@@ -39,10 +41,14 @@ import jakarta.ws.rs.*;
 import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.MediaTypes.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.ContainerResourceSupport.getContainerOrThrow;
 
@@ -70,6 +76,12 @@ public class ContainerLifecycleResource {
     @Inject
     Instance<com.mongodb.client.MongoClient> mongoClientInstance;
 
+    @ConfigProperty(name = "simulation.tick.overrun-policy", defaultValue = "CATCH_UP")
+    TickPolicy.Overrun defaultOverrunPolicy;
+
+    @ConfigProperty(name = "simulation.tick.max-catch-up-ticks", defaultValue = "5")
+    int defaultMaxCatchUpTicks;
+
     // =========================================================================
     // CONTAINER CRUD
     // =========================================================================
@@ -82,6 +94,15 @@ public class ContainerLifecycleResource {
     public Response createContainer(ContainerRequest request) {
         log.info("Creating container: {}", request.name());
 
+        TickPolicy tickPolicy;
+        try {
+            tickPolicy = toTickPolicy(request);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(Map.of("error", "Invalid tick policy: " + e.getMessage()))
+                    .build();
+        }
+
         ContainerConfig.Builder builder = ContainerConfig.builder(request.name());
 
         if (request.maxEntities() != null) {
@@ -109,8 +130,32 @@ public class ContainerLifecycleResource {
         if (request.moduleScanDirectory() != null) {
             builder.moduleScanDirectory(java.nio.file.Path.of(request.moduleScanDirectory()));
         }
+        if (request.interestRadius() != null && request.interestRadius() > 0) {
+            builder.interest(InterestConfig.withRadius(request.interestRadius())
+                    .withPositionModule(request.interestPositionModule()));
+        }
+
+        builder.tickPolicy(tickPolicy);
+        ContainerConfig config = builder.build();
+
+        // A warm container only has modules from the global pool, so explicit JARs need a cold start
+        boolean poolable = !request.moduleNames().isEmpty()
+                && request.moduleJars() == null && request.moduleScanDirectory() == null;
+        if (poolable) {
+            Optional<ExecutionContainer> warm = containerManager.claimWarmContainer(config, request.moduleNames());
+            if (warm.isPresent()) {
+                ExecutionContainer container = warm.get();
+                if (persistenceConfig.enabled()) {
+                    registerSnapshotPersistenceListener(container);
+                }
+                log.info("Deployed container '{}' from the warm pool", request.name());
+                return Response.status(Response.Status.CREATED)
+                        .entity(ContainerResponse.from(container))
+                        .build();
+            }
+        }
 
-        ExecutionContainer container = containerManager.createContainer(builder.build());
+        ExecutionContainer container = containerManager.createContainer(config);
 
         // Start container first so moduleManager is initialized
         boolean hasModulesToInstall = !request.moduleNames().isEmpty();
@@ -275,6 +320,21 @@ public class ContainerLifecycleResource {
     // HELPERS
     // =========================================================================
 
+    /**
+     * Build the tick policy from the request, falling back to the node defaults.
+     *
+     * @throws IllegalArgumentException if the overrun policy is unknown or the catch-up bound negative
+     */
+    private TickPolicy toTickPolicy(ContainerRequest request) {
+        TickPolicy.Overrun overrun = request.overrunPolicy() != null
+                ? TickPolicy.Overrun.valueOf(request.overrunPolicy().trim().toUpperCase(Locale.ROOT))
+                : defaultOverrunPolicy;
+        int maxCatchUpTicks = request.maxCatchUpTicks() != null
+                ? request.maxCatchUpTicks()
+                : defaultMaxCatchUpTicks;
+        return new TickPolicy(overrun, maxCatchUpTicks);
+    }
+
     /**
      * Register a container-scoped snapshot persistence listener.
      */
@@ -9,7 +9,9 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
 import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
 import ca.samanthaireland.stormstack.thunder.engine.internal.CommandExecutionMetrics;
 import ca.samanthaireland.stormstack.thunder.engine.internal.GameLoop;
+import ca.samanthaireland.stormstack.thunder.engine.internal.LatencyHistogram;
 import ca.samanthaireland.stormstack.thunder.engine.internal.SystemExecutionMetrics;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.ContainerTickExecutor;
 import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryExecutionContainer;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.command.InMemoryCommandQueueManager;
 import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.CachingSnapshotProvider;
@@ -21,7 +23,9 @@ import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.Medi
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.ContainerResourceSupport.getContainerOrThrow;
 
@@ -93,9 +97,14 @@ public class ContainerMetricsResource {
         int totalEntities = entityStore != null ? entityStore.getEntityCount() : 0;
         int totalComponentTypes = entityStore != null ? entityStore.getComponentTypeCount() : 0;
 
-        // Get command queue size
+        // Get command queue size, latency and per-match depth
         InMemoryCommandQueueManager commandQueueManager = inMemoryContainer.getCommandQueueManager();
         int commandQueueSize = commandQueueManager != null ? commandQueueManager.getQueueSize() : 0;
+        CommandQueueMetricsResponse commandQueueMetrics = commandQueueManager != null
+                ? toCommandQueueMetrics(commandQueueManager)
+                : null;
+
+        TickLatencyResponse tickLatency = toTickLatency(gameLoop, inMemoryContainer.getTickExecutor());
 
         return Response.ok(new MetricsResponse(
                 containerId,
@@ -112,9 +121,11 @@ public class ContainerMetricsResource {
                 totalEntities,
                 totalComponentTypes,
                 commandQueueSize,
+                commandQueueMetrics,
                 snapshotMetricsResponse,
                 systemMetrics,
-                commandMetrics
+                commandMetrics,
+                tickLatency
         )).build();
     }
 
@@ -141,6 +152,12 @@ public class ContainerMetricsResource {
         }
 
         gameLoop.resetTickMetrics();
+        inMemoryContainer.getTickExecutor().resetMetrics();
+
+        InMemoryCommandQueueManager commandQueueManager = inMemoryContainer.getCommandQueueManager();
+        if (commandQueueManager != null) {
+            commandQueueManager.resetMetrics();
+        }
 
         // Reset snapshot metrics if available
         CachingSnapshotProvider cachingSnapshotProvider = inMemoryContainer.getCachingSnapshotProvider();
@@ -151,6 +168,40 @@ public class ContainerMetricsResource {
         return Response.ok(new MessageResponse("Metrics reset")).build();
     }
 
+    private static CommandQueueMetricsResponse toCommandQueueMetrics(InMemoryCommandQueueManager manager) {
+        List<MatchQueueMetricsResponse> matches = manager.getMatchQueueStats().stream()
+                .map(stats -> new MatchQueueMetricsResponse(
+                        stats.matchId(),
+                        stats.pending(),
+                        stats.scheduled(),
+                        stats.executed(),
+                        toLatency(stats.latency())))
+                .toList();
+        return new CommandQueueMetricsResponse(toLatency(manager.getQueueLatency()), matches);
+    }
+
+    private static TickLatencyResponse toTickLatency(GameLoop gameLoop, ContainerTickExecutor tickExecutor) {
+        return new TickLatencyResponse(
+                toLatency(gameLoop.getTickLatency()),
+                toLatency(tickExecutor.getSchedulingLag()),
+                tickExecutor.getAutoAdvanceInterval(),
+                tickExecutor.getOverrunCount(),
+                tickExecutor.getDroppedTickCount(),
+                toLatencies(gameLoop.getSystemLatencies()),
+                toLatencies(gameLoop.getCommandLatencies()));
+    }
+
+    private static Map<String, LatencyResponse> toLatencies(Map<String, LatencyHistogram.Snapshot> snapshots) {
+        Map<String, LatencyResponse> latencies = new LinkedHashMap<>();
+        snapshots.forEach((name, snapshot) -> latencies.put(name, toLatency(snapshot)));
+        return latencies;
+    }
+
+    private static LatencyResponse toLatency(LatencyHistogram.Snapshot snapshot) {
+        return new LatencyResponse(
+                snapshot.count(), snapshot.p50Ms(), snapshot.p90Ms(), snapshot.p99Ms(), snapshot.p999Ms(), snapshot.maxMs());
+    }
+
     /**
      * Metrics response DTO.
      */
@@ -169,9 +220,66 @@ public class ContainerMetricsResource {
             int totalEntities,
             int totalComponentTypes,
             int commandQueueSize,
+            CommandQueueMetricsResponse commandQueue,
             SnapshotMetricsResponse snapshotMetrics,
             List<SystemMetricsResponse> lastTickSystems,
-            List<CommandMetricsResponse> lastTickCommands
+            List<CommandMetricsResponse> lastTickCommands,
+            TickLatencyResponse tickLatency
+    ) {}
+
+    /**
+     * Rolling-window tick latency response DTO.
+     *
+     * @param tick tick duration distribution
+     * @param schedulingLag delay between each auto-advanced tick's intended and actual start
+     * @param autoAdvanceIntervalMs the auto-advance interval, or 0 if not auto-advancing
+     * @param overruns auto-advanced ticks that took longer than the interval
+     * @param droppedTicks scheduled ticks skipped to get back on the fixed timestep
+     * @param systems per-system execution time distributions keyed by system name
+     * @param commands per-command execution time distributions keyed by command name
+     */
+    public record TickLatencyResponse(
+            LatencyResponse tick,
+            LatencyResponse schedulingLag,
+            long autoAdvanceIntervalMs,
+            long overruns,
+            long droppedTicks,
+            Map<String, LatencyResponse> systems,
+            Map<String, LatencyResponse> commands
+    ) {}
+
+    /**
+     * Command queue metrics response DTO.
+     *
+     * @param latency container-wide latency from a command becoming due to its execution
+     * @param matches per-match queue depth and latency
+     */
+    public record CommandQueueMetricsResponse(
+            LatencyResponse latency,
+            List<MatchQueueMetricsResponse> matches
+    ) {}
+
+    /**
+     * Per-match command queue metrics response DTO.
+     */
+    public record MatchQueueMetricsResponse(
+            long matchId,
+            int pending,
+            int scheduled,
+            long executed,
+            LatencyResponse latency
+    ) {}
+
+    /**
+     * Latency histogram response DTO.
+     */
+    public record LatencyResponse(
+            long count,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs
     ) {}
 
     /**
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MatchMigrationState;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.MigrationDelta;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.RedirectRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocketConnection;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.ContainerResourceSupport.getContainerOrThrow;
+import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.MediaTypes.*;
+
+/**
+ * REST resource for live match migration between containers.
+ *
+ * <p>The control plane drives a migration by calling these endpoints on the
+ * source and target nodes and relaying the returned state and delta between them.
+ * Requests that do not fit the match's migration state return 409.
+ */
+@Path("/api/containers/{containerId}/matches/{matchId}/migration")
+@Produces({V1_JSON, JSON})
+@Consumes({V1_JSON, JSON})
+public class ContainerMigrationResource {
+    private static final Logger log = LoggerFactory.getLogger(ContainerMigrationResource.class);
+
+    @Inject
+    ContainerManager containerManager;
+
+    @Inject
+    OpenConnections openConnections;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Capture a running match and start recording its commands.
+     */
+    @POST
+    @Path("/begin")
+    @Scopes("engine.container.lifecycle")
+    public Response begin(@PathParam("containerId") long containerId, @PathParam("matchId") long matchId) {
+        return conflictOnIllegalState(() -> Response.ok(
+                getContainerOrThrow(containerManager, containerId).migration().begin(matchId)).build());
+    }
+
+    /**
+     * Stop ticking a migrating match and return what happened since it was captured.
+     */
+    @POST
+    @Path("/freeze")
+    @Scopes("engine.container.lifecycle")
+    public Response freeze(@PathParam("containerId") long containerId, @PathParam("matchId") long matchId) {
+        return conflictOnIllegalState(() -> Response.ok(
+                getContainerOrThrow(containerManager, containerId).migration().freeze(matchId)).build());
+    }
+
+    /**
+     * Capture a match without starting a migration.
+     */
+    @POST
+    @Path("/capture")
+    @Scopes("engine.container.lifecycle")
+    public Response capture(@PathParam("containerId") long containerId, @PathParam("matchId") long matchId) {
+        return conflictOnIllegalState(() -> Response.ok(
+                getContainerOrThrow(containerManager, containerId).migration().capture(matchId)).build());
+    }
+
+    /**
+     * Abandon a migration and resume the match here.
+     */
+    @POST
+    @Path("/abort")
+    @Scopes("engine.container.lifecycle")
+    public Response abort(@PathParam("containerId") long containerId, @PathParam("matchId") long matchId) {
+        return conflictOnIllegalState(() -> {
+            getContainerOrThrow(containerManager, containerId).migration().abort(matchId);
+            return Response.noContent().build();
+        });
+    }
+
+    /**
+     * Rebuild a match from a state captured on another node.
+     */
+    @POST
+    @Path("/restore")
+    @Scopes("engine.container.lifecycle")
+    public Response restore(
+            @PathParam("containerId") long containerId,
+            @PathParam("matchId") long matchId,
+            MatchMigrationState state) {
+        if (state == null || state.matchId() != matchId) {
+            return badRequest("Body must be the captured state of match " + matchId);
+        }
+        return conflictOnIllegalState(() -> {
+            getContainerOrThrow(containerManager, containerId).migration().restore(state);
+            return Response.noContent().build();
+        });
+    }
+
+    /**
+     * Replay a source's delta and resume the match if it reaches the same state.
+     */
+    @POST
+    @Path("/catch-up")
+    @Scopes("engine.container.lifecycle")
+    public Response catchUp(
+            @PathParam("containerId") long containerId,
+            @PathParam("matchId") long matchId,
+            MigrationDelta delta) {
+        if (delta == null || delta.matchId() != matchId) {
+            return badRequest("Body must be the migration delta of match " + matchId);
+        }
+        return conflictOnIllegalState(() -> Response.ok(
+                getContainerOrThrow(containerManager, containerId).migration().catchUp(delta)).build());
+    }
+
+    /**
+     * Tell the match's websocket clients to reconnect elsewhere and close their connections.
+     *
+     * <p>This reaches the match's snapshot, delta and error streams and every command
+     * connection of the container. Each client receives
+     * {@code {"type":"redirect","nodeAddress":...,"containerId":...}} before its connection
+     * closes and reconnects to the same endpoint on that node and container; match IDs are
+     * kept by a migration.
+     */
+    @POST
+    @Path("/redirect")
+    @Scopes("engine.container.lifecycle")
+    public Response redirect(
+            @PathParam("containerId") long containerId,
+            @PathParam("matchId") long matchId,
+            RedirectRequest request) {
+        if (request == null || request.nodeAddress() == null || request.nodeAddress().isBlank()) {
+            return badRequest("nodeAddress is required");
+        }
+        if (request.containerId() == null || request.containerId() <= 0) {
+            return badRequest("containerId must be a positive container ID");
+        }
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(objectMapper.createObjectNode()
+                    .put("type", "redirect")
+                    .put("nodeAddress", request.nodeAddress())
+                    .put("containerId", request.containerId()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize redirect message", e);
+        }
+        List<WebSocketConnection> connections = openConnections.stream()
+                .filter(c -> isClientOf(c, containerId, matchId))
+                .toList();
+        for (WebSocketConnection connection : connections) {
+            try {
+                connection.sendTextAndAwait(message);
+                connection.closeAndAwait();
+            } catch (RuntimeException e) {
+                log.warn("Failed to redirect websocket connection {}: {}", connection.id(), e.getMessage());
+            }
+        }
+        log.info("Redirected {} websocket clients of match {} in container {} to container {} on {}",
+                connections.size(), matchId, containerId, request.containerId(), request.nodeAddress());
+        return Response.ok(Map.of("redirected", connections.size())).build();
+    }
+
+    /**
+     * Whether a connection belongs to the match: a match stream of this container, a
+     * command connection of this container, or an error stream of the match.
+     */
+    private static boolean isClientOf(WebSocketConnection connection, long containerId, long matchId) {
+        String connectionContainerId = connection.pathParam("containerId");
+        String connectionMatchId = connection.pathParam("matchId");
+        if (connectionContainerId == null) {
+            return String.valueOf(matchId).equals(connectionMatchId);
+        }
+        return String.valueOf(containerId).equals(connectionContainerId)
+                && (connectionMatchId == null || String.valueOf(matchId).equals(connectionMatchId));
+    }
+
+    private Response conflictOnIllegalState(Supplier<Response> action) {
+        try {
+            return action.get();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        }
+    }
+
+    private Response badRequest(String message) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("error", message))
+                .build();
+    }
+}
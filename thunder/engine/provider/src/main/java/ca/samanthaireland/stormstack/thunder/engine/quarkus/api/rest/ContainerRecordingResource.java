@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.RecordingRequest;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.RecordingResponse;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.ReplayRequest;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.ReplayResponse;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.ContainerResourceSupport.getContainerOrThrow;
+import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.MediaTypes.*;
+
+/**
+ * REST resource for recording match inputs and replaying them.
+ *
+ * <p>Recordings are written to {@code storage.recordings-path} and referred to
+ * by file name. A replay runs on the calling thread as fast as the container
+ * can tick and only into a container with no matches, so it is meant for a
+ * dedicated container; ticking that container fails with 409 until it returns.
+ */
+@Path("/api/containers/{containerId}")
+@Produces({V1_JSON, JSON})
+@Consumes({V1_JSON, JSON})
+public class ContainerRecordingResource {
+
+    private static final Pattern RECORDING_NAME = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    @Inject
+    ContainerManager containerManager;
+
+    @ConfigProperty(name = "storage.recordings-path", defaultValue = "recordings")
+    String recordingsPath;
+
+    @ConfigProperty(name = "simulation.recording.keyframe-interval", defaultValue = "600")
+    int defaultKeyframeInterval;
+
+    /**
+     * Start recording a match's inputs.
+     */
+    @POST
+    @Path("/matches/{matchId}/recording/start")
+    @Scopes("engine.history.manage")
+    public Response start(
+            @PathParam("containerId") long containerId,
+            @PathParam("matchId") long matchId,
+            RecordingRequest request) {
+        int keyframeInterval = request != null && request.keyframeInterval() != null
+                ? request.keyframeInterval() : defaultKeyframeInterval;
+        if (keyframeInterval < 0) {
+            return badRequest("keyframeInterval must not be negative");
+        }
+        ExecutionContainer container = getContainerOrThrow(containerManager, containerId);
+        java.nio.file.Path file = directory().resolve(
+                "container-" + containerId + "-match-" + matchId + "-" + System.currentTimeMillis() + ".ilog");
+        return conflictOnIllegalState(() -> Response.ok(
+                RecordingResponse.from(container.recording().start(matchId, file, keyframeInterval))).build());
+    }
+
+    /**
+     * Stop recording a match's inputs.
+     */
+    @POST
+    @Path("/matches/{matchId}/recording/stop")
+    @Scopes("engine.history.manage")
+    public Response stop(@PathParam("containerId") long containerId, @PathParam("matchId") long matchId) {
+        ExecutionContainer container = getContainerOrThrow(containerManager, containerId);
+        return conflictOnIllegalState(() -> Response.ok(
+                RecordingResponse.from(container.recording().stop(matchId))).build());
+    }
+
+    /**
+     * Get the recording in progress for a match.
+     */
+    @GET
+    @Path("/matches/{matchId}/recording")
+    @Scopes("engine.history.read")
+    public Response status(@PathParam("containerId") long containerId, @PathParam("matchId") long matchId) {
+        return getContainerOrThrow(containerManager, containerId).recording().status(matchId)
+                .map(info -> Response.ok(RecordingResponse.from(info)).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                        .entity(Map.of("error", "Match " + matchId + " is not being recorded"))
+                        .build());
+    }
+
+    /**
+     * Replay a recording into this container at maximum speed.
+     */
+    @POST
+    @Path("/replay")
+    @Scopes("engine.simulation.control")
+    public Response replay(@PathParam("containerId") long containerId, ReplayRequest request) {
+        if (request == null || request.recording() == null || !RECORDING_NAME.matcher(request.recording()).matches()) {
+            return badRequest("recording must be the name of a recording");
+        }
+        ExecutionContainer container = getContainerOrThrow(containerManager, containerId);
+        java.nio.file.Path file = directory().resolve(request.recording());
+        if (!Files.isRegularFile(file)) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(Map.of("error", "Recording " + request.recording() + " not found"))
+                    .build();
+        }
+        long fromTick = request.fromTick() != null ? request.fromTick() : 0;
+        long toTick = request.toTick() != null ? request.toTick() : Long.MAX_VALUE;
+        try {
+            return conflictOnIllegalState(() -> Response.ok(
+                    ReplayResponse.from(container.recording().replay(file, fromTick, toTick))).build());
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+    }
+
+    private java.nio.file.Path directory() {
+        java.nio.file.Path directory = java.nio.file.Path.of(recordingsPath);
+        try {
+            return Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create recordings directory " + directory, e);
+        }
+    }
+
+    private Response conflictOnIllegalState(Supplier<Response> action) {
+        try {
+            return action.get();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        }
+    }
+
+    private Response badRequest(String message) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("error", message))
+                .build();
+    }
+}
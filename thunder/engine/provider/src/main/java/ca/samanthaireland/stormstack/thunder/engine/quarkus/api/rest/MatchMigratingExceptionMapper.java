@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ * MIT License
+ */
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.MatchMigratingException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import java.util.Map;
+
+/**
+ * Maps MatchMigratingException to HTTP 503 Service Unavailable responses with a
+ * Retry-After header, since the command succeeds once resent to the match's new node.
+ */
+@Provider
+public class MatchMigratingExceptionMapper implements ExceptionMapper<MatchMigratingException> {
+
+    @Override
+    public Response toResponse(MatchMigratingException exception) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, 1)
+                .entity(Map.of("error", exception.getMessage()))
+                .build();
+    }
+}
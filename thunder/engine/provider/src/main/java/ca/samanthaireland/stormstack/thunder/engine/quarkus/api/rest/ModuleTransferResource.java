@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService.TransferLimitExceededException;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService.TransferOffsetMismatchException;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService.TransferVerificationException;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.ModuleTransferResponse;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.MediaTypes.*;
+
+/**
+ * REST resource for chunked module transfers from the control plane.
+ *
+ * <p>A transfer is addressed by the SHA-256 checksum of the JAR. The sender
+ * queries the received offset, appends chunks starting at that offset, and
+ * completes the transfer once every byte is sent. The node verifies the
+ * checksum before installing the module. Transfers past the node's size or
+ * chunk limit are discarded and rejected with 413.
+ */
+@Path("/api/modules/transfers")
+@Produces({V1_JSON, JSON})
+public class ModuleTransferResource {
+    private static final Logger log = LoggerFactory.getLogger(ModuleTransferResource.class);
+
+    @Inject
+    ModuleTransferService transferService;
+
+    /**
+     * Get the number of bytes received for a transfer.
+     *
+     * @param checksum the SHA-256 checksum of the JAR
+     * @return the transfer state; offset 0 for unknown transfers
+     */
+    @GET
+    @Path("/{checksum}")
+    @Scopes("engine.module.manage")
+    public Response getTransfer(@PathParam("checksum") String checksum) {
+        try {
+            return Response.ok(new ModuleTransferResponse(checksum, transferService.getOffset(checksum))).build();
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+    }
+
+    /**
+     * Append a chunk to a transfer.
+     *
+     * @param checksum the SHA-256 checksum of the JAR
+     * @param offset   the offset the chunk starts at
+     * @param chunk    the chunk contents
+     * @return the transfer state, 409 with the expected offset if the chunk does not line up,
+     *         or 413 if the transfer exceeds the node's limits
+     */
+    @PUT
+    @Path("/{checksum}")
+    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    @Scopes("engine.module.manage")
+    public Response appendChunk(
+            @PathParam("checksum") String checksum,
+            @QueryParam("offset") @DefaultValue("0") long offset,
+            InputStream chunk
+    ) {
+        try {
+            long received = transferService.append(checksum, offset, chunk);
+            return Response.ok(new ModuleTransferResponse(checksum, received)).build();
+        } catch (TransferOffsetMismatchException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ModuleTransferResponse(checksum, e.getExpectedOffset()))
+                    .build();
+        } catch (TransferLimitExceededException e) {
+            return Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (IOException e) {
+            log.error("Failed to stage chunk of transfer {}", checksum, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("{\"error\":\"Failed to stage chunk\"}")
+                    .build();
+        }
+    }
+
+    /**
+     * Verify a transfer and install the JAR.
+     *
+     * @param checksum the SHA-256 checksum of the JAR
+     * @param fileName the file name to install the JAR under
+     * @return 201 once installed, or 422 if the received bytes do not match the checksum
+     */
+    @POST
+    @Path("/{checksum}/complete")
+    @Scopes("engine.module.manage")
+    public Response completeTransfer(
+            @PathParam("checksum") String checksum,
+            @QueryParam("fileName") String fileName
+    ) {
+        try {
+            long size = transferService.getOffset(checksum);
+            transferService.complete(checksum, fileName);
+            return Response.status(Response.Status.CREATED)
+                    .entity(new ModuleTransferResponse(checksum, size))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (TransferVerificationException e) {
+            return Response.status(422)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to install module from transfer {}", checksum, e);
+            // SECURITY: Don't expose internal error details to client
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("{\"error\":\"Failed to install module\"}")
+                    .build();
+        }
+    }
+
+    /**
+     * Discard a transfer and its staged bytes.
+     *
+     * @param checksum the SHA-256 checksum of the JAR
+     * @return 204, also for unknown transfers
+     */
+    @DELETE
+    @Path("/{checksum}")
+    @Scopes("engine.module.manage")
+    public Response abortTransfer(@PathParam("checksum") String checksum) {
+        try {
+            transferService.abort(checksum);
+            return Response.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (IOException e) {
+            log.error("Failed to abort transfer {}", checksum, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("{\"error\":\"Failed to abort transfer\"}")
+                    .build();
+        }
+    }
+
+    private Response badRequest(IllegalArgumentException e) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("error", e.getMessage()))
+                .build();
+    }
+}
@@ -27,12 +27,16 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.ContainerResponse;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.PlayStatusResponse;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.TickResponse;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.TurboResponse;
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.annotation.Scopes;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.MediaTypes.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Map;
 
 import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.ContainerResourceSupport.getContainerOrThrow;
 
@@ -40,6 +44,8 @@ import static ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest.Cont
  * REST resource for simulation tick control.
  *
  * <p>Handles manual tick advancement, auto-play control, and simulation status.
+ * Turbo runs and sped-up auto-play measure how fast a module set can tick; both
+ * can run headless, skipping snapshot persistence and snapshot streams.
  */
 @Path("/api/containers/{containerId}")
 @Produces({V1_JSON, JSON})
@@ -49,6 +55,9 @@ public class SimulationControlResource {
     @Inject
     ContainerManager containerManager;
 
+    @ConfigProperty(name = "simulation.turbo.max-ticks", defaultValue = "1000000")
+    int maxTurboTicks;
+
     /**
      * Get the current tick of a container.
      */
@@ -72,29 +81,78 @@ public class SimulationControlResource {
         return new TickResponse(container.ticks().current());
     }
 
+    /**
+     * Run ticks back-to-back as fast as possible and report the tick rate and
+     * the time spent in each system.
+     *
+     * <p>Headless runs skip tick listeners and snapshot streams for the duration
+     * of the run. The container must not be auto-advancing, and cannot start
+     * auto-advancing until the run finishes. A run is limited to
+     * {@code simulation.turbo.max-ticks} ticks, and {@code /stop-auto} ends it early.
+     */
+    @POST
+    @Path("/turbo")
+    @Scopes("engine.simulation.control")
+    public Response turbo(
+            @PathParam("containerId") long containerId,
+            @QueryParam("ticks") @DefaultValue("1000") int ticks,
+            @QueryParam("headless") @DefaultValue("true") boolean headless) {
+        if (ticks < 1) {
+            return badRequest("ticks must be at least 1");
+        }
+        if (ticks > maxTurboTicks) {
+            return badRequest("ticks must be at most " + maxTurboTicks);
+        }
+        ExecutionContainer container = getContainerOrThrow(containerManager, containerId);
+        boolean runHeadless = headless || container.ticks().isHeadless();
+        try {
+            return Response.ok(TurboResponse.from(container.ticks().turbo(ticks, headless), runHeadless)).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        }
+    }
+
     /**
      * Start auto-advancing the container at the specified interval.
+     *
+     * <p>{@code speed} runs the simulation that many times faster than real time
+     * while systems still see {@code intervalMs} ticks; {@code headless} pauses
+     * tick listeners and snapshot streams until auto-advance stops.
      */
     @POST
     @Path("/play")
     @Scopes("engine.simulation.control")
     public Response startAutoAdvance(
             @PathParam("containerId") long containerId,
-            @QueryParam("intervalMs") @DefaultValue("16") long intervalMs) {
+            @QueryParam("intervalMs") @DefaultValue("16") long intervalMs,
+            @QueryParam("speed") @DefaultValue("1") double speed,
+            @QueryParam("headless") @DefaultValue("false") boolean headless) {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            return badRequest("speed must be positive");
+        }
         ExecutionContainer container = getContainerOrThrow(containerManager, containerId);
-        container.ticks().play(intervalMs);
+        try {
+            container.ticks().play(intervalMs, speed).headless(headless);
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        }
         return Response.ok(ContainerResponse.from(container)).build();
     }
 
     /**
-     * Stop auto-advancing the container.
+     * Stop auto-advancing the container, end a turbo run in progress and leave
+     * headless mode.
      */
     @POST
     @Path("/stop-auto")
     @Scopes("engine.simulation.control")
     public Response stopAutoAdvance(@PathParam("containerId") long containerId) {
         ExecutionContainer container = getContainerOrThrow(containerManager, containerId);
-        container.ticks().stop();
+        container.ticks().stop().headless(false);
         return Response.ok(ContainerResponse.from(container)).build();
     }
 
@@ -109,7 +167,15 @@ public class SimulationControlResource {
         return new PlayStatusResponse(
                 container.ticks().isPlaying(),
                 container.ticks().current(),
-                container.ticks().interval()
+                container.ticks().interval(),
+                container.ticks().speed(),
+                container.ticks().isHeadless()
         );
     }
+
+    private Response badRequest(String message) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("error", message))
+                .build();
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.startup;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerStatus;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.core.match.Match;
+import ca.samanthaireland.stormstack.thunder.engine.ext.module.ModuleFactory;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
+import io.quarkus.runtime.Quarkus;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Training workload for building the JVM's AOT cache (or AppCDS archive).
+ *
+ * <p>When {@code simulation.training.enabled} is set, as it is by the {@code training}
+ * profile, the node boots as usual, then creates a container with every bundled module,
+ * runs ticks and snapshots a match, and exits. Running this under {@code -XX:AOTCacheOutput} records the classes loaded
+ * and linked on the way to the first tick, so production nodes started with
+ * {@code -XX:AOTCache} skip that work.
+ */
+@ApplicationScoped
+public class AotTrainingRun {
+    private static final Logger log = LoggerFactory.getLogger(AotTrainingRun.class);
+
+    private static final String CONTAINER_NAME = "aot-training";
+
+    @Inject
+    ContainerManager containerManager;
+
+    @Inject
+    ModuleManager globalModuleManager;
+
+    @ConfigProperty(name = "simulation.training.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "simulation.training.ticks", defaultValue = "500")
+    int ticks;
+
+    @ConfigProperty(name = "simulation.training.snapshot-interval", defaultValue = "10")
+    int snapshotInterval;
+
+    // Runs after Bootstrap has installed the bundled modules
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION + 1000) StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            train();
+            Quarkus.asyncExit(0);
+        } catch (RuntimeException e) {
+            log.error("AOT training run failed: {}", e.getMessage(), e);
+            Quarkus.asyncExit(1);
+        }
+    }
+
+    void train() {
+        long start = System.nanoTime();
+        List<String> moduleNames = globalModuleManager.getAvailableModules();
+        ExecutionContainer container = containerManager.createContainer(ContainerConfig.withDefaults(CONTAINER_NAME));
+        try {
+            container.lifecycle().start();
+            for (String moduleName : moduleNames) {
+                ModuleFactory factory = globalModuleManager.getFactory(moduleName);
+                if (factory != null) {
+                    container.modules().install(factory.getClass());
+                }
+            }
+
+            Match match = container.match()
+                    .withModules(moduleNames.toArray(String[]::new))
+                    .create();
+            for (int i = 1; i <= ticks; i++) {
+                container.ticks().advance();
+                if (i % snapshotInterval == 0) {
+                    container.snapshots().forMatch(match.id());
+                }
+            }
+        } finally {
+            if (container.getStatus() != ContainerStatus.STOPPED) {
+                container.lifecycle().stop();
+            }
+            containerManager.deleteContainer(container.getId());
+        }
+        log.info("AOT training run finished: {} ticks with modules {} in {}ms",
+                ticks, moduleNames, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.startup;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.TickPolicy;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Startup hook that fills the warm container pool for the module sets listed in
+ * {@code simulation.container-pool.module-sets}, so the first match deployed with
+ * one of them does not wait for a cold container.
+ *
+ * <p>Each entry is one module set with its modules joined by {@code +}, for example
+ * {@code EntityModule+MoveModule}. The containers get the configuration a container
+ * request without explicit settings gets, so those requests can claim them.
+ */
+@ApplicationScoped
+public class ContainerPoolPrewarm {
+
+    private static final String CONTAINER_NAME = "warm-pool";
+
+    @Inject
+    ContainerManager containerManager;
+
+    @ConfigProperty(name = "simulation.container-pool.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "simulation.container-pool.module-sets")
+    Optional<List<String>> moduleSets;
+
+    @ConfigProperty(name = "simulation.tick.overrun-policy", defaultValue = "CATCH_UP")
+    TickPolicy.Overrun overrunPolicy;
+
+    @ConfigProperty(name = "simulation.tick.max-catch-up-ticks", defaultValue = "5")
+    int maxCatchUpTicks;
+
+    // Runs after Bootstrap has installed the bundled modules the warm containers need
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION + 1000) StartupEvent event) {
+        if (!enabled || moduleSets.isEmpty()) {
+            return;
+        }
+        ContainerConfig config = ContainerConfig.builder(CONTAINER_NAME)
+                .tickPolicy(new TickPolicy(overrunPolicy, maxCatchUpTicks))
+                .build();
+        for (String moduleSet : moduleSets.get()) {
+            List<String> moduleNames = Arrays.stream(moduleSet.split("\\+"))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .toList();
+            containerManager.prewarmContainers(config, moduleNames);
+        }
+    }
+}
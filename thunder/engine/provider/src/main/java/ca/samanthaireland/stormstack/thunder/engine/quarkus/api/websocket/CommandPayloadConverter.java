@@ -29,10 +29,17 @@ import jakarta.enterprise.context.ApplicationScoped;
 
 import ca.samanthaireland.stormstack.thunder.api.proto.CommandProtos;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.TypedCommandPayload;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.SpawnPayload;
 
 /**
  * Converts protobuf and JSON command requests to CommandPayload objects.
+ *
+ * <p>When the target command declares a typed schema, requests are decoded
+ * straight into a pooled {@link TypedCommandPayload} with no intermediate maps.
+ * Requests whose values do not fit the declared field types fall back to the
+ * map-based payloads below.
  */
 @ApplicationScoped
 public class CommandPayloadConverter {
@@ -106,6 +113,128 @@ public class CommandPayloadConverter {
         return new ContextCommandPayload(request.matchId(), request.playerId());
     }
 
+    /**
+     * Convert a protobuf CommandRequest for a command with the given typed schema.
+     *
+     * @param schema the command's typed schema, or null if it reads map payloads
+     */
+    public CommandPayload convert(CommandProtos.CommandRequest request, CommandSchema schema) {
+        if (schema == null) {
+            return convert(request);
+        }
+        TypedCommandPayload typed = schema.acquire(request.getMatchId(), request.getPlayerId());
+        boolean stored = switch (request.getPayloadCase()) {
+            case SPAWN -> {
+                CommandProtos.SpawnPayload spawn = request.getSpawn();
+                yield typed.setLong("entityType", spawn.getEntityType())
+                        & typed.setLong("positionX", spawn.getPositionX())
+                        & typed.setLong("positionY", spawn.getPositionY());
+            }
+            case ATTACH_RIGID_BODY -> {
+                CommandProtos.AttachRigidBodyPayload body = request.getAttachRigidBody();
+                yield typed.setLong("entityId", body.getEntityId())
+                        & typed.setLong("mass", body.getMass())
+                        & typed.setLong("positionX", body.getPositionX())
+                        & typed.setLong("positionY", body.getPositionY())
+                        & typed.setLong("velocityX", body.getVelocityX())
+                        & typed.setLong("velocityY", body.getVelocityY());
+            }
+            case ATTACH_SPRITE -> {
+                CommandProtos.AttachSpritePayload sprite = request.getAttachSprite();
+                yield typed.setLong("entityId", sprite.getEntityId())
+                        & typed.setLong("resourceId", sprite.getResourceId())
+                        & typed.setLong("width", sprite.getWidth())
+                        & typed.setLong("height", sprite.getHeight())
+                        & typed.setBoolean("visible", sprite.getVisible());
+            }
+            case GENERIC -> {
+                CommandProtos.GenericPayload generic = request.getGeneric();
+                yield storeGeneric(typed, generic.getStringParamsMap(), generic.getLongParamsMap(),
+                        generic.getDoubleParamsMap(), generic.getBoolParamsMap());
+            }
+            default -> true;
+        };
+        if (!stored) {
+            typed.release();
+            return convert(request);
+        }
+        return typed;
+    }
+
+    /**
+     * Convert a JSON command request for a command with the given typed schema.
+     *
+     * @param schema the command's typed schema, or null if it reads map payloads
+     */
+    public CommandPayload convert(JsonCommandRequest request, CommandSchema schema) {
+        if (schema == null) {
+            return convert(request);
+        }
+        TypedCommandPayload typed = schema.acquire(request.matchId(), request.playerId());
+        boolean stored = true;
+        if (request.spawn() != null) {
+            var spawn = request.spawn();
+            stored = typed.setLong("entityType", spawn.entityType())
+                    & typed.setLong("positionX", spawn.positionX())
+                    & typed.setLong("positionY", spawn.positionY());
+        } else if (request.attachRigidBody() != null) {
+            var body = request.attachRigidBody();
+            stored = typed.setLong("entityId", body.entityId())
+                    & typed.setLong("mass", body.mass())
+                    & typed.setLong("positionX", body.positionX())
+                    & typed.setLong("positionY", body.positionY())
+                    & typed.setLong("velocityX", body.velocityX())
+                    & typed.setLong("velocityY", body.velocityY());
+        } else if (request.attachSprite() != null) {
+            var sprite = request.attachSprite();
+            stored = typed.setLong("entityId", sprite.entityId())
+                    & typed.setLong("resourceId", sprite.resourceId())
+                    & typed.setLong("width", sprite.width())
+                    & typed.setLong("height", sprite.height())
+                    & typed.setBoolean("visible", sprite.visible());
+        } else if (request.generic() != null) {
+            var generic = request.generic();
+            stored = storeGeneric(typed,
+                    generic.stringParams() != null ? generic.stringParams() : Map.of(),
+                    generic.longParams() != null ? generic.longParams() : Map.of(),
+                    generic.doubleParams() != null ? generic.doubleParams() : Map.of(),
+                    generic.boolParams() != null ? generic.boolParams() : Map.of());
+        }
+        if (!stored) {
+            typed.release();
+            return convert(request);
+        }
+        return typed;
+    }
+
+    private boolean storeGeneric(TypedCommandPayload typed,
+                                 Map<String, String> stringParams,
+                                 Map<String, Long> longParams,
+                                 Map<String, Double> doubleParams,
+                                 Map<String, Boolean> boolParams) {
+        for (Map.Entry<String, String> param : stringParams.entrySet()) {
+            if (!typed.setString(param.getKey(), param.getValue())) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Long> param : longParams.entrySet()) {
+            if (!typed.setLong(param.getKey(), param.getValue())) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Double> param : doubleParams.entrySet()) {
+            if (!typed.setDouble(param.getKey(), param.getValue())) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Boolean> param : boolParams.entrySet()) {
+            if (!typed.setBoolean(param.getKey(), param.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private CommandPayload convertSpawnPayload(CommandProtos.CommandRequest request) {
         CommandProtos.SpawnPayload spawn = request.getSpawn();
         return new SpawnPayload(
@@ -160,16 +289,30 @@ public class CommandPayloadConverter {
 
     /**
      * JSON command request DTO.
+     *
+     * @param executeAtTick tick to execute on, or 0 for the next tick
      */
     public record JsonCommandRequest(
             String commandName,
             long matchId,
             long playerId,
+            long executeAtTick,
             JsonSpawnPayload spawn,
             JsonAttachRigidBodyPayload attachRigidBody,
             JsonAttachSpritePayload attachSprite,
             JsonGenericPayload generic
-    ) {}
+    ) {
+        /**
+         * Create a request that executes on the next tick.
+         */
+        public JsonCommandRequest(String commandName, long matchId, long playerId,
+                                  JsonSpawnPayload spawn,
+                                  JsonAttachRigidBodyPayload attachRigidBody,
+                                  JsonAttachSpritePayload attachSprite,
+                                  JsonGenericPayload generic) {
+            this(commandName, matchId, playerId, 0, spawn, attachRigidBody, attachSprite, generic);
+        }
+    }
 
     public record JsonSpawnPayload(long entityType, long positionX, long positionY) {}
 
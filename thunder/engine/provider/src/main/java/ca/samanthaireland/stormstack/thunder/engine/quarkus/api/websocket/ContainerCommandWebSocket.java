@@ -22,6 +22,8 @@
 
 package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.inject.Inject;
@@ -30,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import io.quarkus.websockets.next.OnBinaryMessage;
 import io.quarkus.websockets.next.OnClose;
@@ -44,8 +47,11 @@ import ca.samanthaireland.stormstack.thunder.auth.quarkus.config.LightningAuthCo
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.filter.WebSocketAuthResult;
 import ca.samanthaireland.stormstack.thunder.auth.quarkus.security.LightningPrincipal;
 import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandPayload;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerCommandOperations;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.core.exception.MatchMigratingException;
 
 /**
  * Container-scoped WebSocket endpoint for submitting commands.
@@ -54,6 +60,12 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
  * JSON text messages (for browsers) or Protocol Buffer binary messages (for native clients).
  * Commands are enqueued in the specified container's command queue for processing during the next tick.
  *
+ * <p>Native clients may send a {@code CommandBatch} frame carrying many commands. Batch frames
+ * start with the {@link #BATCH_FRAME_TYPE} byte, which can never start a serialized
+ * {@code CommandRequest}. The batch is enqueued in one queue operation and answered with a single
+ * {@code CommandBatchAck} that echoes the batch sequence number, so clients can pipeline batches
+ * without waiting for each ack.
+ *
  * <p>Authentication is supported via:
  * <ul>
  *   <li>Subprotocol: Sec-WebSocket-Protocol: Bearer.{jwt_token} (recommended)</li>
@@ -64,6 +76,12 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
 public class ContainerCommandWebSocket {
     private static final Logger log = LoggerFactory.getLogger(ContainerCommandWebSocket.class);
 
+    /**
+     * First byte of a batch frame. Zero is not a valid protobuf tag, so a bare
+     * {@code CommandRequest} frame never starts with it.
+     */
+    static final byte BATCH_FRAME_TYPE = 0x00;
+
     @Inject
     ContainerManager containerManager;
 
@@ -204,11 +222,12 @@ public class ContainerCommandWebSocket {
                     message, CommandPayloadConverter.JsonCommandRequest.class);
 
             commandName = request.commandName();
-            CommandPayload payload = payloadConverter.convert(request);
+            CommandPayload payload = payloadConverter.convert(request, typedSchema(container, commandName));
 
             container.commands()
                     .named(commandName)
-                    .withParams(payload.getPayload())
+                    .withPayload(payload)
+                    .atTick(request.executeAtTick())
                     .execute();
 
             long duration = System.nanoTime() - startTime;
@@ -217,6 +236,9 @@ public class ContainerCommandWebSocket {
             telemetry.recordCommand(commandName, containerId, duration);
             return buildJsonSuccessResponse(commandName);
 
+        } catch (MatchMigratingException e) {
+            metrics.commandError();
+            return buildJsonResponse("RETRY", commandName, e.getMessage());
         } catch (Exception e) {
             log.warn("Failed to parse JSON command for container {}: {}", containerId, e.getMessage());
             metrics.commandError();
@@ -232,6 +254,26 @@ public class ContainerCommandWebSocket {
      */
     @OnBinaryMessage
     public Buffer onBinaryMessage(Buffer message) {
+        if (message.length() > 0 && message.getByte(0) == BATCH_FRAME_TYPE) {
+            // Charge the frame before parsing it; the rest of the batch is charged once its size is known
+            if (!rateLimiter.tryAcquire(connection.id())) {
+                log.warn("Rate limit exceeded for connection {}", connection.id());
+                metrics.commandRateLimited();
+                return buildUnparsedBatchAck(
+                        "Rate limit exceeded: max " + rateLimiter.getMaxCommandsPerSecond() + " commands per second");
+            }
+            CommandProtos.CommandBatch batch;
+            try {
+                batch = CommandProtos.CommandBatch.parseFrom(message.getBytes(1, message.length()));
+            } catch (InvalidProtocolBufferException e) {
+                log.warn("Failed to parse command batch for container {}: {}", getContainerId(), e.getMessage());
+                metrics.commandError();
+                return buildUnparsedBatchAck("Failed to parse command batch: " + e.getMessage());
+            }
+            return onBatchMessage(batch);
+        }
+        byte[] bytes = message.getBytes();
+
         // Check rate limiting
         if (!rateLimiter.tryAcquire(connection.id())) {
             log.warn("Rate limit exceeded for connection {}", connection.id());
@@ -252,15 +294,15 @@ public class ContainerCommandWebSocket {
         long containerId = getContainerId();
 
         try {
-            byte[] bytes = message.getBytes();
             CommandProtos.CommandRequest request = CommandProtos.CommandRequest.parseFrom(bytes);
 
             commandName = request.getCommandName();
-            CommandPayload payload = payloadConverter.convert(request);
+            CommandPayload payload = payloadConverter.convert(request, typedSchema(container, commandName));
 
             container.commands()
                     .named(commandName)
-                    .withParams(payload.getPayload())
+                    .withPayload(payload)
+                    .atTick(request.getExecuteAtTick())
                     .execute();
 
             long duration = System.nanoTime() - startTime;
@@ -276,6 +318,14 @@ public class ContainerCommandWebSocket {
 
             return Buffer.buffer(response.toByteArray());
 
+        } catch (MatchMigratingException e) {
+            metrics.commandError();
+            return Buffer.buffer(CommandProtos.CommandResponse.newBuilder()
+                    .setStatus(CommandProtos.CommandResponse.Status.RETRY)
+                    .setCommandName(commandName)
+                    .setMessage(e.getMessage())
+                    .build()
+                    .toByteArray());
         } catch (Exception e) {
             log.warn("Failed to parse protobuf command for container {}: {}", containerId, e.getMessage());
             metrics.commandError();
@@ -286,8 +336,102 @@ public class ContainerCommandWebSocket {
         }
     }
 
+    /**
+     * Handle a batch of commands: convert each, enqueue all that convert and resolve
+     * in one operation, and answer with one aggregated ack.
+     */
+    private Buffer onBatchMessage(CommandProtos.CommandBatch batch) {
+        long sequence = batch.getSequence();
+        int size = batch.getCommandsCount();
+        if (size == 0) {
+            return buildBatchAck(sequence, 0, List.of(), "");
+        }
+
+        // Every command in the batch counts against the rate limit; the frame already paid for one
+        if (!rateLimiter.tryAcquire(connection.id(), size - 1)) {
+            log.warn("Rate limit exceeded for connection {} (batch of {})", connection.id(), size);
+            metrics.commandRateLimited();
+            return buildBatchAck(sequence, 0, List.of(),
+                    "Rate limit exceeded: max " + rateLimiter.getMaxCommandsPerSecond() + " commands per second");
+        }
+
+        ExecutionContainer container;
+        try {
+            container = getContainer();
+        } catch (IllegalArgumentException e) {
+            return buildBatchAck(sequence, 0, List.of(), e.getMessage());
+        }
+
+        long startTime = System.nanoTime();
+        long containerId = getContainerId();
+        List<CommandProtos.RejectedCommand> rejected = new ArrayList<>();
+
+        // Positions in the batch of the commands handed to the builder
+        List<Integer> positions = new ArrayList<>(size);
+        ContainerCommandOperations.BatchBuilder builder = container.commands().batch();
+        for (int i = 0; i < size; i++) {
+            CommandProtos.CommandRequest request = batch.getCommands(i);
+            try {
+                builder.add(request.getCommandName(),
+                        payloadConverter.convert(request, typedSchema(container, request.getCommandName())),
+                        request.getExecuteAtTick());
+                positions.add(i);
+            } catch (Exception e) {
+                rejected.add(rejectedCommand(i, request.getCommandName(), "Failed to parse command: " + e.getMessage()));
+            }
+        }
+
+        ContainerCommandOperations.BatchResult result;
+        try {
+            result = builder.execute();
+        } catch (MatchMigratingException e) {
+            metrics.commandError();
+            return Buffer.buffer(CommandProtos.CommandBatchAck.newBuilder()
+                    .setSequence(sequence)
+                    .addAllRejected(rejected)
+                    .setMessage(e.getMessage())
+                    .setRetry(true)
+                    .build()
+                    .toByteArray());
+        } catch (Exception e) {
+            log.warn("Failed to enqueue command batch for container {}: {}", containerId, e.getMessage());
+            metrics.commandError();
+            return buildBatchAck(sequence, 0, rejected, "Failed to enqueue batch: " + e.getMessage());
+        }
+        for (ContainerCommandOperations.RejectedCommand rejection : result.rejected()) {
+            rejected.add(rejectedCommand(positions.get(rejection.index()), rejection.commandName(), rejection.reason()));
+        }
+
+        long durationPerCommand = (System.nanoTime() - startTime) / size;
+        boolean[] isRejected = new boolean[size];
+        for (CommandProtos.RejectedCommand rejection : rejected) {
+            isRejected[rejection.getIndex()] = true;
+            metrics.commandError();
+            telemetry.recordError(rejection.getCommandName(), containerId);
+        }
+        for (int i = 0; i < size; i++) {
+            if (!isRejected[i]) {
+                telemetry.recordCommand(batch.getCommands(i).getCommandName(), containerId, durationPerCommand);
+            }
+        }
+        metrics.commandsProcessed(result.accepted());
+
+        log.debug("Batch {} enqueued in container {}: {} accepted, {} rejected",
+                sequence, containerId, result.accepted(), rejected.size());
+        return buildBatchAck(sequence, result.accepted(), rejected, "");
+    }
+
     // ---- Helper methods ----
 
+    /**
+     * Look up the typed schema of a command so its payload can be decoded without maps.
+     *
+     * @return the schema, or null if the command reads map payloads
+     */
+    private CommandSchema typedSchema(ExecutionContainer container, String commandName) {
+        return container.commands().typedSchema(commandName).orElse(null);
+    }
+
     private long getContainerId() {
         return Long.parseLong(connection.pathParam("containerId"));
     }
@@ -325,11 +469,15 @@ public class ContainerCommandWebSocket {
     }
 
     private String buildJsonErrorResponse(String message) {
+        return buildJsonResponse("ERROR", "", message);
+    }
+
+    private String buildJsonResponse(String status, String commandName, String message) {
         try {
-            return objectMapper.writeValueAsString(new JsonCommandResponse("ERROR", "", message));
+            return objectMapper.writeValueAsString(new JsonCommandResponse(status, commandName, message));
         } catch (Exception e) {
-            log.error("Failed to serialize error response", e);
-            return "{\"status\":\"ERROR\",\"commandName\":\"\",\"message\":\"An error occurred\"}";
+            log.error("Failed to serialize {} response", status, e);
+            return "{\"status\":\"" + status + "\",\"commandName\":\"\",\"message\":\"An error occurred\"}";
         }
     }
 
@@ -341,6 +489,36 @@ public class ContainerCommandWebSocket {
         return Buffer.buffer(response.toByteArray());
     }
 
+    private CommandProtos.RejectedCommand rejectedCommand(int index, String commandName, String message) {
+        return CommandProtos.RejectedCommand.newBuilder()
+                .setIndex(index)
+                .setCommandName(commandName != null ? commandName : "")
+                .setMessage(message != null ? message : "")
+                .build();
+    }
+
+    private Buffer buildBatchAck(long sequence, int accepted, List<CommandProtos.RejectedCommand> rejected,
+                                 String message) {
+        CommandProtos.CommandBatchAck ack = CommandProtos.CommandBatchAck.newBuilder()
+                .setSequence(sequence)
+                .setAccepted(accepted)
+                .addAllRejected(rejected)
+                .setMessage(message)
+                .build();
+        return Buffer.buffer(ack.toByteArray());
+    }
+
+    /**
+     * Ack for a batch frame refused before its sequence could be read.
+     */
+    private Buffer buildUnparsedBatchAck(String message) {
+        CommandProtos.CommandBatchAck ack = CommandProtos.CommandBatchAck.newBuilder()
+                .setUnparsed(true)
+                .setMessage(message)
+                .build();
+        return Buffer.buffer(ack.toByteArray());
+    }
+
     /**
      * JSON command response DTO for proper serialization.
      */
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotRing;
+
+/**
+ * Shared snapshot rings for delta streams, and acknowledgement parsing.
+ *
+ * <p>Connections streaming the same view share a {@link SnapshotRing} so each tick's
+ * snapshot is built once. The ring is also where acknowledged baselines live: each
+ * stream remembers only the newest tick its client acknowledged and the ring epoch its
+ * frames were published in, and diffs against that tick's snapshot while the ring still
+ * holds it. Rings are reference counted by connection and dropped when the last
+ * connection for a view closes.
+ *
+ * <p>Clients acknowledge a frame by sending {@code ack:<toTick>} once it is applied.
+ */
+@ApplicationScoped
+public class DeltaBaselineRegistry {
+
+    /** Player ID used for match-wide views. */
+    public static final long ALL_PLAYERS = -1L;
+
+    private static final String ACK_PREFIX = "ack:";
+
+    @ConfigProperty(name = "simulation.snapshot.baseline-ring-size", defaultValue = "32")
+    int ringSize;
+
+    private final Map<ViewKey, SharedRing> rings = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies one streamed view of a match.
+     *
+     * @param containerId the container
+     * @param matchId     the match
+     * @param playerId    the viewing player, or {@link #ALL_PLAYERS}
+     */
+    public record ViewKey(long containerId, long matchId, long playerId) {
+    }
+
+    private static final class SharedRing {
+        private final SnapshotRing ring;
+        private int connections;
+
+        SharedRing(int capacity) {
+            this.ring = new SnapshotRing(capacity);
+        }
+    }
+
+    /**
+     * Returns the ring for a view, registering one more connection on it.
+     *
+     * @param key the view
+     * @return the shared ring
+     */
+    public SnapshotRing acquire(ViewKey key) {
+        return rings.compute(key, (k, shared) -> {
+            SharedRing result = shared != null ? shared : new SharedRing(ringSize);
+            result.connections++;
+            return result;
+        }).ring;
+    }
+
+    /**
+     * Releases a connection's hold on a view's ring, dropping the ring after the last one.
+     *
+     * @param key the view
+     */
+    public void release(ViewKey key) {
+        rings.computeIfPresent(key, (k, shared) -> --shared.connections > 0 ? shared : null);
+    }
+
+    /**
+     * Returns the number of views with a live ring.
+     *
+     * @return the ring count
+     */
+    public int getRingCount() {
+        return rings.size();
+    }
+
+    /**
+     * Parses an acknowledgement message.
+     *
+     * @param message the text message
+     * @return the acknowledged tick, or empty if the message is not a valid ack
+     */
+    public static OptionalLong parseAck(String message) {
+        String trimmed = message.trim();
+        if (!trimmed.regionMatches(true, 0, ACK_PREFIX, 0, ACK_PREFIX.length())) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(trimmed.substring(ACK_PREFIX.length()).trim()));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
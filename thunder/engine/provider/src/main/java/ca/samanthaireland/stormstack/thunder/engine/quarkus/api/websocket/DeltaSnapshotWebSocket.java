@@ -25,6 +25,8 @@ package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -48,6 +50,7 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaCompressionService;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotRing;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.DeltaSnapshotResponse;
 
 /**
@@ -58,7 +61,18 @@ import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.DeltaSnapsho
  * since the last update.
  *
  * <p>The first message after connection will be a full snapshot (delta from empty state).
- * Subsequent messages will be deltas from the previous snapshot.
+ * Subsequent messages will be deltas from the previous snapshot. Deltas are only
+ * computed when the match changed; idle matches get an empty delta as a heartbeat.
+ *
+ * <p>Clients that send {@code ack:<toTick>} after applying each delta get deltas from
+ * the newest tick they acknowledged instead. Snapshots come from a ring shared by all
+ * connections to the match (see {@link DeltaBaselineRegistry}), which also holds the
+ * baselines: each connection remembers only its acknowledged tick and the ring epoch it
+ * was sent in, so a baseline is always what that client was sent even when the match
+ * changed within a tick or was rewound by a restore. A dropped frame is then
+ * repaired by the next delta rather than a "reset"; while a frame stays unacknowledged,
+ * heartbeats carry the delta again. Such clients must keep the states of recent
+ * unacknowledged ticks, since each delta applies to the state at its {@code fromTick}.
  */
 @WebSocket(path = "/ws/containers/{containerId}/matches/{matchId}/delta")
 public class DeltaSnapshotWebSocket {
@@ -79,11 +93,17 @@ public class DeltaSnapshotWebSocket {
     @Inject
     WebSocketMetrics metrics;
 
+    @Inject
+    DeltaBaselineRegistry baselines;
+
     @ConfigProperty(name = "simulation.snapshot.broadcast-interval-ms", defaultValue = "100")
     long broadcastIntervalMs;
 
-    // Track the last snapshot sent to each connection
-    private final Map<String, SnapshotState> connectionStates = new ConcurrentHashMap<>();
+    @ConfigProperty(name = "simulation.snapshot.heartbeat-interval-ms", defaultValue = "1000")
+    long heartbeatIntervalMs;
+
+    // Track what each connection's client holds
+    private final Map<String, StreamState> connectionStates = new ConcurrentHashMap<>();
 
     @OnOpen
     public Multi<DeltaSnapshotResponse> onOpen(
@@ -121,10 +141,14 @@ public class DeltaSnapshotWebSocket {
                 cId, mId, username, connectionId);
 
         // Initialize state for this connection
-        connectionStates.put(connectionId, new SnapshotState(null, -1));
+        var view = new DeltaBaselineRegistry.ViewKey(cId, mId, DeltaBaselineRegistry.ALL_PLAYERS);
+        connectionStates.put(connectionId, new StreamState(view, baselines.acquire(view)));
 
+        SnapshotStreamGate gate = new SnapshotStreamGate(heartbeatIntervalMs);
         return Multi.createFrom().ticks().every(Duration.ofMillis(broadcastIntervalMs))
-                .map(tick -> createDeltaResponse(cId, mId, connectionId));
+                .map(tick -> nextDeltaResponse(cId, mId, connectionId, gate))
+                .select().where(Optional::isPresent)
+                .map(Optional::get);
     }
 
     @OnClose
@@ -134,7 +158,10 @@ public class DeltaSnapshotWebSocket {
             @PathParam String matchId) {
         String connectionId = connection.id();
         authStore.remove(connectionId);
-        connectionStates.remove(connectionId);
+        StreamState state = connectionStates.remove(connectionId);
+        if (state != null) {
+            baselines.release(state.view());
+        }
         metrics.connectionClosed();
         log.debug("Delta WebSocket closed for container {} match {} with connection {}", containerId, matchId, connectionId);
     }
@@ -149,10 +176,20 @@ public class DeltaSnapshotWebSocket {
         long mId = Long.parseLong(matchId);
         String connectionId = connection.id();
 
+        StreamState state = connectionStates.get(connectionId);
+        OptionalLong ack = DeltaBaselineRegistry.parseAck(message);
+        if (ack.isPresent()) {
+            // Acknowledgements only move the baseline; nothing is sent back
+            if (state != null) {
+                state.acknowledge(ack.getAsLong());
+            }
+            return null;
+        }
+
         // Handle special commands
-        if ("reset".equalsIgnoreCase(message.trim())) {
+        if ("reset".equalsIgnoreCase(message.trim()) && state != null) {
             // Reset to send full snapshot on next tick
-            connectionStates.put(connectionId, new SnapshotState(null, -1));
+            state.reset();
             log.debug("Reset delta state for connection {}", connectionId);
         }
 
@@ -160,43 +197,68 @@ public class DeltaSnapshotWebSocket {
         return createDeltaResponse(cId, mId, connectionId);
     }
 
+    private Optional<DeltaSnapshotResponse> nextDeltaResponse(
+            long containerId, long matchId, String connectionId, SnapshotStreamGate gate) {
+        return containerManager.getContainer(containerId)
+                .filter(container -> container.snapshots() != null)
+                .map(container -> {
+                    if (container.ticks().isHeadless()) {
+                        return Optional.<DeltaSnapshotResponse>empty();
+                    }
+                    long tick = container.ticks().current();
+                    long version = container.snapshots().changeVersion(matchId);
+                    StreamState state = connectionStates.get(connectionId);
+                    return switch (gate.evaluate(tick, version, System.nanoTime())) {
+                        case PUBLISH -> Optional.of(computeDeltaForConnection(container, matchId, connectionId, tick, version));
+                        case HEARTBEAT -> state != null && state.awaitingAck()
+                                ? Optional.of(computeDeltaForConnection(container, matchId, connectionId, tick, version))
+                                : Optional.of(new DeltaSnapshotResponse(
+                                        matchId, tick, tick, Map.of(), Set.of(), Set.of(), 0, 0.0));
+                        case SKIP -> Optional.<DeltaSnapshotResponse>empty();
+                    };
+                })
+                .orElseGet(() -> Optional.of(createDeltaResponse(containerId, matchId, connectionId)));
+    }
+
     private DeltaSnapshotResponse createDeltaResponse(long containerId, long matchId, String connectionId) {
         return containerManager.getContainer(containerId)
                 .filter(container -> container.snapshots() != null)
-                .map(container -> computeDeltaForConnection(container, matchId, connectionId))
+                .map(container -> computeDeltaForConnection(container, matchId, connectionId,
+                        container.ticks().current(), container.snapshots().changeVersion(matchId)))
                 .orElse(new DeltaSnapshotResponse(matchId, 0, 0, Map.of(), Set.of(), Set.of(), 0, 1.0));
     }
 
-    private DeltaSnapshotResponse computeDeltaForConnection(ExecutionContainer container, long matchId, String connectionId) {
-        long currentTick = container.ticks().current();
-        Snapshot currentSnapshot = container.snapshots().forMatch(matchId);
-
-        SnapshotState state = connectionStates.get(connectionId);
+    private DeltaSnapshotResponse computeDeltaForConnection(
+            ExecutionContainer container, long matchId, String connectionId, long currentTick, long version) {
+        StreamState state = connectionStates.get(connectionId);
         if (state == null) {
-            state = new SnapshotState(null, -1);
-            connectionStates.put(connectionId, state);
+            return new DeltaSnapshotResponse(matchId, 0, 0, Map.of(), Set.of(), Set.of(), 0, 1.0);
         }
+        SnapshotRing.Published published = state.ring().publish(
+                currentTick, version, () -> container.snapshots().forMatch(matchId));
+        Snapshot currentSnapshot = published.snapshot();
 
         DeltaSnapshot delta;
-        long fromTick;
-
-        if (state.lastSnapshot == null) {
-            // First message - send delta from empty state (effectively full snapshot)
-            fromTick = 0;
-            Snapshot emptySnapshot = Snapshot.empty();
-            delta = deltaCompressionService.computeDelta(matchId, fromTick, emptySnapshot, currentTick, currentSnapshot);
-        } else if (state.lastTick == currentTick) {
-            // No change since last update
-            delta = new DeltaSnapshot(matchId, currentTick, currentTick, Map.of(), Set.of(), Set.of());
-            fromTick = currentTick;
-        } else {
-            // Normal delta from last snapshot
-            fromTick = state.lastTick;
-            delta = deltaCompressionService.computeDelta(matchId, fromTick, state.lastSnapshot, currentTick, currentSnapshot);
-        }
+        Snapshot baseline;
+
+        synchronized (state) {
+            Baseline resolved = state.baseline();
+            baseline = resolved.snapshot();
+            long fromTick = resolved.tick();
+
+            if (baseline == null) {
+                // First message or lost baseline - send delta from empty state (effectively full snapshot)
+                delta = deltaCompressionService.computeDelta(matchId, 0, Snapshot.empty(), currentTick, currentSnapshot);
+            } else if (baseline == currentSnapshot) {
+                // No change since the baseline
+                delta = new DeltaSnapshot(matchId, currentTick, currentTick, Map.of(), Set.of(), Set.of());
+            } else {
+                delta = deltaCompressionService.computeDelta(matchId, fromTick, baseline, currentTick, currentSnapshot);
+            }
 
-        // Update state for next comparison
-        connectionStates.put(connectionId, new SnapshotState(currentSnapshot, currentTick));
+            // Update state for next comparison
+            state.sent(currentSnapshot, currentTick, published.epoch());
+        }
 
         return new DeltaSnapshotResponse(
                 delta.matchId(),
@@ -206,7 +268,7 @@ public class DeltaSnapshotWebSocket {
                 delta.addedEntities(),
                 delta.removedEntities(),
                 delta.changeCount(),
-                calculateCompressionRatio(state.lastSnapshot, currentSnapshot, delta)
+                calculateCompressionRatio(baseline, currentSnapshot, delta)
         );
     }
 
@@ -232,7 +294,94 @@ public class DeltaSnapshotWebSocket {
     }
 
     /**
-     * Tracks the last snapshot state for a connection.
+     * The snapshot a delta is computed from; {@code snapshot} is null when the client
+     * holds nothing usable and needs a full update.
+     */
+    private record Baseline(Snapshot snapshot, long tick) {
+    }
+
+    /**
+     * Tracks what a connection's client holds: the last snapshot sent and, once the client
+     * acknowledges frames, the newest acknowledged tick.
+     *
+     * <p>Acknowledged baselines are looked up in the shared ring, in the epoch the
+     * connection's frames were published in. The ring starts a new epoch when the match
+     * changed while paused or the tick went backwards; acknowledgements up to the last tick
+     * sent before that are ambiguous, so they are ignored and deltas are taken from the
+     * last snapshot sent until the client acknowledges a newer tick.
      */
-    private record SnapshotState(Snapshot lastSnapshot, long lastTick) {}
+    private static final class StreamState {
+        private final DeltaBaselineRegistry.ViewKey view;
+        private final SnapshotRing ring;
+
+        private Snapshot lastSnapshot;
+        private long lastTick = -1;
+        private long lastEpoch = -1;
+        private boolean acknowledging;
+        private long ackedTick = -1;
+        private boolean rewound;
+        private long ackFloor = -1;
+
+        StreamState(DeltaBaselineRegistry.ViewKey view, SnapshotRing ring) {
+            this.view = view;
+            this.ring = ring;
+        }
+
+        DeltaBaselineRegistry.ViewKey view() {
+            return view;
+        }
+
+        SnapshotRing ring() {
+            return ring;
+        }
+
+        synchronized void acknowledge(long tick) {
+            acknowledging = true;
+            if (tick > lastTick || (rewound && tick <= ackFloor)) {
+                return;
+            }
+            rewound = false;
+            ackedTick = Math.max(ackedTick, tick);
+        }
+
+        synchronized boolean awaitingAck() {
+            return acknowledging && lastSnapshot != null && (rewound || ackedTick < lastTick);
+        }
+
+        synchronized Baseline baseline() {
+            if (!acknowledging || rewound) {
+                return new Baseline(lastSnapshot, lastTick);
+            }
+            if (ackedTick < 0) {
+                return new Baseline(null, ackedTick);
+            }
+            Optional<Snapshot> acked = ring.get(ackedTick, lastEpoch);
+            if (acked.isPresent()) {
+                return new Baseline(acked.get(), ackedTick);
+            }
+            // Cleared since the last frame, which will rewind this stream once it is sent
+            return ring.epoch() != lastEpoch ? new Baseline(lastSnapshot, lastTick) : new Baseline(null, ackedTick);
+        }
+
+        synchronized void sent(Snapshot snapshot, long tick, long epoch) {
+            if (lastTick >= 0 && (tick < lastTick || epoch != lastEpoch)) {
+                ackedTick = -1;
+                ackFloor = Math.max(ackFloor, lastTick);
+                rewound = true;
+            }
+            lastSnapshot = snapshot;
+            lastTick = tick;
+            lastEpoch = epoch;
+        }
+
+        synchronized void reset() {
+            lastSnapshot = null;
+            lastTick = -1;
+            lastEpoch = -1;
+            acknowledging = false;
+            ackedTick = -1;
+            rewound = false;
+            ackFloor = -1;
+        }
+    }
 }
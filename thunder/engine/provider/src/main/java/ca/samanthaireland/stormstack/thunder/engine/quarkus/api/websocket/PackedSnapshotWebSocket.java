@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.websockets.next.CloseReason;
+import io.quarkus.websockets.next.OnClose;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.PathParam;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.buffer.Buffer;
+
+import ca.samanthaireland.stormstack.thunder.auth.quarkus.config.LightningAuthConfig;
+import ca.samanthaireland.stormstack.thunder.auth.quarkus.filter.WebSocketAuthResultStore;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaCompressionService;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.SnapshotEncodingSchema;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.FrameDeflater;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.PackedSnapshotCodec;
+
+/**
+ * WebSocket endpoint streaming bit-packed binary snapshots and deltas.
+ *
+ * <p>Clients connect to /ws/containers/{containerId}/matches/{matchId}/packed and receive
+ * binary frames encoded by {@link PackedSnapshotCodec}: a full snapshot first, then a
+ * delta whenever the match changed, and an empty delta as a heartbeat while it is idle.
+ * Column values are packed using the encoding hints declared by the container's
+ * components; a schema frame carrying those hints precedes the first snapshot, follows
+ * every reset, and is sent again whenever the hints change, so clients decode with
+ * {@link PackedSnapshotCodec#decodeSchema(byte[])} alone. Optional query parameters:
+ * <ul>
+ *   <li>{@code playerId} - stream only that player's view, as the player snapshot endpoints do</li>
+ *   <li>{@code compress=deflate} - deflate every frame as part of one continuous raw deflate
+ *       stream; the client inflates all frames with a single inflater</li>
+ * </ul>
+ *
+ * <p>Sending the text message {@code reset} makes the next frame a full snapshot.
+ */
+@WebSocket(path = "/ws/containers/{containerId}/matches/{matchId}/packed")
+public class PackedSnapshotWebSocket {
+    private static final Logger log = LoggerFactory.getLogger(PackedSnapshotWebSocket.class);
+
+    // RFC 6455 policy violation
+    private static final int POLICY_VIOLATION = 1008;
+
+    @Inject
+    ContainerManager containerManager;
+
+    @Inject
+    DeltaCompressionService deltaCompressionService;
+
+    @Inject
+    WebSocketAuthResultStore authStore;
+
+    @Inject
+    LightningAuthConfig authConfig;
+
+    @Inject
+    WebSocketMetrics metrics;
+
+    @ConfigProperty(name = "simulation.snapshot.broadcast-interval-ms", defaultValue = "100")
+    long broadcastIntervalMs;
+
+    @ConfigProperty(name = "simulation.snapshot.heartbeat-interval-ms", defaultValue = "1000")
+    long heartbeatIntervalMs;
+
+    private final Map<String, StreamState> streams = new ConcurrentHashMap<>();
+
+    @OnOpen
+    public Multi<Buffer> onOpen(
+            WebSocketConnection connection,
+            @PathParam String containerId,
+            @PathParam String matchId) {
+        String query = connection.handshakeRequest().query();
+        if (authConfig.enabled()
+                && authStore.claimFromQuery(query, connection.id(), connection.handshakeRequest().path()).isEmpty()) {
+            metrics.authFailure();
+            log.warn("Packed snapshot WebSocket auth failed: no auth result found");
+            connection.close(new CloseReason(POLICY_VIOLATION, "Authentication required"))
+                    .subscribe().with(ignored -> { }, error -> { });
+            return Multi.createFrom().empty();
+        }
+
+        long cId = Long.parseLong(containerId);
+        long mId = Long.parseLong(matchId);
+        Map<String, String> params = parseQuery(query);
+        Long playerId = params.containsKey("playerId") ? Long.parseLong(params.get("playerId")) : null;
+        boolean deflate = "deflate".equalsIgnoreCase(params.get("compress"));
+        String connectionId = connection.id();
+
+        StreamState state = new StreamState(cId, mId, playerId,
+                new SnapshotStreamGate(heartbeatIntervalMs), deflate ? new FrameDeflater() : null);
+        streams.put(connectionId, state);
+        metrics.connectionOpened();
+        log.debug("Packed snapshot WebSocket opened for container {} match {} (player {}, deflate {}) with connection {}",
+                cId, mId, playerId, deflate, connectionId);
+
+        return Multi.createFrom().ticks().every(Duration.ofMillis(broadcastIntervalMs))
+                .onItem().transformToIterable(tick -> nextFrames(state));
+    }
+
+    @OnClose
+    public void onClose(WebSocketConnection connection) {
+        String connectionId = connection.id();
+        authStore.remove(connectionId);
+        StreamState state = streams.remove(connectionId);
+        if (state != null) {
+            state.close();
+        }
+        metrics.connectionClosed();
+        log.debug("Packed snapshot WebSocket closed with connection {}", connectionId);
+    }
+
+    @OnTextMessage
+    public void onMessage(String message, WebSocketConnection connection) {
+        StreamState state = streams.get(connection.id());
+        if (state != null && "reset".equalsIgnoreCase(message.trim())) {
+            state.reset();
+            log.debug("Reset packed snapshot stream for connection {}", connection.id());
+        }
+    }
+
+    private List<Buffer> nextFrames(StreamState state) {
+        Optional<ExecutionContainer> found = containerManager.getContainer(state.containerId())
+                .filter(container -> container.snapshots() != null);
+        if (found.isEmpty() || found.get().ticks().isHeadless()) {
+            return List.of();
+        }
+        ExecutionContainer container = found.get();
+        long tick = container.ticks().current();
+        long version = container.snapshots().changeVersion(state.matchId());
+        SnapshotEncodingSchema schema = container.snapshots().encodingSchema();
+        PackedSnapshotCodec codec = new PackedSnapshotCodec(schema);
+        return switch (state.gate().evaluate(tick, version, System.nanoTime())) {
+            case PUBLISH -> encodeChanges(container, state, tick, schema, codec);
+            case HEARTBEAT -> state.frames(schema, codec, codec.encode(
+                    new DeltaSnapshot(state.matchId(), tick, tick, Map.of(), Set.of(), Set.of())));
+            case SKIP -> List.of();
+        };
+    }
+
+    private List<Buffer> encodeChanges(ExecutionContainer container, StreamState state, long tick,
+                                       SnapshotEncodingSchema schema, PackedSnapshotCodec codec) {
+        Snapshot current = state.playerId() != null
+                ? container.snapshots().forMatchAndPlayer(state.matchId(), state.playerId())
+                : container.snapshots().forMatch(state.matchId());
+
+        synchronized (state) {
+            byte[] frame;
+            if (state.lastSnapshot == null) {
+                frame = codec.encode(current);
+            } else {
+                frame = codec.encode(deltaCompressionService.computeDelta(
+                        state.matchId(), state.lastTick, state.lastSnapshot, tick, current));
+            }
+            state.lastSnapshot = current;
+            state.lastTick = tick;
+            return state.frames(schema, codec, frame);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            int eq = param.indexOf('=');
+            if (eq > 0) {
+                params.put(param.substring(0, eq), param.substring(eq + 1));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Per-connection stream state: what the client holds and the connection's deflate stream.
+     *
+     * <p>Frames are produced on the tick stream while {@link #close()} runs on the close
+     * handler, so both synchronize on the state and no frame is deflated after the
+     * deflater has been ended.
+     */
+    private static final class StreamState {
+        private final long containerId;
+        private final long matchId;
+        private final Long playerId;
+        private final SnapshotStreamGate gate;
+        private final FrameDeflater deflater;
+
+        private Snapshot lastSnapshot;
+        private long lastTick = -1;
+        private SnapshotEncodingSchema sentSchema;
+        private boolean closed;
+
+        StreamState(long containerId, long matchId, Long playerId, SnapshotStreamGate gate, FrameDeflater deflater) {
+            this.containerId = containerId;
+            this.matchId = matchId;
+            this.playerId = playerId;
+            this.gate = gate;
+            this.deflater = deflater;
+        }
+
+        long containerId() {
+            return containerId;
+        }
+
+        long matchId() {
+            return matchId;
+        }
+
+        Long playerId() {
+            return playerId;
+        }
+
+        SnapshotStreamGate gate() {
+            return gate;
+        }
+
+        synchronized void reset() {
+            lastSnapshot = null;
+            lastTick = -1;
+            sentSchema = null;
+            gate.invalidate();
+        }
+
+        /**
+         * Wraps an encoded frame, preceded by a schema frame if the client does not hold
+         * this schema yet, deflating both if enabled.
+         *
+         * @return the frames in send order, or none once the stream is closed
+         */
+        synchronized List<Buffer> frames(SnapshotEncodingSchema schema, PackedSnapshotCodec codec, byte[] encoded) {
+            if (closed) {
+                return List.of();
+            }
+            List<Buffer> frames = new ArrayList<>(2);
+            if (!schema.equals(sentSchema)) {
+                frames.add(wrap(codec.encodeSchema()));
+                sentSchema = schema;
+            }
+            frames.add(wrap(encoded));
+            return frames;
+        }
+
+        private Buffer wrap(byte[] encoded) {
+            return Buffer.buffer(deflater != null ? deflater.deflate(encoded) : encoded);
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (deflater != null) {
+                deflater.close();
+            }
+        }
+    }
+}
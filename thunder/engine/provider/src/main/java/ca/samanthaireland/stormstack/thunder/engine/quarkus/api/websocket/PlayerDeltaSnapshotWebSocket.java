@@ -28,6 +28,8 @@ import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionCont
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaCompressionService;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.DeltaSnapshot;
 import ca.samanthaireland.stormstack.thunder.engine.core.snapshot.Snapshot;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.PriorityAccumulator;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotRing;
 import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.DeltaSnapshotResponse;
 import io.quarkus.websockets.next.*;
 import io.smallrye.mutiny.Multi;
@@ -37,8 +39,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -56,7 +63,22 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  *   <li>Sending only player-owned entities</li>
  *   <li>Sending only changes between updates</li>
+ *   <li>Skipping updates entirely while the match is unchanged, apart from heartbeats</li>
+ *   <li>Optionally capping bytes per second, sending the most important entity changes
+ *       first and deferring the rest to later updates</li>
  * </ul>
+ *
+ * <p>The byte budget comes from {@code simulation.snapshot.player-max-bytes-per-second};
+ * clients may lower it for their connection with a {@code maxBytesPerSecond} query
+ * parameter. Entity importance is the highest {@code simulation.snapshot.component-priority}
+ * weight among its changed components, scaled down with distance to the player when the
+ * container has area-of-interest filtering enabled.
+ *
+ * <p>Clients may acknowledge applied frames with {@code ack:<toTick>}; from then on deltas
+ * are computed from the newest acknowledged tick rather than the last frame sent, as in
+ * {@link DeltaSnapshotWebSocket}. Baselines for complete frames come from the ring shared
+ * by the player's connections; only frames trimmed by the byte budget, which leave the
+ * client with a state that is not in the ring, are kept per connection.
  */
 @WebSocket(path = "/ws/containers/{containerId}/matches/{matchId}/players/{playerId}/delta")
 public class PlayerDeltaSnapshotWebSocket {
@@ -68,9 +90,24 @@ public class PlayerDeltaSnapshotWebSocket {
     @Inject
     DeltaCompressionService deltaCompressionService;
 
+    @Inject
+    DeltaBaselineRegistry baselines;
+
     @ConfigProperty(name = "simulation.snapshot.broadcast-interval-ms", defaultValue = "100")
     long broadcastIntervalMs;
 
+    @ConfigProperty(name = "simulation.snapshot.heartbeat-interval-ms", defaultValue = "1000")
+    long heartbeatIntervalMs;
+
+    @ConfigProperty(name = "simulation.snapshot.player-max-bytes-per-second", defaultValue = "0")
+    long maxBytesPerSecond;
+
+    @ConfigProperty(name = "simulation.snapshot.component-priority")
+    Optional<String> componentPriority;
+
+    @ConfigProperty(name = "simulation.snapshot.priority-distance-falloff", defaultValue = "50")
+    double distanceFalloff;
+
     private final Map<String, ConnectionState> connectionStates = new ConcurrentHashMap<>();
 
     @OnOpen
@@ -88,12 +125,19 @@ public class PlayerDeltaSnapshotWebSocket {
         log.info("Player {} connected to delta snapshot stream for container {} match {} (connection: {})",
                 pId, cId, mId, connectionId);
 
-        connectionStates.put(connectionId, ConnectionState.initial(cId, mId, pId));
+        long budget = resolveBudget(connection.handshakeRequest().query());
+        var view = new DeltaBaselineRegistry.ViewKey(cId, mId, pId);
+        connectionStates.put(connectionId, ConnectionState.initial(cId, mId, pId,
+                new PriorityAccumulator(budget, parsePriorities(componentPriority.orElse("")), distanceFalloff),
+                new SnapshotStreamGate(heartbeatIntervalMs),
+                new BaselineTracker(view, baselines.acquire(view))));
 
         return Multi.createFrom()
                 .ticks()
                 .every(Duration.ofMillis(broadcastIntervalMs))
-                .map(tick -> createDeltaResponse(connectionId));
+                .map(tick -> nextDeltaResponse(connectionId))
+                .select().where(Optional::isPresent)
+                .map(Optional::get);
     }
 
     @OnClose
@@ -104,7 +148,10 @@ public class PlayerDeltaSnapshotWebSocket {
             @PathParam String playerId) {
 
         String connectionId = connection.id();
-        connectionStates.remove(connectionId);
+        ConnectionState state = connectionStates.remove(connectionId);
+        if (state != null) {
+            baselines.release(state.tracker().view());
+        }
 
         log.info("Player {} disconnected from delta snapshot stream for container {} match {}",
                 playerId, containerId, matchId);
@@ -123,8 +170,21 @@ public class PlayerDeltaSnapshotWebSocket {
         long mId = parseLong(matchId, "match ID");
         long pId = parseLong(playerId, "player ID");
 
-        if ("reset".equalsIgnoreCase(message.trim())) {
-            connectionStates.put(connectionId, ConnectionState.initial(cId, mId, pId));
+        ConnectionState current = connectionStates.get(connectionId);
+        OptionalLong ack = DeltaBaselineRegistry.parseAck(message);
+        if (ack.isPresent()) {
+            // Acknowledgements only move the baseline; nothing is sent back
+            if (current != null) {
+                current.tracker().acknowledge(ack.getAsLong(), current.lastTick());
+            }
+            return null;
+        }
+
+        if ("reset".equalsIgnoreCase(message.trim()) && current != null) {
+            connectionStates.put(connectionId, ConnectionState.initial(cId, mId, pId,
+                    current.accumulator(), current.gate(), current.tracker()));
+            current.tracker().reset();
+            current.gate().invalidate();
             log.debug("Reset delta state for player {} in container {} match {}", pId, cId, mId);
         }
 
@@ -143,6 +203,32 @@ public class PlayerDeltaSnapshotWebSocket {
                 playerId, containerId, matchId, error.getMessage());
     }
 
+    private Optional<DeltaSnapshotResponse> nextDeltaResponse(String connectionId) {
+        ConnectionState state = connectionStates.get(connectionId);
+        if (state == null) {
+            return Optional.of(createEmptyDelta());
+        }
+
+        return containerManager.getContainer(state.containerId())
+                .filter(container -> container.snapshots() != null)
+                .map(container -> {
+                    if (container.ticks().isHeadless()) {
+                        return Optional.<DeltaSnapshotResponse>empty();
+                    }
+                    long tick = container.ticks().current();
+                    long version = container.snapshots().changeVersion(state.matchId());
+                    return switch (state.gate().evaluate(tick, version, System.nanoTime())) {
+                        case PUBLISH -> Optional.of(computeDeltaForConnection(container, state, connectionId));
+                        case HEARTBEAT -> state.tracker().awaitingAck(state.lastTick())
+                                ? Optional.of(computeDeltaForConnection(container, state, connectionId))
+                                : Optional.of(toDeltaResponse(
+                                        createNoChangeDelta(state.matchId(), tick), state.lastSnapshot(), state.lastSnapshot()));
+                        case SKIP -> Optional.<DeltaSnapshotResponse>empty();
+                    };
+                })
+                .orElseGet(() -> Optional.of(createEmptyDelta()));
+    }
+
     private DeltaSnapshotResponse createDeltaResponse(String connectionId) {
         ConnectionState state = connectionStates.get(connectionId);
         if (state == null) {
@@ -157,17 +243,54 @@ public class PlayerDeltaSnapshotWebSocket {
 
     private DeltaSnapshotResponse computeDeltaForConnection(ExecutionContainer container, ConnectionState state, String connectionId) {
         long currentTick = container.ticks().current();
-        Snapshot currentSnapshot = container.snapshots().forMatchAndPlayer(state.matchId(), state.playerId());
+        long version = container.snapshots().changeVersion(state.matchId());
+        SnapshotRing.Published published = state.tracker().ring().publish(currentTick, version,
+                () -> container.snapshots().forMatchAndPlayer(state.matchId(), state.playerId()));
+        Snapshot currentSnapshot = published.snapshot();
+
+        Baseline baseline = state.tracker().resolve(state.lastSnapshot(), state.lastTick());
+        DeltaSnapshot delta = computeDelta(state, baseline, currentSnapshot, currentTick);
+
+        if (!state.accumulator().limited() || delta.isEmpty()) {
+            state.tracker().sent(currentTick, published.epoch(), null, state.lastTick());
+            connectionStates.put(connectionId, state.withSnapshot(currentSnapshot, currentTick, false));
+            return toDeltaResponse(delta, baseline.snapshot(), currentSnapshot);
+        }
 
-        DeltaSnapshot delta = computeDelta(state, currentSnapshot, currentTick);
+        Map<Long, Double> distances = container.snapshots().viewerDistances(
+                state.matchId(), state.playerId(), pendingEntities(delta));
+        PriorityAccumulator.Selection selection = state.accumulator().select(delta, distances, System.nanoTime());
+        if (selection.complete()) {
+            state.tracker().sent(currentTick, published.epoch(), null, state.lastTick());
+            connectionStates.put(connectionId, state.withSnapshot(currentSnapshot, currentTick, false));
+            return toDeltaResponse(delta, baseline.snapshot(), currentSnapshot);
+        }
 
-        connectionStates.put(connectionId, state.withSnapshot(currentSnapshot, currentTick));
+        // Only part of the delta was sent: the baseline is what the client now holds, so the
+        // deferred changes show up again in the next delta, which must not wait for a new tick.
+        Snapshot base = baseline.snapshot() != null ? baseline.snapshot() : Snapshot.empty();
+        Snapshot sent = deltaCompressionService.applyDelta(base, selection.delta());
+        state.tracker().sent(currentTick, published.epoch(), sent, state.lastTick());
+        connectionStates.put(connectionId, state.withSnapshot(sent, currentTick, true));
+        state.gate().invalidate();
+        log.trace("Deferred {} entities for player {} in match {}",
+                selection.deferredEntities(), state.playerId(), state.matchId());
+
+        return toDeltaResponse(selection.delta(), baseline.snapshot(), currentSnapshot);
+    }
 
-        return toDeltaResponse(delta, state.lastSnapshot(), currentSnapshot);
+    private static Set<Long> pendingEntities(DeltaSnapshot delta) {
+        Set<Long> pending = new HashSet<>(delta.addedEntities());
+        for (Map<String, Map<Long, Float>> module : delta.changedComponents().values()) {
+            for (Map<Long, Float> component : module.values()) {
+                pending.addAll(component.keySet());
+            }
+        }
+        return pending;
     }
 
-    private DeltaSnapshot computeDelta(ConnectionState state, Snapshot currentSnapshot, long currentTick) {
-        if (state.isFirstMessage()) {
+    private DeltaSnapshot computeDelta(ConnectionState state, Baseline baseline, Snapshot currentSnapshot, long currentTick) {
+        if (baseline.snapshot() == null) {
             return deltaCompressionService.computeDelta(
                     state.matchId(),
                     0,
@@ -177,14 +300,14 @@ public class PlayerDeltaSnapshotWebSocket {
             );
         }
 
-        if (state.lastTick() == currentTick) {
+        if (baseline.snapshot() == currentSnapshot && !state.backlog()) {
             return createNoChangeDelta(state.matchId(), currentTick);
         }
 
         return deltaCompressionService.computeDelta(
                 state.matchId(),
-                state.lastTick(),
-                state.lastSnapshot(),
+                baseline.tick(),
+                baseline.snapshot(),
                 currentTick,
                 currentSnapshot
         );
@@ -236,6 +359,39 @@ public class PlayerDeltaSnapshotWebSocket {
         return (double) deltaSize / fullSnapshotSize;
     }
 
+    private long resolveBudget(String query) {
+        if (query == null || query.isEmpty()) {
+            return maxBytesPerSecond;
+        }
+        for (String param : query.split("&")) {
+            int eq = param.indexOf('=');
+            if (eq > 0 && "maxBytesPerSecond".equals(param.substring(0, eq))) {
+                long requested = parseLong(param.substring(eq + 1), "maxBytesPerSecond");
+                // Clients can only tighten the server-side budget, never lift it.
+                if (requested > 0 && (maxBytesPerSecond <= 0 || requested < maxBytesPerSecond)) {
+                    return requested;
+                }
+            }
+        }
+        return maxBytesPerSecond;
+    }
+
+    private static Map<String, Double> parsePriorities(String spec) {
+        Map<String, Double> priorities = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            try {
+                priorities.put(entry.substring(0, eq).trim(), Double.parseDouble(entry.substring(eq + 1).trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid component priority '{}'", entry);
+            }
+        }
+        return priorities;
+    }
+
     private long parseLong(String value, String fieldName) {
         try {
             return Long.parseLong(value);
@@ -245,25 +401,154 @@ public class PlayerDeltaSnapshotWebSocket {
     }
 
     /**
-     * Tracks the connection state including container, player context, and last snapshot.
+     * Tracks the connection state including container, player context, and the snapshot
+     * the client holds. {@code backlog} is set while budgeted changes are still deferred.
      */
     private record ConnectionState(
             long containerId,
             long matchId,
             long playerId,
             Snapshot lastSnapshot,
-            long lastTick) {
+            long lastTick,
+            PriorityAccumulator accumulator,
+            SnapshotStreamGate gate,
+            BaselineTracker tracker,
+            boolean backlog) {
+
+        static ConnectionState initial(long containerId, long matchId, long playerId,
+                                       PriorityAccumulator accumulator, SnapshotStreamGate gate,
+                                       BaselineTracker tracker) {
+            return new ConnectionState(containerId, matchId, playerId, null, -1, accumulator, gate, tracker, false);
+        }
+
+        ConnectionState withSnapshot(Snapshot snapshot, long tick, boolean backlog) {
+            return new ConnectionState(containerId, matchId, playerId, snapshot, tick, accumulator, gate, tracker, backlog);
+        }
+    }
+
+    /**
+     * The snapshot a delta is computed from; {@code snapshot} is null when the client
+     * holds nothing usable and needs a full update.
+     */
+    private record Baseline(Snapshot snapshot, long tick) {
+    }
+
+    /**
+     * Tracks a connection's acknowledgements and resolves the baseline they select.
+     *
+     * <p>A complete frame leaves the client with the ring's snapshot for its tick, so its
+     * baseline is looked up in the ring, in the epoch the frame was published in. A frame
+     * trimmed by the byte budget leaves the client with a state of its own, which is kept
+     * here by tick until the ring's capacity of trimmed ticks is exceeded; acknowledgements
+     * of older trimmed ticks resolve to no baseline. When several frames share a tick the
+     * first decides what the tick resolves to, as the later ones only add to it and
+     * re-sending their changes is harmless.
+     *
+     * <p>When the tick goes backwards or the ring starts a new epoch (the match changed
+     * while paused), acknowledgements up to the last tick sent before that are ignored, and
+     * deltas are taken from the last frame sent until the client acknowledges a newer tick.
+     */
+    private static final class BaselineTracker {
+        private final DeltaBaselineRegistry.ViewKey view;
+        private final SnapshotRing ring;
+        private final Map<Long, Snapshot> trimmed;
+
+        private long lastEpoch = -1;
+        private long trimmedFloor = -1;
+        private boolean acknowledging;
+        private long ackedTick = -1;
+        private boolean rewound;
+        private long ackFloor = -1;
+
+        BaselineTracker(DeltaBaselineRegistry.ViewKey view, SnapshotRing ring) {
+            this.view = view;
+            this.ring = ring;
+            int capacity = ring.capacity();
+            this.trimmed = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    trimmedFloor = Math.max(trimmedFloor, eldest.getKey());
+                    return true;
+                }
+            };
+        }
+
+        DeltaBaselineRegistry.ViewKey view() {
+            return view;
+        }
+
+        SnapshotRing ring() {
+            return ring;
+        }
+
+        synchronized void acknowledge(long tick, long lastSentTick) {
+            acknowledging = true;
+            if (tick > lastSentTick || (rewound && tick <= ackFloor)) {
+                return;
+            }
+            rewound = false;
+            ackedTick = Math.max(ackedTick, tick);
+        }
+
+        synchronized boolean awaitingAck(long lastSentTick) {
+            return acknowledging && lastSentTick >= 0 && (rewound || ackedTick < lastSentTick);
+        }
 
-        static ConnectionState initial(long containerId, long matchId, long playerId) {
-            return new ConnectionState(containerId, matchId, playerId, null, -1);
+        /**
+         * Records a frame sent at {@code tick}.
+         *
+         * @param tick         the frame's tick
+         * @param epoch        the ring epoch its snapshot was published in
+         * @param trimmedState the state a trimmed frame leaves the client with, or null for
+         *                     a complete frame
+         * @param lastSentTick the tick of the previous frame, or -1
+         */
+        synchronized void sent(long tick, long epoch, Snapshot trimmedState, long lastSentTick) {
+            boolean firstAtTick = tick != lastSentTick;
+            if (lastSentTick >= 0 && (tick < lastSentTick || epoch != lastEpoch)) {
+                trimmed.clear();
+                trimmedFloor = -1;
+                ackedTick = -1;
+                ackFloor = Math.max(ackFloor, lastSentTick);
+                rewound = true;
+                firstAtTick = true;
+            }
+            if (firstAtTick && trimmedState != null) {
+                trimmed.put(tick, trimmedState);
+            }
+            lastEpoch = epoch;
         }
 
-        boolean isFirstMessage() {
-            return lastSnapshot == null;
+        synchronized Baseline resolve(Snapshot lastSnapshot, long lastTick) {
+            if (!acknowledging || rewound) {
+                return new Baseline(lastSnapshot, lastTick);
+            }
+            if (trimmed.containsKey(ackedTick)) {
+                return new Baseline(trimmed.get(ackedTick), ackedTick);
+            }
+            if (ackedTick < 0 || ackedTick <= trimmedFloor) {
+                // Possibly a trimmed frame that is no longer kept
+                return new Baseline(null, ackedTick);
+            }
+            Optional<Snapshot> acked = ring.get(ackedTick, lastEpoch);
+            if (acked.isPresent()) {
+                return new Baseline(acked.get(), ackedTick);
+            }
+            // Cleared since the last frame, which will rewind this stream once it is sent
+            return ring.epoch() != lastEpoch ? new Baseline(lastSnapshot, lastTick) : new Baseline(null, ackedTick);
         }
 
-        ConnectionState withSnapshot(Snapshot snapshot, long tick) {
-            return new ConnectionState(containerId, matchId, playerId, snapshot, tick);
+        synchronized void reset() {
+            acknowledging = false;
+            ackedTick = -1;
+            rewound = false;
+            ackFloor = -1;
+            lastEpoch = -1;
+            trimmed.clear();
+            trimmedFloor = -1;
         }
     }
 }
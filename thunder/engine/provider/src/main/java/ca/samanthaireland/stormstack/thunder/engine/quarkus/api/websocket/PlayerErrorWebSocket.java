@@ -38,6 +38,8 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>Clients connect to /ws/matches/{matchId}/players/{playerId}/errors
  * and receive real-time error notifications relevant to their match/player.
+ * Each error is one text message; repeats of an error that had not been sent
+ * yet arrive once, with {@code occurrences} counting them.
  *
  * <p>Errors include:
  * <ul>
@@ -69,11 +71,14 @@ public class PlayerErrorWebSocket {
                 pId, mId, connectionId);
 
         // Subscribe to errors for this player
-        String subscriptionId = errorBroadcaster.subscribeToPlayer(mId, pId, error -> {
+        String subscriptionId = errorBroadcaster.subscribeToPlayerBatches(mId, pId, errors -> {
             try {
-                connection.sendText(toJson(error)).subscribe().asCompletionStage();
+                for (GameError error : errors) {
+                    connection.sendText(toJson(error)).subscribe().asCompletionStage();
+                }
             } catch (Exception e) {
-                log.error("Failed to send error to connection {}: {}", connectionId, e.getMessage());
+                log.error("Failed to send {} errors to connection {}: {}",
+                        errors.size(), connectionId, e.getMessage());
             }
         });
 
@@ -111,7 +116,7 @@ public class PlayerErrorWebSocket {
     private String toJson(GameError error) {
         return String.format(
                 "{\"id\":\"%s\",\"timestamp\":\"%s\",\"matchId\":%d,\"playerId\":%d," +
-                "\"type\":\"%s\",\"source\":\"%s\",\"message\":\"%s\",\"details\":\"%s\"}",
+                "\"type\":\"%s\",\"source\":\"%s\",\"message\":\"%s\",\"details\":\"%s\",\"occurrences\":%d}",
                 error.id(),
                 error.timestamp().toString(),
                 error.matchId(),
@@ -119,7 +124,8 @@ public class PlayerErrorWebSocket {
                 error.type().name(),
                 escapeJson(error.source()),
                 escapeJson(error.message()),
-                escapeJson(error.details() != null ? error.details() : "")
+                escapeJson(error.details() != null ? error.details() : ""),
+                error.occurrences()
         );
     }
 
@@ -36,13 +36,15 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * WebSocket endpoint for streaming container-scoped player-filtered snapshots.
  *
  * <p>Clients connect to /ws/containers/{containerId}/matches/{matchId}/players/{playerId}/snapshot
- * and receive periodic snapshot updates containing only entities owned by
- * the specified player within the container.
+ * and receive snapshot updates containing only entities owned by
+ * the specified player within the container. Like {@link SnapshotWebSocket},
+ * snapshots are only rebuilt when the match changed; idle matches get heartbeats.
  *
  * <p>This enables efficient client-side rendering by sending only the
  * data relevant to each connected player, reducing bandwidth and improving
@@ -58,6 +60,9 @@ public class PlayerSnapshotWebSocket {
     @ConfigProperty(name = "simulation.snapshot.broadcast-interval-ms", defaultValue = "100")
     long broadcastIntervalMs;
 
+    @ConfigProperty(name = "simulation.snapshot.heartbeat-interval-ms", defaultValue = "1000")
+    long heartbeatIntervalMs;
+
     @OnOpen
     public Multi<SnapshotResponse> onOpen(
             @PathParam String containerId,
@@ -70,10 +75,13 @@ public class PlayerSnapshotWebSocket {
 
         log.info("Player {} connected to snapshot stream for container {} match {}", pId, cId, mId);
 
+        SnapshotStreamGate gate = new SnapshotStreamGate(heartbeatIntervalMs);
         return Multi.createFrom()
                 .ticks()
                 .every(Duration.ofMillis(broadcastIntervalMs))
-                .map(tick -> createPlayerSnapshotResponse(cId, mId, pId));
+                .map(tick -> nextPlayerSnapshotResponse(cId, mId, pId, gate))
+                .select().where(Optional::isPresent)
+                .map(Optional::get);
     }
 
     @OnTextMessage
@@ -113,6 +121,26 @@ public class PlayerSnapshotWebSocket {
                 playerId, containerId, matchId, error.getMessage());
     }
 
+    private Optional<SnapshotResponse> nextPlayerSnapshotResponse(
+            long containerId, long matchId, long playerId, SnapshotStreamGate gate) {
+        return containerManager.getContainer(containerId)
+                .filter(container -> container.snapshots() != null)
+                .map(container -> {
+                    if (container.ticks().isHeadless()) {
+                        return Optional.<SnapshotResponse>empty();
+                    }
+                    long tick = container.ticks().current();
+                    long version = container.snapshots().changeVersion(matchId);
+                    return switch (gate.evaluate(tick, version, System.nanoTime())) {
+                        case PUBLISH -> Optional.of(SnapshotResponse.from(
+                                matchId, tick, container.snapshots().forMatchAndPlayer(matchId, playerId)));
+                        case HEARTBEAT -> Optional.of(SnapshotResponse.heartbeat(matchId, tick));
+                        case SKIP -> Optional.<SnapshotResponse>empty();
+                    };
+                })
+                .orElseGet(() -> Optional.of(new SnapshotResponse(matchId, 0, List.of())));
+    }
+
     private SnapshotResponse createPlayerSnapshotResponse(long containerId, long matchId, long playerId) {
         return containerManager.getContainer(containerId)
                 .filter(container -> container.snapshots() != null)
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerSnapshotOperations;
+
+/**
+ * Decides, per connection, whether a snapshot stream should publish on a poll.
+ *
+ * <p>Snapshot streams poll at the broadcast interval, which acts as the maximum
+ * publish rate. A full snapshot is only built when the match's change version moved
+ * since the last publish; otherwise the stream stays silent and sends a small
+ * heartbeat once per heartbeat interval so clients still see the tick advance.
+ * Containers that cannot report change versions fall back to publishing whenever
+ * the tick advanced.
+ *
+ * <p>Instances are confined to one connection and are safe to call from the
+ * stream's emitter and message handlers concurrently.
+ */
+final class SnapshotStreamGate {
+
+    /**
+     * Outcome of a poll.
+     */
+    enum Decision {
+        /** Build and send a full snapshot. */
+        PUBLISH,
+        /** Nothing changed for a while; send a heartbeat. */
+        HEARTBEAT,
+        /** Nothing changed; send nothing. */
+        SKIP
+    }
+
+    private final long heartbeatIntervalNanos;
+
+    private boolean published;
+    private long lastTick;
+    private long lastVersion;
+    private long lastSentNanos;
+
+    /**
+     * Creates a gate for one connection.
+     *
+     * @param heartbeatIntervalMs minimum time between heartbeats for an unchanged match
+     */
+    SnapshotStreamGate(long heartbeatIntervalMs) {
+        this.heartbeatIntervalNanos = heartbeatIntervalMs * 1_000_000L;
+    }
+
+    /**
+     * Evaluates a poll and records what was sent.
+     *
+     * @param tick the container's current tick
+     * @param version the match's change version
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return what the stream should send
+     */
+    synchronized Decision evaluate(long tick, long version, long nowNanos) {
+        boolean changed = !published
+                || version != lastVersion
+                || (version == ContainerSnapshotOperations.UNKNOWN_VERSION && tick != lastTick);
+        if (changed) {
+            published = true;
+            lastTick = tick;
+            lastVersion = version;
+            lastSentNanos = nowNanos;
+            return Decision.PUBLISH;
+        }
+        if (nowNanos - lastSentNanos >= heartbeatIntervalNanos) {
+            lastSentNanos = nowNanos;
+            return Decision.HEARTBEAT;
+        }
+        return Decision.SKIP;
+    }
+
+    /**
+     * Forces the next poll to publish a full snapshot.
+     */
+    synchronized void invalidate() {
+        published = false;
+    }
+}
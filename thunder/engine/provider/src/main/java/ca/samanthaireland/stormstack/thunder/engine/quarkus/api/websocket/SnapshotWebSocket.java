@@ -24,6 +24,7 @@ package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.inject.Inject;
 
@@ -48,7 +49,11 @@ import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.dto.SnapshotResp
  * WebSocket endpoint for streaming container-scoped match snapshots.
  *
  * <p>Clients connect to /ws/containers/{containerId}/matches/{matchId}/snapshot
- * and receive periodic snapshot updates for the specified match within the container.
+ * and receive snapshot updates for the specified match within the container.
+ *
+ * <p>The stream polls at the broadcast interval but only builds and sends a snapshot
+ * when the match changed since the last one; unchanged matches get a small heartbeat
+ * every heartbeat interval instead. Headless containers publish nothing.
  */
 @WebSocket(path = "/ws/containers/{containerId}/matches/{matchId}/snapshot")
 public class SnapshotWebSocket {
@@ -72,6 +77,9 @@ public class SnapshotWebSocket {
     @ConfigProperty(name = "simulation.snapshot.broadcast-interval-ms", defaultValue = "100")
     long broadcastIntervalMs;
 
+    @ConfigProperty(name = "simulation.snapshot.heartbeat-interval-ms", defaultValue = "1000")
+    long heartbeatIntervalMs;
+
     @OnOpen
     public Multi<SnapshotResponse> onOpen(
             @PathParam String containerId,
@@ -104,8 +112,11 @@ public class SnapshotWebSocket {
         log.debug("Snapshot WebSocket opened for container {} match {} by user '{}'",
                 cId, mId, username);
 
+        SnapshotStreamGate gate = new SnapshotStreamGate(heartbeatIntervalMs);
         return Multi.createFrom().ticks().every(Duration.ofMillis(broadcastIntervalMs))
-                .map(tick -> createSnapshotResponse(cId, mId));
+                .map(tick -> nextSnapshotResponse(cId, mId, gate))
+                .select().where(Optional::isPresent)
+                .map(Optional::get);
     }
 
     @OnTextMessage
@@ -127,6 +138,25 @@ public class SnapshotWebSocket {
         log.debug("Snapshot WebSocket closed for container {} match {}", containerId, matchId);
     }
 
+    private Optional<SnapshotResponse> nextSnapshotResponse(long containerId, long matchId, SnapshotStreamGate gate) {
+        return containerManager.getContainer(containerId)
+                .filter(container -> container.snapshots() != null)
+                .map(container -> {
+                    if (container.ticks().isHeadless()) {
+                        return Optional.<SnapshotResponse>empty();
+                    }
+                    long tick = container.ticks().current();
+                    long version = container.snapshots().changeVersion(matchId);
+                    return switch (gate.evaluate(tick, version, System.nanoTime())) {
+                        case PUBLISH -> Optional.of(SnapshotResponse.from(
+                                matchId, tick, container.snapshots().forMatch(matchId)));
+                        case HEARTBEAT -> Optional.of(SnapshotResponse.heartbeat(matchId, tick));
+                        case SKIP -> Optional.<SnapshotResponse>empty();
+                    };
+                })
+                .orElseGet(() -> Optional.of(new SnapshotResponse(matchId, 0, List.of())));
+    }
+
     private SnapshotResponse createSnapshotResponse(long containerId, long matchId) {
         return containerManager.getContainer(containerId)
                 .filter(container -> container.snapshots() != null)
@@ -76,6 +76,15 @@ public class WebSocketMetrics {
         commandsProcessed.increment();
     }
 
+    /**
+     * Record several commands successfully processed in one batch.
+     *
+     * @param count the number of commands
+     */
+    public void commandsProcessed(int count) {
+        commandsProcessed.add(count);
+    }
+
     /**
      * Record a command rejected due to rate limiting.
      */
@@ -66,11 +66,11 @@ public class WebSocketRateLimiter {
             return Instant.now().isAfter(windowStart.plus(windowDuration));
         }
 
-        boolean tryAcquire(int maxCommands) {
+        boolean tryAcquire(int permits, int maxCommands) {
             if (isExpired()) {
                 return false; // Bucket expired, will be replaced
             }
-            return count.incrementAndGet() <= maxCommands;
+            return count.addAndGet(permits) <= maxCommands;
         }
     }
 
@@ -116,6 +116,20 @@ public class WebSocketRateLimiter {
      * @return true if the command is allowed, false if rate limited
      */
     public boolean tryAcquire(String connectionId) {
+        return tryAcquire(connectionId, 1);
+    }
+
+    /**
+     * Check if a batch of commands is allowed under rate limiting for the given connection.
+     *
+     * <p>Each command in the batch counts against the limit, so batching
+     * reduces framing overhead without raising the command rate.
+     *
+     * @param connectionId the WebSocket connection ID
+     * @param permits the number of commands in the batch
+     * @return true if the whole batch is allowed, false if rate limited
+     */
+    public boolean tryAcquire(String connectionId, int permits) {
         Instant now = Instant.now();
         Duration windowDuration = Duration.ofSeconds(windowSeconds);
 
@@ -126,7 +140,7 @@ public class WebSocketRateLimiter {
             return existing;
         });
 
-        return bucket.tryAcquire(maxCommandsPerSecond);
+        return bucket.tryAcquire(permits, maxCommandsPerSecond);
     }
 
     /**
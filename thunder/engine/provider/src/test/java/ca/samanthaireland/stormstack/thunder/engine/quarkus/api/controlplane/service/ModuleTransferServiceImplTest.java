@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service;
+
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService.TransferLimitExceededException;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService.TransferOffsetMismatchException;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.controlplane.service.ModuleTransferService.TransferVerificationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ModuleTransferServiceImpl")
+class ModuleTransferServiceImplTest {
+
+    private static final byte[] JAR = "fake jar content".getBytes();
+
+    @Mock
+    private ModuleManager moduleManager;
+
+    @TempDir
+    Path modulesDirectory;
+
+    private ModuleTransferServiceImpl service;
+    private String checksum;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new ModuleTransferServiceImpl(moduleManager, modulesDirectory);
+        checksum = sha256(JAR);
+    }
+
+    @Nested
+    @DisplayName("append")
+    class Append {
+
+        @Test
+        @DisplayName("should report the received offset after each chunk")
+        void shouldReportReceivedOffsetAfterEachChunk() throws Exception {
+            assertThat(service.getOffset(checksum)).isZero();
+
+            long afterFirst = service.append(checksum, 0, new ByteArrayInputStream(JAR, 0, 4));
+            long afterSecond = service.append(checksum, 4, new ByteArrayInputStream(JAR, 4, JAR.length - 4));
+
+            assertThat(afterFirst).isEqualTo(4);
+            assertThat(afterSecond).isEqualTo(JAR.length);
+            assertThat(service.getOffset(checksum)).isEqualTo(JAR.length);
+        }
+
+        @Test
+        @DisplayName("should reject a chunk that does not start at the received offset")
+        void shouldRejectChunkAtWrongOffset() throws Exception {
+            service.append(checksum, 0, new ByteArrayInputStream(JAR, 0, 4));
+
+            assertThatThrownBy(() -> service.append(checksum, 8, new ByteArrayInputStream(JAR, 8, 4)))
+                    .isInstanceOf(TransferOffsetMismatchException.class)
+                    .satisfies(e -> assertThat(((TransferOffsetMismatchException) e).getExpectedOffset()).isEqualTo(4));
+            assertThat(service.getOffset(checksum)).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should discard a transfer that grows past the size limit")
+        void shouldDiscardTransferPastSizeLimit() throws Exception {
+            service = new ModuleTransferServiceImpl(moduleManager, modulesDirectory, 8, 16, Duration.ofHours(1));
+            service.append(checksum, 0, new ByteArrayInputStream(JAR, 0, 4));
+
+            assertThatThrownBy(() -> service.append(checksum, 4, new ByteArrayInputStream(JAR, 4, 8)))
+                    .isInstanceOf(TransferLimitExceededException.class);
+            assertThat(service.getOffset(checksum)).isZero();
+            assertThat(service.getTransferCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should discard a transfer sent in too many chunks")
+        void shouldDiscardTransferPastChunkLimit() throws Exception {
+            service = new ModuleTransferServiceImpl(moduleManager, modulesDirectory, 1024, 2, Duration.ofHours(1));
+            service.append(checksum, 0, new ByteArrayInputStream(JAR, 0, 1));
+            service.append(checksum, 1, new ByteArrayInputStream(JAR, 1, 1));
+
+            assertThatThrownBy(() -> service.append(checksum, 2, new ByteArrayInputStream(JAR, 2, 1)))
+                    .isInstanceOf(TransferLimitExceededException.class);
+            assertThat(service.getOffset(checksum)).isZero();
+            assertThat(service.getTransferCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should discard stale transfers when a new one starts")
+        void shouldDiscardStaleTransfers() throws Exception {
+            String stale = sha256("stale".getBytes());
+            service.append(stale, 0, new ByteArrayInputStream("sta".getBytes()));
+            Path staged = modulesDirectory.resolve(".transfers").resolve(stale + ".part");
+            Files.setLastModifiedTime(staged, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+            service.append(checksum, 0, new ByteArrayInputStream(JAR, 0, 4));
+
+            assertThat(service.getOffset(stale)).isZero();
+            assertThat(service.getOffset(checksum)).isEqualTo(4);
+            assertThat(service.getTransferCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject checksums that are not SHA-256 hex digests")
+        void shouldRejectInvalidChecksum() {
+            assertThatThrownBy(() -> service.append("../../etc/passwd", 0, new ByteArrayInputStream(JAR)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("complete")
+    class Complete {
+
+        @Test
+        @DisplayName("should install the verified JAR under its file name")
+        void shouldInstallVerifiedJarUnderFileName() throws Exception {
+            AtomicReference<String> installedName = new AtomicReference<>();
+            AtomicReference<byte[]> installedBytes = new AtomicReference<>();
+            doAnswer(inv -> {
+                Path jar = inv.getArgument(0);
+                installedName.set(jar.getFileName().toString());
+                installedBytes.set(Files.readAllBytes(jar));
+                return null;
+            }).when(moduleManager).installModule(any(Path.class));
+            service.append(checksum, 0, new ByteArrayInputStream(JAR));
+
+            service.complete(checksum, "physics-1.0.0.jar");
+
+            assertThat(installedName.get()).isEqualTo("physics-1.0.0.jar");
+            assertThat(installedBytes.get()).isEqualTo(JAR);
+            assertThat(service.getOffset(checksum)).isZero();
+            assertThat(service.getTransferCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should discard staged bytes that do not match the checksum")
+        void shouldDiscardStagedBytesOnChecksumMismatch() throws Exception {
+            service.append(checksum, 0, new ByteArrayInputStream("corrupted".getBytes()));
+
+            assertThatThrownBy(() -> service.complete(checksum, "physics-1.0.0.jar"))
+                    .isInstanceOf(TransferVerificationException.class)
+                    .hasMessageContaining("Checksum mismatch");
+            verify(moduleManager, never()).installModule(any(Path.class));
+            assertThat(service.getOffset(checksum)).isZero();
+        }
+
+        @Test
+        @DisplayName("should reject file names that are not JARs")
+        void shouldRejectNonJarFileName() throws Exception {
+            service.append(checksum, 0, new ByteArrayInputStream(JAR));
+
+            assertThatThrownBy(() -> service.complete(checksum, "../evil.sh"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("abort")
+    class Abort {
+
+        @Test
+        @DisplayName("should discard the staged bytes of a transfer")
+        void shouldDiscardStagedBytes() throws Exception {
+            service.append(checksum, 0, new ByteArrayInputStream(JAR, 0, 4));
+
+            service.abort(checksum);
+
+            assertThat(service.getOffset(checksum)).isZero();
+            assertThat(service.getTransferCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should ignore unknown transfers")
+        void shouldIgnoreUnknownTransfer() throws Exception {
+            service.abort(checksum);
+
+            assertThat(service.getTransferCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("installedModuleHashes")
+    class InstalledModuleHashes {
+
+        @Test
+        @DisplayName("should report checksums of JARs in the module directory only")
+        void shouldReportChecksumsOfJarsOnly() throws Exception {
+            Files.write(modulesDirectory.resolve("physics.jar"), JAR);
+            Files.write(modulesDirectory.resolve("notes.txt"), "ignored".getBytes());
+            service.append(sha256("staged".getBytes()), 0, new ByteArrayInputStream("stag".getBytes()));
+
+            assertThat(service.installedModuleHashes()).containsExactly(checksum);
+        }
+
+        @Test
+        @DisplayName("should rehash a JAR after it changes")
+        void shouldRehashChangedJar() throws Exception {
+            Path jar = modulesDirectory.resolve("physics.jar");
+            Files.write(jar, JAR);
+            assertThat(service.installedModuleHashes()).containsExactly(checksum);
+
+            byte[] updated = "updated jar content".getBytes();
+            Files.write(jar, updated);
+
+            assertThat(service.installedModuleHashes()).containsExactly(sha256(updated));
+        }
+
+        @Test
+        @DisplayName("should return empty list when module directory is missing")
+        void shouldReturnEmptyWhenDirectoryMissing() {
+            service = new ModuleTransferServiceImpl(moduleManager, modulesDirectory.resolve("missing"));
+
+            assertThat(service.installedModuleHashes()).isEmpty();
+        }
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
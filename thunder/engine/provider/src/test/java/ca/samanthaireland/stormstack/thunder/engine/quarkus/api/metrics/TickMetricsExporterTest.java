@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.internal.GameLoop;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryExecutionContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TickMetricsExporter}.
+ */
+class TickMetricsExporterTest {
+
+    private SimpleMeterRegistry registry;
+    private ContainerManager containerManager;
+    private InMemoryExecutionContainer container;
+    private TickMetricsExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        containerManager = mock(ContainerManager.class);
+        container = new InMemoryExecutionContainer(7L, ContainerConfig.builder("arena").maxEntities(1_000).build());
+        container.lifecycle().start();
+        exporter = new TickMetricsExporter(registry, containerManager, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        container.lifecycle().stop();
+    }
+
+    @Test
+    void shouldRegisterTickMetersForStartedContainers() {
+        when(containerManager.getAllContainers()).thenReturn(List.of(container));
+        container.getGameLoop().advanceTick(1);
+
+        exporter.refresh();
+
+        assertThat(registry.find("thunder_engine_tick_duration_seconds")
+                .tags("container", "arena", "quantile", "0.99").gauge()).isNotNull();
+        assertThat(registry.find("thunder_engine_tick_duration_seconds_max")
+                .tag("container", "arena").gauge().value()).isPositive();
+        assertThat(registry.find("thunder_engine_ticks_total")
+                .tag("container", "arena").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.find("thunder_engine_tick_overruns_total")
+                .tag("container", "arena").functionCounter()).isNotNull();
+        assertThat(registry.find("thunder_engine_tick_scheduling_lag_seconds")
+                .tag("container", "arena").gauges()).hasSize(4);
+    }
+
+    @Test
+    void shouldUpdateCachedSnapshotsOnRefresh() {
+        when(containerManager.getAllContainers()).thenReturn(List.of(container));
+        exporter.refresh();
+        assertThat(registry.find("thunder_engine_tick_duration_seconds_max").gauge().value()).isZero();
+
+        container.getGameLoop().advanceTick(1);
+        exporter.refresh();
+
+        assertThat(registry.find("thunder_engine_tick_duration_seconds_max").gauge().value()).isPositive();
+    }
+
+    @Test
+    void shouldReportTimeToFirstTickWithoutCreatingContainers() {
+        container.getGameLoop().advanceTick(1);
+
+        double seconds = registry.find("thunder_engine_startup_time_to_first_tick_seconds").gauge().value();
+
+        assertThat(seconds).isPositive();
+        assertThat(seconds * 1_000).isEqualTo(GameLoop.getFirstTickCompletedMillis()
+                - ManagementFactory.getRuntimeMXBean().getStartTime(), within(1.0));
+        verify(containerManager, never()).createContainer(any());
+    }
+
+    @Test
+    void shouldRemoveMetersOfDeletedContainers() {
+        when(containerManager.getAllContainers()).thenReturn(List.of(container));
+        exporter.refresh();
+
+        when(containerManager.getAllContainers()).thenReturn(List.of());
+        exporter.refresh();
+
+        assertThat(registry.find("thunder_engine_tick_duration_seconds").meters()).isEmpty();
+        assertThat(registry.find("thunder_engine_ticks_total").meters()).isEmpty();
+    }
+}
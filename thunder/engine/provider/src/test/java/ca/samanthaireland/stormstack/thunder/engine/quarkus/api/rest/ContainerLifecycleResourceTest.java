@@ -101,6 +101,23 @@ class ContainerLifecycleResourceTest {
             // Cleanup
             jsonRequest().when().delete("/api/containers/" + containerId).then().statusCode(204);
         }
+
+        @Test
+        @DisplayName("should reject an unknown overrun policy")
+        @TestSecurity(user = "admin", roles = "admin")
+        void shouldRejectUnknownOverrunPolicy() {
+            jsonRequest()
+                    .body("""
+                        {
+                            "name": "test-bad-overrun-policy",
+                            "overrunPolicy": "REWIND"
+                        }
+                        """)
+                    .when().post("/api/containers")
+                    .then()
+                    .statusCode(400)
+                    .body("error", containsString("Invalid tick policy"));
+        }
     }
 
     @Nested
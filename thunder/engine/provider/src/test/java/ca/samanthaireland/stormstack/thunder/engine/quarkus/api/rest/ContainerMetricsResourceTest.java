@@ -93,6 +93,18 @@ class ContainerMetricsResourceTest {
                     .body("totalTicks", greaterThanOrEqualTo(0));
         }
 
+        @Test
+        @DisplayName("should include rolling tick latency and overruns")
+        void shouldIncludeTickLatency() {
+            jsonRequest()
+                    .when().get("/api/containers/" + containerId + "/metrics")
+                    .then()
+                    .statusCode(200)
+                    .body("tickLatency.tick.count", greaterThanOrEqualTo(0))
+                    .body("tickLatency.schedulingLag.p999Ms", greaterThanOrEqualTo(0f))
+                    .body("tickLatency.overruns", greaterThanOrEqualTo(0));
+        }
+
         @Test
         @DisplayName("should return 404 for non-existent container")
         void shouldReturn404ForNonExistentContainer() {
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.quarkus.websockets.next.BasicWebSocketConnector;
+import io.quarkus.websockets.next.WebSocketClientConnection;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.smallrye.jwt.build.Jwt;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.*;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for {@link ContainerMigrationResource}.
+ */
+@QuarkusTest
+@DisplayName("ContainerMigrationResource")
+@TestSecurity(user = "admin", roles = "admin")
+class ContainerMigrationResourceTest {
+
+    private static final long MATCH_ID = 4801;
+
+    @TestHTTPResource("/")
+    URI baseUri;
+
+    @Inject
+    BasicWebSocketConnector connector;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private Long sourceId;
+    private Long targetId;
+
+    private static RequestSpecification jsonRequest() {
+        return given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON);
+    }
+
+    @BeforeEach
+    void setUp() {
+        sourceId = createStartedContainer("test-migration-source");
+        targetId = createStartedContainer("test-migration-target");
+
+        jsonRequest()
+                .body("""
+                    {
+                        "id": %d,
+                        "enabledModuleNames": [],
+                        "enabledAINames": []
+                    }
+                    """.formatted(MATCH_ID))
+                .when().post("/api/containers/" + sourceId + "/matches")
+                .then()
+                .statusCode(201);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long containerId : new Long[]{sourceId, targetId}) {
+            jsonRequest().when().post("/api/containers/" + containerId + "/stop").then().statusCode(anyOf(equalTo(200), equalTo(404)));
+            jsonRequest().when().delete("/api/containers/" + containerId).then().statusCode(anyOf(equalTo(204), equalTo(404)));
+        }
+    }
+
+    private static long createStartedContainer(String name) {
+        long containerId = jsonRequest()
+                .body("{\"name\": \"" + name + "\"}")
+                .when().post("/api/containers")
+                .then()
+                .statusCode(201)
+                .extract()
+                .jsonPath()
+                .getLong("id");
+        jsonRequest().when().post("/api/containers/" + containerId + "/start").then().statusCode(200);
+        return containerId;
+    }
+
+    private static String adminToken() {
+        return Jwt.issuer("https://lightningfirefly.com")
+                .subject("test-admin")
+                .groups(Set.of("admin"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.HOURS))
+                .sign();
+    }
+
+    private String migrationPath(long containerId, String step) {
+        return "/api/containers/" + containerId + "/matches/" + MATCH_ID + "/migration/" + step;
+    }
+
+    @Nested
+    @DisplayName("migration round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("should move a match to another container with a verified replay")
+        void shouldMoveMatchWithVerifiedReplay() {
+            String state = jsonRequest()
+                    .when().post(migrationPath(sourceId, "begin"))
+                    .then()
+                    .statusCode(200)
+                    .body("matchId", equalTo((int) MATCH_ID))
+                    .extract().asString();
+
+            jsonRequest()
+                    .body(state)
+                    .when().post(migrationPath(targetId, "restore"))
+                    .then()
+                    .statusCode(204);
+
+            String delta = jsonRequest()
+                    .when().post(migrationPath(sourceId, "freeze"))
+                    .then()
+                    .statusCode(200)
+                    .body("executed", hasSize(0))
+                    .extract().asString();
+
+            jsonRequest()
+                    .body(delta)
+                    .when().post(migrationPath(targetId, "catch-up"))
+                    .then()
+                    .statusCode(200)
+                    .body("verified", equalTo(true));
+
+            jsonRequest()
+                    .when().get("/api/containers/" + targetId + "/matches/" + MATCH_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("id", equalTo((int) MATCH_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("errors")
+    class Errors {
+
+        @Test
+        @DisplayName("should return 409 when freezing a match that is not migrating")
+        void shouldReturn409WhenNotMigrating() {
+            jsonRequest()
+                    .when().post(migrationPath(sourceId, "freeze"))
+                    .then()
+                    .statusCode(409)
+                    .body("error", containsString("not migrating"));
+        }
+
+        @Test
+        @DisplayName("should return 503 with Retry-After for commands sent to a frozen source")
+        void shouldReturn503ForCommandsWhileFrozen() {
+            // Containers created with modules start automatically
+            long containerId = jsonRequest()
+                    .body("{\"name\": \"test-migration-frozen\", \"maxEntities\": 1000, \"moduleNames\": [\"EntityModule\"]}")
+                    .when().post("/api/containers")
+                    .then()
+                    .statusCode(201)
+                    .extract().jsonPath().getLong("id");
+            try {
+                jsonRequest()
+                        .body("{\"id\": %d, \"enabledModuleNames\": [\"EntityModule\"]}".formatted(MATCH_ID))
+                        .when().post("/api/containers/" + containerId + "/matches")
+                        .then()
+                        .statusCode(201);
+                jsonRequest().when().post(migrationPath(containerId, "begin")).then().statusCode(200);
+                jsonRequest().when().post(migrationPath(containerId, "freeze")).then().statusCode(200);
+
+                jsonRequest()
+                        .body("""
+                            {
+                                "commandName": "spawn",
+                                "parameters": {"matchId": %d, "playerId": 1, "entityType": 1}
+                            }
+                            """.formatted(MATCH_ID))
+                        .when().post("/api/containers/" + containerId + "/commands")
+                        .then()
+                        .statusCode(503)
+                        .header("Retry-After", "1")
+                        .body("error", containsString("migrating"));
+            } finally {
+                jsonRequest().when().post("/api/containers/" + containerId + "/stop");
+                jsonRequest().when().delete("/api/containers/" + containerId);
+            }
+        }
+
+        @Test
+        @DisplayName("should return 400 when the restored state belongs to another match")
+        void shouldReturn400ForMismatchedState() {
+            String state = jsonRequest()
+                    .when().post(migrationPath(sourceId, "capture"))
+                    .then()
+                    .statusCode(200)
+                    .extract().asString();
+
+            jsonRequest()
+                    .body(state)
+                    .when().post("/api/containers/" + targetId + "/matches/1/migration/restore")
+                    .then()
+                    .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("should return 404 for non-existent container")
+        void shouldReturn404ForNonExistentContainer() {
+            jsonRequest()
+                    .when().post(migrationPath(999999, "capture"))
+                    .then()
+                    .statusCode(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST .../migration/redirect")
+    class Redirect {
+
+        @Test
+        @DisplayName("should report how many clients were redirected")
+        void shouldReportRedirectedClients() {
+            jsonRequest()
+                    .body("{\"nodeAddress\": \"http://node-2:8080\", \"containerId\": 7}")
+                    .when().post(migrationPath(sourceId, "redirect"))
+                    .then()
+                    .statusCode(200)
+                    .body("redirected", equalTo(0));
+        }
+
+        @Test
+        @Timeout(30)
+        @DisplayName("should redirect command connections of the container to the target container")
+        void shouldRedirectCommandConnections() throws Exception {
+            LinkedBlockingDeque<String> messages = new LinkedBlockingDeque<>();
+            URI commandUri = URI.create(baseUri.toString().replace("http://", "ws://")
+                    + "containers/" + sourceId + "/commands?token=" + adminToken());
+            WebSocketClientConnection connection = connector
+                    .baseUri(commandUri)
+                    .onTextMessage((c, m) -> messages.add(m))
+                    .connectAndAwait();
+            try {
+                assertThat(messages.poll(5, TimeUnit.SECONDS)).contains("ACCEPTED");
+
+                jsonRequest()
+                        .body("{\"nodeAddress\": \"http://node-2:8080\", \"containerId\": %d}".formatted(targetId))
+                        .when().post(migrationPath(sourceId, "redirect"))
+                        .then()
+                        .statusCode(200)
+                        .body("redirected", equalTo(1));
+
+                JsonNode redirect = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+                assertThat(redirect.get("type").asText()).isEqualTo("redirect");
+                assertThat(redirect.get("nodeAddress").asText()).isEqualTo("http://node-2:8080");
+                assertThat(redirect.get("containerId").asLong()).isEqualTo(targetId);
+            } finally {
+                if (!connection.isClosed()) {
+                    connection.closeAndAwait();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should require a node address")
+        void shouldRequireNodeAddress() {
+            jsonRequest()
+                    .body("{\"containerId\": 7}")
+                    .when().post(migrationPath(sourceId, "redirect"))
+                    .then()
+                    .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("should require a target container")
+        void shouldRequireTargetContainer() {
+            jsonRequest()
+                    .body("{\"nodeAddress\": \"http://node-2:8080\"}")
+                    .when().post(migrationPath(sourceId, "redirect"))
+                    .then()
+                    .statusCode(400);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.*;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for {@link ContainerRecordingResource}.
+ */
+@QuarkusTest
+@DisplayName("ContainerRecordingResource")
+@TestSecurity(user = "admin", roles = "admin")
+class ContainerRecordingResourceTest {
+
+    private static final long MATCH_ID = 4901;
+
+    private Long liveId;
+    private Long benchId;
+
+    private static RequestSpecification jsonRequest() {
+        return given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON);
+    }
+
+    @BeforeEach
+    void setUp() {
+        liveId = createStartedContainer("test-recording-live");
+        benchId = createStartedContainer("test-recording-bench");
+
+        jsonRequest()
+                .body("""
+                    {
+                        "id": %d,
+                        "enabledModuleNames": [],
+                        "enabledAINames": []
+                    }
+                    """.formatted(MATCH_ID))
+                .when().post("/api/containers/" + liveId + "/matches")
+                .then()
+                .statusCode(201);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long containerId : new Long[]{liveId, benchId}) {
+            jsonRequest().when().post("/api/containers/" + containerId + "/stop").then().statusCode(anyOf(equalTo(200), equalTo(404)));
+            jsonRequest().when().delete("/api/containers/" + containerId).then().statusCode(anyOf(equalTo(204), equalTo(404)));
+        }
+    }
+
+    private static long createStartedContainer(String name) {
+        long containerId = jsonRequest()
+                .body("{\"name\": \"" + name + "\"}")
+                .when().post("/api/containers")
+                .then()
+                .statusCode(201)
+                .extract()
+                .jsonPath()
+                .getLong("id");
+        jsonRequest().when().post("/api/containers/" + containerId + "/start").then().statusCode(200);
+        return containerId;
+    }
+
+    private String recordingPath(long containerId, String step) {
+        return "/api/containers/" + containerId + "/matches/" + MATCH_ID + "/recording" + step;
+    }
+
+    @Nested
+    @DisplayName("record and replay")
+    class RecordAndReplay {
+
+        @Test
+        @DisplayName("should replay a recording into another container")
+        void shouldReplayRecording() {
+            jsonRequest()
+                    .body("{\"keyframeInterval\": 2}")
+                    .when().post(recordingPath(liveId, "/start"))
+                    .then()
+                    .statusCode(200)
+                    .body("matchId", equalTo((int) MATCH_ID));
+            for (int i = 0; i < 5; i++) {
+                jsonRequest().when().post("/api/containers/" + liveId + "/tick").then().statusCode(200);
+            }
+            jsonRequest()
+                    .when().get(recordingPath(liveId, ""))
+                    .then()
+                    .statusCode(200)
+                    .body("keyframes", greaterThanOrEqualTo(1));
+
+            String recording = jsonRequest()
+                    .when().post(recordingPath(liveId, "/stop"))
+                    .then()
+                    .statusCode(200)
+                    .body("toTick", equalTo(5))
+                    .extract().jsonPath().getString("recording");
+
+            jsonRequest()
+                    .body("{\"recording\": \"" + recording + "\"}")
+                    .when().post("/api/containers/" + benchId + "/replay")
+                    .then()
+                    .statusCode(200)
+                    .body("matchId", equalTo((int) MATCH_ID))
+                    .body("ticks", equalTo(5))
+                    .body("diverged", equalTo(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("errors")
+    class Errors {
+
+        @Test
+        @DisplayName("should return 404 when the match is not being recorded")
+        void shouldReturn404WhenNotRecording() {
+            jsonRequest()
+                    .when().get(recordingPath(liveId, ""))
+                    .then()
+                    .statusCode(404);
+        }
+
+        @Test
+        @DisplayName("should return 409 when stopping a match that is not being recorded")
+        void shouldReturn409WhenStoppingWithoutRecording() {
+            jsonRequest()
+                    .when().post(recordingPath(liveId, "/stop"))
+                    .then()
+                    .statusCode(409)
+                    .body("error", containsString("not being recorded"));
+        }
+
+        @Test
+        @DisplayName("should return 409 when replaying into a container that hosts a match")
+        void shouldReturn409WhenReplayingIntoLiveContainer() {
+            jsonRequest().when().post(recordingPath(liveId, "/start")).then().statusCode(200);
+            jsonRequest().when().post("/api/containers/" + liveId + "/tick").then().statusCode(200);
+            String recording = jsonRequest()
+                    .when().post(recordingPath(liveId, "/stop"))
+                    .then()
+                    .statusCode(200)
+                    .extract().jsonPath().getString("recording");
+
+            jsonRequest()
+                    .body("{\"recording\": \"" + recording + "\"}")
+                    .when().post("/api/containers/" + liveId + "/replay")
+                    .then()
+                    .statusCode(409)
+                    .body("error", containsString("empty container"));
+        }
+
+        @Test
+        @DisplayName("should reject recording names outside the recordings directory")
+        void shouldRejectPathTraversal() {
+            jsonRequest()
+                    .body("{\"recording\": \"../application.properties\"}")
+                    .when().post("/api/containers/" + benchId + "/replay")
+                    .then()
+                    .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("should return 404 for an unknown recording")
+        void shouldReturn404ForUnknownRecording() {
+            jsonRequest()
+                    .body("{\"recording\": \"missing.ilog\"}")
+                    .when().post("/api/containers/" + benchId + "/replay")
+                    .then()
+                    .statusCode(404);
+        }
+    }
+}
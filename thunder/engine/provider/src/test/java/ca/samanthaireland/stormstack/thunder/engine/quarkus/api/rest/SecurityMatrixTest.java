@@ -231,6 +231,81 @@ class SecurityMatrixTest {
         }
     }
 
+    @Nested
+    @DisplayName("ModuleTransferResource")
+    class ModuleTransferResourceTests {
+
+        @Test
+        @DisplayName("GET /api/modules/transfers/{checksum} requires engine.module.manage")
+        void getTransfer_requiresManageScope() {
+            assertMethodHasScope(ModuleTransferResource.class, "getTransfer", "engine.module.manage");
+        }
+
+        @Test
+        @DisplayName("PUT /api/modules/transfers/{checksum} requires engine.module.manage")
+        void appendChunk_requiresManageScope() {
+            assertMethodHasScope(ModuleTransferResource.class, "appendChunk", "engine.module.manage");
+        }
+
+        @Test
+        @DisplayName("POST /api/modules/transfers/{checksum}/complete requires engine.module.manage")
+        void completeTransfer_requiresManageScope() {
+            assertMethodHasScope(ModuleTransferResource.class, "completeTransfer", "engine.module.manage");
+        }
+
+        @Test
+        @DisplayName("DELETE /api/modules/transfers/{checksum} requires engine.module.manage")
+        void abortTransfer_requiresManageScope() {
+            assertMethodHasScope(ModuleTransferResource.class, "abortTransfer", "engine.module.manage");
+        }
+    }
+
+    @Nested
+    @DisplayName("ContainerMigrationResource")
+    class ContainerMigrationResourceTests {
+
+        @Test
+        @DisplayName("POST .../migration/begin requires engine.container.lifecycle")
+        void begin_requiresLifecycleScope() {
+            assertMethodHasScope(ContainerMigrationResource.class, "begin", "engine.container.lifecycle");
+        }
+
+        @Test
+        @DisplayName("POST .../migration/restore requires engine.container.lifecycle")
+        void restore_requiresLifecycleScope() {
+            assertMethodHasScope(ContainerMigrationResource.class, "restore", "engine.container.lifecycle");
+        }
+
+        @Test
+        @DisplayName("POST .../migration/redirect requires engine.container.lifecycle")
+        void redirect_requiresLifecycleScope() {
+            assertMethodHasScope(ContainerMigrationResource.class, "redirect", "engine.container.lifecycle");
+        }
+    }
+
+    @Nested
+    @DisplayName("ContainerRecordingResource")
+    class ContainerRecordingResourceTests {
+
+        @Test
+        @DisplayName("POST .../recording/start requires engine.history.manage")
+        void start_requiresHistoryManageScope() {
+            assertMethodHasScope(ContainerRecordingResource.class, "start", "engine.history.manage");
+        }
+
+        @Test
+        @DisplayName("GET .../recording requires engine.history.read")
+        void status_requiresHistoryReadScope() {
+            assertMethodHasScope(ContainerRecordingResource.class, "status", "engine.history.read");
+        }
+
+        @Test
+        @DisplayName("POST .../replay requires engine.simulation.control")
+        void replay_requiresSimulationControlScope() {
+            assertMethodHasScope(ContainerRecordingResource.class, "replay", "engine.simulation.control");
+        }
+    }
+
     @Nested
     @DisplayName("SimulationControlResource")
     class SimulationControlResourceTests {
@@ -246,6 +321,12 @@ class SecurityMatrixTest {
         void getTick_requiresReadScope() {
             assertMethodHasScope(SimulationControlResource.class, "getTick", "engine.simulation.read");
         }
+
+        @Test
+        @DisplayName("POST .../turbo requires engine.simulation.control")
+        void turbo_requiresControlScope() {
+            assertMethodHasScope(SimulationControlResource.class, "turbo", "engine.simulation.control");
+        }
     }
 
     @Nested
@@ -161,6 +161,43 @@ class SimulationControlResourceTest {
             jsonRequest().when().post("/api/containers/" + containerId + "/stop-auto").then().statusCode(200);
         }
 
+        @Test
+        @DisplayName("should run faster than real time and headless until stopped")
+        void shouldStartAutoAdvanceWithSpeedAndHeadless() {
+            jsonRequest()
+                    .queryParam("intervalMs", 100)
+                    .queryParam("speed", 50)
+                    .queryParam("headless", true)
+                    .when().post("/api/containers/" + containerId + "/play")
+                    .then()
+                    .statusCode(200);
+
+            jsonRequest()
+                    .when().get("/api/containers/" + containerId + "/status")
+                    .then()
+                    .statusCode(200)
+                    .body("intervalMs", equalTo(100))
+                    .body("speed", equalTo(50.0f))
+                    .body("headless", equalTo(true));
+
+            jsonRequest().when().post("/api/containers/" + containerId + "/stop-auto").then().statusCode(200);
+            jsonRequest()
+                    .when().get("/api/containers/" + containerId + "/status")
+                    .then()
+                    .body("speed", equalTo(1.0f))
+                    .body("headless", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("should reject a speed that is not positive")
+        void shouldRejectInvalidSpeed() {
+            jsonRequest()
+                    .queryParam("speed", 0)
+                    .when().post("/api/containers/" + containerId + "/play")
+                    .then()
+                    .statusCode(400);
+        }
+
         @Test
         @DisplayName("should return 404 for non-existent container")
         void shouldReturn404ForNonExistentContainer() {
@@ -171,6 +208,64 @@ class SimulationControlResourceTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/containers/{containerId}/turbo")
+    class Turbo {
+
+        @Test
+        @DisplayName("should run ticks back-to-back and report the tick rate")
+        void shouldRunTicksAndReportRate() {
+            jsonRequest()
+                    .queryParam("ticks", 500)
+                    .when().post("/api/containers/" + containerId + "/turbo")
+                    .then()
+                    .statusCode(200)
+                    .body("ticks", equalTo(500))
+                    .body("ticksPerSecond", greaterThan(0f))
+                    .body("headless", equalTo(true))
+                    .body("systems", notNullValue());
+
+            jsonRequest()
+                    .when().get("/api/containers/" + containerId + "/status")
+                    .then()
+                    .statusCode(200)
+                    .body("headless", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("should return 409 while auto-advancing")
+        void shouldReturn409WhilePlaying() {
+            jsonRequest().when().post("/api/containers/" + containerId + "/play").then().statusCode(200);
+
+            jsonRequest()
+                    .when().post("/api/containers/" + containerId + "/turbo")
+                    .then()
+                    .statusCode(409);
+
+            jsonRequest().when().post("/api/containers/" + containerId + "/stop-auto").then().statusCode(200);
+        }
+
+        @Test
+        @DisplayName("should reject fewer than one tick")
+        void shouldRejectInvalidTickCount() {
+            jsonRequest()
+                    .queryParam("ticks", 0)
+                    .when().post("/api/containers/" + containerId + "/turbo")
+                    .then()
+                    .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("should reject more ticks than the configured maximum")
+        void shouldRejectTooManyTicks() {
+            jsonRequest()
+                    .queryParam("ticks", Integer.MAX_VALUE)
+                    .when().post("/api/containers/" + containerId + "/turbo")
+                    .then()
+                    .statusCode(400);
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/containers/{containerId}/stop-auto")
     class StopAutoAdvance {
@@ -32,6 +32,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import ca.samanthaireland.stormstack.thunder.api.proto.CommandProtos;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.CommandSchema;
+import ca.samanthaireland.stormstack.thunder.engine.core.command.TypedCommandPayload;
 import ca.samanthaireland.stormstack.thunder.engine.ext.modules.SpawnPayload;
 
 /**
@@ -354,4 +356,95 @@ class CommandPayloadConverterTest {
             assertThat(map).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("Typed decoding")
+    class TypedDecoding {
+
+        private final CommandSchema schema = CommandSchema.of(Map.of(
+                "entityId", Long.class,
+                "forceX", Float.class,
+                "entityType", Long.class
+        ));
+
+        @Test
+        void shouldDecodeGenericProtobufIntoTypedPayload() {
+            var request = CommandProtos.CommandRequest.newBuilder()
+                    .setCommandName("applyForce")
+                    .setMatchId(1)
+                    .setPlayerId(2)
+                    .setGeneric(CommandProtos.GenericPayload.newBuilder()
+                            .putLongParams("entityId", 42)
+                            .putDoubleParams("forceX", 1.5)
+                            .build())
+                    .build();
+
+            var payload = converter.convert(request, schema);
+
+            assertThat(payload).isInstanceOf(TypedCommandPayload.class);
+            var typed = (TypedCommandPayload) payload;
+            assertThat(typed.getLong("entityId", 0)).isEqualTo(42);
+            assertThat(typed.getFloat("forceX", 0f)).isEqualTo(1.5f);
+            assertThat(typed.matchId()).isEqualTo(1);
+            assertThat(typed.playerId()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldDecodeSpawnProtobufIntoTypedPayload() {
+            var request = CommandProtos.CommandRequest.newBuilder()
+                    .setCommandName("spawn")
+                    .setSpawn(CommandProtos.SpawnPayload.newBuilder()
+                            .setEntityType(100)
+                            .setPositionX(50)
+                            .build())
+                    .build();
+
+            var typed = (TypedCommandPayload) converter.convert(request, schema);
+
+            assertThat(typed.getLong("entityType", 0)).isEqualTo(100);
+            assertThat(typed.has("positionX")).isFalse();
+        }
+
+        @Test
+        void shouldFallBackToMapPayloadWhenTypesDoNotFit() {
+            var request = CommandProtos.CommandRequest.newBuilder()
+                    .setCommandName("applyForce")
+                    .setGeneric(CommandProtos.GenericPayload.newBuilder()
+                            .putStringParams("entityId", "42")
+                            .build())
+                    .build();
+
+            var payload = converter.convert(request, schema);
+
+            assertThat(payload).isInstanceOf(CommandPayloadConverter.GenericCommandPayload.class);
+            assertThat(payload.getPayload()).containsEntry("entityId", "42");
+        }
+
+        @Test
+        void shouldUseMapPayloadWithoutSchema() {
+            var request = CommandProtos.CommandRequest.newBuilder()
+                    .setCommandName("legacy")
+                    .setGeneric(CommandProtos.GenericPayload.newBuilder()
+                            .putLongParams("entityId", 42)
+                            .build())
+                    .build();
+
+            assertThat(converter.convert(request, null))
+                    .isInstanceOf(CommandPayloadConverter.GenericCommandPayload.class);
+        }
+
+        @Test
+        void shouldDecodeJsonIntoTypedPayload() {
+            var request = new CommandPayloadConverter.JsonCommandRequest(
+                    "applyForce", 1, 2, null, null, null,
+                    new CommandPayloadConverter.JsonGenericPayload(
+                            null, Map.of("entityId", 7L), Map.of("forceX", 0.5), null)
+            );
+
+            var typed = (TypedCommandPayload) converter.convert(request, schema);
+
+            assertThat(typed.getLong("entityId", 0)).isEqualTo(7);
+            assertThat(typed.getDouble("forceX", 0)).isEqualTo(0.5);
+        }
+    }
 }
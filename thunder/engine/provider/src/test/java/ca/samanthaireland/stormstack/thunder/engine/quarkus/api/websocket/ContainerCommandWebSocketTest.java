@@ -134,6 +134,12 @@ class ContainerCommandWebSocketTest {
                 .sign();
     }
 
+    private static Buffer batchFrame(CommandProtos.CommandBatch batch) {
+        return Buffer.buffer()
+                .appendByte(ContainerCommandWebSocket.BATCH_FRAME_TYPE)
+                .appendBytes(batch.toByteArray());
+    }
+
     @Test
     @Timeout(30)
     void shouldConnectAndReceiveJsonConnectedResponse() throws Exception {
@@ -202,6 +208,119 @@ class ContainerCommandWebSocketTest {
         }
     }
 
+    @Test
+    @Timeout(30)
+    void shouldAcknowledgeCommandBatchWithSingleAck() throws Exception {
+        LinkedBlockingDeque<String> textMessages = new LinkedBlockingDeque<>();
+        LinkedBlockingDeque<Buffer> binaryMessages = new LinkedBlockingDeque<>();
+        String token = generateAdminToken();
+
+        WebSocketClientConnection connection = connector
+                .baseUri(getCommandWsUri(containerId, token))
+                .onTextMessage((c, m) -> textMessages.add(m))
+                .onBinaryMessage((c, m) -> binaryMessages.add(m))
+                .connectAndAwait();
+
+        try {
+            String connMsg = textMessages.poll(5, TimeUnit.SECONDS);
+            assertThat(connMsg).isNotNull();
+
+            CommandProtos.CommandBatch.Builder batch = CommandProtos.CommandBatch.newBuilder()
+                    .setSequence(7);
+            for (int i = 0; i < 3; i++) {
+                batch.addCommands(CommandProtos.CommandRequest.newBuilder()
+                        .setCommandName("unknown-command-" + i)
+                        .setMatchId(matchId)
+                        .setPlayerId(1)
+                        .build());
+            }
+
+            connection.sendBinaryAndAwait(batchFrame(batch.build()));
+
+            // One aggregated ack for the whole batch, correlated by sequence
+            Buffer responseBuffer = binaryMessages.poll(5, TimeUnit.SECONDS);
+            assertThat(responseBuffer).isNotNull();
+
+            CommandProtos.CommandBatchAck ack = CommandProtos.CommandBatchAck.parseFrom(responseBuffer.getBytes());
+            assertThat(ack.getSequence()).isEqualTo(7);
+            assertThat(ack.getAccepted()).isZero();
+            assertThat(ack.getRejectedList())
+                    .extracting(CommandProtos.RejectedCommand::getIndex)
+                    .containsExactly(0, 1, 2);
+            assertThat(binaryMessages.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldAcknowledgeEmptyCommandBatch() throws Exception {
+        LinkedBlockingDeque<String> textMessages = new LinkedBlockingDeque<>();
+        LinkedBlockingDeque<Buffer> binaryMessages = new LinkedBlockingDeque<>();
+        String token = generateAdminToken();
+
+        WebSocketClientConnection connection = connector
+                .baseUri(getCommandWsUri(containerId, token))
+                .onTextMessage((c, m) -> textMessages.add(m))
+                .onBinaryMessage((c, m) -> binaryMessages.add(m))
+                .connectAndAwait();
+
+        try {
+            String connMsg = textMessages.poll(5, TimeUnit.SECONDS);
+            assertThat(connMsg).isNotNull();
+
+            connection.sendBinaryAndAwait(batchFrame(CommandProtos.CommandBatch.newBuilder()
+                    .setSequence(9)
+                    .build()));
+
+            Buffer responseBuffer = binaryMessages.poll(5, TimeUnit.SECONDS);
+            assertThat(responseBuffer).isNotNull();
+
+            CommandProtos.CommandBatchAck ack = CommandProtos.CommandBatchAck.parseFrom(responseBuffer.getBytes());
+            assertThat(ack.getSequence()).isEqualTo(9);
+            assertThat(ack.getAccepted()).isZero();
+            assertThat(ack.getRejectedList()).isEmpty();
+            assertThat(ack.getMessage()).isEmpty();
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldAnswerMalformedBatchWithUnparsedAck() throws Exception {
+        LinkedBlockingDeque<String> textMessages = new LinkedBlockingDeque<>();
+        LinkedBlockingDeque<Buffer> binaryMessages = new LinkedBlockingDeque<>();
+        String token = generateAdminToken();
+
+        WebSocketClientConnection connection = connector
+                .baseUri(getCommandWsUri(containerId, token))
+                .onTextMessage((c, m) -> textMessages.add(m))
+                .onBinaryMessage((c, m) -> binaryMessages.add(m))
+                .connectAndAwait();
+
+        try {
+            String connMsg = textMessages.poll(5, TimeUnit.SECONDS);
+            assertThat(connMsg).isNotNull();
+
+            // A batch frame whose body is a truncated varint field
+            connection.sendBinaryAndAwait(Buffer.buffer()
+                    .appendByte(ContainerCommandWebSocket.BATCH_FRAME_TYPE)
+                    .appendBytes(new byte[]{(byte) 0x08, (byte) 0xFF}));
+
+            Buffer responseBuffer = binaryMessages.poll(5, TimeUnit.SECONDS);
+            assertThat(responseBuffer).isNotNull();
+
+            CommandProtos.CommandBatchAck ack = CommandProtos.CommandBatchAck.parseFrom(responseBuffer.getBytes());
+            assertThat(ack.getUnparsed()).isTrue();
+            assertThat(ack.getSequence()).isZero();
+            assertThat(ack.getMessage()).startsWith("Failed to parse command batch");
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
+
     @Test
     @Timeout(30)
     void shouldProcessCommandViaJson() throws Exception {
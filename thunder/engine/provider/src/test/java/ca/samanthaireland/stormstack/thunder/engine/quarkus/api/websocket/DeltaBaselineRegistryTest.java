@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.SnapshotRing;
+
+/**
+ * Unit tests for {@link DeltaBaselineRegistry}.
+ */
+class DeltaBaselineRegistryTest {
+
+    private static final DeltaBaselineRegistry.ViewKey MATCH_VIEW =
+            new DeltaBaselineRegistry.ViewKey(1, 2, DeltaBaselineRegistry.ALL_PLAYERS);
+
+    private DeltaBaselineRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DeltaBaselineRegistry();
+        // Normally injected by Quarkus
+        registry.ringSize = 8;
+    }
+
+    @Nested
+    @DisplayName("Shared rings")
+    class SharedRings {
+
+        @Test
+        void shouldShareRingPerView() {
+            SnapshotRing first = registry.acquire(MATCH_VIEW);
+            SnapshotRing second = registry.acquire(MATCH_VIEW);
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.capacity()).isEqualTo(8);
+        }
+
+        @Test
+        void shouldSeparatePlayerViews() {
+            SnapshotRing match = registry.acquire(MATCH_VIEW);
+            SnapshotRing player = registry.acquire(new DeltaBaselineRegistry.ViewKey(1, 2, 3));
+
+            assertThat(player).isNotSameAs(match);
+            assertThat(registry.getRingCount()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldDropRingAfterLastRelease() {
+            registry.acquire(MATCH_VIEW);
+            registry.acquire(MATCH_VIEW);
+
+            registry.release(MATCH_VIEW);
+            assertThat(registry.getRingCount()).isEqualTo(1);
+
+            registry.release(MATCH_VIEW);
+            assertThat(registry.getRingCount()).isZero();
+        }
+
+        @Test
+        void shouldHandleReleaseOfUnknownView() {
+            // Should not throw
+            registry.release(MATCH_VIEW);
+        }
+    }
+
+    @Nested
+    @DisplayName("Acknowledgements")
+    class Acknowledgements {
+
+        @Test
+        void shouldParseAck() {
+            assertThat(DeltaBaselineRegistry.parseAck("ack:42")).hasValue(42);
+            assertThat(DeltaBaselineRegistry.parseAck(" ACK: 7 ")).hasValue(7);
+        }
+
+        @Test
+        void shouldIgnoreOtherMessages() {
+            assertThat(DeltaBaselineRegistry.parseAck("reset")).isEmpty();
+            assertThat(DeltaBaselineRegistry.parseAck("ack:")).isEmpty();
+            assertThat(DeltaBaselineRegistry.parseAck("ack:soon")).isEmpty();
+        }
+    }
+}
@@ -46,6 +46,10 @@ import io.smallrye.jwt.build.Jwt;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
 import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.core.entity.CoreComponents;
+import ca.samanthaireland.stormstack.thunder.engine.core.store.EntityComponentStore;
+import ca.samanthaireland.stormstack.thunder.engine.internal.container.InMemoryExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.internal.ext.module.ModuleManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,6 +62,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  *   <li>Broadcasts delta snapshots with compression metrics</li>
  *   <li>Responds to reset commands</li>
  *   <li>Tracks changes between ticks</li>
+ *   <li>Diffs against the tick the client acknowledged</li>
+ *   <li>Delivers changes made while the tick does not advance</li>
  * </ul>
  */
 @QuarkusTest
@@ -72,6 +78,9 @@ class DeltaSnapshotWebSocketTest {
     @Inject
     ContainerManager containerManager;
 
+    @Inject
+    ModuleManager globalModuleManager;
+
     private ExecutionContainer container;
     private long containerId;
     private long matchId;
@@ -255,4 +264,79 @@ class DeltaSnapshotWebSocketTest {
             connection.closeAndAwait();
         }
     }
+
+    @Test
+    @Timeout(30)
+    void shouldDiffAgainstAcknowledgedTick() throws Exception {
+        LinkedBlockingDeque<String> messages = new LinkedBlockingDeque<>();
+        String token = generateViewToken();
+        container.ticks().advance();
+
+        WebSocketClientConnection connection = connector
+                .baseUri(getDeltaWsUri(token))
+                .onTextMessage((c, m) -> messages.add(m))
+                .connectAndAwait();
+
+        try {
+            String initial = messages.poll(10, TimeUnit.SECONDS);
+            assertThat(initial).contains("\"toTick\":1");
+
+            // An ack for a tick never sent switches to acknowledged baselines without
+            // confirming anything, so the client keeps getting full updates
+            connection.sendTextAndAwait("ack:5");
+            messages.clear();
+            connection.sendTextAndAwait("refresh");
+            String unacknowledged = messages.poll(5, TimeUnit.SECONDS);
+            assertThat(unacknowledged).contains("\"fromTick\":0");
+
+            connection.sendTextAndAwait("ack:1");
+            messages.clear();
+            connection.sendTextAndAwait("refresh");
+            String acknowledged = messages.poll(5, TimeUnit.SECONDS);
+            assertThat(acknowledged).contains("\"fromTick\":1");
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldDeliverChangesMadeWithoutTickAdvance() throws Exception {
+        container.modules().install(globalModuleManager.getFactory("EntityModule").getClass());
+        matchId = container.match().withModule("EntityModule").create().id();
+        container.commands().named("spawn").forMatch(matchId)
+                .param("matchId", matchId)
+                .param("playerId", 1L)
+                .param("entityType", 1L)
+                .execute();
+        container.ticks().advance();
+
+        LinkedBlockingDeque<String> messages = new LinkedBlockingDeque<>();
+        WebSocketClientConnection connection = connector
+                .baseUri(getDeltaWsUri(generateViewToken()))
+                .onTextMessage((c, m) -> messages.add(m))
+                .connectAndAwait();
+
+        try {
+            String initial = messages.poll(10, TimeUnit.SECONDS);
+            assertThat(initial).contains("EntityModule");
+
+            // The container is not playing, so the tick stays where it is while the
+            // match changes under it
+            EntityComponentStore store = ((InMemoryExecutionContainer) container).getEntityStore();
+            long tick = container.ticks().current();
+            Set<Long> entities = store.getEntitiesWithComponents(CoreComponents.MATCH_ID);
+            assertThat(entities).hasSize(1);
+            long entityId = entities.iterator().next();
+            store.deleteEntity(entityId);
+
+            messages.clear();
+            connection.sendTextAndAwait("refresh");
+            String delta = messages.poll(5, TimeUnit.SECONDS);
+            assertThat(container.ticks().current()).isEqualTo(tick);
+            assertThat(delta).contains("\"removedEntities\":[" + entityId + "]");
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Inflater;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.websockets.next.BasicWebSocketConnector;
+import io.quarkus.websockets.next.WebSocketClientConnection;
+import io.smallrye.jwt.build.Jwt;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerConfig;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerManager;
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ExecutionContainer;
+import ca.samanthaireland.stormstack.thunder.engine.internal.core.snapshot.PackedSnapshotCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the PackedSnapshotWebSocket endpoint.
+ */
+@QuarkusTest
+class PackedSnapshotWebSocketTest {
+
+    @TestHTTPResource("/")
+    URI baseUri;
+
+    @Inject
+    BasicWebSocketConnector connector;
+
+    @Inject
+    ContainerManager containerManager;
+
+    private ExecutionContainer container;
+    private long containerId;
+    private long matchId;
+
+    @BeforeEach
+    void setUp() {
+        container = containerManager.createContainer(ContainerConfig.builder("packed-ws-test").build());
+        containerId = container.getId();
+        container.lifecycle().start();
+
+        var match = container.matches().create(
+                new ca.samanthaireland.stormstack.thunder.engine.core.match.Match(0, containerId, java.util.List.of()));
+        matchId = match.id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) {
+            container.lifecycle().stop();
+            containerManager.deleteContainer(containerId);
+        }
+    }
+
+    private URI getPackedWsUri(String extraQuery) {
+        String wsPath = String.format("/ws/containers/%d/matches/%d/packed?token=%s%s",
+                containerId, matchId, generateViewToken(), extraQuery);
+        return URI.create(baseUri.toString().replace("http://", "ws://") + wsPath.substring(1));
+    }
+
+    private String generateViewToken() {
+        return Jwt.issuer("https://lightningfirefly.com")
+                .subject("test-viewer")
+                .groups(Set.of("view_only"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.HOURS))
+                .sign();
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldStartWithSchemaThenFullSnapshotFrame() throws Exception {
+        LinkedBlockingDeque<byte[]> frames = new LinkedBlockingDeque<>();
+
+        WebSocketClientConnection connection = connector
+                .baseUri(getPackedWsUri(""))
+                .onBinaryMessage((c, m) -> frames.add(m.getBytes()))
+                .connectAndAwait();
+
+        try {
+            byte[] schemaFrame = frames.poll(10, TimeUnit.SECONDS);
+            byte[] frame = frames.poll(10, TimeUnit.SECONDS);
+
+            // Decode with nothing but what the client received
+            assertThat(schemaFrame).isNotNull();
+            assertThat(schemaFrame[0]).isEqualTo((byte) PackedSnapshotCodec.SCHEMA_FRAME);
+            assertThat(frame).isNotNull();
+            assertThat(frame[0]).isEqualTo((byte) PackedSnapshotCodec.SNAPSHOT_FRAME);
+            PackedSnapshotCodec client = new PackedSnapshotCodec(PackedSnapshotCodec.decodeSchema(schemaFrame));
+            assertThat(client.decodeSnapshot(frame)).isNotNull();
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldDeflateFramesWhenRequested() throws Exception {
+        LinkedBlockingDeque<byte[]> frames = new LinkedBlockingDeque<>();
+
+        WebSocketClientConnection connection = connector
+                .baseUri(getPackedWsUri("&compress=deflate"))
+                .onBinaryMessage((c, m) -> frames.add(m.getBytes()))
+                .connectAndAwait();
+
+        Inflater inflater = new Inflater(true);
+        try {
+            byte[] compressed = frames.poll(10, TimeUnit.SECONDS);
+            assertThat(compressed).isNotNull();
+
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inflater.inflate(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+
+            assertThat(out.toByteArray()[0]).isEqualTo((byte) PackedSnapshotCodec.SCHEMA_FRAME);
+        } finally {
+            inflater.end();
+            connection.closeAndAwait();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Samantha Ireland
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import ca.samanthaireland.stormstack.thunder.engine.core.container.ContainerSnapshotOperations;
+import ca.samanthaireland.stormstack.thunder.engine.quarkus.api.websocket.SnapshotStreamGate.Decision;
+
+/**
+ * Unit tests for {@link SnapshotStreamGate}.
+ */
+class SnapshotStreamGateTest {
+
+    private static final long MS = 1_000_000L;
+
+    private SnapshotStreamGate gate;
+
+    @BeforeEach
+    void setUp() {
+        gate = new SnapshotStreamGate(1000);
+    }
+
+    @Nested
+    @DisplayName("Publishing")
+    class Publishing {
+
+        @Test
+        void shouldPublishFirstPoll() {
+            assertThat(gate.evaluate(0, 0, 0)).isEqualTo(Decision.PUBLISH);
+        }
+
+        @Test
+        void shouldPublishWhenVersionChanges() {
+            gate.evaluate(1, 5, 0);
+
+            assertThat(gate.evaluate(2, 6, 100 * MS)).isEqualTo(Decision.PUBLISH);
+        }
+
+        @Test
+        void shouldSkipWhenTickAdvancesWithoutChanges() {
+            gate.evaluate(1, 5, 0);
+
+            assertThat(gate.evaluate(2, 5, 100 * MS)).isEqualTo(Decision.SKIP);
+        }
+
+        @Test
+        void shouldPublishOnTickWhenVersionUnknown() {
+            long unknown = ContainerSnapshotOperations.UNKNOWN_VERSION;
+            gate.evaluate(1, unknown, 0);
+
+            assertThat(gate.evaluate(1, unknown, 100 * MS)).isEqualTo(Decision.SKIP);
+            assertThat(gate.evaluate(2, unknown, 200 * MS)).isEqualTo(Decision.PUBLISH);
+        }
+
+        @Test
+        void shouldPublishAfterInvalidate() {
+            gate.evaluate(1, 5, 0);
+
+            gate.invalidate();
+
+            assertThat(gate.evaluate(1, 5, 100 * MS)).isEqualTo(Decision.PUBLISH);
+        }
+    }
+
+    @Nested
+    @DisplayName("Heartbeats")
+    class Heartbeats {
+
+        @Test
+        void shouldHeartbeatOnceIntervalElapses() {
+            gate.evaluate(1, 5, 0);
+
+            assertThat(gate.evaluate(1, 5, 999 * MS)).isEqualTo(Decision.SKIP);
+            assertThat(gate.evaluate(1, 5, 1000 * MS)).isEqualTo(Decision.HEARTBEAT);
+            assertThat(gate.evaluate(1, 5, 1500 * MS)).isEqualTo(Decision.SKIP);
+        }
+
+        @Test
+        void shouldRestartHeartbeatIntervalAfterPublish() {
+            gate.evaluate(1, 5, 0);
+            gate.evaluate(2, 6, 900 * MS);
+
+            assertThat(gate.evaluate(2, 6, 1000 * MS)).isEqualTo(Decision.SKIP);
+        }
+    }
+}
@@ -112,6 +112,20 @@ class WebSocketRateLimiterTest {
             // Should be allowed again
             assertThat(rateLimiter.tryAcquire("conn-1")).isTrue();
         }
+
+        @Test
+        void shouldCountEveryCommandInBatch() {
+            assertThat(rateLimiter.tryAcquire("conn-1", 3)).isTrue();
+            assertThat(rateLimiter.tryAcquire("conn-1", 2)).isTrue();
+
+            // Bucket is full after five commands in two batches
+            assertThat(rateLimiter.tryAcquire("conn-1")).isFalse();
+        }
+
+        @Test
+        void shouldRejectBatchLargerThanLimit() {
+            assertThat(rateLimiter.tryAcquire("conn-1", 6)).isFalse();
+        }
     }
 
     @Nested